@@ -0,0 +1,160 @@
+package org.synyx.urlaubsverwaltung.absence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+import static jakarta.persistence.EnumType.STRING;
+import static jakarta.persistence.GenerationType.SEQUENCE;
+
+/**
+ * One half-day of a person that is covered by an application or a sick note.
+ * Maintained by the {@link AbsenceDayProjection}.
+ */
+@Entity
+@Table(name = "absence_day")
+class AbsenceDayEntity {
+
+    @Id
+    @Column(name = "id", unique = true, nullable = false, updatable = false)
+    @GeneratedValue(strategy = SEQUENCE, generator = "absence_day_generator")
+    @SequenceGenerator(name = "absence_day_generator", sequenceName = "absence_day_id_seq")
+    private Long id;
+
+    @ManyToOne
+    private Person person;
+
+    @Column(name = "absence_date", nullable = false)
+    private LocalDate date;
+
+    /**
+     * Half of the day, either {@link DayLength#MORNING} or {@link DayLength#NOON}
+     */
+    @Enumerated(STRING)
+    @Column(nullable = false)
+    private DayLength dayLength;
+
+    @Enumerated(STRING)
+    @Column(nullable = false)
+    private AbsencePeriod.AbsenceType absenceType;
+
+    @Enumerated(STRING)
+    @Column(nullable = false)
+    private AbsencePeriod.AbsenceStatus status;
+
+    /**
+     * Id of the application or the sick note, depending on the {@link #absenceType}
+     */
+    @Column(nullable = false)
+    private Long sourceId;
+
+    /**
+     * Id of the vacation type or the sick note type, depending on the {@link #absenceType}
+     */
+    private Long typeId;
+
+    Long getId() {
+        return id;
+    }
+
+    void setId(Long id) {
+        this.id = id;
+    }
+
+    Person getPerson() {
+        return person;
+    }
+
+    void setPerson(Person person) {
+        this.person = person;
+    }
+
+    LocalDate getDate() {
+        return date;
+    }
+
+    void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    DayLength getDayLength() {
+        return dayLength;
+    }
+
+    void setDayLength(DayLength dayLength) {
+        this.dayLength = dayLength;
+    }
+
+    AbsencePeriod.AbsenceType getAbsenceType() {
+        return absenceType;
+    }
+
+    void setAbsenceType(AbsencePeriod.AbsenceType absenceType) {
+        this.absenceType = absenceType;
+    }
+
+    AbsencePeriod.AbsenceStatus getStatus() {
+        return status;
+    }
+
+    void setStatus(AbsencePeriod.AbsenceStatus status) {
+        this.status = status;
+    }
+
+    Long getSourceId() {
+        return sourceId;
+    }
+
+    void setSourceId(Long sourceId) {
+        this.sourceId = sourceId;
+    }
+
+    Long getTypeId() {
+        return typeId;
+    }
+
+    void setTypeId(Long typeId) {
+        this.typeId = typeId;
+    }
+
+    @Override
+    public String toString() {
+        return "AbsenceDayEntity{" +
+            "id=" + id +
+            ", person=" + person +
+            ", date=" + date +
+            ", dayLength=" + dayLength +
+            ", absenceType=" + absenceType +
+            ", status=" + status +
+            ", sourceId=" + sourceId +
+            ", typeId=" + typeId +
+            '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final AbsenceDayEntity that = (AbsenceDayEntity) o;
+        return null != this.getId() && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
@@ -0,0 +1,629 @@
+package org.synyx.urlaubsverwaltung.absence;
+
+import org.slf4j.Logger;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.synyx.urlaubsverwaltung.application.application.Application;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationAllowedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationAllowedTemporarilyEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationAppliedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationCancellationRequestedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationCancelledEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationCreatedFromSickNoteEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationDeclinedCancellationRequestEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationDeletedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationRejectedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationRevokedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationStatus;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationUpdatedEvent;
+import org.synyx.urlaubsverwaltung.application.vacationtype.VacationType;
+import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeService;
+import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonDeletedEvent;
+import org.synyx.urlaubsverwaltung.settings.SettingsService;
+import org.synyx.urlaubsverwaltung.settings.SettingsUpdatedEvent;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteCancelledEvent;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteCreatedEvent;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteDeletedEvent;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteService;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteStatus;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteToApplicationConvertedEvent;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteUpdatedEvent;
+import org.synyx.urlaubsverwaltung.sicknote.sicknotetype.SickNoteType;
+import org.synyx.urlaubsverwaltung.sicknote.sicknotetype.SickNoteTypeService;
+import org.synyx.urlaubsverwaltung.workingtime.FederalState;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendarService;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeSettings;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeUpdatedEvent;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.springframework.core.Ordered.LOWEST_PRECEDENCE;
+import static org.springframework.transaction.TransactionDefinition.PROPAGATION_REQUIRES_NEW;
+import static org.synyx.urlaubsverwaltung.absence.AbsencePeriod.AbsenceType.SICK;
+import static org.synyx.urlaubsverwaltung.absence.AbsencePeriod.AbsenceType.VACATION;
+
+/**
+ * Persistent projection of all applications and sick notes into one {@link AbsenceDayEntity} per person, date and
+ * half-day, so that the absences of any set of persons within a date range can be read with one indexed query.
+ * The {@link AbsenceServiceImpl} reads the absences from the projection as long as it is {@link #isComplete() complete}.
+ *
+ * <p>
+ * The projection is updated incrementally from the application and sick note events, each after the change has been
+ * committed in its own transaction. The absences of a person are projected again when the working times of the person
+ * are updated, and all absences are projected again when the settings the working time calendars depend on (system
+ * default federal state, Christmas Eve and New Year's Eve) change.
+ * </p>
+ *
+ * <p>
+ * Every change saves an {@link AbsenceDayProjectionPendingEntity} within its own transaction, that is deleted by the
+ * projection of the change. If the projection is lost, e.g. because the instance died between commit and projection,
+ * all absences of the person are projected again by {@link #projectNextChunkOfStalePendingProjections()} once
+ * {@code uv.absence.day-projection.pending-projection-timeout} passed, scheduled like the rebuild.
+ * </p>
+ *
+ * <p>
+ * A rebuild is requested in the {@link AbsenceDayProjectionStateEntity} shared by all instances, e.g. on startup with
+ * {@code uv.absence.day-projection.rebuild-on-startup}, and performed in chunks of persons by {@link #rebuildNextChunk()},
+ * scheduled with {@code uv.absence.day-projection.rebuild-cron}. The absence days of the other persons stay readable
+ * while a rebuild is running and a rebuild aborted by a restart resumes after the last rebuilt chunk.
+ * </p>
+ *
+ * <p>
+ * Only the days covered by applications and sick notes are stored. No workdays and public holidays are cheap to
+ * derive from the {@link WorkingTimeCalendar}s and are not part of the projection.
+ * </p>
+ */
+@Component
+@Transactional
+public class AbsenceDayProjection {
+
+    private static final Logger LOG = getLogger(lookup().lookupClass());
+
+    private static final int PROJECTION_ATTEMPTS = 3;
+
+    private final AbsenceDayRepository absenceDayRepository;
+    private final AbsenceDayProjectionStateRepository absenceDayProjectionStateRepository;
+    private final AbsenceDayProjectionPendingRepository absenceDayProjectionPendingRepository;
+    private final ApplicationService applicationService;
+    private final SickNoteService sickNoteService;
+    private final WorkingTimeCalendarService workingTimeCalendarService;
+    private final VacationTypeService vacationTypeService;
+    private final SickNoteTypeService sickNoteTypeService;
+    private final SettingsService settingsService;
+    private final AbsenceDayProjectionProperties absenceDayProjectionProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    AbsenceDayProjection(AbsenceDayRepository absenceDayRepository, AbsenceDayProjectionStateRepository absenceDayProjectionStateRepository,
+                         AbsenceDayProjectionPendingRepository absenceDayProjectionPendingRepository, ApplicationService applicationService,
+                         SickNoteService sickNoteService, WorkingTimeCalendarService workingTimeCalendarService,
+                         VacationTypeService vacationTypeService, SickNoteTypeService sickNoteTypeService,
+                         SettingsService settingsService, AbsenceDayProjectionProperties absenceDayProjectionProperties,
+                         PlatformTransactionManager transactionManager, Clock clock) {
+        this.absenceDayRepository = absenceDayRepository;
+        this.absenceDayProjectionStateRepository = absenceDayProjectionStateRepository;
+        this.absenceDayProjectionPendingRepository = absenceDayProjectionPendingRepository;
+        this.applicationService = applicationService;
+        this.sickNoteService = sickNoteService;
+        this.workingTimeCalendarService = workingTimeCalendarService;
+        this.vacationTypeService = vacationTypeService;
+        this.sickNoteTypeService = sickNoteTypeService;
+        this.settingsService = settingsService;
+        this.absenceDayProjectionProperties = absenceDayProjectionProperties;
+
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(PROPAGATION_REQUIRES_NEW);
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the projected vacation and sick note absences of the given persons within the given date range,
+     * one {@link AbsencePeriod} per application or sick note.
+     *
+     * @param persons  to get the absences for
+     * @param start    of the date range (inclusive)
+     * @param end      of the date range (inclusive)
+     * @param statuses of the absences to consider
+     * @return the projected absences
+     */
+    @Transactional(readOnly = true)
+    public List<AbsencePeriod> getAbsences(List<Person> persons, LocalDate start, LocalDate end, List<AbsencePeriod.AbsenceStatus> statuses) {
+        if (persons.isEmpty() || statuses.isEmpty()) {
+            return List.of();
+        }
+
+        final List<AbsenceDayEntity> absenceDays = absenceDayRepository.findByPersonInAndDateBetweenAndStatusInOrderByDate(persons, start, end, statuses);
+        if (absenceDays.isEmpty()) {
+            return List.of();
+        }
+
+        final Map<Long, VacationType<?>> vacationTypeById = vacationTypeService.getAllVacationTypes().stream()
+            .collect(toMap(VacationType::getId, identity()));
+        final Map<Long, SickNoteType> sickNoteTypeById = sickNoteTypeService.getSickNoteTypes().stream()
+            .collect(toMap(SickNoteType::getId, identity()));
+
+        // the absence days of one source by date, morning and noon of a date are merged into one record
+        final Map<Source, Map<LocalDate, List<AbsenceDayEntity>>> absenceDaysBySource = new LinkedHashMap<>();
+        for (AbsenceDayEntity absenceDay : absenceDays) {
+            absenceDaysBySource
+                .computeIfAbsent(new Source(absenceDay.getAbsenceType(), absenceDay.getSourceId()), unused -> new TreeMap<>())
+                .computeIfAbsent(absenceDay.getDate(), unused -> new ArrayList<>(2))
+                .add(absenceDay);
+        }
+
+        final List<AbsencePeriod> absencePeriods = new ArrayList<>(absenceDaysBySource.size());
+        for (Map<LocalDate, List<AbsenceDayEntity>> absenceDaysByDate : absenceDaysBySource.values()) {
+            final List<AbsencePeriod.Record> records = new ArrayList<>(absenceDaysByDate.size());
+            absenceDaysByDate.forEach((date, absenceDaysOfDate) -> records.add(toRecord(date, absenceDaysOfDate, vacationTypeById, sickNoteTypeById)));
+            absencePeriods.add(new AbsencePeriod(records));
+        }
+
+        return absencePeriods;
+    }
+
+    /**
+     * @return {@code true} if the projection contains the absences of all persons, {@code false} while a rebuild
+     * is requested or running
+     */
+    @Transactional(readOnly = true)
+    public boolean isComplete() {
+        return absenceDayProjectionStateRepository.findById(AbsenceDayProjectionStateEntity.ID)
+            .map(state -> !state.isRebuildRequested())
+            .orElse(false);
+    }
+
+    /**
+     * Requests a rebuild of the whole projection, that is performed in chunks by {@link #rebuildNextChunk()}.
+     * A running rebuild starts over.
+     */
+    public void requestRebuild() {
+        requestRebuild(lockedState(), settingsService.getSettings().getWorkingTimeSettings());
+    }
+
+    /**
+     * Projects all applications and sick notes of the next chunk of persons again, if a rebuild has been requested.
+     * Every chunk is rebuilt in its own transaction, the progress is saved in the {@link AbsenceDayProjectionStateEntity}.
+     *
+     * @return {@code true} if the rebuild has not finished yet, {@code false} otherwise
+     */
+    public boolean rebuildNextChunk() {
+
+        final AbsenceDayProjectionStateEntity state = lockedState();
+        if (!state.isRebuildRequested()) {
+            return false;
+        }
+
+        final Long lastPersonId = state.getLastPersonId();
+        if (lastPersonId == null) {
+            LOG.info("Rebuilding absence day projection");
+        }
+
+        final List<Person> persons = absenceDayRepository.findPersonsWithIdGreaterThan(lastPersonId == null ? 0L : lastPersonId,
+            Limit.of(absenceDayProjectionProperties.getRebuildChunkSize()));
+        if (persons.isEmpty()) {
+            state.setRebuildRequested(false);
+            state.setLastPersonId(null);
+            LOG.info("Rebuilt absence day projection");
+            return false;
+        }
+
+        absenceDayRepository.deleteByPersonIn(persons);
+        final List<Application> applications = applicationService.getForStatesAndPerson(List.of(ApplicationStatus.values()), persons);
+        final List<SickNote> sickNotes = sickNoteService.getForStatesAndPerson(List.of(SickNoteStatus.values()), persons);
+        final long projectedAbsenceDays = project(applications, sickNotes);
+
+        state.setLastPersonId(persons.getLast().getId());
+        LOG.info("Rebuilt absence days of {} persons up to id {} with {} absence days of {} applications and {} sick notes",
+            persons.size(), state.getLastPersonId(), projectedAbsenceDays, applications.size(), sickNotes.size());
+        return true;
+    }
+
+    /**
+     * Projects all applications and sick notes of the next chunk of persons again, whose changes have been committed
+     * but not projected within {@code uv.absence.day-projection.pending-projection-timeout}. Every chunk is projected
+     * in its own transaction, serialized with the chunks of a rebuild.
+     *
+     * @return {@code true} if there may be more stale pending projections, {@code false} otherwise
+     */
+    public boolean projectNextChunkOfStalePendingProjections() {
+
+        lockedState();
+
+        final Instant timeout = Instant.now(clock).minus(absenceDayProjectionProperties.getPendingProjectionTimeout());
+        final List<AbsenceDayProjectionPendingEntity> pendingProjections = absenceDayProjectionPendingRepository.findByCreatedAtBeforeOrderById(timeout,
+            Limit.of(absenceDayProjectionProperties.getRebuildChunkSize()));
+        if (pendingProjections.isEmpty()) {
+            return false;
+        }
+
+        final Set<Long> personIds = pendingProjections.stream().map(AbsenceDayProjectionPendingEntity::getPersonId).collect(toSet());
+        final List<Person> persons = absenceDayRepository.findPersonsWithIdIn(personIds);
+        if (!persons.isEmpty()) {
+            absenceDayRepository.deleteByPersonIn(persons);
+            final List<Application> applications = applicationService.getForStatesAndPerson(List.of(ApplicationStatus.values()), persons);
+            final List<SickNote> sickNotes = sickNoteService.getForStatesAndPerson(List.of(SickNoteStatus.values()), persons);
+            project(applications, sickNotes);
+        }
+
+        absenceDayProjectionPendingRepository.deleteByIdIn(pendingProjections.stream().map(AbsenceDayProjectionPendingEntity::getId).toList());
+        LOG.warn("Projected absences of {} persons again, whose changes have not been projected within {}",
+            persons.size(), absenceDayProjectionProperties.getPendingProjectionTimeout());
+        return true;
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    void requestRebuildOnStartup() {
+        final AbsenceDayProjectionStateEntity state = lockedState();
+        final WorkingTimeSettings workingTimeSettings = settingsService.getSettings().getWorkingTimeSettings();
+        if (absenceDayProjectionProperties.isRebuildOnStartup()) {
+            requestRebuild(state, workingTimeSettings);
+        } else {
+            requestRebuildIfCalendarSettingsChanged(state, workingTimeSettings);
+        }
+    }
+
+    @EventListener
+    void on(ApplicationAppliedEvent event) {
+        projectAfterCommit(event.application().getPerson(), () -> project(event.application()));
+    }
+
+    @EventListener
+    void on(ApplicationAllowedEvent event) {
+        projectAfterCommit(event.application().getPerson(), () -> project(event.application()));
+    }
+
+    @EventListener
+    void on(ApplicationAllowedTemporarilyEvent event) {
+        projectAfterCommit(event.application().getPerson(), () -> project(event.application()));
+    }
+
+    @EventListener
+    void on(ApplicationRejectedEvent event) {
+        projectAfterCommit(event.application().getPerson(), () -> project(event.application()));
+    }
+
+    @EventListener
+    void on(ApplicationCancelledEvent event) {
+        projectAfterCommit(event.application().getPerson(), () -> project(event.application()));
+    }
+
+    @EventListener
+    void on(ApplicationRevokedEvent event) {
+        projectAfterCommit(event.application().getPerson(), () -> project(event.application()));
+    }
+
+    @EventListener
+    void on(ApplicationCancellationRequestedEvent event) {
+        projectAfterCommit(event.application().getPerson(), () -> project(event.application()));
+    }
+
+    @EventListener
+    void on(ApplicationDeclinedCancellationRequestEvent event) {
+        projectAfterCommit(event.application().getPerson(), () -> project(event.application()));
+    }
+
+    @EventListener
+    void on(ApplicationCreatedFromSickNoteEvent event) {
+        projectAfterCommit(event.application().getPerson(), () -> project(event.application()));
+    }
+
+    @EventListener
+    void on(ApplicationUpdatedEvent event) {
+        projectAfterCommit(event.application().getPerson(), () -> project(event.application()));
+    }
+
+    @EventListener
+    void on(ApplicationDeletedEvent event) {
+        projectAfterCommit(event.application().getPerson(), () -> absenceDayRepository.deleteByAbsenceTypeAndSourceId(VACATION, event.application().getId()));
+    }
+
+    @EventListener
+    void on(SickNoteCreatedEvent event) {
+        projectAfterCommit(event.sickNote().getPerson(), () -> project(event.sickNote()));
+    }
+
+    @EventListener
+    void on(SickNoteUpdatedEvent event) {
+        projectAfterCommit(event.sickNote().getPerson(), () -> project(event.sickNote()));
+    }
+
+    @EventListener
+    void on(SickNoteCancelledEvent event) {
+        projectAfterCommit(event.sickNote().getPerson(), () -> project(event.sickNote()));
+    }
+
+    @EventListener
+    void on(SickNoteToApplicationConvertedEvent event) {
+        projectAfterCommit(event.sickNote().getPerson(), () -> {
+            project(event.sickNote());
+            project(event.application());
+        });
+    }
+
+    @EventListener
+    void on(SickNoteDeletedEvent event) {
+        projectAfterCommit(event.sickNote().getPerson(), () -> absenceDayRepository.deleteByAbsenceTypeAndSourceId(SICK, event.sickNote().getId()));
+    }
+
+    /**
+     * Registered after the {@link WorkingTimeCalendar}s of the person, so that the absences are projected after the
+     * calendars have been invalidated once the transaction completed, with a calendar calculated from the committed
+     * working times.
+     */
+    @EventListener
+    @Order(LOWEST_PRECEDENCE)
+    void on(WorkingTimeUpdatedEvent event) {
+        projectAfterCommit(event.person(), () -> {
+            final Person person = event.person();
+            absenceDayRepository.deleteByPerson(person);
+
+            final List<Application> applications = applicationService.getForStatesAndPerson(List.of(ApplicationStatus.values()), List.of(person));
+            final List<SickNote> sickNotes = sickNoteService.getForStatesAndPerson(List.of(SickNoteStatus.values()), List.of(person));
+            project(applications, sickNotes);
+        });
+    }
+
+    /**
+     * Runs within the transaction deleting the person, the absence days reference the person.
+     */
+    @EventListener
+    void on(PersonDeletedEvent event) {
+        absenceDayRepository.deleteByPerson(event.person());
+    }
+
+    @EventListener
+    void on(SettingsUpdatedEvent event) {
+        requestRebuildIfCalendarSettingsChanged(lockedState(), event.settings().getWorkingTimeSettings());
+    }
+
+    private void requestRebuildIfCalendarSettingsChanged(AbsenceDayProjectionStateEntity state, WorkingTimeSettings workingTimeSettings) {
+        final CalendarSettings calendarSettings = CalendarSettings.of(workingTimeSettings);
+        if (!calendarSettings.equals(CalendarSettings.of(state))) {
+            LOG.info("Settings the working time calendars depend on have been changed");
+            requestRebuild(state, workingTimeSettings);
+        }
+    }
+
+    /**
+     * Requests a rebuild and saves the settings of the working time calendars it is performed with, so that a change
+     * of the settings during the rebuild requests another one.
+     */
+    private void requestRebuild(AbsenceDayProjectionStateEntity state, WorkingTimeSettings workingTimeSettings) {
+        state.setFederalState(workingTimeSettings.getFederalState());
+        state.setWorkingDurationForChristmasEve(workingTimeSettings.getWorkingDurationForChristmasEve());
+        state.setWorkingDurationForNewYearsEve(workingTimeSettings.getWorkingDurationForNewYearsEve());
+        state.setRebuildRequested(true);
+        state.setLastPersonId(null);
+        LOG.info("Requested rebuild of absence day projection");
+    }
+
+    /**
+     * Saves a pending projection of the person within the transaction of the change and projects the change once it
+     * has been committed, deleting the pending projection with it. Without a transaction the change is projected at once.
+     */
+    private void projectAfterCommit(Person person, Runnable projection) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            inNewTransaction(projection);
+            return;
+        }
+
+        final AbsenceDayProjectionPendingEntity pendingProjection = new AbsenceDayProjectionPendingEntity();
+        pendingProjection.setPersonId(person.getId());
+        pendingProjection.setCreatedAt(Instant.now(clock));
+        final Long pendingProjectionId = absenceDayProjectionPendingRepository.save(pendingProjection).getId();
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    inNewTransaction(() -> {
+                        projection.run();
+                        absenceDayProjectionPendingRepository.deleteByIdIn(List.of(pendingProjectionId));
+                    });
+                }
+            }
+        });
+    }
+
+    /**
+     * Projects a committed change in its own transaction, so that a failing projection never fails the change itself.
+     * A projection clashing with a concurrent one, e.g. with a chunk of a rebuild, is retried. If the projection still
+     * fails, a rebuild is requested and the absences are calculated without the projection until it has been rebuilt.
+     */
+    private void inNewTransaction(Runnable projection) {
+        for (int attempt = 1; attempt <= PROJECTION_ATTEMPTS; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> projection.run());
+                return;
+            } catch (DataIntegrityViolationException | ConcurrencyFailureException e) {
+                LOG.warn("Projection of absence days clashed with a concurrent one in attempt {} of {}: {}", attempt, PROJECTION_ATTEMPTS, e.getMessage());
+            } catch (RuntimeException e) {
+                LOG.error("Failed to project absence days", e);
+                break;
+            }
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> requestRebuild());
+        } catch (RuntimeException e) {
+            LOG.error("Failed to request rebuild of absence day projection", e);
+        }
+    }
+
+    /**
+     * @return the state of the projection, locked until the end of the transaction to serialize the rebuild requests
+     * and chunks of all instances
+     */
+    private AbsenceDayProjectionStateEntity lockedState() {
+        return absenceDayProjectionStateRepository.findByIdForUpdate(AbsenceDayProjectionStateEntity.ID)
+            .orElseThrow(() -> new IllegalStateException("missing state of absence day projection"));
+    }
+
+    private void project(Application application) {
+        absenceDayRepository.deleteByAbsenceTypeAndSourceId(VACATION, application.getId());
+
+        final DateRange dateRange = new DateRange(application.getStartDate(), application.getEndDate());
+        final WorkingTimeCalendar workingTimeCalendar = workingTimeCalendar(application.getPerson(), dateRange);
+        absenceDayRepository.saveAll(toAbsenceDays(AbsenceRecords.days(application, dateRange, workingTimeCalendar)));
+    }
+
+    private void project(SickNote sickNote) {
+        absenceDayRepository.deleteByAbsenceTypeAndSourceId(SICK, sickNote.getId());
+
+        final DateRange dateRange = new DateRange(sickNote.getStartDate(), sickNote.getEndDate());
+        final WorkingTimeCalendar workingTimeCalendar = workingTimeCalendar(sickNote.getPerson(), dateRange);
+        absenceDayRepository.saveAll(toAbsenceDays(AbsenceRecords.days(sickNote, dateRange, workingTimeCalendar)));
+    }
+
+    /**
+     * Projects the given applications and sick notes, that are known not to be projected yet, with one
+     * {@link WorkingTimeCalendar} per person covering all of its applications and sick notes.
+     *
+     * @return number of projected absence days
+     */
+    private long project(List<Application> applications, List<SickNote> sickNotes) {
+
+        final Map<Person, DateRange> dateRangeByPerson = new HashMap<>();
+        for (Application application : applications) {
+            dateRangeByPerson.merge(application.getPerson(), new DateRange(application.getStartDate(), application.getEndDate()), AbsenceDayProjection::span);
+        }
+        for (SickNote sickNote : sickNotes) {
+            dateRangeByPerson.merge(sickNote.getPerson(), new DateRange(sickNote.getStartDate(), sickNote.getEndDate()), AbsenceDayProjection::span);
+        }
+
+        final Map<Person, WorkingTimeCalendar> workingTimeCalendarByPerson = new HashMap<>();
+        dateRangeByPerson.forEach((person, dateRange) -> workingTimeCalendarByPerson.put(person, workingTimeCalendar(person, dateRange)));
+
+        final List<AbsenceDayEntity> absenceDays = new ArrayList<>();
+        for (Application application : applications) {
+            final DateRange dateRange = new DateRange(application.getStartDate(), application.getEndDate());
+            absenceDays.addAll(toAbsenceDays(AbsenceRecords.days(application, dateRange, workingTimeCalendarByPerson.get(application.getPerson()))));
+        }
+        for (SickNote sickNote : sickNotes) {
+            final DateRange dateRange = new DateRange(sickNote.getStartDate(), sickNote.getEndDate());
+            absenceDays.addAll(toAbsenceDays(AbsenceRecords.days(sickNote, dateRange, workingTimeCalendarByPerson.get(sickNote.getPerson()))));
+        }
+
+        absenceDayRepository.saveAll(absenceDays);
+        return absenceDays.size();
+    }
+
+    private WorkingTimeCalendar workingTimeCalendar(Person person, DateRange dateRange) {
+        return workingTimeCalendarService.getWorkingTimesByPersons(List.of(person), dateRange).get(person);
+    }
+
+    private static DateRange span(DateRange dateRange, DateRange other) {
+        final LocalDate start = dateRange.startDate().isBefore(other.startDate()) ? dateRange.startDate() : other.startDate();
+        final LocalDate end = dateRange.endDate().isAfter(other.endDate()) ? dateRange.endDate() : other.endDate();
+        return new DateRange(start, end);
+    }
+
+    private static List<AbsenceDayEntity> toAbsenceDays(List<AbsencePeriod.Record> records) {
+        final List<AbsenceDayEntity> absenceDays = new ArrayList<>(records.size() * 2);
+        for (AbsencePeriod.Record record : records) {
+            record.getMorning().ifPresent(morning -> absenceDays.add(toAbsenceDay(record, DayLength.MORNING, morning)));
+            record.getNoon().ifPresent(noon -> absenceDays.add(toAbsenceDay(record, DayLength.NOON, noon)));
+        }
+        return absenceDays;
+    }
+
+    private static AbsenceDayEntity toAbsenceDay(AbsencePeriod.Record record, DayLength dayLength, AbsencePeriod.RecordInfo recordInfo) {
+        final AbsenceDayEntity absenceDay = new AbsenceDayEntity();
+        absenceDay.setPerson(record.getPerson());
+        absenceDay.setDate(record.getDate());
+        absenceDay.setDayLength(dayLength);
+        absenceDay.setAbsenceType(recordInfo.getAbsenceType());
+        absenceDay.setStatus(recordInfo.getStatus());
+        absenceDay.setSourceId(recordInfo.getId().orElseThrow());
+        absenceDay.setTypeId(recordInfo.getTypeId().orElse(null));
+        return absenceDay;
+    }
+
+    private static AbsencePeriod.Record toRecord(LocalDate date, List<AbsenceDayEntity> absenceDays,
+                                                 Map<Long, VacationType<?>> vacationTypeById, Map<Long, SickNoteType> sickNoteTypeById) {
+        final Person person = absenceDays.get(0).getPerson();
+
+        AbsencePeriod.RecordMorning morning = null;
+        AbsencePeriod.RecordNoon noon = null;
+        for (AbsenceDayEntity absenceDay : absenceDays) {
+            final Long sourceId = absenceDay.getSourceId();
+            final AbsencePeriod.AbsenceStatus status = absenceDay.getStatus();
+            final Long typeId = absenceDay.getTypeId();
+
+            if (absenceDay.getAbsenceType() == VACATION) {
+                final VacationType<?> vacationType = vacationTypeById.get(typeId);
+                final String category = vacationType == null ? null : vacationType.getCategory().name();
+                final boolean visibleToEveryone = vacationType != null && vacationType.isVisibleToEveryone();
+                if (absenceDay.getDayLength() == DayLength.MORNING) {
+                    morning = new AbsencePeriod.RecordMorningVacation(person, sourceId, status, category, typeId, visibleToEveryone);
+                } else {
+                    noon = new AbsencePeriod.RecordNoonVacation(person, sourceId, status, category, typeId, visibleToEveryone);
+                }
+            } else {
+                final SickNoteType sickNoteType = sickNoteTypeById.get(typeId);
+                final String category = sickNoteType == null ? null : sickNoteType.getCategory().name();
+                if (absenceDay.getDayLength() == DayLength.MORNING) {
+                    morning = new AbsencePeriod.RecordMorningSick(person, sourceId, status, category, typeId);
+                } else {
+                    noon = new AbsencePeriod.RecordNoonSick(person, sourceId, status, category, typeId);
+                }
+            }
+        }
+
+        return new AbsencePeriod.Record(date, person, morning, noon);
+    }
+
+    private record Source(AbsencePeriod.AbsenceType absenceType, Long sourceId) {
+    }
+
+    /**
+     * The parts of the {@link WorkingTimeSettings} the projected absence days depend on.
+     */
+    private record CalendarSettings(FederalState federalState, DayLength workingDurationForChristmasEve, DayLength workingDurationForNewYearsEve) {
+
+        static CalendarSettings of(WorkingTimeSettings workingTimeSettings) {
+            return new CalendarSettings(
+                workingTimeSettings.getFederalState(),
+                workingTimeSettings.getWorkingDurationForChristmasEve(),
+                workingTimeSettings.getWorkingDurationForNewYearsEve()
+            );
+        }
+
+        static CalendarSettings of(AbsenceDayProjectionStateEntity state) {
+            return new CalendarSettings(
+                state.getFederalState(),
+                state.getWorkingDurationForChristmasEve(),
+                state.getWorkingDurationForNewYearsEve()
+            );
+        }
+    }
+}
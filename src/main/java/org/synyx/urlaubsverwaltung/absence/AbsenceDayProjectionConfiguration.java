@@ -0,0 +1,48 @@
+package org.synyx.urlaubsverwaltung.absence;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.synyx.urlaubsverwaltung.config.ScheduleLocking;
+
+@Configuration
+public class AbsenceDayProjectionConfiguration implements SchedulingConfigurer {
+
+    private final AbsenceDayProjectionProperties absenceDayProjectionProperties;
+    private final AbsenceDayProjection absenceDayProjection;
+    private final ScheduleLocking scheduleLocking;
+    private final ThreadPoolTaskScheduler taskScheduler;
+
+    @Autowired
+    AbsenceDayProjectionConfiguration(AbsenceDayProjectionProperties absenceDayProjectionProperties, AbsenceDayProjection absenceDayProjection,
+                                      ScheduleLocking scheduleLocking, ThreadPoolTaskScheduler taskScheduler) {
+        this.absenceDayProjectionProperties = absenceDayProjectionProperties;
+        this.absenceDayProjection = absenceDayProjection;
+        this.scheduleLocking = scheduleLocking;
+        this.taskScheduler = taskScheduler;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.setScheduler(taskScheduler);
+        taskRegistrar.addCronTask(
+            scheduleLocking.withLock("RebuildAbsenceDayProjection", this::rebuild),
+            absenceDayProjectionProperties.getRebuildCron()
+        );
+    }
+
+    private void rebuild() {
+        // every chunk is rebuilt in its own transaction
+        boolean rebuilding = true;
+        while (rebuilding) {
+            rebuilding = absenceDayProjection.rebuildNextChunk();
+        }
+
+        boolean catchingUp = true;
+        while (catchingUp) {
+            catchingUp = absenceDayProjection.projectNextChunkOfStalePendingProjections();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package org.synyx.urlaubsverwaltung.absence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import static jakarta.persistence.GenerationType.SEQUENCE;
+
+/**
+ * A change of the absences of a person that has been committed, but not projected by the {@link AbsenceDayProjection} yet.
+ * Saved within the transaction of the change and deleted by the projection of the change after the commit. A pending
+ * projection outliving {@code uv.absence.day-projection.pending-projection-timeout}, e.g. because the instance died
+ * between commit and projection, is caught up by {@link AbsenceDayProjection#projectNextChunkOfStalePendingProjections()}.
+ * The person is referenced by its id only, because the absences of a person are deleted within the transaction deleting
+ * the person.
+ */
+@Entity
+@Table(name = "absence_day_projection_pending")
+class AbsenceDayProjectionPendingEntity {
+
+    @Id
+    @Column(name = "id", unique = true, nullable = false, updatable = false)
+    @GeneratedValue(strategy = SEQUENCE, generator = "absence_day_projection_pending_generator")
+    @SequenceGenerator(name = "absence_day_projection_pending_generator", sequenceName = "absence_day_projection_pending_id_seq")
+    private Long id;
+
+    @Column(nullable = false)
+    private Long personId;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    Long getId() {
+        return id;
+    }
+
+    void setId(Long id) {
+        this.id = id;
+    }
+
+    Long getPersonId() {
+        return personId;
+    }
+
+    void setPersonId(Long personId) {
+        this.personId = personId;
+    }
+
+    Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public String toString() {
+        return "AbsenceDayProjectionPendingEntity{" +
+            "id=" + id +
+            ", personId=" + personId +
+            ", createdAt=" + createdAt +
+            '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final AbsenceDayProjectionPendingEntity that = (AbsenceDayProjectionPendingEntity) o;
+        return null != this.getId() && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
@@ -0,0 +1,27 @@
+package org.synyx.urlaubsverwaltung.absence;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for the {@link AbsenceDayProjectionPendingEntity}.
+ */
+interface AbsenceDayProjectionPendingRepository extends CrudRepository<AbsenceDayProjectionPendingEntity, Long> {
+
+    List<AbsenceDayProjectionPendingEntity> findByCreatedAtBeforeOrderById(Instant createdAt, Limit limit);
+
+    /**
+     * Deletes without loading the entities first, so that a pending projection already caught up by another
+     * transaction is ignored.
+     */
+    @Modifying
+    @Query("DELETE FROM AbsenceDayProjectionPendingEntity p WHERE p.id IN :ids")
+    void deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,71 @@
+package org.synyx.urlaubsverwaltung.absence;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+import org.synyx.urlaubsverwaltung.validation.CronExpression;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties("uv.absence.day-projection")
+@Validated
+public class AbsenceDayProjectionProperties {
+
+    /**
+     * Requests a rebuild of the absence day projection from all applications and sick notes on application start.
+     */
+    private boolean rebuildOnStartup = false;
+
+    /**
+     * Checks whether a rebuild of the absence day projection has been requested and rebuilds it in the background,
+     * and projects the changes again whose projection is pending for longer than the {@link #pendingProjectionTimeout}
+     */
+    @CronExpression
+    private String rebuildCron = "0 * * * * *";
+
+    /**
+     * Number of persons whose absences are projected again in one transaction during a rebuild
+     */
+    @Min(1)
+    private int rebuildChunkSize = 100;
+
+    /**
+     * Duration after which a change that has been committed but not projected yet, e.g. because the instance died
+     * in between, is projected again by the rebuild cron
+     */
+    private Duration pendingProjectionTimeout = Duration.ofMinutes(5);
+
+    public boolean isRebuildOnStartup() {
+        return rebuildOnStartup;
+    }
+
+    public void setRebuildOnStartup(boolean rebuildOnStartup) {
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    public String getRebuildCron() {
+        return rebuildCron;
+    }
+
+    public void setRebuildCron(String rebuildCron) {
+        this.rebuildCron = rebuildCron;
+    }
+
+    public int getRebuildChunkSize() {
+        return rebuildChunkSize;
+    }
+
+    public void setRebuildChunkSize(int rebuildChunkSize) {
+        this.rebuildChunkSize = rebuildChunkSize;
+    }
+
+    public Duration getPendingProjectionTimeout() {
+        return pendingProjectionTimeout;
+    }
+
+    public void setPendingProjectionTimeout(Duration pendingProjectionTimeout) {
+        this.pendingProjectionTimeout = pendingProjectionTimeout;
+    }
+}
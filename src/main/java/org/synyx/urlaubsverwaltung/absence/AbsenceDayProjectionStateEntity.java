@@ -0,0 +1,119 @@
+package org.synyx.urlaubsverwaltung.absence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.workingtime.FederalState;
+
+import java.util.Objects;
+
+import static jakarta.persistence.EnumType.STRING;
+
+/**
+ * State of the {@link AbsenceDayProjection}, shared by all instances: the settings the working time calendars of
+ * the projected absence days have been calculated with, and the progress of a requested rebuild. The absences of all
+ * persons up to and including {@link #getLastPersonId()} have been projected again by the running rebuild.
+ */
+@Entity
+@Table(name = "absence_day_projection_state")
+class AbsenceDayProjectionStateEntity {
+
+    static final Long ID = 1L;
+
+    @Id
+    @Column(name = "id", unique = true, nullable = false, updatable = false)
+    private Long id;
+
+    @Enumerated(STRING)
+    private FederalState federalState;
+
+    @Enumerated(STRING)
+    private DayLength workingDurationForChristmasEve;
+
+    @Enumerated(STRING)
+    private DayLength workingDurationForNewYearsEve;
+
+    @Column(nullable = false)
+    private boolean rebuildRequested;
+
+    private Long lastPersonId;
+
+    Long getId() {
+        return id;
+    }
+
+    void setId(Long id) {
+        this.id = id;
+    }
+
+    FederalState getFederalState() {
+        return federalState;
+    }
+
+    void setFederalState(FederalState federalState) {
+        this.federalState = federalState;
+    }
+
+    DayLength getWorkingDurationForChristmasEve() {
+        return workingDurationForChristmasEve;
+    }
+
+    void setWorkingDurationForChristmasEve(DayLength workingDurationForChristmasEve) {
+        this.workingDurationForChristmasEve = workingDurationForChristmasEve;
+    }
+
+    DayLength getWorkingDurationForNewYearsEve() {
+        return workingDurationForNewYearsEve;
+    }
+
+    void setWorkingDurationForNewYearsEve(DayLength workingDurationForNewYearsEve) {
+        this.workingDurationForNewYearsEve = workingDurationForNewYearsEve;
+    }
+
+    boolean isRebuildRequested() {
+        return rebuildRequested;
+    }
+
+    void setRebuildRequested(boolean rebuildRequested) {
+        this.rebuildRequested = rebuildRequested;
+    }
+
+    Long getLastPersonId() {
+        return lastPersonId;
+    }
+
+    void setLastPersonId(Long lastPersonId) {
+        this.lastPersonId = lastPersonId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final AbsenceDayProjectionStateEntity that = (AbsenceDayProjectionStateEntity) o;
+        return null != this.getId() && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "AbsenceDayProjectionStateEntity{" +
+            "federalState=" + federalState +
+            ", workingDurationForChristmasEve=" + workingDurationForChristmasEve +
+            ", workingDurationForNewYearsEve=" + workingDurationForNewYearsEve +
+            ", rebuildRequested=" + rebuildRequested +
+            ", lastPersonId=" + lastPersonId +
+            '}';
+    }
+}
@@ -0,0 +1,19 @@
+package org.synyx.urlaubsverwaltung.absence;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+/**
+ * Repository for the {@link AbsenceDayProjectionStateEntity}.
+ */
+interface AbsenceDayProjectionStateRepository extends CrudRepository<AbsenceDayProjectionStateEntity, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from AbsenceDayProjectionStateEntity s where s.id = :id")
+    Optional<AbsenceDayProjectionStateEntity> findByIdForUpdate(@Param("id") Long id);
+}
@@ -0,0 +1,45 @@
+package org.synyx.urlaubsverwaltung.absence;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for {@link AbsenceDayEntity} entities.
+ */
+interface AbsenceDayRepository extends CrudRepository<AbsenceDayEntity, Long> {
+
+    List<AbsenceDayEntity> findByPersonInAndDateBetweenAndStatusInOrderByDate(List<Person> persons, LocalDate start, LocalDate end, List<AbsencePeriod.AbsenceStatus> statuses);
+
+    @Modifying
+    @Query("DELETE FROM AbsenceDayEntity a WHERE a.absenceType = :absenceType AND a.sourceId = :sourceId")
+    void deleteByAbsenceTypeAndSourceId(@Param("absenceType") AbsencePeriod.AbsenceType absenceType, @Param("sourceId") Long sourceId);
+
+    @Modifying
+    @Query("DELETE FROM AbsenceDayEntity a WHERE a.person = :person")
+    void deleteByPerson(@Param("person") Person person);
+
+    @Modifying
+    @Query("DELETE FROM AbsenceDayEntity a WHERE a.person IN :persons")
+    void deleteByPersonIn(@Param("persons") List<Person> persons);
+
+    /**
+     * @return the next persons ordered by id after the person with the given id, to rebuild the projection in chunks of persons
+     */
+    @Query("SELECT p FROM Person p WHERE p.id > :personId ORDER BY p.id")
+    List<Person> findPersonsWithIdGreaterThan(@Param("personId") Long personId, Limit limit);
+
+    /**
+     * @return the persons with the given ids ordered by id, ids of deleted persons are skipped
+     */
+    @Query("SELECT p FROM Person p WHERE p.id IN :personIds ORDER BY p.id")
+    List<Person> findPersonsWithIdIn(@Param("personIds") Collection<Long> personIds);
+
+}
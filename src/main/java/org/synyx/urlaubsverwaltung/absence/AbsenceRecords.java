@@ -0,0 +1,201 @@
+package org.synyx.urlaubsverwaltung.absence;
+
+import org.slf4j.Logger;
+import org.synyx.urlaubsverwaltung.application.application.Application;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationStatus;
+import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteStatus;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation.WorkingTimeCalendarEntryType.NO_WORKDAY;
+import static org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation.WorkingTimeCalendarEntryType.PUBLIC_HOLIDAY;
+
+/**
+ * Expands applications, sick notes and {@link WorkingTimeCalendar}s into the {@link AbsencePeriod.Record}s of the
+ * single days. Shared by the {@link AbsenceServiceImpl} and the {@link AbsenceDayProjection}.
+ */
+final class AbsenceRecords {
+
+    private static final Logger LOG = getLogger(lookup().lookupClass());
+
+    private AbsenceRecords() {
+        // ok
+    }
+
+    static void addNoWorkdaysAndPublicHolidays(Person person, WorkingTimeCalendar workingTimeCalendar, List<AbsencePeriod> absencePeriods) {
+        workingTimeCalendar.forEachWorkingDay((date, workingDayInformation) -> {
+            if (!workingDayInformation.dayLength().isFull()) {
+                if (workingDayInformation.morning() == workingDayInformation.noon()) {
+                    if (workingDayInformation.morning() == NO_WORKDAY) {
+                        absencePeriods.add(new AbsencePeriod(List.of(new AbsencePeriod.Record(date, person, new AbsencePeriod.RecordMorningNoWorkday(person), new AbsencePeriod.RecordNoonNoWorkday(person)))));
+                    } else if (workingDayInformation.morning() == PUBLIC_HOLIDAY) {
+                        absencePeriods.add(new AbsencePeriod(List.of(new AbsencePeriod.Record(date, person, new AbsencePeriod.RecordMorningPublicHoliday(person), new AbsencePeriod.RecordNoonPublicHoliday(person)))));
+                    }
+                } else {
+                    if (workingDayInformation.morning() == NO_WORKDAY) {
+                        absencePeriods.add(new AbsencePeriod(List.of(new AbsencePeriod.Record(date, person, new AbsencePeriod.RecordMorningNoWorkday(person)))));
+                    } else if (workingDayInformation.morning() == PUBLIC_HOLIDAY) {
+                        absencePeriods.add(new AbsencePeriod(List.of(new AbsencePeriod.Record(date, person, new AbsencePeriod.RecordMorningPublicHoliday(person)))));
+                    }
+
+                    if (workingDayInformation.noon() == NO_WORKDAY) {
+                        absencePeriods.add(new AbsencePeriod(List.of(new AbsencePeriod.Record(date, person, new AbsencePeriod.RecordNoonNoWorkday(person)))));
+                    } else if (workingDayInformation.noon() == PUBLIC_HOLIDAY) {
+                        absencePeriods.add(new AbsencePeriod(List.of(new AbsencePeriod.Record(date, person, new AbsencePeriod.RecordNoonPublicHoliday(person)))));
+                    }
+                }
+            }
+        });
+    }
+
+    static AbsencePeriod.AbsenceStatus toAbsenceStatus(ApplicationStatus applicationStatus) {
+        return switch (applicationStatus) {
+            case ALLOWED -> AbsencePeriod.AbsenceStatus.ALLOWED;
+            case WAITING -> AbsencePeriod.AbsenceStatus.WAITING;
+            case TEMPORARY_ALLOWED -> AbsencePeriod.AbsenceStatus.TEMPORARY_ALLOWED;
+            case ALLOWED_CANCELLATION_REQUESTED -> AbsencePeriod.AbsenceStatus.ALLOWED_CANCELLATION_REQUESTED;
+            case REVOKED -> AbsencePeriod.AbsenceStatus.REVOKED;
+            case REJECTED -> AbsencePeriod.AbsenceStatus.REJECTED;
+            case CANCELLED -> AbsencePeriod.AbsenceStatus.CANCELLED;
+        };
+    }
+
+    static AbsencePeriod.AbsenceStatus toAbsenceStatus(SickNoteStatus sickNoteStatus) {
+        return switch (sickNoteStatus) {
+            case ACTIVE -> AbsencePeriod.AbsenceStatus.ACTIVE;
+            case CANCELLED -> AbsencePeriod.AbsenceStatus.CANCELLED;
+            case CONVERTED_TO_VACATION -> AbsencePeriod.AbsenceStatus.CONVERTED_TO_VACATION;
+        };
+    }
+
+    /**
+     * @return the records of the days of the application within the given date range, that have working time
+     */
+    static List<AbsencePeriod.Record> days(Application application, DateRange askedDateRange, WorkingTimeCalendar workingTimeCalendar) {
+
+        final LocalDate start = maxDate(application.getStartDate(), askedDateRange.startDate());
+        final LocalDate end = minDate(application.getEndDate(), askedDateRange.endDate());
+
+        final List<AbsencePeriod.Record> records = new ArrayList<>();
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            final DayLength workingTimeDayLength = workingTimeCalendar.workingTimeDayLengthOrZero(date);
+            if (workingTimeDayLength != DayLength.ZERO) {
+                records.add(toVacationAbsencePeriodRecord(date, workingTimeDayLength, application));
+            }
+        }
+
+        return records;
+    }
+
+    /**
+     * @return the records of all days of the sick note within the given date range
+     */
+    static List<AbsencePeriod.Record> days(SickNote sickNote, DateRange askedDateRange, WorkingTimeCalendar workingTimeCalendar) {
+
+        final LocalDate start = maxDate(sickNote.getStartDate(), askedDateRange.startDate());
+        final LocalDate end = minDate(sickNote.getEndDate(), askedDateRange.endDate());
+
+        // sick notes contain every day of the date range, even the days without working time
+        final List<AbsencePeriod.Record> records = new ArrayList<>();
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            records.add(toSickAbsencePeriodRecord(date, workingTimeCalendar.workingTimeDayLengthOrZero(date), sickNote));
+        }
+
+        return records;
+    }
+
+    private static AbsencePeriod.Record toVacationAbsencePeriodRecord(LocalDate date, DayLength workingDayLength, Application application) {
+
+        final Person person = application.getPerson();
+        final Long applicationId = application.getId();
+        final AbsencePeriod.AbsenceStatus status = toAbsenceStatus(application.getStatus());
+        final String typeCategory = application.getVacationType().getCategory().name();
+        final Long typeId = application.getVacationType().getId();
+        final boolean visibleToEveryone = application.getVacationType().isVisibleToEveryone();
+        final DayLength applicationDayLength = application.getDayLength();
+
+        final AbsencePeriod.RecordMorningVacation morning;
+        final AbsencePeriod.RecordNoonVacation noon;
+
+        if (workingDayLength.isMorning()) {
+            noon = null;
+            if (applicationDayLength.isFull() || applicationDayLength.isMorning()) {
+                morning = new AbsencePeriod.RecordMorningVacation(person, applicationId, status, typeCategory, typeId, visibleToEveryone);
+            } else {
+                LOG.info("calculate absence seems fishy. workingDayLength={} application.dayLength={} application.id={}", workingDayLength, applicationDayLength, applicationId);
+                morning = null;
+            }
+        } else if (workingDayLength.isNoon()) {
+            morning = null;
+            if (applicationDayLength.isFull() || applicationDayLength.isNoon()) {
+                noon = new AbsencePeriod.RecordNoonVacation(person, applicationId, status, typeCategory, typeId, visibleToEveryone);
+            } else {
+                LOG.info("calculate absence seems fishy. workingDayLength={} application.dayLength={} application.id={} ", workingDayLength, applicationDayLength, applicationId);
+                noon = null;
+            }
+        } else if (applicationDayLength.isMorning()) {
+            morning = new AbsencePeriod.RecordMorningVacation(person, applicationId, status, typeCategory, typeId, visibleToEveryone);
+            noon = null;
+        } else if (applicationDayLength.isNoon()) {
+            morning = null;
+            noon = new AbsencePeriod.RecordNoonVacation(person, applicationId, status, typeCategory, typeId, visibleToEveryone);
+        } else {
+            morning = new AbsencePeriod.RecordMorningVacation(person, applicationId, status, typeCategory, typeId, visibleToEveryone);
+            noon = new AbsencePeriod.RecordNoonVacation(person, applicationId, status, typeCategory, typeId, visibleToEveryone);
+        }
+
+        return new AbsencePeriod.Record(date, person, morning, noon);
+    }
+
+    private static AbsencePeriod.Record toSickAbsencePeriodRecord(LocalDate date, DayLength workingTimeDayLength, SickNote sickNote) {
+
+        final Long sickNoteId = sickNote.getId();
+        final Person person = sickNote.getPerson();
+        final AbsencePeriod.AbsenceStatus status = toAbsenceStatus(sickNote.getStatus());
+        final String typeCategory = sickNote.getSickNoteType().getCategory().name();
+        final Long typeId = sickNote.getSickNoteType().getId();
+
+        final AbsencePeriod.RecordMorningSick morning;
+        final AbsencePeriod.RecordNoonSick noon;
+
+        if (workingTimeDayLength.isHalfDay()) {
+            if (workingTimeDayLength.isMorning()) {
+                morning = new AbsencePeriod.RecordMorningSick(person, sickNoteId, status, typeCategory, typeId);
+                noon = null;
+            } else {
+                morning = null;
+                noon = new AbsencePeriod.RecordNoonSick(person, sickNoteId, status, typeCategory, typeId);
+            }
+            return new AbsencePeriod.Record(date, person, morning, noon);
+        }
+
+        if (DayLength.MORNING.equals(sickNote.getDayLength())) {
+            morning = new AbsencePeriod.RecordMorningSick(person, sickNoteId, status, typeCategory, typeId);
+            noon = null;
+        } else if (DayLength.NOON.equals(sickNote.getDayLength())) {
+            morning = null;
+            noon = new AbsencePeriod.RecordNoonSick(person, sickNoteId, status, typeCategory, typeId);
+        } else {
+            morning = new AbsencePeriod.RecordMorningSick(person, sickNoteId, status, typeCategory, typeId);
+            noon = new AbsencePeriod.RecordNoonSick(person, sickNoteId, status, typeCategory, typeId);
+        }
+
+        return new AbsencePeriod.Record(date, person, morning, noon);
+    }
+
+    private static LocalDate maxDate(LocalDate date, LocalDate date2) {
+        return date.isAfter(date2) ? date : date2;
+    }
+
+    private static LocalDate minDate(LocalDate date, LocalDate date2) {
+        return date.isBefore(date2) ? date : date2;
+    }
+}
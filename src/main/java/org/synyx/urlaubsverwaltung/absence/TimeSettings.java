@@ -38,4 +38,12 @@ public class TimeSettings {
     public void setWorkDayEndHour(Integer workDayEndHour) {
         this.workDayEndHour = workDayEndHour;
     }
+
+    public TimeSettings copy() {
+        final TimeSettings copy = new TimeSettings();
+        copy.timeZoneId = timeZoneId;
+        copy.workDayBeginHour = workDayBeginHour;
+        copy.workDayEndHour = workDayEndHour;
+        return copy;
+    }
 }
@@ -10,6 +10,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.InitBinder;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.synyx.urlaubsverwaltung.absence.AbsencePeriod;
@@ -36,10 +37,12 @@ import java.time.temporal.TemporalAdjuster;
 import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -65,6 +68,13 @@ public class AbsenceOverviewViewController implements HasLaunchpad {
 
     private static final VacationTypeColor ANONYMIZED_ABSENCE_COLOR = VacationTypeColor.YELLOW;
 
+    /**
+     * number of persons rendered at once. further persons are loaded lazily in blocks of this size
+     * unless all persons are requested at once, e.g. to print the overview.
+     */
+    static final int PERSONS_PAGE_SIZE = 50;
+    private static final String PERSONS_PAGE_FRAME_PREFIX = "frame-absence-overview-persons-";
+
     private final PersonService personService;
     private final DepartmentService departmentService;
     private final MessageSource messageSource;
@@ -99,7 +109,11 @@ public class AbsenceOverviewViewController implements HasLaunchpad {
     public String absenceOverview(
         @RequestParam(required = false) Integer year,
         @RequestParam(required = false) String month,
-        @RequestParam(name = "department", required = false, defaultValue = "") List<String> rawSelectedDepartments, Model model, Locale locale) {
+        @RequestParam(name = "department", required = false, defaultValue = "") List<String> rawSelectedDepartments,
+        @RequestParam(name = "personsPage", required = false, defaultValue = "0") int personsPage,
+        @RequestParam(name = "allPersons", required = false, defaultValue = "false") boolean allPersons,
+        @RequestHeader(name = "Turbo-Frame", required = false) String turboFrame,
+        Model model, Locale locale) {
 
         final Person signedInUser = personService.getSignedInUser();
 
@@ -151,16 +165,30 @@ public class AbsenceOverviewViewController implements HasLaunchpad {
         List<VacationTypeColorDto> vacationTypeColorDtos = prepareVacationTypeColorsForLegend(isSignedInUserAllowedToSeeAbsencesOfOthers, isSignedInUserInOverview, vacationTypes, locale);
         model.addAttribute("vacationTypeColors", vacationTypeColorDtos);
 
+        final Set<Person> membersOfSignedInUserSet = new HashSet<>(membersOfSignedInUser);
         final Function<AbsencePeriod.RecordInfo, Boolean> shouldAnonymizeAbsenceType = recordInfo -> !recordInfo.getPerson().equals(signedInUser)
-            && !membersOfSignedInUser.contains(recordInfo.getPerson()) && !recordInfo.isVisibleToEveryone();
+            && !membersOfSignedInUserSet.contains(recordInfo.getPerson()) && !recordInfo.isVisibleToEveryone();
 
         final Function<AbsencePeriod.RecordInfo, VacationTypeColor> recordInfoToColor = recordInfo -> recordInfoToColor(recordInfo, vacationTypesById::get);
 
+        // only one block of persons is rendered, the following blocks are loaded lazily with turbo frames.
+        // print and the browser search need every person, therefore all of them can be requested at once.
+        final int currentPersonsPage = allPersons ? 0 : Math.max(0, personsPage);
+        final int fromIndex = (int) Math.min((long) currentPersonsPage * PERSONS_PAGE_SIZE, overviewPersons.size());
+        final int toIndex = allPersons ? overviewPersons.size() : Math.min(fromIndex + PERSONS_PAGE_SIZE, overviewPersons.size());
+        final List<Person> personsOfPage = overviewPersons.subList(fromIndex, toIndex);
+        model.addAttribute("personsPage", currentPersonsPage);
+        model.addAttribute("nextPersonsPage", toIndex < overviewPersons.size() ? currentPersonsPage + 1 : null);
+
         final DateRange dateRange = new DateRange(startDate, endDate);
-        final List<AbsenceOverviewMonthDto> months = getAbsenceOverViewMonthModels(dateRange, overviewPersons, locale, shouldAnonymizeAbsenceType, recordInfoToColor);
+        final List<AbsenceOverviewMonthDto> months = getAbsenceOverViewMonthModels(dateRange, personsOfPage, locale, shouldAnonymizeAbsenceType, recordInfoToColor);
         final AbsenceOverviewDto absenceOverview = new AbsenceOverviewDto(months);
         model.addAttribute("absenceOverview", absenceOverview);
 
+        if (hasText(turboFrame) && turboFrame.startsWith(PERSONS_PAGE_FRAME_PREFIX)) {
+            return "absences/absences-overview::persons-page";
+        }
+
         return "absences/absences-overview";
     }
 
@@ -201,18 +229,28 @@ public class AbsenceOverviewViewController implements HasLaunchpad {
         final List<WorkingTime> workingTimeList = workingTimeService.getByPersons(personList);
         final List<AbsencePeriod> openAbsences = absenceService.getOpenAbsences(personList, dateRange.startDate(), dateRange.endDate());
 
-        final HashMap<Integer, AbsenceOverviewMonthDto> monthsByNr = new HashMap<>();
+        // everything needed for a cell of the grid is indexed once, so that building the grid is linear in days x persons
+        final Map<Person, Map<LocalDate, List<AbsencePeriod.Record>>> absenceRecordsByPersonAndDate = new HashMap<>();
+        for (AbsencePeriod openAbsence : openAbsences) {
+            for (AbsencePeriod.Record absenceRecord : openAbsence.getAbsenceRecords()) {
+                absenceRecordsByPersonAndDate
+                    .computeIfAbsent(absenceRecord.getPerson(), person -> new HashMap<>())
+                    .computeIfAbsent(absenceRecord.getDate(), date -> new ArrayList<>())
+                    .add(absenceRecord);
+            }
+        }
 
-        final Map<Person, List<AbsencePeriod.Record>> absencePeriodRecordsByPerson = openAbsences.stream()
-            .map(AbsencePeriod::getAbsenceRecords)
-            .flatMap(List::stream)
-            .collect(groupingBy(AbsencePeriod.Record::getPerson));
+        final Map<Person, List<WorkingTime>> workingTimesByPerson = workingTimeList.stream()
+            .sorted(comparing(WorkingTime::getValidFrom).reversed())
+            .collect(groupingBy(WorkingTime::getPerson));
 
         final Map<Person, Map<LocalDate, PublicHoliday>> publicHolidaysOfAllPersons = new HashMap<>();
         for (Person person : personList) {
             publicHolidaysOfAllPersons.put(person, getPublicHolidaysOfPerson(dateRange, person));
         }
 
+        final HashMap<Integer, AbsenceOverviewMonthDto> monthsByNr = new HashMap<>();
+
         for (LocalDate date : dateRange) {
             final AbsenceOverviewMonthDto monthView = monthsByNr.computeIfAbsent(date.getMonthValue(),
                 monthValue -> initializeAbsenceOverviewMonthDto(date, personList, locale));
@@ -220,36 +258,24 @@ public class AbsenceOverviewViewController implements HasLaunchpad {
             final AbsenceOverviewMonthDayDto tableHeadDay = tableHeadDay(date, today, locale);
             monthView.getDays().add(tableHeadDay);
 
-            final Map<AbsenceOverviewMonthPersonDto, Person> personByView = personList.stream()
-                .collect(
-                    toMap(person -> monthView.getPersons().stream()
-                        .filter(view -> view.getId().equals(person.getId()))
-                        .findFirst()
-                        .orElse(null), Function.identity())
-                );
-
             // create an absence day dto for every person of the department
-            for (AbsenceOverviewMonthPersonDto personView : monthView.getPersons()) {
-
-                final Person person = personByView.get(personView);
+            // the person views of a month are initialized in the order of the person list
+            final List<AbsenceOverviewMonthPersonDto> personViews = monthView.getPersons();
+            for (int index = 0; index < personViews.size(); index++) {
 
-                final List<WorkingTime> personWorkingTimeList = workingTimeList
-                    .stream()
-                    .filter(workingTime -> workingTime.getPerson().equals(person))
-                    .sorted(comparing(WorkingTime::getValidFrom).reversed())
-                    .collect(toList());
+                final AbsenceOverviewMonthPersonDto personView = personViews.get(index);
+                final Person person = personList.get(index);
 
-                final List<AbsencePeriod.Record> personAbsenceRecordsForDate = Optional.ofNullable(absencePeriodRecordsByPerson.get(person))
-                    .stream()
-                    .flatMap(List::stream)
-                    .filter(absenceRecord -> absenceRecord.getDate().isEqual(date))
-                    .toList();
+                final List<AbsencePeriod.Record> personAbsenceRecordsForDate = absenceRecordsByPersonAndDate
+                    .getOrDefault(person, Map.of())
+                    .getOrDefault(date, List.of());
 
                 final AbsenceOverviewDayType personViewDayType = Optional.ofNullable(publicHolidaysOfAllPersons.get(person).get(date))
                     .map(publicHoliday -> getAbsenceOverviewDayType(personAbsenceRecordsForDate, shouldAnonymizeAbsenceType, publicHoliday, recordInfoToColor))
                     .orElseGet(() -> getAbsenceOverviewDayType(personAbsenceRecordsForDate, shouldAnonymizeAbsenceType, recordInfoToColor))
                     .build();
 
+                final List<WorkingTime> personWorkingTimeList = workingTimesByPerson.getOrDefault(person, List.of());
                 personView.getDays().add(new AbsenceOverviewPersonDayDto(personViewDayType, isWorkday(date, personWorkingTimeList)));
             }
         }
@@ -257,13 +283,16 @@ public class AbsenceOverviewViewController implements HasLaunchpad {
         return new ArrayList<>(monthsByNr.values());
     }
 
+    /**
+     * @param workingTimeList of the person sorted by {@link WorkingTime#getValidFrom()} descending
+     */
     private boolean isWorkday(LocalDate date, List<WorkingTime> workingTimeList) {
-        return workingTimeList
-            .stream()
-            .filter(w -> w.getValidFrom().isBefore(date) || w.getValidFrom().isEqual(date))
-            .findFirst()
-            .map(w -> w.isWorkingDay(date.getDayOfWeek()))
-            .orElse(false);
+        for (WorkingTime workingTime : workingTimeList) {
+            if (!workingTime.getValidFrom().isAfter(date)) {
+                return workingTime.isWorkingDay(date.getDayOfWeek());
+            }
+        }
+        return false;
     }
 
     private Map<LocalDate, PublicHoliday> getPublicHolidaysOfPerson(DateRange dateRange, Person person) {
@@ -1,6 +1,7 @@
 package org.synyx.urlaubsverwaltung.account;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.annotation.Validated;
@@ -17,6 +18,9 @@ public class AccountProperties {
     @Valid
     private AccountProperties.VacationDaysReminder vacationDaysReminder = new VacationDaysReminder();
 
+    @Valid
+    private VacationDaysLedger vacationDaysLedger = new VacationDaysLedger();
+
     public Update getUpdate() {
         return update;
     }
@@ -33,6 +37,14 @@ public class AccountProperties {
         this.vacationDaysReminder = vacationDaysReminder;
     }
 
+    public VacationDaysLedger getVacationDaysLedger() {
+        return vacationDaysLedger;
+    }
+
+    public void setVacationDaysLedger(VacationDaysLedger vacationDaysLedger) {
+        this.vacationDaysLedger = vacationDaysLedger;
+    }
+
     public static class Update {
 
         /**
@@ -41,6 +53,25 @@ public class AccountProperties {
         @CronExpression
         private String cron = "0 0 5 1 1 *";
 
+        /**
+         * Resumes an aborted update of the holidays accounts for the current year by default every hour at minute 30
+         */
+        @CronExpression
+        private String resumeCron = "0 30 * * * *";
+
+        /**
+         * Number of persons whose holidays accounts are updated in one transaction. The progress is saved after
+         * every chunk, so that a rerun of an aborted update resumes after the last updated chunk.
+         */
+        @Min(1)
+        private int chunkSize = 500;
+
+        /**
+         * Number of chunks that are updated in parallel
+         */
+        @Min(1)
+        private int parallelism = 1;
+
         public String getCron() {
             return cron;
         }
@@ -48,6 +79,30 @@ public class AccountProperties {
         public void setCron(String cron) {
             this.cron = cron;
         }
+
+        public String getResumeCron() {
+            return resumeCron;
+        }
+
+        public void setResumeCron(String resumeCron) {
+            this.resumeCron = resumeCron;
+        }
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
     }
 
     public static class VacationDaysReminder {
@@ -80,4 +135,63 @@ public class AccountProperties {
             this.expiredRemainingVacationDaysCron = expiredRemainingVacationDaysCron;
         }
     }
+
+    public static class VacationDaysLedger {
+
+        /**
+         * Requests a rebuild of the vacation days ledger on application start.
+         */
+        private boolean rebuildOnStartup = false;
+
+        /**
+         * Checks whether a rebuild of the vacation days ledger has been requested and rebuilds it in the background
+         */
+        @CronExpression
+        private String rebuildCron = "0 * * * * *";
+
+        /**
+         * Number of persons whose vacation days ledger entries are rebuilt or checked in one transaction
+         */
+        @Min(1)
+        private int chunkSize = 100;
+
+        /**
+         * Checks the vacation days ledger of the previous, current and next year against the applications for leave
+         * and corrects deviating entries by default every day at 04:30 am
+         */
+        @CronExpression
+        private String checkCron = "0 30 4 * * *";
+
+        public boolean isRebuildOnStartup() {
+            return rebuildOnStartup;
+        }
+
+        public void setRebuildOnStartup(boolean rebuildOnStartup) {
+            this.rebuildOnStartup = rebuildOnStartup;
+        }
+
+        public String getRebuildCron() {
+            return rebuildCron;
+        }
+
+        public void setRebuildCron(String rebuildCron) {
+            this.rebuildCron = rebuildCron;
+        }
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        public String getCheckCron() {
+            return checkCron;
+        }
+
+        public void setCheckCron(String checkCron) {
+            this.checkCron = checkCron;
+        }
+    }
 }
@@ -21,6 +21,9 @@ public interface AccountRepository extends JpaRepository<AccountEntity, Long> {
     @Query("select a from account a where YEAR(a.validFrom) = :year and a.person in :persons")
     List<AccountEntity> findAccountByYearAndPersons(@Param("year") int year, @Param("persons") List<Person> persons);
 
+    @Query("select a from account a where YEAR(a.validFrom) = :year")
+    List<AccountEntity> findAccountByYear(@Param("year") int year);
+
     @Modifying
     void deleteByPerson(Person person);
 }
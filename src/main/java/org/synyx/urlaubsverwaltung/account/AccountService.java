@@ -40,6 +40,14 @@ public interface AccountService {
      */
     List<Account> getHolidaysAccount(int year, List<Person> persons);
 
+    /**
+     * Get existing {@link Account}s of all persons, including inactive ones, for the given year.
+     *
+     * @param year to get the holidays accounts for
+     * @return {@link Account}s of the given year.
+     */
+    List<Account> getHolidaysAccounts(int year);
+
     /**
      * Saves the given {@link Account}.
      *
@@ -68,6 +68,16 @@ public class AccountServiceImpl implements AccountService {
             .collect(toList());
     }
 
+    @Override
+    public List<Account> getHolidaysAccounts(int year) {
+        final CachedSupplier<Boolean> expireGlobally = new CachedSupplier<>(this::remainingVacationDaysExpireGlobally);
+
+        return accountRepository.findAccountByYear(year)
+            .stream()
+            .map(accountEntity -> this.mapToAccount(accountEntity, expireGlobally.get()))
+            .collect(toList());
+    }
+
     @Override
     public Account save(Account account) {
         final AccountEntity accountEntity = mapToAccountEntity(account);
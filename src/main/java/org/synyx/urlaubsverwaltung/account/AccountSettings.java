@@ -46,4 +46,12 @@ public class AccountSettings {
     public void setDoRemainingVacationDaysExpireGlobally(boolean doRemainingVacationDaysExpireGlobally) {
         this.doRemainingVacationDaysExpireGlobally = doRemainingVacationDaysExpireGlobally;
     }
+
+    public AccountSettings copy() {
+        final AccountSettings copy = new AccountSettings();
+        copy.defaultVacationDays = defaultVacationDays;
+        copy.maximumAnnualVacationDays = maximumAnnualVacationDays;
+        copy.doRemainingVacationDaysExpireGlobally = doRemainingVacationDaysExpireGlobally;
+        return copy;
+    }
 }
@@ -0,0 +1,68 @@
+package org.synyx.urlaubsverwaltung.account;
+
+import org.slf4j.Logger;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.util.List;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Updates the holidays accounts of one chunk of persons for a new year in its own transaction.
+ */
+@Component
+class TurnOfTheYearAccountChunkUpdater {
+
+    private static final Logger LOG = getLogger(lookup().lookupClass());
+
+    private final AccountService accountService;
+    private final AccountInteractionService accountInteractionService;
+
+    TurnOfTheYearAccountChunkUpdater(AccountService accountService, AccountInteractionService accountInteractionService) {
+        this.accountService = accountService;
+        this.accountInteractionService = accountInteractionService;
+    }
+
+    /**
+     * Creates or updates the holidays accounts of the given year based on the holidays accounts of the year before.
+     *
+     * @param year    the new year
+     * @param persons to update the holidays accounts of
+     * @return the created or updated holidays accounts of the given year
+     */
+    @Transactional
+    public List<Account> updateAccounts(int year, List<Person> persons) {
+        return accountsOfLastYear(year, persons).stream()
+            .map(accountLastYear -> {
+                final Person person = accountLastYear.getPerson();
+                LOG.info("Updating account of person with id {}", person.getId());
+                final Account holidaysAccount = accountInteractionService.autoCreateOrUpdateNextYearsHolidaysAccount(accountLastYear);
+                LOG.info("Setting remaining vacation days of person with id {} to {} for {}", person.getId(), holidaysAccount.getRemainingVacationDays(), year);
+                return holidaysAccount;
+            })
+            .toList();
+    }
+
+    /**
+     * Returns the holidays accounts of the given year that have already been updated by a previous run
+     * of {@link #updateAccounts(int, List)}.
+     *
+     * @param year    the new year
+     * @param persons whose holidays accounts have been updated
+     * @return the updated holidays accounts of the given year
+     */
+    @Transactional(readOnly = true)
+    public List<Account> getUpdatedAccounts(int year, List<Person> persons) {
+        final List<Person> updatedPersons = accountsOfLastYear(year, persons).stream().map(Account::getPerson).toList();
+        return updatedPersons.isEmpty() ? List.of() : accountService.getHolidaysAccount(year, updatedPersons);
+    }
+
+    private List<Account> accountsOfLastYear(int year, List<Person> persons) {
+        return accountService.getHolidaysAccount(year - 1, persons).stream()
+            .filter(account -> account.getAnnualVacationDays() != null)
+            .toList();
+    }
+}
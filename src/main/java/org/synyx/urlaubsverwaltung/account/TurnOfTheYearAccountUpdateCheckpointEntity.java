@@ -0,0 +1,70 @@
+package org.synyx.urlaubsverwaltung.account;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.util.Objects;
+
+/**
+ * Progress of the update of the holidays accounts for a new year, see {@link TurnOfTheYearAccountUpdaterService}.
+ * The holidays accounts of all active persons up to and including {@link #getLastPersonId()} have been updated.
+ */
+@Entity
+@Table(name = "turn_of_the_year_account_update_checkpoint")
+class TurnOfTheYearAccountUpdateCheckpointEntity {
+
+    @Id
+    @Column(name = "account_year", nullable = false, updatable = false)
+    private Integer year;
+
+    @Column(nullable = false)
+    private Long lastPersonId;
+
+    protected TurnOfTheYearAccountUpdateCheckpointEntity() {
+        // for jpa
+    }
+
+    TurnOfTheYearAccountUpdateCheckpointEntity(Integer year, Long lastPersonId) {
+        this.year = year;
+        this.lastPersonId = lastPersonId;
+    }
+
+    Integer getYear() {
+        return year;
+    }
+
+    Long getLastPersonId() {
+        return lastPersonId;
+    }
+
+    void setLastPersonId(Long lastPersonId) {
+        this.lastPersonId = lastPersonId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final TurnOfTheYearAccountUpdateCheckpointEntity that = (TurnOfTheYearAccountUpdateCheckpointEntity) o;
+        return null != this.getYear() && Objects.equals(year, that.year);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(year);
+    }
+
+    @Override
+    public String toString() {
+        return "TurnOfTheYearAccountUpdateCheckpointEntity{" +
+            "year=" + year +
+            ", lastPersonId=" + lastPersonId +
+            '}';
+    }
+}
@@ -0,0 +1,9 @@
+package org.synyx.urlaubsverwaltung.account;
+
+import org.springframework.data.repository.CrudRepository;
+
+/**
+ * Repository for {@link TurnOfTheYearAccountUpdateCheckpointEntity} entities, identified by the year of the update.
+ */
+interface TurnOfTheYearAccountUpdateCheckpointRepository extends CrudRepository<TurnOfTheYearAccountUpdateCheckpointEntity, Integer> {
+}
@@ -7,9 +7,19 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 import org.synyx.urlaubsverwaltung.config.ScheduleLocking;
 
+import java.time.Duration;
+
 @Configuration
 public class TurnOfTheYearAccountUpdaterConfiguration implements SchedulingConfigurer {
 
+    private static final String LOCK_NAME = "UpdateAccountsForNextPeriod";
+
+    /**
+     * The update of all holidays accounts may take longer than the default lock, the lock must not expire before
+     * the update is done, otherwise a resume could run alongside it.
+     */
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofHours(1);
+
     private final AccountProperties accountProperties;
     private final TurnOfTheYearAccountUpdaterService turnOfTheYearAccountUpdaterService;
     private final ScheduleLocking scheduleLocking;
@@ -27,8 +37,13 @@ public class TurnOfTheYearAccountUpdaterConfiguration implements SchedulingConfi
     public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
         taskRegistrar.setTaskScheduler(taskScheduler);
         taskRegistrar.addCronTask(
-            scheduleLocking.withLock("UpdateAccountsForNextPeriod", turnOfTheYearAccountUpdaterService::updateAccountsForNextPeriod),
+            scheduleLocking.withLock(LOCK_NAME, turnOfTheYearAccountUpdaterService::updateAccountsForNextPeriod, LOCK_AT_MOST_FOR, Duration.ofMinutes(2)),
             accountProperties.getUpdate().getCron()
         );
+        // shares the lock with the update, and releases it right away if there is nothing to resume
+        taskRegistrar.addCronTask(
+            scheduleLocking.withLock(LOCK_NAME, turnOfTheYearAccountUpdaterService::resumeAccountsUpdateForNextPeriod, LOCK_AT_MOST_FOR, Duration.ZERO),
+            accountProperties.getUpdate().getResumeCron()
+        );
     }
 }
@@ -1,5 +1,7 @@
 package org.synyx.urlaubsverwaltung.account;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -10,6 +12,8 @@ import org.synyx.urlaubsverwaltung.person.PersonService;
 
 import java.math.BigDecimal;
 import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.Year;
 import java.util.ArrayList;
@@ -17,66 +21,178 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.Comparator.comparing;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.concurrent.Executors.newFixedThreadPool;
 import static org.slf4j.LoggerFactory.getLogger;
 import static org.synyx.urlaubsverwaltung.person.Role.OFFICE;
 
 
 /**
  * Is to be scheduled every turn of the year: calculates the remaining vacation days for the new year.
+ *
+ * <p>
+ * The holidays accounts are updated in chunks of persons, each chunk in its own transaction. Before the first chunk
+ * the start of the update and after every chunk the progress is saved as {@link TurnOfTheYearAccountUpdateCheckpointEntity},
+ * so that a rerun of an aborted update resumes after the last updated chunk, even if no chunk has been updated yet. An aborted update is resumed by {@link #resumeAccountsUpdateForNextPeriod()}.
+ * </p>
  */
 @Service
 public class TurnOfTheYearAccountUpdaterService {
 
     private static final Logger LOG = getLogger(lookup().lookupClass());
 
+    private static final String METRIC_PERSONS = "account.update.persons";
+
+    /**
+     * last person id of the checkpoint of a started update, which has not updated any chunk yet
+     */
+    private static final long NO_PERSON_UPDATED = 0L;
+
     private final PersonService personService;
-    private final AccountService accountService;
-    private final AccountInteractionService accountInteractionService;
+    private final TurnOfTheYearAccountChunkUpdater turnOfTheYearAccountChunkUpdater;
+    private final TurnOfTheYearAccountUpdateCheckpointRepository checkpointRepository;
+    private final AccountProperties accountProperties;
     private final VacationDaysReminderService vacationDaysReminderService;
     private final MailService mailService;
     private final Clock clock;
 
+    private final AtomicInteger totalPersons = new AtomicInteger();
+    private final AtomicInteger updatedPersons = new AtomicInteger();
+
     @Autowired
-    public TurnOfTheYearAccountUpdaterService(PersonService personService, AccountService accountService,
-                                              AccountInteractionService accountInteractionService, VacationDaysReminderService vacationDaysReminderService, MailService mailService, Clock clock) {
+    public TurnOfTheYearAccountUpdaterService(PersonService personService, TurnOfTheYearAccountChunkUpdater turnOfTheYearAccountChunkUpdater,
+                                              TurnOfTheYearAccountUpdateCheckpointRepository checkpointRepository, AccountProperties accountProperties,
+                                              VacationDaysReminderService vacationDaysReminderService, MailService mailService,
+                                              MeterRegistry meterRegistry, Clock clock) {
 
         this.personService = personService;
-        this.accountService = accountService;
-        this.accountInteractionService = accountInteractionService;
+        this.turnOfTheYearAccountChunkUpdater = turnOfTheYearAccountChunkUpdater;
+        this.checkpointRepository = checkpointRepository;
+        this.accountProperties = accountProperties;
         this.vacationDaysReminderService = vacationDaysReminderService;
         this.mailService = mailService;
         this.clock = clock;
+
+        Gauge.builder(METRIC_PERSONS, totalPersons, AtomicInteger::get).tag("state", "total")
+            .description("active persons of the current update of the holidays accounts for the new year")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_PERSONS, updatedPersons, AtomicInteger::get).tag("state", "updated")
+            .description("active persons whose holidays accounts are updated for the new year")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Resumes the update of the holidays accounts for the current year, if it has been aborted. Does nothing if there
+     * is no progress saved for the current year, i.e. the update has not been started or is already completed.
+     */
+    void resumeAccountsUpdateForNextPeriod() {
+
+        final int year = Year.now(clock).getValue();
+        if (!checkpointRepository.existsById(year)) {
+            LOG.debug("No aborted update of holidays accounts for {} to resume.", year);
+            return;
+        }
+
+        updateAccountsForNextPeriod();
     }
 
     void updateAccountsForNextPeriod() {
 
-        LOG.info("Starting update of holidays accounts to calculate the remaining vacation days.");
+        final Instant start = Instant.now(clock);
 
         // what's the new year?
         final int year = Year.now(clock).getValue();
 
-        // get all persons
-        final List<Person> persons = personService.getActivePersons();
+        final Optional<Long> lastUpdatedPersonId = checkpointRepository.findById(year).map(TurnOfTheYearAccountUpdateCheckpointEntity::getLastPersonId);
+        if (lastUpdatedPersonId.isEmpty()) {
+            LOG.info("Starting update of holidays accounts to calculate the remaining vacation days.");
+            checkpointRepository.save(new TurnOfTheYearAccountUpdateCheckpointEntity(year, NO_PERSON_UPDATED));
+        } else if (lastUpdatedPersonId.get() == NO_PERSON_UPDATED) {
+            LOG.info("Resuming update of holidays accounts for {} from the start.", year);
+        } else {
+            LOG.info("Resuming update of holidays accounts for {} after person with id {}.", year, lastUpdatedPersonId.get());
+        }
+
+        // get all persons, ordered by id to resume after the last updated person
+        final List<Person> persons = personService.getActivePersons().stream()
+            .sorted(comparing(Person::getId))
+            .toList();
+        final List<Person> alreadyUpdatedPersons = persons.stream()
+            .filter(person -> lastUpdatedPersonId.isPresent() && person.getId() <= lastUpdatedPersonId.get())
+            .toList();
+        final List<Person> pendingPersons = persons.subList(alreadyUpdatedPersons.size(), persons.size());
+
+        totalPersons.set(persons.size());
+        updatedPersons.set(alreadyUpdatedPersons.size());
 
         // get all their accounts and calculate the remaining vacation days for the new year
         final List<Account> updatedAccounts = new ArrayList<>();
-        for (Person person : persons) {
-            final Optional<Account> accountLastYear = accountService.getHolidaysAccount(year - 1, person);
-            if (accountLastYear.isPresent() && accountLastYear.get().getAnnualVacationDays() != null) {
-                LOG.info("Updating account of person with id {}", person.getId());
-                final Account holidaysAccount = accountInteractionService.autoCreateOrUpdateNextYearsHolidaysAccount(accountLastYear.get());
-                LOG.info("Setting remaining vacation days of person with id {} to {} for {}", person.getId(), holidaysAccount.getRemainingVacationDays(), year);
-                updatedAccounts.add(holidaysAccount);
-            }
+        for (List<Person> chunk : chunks(alreadyUpdatedPersons)) {
+            updatedAccounts.addAll(turnOfTheYearAccountChunkUpdater.getUpdatedAccounts(year, chunk));
         }
+        updatedAccounts.addAll(updateAccounts(year, chunks(pendingPersons)));
+
+        checkpointRepository.deleteById(year);
 
-        LOG.info("Updated holidays accounts: {} / {}", updatedAccounts.size(), persons.size());
+        LOG.info("Updated holidays accounts: {} / {} in {} ms", updatedAccounts.size(), persons.size(), Duration.between(start, Instant.now(clock)).toMillis());
         sendSuccessfullyUpdatedAccountsNotification(updatedAccounts);
         vacationDaysReminderService.remindForRemainingVacationDays();
     }
 
+    /**
+     * Updates the holidays accounts of the given chunks of persons, in parallel if configured. The progress is saved
+     * in the order of the chunks, so that it never covers a chunk that has not been updated.
+     */
+    private List<Account> updateAccounts(int year, List<List<Person>> chunks) {
+
+        final List<Account> updatedAccounts = new ArrayList<>();
+
+        final int parallelism = accountProperties.getUpdate().getParallelism();
+        if (parallelism == 1 || chunks.size() < 2) {
+            for (List<Person> chunk : chunks) {
+                updatedAccounts.addAll(turnOfTheYearAccountChunkUpdater.updateAccounts(year, chunk));
+                saveProgress(year, chunk);
+            }
+            return updatedAccounts;
+        }
+
+        final ExecutorService executorService = newFixedThreadPool(Math.min(parallelism, chunks.size()));
+        try {
+            final List<CompletableFuture<List<Account>>> updates = chunks.stream()
+                .map(chunk -> supplyAsync(() -> turnOfTheYearAccountChunkUpdater.updateAccounts(year, chunk), executorService))
+                .toList();
+
+            for (int i = 0; i < chunks.size(); i++) {
+                updatedAccounts.addAll(updates.get(i).join());
+                saveProgress(year, chunks.get(i));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        return updatedAccounts;
+    }
+
+    private void saveProgress(int year, List<Person> updatedChunk) {
+        checkpointRepository.save(new TurnOfTheYearAccountUpdateCheckpointEntity(year, updatedChunk.getLast().getId()));
+        updatedPersons.addAndGet(updatedChunk.size());
+    }
+
+    private List<List<Person>> chunks(List<Person> persons) {
+        final int chunkSize = accountProperties.getUpdate().getChunkSize();
+        final List<List<Person>> chunks = new ArrayList<>();
+        for (int fromIndex = 0; fromIndex < persons.size(); fromIndex += chunkSize) {
+            chunks.add(persons.subList(fromIndex, Math.min(fromIndex + chunkSize, persons.size())));
+        }
+        return chunks;
+    }
+
     /**
      * Sends mail to the tool's manager if holidays accounts were updated successfully on 1st January of a year.
      * (setting remaining vacation days)
@@ -0,0 +1,403 @@
+package org.synyx.urlaubsverwaltung.account;
+
+import org.slf4j.Logger;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.synyx.urlaubsverwaltung.account.VacationDaysService.UsedVacationDaysYear;
+import org.synyx.urlaubsverwaltung.application.application.Application;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationAllowedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationAllowedTemporarilyEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationAppliedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationCancellationRequestedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationCancelledEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationCreatedFromSickNoteEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationDeclinedCancellationRequestEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationRejectedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationRevokedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationUpdatedEvent;
+import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.settings.Settings;
+import org.synyx.urlaubsverwaltung.settings.SettingsService;
+import org.synyx.urlaubsverwaltung.settings.SettingsUpdatedEvent;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteToApplicationConvertedEvent;
+import org.synyx.urlaubsverwaltung.workingtime.FederalState;
+import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountException;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeUpdatedEvent;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Year;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory.HOLIDAY;
+
+/**
+ * Persistent ledger of the used vacation days of every holiday {@link Account}, split at the expiry date of the
+ * account, so that the {@link VacationDaysService} can read the left vacation days of an account with one indexed
+ * query instead of counting the work days of all applications for leave of the year.
+ *
+ * <p>
+ * The ledger is updated incrementally from the application events, the entries of a person are calculated again when
+ * the working times of the person are updated, and the whole ledger is rebuilt when the settings the used vacation
+ * days depend on change. Entries calculated with another expiry date or expiry setting than the current one of the
+ * account are ignored by the {@link VacationDaysService}, as are all entries while a rebuild is requested. Every write
+ * of the entries of a person happens under the lock of the person, so that concurrent writes never overwrite a more
+ * recent calculation with outdated values.
+ * </p>
+ *
+ * <p>
+ * A rebuild is requested in the {@link VacationDaysLedgerStateEntity} shared by all instances, e.g. on startup with
+ * {@code uv.account.vacation-days-ledger.rebuild-on-startup}, and performed in chunks of persons by
+ * {@link #rebuildNextChunk()}, scheduled with {@code uv.account.vacation-days-ledger.rebuild-cron}.
+ * {@link #checkNextChunk(Long)} compares the entries of the previous, current and next year with the applications for
+ * leave and corrects deviating and missing ones, scheduled with {@code uv.account.vacation-days-ledger.check-cron}.
+ * </p>
+ */
+@Component
+@Transactional
+public class VacationDaysLedger {
+
+    private static final Logger LOG = getLogger(lookup().lookupClass());
+
+    private final VacationDaysLedgerRepository vacationDaysLedgerRepository;
+    private final VacationDaysLedgerStateRepository vacationDaysLedgerStateRepository;
+    private final VacationDaysService vacationDaysService;
+    private final AccountService accountService;
+    private final PersonService personService;
+    private final SettingsService settingsService;
+    private final AccountProperties accountProperties;
+    private final Clock clock;
+
+    VacationDaysLedger(VacationDaysLedgerRepository vacationDaysLedgerRepository, VacationDaysLedgerStateRepository vacationDaysLedgerStateRepository,
+                       VacationDaysService vacationDaysService, AccountService accountService, PersonService personService,
+                       SettingsService settingsService, AccountProperties accountProperties, Clock clock) {
+        this.vacationDaysLedgerRepository = vacationDaysLedgerRepository;
+        this.vacationDaysLedgerStateRepository = vacationDaysLedgerStateRepository;
+        this.vacationDaysService = vacationDaysService;
+        this.accountService = accountService;
+        this.personService = personService;
+        this.settingsService = settingsService;
+        this.accountProperties = accountProperties;
+        this.clock = clock;
+    }
+
+    /**
+     * Requests a rebuild of the whole ledger, that is performed in chunks by {@link #rebuildNextChunk()}.
+     * A running rebuild starts over.
+     */
+    public void requestRebuild() {
+        requestRebuild(lockedState(), LedgerSettings.of(settingsService.getSettings()));
+    }
+
+    /**
+     * Calculates the entries of the next chunk of persons again, if a rebuild has been requested: the entries of the
+     * previous, current and next year and all other existing entries of the persons. Every chunk is rebuilt in its
+     * own transaction, the progress is saved in the {@link VacationDaysLedgerStateEntity}.
+     *
+     * @return {@code true} if the rebuild has not finished yet, {@code false} otherwise
+     */
+    public boolean rebuildNextChunk() {
+
+        final VacationDaysLedgerStateEntity state = lockedState();
+        if (!state.isRebuildRequested()) {
+            return false;
+        }
+
+        final Long lastPersonId = state.getLastPersonId();
+        if (lastPersonId == null) {
+            LOG.info("Rebuilding vacation days ledger");
+        }
+
+        final List<Person> persons = nextChunk(lastPersonId);
+        if (persons.isEmpty()) {
+            state.setRebuildRequested(false);
+            state.setLastPersonId(null);
+            LOG.info("Rebuilt vacation days ledger");
+            return false;
+        }
+
+        for (Person person : persons) {
+            update(person, years(), true);
+        }
+
+        state.setLastPersonId(persons.getLast().getId());
+        LOG.info("Rebuilt vacation days ledger entries of {} persons up to id {}", persons.size(), state.getLastPersonId());
+        return true;
+    }
+
+    /**
+     * Calculates the entries of the previous, current and next year of the next chunk of persons again and corrects
+     * the entries deviating from the calculated used vacation days as well as missing entries. The persons of the
+     * chunk are locked, so that a correction never overwrites a concurrent update.
+     *
+     * @param lastPersonId id of the last person of the previous chunk, {@code null} to start with the first chunk
+     * @return id of the last person of the checked chunk, empty if all persons have been checked
+     */
+    public Optional<Long> checkNextChunk(Long lastPersonId) {
+
+        final List<Person> persons = nextChunk(lastPersonId);
+        if (persons.isEmpty()) {
+            return Optional.empty();
+        }
+
+        persons.forEach(personService::lock);
+
+        final Map<Long, VacationDaysLedgerEntity> entryByAccountId = vacationDaysLedgerRepository.findByPersonIn(persons).stream()
+            .collect(toMap(VacationDaysLedgerEntity::getAccountId, identity()));
+
+        int checked = 0;
+        int corrected = 0;
+        for (int year : years()) {
+            for (Account account : accountService.getHolidaysAccount(year, persons)) {
+                checked++;
+                final VacationDaysLedgerEntity entry = entryByAccountId.get(account.getId());
+                final Optional<UsedVacationDaysYear> usedVacationDays = calculate(account);
+                if (usedVacationDays.isEmpty()) {
+                    if (entry != null) {
+                        vacationDaysLedgerRepository.delete(entry);
+                    }
+                } else if (entry == null || !matches(entry, account, usedVacationDays.get())) {
+                    LOG.warn("Correcting vacation days ledger entry {} of account with id={}", entry, account.getId());
+                    vacationDaysLedgerRepository.save(toEntry(entry == null ? new VacationDaysLedgerEntity() : entry, account, usedVacationDays.get()));
+                    corrected++;
+                }
+            }
+        }
+
+        final Long lastCheckedPersonId = persons.getLast().getId();
+        LOG.info("Checked {} vacation days ledger entries of persons up to id {} and corrected {} of them", checked, lastCheckedPersonId, corrected);
+        return Optional.of(lastCheckedPersonId);
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    void requestRebuildOnStartup() {
+        final VacationDaysLedgerStateEntity state = lockedState();
+        final LedgerSettings settings = LedgerSettings.of(settingsService.getSettings());
+        if (accountProperties.getVacationDaysLedger().isRebuildOnStartup()) {
+            requestRebuild(state, settings);
+        } else {
+            requestRebuildIfLedgerSettingsChanged(state, settings);
+        }
+    }
+
+    @EventListener
+    void on(ApplicationAppliedEvent event) {
+        update(event.application());
+    }
+
+    @EventListener
+    void on(ApplicationAllowedEvent event) {
+        update(event.application());
+    }
+
+    @EventListener
+    void on(ApplicationAllowedTemporarilyEvent event) {
+        update(event.application());
+    }
+
+    @EventListener
+    void on(ApplicationRejectedEvent event) {
+        update(event.application());
+    }
+
+    @EventListener
+    void on(ApplicationCancelledEvent event) {
+        update(event.application());
+    }
+
+    @EventListener
+    void on(ApplicationRevokedEvent event) {
+        update(event.application());
+    }
+
+    @EventListener
+    void on(ApplicationCancellationRequestedEvent event) {
+        update(event.application());
+    }
+
+    @EventListener
+    void on(ApplicationDeclinedCancellationRequestEvent event) {
+        update(event.application());
+    }
+
+    @EventListener
+    void on(ApplicationCreatedFromSickNoteEvent event) {
+        update(event.application());
+    }
+
+    @EventListener
+    void on(SickNoteToApplicationConvertedEvent event) {
+        update(event.application());
+    }
+
+    @EventListener
+    void on(ApplicationUpdatedEvent event) {
+        // the previous dates and vacation type of the application are unknown, therefore all entries of the person
+        // are calculated again
+        final Application application = event.application();
+        update(application.getPerson(), years(application), true);
+    }
+
+    @EventListener
+    void on(WorkingTimeUpdatedEvent event) {
+        update(event.person(), years(), true);
+    }
+
+    @EventListener
+    void on(SettingsUpdatedEvent event) {
+        requestRebuildIfLedgerSettingsChanged(lockedState(), LedgerSettings.of(event.settings()));
+    }
+
+    private void requestRebuildIfLedgerSettingsChanged(VacationDaysLedgerStateEntity state, LedgerSettings settings) {
+        if (!settings.equals(LedgerSettings.of(state))) {
+            LOG.info("Settings the vacation days ledger depends on have been changed");
+            requestRebuild(state, settings);
+        }
+    }
+
+    /**
+     * Requests a rebuild and saves the settings it is performed with, so that a change of the settings during the
+     * rebuild requests another one.
+     */
+    private void requestRebuild(VacationDaysLedgerStateEntity state, LedgerSettings settings) {
+        state.setFederalState(settings.federalState());
+        state.setWorkingDurationForChristmasEve(settings.workingDurationForChristmasEve());
+        state.setWorkingDurationForNewYearsEve(settings.workingDurationForNewYearsEve());
+        state.setDoRemainingVacationDaysExpireGlobally(settings.doRemainingVacationDaysExpireGlobally());
+        state.setRebuildRequested(true);
+        state.setLastPersonId(null);
+        LOG.info("Requested rebuild of vacation days ledger");
+    }
+
+    /**
+     * @return the state of the ledger, locked until the end of the transaction to serialize the rebuild requests and
+     * chunks of all instances
+     */
+    private VacationDaysLedgerStateEntity lockedState() {
+        return vacationDaysLedgerStateRepository.findByIdForUpdate(VacationDaysLedgerStateEntity.ID)
+            .orElseThrow(() -> new IllegalStateException("missing state of vacation days ledger"));
+    }
+
+    private List<Person> nextChunk(Long lastPersonId) {
+        return vacationDaysLedgerRepository.findPersonsWithIdGreaterThan(lastPersonId == null ? 0L : lastPersonId,
+            Limit.of(accountProperties.getVacationDaysLedger().getChunkSize()));
+    }
+
+    private void update(Application application) {
+        if (application.getVacationType().getCategory() == HOLIDAY) {
+            update(application.getPerson(), years(application), false);
+        }
+    }
+
+    /**
+     * Calculates the entries of the given years of the given person again. The person is locked, so that concurrent
+     * updates of the same person neither create duplicate entries nor overwrite each other with outdated values.
+     *
+     * @param person              to update the entries of
+     * @param years               to update the entries of
+     * @param withExistingEntries whether all existing entries of the person should be updated, too
+     */
+    private void update(Person person, Set<Integer> years, boolean withExistingEntries) {
+        personService.lock(person);
+
+        final Map<Integer, VacationDaysLedgerEntity> entryByYear = vacationDaysLedgerRepository.findByPerson(person).stream()
+            .collect(toMap(VacationDaysLedgerEntity::getYear, identity()));
+
+        final Set<Integer> yearsToUpdate = new TreeSet<>(years);
+        if (withExistingEntries) {
+            yearsToUpdate.addAll(entryByYear.keySet());
+        }
+
+        for (int year : yearsToUpdate) {
+            final VacationDaysLedgerEntity entry = entryByYear.get(year);
+            final Optional<Account> account = accountService.getHolidaysAccount(year, person);
+            final Optional<UsedVacationDaysYear> usedVacationDays = account.flatMap(this::calculate);
+            if (usedVacationDays.isPresent()) {
+                vacationDaysLedgerRepository.save(toEntry(entry == null ? new VacationDaysLedgerEntity() : entry, account.get(), usedVacationDays.get()));
+            } else if (entry != null) {
+                vacationDaysLedgerRepository.delete(entry);
+            }
+        }
+    }
+
+    private Optional<UsedVacationDaysYear> calculate(Account account) {
+        try {
+            return Optional.of(vacationDaysService.calculateUsedVacationDays(account));
+        } catch (WorkDaysCountException e) {
+            LOG.info("Could not calculate used vacation days of account with id={}: {}", account.getId(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Set<Integer> years() {
+        final int currentYear = Year.now(clock).getValue();
+        return Set.of(currentYear - 1, currentYear, currentYear + 1);
+    }
+
+    private static Set<Integer> years(Application application) {
+        final Set<Integer> years = new TreeSet<>();
+        for (int year = application.getStartDate().getYear(); year <= application.getEndDate().getYear(); year++) {
+            years.add(year);
+        }
+        return years;
+    }
+
+    private static boolean matches(VacationDaysLedgerEntity entry, Account account, UsedVacationDaysYear usedVacationDays) {
+        return entry.isCalculatedFor(account)
+            && equal(entry.getUsedVacationDaysBeforeExpiryDate(), usedVacationDays.getUsedVacationDaysBeforeExpiryDate())
+            && equal(entry.getUsedVacationDaysAfterExpiryDate(), usedVacationDays.getUsedVacationDaysAfterExpiryDate());
+    }
+
+    private static boolean equal(BigDecimal value, BigDecimal other) {
+        return value != null && other != null && value.compareTo(other) == 0;
+    }
+
+    private static VacationDaysLedgerEntity toEntry(VacationDaysLedgerEntity entry, Account account, UsedVacationDaysYear usedVacationDays) {
+        entry.setAccountId(account.getId());
+        entry.setPerson(account.getPerson());
+        entry.setYear(account.getYear());
+        entry.setExpiryDate(account.getExpiryDate());
+        entry.setRemainingVacationDaysExpire(account.doRemainingVacationDaysExpire());
+        entry.setUsedVacationDaysBeforeExpiryDate(usedVacationDays.getUsedVacationDaysBeforeExpiryDate());
+        entry.setUsedVacationDaysAfterExpiryDate(usedVacationDays.getUsedVacationDaysAfterExpiryDate());
+        return entry;
+    }
+
+    /**
+     * The parts of the {@link Settings} the used vacation days depend on.
+     */
+    private record LedgerSettings(FederalState federalState, DayLength workingDurationForChristmasEve,
+                                  DayLength workingDurationForNewYearsEve, Boolean doRemainingVacationDaysExpireGlobally) {
+
+        static LedgerSettings of(Settings settings) {
+            return new LedgerSettings(
+                settings.getWorkingTimeSettings().getFederalState(),
+                settings.getWorkingTimeSettings().getWorkingDurationForChristmasEve(),
+                settings.getWorkingTimeSettings().getWorkingDurationForNewYearsEve(),
+                settings.getAccountSettings().isDoRemainingVacationDaysExpireGlobally()
+            );
+        }
+
+        static LedgerSettings of(VacationDaysLedgerStateEntity state) {
+            return new LedgerSettings(
+                state.getFederalState(),
+                state.getWorkingDurationForChristmasEve(),
+                state.getWorkingDurationForNewYearsEve(),
+                state.getDoRemainingVacationDaysExpireGlobally()
+            );
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.synyx.urlaubsverwaltung.account;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.synyx.urlaubsverwaltung.config.ScheduleLocking;
+
+import java.util.Optional;
+
+@Configuration
+public class VacationDaysLedgerConfiguration implements SchedulingConfigurer {
+
+    private final AccountProperties accountProperties;
+    private final VacationDaysLedger vacationDaysLedger;
+    private final ScheduleLocking scheduleLocking;
+    private final ThreadPoolTaskScheduler taskScheduler;
+
+    @Autowired
+    VacationDaysLedgerConfiguration(AccountProperties accountProperties, VacationDaysLedger vacationDaysLedger, ScheduleLocking scheduleLocking, ThreadPoolTaskScheduler taskScheduler) {
+        this.accountProperties = accountProperties;
+        this.vacationDaysLedger = vacationDaysLedger;
+        this.scheduleLocking = scheduleLocking;
+        this.taskScheduler = taskScheduler;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.setScheduler(taskScheduler);
+        taskRegistrar.addCronTask(
+            scheduleLocking.withLock("RebuildVacationDaysLedger", this::rebuild),
+            accountProperties.getVacationDaysLedger().getRebuildCron()
+        );
+        taskRegistrar.addCronTask(
+            scheduleLocking.withLock("CheckVacationDaysLedger", this::check),
+            accountProperties.getVacationDaysLedger().getCheckCron()
+        );
+    }
+
+    private void rebuild() {
+        // every chunk is rebuilt in its own transaction
+        boolean rebuilding = true;
+        while (rebuilding) {
+            rebuilding = vacationDaysLedger.rebuildNextChunk();
+        }
+    }
+
+    private void check() {
+        // every chunk is checked in its own transaction
+        Optional<Long> lastPersonId = vacationDaysLedger.checkNextChunk(null);
+        while (lastPersonId.isPresent()) {
+            lastPersonId = vacationDaysLedger.checkNextChunk(lastPersonId.get());
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package org.synyx.urlaubsverwaltung.account;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+
+import static jakarta.persistence.GenerationType.SEQUENCE;
+
+/**
+ * The used vacation days of one holiday {@link Account}, split at the expiry date of the account.
+ * Maintained by the {@link VacationDaysLedger}.
+ */
+@Entity
+@Table(name = "vacation_days_ledger")
+class VacationDaysLedgerEntity {
+
+    @Id
+    @Column(name = "id", unique = true, nullable = false, updatable = false)
+    @GeneratedValue(strategy = SEQUENCE, generator = "vacation_days_ledger_generator")
+    @SequenceGenerator(name = "vacation_days_ledger_generator", sequenceName = "vacation_days_ledger_id_seq")
+    private Long id;
+
+    @Column(nullable = false, unique = true, updatable = false)
+    private Long accountId;
+
+    @ManyToOne
+    private Person person;
+
+    @Column(name = "account_year", nullable = false, updatable = false)
+    private int year;
+
+    /**
+     * Expiry date of the account the used vacation days have been calculated with
+     */
+    @Column(nullable = false)
+    private LocalDate expiryDate;
+
+    /**
+     * Whether the remaining vacation days of the account expired when the used vacation days have been calculated
+     */
+    @Column(nullable = false)
+    private boolean remainingVacationDaysExpire;
+
+    @Column(nullable = false)
+    private BigDecimal usedVacationDaysBeforeExpiryDate;
+
+    @Column(nullable = false)
+    private BigDecimal usedVacationDaysAfterExpiryDate;
+
+    /**
+     * @param account to check
+     * @return {@code true} if the used vacation days have been calculated with the current expiry date and expiry
+     * setting of the given account, {@code false} otherwise
+     */
+    boolean isCalculatedFor(Account account) {
+        return Objects.equals(accountId, account.getId())
+            && Objects.equals(expiryDate, account.getExpiryDate())
+            && remainingVacationDaysExpire == account.doRemainingVacationDaysExpire();
+    }
+
+    Long getId() {
+        return id;
+    }
+
+    void setId(Long id) {
+        this.id = id;
+    }
+
+    Long getAccountId() {
+        return accountId;
+    }
+
+    void setAccountId(Long accountId) {
+        this.accountId = accountId;
+    }
+
+    Person getPerson() {
+        return person;
+    }
+
+    void setPerson(Person person) {
+        this.person = person;
+    }
+
+    int getYear() {
+        return year;
+    }
+
+    void setYear(int year) {
+        this.year = year;
+    }
+
+    LocalDate getExpiryDate() {
+        return expiryDate;
+    }
+
+    void setExpiryDate(LocalDate expiryDate) {
+        this.expiryDate = expiryDate;
+    }
+
+    boolean isRemainingVacationDaysExpire() {
+        return remainingVacationDaysExpire;
+    }
+
+    void setRemainingVacationDaysExpire(boolean remainingVacationDaysExpire) {
+        this.remainingVacationDaysExpire = remainingVacationDaysExpire;
+    }
+
+    BigDecimal getUsedVacationDaysBeforeExpiryDate() {
+        return usedVacationDaysBeforeExpiryDate;
+    }
+
+    void setUsedVacationDaysBeforeExpiryDate(BigDecimal usedVacationDaysBeforeExpiryDate) {
+        this.usedVacationDaysBeforeExpiryDate = usedVacationDaysBeforeExpiryDate;
+    }
+
+    BigDecimal getUsedVacationDaysAfterExpiryDate() {
+        return usedVacationDaysAfterExpiryDate;
+    }
+
+    void setUsedVacationDaysAfterExpiryDate(BigDecimal usedVacationDaysAfterExpiryDate) {
+        this.usedVacationDaysAfterExpiryDate = usedVacationDaysAfterExpiryDate;
+    }
+
+    @Override
+    public String toString() {
+        return "VacationDaysLedgerEntity{" +
+            "id=" + id +
+            ", accountId=" + accountId +
+            ", person=" + person +
+            ", year=" + year +
+            ", expiryDate=" + expiryDate +
+            ", remainingVacationDaysExpire=" + remainingVacationDaysExpire +
+            ", usedVacationDaysBeforeExpiryDate=" + usedVacationDaysBeforeExpiryDate +
+            ", usedVacationDaysAfterExpiryDate=" + usedVacationDaysAfterExpiryDate +
+            '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final VacationDaysLedgerEntity that = (VacationDaysLedgerEntity) o;
+        return null != this.getId() && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
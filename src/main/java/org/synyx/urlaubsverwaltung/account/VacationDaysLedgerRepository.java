@@ -0,0 +1,36 @@
+package org.synyx.urlaubsverwaltung.account;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for {@link VacationDaysLedgerEntity} entities.
+ */
+interface VacationDaysLedgerRepository extends CrudRepository<VacationDaysLedgerEntity, Long> {
+
+    /**
+     * @return the entry of the account, unless a rebuild of the ledger has been requested and the entry may be outdated
+     */
+    @Query("""
+        SELECT l FROM VacationDaysLedgerEntity l
+        WHERE l.accountId = :accountId
+        AND NOT EXISTS (SELECT s FROM VacationDaysLedgerStateEntity s WHERE s.rebuildRequested = true)
+        """)
+    Optional<VacationDaysLedgerEntity> findCompleteByAccountId(@Param("accountId") Long accountId);
+
+    List<VacationDaysLedgerEntity> findByPerson(Person person);
+
+    List<VacationDaysLedgerEntity> findByPersonIn(List<Person> persons);
+
+    /**
+     * @return the next persons ordered by id after the person with the given id, to rebuild and check the ledger in chunks of persons
+     */
+    @Query("SELECT p FROM Person p WHERE p.id > :personId ORDER BY p.id")
+    List<Person> findPersonsWithIdGreaterThan(@Param("personId") Long personId, Limit limit);
+}
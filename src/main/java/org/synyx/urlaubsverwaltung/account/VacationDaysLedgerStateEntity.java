@@ -0,0 +1,130 @@
+package org.synyx.urlaubsverwaltung.account;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.workingtime.FederalState;
+
+import java.util.Objects;
+
+import static jakarta.persistence.EnumType.STRING;
+
+/**
+ * State of the {@link VacationDaysLedger}, shared by all instances: the settings the entries of the ledger have been
+ * calculated with, and the progress of a requested rebuild. The entries of all persons up to and including
+ * {@link #getLastPersonId()} have been calculated again by the running rebuild.
+ */
+@Entity
+@Table(name = "vacation_days_ledger_state")
+class VacationDaysLedgerStateEntity {
+
+    static final Long ID = 1L;
+
+    @Id
+    @Column(name = "id", unique = true, nullable = false, updatable = false)
+    private Long id;
+
+    @Enumerated(STRING)
+    private FederalState federalState;
+
+    @Enumerated(STRING)
+    private DayLength workingDurationForChristmasEve;
+
+    @Enumerated(STRING)
+    private DayLength workingDurationForNewYearsEve;
+
+    private Boolean doRemainingVacationDaysExpireGlobally;
+
+    @Column(nullable = false)
+    private boolean rebuildRequested;
+
+    private Long lastPersonId;
+
+    Long getId() {
+        return id;
+    }
+
+    void setId(Long id) {
+        this.id = id;
+    }
+
+    FederalState getFederalState() {
+        return federalState;
+    }
+
+    void setFederalState(FederalState federalState) {
+        this.federalState = federalState;
+    }
+
+    DayLength getWorkingDurationForChristmasEve() {
+        return workingDurationForChristmasEve;
+    }
+
+    void setWorkingDurationForChristmasEve(DayLength workingDurationForChristmasEve) {
+        this.workingDurationForChristmasEve = workingDurationForChristmasEve;
+    }
+
+    DayLength getWorkingDurationForNewYearsEve() {
+        return workingDurationForNewYearsEve;
+    }
+
+    void setWorkingDurationForNewYearsEve(DayLength workingDurationForNewYearsEve) {
+        this.workingDurationForNewYearsEve = workingDurationForNewYearsEve;
+    }
+
+    Boolean getDoRemainingVacationDaysExpireGlobally() {
+        return doRemainingVacationDaysExpireGlobally;
+    }
+
+    void setDoRemainingVacationDaysExpireGlobally(Boolean doRemainingVacationDaysExpireGlobally) {
+        this.doRemainingVacationDaysExpireGlobally = doRemainingVacationDaysExpireGlobally;
+    }
+
+    boolean isRebuildRequested() {
+        return rebuildRequested;
+    }
+
+    void setRebuildRequested(boolean rebuildRequested) {
+        this.rebuildRequested = rebuildRequested;
+    }
+
+    Long getLastPersonId() {
+        return lastPersonId;
+    }
+
+    void setLastPersonId(Long lastPersonId) {
+        this.lastPersonId = lastPersonId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final VacationDaysLedgerStateEntity that = (VacationDaysLedgerStateEntity) o;
+        return null != this.getId() && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "VacationDaysLedgerStateEntity{" +
+            "federalState=" + federalState +
+            ", workingDurationForChristmasEve=" + workingDurationForChristmasEve +
+            ", workingDurationForNewYearsEve=" + workingDurationForNewYearsEve +
+            ", doRemainingVacationDaysExpireGlobally=" + doRemainingVacationDaysExpireGlobally +
+            ", rebuildRequested=" + rebuildRequested +
+            ", lastPersonId=" + lastPersonId +
+            '}';
+    }
+}
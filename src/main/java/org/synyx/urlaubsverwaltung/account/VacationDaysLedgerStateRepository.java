@@ -0,0 +1,19 @@
+package org.synyx.urlaubsverwaltung.account;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+/**
+ * Repository for the {@link VacationDaysLedgerStateEntity}.
+ */
+interface VacationDaysLedgerStateRepository extends CrudRepository<VacationDaysLedgerStateEntity, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from VacationDaysLedgerStateEntity s where s.id = :id")
+    Optional<VacationDaysLedgerStateEntity> findByIdForUpdate(@Param("id") Long id);
+}
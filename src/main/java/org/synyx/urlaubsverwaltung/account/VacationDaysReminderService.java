@@ -4,22 +4,28 @@ import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.mail.Mail;
 import org.synyx.urlaubsverwaltung.mail.MailService;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendarService;
 
 import java.math.BigDecimal;
 import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.Year;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 import static java.lang.invoke.MethodHandles.lookup;
 import static java.math.BigDecimal.ZERO;
+import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
 import static org.slf4j.LoggerFactory.getLogger;
 
 @Service
@@ -27,18 +33,25 @@ public class VacationDaysReminderService {
 
     private static final Logger LOG = getLogger(lookup().lookupClass());
 
+    /**
+     * Number of persons whose holiday accounts, applications for leave and working times are loaded at once
+     */
+    private static final int PERSONS_PER_CHUNK = 500;
+
     private final PersonService personService;
     private final AccountService accountService;
     private final VacationDaysService vacationDaysService;
+    private final WorkingTimeCalendarService workingTimeCalendarService;
     private final MailService mailService;
     private final Clock clock;
 
     @Autowired
     VacationDaysReminderService(PersonService personService, AccountService accountService, VacationDaysService vacationDaysService,
-                                MailService mailService, Clock clock) {
+                                WorkingTimeCalendarService workingTimeCalendarService, MailService mailService, Clock clock) {
         this.personService = personService;
         this.accountService = accountService;
         this.vacationDaysService = vacationDaysService;
+        this.workingTimeCalendarService = workingTimeCalendarService;
         this.mailService = mailService;
         this.clock = clock;
     }
@@ -48,20 +61,41 @@ public class VacationDaysReminderService {
      */
     @Async
     void remindForCurrentlyLeftVacationDays() {
-        final int year = Year.now(clock).getValue();
+        final Instant start = Instant.now(clock);
+        final LocalDate today = LocalDate.now(clock);
+        final Year year = Year.from(today);
+        final DateRange dateRange = yearDateRange(year);
+
         final List<Person> persons = personService.getActivePersons();
+        int remindedPersons = 0;
+
+        for (List<Person> personsOfChunk : chunks(persons)) {
+            final List<Account> accounts = holidayAccountsWithExpiringRemainingVacationDays(year, personsOfChunk);
+            if (accounts.isEmpty()) {
+                continue;
+            }
 
-        for (Person person : persons) {
-            accountService.getHolidaysAccount(year, person)
-                .filter(Account::doRemainingVacationDaysExpire)
-                .ifPresent(account -> {
-                    final BigDecimal vacationDaysLeft = vacationDaysService.calculateTotalLeftVacationDays(account);
-                    if (vacationDaysLeft.compareTo(ZERO) > 0) {
-                        sendReminderForCurrentlyLeftVacationDays(person, vacationDaysLeft, year + 1);
-                        LOG.info("Reminded person with id {} for {} currently left vacation days", person.getId(), vacationDaysLeft);
-                    }
-                });
+            final Map<Person, WorkingTimeCalendar> workingTimeCalendarsByPerson = workingTimeCalendarService.getWorkingTimesByPersons(personsOf(accounts), dateRange);
+            final Map<Account, HolidayAccountVacationDays> vacationDaysByAccount = vacationDaysService.getVacationDaysLeft(accounts, workingTimeCalendarsByPerson, dateRange);
+
+            final List<Mail> mails = new ArrayList<>();
+            for (Account account : accounts) {
+                final Person person = account.getPerson();
+                final BigDecimal vacationDaysLeft = vacationDaysByAccount.get(account).vacationDaysYear()
+                    .getLeftVacationDays(today, account.doRemainingVacationDaysExpire(), account.getExpiryDate());
+
+                if (vacationDaysLeft.compareTo(ZERO) > 0) {
+                    mails.add(reminderForCurrentlyLeftVacationDays(person, vacationDaysLeft, year.getValue() + 1));
+                    LOG.info("Reminded person with id {} for {} currently left vacation days", person.getId(), vacationDaysLeft);
+                }
+            }
+
+            sendAll(mails);
+            remindedPersons += mails.size();
         }
+
+        LOG.info("Reminded {} of {} active persons for currently left vacation days in {} ms",
+            remindedPersons, persons.size(), Duration.between(start, Instant.now(clock)).toMillis());
     }
 
     /**
@@ -70,26 +104,40 @@ public class VacationDaysReminderService {
      */
     @Async
     void remindForRemainingVacationDays() {
-        final int year = Year.now(clock).getValue();
+        final Instant start = Instant.now(clock);
+        final Year year = Year.now(clock);
+
         final List<Person> persons = personService.getActivePersons();
+        int remindedPersons = 0;
 
-        for (Person person : persons) {
+        for (List<Person> personsOfChunk : chunks(persons)) {
+            final List<Account> accounts = holidayAccountsWithExpiringRemainingVacationDays(year, personsOfChunk);
+            if (accounts.isEmpty()) {
+                continue;
+            }
 
-            accountService.getHolidaysAccount(year, person)
-                .filter(Account::doRemainingVacationDaysExpire)
-                .ifPresent(account -> {
-                    final Optional<Account> accountOfNextYear = accountService.getHolidaysAccount(year + 1, person);
-                    final VacationDaysLeft vacationDaysLeft = vacationDaysService.getVacationDaysLeft(account, accountOfNextYear);
+            final Map<Account, VacationDaysLeft> vacationDaysLeftByAccount = vacationDaysLeftConsideringNextYear(year, accounts);
 
-                    final BigDecimal remainingVacationDaysLeft = vacationDaysLeft.getRemainingVacationDays()
-                        .subtract(vacationDaysLeft.getRemainingVacationDaysNotExpiring());
+            final List<Mail> mails = new ArrayList<>();
+            for (Account account : accounts) {
+                final Person person = account.getPerson();
+                final VacationDaysLeft vacationDaysLeft = vacationDaysLeftByAccount.get(account);
 
-                    if (remainingVacationDaysLeft.compareTo(ZERO) > 0) {
-                        sendReminderForRemainingVacationDaysNotification(person, remainingVacationDaysLeft, account.getExpiryDate().minusDays(1));
-                        LOG.info("Reminded person with id {} for {} remaining vacation days in year {}.", person.getId(), remainingVacationDaysLeft, year);
-                    }
-                });
+                final BigDecimal remainingVacationDaysLeft = vacationDaysLeft.getRemainingVacationDays()
+                    .subtract(vacationDaysLeft.getRemainingVacationDaysNotExpiring());
+
+                if (remainingVacationDaysLeft.compareTo(ZERO) > 0) {
+                    mails.add(reminderForRemainingVacationDaysNotification(person, remainingVacationDaysLeft, account.getExpiryDate().minusDays(1)));
+                    LOG.info("Reminded person with id {} for {} remaining vacation days in year {}.", person.getId(), remainingVacationDaysLeft, year);
+                }
+            }
+
+            sendAll(mails);
+            remindedPersons += mails.size();
         }
+
+        LOG.info("Reminded {} of {} active persons for remaining vacation days in {} ms",
+            remindedPersons, persons.size(), Duration.between(start, Instant.now(clock)).toMillis());
     }
 
     /**
@@ -97,72 +145,124 @@ public class VacationDaysReminderService {
      */
     @Async
     void notifyForExpiredRemainingVacationDays() {
+        final Instant start = Instant.now(clock);
         final LocalDate now = LocalDate.now(clock);
-        final int year = now.getYear();
+        final Year year = Year.from(now);
 
         final List<Person> persons = personService.getActivePersons();
-        for (Person person : persons) {
-            accountService.getHolidaysAccount(year, person)
-                .filter(Account::doRemainingVacationDaysExpire)
-                .ifPresent(account -> {
-                    final LocalDate expiryDate = account.getExpiryDate();
-                    if (account.getExpiryNotificationSentDate() == null && (now.isEqual(expiryDate) || now.isAfter(expiryDate))) {
-
-                        final Optional<Account> accountOfNextYear = accountService.getHolidaysAccount(year + 1, person);
-                        final VacationDaysLeft vacationDaysLeft = vacationDaysService.getVacationDaysLeft(account, accountOfNextYear);
-
-                        final BigDecimal expiredRemainingVacationDays = vacationDaysLeft.getRemainingVacationDays()
-                            .subtract(vacationDaysLeft.getRemainingVacationDaysNotExpiring());
-                        if (expiredRemainingVacationDays.compareTo(ZERO) > 0) {
-                            final BigDecimal totalLeftVacationDays = vacationDaysService.calculateTotalLeftVacationDays(account);
-
-                            sendNotificationForExpiredRemainingVacationDays(person, expiredRemainingVacationDays, totalLeftVacationDays, vacationDaysLeft.getRemainingVacationDaysNotExpiring(), account.getExpiryDate());
-                            LOG.info("Notified person with id {} for {} expired remaining vacation days in year {}.", person.getId(), expiredRemainingVacationDays, year);
-
-                            account.setExpiryNotificationSentDate(now);
-                            accountService.save(account);
-                        }
-                    }
-                });
+        int notifiedPersons = 0;
+
+        for (List<Person> personsOfChunk : chunks(persons)) {
+            final List<Account> accounts = holidayAccountsWithExpiringRemainingVacationDays(year, personsOfChunk).stream()
+                .filter(account -> account.getExpiryNotificationSentDate() == null && !now.isBefore(account.getExpiryDate()))
+                .toList();
+            if (accounts.isEmpty()) {
+                continue;
+            }
+
+            final Map<Account, VacationDaysLeft> vacationDaysLeftByAccount = vacationDaysLeftConsideringNextYear(year, accounts);
+
+            final List<Mail> mails = new ArrayList<>();
+            for (Account account : accounts) {
+                final Person person = account.getPerson();
+                final VacationDaysLeft vacationDaysLeft = vacationDaysLeftByAccount.get(account);
+
+                final BigDecimal expiredRemainingVacationDays = vacationDaysLeft.getRemainingVacationDays()
+                    .subtract(vacationDaysLeft.getRemainingVacationDaysNotExpiring());
+                if (expiredRemainingVacationDays.compareTo(ZERO) > 0) {
+                    // the total left vacation days of the year do not consider the vacation days already used in the next year
+                    final BigDecimal totalLeftVacationDays = vacationDaysLeft.getLeftVacationDays(now, account.doRemainingVacationDaysExpire(), account.getExpiryDate())
+                        .add(vacationDaysLeft.getVacationDaysUsedNextYear());
+
+                    mails.add(notificationForExpiredRemainingVacationDays(person, expiredRemainingVacationDays, totalLeftVacationDays, vacationDaysLeft.getRemainingVacationDaysNotExpiring(), account.getExpiryDate()));
+                    LOG.info("Notified person with id {} for {} expired remaining vacation days in year {}.", person.getId(), expiredRemainingVacationDays, year);
+
+                    account.setExpiryNotificationSentDate(now);
+                    accountService.save(account);
+                }
+            }
+
+            sendAll(mails);
+            notifiedPersons += mails.size();
+        }
+
+        LOG.info("Notified {} of {} active persons for expired remaining vacation days in {} ms",
+            notifiedPersons, persons.size(), Duration.between(start, Instant.now(clock)).toMillis());
+    }
+
+    private List<Account> holidayAccountsWithExpiringRemainingVacationDays(Year year, List<Person> persons) {
+        return accountService.getHolidaysAccount(year.getValue(), persons).stream()
+            .filter(Account::doRemainingVacationDaysExpire)
+            .toList();
+    }
+
+    private Map<Account, VacationDaysLeft> vacationDaysLeftConsideringNextYear(Year year, List<Account> accounts) {
+        final List<Person> persons = personsOf(accounts);
+        final List<Account> accountsOfNextYear = accountService.getHolidaysAccount(year.getValue() + 1, persons);
+
+        final DateRange dateRange = new DateRange(year.atDay(1), year.plusYears(1).atDay(1).with(lastDayOfYear()));
+        final Map<Person, WorkingTimeCalendar> workingTimeCalendarsByPerson = workingTimeCalendarService.getWorkingTimesByPersons(persons, dateRange);
+
+        return vacationDaysService.getVacationDaysLeft(accounts, accountsOfNextYear, workingTimeCalendarsByPerson);
+    }
+
+    private void sendAll(List<Mail> mails) {
+        if (!mails.isEmpty()) {
+            mailService.sendAll(mails);
         }
     }
 
-    private void sendReminderForCurrentlyLeftVacationDays(Person person, BigDecimal vacationDaysLeft, int nextYear) {
+    private static List<Person> personsOf(List<Account> accounts) {
+        return accounts.stream().map(Account::getPerson).distinct().toList();
+    }
+
+    private static List<List<Person>> chunks(List<Person> persons) {
+        final List<List<Person>> chunks = new ArrayList<>();
+        for (int fromIndex = 0; fromIndex < persons.size(); fromIndex += PERSONS_PER_CHUNK) {
+            chunks.add(persons.subList(fromIndex, Math.min(fromIndex + PERSONS_PER_CHUNK, persons.size())));
+        }
+        return chunks;
+    }
+
+    private static DateRange yearDateRange(Year year) {
+        return new DateRange(year.atDay(1), year.atDay(1).with(lastDayOfYear()));
+    }
+
+    private Mail reminderForCurrentlyLeftVacationDays(Person person, BigDecimal vacationDaysLeft, int nextYear) {
         final Map<String, Object> model = new HashMap<>();
         model.put("vacationDaysLeft", vacationDaysLeft);
         model.put("nextYear", nextYear);
 
-        sendMail(person, "subject.account.remindForCurrentlyLeftVacationDays", "account_cron_currently_left_vacation_days", model);
+        return mail(person, "subject.account.remindForCurrentlyLeftVacationDays", "account_cron_currently_left_vacation_days", model);
     }
 
-    private void sendReminderForRemainingVacationDaysNotification(Person person, BigDecimal remainingVacationDays, LocalDate dayBeforeExpiryDate) {
+    private Mail reminderForRemainingVacationDaysNotification(Person person, BigDecimal remainingVacationDays, LocalDate dayBeforeExpiryDate) {
         final Map<String, Object> model = new HashMap<>();
         model.put("remainingVacationDays", remainingVacationDays);
         model.put("dayBeforeExpiryDate", dayBeforeExpiryDate);
 
-        sendMail(person, "subject.account.remindForRemainingVacationDays", "account_cron_remind_remaining_vacation_days", model);
+        return mail(person, "subject.account.remindForRemainingVacationDays", "account_cron_remind_remaining_vacation_days", model);
     }
 
-    private void sendNotificationForExpiredRemainingVacationDays(Person person, BigDecimal expiredRemainingVacationDays, BigDecimal totalLeftVacationDays, BigDecimal remainingVacationDaysNotExpiring, LocalDate expiryDate) {
+    private Mail notificationForExpiredRemainingVacationDays(Person person, BigDecimal expiredRemainingVacationDays, BigDecimal totalLeftVacationDays, BigDecimal remainingVacationDaysNotExpiring, LocalDate expiryDate) {
         final Map<String, Object> model = new HashMap<>();
         model.put("expiredRemainingVacationDays", expiredRemainingVacationDays);
         model.put("totalLeftVacationDays", totalLeftVacationDays);
         model.put("remainingVacationDaysNotExpiring", remainingVacationDaysNotExpiring);
         model.put("expiryDate", expiryDate);
 
-        sendMail(person, "subject.account.notifyForExpiredRemainingVacationDays", "account_cron_expired_remaining_vacation_days", model);
+        return mail(person, "subject.account.notifyForExpiredRemainingVacationDays", "account_cron_expired_remaining_vacation_days", model);
     }
 
-    private void sendMail(Person person, String subjectMessageKey, String templateName, Map<String, Object> model) {
+    private static Mail mail(Person person, String subjectMessageKey, String templateName, Map<String, Object> model) {
 
         model.put("recipientNiceName", person.getNiceName());
         model.put("personId", person.getId());
 
-        final Mail mailToPerson = Mail.builder()
+        return Mail.builder()
             .withRecipient(person)
             .withSubject(subjectMessageKey)
             .withTemplate(templateName, locale -> model)
             .build();
-        mailService.send(mailToPerson);
     }
 }
@@ -15,6 +15,7 @@ import java.math.RoundingMode;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.time.Year;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -44,12 +45,15 @@ public class VacationDaysService {
 
     private final WorkDaysCountService workDaysCountService;
     private final ApplicationService applicationService;
+    private final VacationDaysLedgerRepository vacationDaysLedgerRepository;
     private final Clock clock;
 
     @Autowired
-    public VacationDaysService(WorkDaysCountService workDaysCountService, ApplicationService applicationService, Clock clock) {
+    public VacationDaysService(WorkDaysCountService workDaysCountService, ApplicationService applicationService,
+                               VacationDaysLedgerRepository vacationDaysLedgerRepository, Clock clock) {
         this.workDaysCountService = workDaysCountService;
         this.applicationService = applicationService;
+        this.vacationDaysLedgerRepository = vacationDaysLedgerRepository;
         this.clock = clock;
     }
 
@@ -65,13 +69,7 @@ public class VacationDaysService {
      */
     BigDecimal calculateTotalLeftVacationDays(Account account) {
         final LocalDate today = LocalDate.now(clock);
-        final LocalDate firstDayOfYear = Year.of(account.getYear()).atDay(1);
-        final LocalDate lastDayOfYear = firstDayOfYear.with(lastDayOfYear());
-        return calculateTotalLeftVacationDays(firstDayOfYear, lastDayOfYear, today, account);
-    }
-
-    private BigDecimal calculateTotalLeftVacationDays(LocalDate start, LocalDate end, LocalDate today, Account account) {
-        return getVacationDaysLeft(start, end, account)
+        return getVacationDaysLeft(account, Optional.empty())
             .getLeftVacationDays(today, account.doRemainingVacationDaysExpire(), account.getExpiryDate());
     }
 
@@ -87,9 +85,119 @@ public class VacationDaysService {
      */
     @Deprecated(since = "4.53.0")
     public VacationDaysLeft getVacationDaysLeft(Account account, Optional<Account> nextYear) {
-        final LocalDate firstDayOfYear = Year.of(account.getYear()).atDay(1);
-        final LocalDate lastDayOfYear = firstDayOfYear.with(lastDayOfYear());
-        return getVacationDaysLeft(firstDayOfYear, lastDayOfYear, account, nextYear);
+
+        final BigDecimal usedVacationDaysNextYear = nextYear
+            .map(this::getUsedRemainingVacationDays)
+            .orElse(ZERO);
+
+        return vacationDaysLeft(account, getUsedVacationDays(account), usedVacationDaysNextYear);
+    }
+
+    /**
+     * Batch version of {@link VacationDaysService#getVacationDaysLeft(Account, Optional)} for the holiday accounts of
+     * many persons, that loads the applications for leave of all persons with one query per year.
+     *
+     * @param holidayAccounts              {@link Account}s of one year to calculate the vacation days left for
+     * @param holidayAccountsOfNextYear    {@link Account}s of the following year, used to adjust for the remaining
+     *                                     vacation days carried over to the following year and used there
+     * @param workingTimeCalendarsByPerson {@link WorkingTimeCalendar}s of the {@link Account}s persons covering the
+     *                                     year of the holiday accounts and the following year
+     * @return the vacation days left for the whole year of every passed {@link Account}
+     */
+    public Map<Account, VacationDaysLeft> getVacationDaysLeft(List<Account> holidayAccounts, List<Account> holidayAccountsOfNextYear,
+                                                             Map<Person, WorkingTimeCalendar> workingTimeCalendarsByPerson) {
+        if (holidayAccounts.isEmpty()) {
+            return Map.of();
+        }
+
+        final Year year = Year.of(holidayAccounts.get(0).getYear());
+        final Year nextYear = year.plusYears(1);
+
+        final List<Account> holidayAccountsOfYear = holidayAccounts.stream().filter(account -> account.getYear() == year.getValue()).toList();
+        final List<Account> holidayAccountsOfFollowingYear = holidayAccountsOfNextYear.stream().filter(account -> account.getYear() == nextYear.getValue()).toList();
+
+        final Map<Person, BigDecimal> usedRemainingVacationDaysNextYearByPerson = new HashMap<>();
+        if (!holidayAccountsOfFollowingYear.isEmpty()) {
+            getUsedVacationDays(holidayAccountsOfFollowingYear, yearDateRange(nextYear), workingTimeCalendarsByPerson).forEach((account, usedVacationDays) -> {
+                final VacationDaysLeft vacationDaysLeft = vacationDaysLeft(account, usedVacationDays.getUsedVacationDaysYear(), ZERO);
+                usedRemainingVacationDaysNextYearByPerson.put(account.getPerson(), usedRemainingVacationDays(account, vacationDaysLeft));
+            });
+        }
+
+        final Map<Account, VacationDaysLeft> vacationDaysLeftByAccount = new HashMap<>();
+        getUsedVacationDays(holidayAccountsOfYear, yearDateRange(year), workingTimeCalendarsByPerson).forEach((account, usedVacationDays) -> {
+            final BigDecimal usedVacationDaysNextYear = usedRemainingVacationDaysNextYearByPerson.getOrDefault(account.getPerson(), ZERO);
+            vacationDaysLeftByAccount.put(account, vacationDaysLeft(account, usedVacationDays.getUsedVacationDaysYear(), usedVacationDaysNextYear));
+        });
+
+        return vacationDaysLeftByAccount;
+    }
+
+    private static VacationDaysLeft vacationDaysLeft(Account account, UsedVacationDaysYear usedVacationDays, BigDecimal usedVacationDaysNextYear) {
+        return VacationDaysLeft.builder()
+            .withAnnualVacation(account.getActualVacationDays())
+            .withRemainingVacation(account.getRemainingVacationDays())
+            .notExpiring(account.getRemainingVacationDaysNotExpiring())
+            .forUsedVacationDaysBeforeExpiry(usedVacationDays.getUsedVacationDaysBeforeExpiryDate())
+            .forUsedVacationDaysAfterExpiry(usedVacationDays.getUsedVacationDaysAfterExpiryDate())
+            .withVacationDaysUsedNextYear(usedVacationDaysNextYear)
+            .build();
+    }
+
+    private static DateRange yearDateRange(Year year) {
+        return new DateRange(year.atDay(1), year.atDay(1).with(lastDayOfYear()));
+    }
+
+    /**
+     * Returns the used vacation days of the whole year of the given account, split at its expiry date. The
+     * {@link VacationDaysLedger} is used if it holds an entry calculated for the current expiry settings of the
+     * account and no rebuild of the ledger has been requested, otherwise the used vacation days are calculated from
+     * the applications for leave.
+     *
+     * @param account the account to get the used vacation days for
+     * @return the used vacation days before and after the expiry date of the account
+     */
+    private UsedVacationDaysYear getUsedVacationDays(Account account) {
+        if (account.getId() != null) {
+            final Optional<VacationDaysLedgerEntity> ledgerEntry = vacationDaysLedgerRepository.findCompleteByAccountId(account.getId());
+            if (ledgerEntry.isPresent() && ledgerEntry.get().isCalculatedFor(account)) {
+                return new UsedVacationDaysYear(ledgerEntry.get().getUsedVacationDaysBeforeExpiryDate(), ledgerEntry.get().getUsedVacationDaysAfterExpiryDate());
+            }
+        }
+        return calculateUsedVacationDays(account);
+    }
+
+    /**
+     * Calculates the used vacation days of the whole year of the given account from the applications for leave, split
+     * at its expiry date. If the remaining vacation days of the account do not expire, all used vacation days are
+     * counted before the expiry date.
+     *
+     * @param account the account to calculate the used vacation days for
+     * @return the used vacation days before and after the expiry date of the account
+     */
+    UsedVacationDaysYear calculateUsedVacationDays(Account account) {
+
+        final LocalDate start = Year.of(account.getYear()).atDay(1);
+        final LocalDate end = start.with(lastDayOfYear());
+
+        final BigDecimal usedVacationDaysBeforeExpiryDate;
+        final BigDecimal usedVacationDaysAfterExpiryDate;
+
+        if (account.doRemainingVacationDaysExpire()) {
+            final LocalDate lastDayBeforeExpiryDate = account.getExpiryDate().minusDays(1);
+            final LocalDate endBeforeExpiryDate = end.isAfter(lastDayBeforeExpiryDate) ? lastDayBeforeExpiryDate : end;
+
+            final LocalDate expiryDate = account.getExpiryDate();
+            final LocalDate startAfterExpiryDate = start.isBefore(expiryDate) ? expiryDate : start;
+
+            usedVacationDaysBeforeExpiryDate = getUsedVacationDaysBetweenTwoMilestones(account.getPerson(), start, endBeforeExpiryDate);
+            usedVacationDaysAfterExpiryDate = getUsedVacationDaysBetweenTwoMilestones(account.getPerson(), startAfterExpiryDate, end);
+        } else {
+            usedVacationDaysBeforeExpiryDate = getUsedVacationDaysBetweenTwoMilestones(account.getPerson(), start, end);
+            usedVacationDaysAfterExpiryDate = ZERO;
+        }
+
+        return new UsedVacationDaysYear(usedVacationDaysBeforeExpiryDate, usedVacationDaysAfterExpiryDate);
     }
 
     /**
@@ -262,10 +370,6 @@ public class VacationDaysService {
         return new UsedVacationDaysTuple(dateRangeUsedVacationDays, yearUsedVacationDays);
     }
 
-    private VacationDaysLeft getVacationDaysLeft(LocalDate start, LocalDate end, Account account) {
-        return getVacationDaysLeft(start, end, account, Optional.empty());
-    }
-
     private BigDecimal divideBy2(BigDecimal value) {
         return value.divide(BigDecimal.valueOf(2), 2, RoundingMode.CEILING);
     }
@@ -312,7 +416,7 @@ public class VacationDaysService {
         }
     }
 
-    private static class UsedVacationDaysYear implements Addable<UsedVacationDaysYear> {
+    static class UsedVacationDaysYear implements Addable<UsedVacationDaysYear> {
 
         private final BigDecimal usedVacationDaysBeforeExpiryDate;
         private final BigDecimal usedVacationDaysAfterExpiryDate;
@@ -366,59 +470,17 @@ public class VacationDaysService {
         }
     }
 
-    private VacationDaysLeft getVacationDaysLeft(LocalDate start, LocalDate end, Account account, Optional<Account> nextYear) {
-
-        final BigDecimal vacationDays = account.getActualVacationDays();
-        final BigDecimal remainingVacationDays = account.getRemainingVacationDays();
-        final BigDecimal remainingVacationDaysNotExpiring = account.getRemainingVacationDaysNotExpiring();
-
-        final BigDecimal usedVacationDaysBeforeExpiryDate;
-        final BigDecimal usedVacationDaysAfterExpiryDate;
-
-        if (account.doRemainingVacationDaysExpire()) {
-            final LocalDate lastDayBeforeExpiryDate = account.getExpiryDate().minusDays(1);
-            final LocalDate endBeforeExpiryDate = end.isAfter(lastDayBeforeExpiryDate) ? lastDayBeforeExpiryDate : end;
-
-            final LocalDate expiryDate = account.getExpiryDate();
-            final LocalDate startAfterExpiryDate = start.isBefore(expiryDate) ? expiryDate : start;
-
-            usedVacationDaysBeforeExpiryDate = getUsedVacationDaysBetweenTwoMilestones(account.getPerson(), start, endBeforeExpiryDate);
-            usedVacationDaysAfterExpiryDate = getUsedVacationDaysBetweenTwoMilestones(account.getPerson(), startAfterExpiryDate, end);
-        } else {
-            usedVacationDaysBeforeExpiryDate = getUsedVacationDaysBetweenTwoMilestones(account.getPerson(), start, end);
-            usedVacationDaysAfterExpiryDate = ZERO;
-        }
-
-        final BigDecimal usedVacationDaysNextYear = nextYear
-            .map(this::getUsedRemainingVacationDays)
-            .orElse(ZERO);
-
-        return VacationDaysLeft.builder()
-            .withAnnualVacation(vacationDays)
-            .withRemainingVacation(remainingVacationDays)
-            .notExpiring(remainingVacationDaysNotExpiring)
-            .forUsedVacationDaysBeforeExpiry(usedVacationDaysBeforeExpiryDate)
-            .forUsedVacationDaysAfterExpiry(usedVacationDaysAfterExpiryDate)
-            .withVacationDaysUsedNextYear(usedVacationDaysNextYear)
-            .build();
-    }
-
     public BigDecimal getUsedRemainingVacationDays(Account account) {
-        final LocalDate firstDayOfYear = Year.of(account.getYear()).atDay(1);
-        final LocalDate lastDayOfYear = firstDayOfYear.with(lastDayOfYear());
-        return getUsedRemainingVacationDays(firstDayOfYear, lastDayOfYear, account);
+        if (account.getRemainingVacationDays().signum() > 0) {
+            return usedRemainingVacationDays(account, getVacationDaysLeft(account, Optional.empty()));
+        }
+        return ZERO;
     }
 
-    private BigDecimal getUsedRemainingVacationDays(LocalDate start, LocalDate end, Account account) {
-
-        if (start.isAfter(end)) {
-            return ZERO;
-        }
+    private static BigDecimal usedRemainingVacationDays(Account account, VacationDaysLeft left) {
 
         if (account.getRemainingVacationDays().signum() > 0) {
 
-            final VacationDaysLeft left = getVacationDaysLeft(start, end, account);
-
             final BigDecimal totalUsed = account.getActualVacationDays()
                 .add(account.getRemainingVacationDays())
                 .subtract(left.getVacationDays())
@@ -1,10 +1,15 @@
 package org.synyx.urlaubsverwaltung.application.application;
 
 import org.springframework.beans.BeanUtils;
+import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountPeriod;
 import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
 
 import java.math.BigDecimal;
 import java.time.DayOfWeek;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.stream.Collectors.toList;
 
 /**
  * Represents an extended {@link Application} with information about
@@ -15,6 +20,11 @@ public class ApplicationForLeave extends Application {
     private final BigDecimal workDays;
 
     public ApplicationForLeave(Application application, WorkDaysCountService workDaysCountService) {
+        // calculate the work days
+        this(application, workDaysCountService.getWorkDaysCount(application.getDayLength(), application.getStartDate(), application.getEndDate(), application.getPerson()));
+    }
+
+    private ApplicationForLeave(Application application, BigDecimal workDays) {
 
         // copy all the properties from the given application for leave
         BeanUtils.copyProperties(application, this);
@@ -22,8 +32,32 @@ public class ApplicationForLeave extends Application {
         // not copied, must be set explicitly
         setId(application.getId());
 
-        // calculate the work days
-        this.workDays = workDaysCountService.getWorkDaysCount(getDayLength(), getStartDate(), getEndDate(), getPerson());
+        this.workDays = workDays;
+    }
+
+    /**
+     * Creates an {@link ApplicationForLeave} for every given {@link Application} and calculates the work days
+     * of all of them at once.
+     *
+     * @param applications         to extend with the number of work days
+     * @param workDaysCountService to calculate the work days
+     * @return applications for leave in the order of the given applications
+     */
+    public static List<ApplicationForLeave> from(List<Application> applications, WorkDaysCountService workDaysCountService) {
+
+        final List<WorkDaysCountPeriod> periods = applications.stream()
+            .map(ApplicationForLeave::toWorkDaysCountPeriod)
+            .toList();
+
+        final Map<WorkDaysCountPeriod, BigDecimal> workDaysByPeriod = workDaysCountService.getWorkDaysCount(periods);
+
+        return applications.stream()
+            .map(application -> new ApplicationForLeave(application, workDaysByPeriod.get(toWorkDaysCountPeriod(application))))
+            .collect(toList());
+    }
+
+    private static WorkDaysCountPeriod toWorkDaysCountPeriod(Application application) {
+        return new WorkDaysCountPeriod(application.getPerson(), application.getStartDate(), application.getEndDate(), application.getDayLength());
     }
 
     public BigDecimal getWorkDays() {
@@ -26,6 +26,7 @@ import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeService;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeViewModelService;
 import org.synyx.urlaubsverwaltung.department.Department;
 import org.synyx.urlaubsverwaltung.department.DepartmentService;
+import org.synyx.urlaubsverwaltung.overlap.OverlapException;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
@@ -79,6 +80,8 @@ class ApplicationForLeaveFormViewController implements HasLaunchpad {
     private static final Logger LOG = getLogger(lookup().lookupClass());
 
     private static final String NO_HOLIDAYS_ACCOUNT = "noHolidaysAccount";
+    private static final String ERROR_OVERLAP = "application.error.overlap";
+    private static final String ERROR_NOT_ENOUGH_DAYS = "application.error.notEnoughVacationDays";
     private static final String USER_HAS_NOT_THE_CORRECT_PERMISSIONS = "User '%s' has not the correct permissions to apply for leave for user '%s'";
 
     private final PersonService personService;
@@ -277,36 +280,43 @@ class ApplicationForLeaveFormViewController implements HasLaunchpad {
 
         applicationForLeaveFormValidator.validate(appForm, errors);
 
-        if (errors.hasErrors()) {
-            final List<SelectableHolidayReplacementDto> selectableHolidayReplacementDtos = selectableHolidayReplacements(
-                not(containsPerson(holidayReplacementPersonsOfApplication(appForm)))
-                    .and(not(isEqual(person)))
-            );
-            addSelectableHolidayReplacementsToModel(model, selectableHolidayReplacementDtos);
-
-            prepareApplicationForLeaveForm(applier, appForm.getPerson(), appForm, model, locale);
-
-            if (errors.hasGlobalErrors()) {
-                model.addAttribute("errors", errors);
+        if (!errors.hasErrors()) {
+            final Application app = applicationMapper.mapToApplication(appForm);
+            try {
+                final Application savedApplicationForLeave;
+                if (app.getVacationType().isRequiresApprovalToApply()) {
+                    savedApplicationForLeave = applicationInteractionService.apply(app, applier, ofNullable(appForm.getComment()));
+                } else {
+                    savedApplicationForLeave = applicationInteractionService.directAllow(app, applier, ofNullable(appForm.getComment()));
+                }
+                LOG.info("new application has been saved {}", savedApplicationForLeave);
+
+                redirectAttributes.addFlashAttribute("applySuccess", true);
+
+                return "redirect:/web/application/" + savedApplicationForLeave.getId();
+            } catch (OverlapException e) {
+                // another absence of the person has been saved since the validation
+                errors.reject(ERROR_OVERLAP);
+            } catch (NotEnoughVacationDaysException e) {
+                // another application for leave of the person has used the vacation days since the validation
+                errors.reject(ERROR_NOT_ENOUGH_DAYS);
             }
-
-            LOG.info("new application ({}) has errors: {}", appForm, errors);
-            return "application/application_form";
         }
 
-        final Application app = applicationMapper.mapToApplication(appForm);
+        final List<SelectableHolidayReplacementDto> selectableHolidayReplacementDtos = selectableHolidayReplacements(
+            not(containsPerson(holidayReplacementPersonsOfApplication(appForm)))
+                .and(not(isEqual(person)))
+        );
+        addSelectableHolidayReplacementsToModel(model, selectableHolidayReplacementDtos);
 
-        final Application savedApplicationForLeave;
-        if (app.getVacationType().isRequiresApprovalToApply()) {
-            savedApplicationForLeave = applicationInteractionService.apply(app, applier, ofNullable(appForm.getComment()));
-        } else {
-            savedApplicationForLeave = applicationInteractionService.directAllow(app, applier, ofNullable(appForm.getComment()));
-        }
-        LOG.info("new application has been saved {}", savedApplicationForLeave);
+        prepareApplicationForLeaveForm(applier, appForm.getPerson(), appForm, model, locale);
 
-        redirectAttributes.addFlashAttribute("applySuccess", true);
+        if (errors.hasGlobalErrors()) {
+            model.addAttribute("errors", errors);
+        }
 
-        return "redirect:/web/application/" + savedApplicationForLeave.getId();
+        LOG.info("new application ({}) has errors: {}", appForm, errors);
+        return "application/application_form";
     }
 
     @GetMapping("/application/{applicationId}/edit")
@@ -361,34 +371,39 @@ class ApplicationForLeaveFormViewController implements HasLaunchpad {
         appForm.setId(application.getId());
         applicationForLeaveFormValidator.validate(appForm, errors);
 
-        if (errors.hasErrors()) {
-            prepareApplicationForLeaveForm(signedInUser, appForm.getPerson(), appForm, model, locale);
-            if (errors.hasGlobalErrors()) {
-                model.addAttribute("errors", errors);
-            }
+        if (!errors.hasErrors()) {
+            final Application editedApplication = applicationMapper.merge(application, appForm);
+            try {
+                final Application savedApplicationForLeave = applicationInteractionService.edit(application, editedApplication, signedInUser, Optional.ofNullable(appForm.getComment()));
 
-            addSelectableHolidayReplacementsToModel(model, selectableHolidayReplacements(
-                not(containsPerson(holidayReplacementPersonsOfApplication(appForm)))
-                    .and(not(isEqual(signedInUser))))
-            );
+                LOG.debug("Edited application with success applied {}", savedApplicationForLeave);
 
-            LOG.debug("edit application ({}) has errors: {}", appForm, errors);
-            return "application/application_form";
-        }
+                redirectAttributes.addFlashAttribute("editSuccess", true);
 
-        final Application editedApplication = applicationMapper.merge(application, appForm);
-        final Application savedApplicationForLeave;
-        try {
-            savedApplicationForLeave = applicationInteractionService.edit(application, editedApplication, signedInUser, Optional.ofNullable(appForm.getComment()));
-        } catch (EditApplicationForLeaveNotAllowedException e) {
-            return "application/application-not-editable";
+                return "redirect:/web/application/" + savedApplicationForLeave.getId();
+            } catch (EditApplicationForLeaveNotAllowedException e) {
+                return "application/application-not-editable";
+            } catch (OverlapException e) {
+                // another absence of the person has been saved since the validation
+                errors.reject(ERROR_OVERLAP);
+            } catch (NotEnoughVacationDaysException e) {
+                // another application for leave of the person has used the vacation days since the validation
+                errors.reject(ERROR_NOT_ENOUGH_DAYS);
+            }
         }
 
-        LOG.debug("Edited application with success applied {}", savedApplicationForLeave);
+        prepareApplicationForLeaveForm(signedInUser, appForm.getPerson(), appForm, model, locale);
+        if (errors.hasGlobalErrors()) {
+            model.addAttribute("errors", errors);
+        }
 
-        redirectAttributes.addFlashAttribute("editSuccess", true);
+        addSelectableHolidayReplacementsToModel(model, selectableHolidayReplacements(
+            not(containsPerson(holidayReplacementPersonsOfApplication(appForm)))
+                .and(not(isEqual(signedInUser))))
+        );
 
-        return "redirect:/web/application/" + savedApplicationForLeave.getId();
+        LOG.debug("edit application ({}) has errors: {}", appForm, errors);
+        return "application/application_form";
     }
 
     private Optional<Person> getPersonByRequestParam(Long personId) {
@@ -233,12 +233,10 @@ class ApplicationForLeaveViewController implements HasLaunchpad {
             }
         }
 
-        return cancellationRequests.stream()
+        return toApplicationsForLeaveSortedByStartDate(cancellationRequests.stream()
             .distinct()
             .filter(withoutApplicationsOf(signedInUser))
-            .map(application -> new ApplicationForLeave(application, workDaysCountService))
-            .sorted(comparing(ApplicationForLeave::getStartDate))
-            .collect(toList());
+            .toList());
     }
 
     private List<ApplicationForLeave> getOtherRelevantApplicationsForLeave(Person signedInUser, List<Person> membersAsDepartmentHead, List<Person> membersAsSecondStageAuthority) {
@@ -268,34 +266,30 @@ class ApplicationForLeaveViewController implements HasLaunchpad {
     }
 
     private List<ApplicationForLeave> getApplicationsForLeaveForBossOrOffice() {
-        return applicationService.getForStates(List.of(WAITING, TEMPORARY_ALLOWED)).stream()
-            .map(application -> new ApplicationForLeave(application, workDaysCountService))
-            .sorted(comparing(ApplicationForLeave::getStartDate))
-            .collect(toList());
+        return toApplicationsForLeaveSortedByStartDate(applicationService.getForStates(List.of(WAITING, TEMPORARY_ALLOWED)));
     }
 
     private List<ApplicationForLeave> getApplicationsForLeaveForUser(Person user) {
         final List<ApplicationStatus> states = List.of(WAITING, TEMPORARY_ALLOWED, ALLOWED_CANCELLATION_REQUESTED);
 
-        return applicationService.getForStatesAndPerson(states, List.of(user)).stream()
-            .map(application -> new ApplicationForLeave(application, workDaysCountService))
-            .sorted(comparing(ApplicationForLeave::getStartDate))
-            .collect(toList());
+        return toApplicationsForLeaveSortedByStartDate(applicationService.getForStatesAndPerson(states, List.of(user)));
     }
 
     private List<ApplicationForLeave> getApplicationsForLeaveForDepartmentHead(Person head, List<Person> members) {
-        return applicationService.getForStatesAndPerson(List.of(WAITING), members).stream()
+        return toApplicationsForLeaveSortedByStartDate(applicationService.getForStatesAndPerson(List.of(WAITING), members).stream()
             .filter(withoutApplicationsOf(head))
             .filter(withoutSecondStageAuthorityApplications())
-            .map(application -> new ApplicationForLeave(application, workDaysCountService))
-            .sorted(comparing(ApplicationForLeave::getStartDate))
-            .collect(toList());
+            .toList());
     }
 
     private List<ApplicationForLeave> getApplicationsForLeaveForSecondStageAuthority(Person secondStage, List<Person> members) {
-        return applicationService.getForStatesAndPerson(List.of(WAITING, TEMPORARY_ALLOWED), members).stream()
+        return toApplicationsForLeaveSortedByStartDate(applicationService.getForStatesAndPerson(List.of(WAITING, TEMPORARY_ALLOWED), members).stream()
             .filter(withoutApplicationsOf(secondStage))
-            .map(application -> new ApplicationForLeave(application, workDaysCountService))
+            .toList());
+    }
+
+    private List<ApplicationForLeave> toApplicationsForLeaveSortedByStartDate(List<Application> applications) {
+        return ApplicationForLeave.from(applications, workDaysCountService).stream()
             .sorted(comparing(ApplicationForLeave::getStartDate))
             .collect(toList());
     }
@@ -18,6 +18,7 @@ public interface ApplicationInteractionService {
      * @param applier     of the application
      * @param comment     giving further information (is optional)
      * @return the saved application for leave
+     * @throws org.synyx.urlaubsverwaltung.overlap.OverlapException if the application for leave overlaps with another absence
      */
     Application apply(Application application, Person applier, Optional<String> comment);
 
@@ -40,6 +41,7 @@ public interface ApplicationInteractionService {
      * @param applier     that allowed the application for leave
      * @param comment     giving further information to allowing of application for leave (is optional)
      * @return the allowed application for leave
+     * @throws org.synyx.urlaubsverwaltung.overlap.OverlapException if the application for leave overlaps with another absence
      */
     Application directAllow(Application application, Person applier, Optional<String> comment);
 
@@ -129,6 +131,7 @@ public interface ApplicationInteractionService {
      * @param person            who edited the application for leave
      * @param comment           optional comment of the app form
      * @return saved application for leave
+     * @throws org.synyx.urlaubsverwaltung.overlap.OverlapException if the edited application for leave overlaps with another absence
      */
     Application edit(Application application, Application editedApplication, Person person, Optional<String> comment);
 }
@@ -12,6 +12,7 @@ import org.synyx.urlaubsverwaltung.application.comment.ApplicationCommentAction;
 import org.synyx.urlaubsverwaltung.application.comment.ApplicationCommentService;
 import org.synyx.urlaubsverwaltung.department.Department;
 import org.synyx.urlaubsverwaltung.department.DepartmentService;
+import org.synyx.urlaubsverwaltung.overlap.OverlapService;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonDeletedEvent;
 
@@ -40,6 +41,7 @@ import static org.synyx.urlaubsverwaltung.application.comment.ApplicationComment
 import static org.synyx.urlaubsverwaltung.application.comment.ApplicationCommentAction.CANCEL_REQUESTED_DECLINED;
 import static org.synyx.urlaubsverwaltung.application.comment.ApplicationCommentAction.EDITED;
 import static org.synyx.urlaubsverwaltung.application.comment.ApplicationCommentAction.REVOKED;
+import static org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory.HOLIDAY;
 import static org.synyx.urlaubsverwaltung.person.Role.BOSS;
 
 @Service
@@ -55,6 +57,8 @@ class ApplicationInteractionServiceImpl implements ApplicationInteractionService
     private final ApplicationCommentService commentService;
     private final ApplicationMailService applicationMailService;
     private final DepartmentService departmentService;
+    private final OverlapService overlapService;
+    private final CalculationService calculationService;
     private final Clock clock;
     private final ApplicationEventPublisher applicationEventPublisher;
 
@@ -63,7 +67,8 @@ class ApplicationInteractionServiceImpl implements ApplicationInteractionService
                                       ApplicationCommentService commentService,
                                       AccountInteractionService accountInteractionService,
                                       ApplicationMailService applicationMailService,
-                                      DepartmentService departmentService, Clock clock,
+                                      DepartmentService departmentService, OverlapService overlapService,
+                                      CalculationService calculationService, Clock clock,
                                       ApplicationEventPublisher applicationEventPublisher) {
 
         this.applicationService = applicationService;
@@ -71,6 +76,8 @@ class ApplicationInteractionServiceImpl implements ApplicationInteractionService
         this.accountInteractionService = accountInteractionService;
         this.applicationMailService = applicationMailService;
         this.departmentService = departmentService;
+        this.overlapService = overlapService;
+        this.calculationService = calculationService;
         this.clock = clock;
         this.applicationEventPublisher = applicationEventPublisher;
     }
@@ -89,6 +96,8 @@ class ApplicationInteractionServiceImpl implements ApplicationInteractionService
         application.setApplier(applier);
         application.setApplicationDate(LocalDate.now(clock));
 
+        overlapService.lockAndEnsureNoOverlap(application);
+        ensureEnoughVacationDaysLeft(application);
         final Application savedApplication = applicationService.save(application);
 
         LOG.info("Created application for leave: {}", savedApplication);
@@ -159,6 +168,8 @@ class ApplicationInteractionServiceImpl implements ApplicationInteractionService
         application.setApplier(applier);
         application.setApplicationDate(LocalDate.now(clock));
 
+        overlapService.lockAndEnsureNoOverlap(application);
+        ensureEnoughVacationDaysLeft(application);
         final Application savedApplication = applicationService.save(application);
         LOG.info("Created application for leave and allow directly via not required approval: {}", savedApplication);
 
@@ -470,6 +481,8 @@ class ApplicationInteractionServiceImpl implements ApplicationInteractionService
         }
 
         editedApplication.setEditedDate(LocalDate.now(clock));
+        overlapService.lockAndEnsureNoOverlap(editedApplication);
+        ensureEnoughVacationDaysLeft(editedApplication);
         final Application savedEditedApplication = applicationService.save(editedApplication);
 
         commentService.create(savedEditedApplication, EDITED, comment, editor);
@@ -544,4 +557,19 @@ class ApplicationInteractionServiceImpl implements ApplicationInteractionService
             || !oldApplication.getEndDate().equals(savedEditedApplication.getEndDate())
             || !oldApplication.getDayLength().equals(savedEditedApplication.getDayLength());
     }
+
+    /**
+     * Ensures that the person has enough vacation days left for the given application for leave. Has to be called
+     * after the person has been locked by {@link OverlapService#lockAndEnsureNoOverlap(Application)}, so concurrent
+     * applications for leave of the same person are checked one after another and cannot both use the same days.
+     *
+     * @param application to be checked
+     * @throws NotEnoughVacationDaysException if there are not enough vacation days left
+     */
+    private void ensureEnoughVacationDaysLeft(Application application) {
+        if (HOLIDAY.equals(application.getVacationType().getCategory()) && !calculationService.checkApplication(application)) {
+            throw new NotEnoughVacationDaysException(format("Not enough vacation days left for application for leave of person %d from %s to %s.",
+                application.getPerson().getId(), application.getStartDate(), application.getEndDate()));
+        }
+    }
 }
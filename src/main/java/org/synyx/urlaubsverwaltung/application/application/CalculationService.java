@@ -12,13 +12,16 @@ import org.synyx.urlaubsverwaltung.account.VacationDaysService;
 import org.synyx.urlaubsverwaltung.overlap.OverlapService;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountPeriod;
 import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.Year;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static java.lang.invoke.MethodHandles.lookup;
 import static java.math.BigDecimal.ZERO;
@@ -74,23 +77,40 @@ class CalculationService {
         final Optional<Application> maybeSavedApplication = getSavedApplicationForEditing(application);
 
         if (yearOfStartDate == yearOfEndDate) {
-            final BigDecimal oldWorkDays = maybeSavedApplication.map(savedApplication -> workDaysCountService.getWorkDaysCount(savedApplication.getDayLength(), savedApplication.getStartDate(), savedApplication.getEndDate(), savedApplication.getPerson())).orElse(ZERO);
-            final BigDecimal workDays = workDaysCountService.getWorkDaysCount(dayLength, startDate, endDate, person).subtract(oldWorkDays);
+            final WorkDaysCountPeriod period = new WorkDaysCountPeriod(person, startDate, endDate, dayLength);
+            final Optional<WorkDaysCountPeriod> maybeSavedPeriod = maybeSavedApplication.map(savedApplication -> toWorkDaysCountPeriod(savedApplication, savedApplication.getStartDate(), savedApplication.getEndDate()));
+
+            final Map<WorkDaysCountPeriod, BigDecimal> workDaysByPeriod = workDaysCountService.getWorkDaysCount(Stream.concat(Stream.of(period), maybeSavedPeriod.stream()).toList());
+
+            final BigDecimal oldWorkDays = maybeSavedPeriod.map(workDaysByPeriod::get).orElse(ZERO);
+            final BigDecimal workDays = workDaysByPeriod.get(period).subtract(oldWorkDays);
             return accountHasEnoughVacationDaysLeft(person, yearOfStartDate, workDays, application);
         } else {
+            final WorkDaysCountPeriod periodInOldYear = new WorkDaysCountPeriod(person, startDate, getLastDayOfYear(yearOfStartDate), dayLength);
+            final WorkDaysCountPeriod periodInNewYear = new WorkDaysCountPeriod(person, Year.of(yearOfEndDate).atDay(1), endDate, dayLength);
+            final Optional<WorkDaysCountPeriod> maybeSavedPeriodInOldYear = maybeSavedApplication.map(savedApplication -> toWorkDaysCountPeriod(savedApplication, savedApplication.getStartDate(), getLastDayOfYear(savedApplication.getStartDate().getYear())));
+            final Optional<WorkDaysCountPeriod> maybeSavedPeriodInNewYear = maybeSavedApplication.map(savedApplication -> toWorkDaysCountPeriod(savedApplication, Year.of(savedApplication.getEndDate().getYear()).atDay(1), savedApplication.getEndDate()));
+
+            final Map<WorkDaysCountPeriod, BigDecimal> workDaysByPeriod = workDaysCountService.getWorkDaysCount(
+                Stream.of(Optional.of(periodInOldYear), Optional.of(periodInNewYear), maybeSavedPeriodInOldYear, maybeSavedPeriodInNewYear).flatMap(Optional::stream).toList());
+
             // ensure that applying for leave for the period in the old year is possible
-            final BigDecimal oldWorkDaysInOldYear = maybeSavedApplication.map(savedApplication -> workDaysCountService.getWorkDaysCount(savedApplication.getDayLength(), savedApplication.getStartDate(), getLastDayOfYear(savedApplication.getStartDate().getYear()), savedApplication.getPerson())).orElse(ZERO);
-            final BigDecimal workDaysInOldYear = workDaysCountService.getWorkDaysCount(dayLength, startDate, getLastDayOfYear(yearOfStartDate), person).subtract(oldWorkDaysInOldYear);
+            final BigDecimal oldWorkDaysInOldYear = maybeSavedPeriodInOldYear.map(workDaysByPeriod::get).orElse(ZERO);
+            final BigDecimal workDaysInOldYear = workDaysByPeriod.get(periodInOldYear).subtract(oldWorkDaysInOldYear);
 
             // ensure that applying for leave for the period in the new year is possible
-            final BigDecimal oldWorkDaysInNewYear = maybeSavedApplication.map(savedApplication -> workDaysCountService.getWorkDaysCount(savedApplication.getDayLength(), Year.of(savedApplication.getEndDate().getYear()).atDay(1), savedApplication.getEndDate(), savedApplication.getPerson())).orElse(ZERO);
-            final BigDecimal workDaysInNewYear = workDaysCountService.getWorkDaysCount(dayLength, Year.of(yearOfEndDate).atDay(1), endDate, person).subtract(oldWorkDaysInNewYear);
+            final BigDecimal oldWorkDaysInNewYear = maybeSavedPeriodInNewYear.map(workDaysByPeriod::get).orElse(ZERO);
+            final BigDecimal workDaysInNewYear = workDaysByPeriod.get(periodInNewYear).subtract(oldWorkDaysInNewYear);
 
             return accountHasEnoughVacationDaysLeft(person, yearOfStartDate, workDaysInOldYear, application)
                 && accountHasEnoughVacationDaysLeft(person, yearOfEndDate, workDaysInNewYear, application);
         }
     }
 
+    private static WorkDaysCountPeriod toWorkDaysCountPeriod(Application application, LocalDate startDate, LocalDate endDate) {
+        return new WorkDaysCountPeriod(application.getPerson(), startDate, endDate, application.getDayLength());
+    }
+
     boolean accountHasEnoughVacationDaysLeft(Person person, int year, BigDecimal workDays, Application application) {
 
         if (workDays.signum() <= 0) {
@@ -0,0 +1,11 @@
+package org.synyx.urlaubsverwaltung.application.application;
+
+/**
+ * Thrown if an application for leave is saved although the person has not enough vacation days left for it.
+ */
+public class NotEnoughVacationDaysException extends RuntimeException {
+
+    NotEnoughVacationDaysException(String message) {
+        super(message);
+    }
+}
@@ -9,7 +9,6 @@ import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 
 import java.text.DecimalFormat;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
 import java.util.Locale;
 
 import static java.lang.String.format;
@@ -38,7 +37,7 @@ class ApplicationForLeaveCsvExportService implements CsvExportService<Applicatio
     }
 
     @Override
-    public void write(FilterPeriod period, Locale locale, List<ApplicationForLeaveExport> applicationForLeaveExports, CSVWriter csvWriter) {
+    public void write(FilterPeriod period, Locale locale, Iterable<ApplicationForLeaveExport> applicationForLeaveExports, CSVWriter csvWriter) {
 
         final String[] csvHeader = {
             getTranslation(locale, "person.account.basedata.personnelNumber"),
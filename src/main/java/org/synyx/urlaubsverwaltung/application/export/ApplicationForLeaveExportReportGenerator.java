@@ -0,0 +1,55 @@
+package org.synyx.urlaubsverwaltung.application.export;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.report.ReportGenerator;
+import org.synyx.urlaubsverwaltung.report.ReportType;
+import org.synyx.urlaubsverwaltung.search.PageStreamSupport;
+import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
+import org.synyx.urlaubsverwaltung.web.FilterPeriod;
+
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import static org.synyx.urlaubsverwaltung.report.ReportType.APPLICATION_FOR_LEAVE_EXPORT;
+
+@Component
+class ApplicationForLeaveExportReportGenerator implements ReportGenerator {
+
+    private static final int PAGE_SIZE = 100;
+
+    private final ApplicationForLeaveExportService applicationForLeaveExportService;
+    private final ApplicationForLeaveCsvExportService applicationForLeaveCsvExportService;
+
+    ApplicationForLeaveExportReportGenerator(ApplicationForLeaveExportService applicationForLeaveExportService, ApplicationForLeaveCsvExportService applicationForLeaveCsvExportService) {
+        this.applicationForLeaveExportService = applicationForLeaveExportService;
+        this.applicationForLeaveCsvExportService = applicationForLeaveCsvExportService;
+    }
+
+    @Override
+    public ReportType type() {
+        return APPLICATION_FOR_LEAVE_EXPORT;
+    }
+
+    @Override
+    public boolean isAllowedToGenerate(Person person) {
+        return person.isPrivileged();
+    }
+
+    @Override
+    public String fileName(FilterPeriod period, Locale locale) {
+        return applicationForLeaveCsvExportService.fileName(period, locale);
+    }
+
+    @Override
+    public void generate(Person person, FilterPeriod period, Sort sort, Locale locale, OutputStream outputStream) {
+        final Stream<ApplicationForLeaveExport> export = PageStreamSupport.stream(
+            pageable -> applicationForLeaveExportService.getAll(person, period.getStartDate(), period.getEndDate(), new PageableSearchQuery(pageable, "")),
+            PAGE_SIZE, sort
+        );
+
+        applicationForLeaveCsvExportService.writeCSV(period, locale, export, outputStream);
+    }
+}
@@ -91,33 +91,38 @@ class ApplicationForLeaveExportService {
         final Map<PersonId, PersonBasedata> basedataByPersonId = personBasedataService.getBasedataByPersonId(relevantPersonIds);
         final Map<PersonId, List<String>> departmentsByPersonId = departmentService.getDepartmentNamesByMembers(relevantMembers);
 
-        Stream<ApplicationForLeaveExport> exportsStream = applicationsByPerson.entrySet()
-            .stream()
-            .map(toApplicationForLeaveExport(basedataByPersonId, departmentsByPersonId));
+        Stream<Map.Entry<Person, List<Application>>> applicationsByPersonStream = applicationsByPerson.entrySet().stream();
 
         if (relevantMembersPage.getPageable().isUnpaged()) {
             // we don't have to restrict the statistics if persons page is paged and or sorted already.
             // otherwise we have fetched ALL persons -> therefore skip and limit statistics content.
-            exportsStream = exportsStream
+            applicationsByPersonStream = applicationsByPersonStream
                 .skip((long) pageable.getPageNumber() * pageable.getPageSize())
                 .limit(pageable.getPageSize());
         }
 
-        final List<ApplicationForLeaveExport> content = exportsStream
+        final List<Map.Entry<Person, List<Application>>> applicationsOfPersons = applicationsByPersonStream.toList();
+
+        // work days of all applications are calculated at once instead of one after another
+        final List<ApplicationForLeave> applicationsForLeave = ApplicationForLeave.from(applicationsOfPersons.stream().map(Map.Entry::getValue).flatMap(List::stream).toList(), workDaysCountService);
+        final Map<Person, List<ApplicationForLeave>> applicationsForLeaveByPerson = applicationsForLeave.stream().collect(groupingBy(Application::getPerson));
+
+        final List<ApplicationForLeaveExport> content = applicationsOfPersons.stream()
+            .map(Map.Entry::getKey)
+            .map(toApplicationForLeaveExport(applicationsForLeaveByPerson, basedataByPersonId, departmentsByPersonId))
             .sorted(new SortComparator<>(ApplicationForLeaveExport.class, pageable.getSort()))
             .collect(toList());
 
         return new PageImpl<>(content, pageable, relevantMembersPage.getTotalElements());
     }
 
-    private Function<Map.Entry<Person, List<Application>>, ApplicationForLeaveExport> toApplicationForLeaveExport(Map<PersonId, PersonBasedata> basedataForPersons, Map<PersonId, List<String>> departmentsForPersons) {
-        return personListEntry ->
+    private Function<Person, ApplicationForLeaveExport> toApplicationForLeaveExport(Map<Person, List<ApplicationForLeave>> applicationsForLeaveByPerson, Map<PersonId, PersonBasedata> basedataForPersons, Map<PersonId, List<String>> departmentsForPersons) {
+        return person ->
         {
-            final Person person = personListEntry.getKey();
             final PersonId personId = new PersonId(person.getId());
             final String personnelNumber = basedataForPersons.getOrDefault(personId, new PersonBasedata(personId, "", "")).getPersonnelNumber();
             final List<String> departments = departmentsForPersons.getOrDefault(personId, List.of());
-            final List<ApplicationForLeave> applicationForLeaves = personListEntry.getValue().stream().map(app -> new ApplicationForLeave(app, workDaysCountService)).collect(toList());
+            final List<ApplicationForLeave> applicationForLeaves = applicationsForLeaveByPerson.getOrDefault(person, List.of());
             return new ApplicationForLeaveExport(personnelNumber, person.getFirstName(), person.getLastName(), applicationForLeaves, departments);
         };
     }
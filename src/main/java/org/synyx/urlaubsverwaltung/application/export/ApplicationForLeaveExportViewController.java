@@ -2,9 +2,6 @@ package org.synyx.urlaubsverwaltung.application.export;
 
 import de.focus_shift.launchpad.api.HasLaunchpad;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.SortDefault;
@@ -17,9 +14,11 @@ import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
-import org.synyx.urlaubsverwaltung.csv.CSVFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.synyx.urlaubsverwaltung.csv.CSVStream;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.search.PageStreamSupport;
 import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
 import org.synyx.urlaubsverwaltung.web.DateFormatAware;
 import org.synyx.urlaubsverwaltung.web.FilterPeriod;
@@ -27,10 +26,9 @@ import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.time.Year;
-import java.util.List;
 import java.util.Locale;
+import java.util.stream.Stream;
 
-import static java.lang.Integer.MAX_VALUE;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
 import static org.springframework.http.HttpStatus.OK;
@@ -40,6 +38,8 @@ import static org.synyx.urlaubsverwaltung.security.SecurityRules.IS_PRIVILEGED_U
 @RequestMapping("/web/application")
 class ApplicationForLeaveExportViewController implements HasLaunchpad {
 
+    private static final int EXPORT_PAGE_SIZE = 100;
+
     private final PersonService personService;
     private final ApplicationForLeaveExportService applicationForLeaveExportService;
     private final ApplicationForLeaveCsvExportService applicationForLeaveCsvExportService;
@@ -61,7 +61,7 @@ class ApplicationForLeaveExportViewController implements HasLaunchpad {
 
     @PreAuthorize(IS_PRIVILEGED_USER)
     @GetMapping(value = "/export")
-    public ResponseEntity<ByteArrayResource> downloadCsvExport(
+    public ResponseEntity<StreamingResponseBody> downloadCsvExport(
         @RequestParam(value = "from", defaultValue = "") String from,
         @RequestParam(value = "to", defaultValue = "") String to,
         @RequestParam(value = "allElements", defaultValue = "false") boolean allElements,
@@ -78,19 +78,18 @@ class ApplicationForLeaveExportViewController implements HasLaunchpad {
 
         final Person signedInUser = personService.getSignedInUser();
 
-        final Pageable adaptedPageable = allElements ? PageRequest.of(0, MAX_VALUE, pageable.getSort()) : pageable;
-        final String adaptedQuery = allElements ? "" : query;
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(adaptedPageable, adaptedQuery);
+        // all elements are streamed page by page to keep neither all exports nor the whole csv file in memory
+        final Stream<ApplicationForLeaveExport> export = allElements
+            ? PageStreamSupport.stream(exportPageable -> applicationForLeaveExportService.getAll(signedInUser, period.getStartDate(), period.getEndDate(), new PageableSearchQuery(exportPageable, "")), EXPORT_PAGE_SIZE, pageable.getSort())
+            : applicationForLeaveExportService.getAll(signedInUser, period.getStartDate(), period.getEndDate(), new PageableSearchQuery(pageable, query)).stream();
 
-        final Page<ApplicationForLeaveExport> exportPage = applicationForLeaveExportService.getAll(signedInUser, period.getStartDate(), period.getEndDate(), pageableSearchQuery);
-        final List<ApplicationForLeaveExport> export = exportPage.getContent();
-        final CSVFile csvFile = applicationForLeaveCsvExportService.generateCSV(period, locale, export);
+        final CSVStream csvStream = applicationForLeaveCsvExportService.streamCSV(period, locale, export);
 
         final HttpHeaders headers = new HttpHeaders();
         headers.setContentType(new MediaType("text", "csv", UTF_8));
-        headers.setContentDisposition(ContentDisposition.builder("attachment").filename(csvFile.fileName(), UTF_8).build());
+        headers.setContentDisposition(ContentDisposition.builder("attachment").filename(csvStream.fileName(), UTF_8).build());
 
-        return ResponseEntity.status(OK).headers(headers).body(csvFile.resource());
+        return ResponseEntity.status(OK).headers(headers).body(csvStream.body());
     }
 
     private FilterPeriod toFilterPeriod(String startDateString, String endDateString, Locale locale) {
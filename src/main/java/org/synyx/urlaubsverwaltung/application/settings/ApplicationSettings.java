@@ -125,4 +125,18 @@ public class ApplicationSettings {
     public void setDaysBeforeRemindForUpcomingHolidayReplacement(Integer daysBeforeRemindForUpcomingHolidayReplacement) {
         this.daysBeforeRemindForUpcomingHolidayReplacement = daysBeforeRemindForUpcomingHolidayReplacement;
     }
+
+    public ApplicationSettings copy() {
+        final ApplicationSettings copy = new ApplicationSettings();
+        copy.maximumMonthsToApplyForLeaveInAdvance = maximumMonthsToApplyForLeaveInAdvance;
+        copy.maximumMonthsToApplyForLeaveAfterwards = maximumMonthsToApplyForLeaveAfterwards;
+        copy.remindForWaitingApplications = remindForWaitingApplications;
+        copy.allowHalfDays = allowHalfDays;
+        copy.daysBeforeRemindForWaitingApplications = daysBeforeRemindForWaitingApplications;
+        copy.remindForUpcomingApplications = remindForUpcomingApplications;
+        copy.daysBeforeRemindForUpcomingApplications = daysBeforeRemindForUpcomingApplications;
+        copy.remindForUpcomingHolidayReplacement = remindForUpcomingHolidayReplacement;
+        copy.daysBeforeRemindForUpcomingHolidayReplacement = daysBeforeRemindForUpcomingHolidayReplacement;
+        return copy;
+    }
 }
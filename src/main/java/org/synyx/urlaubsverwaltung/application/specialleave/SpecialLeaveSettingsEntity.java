@@ -1,15 +1,20 @@
 package org.synyx.urlaubsverwaltung.application.specialleave;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.Cache;
 
 import static jakarta.persistence.GenerationType.SEQUENCE;
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
 
 @Entity(name = "special_leave_settings")
+@Cacheable
+@Cache(usage = READ_WRITE)
 class SpecialLeaveSettingsEntity {
 
     @Id
@@ -1,14 +1,23 @@
 package org.synyx.urlaubsverwaltung.application.specialleave;
 
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 interface SpecialLeaveSettingsRepository extends JpaRepository<SpecialLeaveSettingsEntity, Long> {
 
     @Override
     List<SpecialLeaveSettingsEntity> findAll();
 
+    @Override
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    List<SpecialLeaveSettingsEntity> findAll(Sort sort);
+
     @Override
     List<SpecialLeaveSettingsEntity> findAllById(Iterable<Long> ids);
 }
@@ -45,7 +45,7 @@ class ApplicationForLeaveStatisticsCsvExportService implements CsvExportService<
     }
 
     @Override
-    public void write(FilterPeriod period, Locale locale, List<ApplicationForLeaveStatistics> statistics, CSVWriter csvWriter) {
+    public void write(FilterPeriod period, Locale locale, Iterable<ApplicationForLeaveStatistics> statistics, CSVWriter csvWriter) {
 
         final String[] csvHeader = {
             getTranslation(locale, "person.account.basedata.personnelNumber"),
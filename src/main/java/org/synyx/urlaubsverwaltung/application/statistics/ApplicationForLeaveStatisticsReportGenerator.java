@@ -0,0 +1,55 @@
+package org.synyx.urlaubsverwaltung.application.statistics;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.report.ReportGenerator;
+import org.synyx.urlaubsverwaltung.report.ReportType;
+import org.synyx.urlaubsverwaltung.search.PageStreamSupport;
+import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
+import org.synyx.urlaubsverwaltung.web.FilterPeriod;
+
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import static org.synyx.urlaubsverwaltung.report.ReportType.APPLICATION_FOR_LEAVE_STATISTICS;
+
+@Component
+class ApplicationForLeaveStatisticsReportGenerator implements ReportGenerator {
+
+    private static final int PAGE_SIZE = 100;
+
+    private final ApplicationForLeaveStatisticsService applicationForLeaveStatisticsService;
+    private final ApplicationForLeaveStatisticsCsvExportService applicationForLeaveStatisticsCsvExportService;
+
+    ApplicationForLeaveStatisticsReportGenerator(ApplicationForLeaveStatisticsService applicationForLeaveStatisticsService, ApplicationForLeaveStatisticsCsvExportService applicationForLeaveStatisticsCsvExportService) {
+        this.applicationForLeaveStatisticsService = applicationForLeaveStatisticsService;
+        this.applicationForLeaveStatisticsCsvExportService = applicationForLeaveStatisticsCsvExportService;
+    }
+
+    @Override
+    public ReportType type() {
+        return APPLICATION_FOR_LEAVE_STATISTICS;
+    }
+
+    @Override
+    public boolean isAllowedToGenerate(Person person) {
+        return person.isPrivileged();
+    }
+
+    @Override
+    public String fileName(FilterPeriod period, Locale locale) {
+        return applicationForLeaveStatisticsCsvExportService.fileName(period, locale);
+    }
+
+    @Override
+    public void generate(Person person, FilterPeriod period, Sort sort, Locale locale, OutputStream outputStream) {
+        final Stream<ApplicationForLeaveStatistics> statistics = PageStreamSupport.stream(
+            pageable -> applicationForLeaveStatisticsService.getStatistics(person, period, new PageableSearchQuery(pageable, "")),
+            PAGE_SIZE, sort
+        );
+
+        applicationForLeaveStatisticsCsvExportService.writeCSV(period, locale, statistics, outputStream);
+    }
+}
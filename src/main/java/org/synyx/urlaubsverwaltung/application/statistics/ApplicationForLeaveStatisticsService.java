@@ -7,6 +7,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.synyx.urlaubsverwaltung.absence.AbsenceDayProjection;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationType;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeService;
 import org.synyx.urlaubsverwaltung.department.DepartmentService;
@@ -17,14 +18,18 @@ import org.synyx.urlaubsverwaltung.person.basedata.PersonBasedata;
 import org.synyx.urlaubsverwaltung.person.basedata.PersonBasedataService;
 import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
 import org.synyx.urlaubsverwaltung.search.SortComparator;
+import org.synyx.urlaubsverwaltung.settings.SettingsService;
 import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 
-import java.util.Collection;
+import java.time.Clock;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Stream;
+import java.util.Objects;
 
+import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 import static org.synyx.urlaubsverwaltung.person.Role.BOSS;
 import static org.synyx.urlaubsverwaltung.person.Role.OFFICE;
 
@@ -35,22 +40,39 @@ class ApplicationForLeaveStatisticsService {
     private final PersonBasedataService personBasedataService;
     private final DepartmentService departmentService;
     private final ApplicationForLeaveStatisticsBuilder applicationForLeaveStatisticsBuilder;
+    private final ApplicationForLeaveStatisticsSortQuery applicationForLeaveStatisticsSortQuery;
     private final VacationTypeService vacationTypeService;
+    private final SettingsService settingsService;
+    private final AbsenceDayProjection absenceDayProjection;
+    private final Clock clock;
 
     @Autowired
     ApplicationForLeaveStatisticsService(PersonService personService, PersonBasedataService personBasedataService, DepartmentService departmentService,
-                                         ApplicationForLeaveStatisticsBuilder applicationForLeaveStatisticsBuilder, VacationTypeService vacationTypeService) {
+                                         ApplicationForLeaveStatisticsBuilder applicationForLeaveStatisticsBuilder,
+                                         ApplicationForLeaveStatisticsSortQuery applicationForLeaveStatisticsSortQuery,
+                                         VacationTypeService vacationTypeService, SettingsService settingsService,
+                                         AbsenceDayProjection absenceDayProjection, Clock clock) {
         this.personService = personService;
         this.personBasedataService = personBasedataService;
         this.departmentService = departmentService;
         this.applicationForLeaveStatisticsBuilder = applicationForLeaveStatisticsBuilder;
+        this.applicationForLeaveStatisticsSortQuery = applicationForLeaveStatisticsSortQuery;
         this.vacationTypeService = vacationTypeService;
+        this.settingsService = settingsService;
+        this.absenceDayProjection = absenceDayProjection;
+        this.clock = clock;
     }
 
     /**
      * Get {@link ApplicationForLeaveStatistics} the given person is allowed to see.
      * A person with {@link org.synyx.urlaubsverwaltung.person.Role} BOSS or OFFICE is allowed to see statistics of everyone for instance.
      *
+     * <p>
+     * The statistics are sorted and paged in the database, so that only the statistics of the requested page are built.
+     * The sort query reads the absence days of the {@link AbsenceDayProjection}, therefore the statistics of all
+     * relevant persons are built and sorted in memory as long as the projection is incomplete.
+     * </p>
+     *
      * @param person              person to restrict the returned page content
      * @param period              filter result set for a given period of time
      * @param pageableSearchQuery the page request
@@ -59,48 +81,89 @@ class ApplicationForLeaveStatisticsService {
     Page<ApplicationForLeaveStatistics> getStatistics(Person person, FilterPeriod period, PageableSearchQuery pageableSearchQuery) {
         final Pageable pageable = pageableSearchQuery.getPageable();
         final List<VacationType<?>> activeVacationTypes = vacationTypeService.getActiveVacationTypes();
-        final Page<Person> relevantPersonsPage = getAllRelevantPersons(person, pageableSearchQuery);
-        final List<Long> personIdValues = relevantPersonsPage.getContent().stream().map(Person::getId).collect(toList());
-        final Map<PersonId, PersonBasedata> basedataByPersonId = personBasedataService.getBasedataByPersonId(personIdValues);
 
-        final Collection<ApplicationForLeaveStatistics> statisticsCollection = applicationForLeaveStatisticsBuilder
-            .build(relevantPersonsPage.getContent(), period.getStartDate(), period.getEndDate(), activeVacationTypes).values();
+        if (!isSortByPersonAttribute(pageable) && !absenceDayProjection.isComplete()) {
+            return getStatisticsSortedInMemory(person, period, pageableSearchQuery, activeVacationTypes);
+        }
 
-        statisticsCollection.forEach(statistics -> {
-            final PersonId personId = new PersonId(statistics.getPerson().getId());
-            statistics.setPersonBasedata(basedataByPersonId.getOrDefault(personId, null));
-        });
+        final Page<Person> relevantPersonsPage = getAllRelevantPersons(person, period, pageableSearchQuery);
+        final Map<Person, ApplicationForLeaveStatistics> statisticsByPerson = applicationForLeaveStatisticsBuilder
+            .build(relevantPersonsPage.getContent(), period.getStartDate(), period.getEndDate(), activeVacationTypes);
 
-        Stream<ApplicationForLeaveStatistics> statisticsStream = statisticsCollection.stream();
-        if (relevantPersonsPage.getPageable().isUnpaged()) {
-            // we don't have to restrict the statistics if persons page is paged and or sorted already.
-            // otherwise we have fetched ALL persons -> therefore skip and limit statistics content.
-            statisticsStream = statisticsStream
-                .skip((long) pageable.getPageNumber() * pageable.getPageSize())
-                .limit(pageable.getPageSize());
-        }
+        // the persons page is sorted already
+        final List<ApplicationForLeaveStatistics> content = relevantPersonsPage.getContent().stream()
+            .map(statisticsByPerson::get)
+            .filter(Objects::nonNull)
+            .toList();
 
-        final List<ApplicationForLeaveStatistics> content = statisticsStream
-            .sorted(new SortComparator<>(ApplicationForLeaveStatistics.class, pageable.getSort()))
-            .collect(toList());
+        setPersonBasedata(content);
 
         return new PageImpl<>(content, pageable, relevantPersonsPage.getTotalElements());
     }
 
-    private Page<Person> getAllRelevantPersons(Person person, PageableSearchQuery pageableSearchQuery) {
+    private Page<ApplicationForLeaveStatistics> getStatisticsSortedInMemory(Person person, FilterPeriod period, PageableSearchQuery pageableSearchQuery,
+                                                                            List<VacationType<?>> activeVacationTypes) {
+        final Pageable pageable = pageableSearchQuery.getPageable();
+        final PageableSearchQuery unpagedQuery = new PageableSearchQuery(Pageable.unpaged(), pageableSearchQuery.getQuery());
+        final List<Person> relevantPersons = person.hasRole(BOSS) || person.hasRole(OFFICE)
+            ? personService.getActivePersons(unpagedQuery).getContent()
+            : departmentService.getManagedMembersOfPerson(person, unpagedQuery).getContent();
+
+        final List<ApplicationForLeaveStatistics> sortedStatistics = applicationForLeaveStatisticsBuilder
+            .build(relevantPersons, period.getStartDate(), period.getEndDate(), activeVacationTypes).values().stream()
+            .sorted(new SortComparator<>(ApplicationForLeaveStatistics.class, pageable.getSort()))
+            .toList();
+
+        final List<ApplicationForLeaveStatistics> content = pageable.isPaged()
+            ? sortedStatistics.stream().skip(pageable.getOffset()).limit(pageable.getPageSize()).toList()
+            : sortedStatistics;
+
+        setPersonBasedata(content);
+
+        return new PageImpl<>(content, pageable, sortedStatistics.size());
+    }
+
+    private void setPersonBasedata(List<ApplicationForLeaveStatistics> statistics) {
+        final List<Long> personIdValues = statistics.stream().map(statisticsOfPerson -> statisticsOfPerson.getPerson().getId()).collect(toList());
+        final Map<PersonId, PersonBasedata> basedataByPersonId = personBasedataService.getBasedataByPersonId(personIdValues);
+
+        statistics.forEach(statisticsOfPerson -> {
+            final PersonId personId = new PersonId(statisticsOfPerson.getPerson().getId());
+            statisticsOfPerson.setPersonBasedata(basedataByPersonId.getOrDefault(personId, null));
+        });
+    }
+
+    private Page<Person> getAllRelevantPersons(Person person, FilterPeriod period, PageableSearchQuery pageableSearchQuery) {
         final Pageable pageable = pageableSearchQuery.getPageable();
         final boolean sortByPerson = isSortByPersonAttribute(pageable);
+        final boolean bossOrOffice = person.hasRole(BOSS) || person.hasRole(OFFICE);
+
+        if (sortByPerson) {
+            final PageableSearchQuery query = new PageableSearchQuery(mapToPersonPageRequest(pageable), pageableSearchQuery.getQuery());
+            return bossOrOffice ? personService.getActivePersons(query) : departmentService.getManagedMembersOfPerson(person, query);
+        }
 
-        if (person.hasRole(BOSS) || person.hasRole(OFFICE)) {
-            final PageableSearchQuery query = sortByPerson
-                ? new PageableSearchQuery(mapToPersonPageRequest(pageable), pageableSearchQuery.getQuery())
-                : new PageableSearchQuery(PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()), pageableSearchQuery.getQuery());
+        final boolean remainingVacationDaysExpireGlobally = settingsService.getSettings().getAccountSettings().isDoRemainingVacationDaysExpireGlobally();
+        final LocalDate today = LocalDate.now(clock);
 
-            return personService.getActivePersons(query);
+        if (bossOrOffice) {
+            final Page<Long> personIdsPage = applicationForLeaveStatisticsSortQuery.findActivePersonIds(pageable, pageableSearchQuery.getQuery(), period, remainingVacationDaysExpireGlobally, today);
+            return toPersonsPage(personIdsPage, personService.getPersonsByIds(personIdsPage.getContent()));
         }
 
-        final PageableSearchQuery query = new PageableSearchQuery(sortByPerson ? mapToPersonPageRequest(pageable) : Pageable.unpaged(), pageableSearchQuery.getQuery());
-        return departmentService.getManagedMembersOfPerson(person, query);
+        final List<Person> managedMembers = departmentService.getManagedMembersOfPerson(person, new PageableSearchQuery(Pageable.unpaged(), pageableSearchQuery.getQuery())).getContent();
+        final List<Long> managedMemberIds = managedMembers.stream().map(Person::getId).toList();
+        final Page<Long> personIdsPage = applicationForLeaveStatisticsSortQuery.findPersonIds(managedMemberIds, pageable, period, remainingVacationDaysExpireGlobally, today);
+        return toPersonsPage(personIdsPage, managedMembers);
+    }
+
+    private static Page<Person> toPersonsPage(Page<Long> personIdsPage, List<Person> persons) {
+        final Map<Long, Person> personsById = persons.stream().collect(toMap(Person::getId, identity()));
+        final List<Person> content = personIdsPage.getContent().stream()
+            .map(personsById::get)
+            .filter(Objects::nonNull)
+            .toList();
+        return new PageImpl<>(content, personIdsPage.getPageable(), personIdsPage.getTotalElements());
     }
 
     private PageRequest mapToPersonPageRequest(Pageable statisticsPageRequest) {
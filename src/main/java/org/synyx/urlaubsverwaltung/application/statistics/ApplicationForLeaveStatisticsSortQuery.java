@@ -0,0 +1,195 @@
+package org.synyx.urlaubsverwaltung.application.statistics;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.synyx.urlaubsverwaltung.web.FilterPeriod;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static java.time.temporal.TemporalAdjusters.firstDayOfYear;
+import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * Sorts and pages the persons of the {@link ApplicationForLeaveStatistics} in the database, so that only the
+ * statistics of one page have to be built.
+ *
+ * <p>
+ * The sortable statistics are calculated in SQL from the holidays accounts and the absence days of the
+ * {@link org.synyx.urlaubsverwaltung.absence.AbsencePeriod.AbsenceType#VACATION vacations}, following the calculation
+ * of the {@link ApplicationForLeaveStatisticsBuilder}.
+ * </p>
+ */
+@Component
+class ApplicationForLeaveStatisticsSortQuery {
+
+    /**
+     * Sortable properties of {@link ApplicationForLeaveStatistics} and their column of the statistics query
+     */
+    private static final Map<String, String> COLUMNS_BY_PROPERTY = Map.of(
+        "person.firstName", "first_name",
+        "person.lastName", "last_name",
+        "totalWaitingVacationDays", "total_waiting_vacation_days",
+        "totalAllowedVacationDays", "total_allowed_vacation_days",
+        "leftVacationDaysForYear", "left_vacation_days_for_year",
+        "leftVacationDaysForPeriod", "left_vacation_days_for_period"
+    );
+
+    private static final String ACTIVE_PERSONS = """
+        NOT EXISTS (SELECT 1 FROM person_permissions pp WHERE pp.person_id = p.id AND pp.permissions = 'INACTIVE')
+        AND p.nice_name_search LIKE :query
+        """;
+
+    private static final String PERSONS_BY_ID = "p.id IN (:personIds)";
+
+    // one absence day row is a half day
+    private static final String USED_VACATION_DAYS = """
+        SELECT
+            SUM(CASE WHEN d.status IN ('WAITING', 'TEMPORARY_ALLOWED') AND d.absence_date BETWEEN :from AND :to THEN 0.5 ELSE 0 END) AS waiting,
+            SUM(CASE WHEN d.status IN ('ALLOWED', 'ALLOWED_CANCELLATION_REQUESTED') AND d.absence_date BETWEEN :from AND :to THEN 0.5 ELSE 0 END) AS allowed,
+            SUM(CASE WHEN vt.category = 'HOLIDAY' AND d.absence_date < a.expiry_date THEN 0.5 ELSE 0 END) AS year_before_expiry,
+            SUM(CASE WHEN vt.category = 'HOLIDAY' AND d.absence_date >= a.expiry_date THEN 0.5 ELSE 0 END) AS year_after_expiry,
+            SUM(CASE WHEN vt.category = 'HOLIDAY' AND d.absence_date BETWEEN :from AND :to AND d.absence_date < a.expiry_date THEN 0.5 ELSE 0 END) AS period_before_expiry,
+            SUM(CASE WHEN vt.category = 'HOLIDAY' AND d.absence_date BETWEEN :from AND :to AND d.absence_date >= a.expiry_date THEN 0.5 ELSE 0 END) AS period_after_expiry
+        FROM absence_day d
+        JOIN vacation_type vt ON vt.id = d.type_id
+        WHERE d.person_id = p.id
+          AND d.absence_type = 'VACATION'
+          AND d.status IN ('WAITING', 'TEMPORARY_ALLOWED', 'ALLOWED', 'ALLOWED_CANCELLATION_REQUESTED')
+          AND d.absence_date BETWEEN :firstDayOfYear AND :lastDayOfYear
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    ApplicationForLeaveStatisticsSortQuery(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @param pageable                        page and sort of the statistics
+     * @param query                           for the name of the active persons, like the person search
+     * @param period                          of the statistics
+     * @param remainingVacationDaysExpireGlobally whether remaining vacation days expire if not configured by the holidays account
+     * @param today                           to calculate the left vacation days of the year for
+     * @return page of the ids of the active persons matching the query, ordered by the statistics
+     */
+    Page<Long> findActivePersonIds(Pageable pageable, String query, FilterPeriod period, boolean remainingVacationDaysExpireGlobally, LocalDate today) {
+        final MapSqlParameterSource parameters = parameters(period, remainingVacationDaysExpireGlobally, today)
+            .addValue("query", "%" + (hasText(query) ? query.toLowerCase(Locale.ROOT) : "") + "%");
+
+        return findPersonIds(ACTIVE_PERSONS, parameters, pageable);
+    }
+
+    /**
+     * @param personIds                       of the persons to consider
+     * @param pageable                        page and sort of the statistics
+     * @param period                          of the statistics
+     * @param remainingVacationDaysExpireGlobally whether remaining vacation days expire if not configured by the holidays account
+     * @param today                           to calculate the left vacation days of the year for
+     * @return page of the given person ids, ordered by the statistics
+     */
+    Page<Long> findPersonIds(List<Long> personIds, Pageable pageable, FilterPeriod period, boolean remainingVacationDaysExpireGlobally, LocalDate today) {
+        if (personIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        final MapSqlParameterSource parameters = parameters(period, remainingVacationDaysExpireGlobally, today)
+            .addValue("personIds", personIds);
+
+        return findPersonIds(PERSONS_BY_ID, parameters, pageable);
+    }
+
+    private Page<Long> findPersonIds(String personCondition, MapSqlParameterSource parameters, Pageable pageable) {
+        final Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM person p WHERE " + personCondition, parameters, Long.class);
+        if (total == null || total == 0) {
+            return Page.empty(pageable);
+        }
+
+        final String statistics = """
+            SELECT p.id, p.first_name, p.last_name,
+                COALESCE(u.waiting, 0) AS total_waiting_vacation_days,
+                COALESCE(u.allowed, 0) AS total_allowed_vacation_days,
+                %s AS left_vacation_days_for_year,
+                %s AS left_vacation_days_for_period
+            FROM person p
+            LEFT JOIN account a ON a.person_id = p.id AND a.valid_from BETWEEN :firstDayOfYear AND :lastDayOfYear
+            LEFT JOIN LATERAL (%s) u ON TRUE
+            WHERE %s
+            """.formatted(
+            leftVacationDays("u.year_before_expiry", "u.year_after_expiry", ":today"),
+            leftVacationDays("u.period_before_expiry", "u.period_after_expiry", ":to"),
+            USED_VACATION_DAYS,
+            personCondition
+        );
+
+        final String sql = "SELECT s.id FROM (" + statistics + ") s ORDER BY " + orderBy(pageable.getSort())
+            + (pageable.isPaged() ? " LIMIT :limit OFFSET :offset" : "");
+
+        if (pageable.isPaged()) {
+            parameters.addValue("limit", pageable.getPageSize()).addValue("offset", pageable.getOffset());
+        }
+
+        final List<Long> personIds = jdbcTemplate.queryForList(sql, parameters, Long.class);
+        return new PageImpl<>(personIds, pageable, total);
+    }
+
+    private static MapSqlParameterSource parameters(FilterPeriod period, boolean remainingVacationDaysExpireGlobally, LocalDate today) {
+        return new MapSqlParameterSource()
+            .addValue("from", period.getStartDate())
+            .addValue("to", period.getEndDate())
+            .addValue("firstDayOfYear", period.getStartDate().with(firstDayOfYear()))
+            .addValue("lastDayOfYear", period.getStartDate().with(lastDayOfYear()))
+            .addValue("expireGlobally", remainingVacationDaysExpireGlobally)
+            .addValue("today", today);
+    }
+
+    /**
+     * Left vacation days like {@link org.synyx.urlaubsverwaltung.account.VacationDaysLeft#getLeftVacationDays}
+     * of a {@link org.synyx.urlaubsverwaltung.account.VacationDaysLeft} built of the holidays account and the given
+     * used vacation days, {@code null} without holidays account.
+     */
+    private static String leftVacationDays(String usedBeforeExpiry, String usedAfterExpiry, String date) {
+
+        final String annual = "COALESCE(a.actual_vacation_days, 0)";
+        final String remaining = "COALESCE(a.remaining_vacation_days, 0)";
+        final String notExpiring = "COALESCE(a.remaining_vacation_days_not_expiring, 0)";
+        final String before = "COALESCE(" + usedBeforeExpiry + ", 0)";
+        final String after = "COALESCE(" + usedAfterExpiry + ", 0)";
+        final String expired = "(COALESCE(a.do_remaining_vacation_days_expire, :expireGlobally) AND " + date + " >= a.expiry_date)";
+
+        final String leftRemaining = "(" + remaining + " - " + before + ")";
+        final String leftNotExpiring = "LEAST(" + leftRemaining + ", " + notExpiring + ")";
+
+        return """
+            CASE
+                WHEN a.id IS NULL THEN NULL
+                WHEN %1$s <= 0 THEN %2$s + %1$s - %3$s
+                WHEN %4$s - %3$s < 0 THEN %2$s - (%3$s - %4$s) + CASE WHEN %6$s THEN 0 ELSE GREATEST(%1$s - %5$s, 0) END
+                ELSE %2$s + CASE WHEN %6$s THEN %4$s - %3$s ELSE %1$s - %3$s END
+            END""".formatted(leftRemaining, annual, after, leftNotExpiring, notExpiring, expired);
+    }
+
+    private static String orderBy(Sort sort) {
+        final List<String> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            final String column = COLUMNS_BY_PROPERTY.get(order.getProperty());
+            if (column != null) {
+                orders.add("s." + column + (order.isAscending() ? " ASC" : " DESC") + " NULLS LAST");
+            }
+        }
+        // unique order for stable pages
+        orders.add("s.first_name ASC");
+        orders.add("s.last_name ASC");
+        orders.add("s.id ASC");
+        return String.join(", ", orders);
+    }
+}
@@ -4,10 +4,8 @@ import de.focus_shift.launchpad.api.HasLaunchpad;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.SortDefault;
@@ -22,10 +20,12 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeService;
-import org.synyx.urlaubsverwaltung.csv.CSVFile;
+import org.synyx.urlaubsverwaltung.csv.CSVStream;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.search.PageStreamSupport;
 import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
 import org.synyx.urlaubsverwaltung.web.DateFormatAware;
 import org.synyx.urlaubsverwaltung.web.FilterPeriod;
@@ -42,8 +42,8 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
-import static java.lang.Integer.MAX_VALUE;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
 import static java.util.stream.Collectors.joining;
@@ -61,6 +61,8 @@ import static org.synyx.urlaubsverwaltung.web.html.PaginationPageLinkBuilder.bui
 @RequestMapping("/web/application/statistics")
 class ApplicationForLeaveStatisticsViewController implements HasLaunchpad {
 
+    private static final int EXPORT_PAGE_SIZE = 100;
+
     private final PersonService personService;
     private final ApplicationForLeaveStatisticsService applicationForLeaveStatisticsService;
     private final ApplicationForLeaveStatisticsCsvExportService applicationForLeaveStatisticsCsvExportService;
@@ -151,7 +153,7 @@ class ApplicationForLeaveStatisticsViewController implements HasLaunchpad {
 
     @PreAuthorize(IS_PRIVILEGED_USER)
     @GetMapping(value = "/download")
-    public ResponseEntity<ByteArrayResource> downloadCSV(
+    public ResponseEntity<StreamingResponseBody> downloadCSV(
         @SortDefault(sort = "person.firstName", direction = Sort.Direction.ASC) Pageable pageable,
         @RequestParam(value = "from", defaultValue = "") String from,
         @RequestParam(value = "to", defaultValue = "") String to,
@@ -168,19 +170,18 @@ class ApplicationForLeaveStatisticsViewController implements HasLaunchpad {
 
         final Person signedInUser = personService.getSignedInUser();
 
-        final Pageable adaptedPageable = allElements ? PageRequest.of(0, MAX_VALUE, pageable.getSort()) : pageable;
-        final String adaptedQuery = allElements ? "" : query;
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(adaptedPageable, adaptedQuery);
+        // all elements are streamed page by page to keep neither all statistics nor the whole csv file in memory
+        final Stream<ApplicationForLeaveStatistics> statistics = allElements
+            ? PageStreamSupport.stream(exportPageable -> applicationForLeaveStatisticsService.getStatistics(signedInUser, period, new PageableSearchQuery(exportPageable, "")), EXPORT_PAGE_SIZE, pageable.getSort())
+            : applicationForLeaveStatisticsService.getStatistics(signedInUser, period, new PageableSearchQuery(pageable, query)).stream();
 
-        final Page<ApplicationForLeaveStatistics> statisticsPage = applicationForLeaveStatisticsService.getStatistics(signedInUser, period, pageableSearchQuery);
-        final List<ApplicationForLeaveStatistics> statistics = statisticsPage.getContent();
-        final CSVFile csvFile = applicationForLeaveStatisticsCsvExportService.generateCSV(period, locale, statistics);
+        final CSVStream csvStream = applicationForLeaveStatisticsCsvExportService.streamCSV(period, locale, statistics);
 
         final HttpHeaders headers = new HttpHeaders();
         headers.setContentType(new MediaType("text", "csv", UTF_8));
-        headers.setContentDisposition(ContentDisposition.builder("attachment").filename(csvFile.fileName(), UTF_8).build());
+        headers.setContentDisposition(ContentDisposition.builder("attachment").filename(csvStream.fileName(), UTF_8).build());
 
-        return ResponseEntity.status(OK).headers(headers).body(csvFile.resource());
+        return ResponseEntity.status(OK).headers(headers).body(csvStream.body());
     }
 
     private FilterPeriod toFilterPeriod(String startDateString, String endDateString, Locale locale) {
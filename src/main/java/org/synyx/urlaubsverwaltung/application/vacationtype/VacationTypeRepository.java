@@ -1,10 +1,20 @@
 package org.synyx.urlaubsverwaltung.application.vacationtype;
 
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 interface VacationTypeRepository extends JpaRepository<VacationTypeEntity, Long> {
 
+    @Override
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    List<VacationTypeEntity> findAll(Sort sort);
+
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<VacationTypeEntity> findByActiveIsTrueOrderById();
 }
@@ -0,0 +1,58 @@
+package org.synyx.urlaubsverwaltung.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration of the Hibernate second level cache for rarely changing reference data like persons,
+ * departments, vacation types, sick note types and special leave settings.
+ *
+ * <p>
+ * The cache is kept in memory of each instance, so it should only be enabled if the application runs as
+ * a single instance. Size and expiry of the cache regions are configured in {@code application.conf}
+ * with the {@code caffeine.jcache} settings.
+ * </p>
+ */
+@Validated
+@ConfigurationProperties(prefix = "uv.cache")
+public class HibernateCacheConfigProperties {
+
+    /**
+     * Enables the second level cache of the cacheable entities.
+     */
+    private boolean enabled;
+
+    /**
+     * Caches the results of the queries of the reference data, e.g. all active vacation types.
+     */
+    private boolean queryCache = true;
+
+    /**
+     * Collects the Hibernate statistics that are reported as {@code hibernate.*} metrics, e.g. cache hits and misses.
+     */
+    private boolean statistics = true;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isQueryCache() {
+        return queryCache;
+    }
+
+    public void setQueryCache(boolean queryCache) {
+        this.queryCache = queryCache;
+    }
+
+    public boolean isStatistics() {
+        return statistics;
+    }
+
+    public void setStatistics(boolean statistics) {
+        this.statistics = statistics;
+    }
+}
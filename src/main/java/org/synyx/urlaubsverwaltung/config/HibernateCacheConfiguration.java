@@ -0,0 +1,50 @@
+package org.synyx.urlaubsverwaltung.config;
+
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_FACTORY;
+import static org.hibernate.cfg.AvailableSettings.GENERATE_STATISTICS;
+import static org.hibernate.cfg.AvailableSettings.USE_QUERY_CACHE;
+import static org.hibernate.cfg.AvailableSettings.USE_SECOND_LEVEL_CACHE;
+
+/**
+ * Enables the JCache backed Hibernate second level cache with Caffeine as cache provider, see {@link HibernateCacheConfigProperties}.
+ *
+ * <p>
+ * Unless enabled, the second level cache and the query cache are disabled explicitly. Otherwise Hibernate would use
+ * the JCache region factory on the classpath on its own and cache the cacheable entities on every instance.
+ * </p>
+ *
+ * <p>
+ * Hibernate keeps the cached entities, collections and query results consistent with writes through the entity manager.
+ * Cache hits and misses per region are reported with the Hibernate statistics as metrics.
+ * </p>
+ */
+@Configuration
+@EnableConfigurationProperties(HibernateCacheConfigProperties.class)
+class HibernateCacheConfiguration {
+
+    static final String JCACHE_PROVIDER = "hibernate.javax.cache.provider";
+    static final String JCACHE_MISSING_CACHE_STRATEGY = "hibernate.javax.cache.missing_cache_strategy";
+
+    @Bean
+    HibernatePropertiesCustomizer hibernateCacheCustomizer(HibernateCacheConfigProperties properties) {
+        return hibernateProperties -> {
+            if (!properties.isEnabled()) {
+                hibernateProperties.put(USE_SECOND_LEVEL_CACHE, false);
+                hibernateProperties.put(USE_QUERY_CACHE, false);
+                return;
+            }
+
+            hibernateProperties.put(USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(USE_QUERY_CACHE, properties.isQueryCache());
+            hibernateProperties.put(CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(JCACHE_PROVIDER, "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider");
+            hibernateProperties.put(JCACHE_MISSING_CACHE_STRATEGY, "create");
+            hibernateProperties.put(GENERATE_STATISTICS, properties.isStatistics());
+        };
+    }
+}
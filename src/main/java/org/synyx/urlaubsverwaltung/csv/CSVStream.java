@@ -0,0 +1,6 @@
+package org.synyx.urlaubsverwaltung.csv;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public record CSVStream(String fileName, StreamingResponseBody body) {
+}
@@ -8,9 +8,11 @@ import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.util.List;
 import java.util.Locale;
+import java.util.stream.Stream;
 
 import static com.opencsv.ICSVWriter.DEFAULT_LINE_END;
 import static com.opencsv.ICSVWriter.DEFAULT_QUOTE_CHARACTER;
@@ -24,10 +26,10 @@ public interface CsvExportService<T> {
      *
      * @param period    to add period to csv
      * @param locale    for i18n (messages and number formats)
-     * @param data      are the main information for the csv
+     * @param data      are the main information for the csv, iterated only once
      * @param csvWriter to write data that will be used to create the ByteArrayResource
      */
-    void write(FilterPeriod period, Locale locale, List<T> data, CSVWriter csvWriter);
+    void write(FilterPeriod period, Locale locale, Iterable<T> data, CSVWriter csvWriter);
 
     /**
      * Contains the algorithm to create a unique filename
@@ -49,6 +51,17 @@ public interface CsvExportService<T> {
         return new CSVFile(fileName(period, locale), resource(period, locale, data));
     }
 
+    /**
+     * Streams the csv file of the given data, so that neither the data nor the csv file have to be held in memory.
+     *
+     * @param period will be used to create the content of the csv file
+     * @param data   will be consumed lazily while the csv file is written to the output stream
+     * @return a {@link CSVStream} containing the filename and the streaming body
+     */
+    default CSVStream streamCSV(FilterPeriod period, Locale locale, Stream<T> data) {
+        return new CSVStream(fileName(period, locale), outputStream -> writeCSV(period, locale, data, outputStream));
+    }
+
     /**
      * Method to override the utf8 bom that is used at the start of the csv.
      *
@@ -76,20 +89,32 @@ public interface CsvExportService<T> {
      * @return {@link ByteArrayResource} based on the filter period and data
      */
     default ByteArrayResource resource(FilterPeriod period, Locale locale, List<T> data) {
-        final ByteArrayResource byteArrayResource;
-
         try (final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream()) {
-            byteArrayOutputStream.write(bom());
+            writeCSV(period, locale, data.stream(), byteArrayOutputStream);
+            return new ByteArrayResource(byteArrayOutputStream.toByteArray());
+        } catch (IOException e) {
+            throw new CsvExportException("csv data not be written to ByteArrayResource", e);
+        }
+    }
 
-            try (final OutputStreamWriter outputStreamWriter = new OutputStreamWriter(byteArrayOutputStream, UTF_8)) {
-                try (final CSVWriter csvWriter = new CSVWriter(outputStreamWriter, separator(), NO_QUOTE_CHARACTER, DEFAULT_QUOTE_CHARACTER, DEFAULT_LINE_END)) {
-                    write(period, locale, data, csvWriter);
-                }
-            }
-            byteArrayResource = new ByteArrayResource(byteArrayOutputStream.toByteArray());
-            return byteArrayResource;
+    /**
+     * Helper method to write the csv of the filter period and the provided data to the given output stream.
+     * The output stream is flushed but not closed.
+     *
+     * @param period       to create content
+     * @param data         to create content, consumed lazily
+     * @param outputStream to write the csv to
+     */
+    default void writeCSV(FilterPeriod period, Locale locale, Stream<T> data, OutputStream outputStream) {
+        try {
+            outputStream.write(bom());
+
+            final OutputStreamWriter outputStreamWriter = new OutputStreamWriter(outputStream, UTF_8);
+            final CSVWriter csvWriter = new CSVWriter(outputStreamWriter, separator(), NO_QUOTE_CHARACTER, DEFAULT_QUOTE_CHARACTER, DEFAULT_LINE_END);
+            write(period, locale, data::iterator, csvWriter);
+            csvWriter.flush();
         } catch (ValidationException | IOException e) {
-            throw new CsvExportException("csv data not be written to ByteArrayResource", e);
+            throw new CsvExportException("csv data not be written to output stream", e);
         }
     }
 }
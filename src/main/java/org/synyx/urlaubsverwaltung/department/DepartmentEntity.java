@@ -1,5 +1,6 @@
 package org.synyx.urlaubsverwaltung.department;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
@@ -10,6 +11,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.Cache;
 import org.synyx.urlaubsverwaltung.person.Person;
 
 import java.time.LocalDate;
@@ -20,8 +22,11 @@ import java.util.Objects;
 import static jakarta.persistence.FetchType.EAGER;
 import static jakarta.persistence.GenerationType.SEQUENCE;
 import static java.time.ZoneOffset.UTC;
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
 
 @Entity(name = "department")
+@Cacheable
+@Cache(usage = READ_WRITE)
 class DepartmentEntity {
 
     @Id
@@ -45,14 +50,17 @@ class DepartmentEntity {
 
     @CollectionTable(name = "department_member", joinColumns = @JoinColumn(name = "department_id"))
     @ElementCollection(fetch = EAGER)
+    @Cache(usage = READ_WRITE)
     private List<DepartmentMemberEmbeddable> members = new ArrayList<>();
 
     @OneToMany(fetch = EAGER)
     @CollectionTable(name = "department_department_head")
+    @Cache(usage = READ_WRITE)
     private List<Person> departmentHeads = new ArrayList<>();
 
     @OneToMany(fetch = EAGER)
     @CollectionTable(name = "department_second_stage_authority")
+    @Cache(usage = READ_WRITE)
     private List<Person> secondStageAuthorities = new ArrayList<>();
 
     public DepartmentEntity() {
@@ -0,0 +1,281 @@
+package org.synyx.urlaubsverwaltung.department;
+
+import org.slf4j.Logger;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonDeletedEvent;
+import org.synyx.urlaubsverwaltung.person.PersonDisabledEvent;
+import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.person.PersonUpdatedEvent;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * In-memory graph of the memberships of all departments, to answer membership and authorization checks
+ * with set lookups instead of department queries.
+ *
+ * <p>
+ * The graph is built lazily from all departments and discarded whenever a department is created, updated
+ * or deleted and whenever a person is updated, disabled or deleted. If this happens within a transaction,
+ * the graph is discarded again after the transaction completed and is not kept in the meantime,
+ * so that no uncommitted or outdated state is cached.
+ * </p>
+ *
+ * <p>
+ * Changes made by other instances are not announced to this one, therefore the graph expires after
+ * {@link #TIME_TO_LIVE} at the latest. It only holds ids, the members are loaded freshly on each call.
+ * </p>
+ */
+@Component
+class DepartmentMembershipGraph {
+
+    private static final Logger LOG = getLogger(lookup().lookupClass());
+
+    static final Duration TIME_TO_LIVE = Duration.ofSeconds(30);
+
+    private final DepartmentRepository departmentRepository;
+    private final PersonService personService;
+    private final Clock clock;
+
+    private volatile Snapshot snapshot;
+    private long generation;
+    private int pendingTransactions;
+
+    DepartmentMembershipGraph(DepartmentRepository departmentRepository, PersonService personService, Clock clock) {
+        this.departmentRepository = departmentRepository;
+        this.personService = personService;
+        this.clock = clock;
+    }
+
+    /**
+     * @param member to get the departments of
+     * @return ids of the departments the given person is a member of
+     */
+    Set<Long> getDepartmentIdsOfMember(Person member) {
+        return get(snapshot().departmentIdsByMember(), member);
+    }
+
+    /**
+     * @param departmentHead to get the departments of
+     * @return ids of the departments the given person is department head of
+     */
+    Set<Long> getDepartmentIdsOfDepartmentHead(Person departmentHead) {
+        return get(snapshot().departmentIdsByDepartmentHead(), departmentHead);
+    }
+
+    /**
+     * @param secondStageAuthority to get the departments of
+     * @return ids of the departments the given person is second stage authority of
+     */
+    Set<Long> getDepartmentIdsOfSecondStageAuthority(Person secondStageAuthority) {
+        return get(snapshot().departmentIdsBySecondStageAuthority(), secondStageAuthority);
+    }
+
+    /**
+     * @param departmentHead to get the members of
+     * @return distinct members of all departments the given person is department head of
+     */
+    List<Person> getMembersOfDepartmentHead(Person departmentHead) {
+        return toPersons(get(snapshot().memberIdsByDepartmentHead(), departmentHead));
+    }
+
+    /**
+     * @param secondStageAuthority to get the members of
+     * @return distinct members of all departments the given person is second stage authority of
+     */
+    List<Person> getMembersOfSecondStageAuthority(Person secondStageAuthority) {
+        return toPersons(get(snapshot().memberIdsBySecondStageAuthority(), secondStageAuthority));
+    }
+
+    /**
+     * @return {@code true} if the given person is a member of a department the department head is responsible for
+     */
+    boolean isMemberOfDepartmentHead(Person departmentHead, Person person) {
+        return get(snapshot().memberIdsByDepartmentHead(), departmentHead).contains(person.getId());
+    }
+
+    /**
+     * @return {@code true} if the given person is a member of a department the second stage authority is responsible for
+     */
+    boolean isMemberOfSecondStageAuthority(Person secondStageAuthority, Person person) {
+        return get(snapshot().memberIdsBySecondStageAuthority(), secondStageAuthority).contains(person.getId());
+    }
+
+    /**
+     * @return {@code true} if the given person is a member, but not a second stage authority,
+     * of a department the department head is responsible for
+     */
+    boolean isManagedByDepartmentHead(Person departmentHead, Person person) {
+        return get(snapshot().managedMemberIdsByDepartmentHead(), departmentHead).contains(person.getId());
+    }
+
+    /**
+     * @return {@code true} if the given person is a member, but not a second stage authority,
+     * of a department the second stage authority is responsible for
+     */
+    boolean isManagedBySecondStageAuthority(Person secondStageAuthority, Person person) {
+        return get(snapshot().managedMemberIdsBySecondStageAuthority(), secondStageAuthority).contains(person.getId());
+    }
+
+    /**
+     * Discards the graph, so that it is built again on the next access.
+     */
+    void invalidate() {
+        synchronized (this) {
+            generation++;
+            snapshot = null;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            synchronized (this) {
+                pendingTransactions++;
+            }
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    synchronized (DepartmentMembershipGraph.this) {
+                        pendingTransactions--;
+                        generation++;
+                        snapshot = null;
+                    }
+                }
+            });
+        }
+    }
+
+    @EventListener
+    void onPersonUpdated(PersonUpdatedEvent event) {
+        invalidate();
+    }
+
+    @EventListener
+    void onPersonDisabled(PersonDisabledEvent event) {
+        invalidate();
+    }
+
+    @EventListener
+    void onPersonDeleted(PersonDeletedEvent event) {
+        invalidate();
+    }
+
+    private Snapshot snapshot() {
+        final Snapshot current = snapshot;
+        if (current != null && Instant.now(clock).isBefore(current.loadedAt().plus(TIME_TO_LIVE))) {
+            return current;
+        }
+
+        final long generationBeforeLoad;
+        synchronized (this) {
+            generationBeforeLoad = generation;
+        }
+
+        final Snapshot loaded = load();
+
+        synchronized (this) {
+            if (generation == generationBeforeLoad && pendingTransactions == 0) {
+                snapshot = loaded;
+            }
+        }
+
+        return loaded;
+    }
+
+    private Snapshot load() {
+        final Instant loadedAt = Instant.now(clock);
+        final Set<Long> personIds = new HashSet<>();
+        final Map<Long, Set<Long>> departmentIdsByMember = new HashMap<>();
+        final Map<Long, Set<Long>> departmentIdsByDepartmentHead = new HashMap<>();
+        final Map<Long, Set<Long>> departmentIdsBySecondStageAuthority = new HashMap<>();
+        final Map<Long, Set<Long>> memberIdsByDepartmentHead = new HashMap<>();
+        final Map<Long, Set<Long>> memberIdsBySecondStageAuthority = new HashMap<>();
+        final Map<Long, Set<Long>> managedMemberIdsByDepartmentHead = new HashMap<>();
+        final Map<Long, Set<Long>> managedMemberIdsBySecondStageAuthority = new HashMap<>();
+
+        final List<DepartmentEntity> departments = departmentRepository.findAll();
+        for (DepartmentEntity department : departments) {
+
+            final Set<Long> memberIds = new LinkedHashSet<>();
+            for (DepartmentMemberEmbeddable member : department.getMembers()) {
+                final Long personId = member.getPerson().getId();
+                personIds.add(personId);
+                memberIds.add(personId);
+                add(departmentIdsByMember, personId, department.getId());
+            }
+
+            final Set<Long> managedMemberIds = new LinkedHashSet<>(memberIds);
+            department.getSecondStageAuthorities().forEach(secondStageAuthority -> managedMemberIds.remove(secondStageAuthority.getId()));
+
+            for (Person departmentHead : department.getDepartmentHeads()) {
+                add(departmentIdsByDepartmentHead, departmentHead.getId(), department.getId());
+                addAll(memberIdsByDepartmentHead, departmentHead.getId(), memberIds);
+                addAll(managedMemberIdsByDepartmentHead, departmentHead.getId(), managedMemberIds);
+            }
+
+            for (Person secondStageAuthority : department.getSecondStageAuthorities()) {
+                add(departmentIdsBySecondStageAuthority, secondStageAuthority.getId(), department.getId());
+                addAll(memberIdsBySecondStageAuthority, secondStageAuthority.getId(), memberIds);
+                addAll(managedMemberIdsBySecondStageAuthority, secondStageAuthority.getId(), managedMemberIds);
+            }
+        }
+
+        LOG.debug("Built department membership graph of {} departments and {} members", departments.size(), personIds.size());
+
+        return new Snapshot(loadedAt, departmentIdsByMember, departmentIdsByDepartmentHead, departmentIdsBySecondStageAuthority,
+            memberIdsByDepartmentHead, memberIdsBySecondStageAuthority, managedMemberIdsByDepartmentHead, managedMemberIdsBySecondStageAuthority);
+    }
+
+    private static Set<Long> get(Map<Long, Set<Long>> adjacency, Person person) {
+        return adjacency.getOrDefault(person.getId(), Set.of());
+    }
+
+    private List<Person> toPersons(Set<Long> personIds) {
+        if (personIds.isEmpty()) {
+            return List.of();
+        }
+
+        final Map<Long, Person> personsById = personService.getPersonsByIds(List.copyOf(personIds)).stream()
+            .collect(toMap(Person::getId, identity()));
+
+        return personIds.stream()
+            .map(personsById::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    private static void add(Map<Long, Set<Long>> adjacency, Long key, Long value) {
+        adjacency.computeIfAbsent(key, unused -> new LinkedHashSet<>()).add(value);
+    }
+
+    private static void addAll(Map<Long, Set<Long>> adjacency, Long key, Set<Long> values) {
+        adjacency.computeIfAbsent(key, unused -> new LinkedHashSet<>()).addAll(values);
+    }
+
+    private record Snapshot(
+        Instant loadedAt,
+        Map<Long, Set<Long>> departmentIdsByMember,
+        Map<Long, Set<Long>> departmentIdsByDepartmentHead,
+        Map<Long, Set<Long>> departmentIdsBySecondStageAuthority,
+        Map<Long, Set<Long>> memberIdsByDepartmentHead,
+        Map<Long, Set<Long>> memberIdsBySecondStageAuthority,
+        Map<Long, Set<Long>> managedMemberIdsByDepartmentHead,
+        Map<Long, Set<Long>> managedMemberIdsBySecondStageAuthority
+    ) {
+    }
+}
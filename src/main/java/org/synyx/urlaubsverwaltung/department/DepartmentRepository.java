@@ -1,7 +1,12 @@
 package org.synyx.urlaubsverwaltung.department;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.Role;
 
 import java.util.List;
 import java.util.Optional;
@@ -12,6 +17,26 @@ import java.util.Optional;
  */
 interface DepartmentRepository extends JpaRepository<DepartmentEntity, Long> {
 
+    String MANAGED_MEMBERS_OF_PERSON = """
+        select p from Person p
+        where exists (
+            select m from DepartmentEntity d join d.members m
+            where m.person = p
+              and ((:departmentHead = true and :person member of d.departmentHeads)
+                or (:secondStageAuthority = true and :person member of d.secondStageAuthorities))
+        )
+        and p.niceNameSearch like lower(concat('%', :query, '%'))
+        """;
+
+    String MEMBERS_OF_DEPARTMENT = """
+        select p from Person p
+        where exists (
+            select m from DepartmentEntity d join d.members m
+            where m.person = p and d.id = :departmentId
+        )
+        and p.niceNameSearch like lower(concat('%', :query, '%'))
+        """;
+
     List<DepartmentEntity> findByDepartmentHeadsOrSecondStageAuthorities(Person departmentHead, Person secondStageAuthority);
 
     List<DepartmentEntity> findByDepartmentHeads(Person person);
@@ -23,4 +48,22 @@ interface DepartmentRepository extends JpaRepository<DepartmentEntity, Long> {
     List<DepartmentEntity> findDistinctByMembersPersonIn(List<Person> person);
 
     Optional<DepartmentEntity> findFirstByName(String departmentName);
+
+    @Query(MANAGED_MEMBERS_OF_PERSON + " and :permission member of p.permissions")
+    Page<Person> findManagedMembersOfPersonByPermissionsContainingAndNiceNameContainingIgnoreCase(
+        @Param("person") Person person, @Param("departmentHead") boolean departmentHead, @Param("secondStageAuthority") boolean secondStageAuthority,
+        @Param("permission") Role permission, @Param("query") String query, Pageable pageable);
+
+    @Query(MANAGED_MEMBERS_OF_PERSON + " and :permission not member of p.permissions")
+    Page<Person> findManagedMembersOfPersonByPermissionsNotContainingAndNiceNameContainingIgnoreCase(
+        @Param("person") Person person, @Param("departmentHead") boolean departmentHead, @Param("secondStageAuthority") boolean secondStageAuthority,
+        @Param("permission") Role permission, @Param("query") String query, Pageable pageable);
+
+    @Query(MEMBERS_OF_DEPARTMENT + " and :permission member of p.permissions")
+    Page<Person> findMembersOfDepartmentByPermissionsContainingAndNiceNameContainingIgnoreCase(
+        @Param("departmentId") Long departmentId, @Param("permission") Role permission, @Param("query") String query, Pageable pageable);
+
+    @Query(MEMBERS_OF_DEPARTMENT + " and :permission not member of p.permissions")
+    Page<Person> findMembersOfDepartmentByPermissionsNotContainingAndNiceNameContainingIgnoreCase(
+        @Param("departmentId") Long departmentId, @Param("permission") Role permission, @Param("query") String query, Pageable pageable);
 }
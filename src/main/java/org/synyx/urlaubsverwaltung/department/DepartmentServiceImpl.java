@@ -6,7 +6,9 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.synyx.urlaubsverwaltung.application.application.Application;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
@@ -14,7 +16,6 @@ import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonDeletedEvent;
 import org.synyx.urlaubsverwaltung.person.PersonId;
 import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
-import org.synyx.urlaubsverwaltung.search.SortComparator;
 
 import java.time.Clock;
 import java.time.Instant;
@@ -41,6 +42,7 @@ import static org.slf4j.LoggerFactory.getLogger;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.activeStatuses;
 import static org.synyx.urlaubsverwaltung.person.Role.BOSS;
 import static org.synyx.urlaubsverwaltung.person.Role.DEPARTMENT_HEAD;
+import static org.synyx.urlaubsverwaltung.person.Role.INACTIVE;
 import static org.synyx.urlaubsverwaltung.person.Role.OFFICE;
 import static org.synyx.urlaubsverwaltung.person.Role.SECOND_STAGE_AUTHORITY;
 
@@ -52,14 +54,19 @@ class DepartmentServiceImpl implements DepartmentService {
 
     private static final Logger LOG = getLogger(lookup().lookupClass());
 
+    private static final Set<String> PERSON_SORT_PROPERTIES = Set.of("firstName", "lastName", "username", "email");
+
     private final DepartmentRepository departmentRepository;
+    private final DepartmentMembershipGraph departmentMembershipGraph;
     private final ApplicationService applicationService;
     private final ApplicationEventPublisher applicationEventPublisher;
     private final Clock clock;
 
     @Autowired
-    DepartmentServiceImpl(DepartmentRepository departmentRepository, ApplicationService applicationService, ApplicationEventPublisher applicationEventPublisher, Clock clock) {
+    DepartmentServiceImpl(DepartmentRepository departmentRepository, DepartmentMembershipGraph departmentMembershipGraph,
+                          ApplicationService applicationService, ApplicationEventPublisher applicationEventPublisher, Clock clock) {
         this.departmentRepository = departmentRepository;
+        this.departmentMembershipGraph = departmentMembershipGraph;
         this.applicationService = applicationService;
         this.applicationEventPublisher = applicationEventPublisher;
         this.clock = clock;
@@ -67,28 +74,21 @@ class DepartmentServiceImpl implements DepartmentService {
 
     @Override
     public Page<Person> getManagedMembersOfPerson(Person person, PageableSearchQuery personPageableSearchQuery) {
-        return getManagedMembersOfPerson(person, personPageableSearchQuery, not(Person::isInactive));
+        return getManagedMembersOfPerson(person, personPageableSearchQuery, false);
     }
 
     @Override
     public List<Person> getManagedActiveMembersOfPerson(Person person) {
 
-        final List<DepartmentEntity> departments;
+        final Stream<Person> membersOfDepartmentHead = person.hasRole(DEPARTMENT_HEAD)
+            ? departmentMembershipGraph.getMembersOfDepartmentHead(person).stream()
+            : Stream.empty();
 
-        if (person.hasRole(DEPARTMENT_HEAD) && person.hasRole(SECOND_STAGE_AUTHORITY)) {
-            departments = departmentRepository.findByDepartmentHeadsOrSecondStageAuthorities(person, person);
-        } else if (person.hasRole(DEPARTMENT_HEAD)) {
-            departments = departmentRepository.findByDepartmentHeads(person);
-        } else if (person.hasRole(SECOND_STAGE_AUTHORITY)) {
-            departments = departmentRepository.findBySecondStageAuthorities(person);
-        } else {
-            departments = List.of();
-        }
+        final Stream<Person> membersOfSecondStageAuthority = person.hasRole(SECOND_STAGE_AUTHORITY)
+            ? departmentMembershipGraph.getMembersOfSecondStageAuthority(person).stream()
+            : Stream.empty();
 
-        return departments.stream()
-            .map(DepartmentEntity::getMembers)
-            .flatMap(List::stream)
-            .map(DepartmentMemberEmbeddable::getPerson)
+        return Stream.concat(membersOfDepartmentHead, membersOfSecondStageAuthority)
             .distinct()
             .filter(Person::isActive)
             .collect(toList());
@@ -96,51 +96,33 @@ class DepartmentServiceImpl implements DepartmentService {
 
     @Override
     public Page<Person> getManagedInactiveMembersOfPerson(Person person, PageableSearchQuery personPageableSearchQuery) {
-        return getManagedMembersOfPerson(person, personPageableSearchQuery, Person::isInactive);
+        return getManagedMembersOfPerson(person, personPageableSearchQuery, true);
     }
 
     @Override
     public Page<Person> getManagedMembersOfPersonAndDepartment(Person person, Long departmentId, PageableSearchQuery pageableSearchQuery) {
-        final Predicate<Person> filter = nameContains(pageableSearchQuery.getQuery()).and(not(Person::isInactive));
-        return managedMembersOfPersonAndDepartment(person, departmentId, pageableSearchQuery, filter);
+        return managedMembersOfPersonAndDepartment(person, departmentId, pageableSearchQuery, false);
     }
 
     @Override
     public Page<Person> getManagedInactiveMembersOfPersonAndDepartment(Person person, Long departmentId, PageableSearchQuery pageableSearchQuery) {
-        final Predicate<Person> filter = nameContains(pageableSearchQuery.getQuery()).and(Person::isInactive);
-        return managedMembersOfPersonAndDepartment(person, departmentId, pageableSearchQuery, filter);
+        return managedMembersOfPersonAndDepartment(person, departmentId, pageableSearchQuery, true);
     }
 
-    private Page<Person> getManagedMembersOfPerson(Person person, PageableSearchQuery personPageableSearchQuery, Predicate<Person> predicate) {
-        final List<DepartmentEntity> departments;
+    private Page<Person> getManagedMembersOfPerson(Person person, PageableSearchQuery personPageableSearchQuery, boolean inactive) {
+        final boolean departmentHead = person.hasRole(DEPARTMENT_HEAD);
+        final boolean secondStageAuthority = person.hasRole(SECOND_STAGE_AUTHORITY);
 
-        if (person.hasRole(DEPARTMENT_HEAD) && person.hasRole(SECOND_STAGE_AUTHORITY)) {
-            departments = departmentRepository.findByDepartmentHeadsOrSecondStageAuthorities(person, person);
-        } else if (person.hasRole(DEPARTMENT_HEAD)) {
-            departments = departmentRepository.findByDepartmentHeads(person);
-        } else if (person.hasRole(SECOND_STAGE_AUTHORITY)) {
-            departments = departmentRepository.findBySecondStageAuthorities(person);
-        } else {
-            departments = List.of();
+        if (!departmentHead && !secondStageAuthority) {
+            return new PageImpl<>(List.of(), personPageableSearchQuery.getPageable(), 0);
         }
 
-        final Pageable pageable = personPageableSearchQuery.getPageable();
-
-        final List<Person> managedMembers = departments.stream()
-            .map(DepartmentEntity::getMembers)
-            .flatMap(List::stream)
-            .map(DepartmentMemberEmbeddable::getPerson)
-            .distinct()
-            .filter(nameContains(personPageableSearchQuery.getQuery()).and(predicate))
-            .sorted(new SortComparator<>(Person.class, pageable.getSort()))
-            .toList();
+        final Pageable pageable = toPersonPageable(personPageableSearchQuery.getPageable());
+        final String query = personPageableSearchQuery.getQuery();
 
-        final List<Person> content = managedMembers.stream()
-            .skip((long) pageable.getPageNumber() * pageable.getPageSize())
-            .limit(pageable.getPageSize())
-            .collect(toList());
-
-        return new PageImpl<>(content, pageable, managedMembers.size());
+        return inactive
+            ? departmentRepository.findManagedMembersOfPersonByPermissionsContainingAndNiceNameContainingIgnoreCase(person, departmentHead, secondStageAuthority, INACTIVE, query, pageable)
+            : departmentRepository.findManagedMembersOfPersonByPermissionsNotContainingAndNiceNameContainingIgnoreCase(person, departmentHead, secondStageAuthority, INACTIVE, query, pageable);
     }
 
     @Override
@@ -179,6 +161,8 @@ class DepartmentServiceImpl implements DepartmentService {
         final DepartmentEntity createdDepartmentEntity = departmentRepository.save(departmentEntity);
         final Department createdDepartment = mapToDepartment(createdDepartmentEntity);
 
+        departmentMembershipGraph.invalidate();
+
         LOG.info("Created department: {}", createdDepartment);
 
         return createdDepartment;
@@ -200,6 +184,7 @@ class DepartmentServiceImpl implements DepartmentService {
 
         final DepartmentEntity updatedDepartmentEntity = departmentRepository.save(departmentEntity);
         final Department updatedDepartment = mapToDepartment(updatedDepartmentEntity);
+        departmentMembershipGraph.invalidate();
         sendMemberLeftDepartmentEvent(department, currentDepartmentEntity);
 
         LOG.info("Updated department: {}", updatedDepartment);
@@ -261,6 +246,7 @@ class DepartmentServiceImpl implements DepartmentService {
 
         if (this.departmentExists(departmentId)) {
             departmentRepository.deleteById(departmentId);
+            departmentMembershipGraph.invalidate();
         } else {
             LOG.info("No department found for ID = {}, deletion is not necessary.", departmentId);
         }
@@ -361,7 +347,7 @@ class DepartmentServiceImpl implements DepartmentService {
     @Override
     public boolean isDepartmentHeadAllowedToManagePerson(Person departmentHead, Person person) {
         if (departmentHead.hasRole(DEPARTMENT_HEAD)) {
-            return getManagedMembersOfDepartmentHead(departmentHead).contains(person);
+            return departmentMembershipGraph.isManagedByDepartmentHead(departmentHead, person);
         }
 
         return false;
@@ -378,7 +364,7 @@ class DepartmentServiceImpl implements DepartmentService {
     @Override
     public boolean isSecondStageAuthorityAllowedToManagePerson(Person secondStageAuthority, Person person) {
         if (secondStageAuthority.hasRole(SECOND_STAGE_AUTHORITY)) {
-            return getManagedMembersForSecondStageAuthority(secondStageAuthority).contains(person);
+            return departmentMembershipGraph.isManagedBySecondStageAuthority(secondStageAuthority, person);
         }
 
         return false;
@@ -444,22 +430,18 @@ class DepartmentServiceImpl implements DepartmentService {
 
     @Override
     public boolean hasDepartmentMatch(Person person, Person otherPerson) {
+        final Set<Long> personDepartmentIds = departmentIdsOfMemberOrResponsible(person);
+        final Set<Long> otherPersonDepartmentIds = departmentIdsOfMemberOrResponsible(otherPerson);
+        return personDepartmentIds.stream().anyMatch(otherPersonDepartmentIds::contains);
+    }
 
-        final Set<DepartmentEntity> personDepartments = new HashSet<>(departmentRepository.findByMembersPerson(person));
+    private Set<Long> departmentIdsOfMemberOrResponsible(Person person) {
+        final Set<Long> departmentIds = new HashSet<>(departmentMembershipGraph.getDepartmentIdsOfMember(person));
         if (person.hasAnyRole(DEPARTMENT_HEAD, SECOND_STAGE_AUTHORITY)) {
-            personDepartments.addAll(
-                departmentRepository.findByDepartmentHeadsOrSecondStageAuthorities(person, person)
-            );
+            departmentIds.addAll(departmentMembershipGraph.getDepartmentIdsOfDepartmentHead(person));
+            departmentIds.addAll(departmentMembershipGraph.getDepartmentIdsOfSecondStageAuthority(person));
         }
-
-        final Set<DepartmentEntity> otherPersonDepartments = new HashSet<>(departmentRepository.findByMembersPerson(otherPerson));
-        if (otherPerson.hasAnyRole(DEPARTMENT_HEAD, SECOND_STAGE_AUTHORITY)) {
-            otherPersonDepartments.addAll(
-                departmentRepository.findByDepartmentHeadsOrSecondStageAuthorities(otherPerson, otherPerson)
-            );
-        }
-
-        return personDepartments.stream().anyMatch(otherPersonDepartments::contains);
+        return departmentIds;
     }
 
     private static List<String> merge(Collection<String> departmentNames, Collection<String> bucket) {
@@ -529,45 +511,56 @@ class DepartmentServiceImpl implements DepartmentService {
         return list;
     }
 
-    private Page<Person> managedMembersOfPersonAndDepartment(Person person, Long departmentId, PageableSearchQuery pageableSearchQuery, Predicate<Person> filter) {
-        final Pageable pageable = pageableSearchQuery.getPageable();
+    private Page<Person> managedMembersOfPersonAndDepartment(Person person, Long departmentId, PageableSearchQuery pageableSearchQuery, boolean inactive) {
 
-        final DepartmentEntity departmentEntity = departmentRepository.findById(departmentId)
-            .orElseThrow(() -> new IllegalArgumentException("could not find department with id=" + departmentId));
+        if (!departmentExists(departmentId)) {
+            throw new IllegalArgumentException("could not find department with id=" + departmentId);
+        }
 
-        if (!doesPersonManageDepartment(person, departmentEntity)) {
+        if (!doesPersonManageDepartment(person, departmentId)) {
             return Page.empty();
         }
 
-        final List<DepartmentMemberEmbeddable> departmentMembers = departmentEntity.getMembers();
+        final Pageable pageable = toPersonPageable(pageableSearchQuery.getPageable());
+        final String query = pageableSearchQuery.getQuery();
 
-        final List<Person> content = departmentMembers.stream()
-            .map(DepartmentMemberEmbeddable::getPerson)
-            .filter(filter)
-            .sorted(new SortComparator<>(Person.class, pageable.getSort()))
-            .skip((long) pageable.getPageNumber() * pageable.getPageSize())
-            .limit(pageable.getPageSize())
-            .collect(toList());
-
-        return new PageImpl<>(content, pageable, departmentMembers.size());
+        return inactive
+            ? departmentRepository.findMembersOfDepartmentByPermissionsContainingAndNiceNameContainingIgnoreCase(departmentId, INACTIVE, query, pageable)
+            : departmentRepository.findMembersOfDepartmentByPermissionsNotContainingAndNiceNameContainingIgnoreCase(departmentId, INACTIVE, query, pageable);
     }
 
-    private static boolean doesPersonManageDepartment(Person person, DepartmentEntity departmentEntity) {
+    private boolean doesPersonManageDepartment(Person person, Long departmentId) {
         if (person.hasRole(BOSS) || person.hasRole(OFFICE)) {
             return true;
         }
 
         if (person.hasRole(DEPARTMENT_HEAD)) {
-            return departmentEntity.getDepartmentHeads().stream().anyMatch(person::equals);
+            return departmentMembershipGraph.getDepartmentIdsOfDepartmentHead(person).contains(departmentId);
         }
 
         if (person.hasRole(SECOND_STAGE_AUTHORITY)) {
-            return departmentEntity.getSecondStageAuthorities().stream().anyMatch(person::equals);
+            return departmentMembershipGraph.getDepartmentIdsOfSecondStageAuthority(person).contains(departmentId);
         }
 
         return false;
     }
 
+    /**
+     * Restricts the sort to attributes of a {@link Person}, since other attributes are sorted by the callers,
+     * and sorts by id last to get stable pages.
+     */
+    private static Pageable toPersonPageable(Pageable pageable) {
+        final List<Sort.Order> personOrders = pageable.getSort().stream()
+            .filter(order -> PERSON_SORT_PROPERTIES.contains(order.getProperty()))
+            .toList();
+
+        final Sort sort = Sort.by(personOrders).and(Sort.by("id"));
+
+        return pageable.isPaged()
+            ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort)
+            : Pageable.unpaged(sort);
+    }
+
     private void sendMemberLeftDepartmentEvent(Department department, DepartmentEntity currentDepartmentEntity) {
         currentDepartmentEntity.getMembers().stream()
             .map(DepartmentMemberEmbeddable::getPerson)
@@ -585,7 +578,7 @@ class DepartmentServiceImpl implements DepartmentService {
 
     private boolean isSecondStageAuthorityAllowedToAccessPersonData(Person secondStageAuthority, Person person) {
         if (secondStageAuthority.hasRole(SECOND_STAGE_AUTHORITY)) {
-            return getMembersForSecondStageAuthority(secondStageAuthority).contains(person);
+            return departmentMembershipGraph.isMemberOfSecondStageAuthority(secondStageAuthority, person);
         }
 
         return false;
@@ -593,16 +586,12 @@ class DepartmentServiceImpl implements DepartmentService {
 
     private boolean isDepartmentHeadAllowedToAccessPersonData(Person departmentHead, Person person) {
         if (departmentHead.hasRole(DEPARTMENT_HEAD)) {
-            return getMembersForDepartmentHead(departmentHead).contains(person);
+            return departmentMembershipGraph.isMemberOfDepartmentHead(departmentHead, person);
         }
 
         return false;
     }
 
-    private static Predicate<Person> nameContains(String query) {
-        return person -> person.getNiceName().toLowerCase().contains(query.toLowerCase());
-    }
-
     private Comparator<Department> departmentComparator() {
         return comparing(department -> department.getName().toLowerCase());
     }
@@ -1,5 +1,7 @@
 package org.synyx.urlaubsverwaltung.mail;
 
+import java.util.List;
+
 /**
  * This service provides sending notification emails.
  */
@@ -11,4 +13,12 @@ public interface MailService {
      * @param mail that defines the parameters to send the mail
      */
     void send(Mail mail);
+
+    /**
+     * Send all the given {@link Mail}s, e.g. the mails of a scheduled job.
+     * The effective locales of all recipients are resolved at once.
+     *
+     * @param mails that define the parameters to send the mails
+     */
+    void sendAll(List<Mail> mails);
 }
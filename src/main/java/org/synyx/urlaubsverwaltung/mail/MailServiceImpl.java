@@ -47,10 +47,24 @@ class MailServiceImpl implements MailService {
     @Async
     @Override
     public void send(Mail mail) {
-
         final List<Person> recipients = getRecipients(mail);
-        final Map<Person, Locale> effectiveLocales = userSettingsService.getEffectiveLocale(recipients);
+        send(mail, recipients, userSettingsService.getEffectiveLocale(recipients));
+    }
+
+    @Async
+    @Override
+    public void sendAll(List<Mail> mails) {
+        final List<Person> recipientsOfAllMails = mails.stream()
+            .map(this::getRecipients)
+            .flatMap(List::stream)
+            .distinct()
+            .toList();
+        final Map<Person, Locale> effectiveLocales = userSettingsService.getEffectiveLocale(recipientsOfAllMails);
+
+        mails.forEach(mail -> send(mail, getRecipients(mail), effectiveLocales));
+    }
 
+    private void send(Mail mail, List<Person> recipients, Map<Person, Locale> effectiveLocales) {
         recipients.forEach(recipient -> {
 
             final Locale effectiveLocale = effectiveLocales.get(recipient);
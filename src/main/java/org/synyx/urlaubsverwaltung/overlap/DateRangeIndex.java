@@ -0,0 +1,116 @@
+package org.synyx.urlaubsverwaltung.overlap;
+
+import org.synyx.urlaubsverwaltung.absence.DateRange;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static java.util.Comparator.comparing;
+import static org.synyx.urlaubsverwaltung.overlap.OverlapCase.FULLY_OVERLAPPING;
+import static org.synyx.urlaubsverwaltung.overlap.OverlapCase.NO_OVERLAPPING;
+import static org.synyx.urlaubsverwaltung.overlap.OverlapCase.PARTLY_OVERLAPPING;
+
+/**
+ * Immutable index of the days covered by a collection of {@link DateRange}s, e.g. the absences of one person.
+ *
+ * <p>
+ * The date ranges are merged into sorted segments that neither overlap nor abut, so that the {@link OverlapCase} of
+ * any date range can be answered with one binary search.
+ * </p>
+ */
+public final class DateRangeIndex {
+
+    private static final DateRangeIndex EMPTY = new DateRangeIndex(new LocalDate[0], new LocalDate[0]);
+
+    private final LocalDate[] starts;
+    private final LocalDate[] ends;
+
+    private DateRangeIndex(LocalDate[] starts, LocalDate[] ends) {
+        this.starts = starts;
+        this.ends = ends;
+    }
+
+    /**
+     * @param dateRanges to index, may overlap each other and may be in any order
+     * @return the index of the days covered by the given date ranges
+     */
+    public static DateRangeIndex of(Collection<DateRange> dateRanges) {
+        if (dateRanges.isEmpty()) {
+            return EMPTY;
+        }
+
+        final List<DateRange> sortedDateRanges = new ArrayList<>(dateRanges);
+        sortedDateRanges.sort(comparing(DateRange::startDate));
+
+        final List<LocalDate> starts = new ArrayList<>();
+        final List<LocalDate> ends = new ArrayList<>();
+        LocalDate currentStart = sortedDateRanges.getFirst().startDate();
+        LocalDate currentEnd = sortedDateRanges.getFirst().endDate();
+        for (DateRange dateRange : sortedDateRanges) {
+            if (dateRange.startDate().isAfter(currentEnd.plusDays(1))) {
+                starts.add(currentStart);
+                ends.add(currentEnd);
+                currentStart = dateRange.startDate();
+                currentEnd = dateRange.endDate();
+            } else if (dateRange.endDate().isAfter(currentEnd)) {
+                currentEnd = dateRange.endDate();
+            }
+        }
+        starts.add(currentStart);
+        ends.add(currentEnd);
+
+        return new DateRangeIndex(starts.toArray(LocalDate[]::new), ends.toArray(LocalDate[]::new));
+    }
+
+    /**
+     * @param dateRange to check
+     * @return {@link OverlapCase#NO_OVERLAPPING} if no day of the given date range is covered,
+     * {@link OverlapCase#FULLY_OVERLAPPING} if every day is covered and {@link OverlapCase#PARTLY_OVERLAPPING} otherwise
+     */
+    public OverlapCase overlapCase(DateRange dateRange) {
+        final int index = firstSegmentEndingAtOrAfter(dateRange.startDate());
+        if (index == ends.length || starts[index].isAfter(dateRange.endDate())) {
+            return NO_OVERLAPPING;
+        }
+
+        // segments neither overlap nor abut, so the date range is fully covered only if one segment contains it
+        if (!starts[index].isAfter(dateRange.startDate()) && !ends[index].isBefore(dateRange.endDate())) {
+            return FULLY_OVERLAPPING;
+        }
+
+        return PARTLY_OVERLAPPING;
+    }
+
+    /**
+     * @param dateRange to get the covered days of
+     * @return the covered parts of the given date range, sorted and neither overlapping nor abutting
+     */
+    public List<DateRange> overlaps(DateRange dateRange) {
+        final List<DateRange> overlaps = new ArrayList<>();
+        for (int index = firstSegmentEndingAtOrAfter(dateRange.startDate()); index < ends.length && !starts[index].isAfter(dateRange.endDate()); index++) {
+            final LocalDate start = starts[index].isAfter(dateRange.startDate()) ? starts[index] : dateRange.startDate();
+            final LocalDate end = ends[index].isBefore(dateRange.endDate()) ? ends[index] : dateRange.endDate();
+            overlaps.add(new DateRange(start, end));
+        }
+        return overlaps;
+    }
+
+    /**
+     * @return index of the first segment ending at or after the given date, or the number of segments if there is none
+     */
+    private int firstSegmentEndingAtOrAfter(LocalDate date) {
+        int low = 0;
+        int high = ends.length;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (ends[middle].isBefore(date)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
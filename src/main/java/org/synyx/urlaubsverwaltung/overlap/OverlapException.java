@@ -0,0 +1,18 @@
+package org.synyx.urlaubsverwaltung.overlap;
+
+/**
+ * Thrown if an application for leave or a sick note is saved although it overlaps with another absence of the person.
+ */
+public class OverlapException extends RuntimeException {
+
+    private final OverlapCase overlapCase;
+
+    OverlapException(String message, OverlapCase overlapCase) {
+        super(message);
+        this.overlapCase = overlapCase;
+    }
+
+    public OverlapCase getOverlapCase() {
+        return overlapCase;
+    }
+}
@@ -2,29 +2,29 @@ package org.synyx.urlaubsverwaltung.overlap;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.application.application.Application;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteService;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.function.Predicate;
-import java.util.stream.Stream;
 
+import static java.lang.String.format;
 import static java.util.stream.Collectors.toList;
+import static org.springframework.transaction.annotation.Propagation.MANDATORY;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED_CANCELLATION_REQUESTED;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.TEMPORARY_ALLOWED;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.WAITING;
-import static org.synyx.urlaubsverwaltung.overlap.OverlapCase.FULLY_OVERLAPPING;
 import static org.synyx.urlaubsverwaltung.overlap.OverlapCase.NO_OVERLAPPING;
-import static org.synyx.urlaubsverwaltung.overlap.OverlapCase.PARTLY_OVERLAPPING;
 
 /**
  * This service handles the validation of {@link Application} for leave concerning overlapping, i.e. if there is already
@@ -35,11 +35,13 @@ public class OverlapService {
 
     private final ApplicationService applicationService;
     private final SickNoteService sickNoteService;
+    private final PersonService personService;
 
     @Autowired
-    public OverlapService(ApplicationService applicationService, SickNoteService sickNoteService) {
+    public OverlapService(ApplicationService applicationService, SickNoteService sickNoteService, PersonService personService) {
         this.applicationService = applicationService;
         this.sickNoteService = sickNoteService;
+        this.personService = personService;
     }
 
     /**
@@ -90,6 +92,50 @@ public class OverlapService {
         return getOverlapCase(startDate, endDate, applications, sickNotes);
     }
 
+    /**
+     * Ensures that the given application for leave does not overlap with other applications for leave or sick notes
+     * right before it is saved in the current transaction.
+     * <p>
+     * The person of the application for leave is locked until the transaction ends, so concurrent transactions saving
+     * absences of the same person are checked one after another and cannot both pass the check.
+     *
+     * @param application to be checked if there are any overlaps
+     * @throws OverlapException if the application for leave overlaps partly or fully
+     */
+    @Transactional(propagation = MANDATORY)
+    public void lockAndEnsureNoOverlap(final Application application) {
+
+        personService.lock(application.getPerson());
+
+        final OverlapCase overlapCase = checkOverlap(application);
+        if (overlapCase != NO_OVERLAPPING) {
+            throw new OverlapException(format("Application for leave of person %d from %s to %s is %s with another absence.",
+                application.getPerson().getId(), application.getStartDate(), application.getEndDate(), overlapCase), overlapCase);
+        }
+    }
+
+    /**
+     * Ensures that the given sick note does not overlap with applications for leave or other sick notes right before
+     * it is saved in the current transaction.
+     * <p>
+     * The person of the sick note is locked until the transaction ends, so concurrent transactions saving absences of
+     * the same person are checked one after another and cannot both pass the check.
+     *
+     * @param sickNote to be checked if there are any overlaps
+     * @throws OverlapException if the sick note overlaps partly or fully
+     */
+    @Transactional(propagation = MANDATORY)
+    public void lockAndEnsureNoOverlap(final SickNote sickNote) {
+
+        personService.lock(sickNote.getPerson());
+
+        final OverlapCase overlapCase = checkOverlap(sickNote);
+        if (overlapCase != NO_OVERLAPPING) {
+            throw new OverlapException(format("Sick note of person %d from %s to %s is %s with another absence.",
+                sickNote.getPerson().getId(), sickNote.getStartDate(), sickNote.getEndDate(), overlapCase), overlapCase);
+        }
+    }
+
     /**
      * Get a list of date ranges that overlap with the periods of the given {@link Application}s  and {@link SickNote}s.
      *
@@ -97,22 +143,10 @@ public class OverlapService {
      * @param endDate      defines the end of the period
      * @param applications overlapping the reference application for leave
      * @param sickNotes    overlapping the reference application for leave
-     * @return {@link List} of overlap date ranges
+     * @return {@link List} of overlap date ranges, sorted and merged if they overlap or abut
      */
     public List<DateRange> getListOfOverlaps(LocalDate startDate, LocalDate endDate, List<Application> applications, List<SickNote> sickNotes) {
-
-        final Stream<DateRange> applicationDateRanges = applications.stream()
-            .map(application -> new DateRange(application.getStartDate(), application.getEndDate()));
-
-        final Stream<DateRange> sickNoteDateRanges = sickNotes.stream()
-            .map(sickNote -> new DateRange(sickNote.getStartDate(), sickNote.getEndDate()));
-
-        final DateRange periodDateRange = new DateRange(startDate, endDate);
-        return Stream.concat(applicationDateRanges, sickNoteDateRanges)
-            .map(dateRange -> dateRange.overlap(periodDateRange))
-            .filter(Optional::isPresent)
-            .map(Optional::get)
-            .collect(toList());
+        return index(applications, sickNotes).overlaps(new DateRange(startDate, endDate));
     }
 
     /**
@@ -131,30 +165,25 @@ public class OverlapService {
             return NO_OVERLAPPING;
         }
 
-        // case (2) or (3): overlap
-
-        final List<DateRange> listOfOverlaps = getListOfOverlaps(startDate, endDate, applications, sickNotes);
-        final List<DateRange> listOfGaps = getListOfGaps(startDate, endDate, listOfOverlaps);
+        /* (2) The period of the new application is element of an existent application's period; i.e. the new
+         * application is not necessary because there is already an existent application for this period.
+         *
+         * (3) The period of the new application is part of an existent application's period, but for a part of it
+         * you could apply new vacation; i.e. user must be asked if he wants to apply for leave for the not
+         * overlapping period of the new application.
+         */
+        return index(applications, sickNotes).overlapCase(new DateRange(startDate, endDate));
+    }
 
-        // gaps between the intervals mean that you can apply vacation for this periods
-        // this is case (3)
-        if (!listOfGaps.isEmpty()) {
-            /* (3) The period of the new application is part
-             * of an existent application's period, but for a part of it you could apply new vacation; i.e. user
-             * must be asked if he wants to apply for leave for the not overlapping period of the new
-             * application.
-             */
-            return PARTLY_OVERLAPPING;
+    private static DateRangeIndex index(List<Application> applications, List<SickNote> sickNotes) {
+        final List<DateRange> dateRanges = new ArrayList<>(applications.size() + sickNotes.size());
+        for (Application application : applications) {
+            dateRanges.add(new DateRange(application.getStartDate(), application.getEndDate()));
         }
-        // no gaps mean that period of application is element of other periods of applications
-        // i.e. you have no free periods to apply vacation for
-        // this is case (2)
-
-        /* (2) The period of
-         * the new application is element of an existent application's period; i.e. the new application is not
-         * necessary because there is already an existent application for this period.
-         */
-        return FULLY_OVERLAPPING;
+        for (SickNote sickNote : sickNotes) {
+            dateRanges.add(new DateRange(sickNote.getStartDate(), sickNote.getEndDate()));
+        }
+        return DateRangeIndex.of(dateRanges);
     }
 
     /**
@@ -203,64 +232,4 @@ public class OverlapService {
             .filter(SickNote::isActive)
             .collect(toList());
     }
-
-    /**
-     * Get a list of gaps within the given intervals.
-     *
-     * @param startDate      defines the start of the period
-     * @param endDate        defines the end of the period
-     * @param listOfOverlaps list of overlaps
-     * @return {@link List} of gaps
-     */
-    private List<DateRange> getListOfGaps(LocalDate startDate, LocalDate endDate, List<DateRange> listOfOverlaps) {
-        // check start and end points
-        if (listOfOverlaps.isEmpty()) {
-            return List.of();
-        }
-
-        final LocalDate firstOverlapStart = listOfOverlaps.getFirst().startDate();
-        final LocalDate lastOverlapEnd = listOfOverlaps.getLast().endDate();
-
-        final List<DateRange> listOfGaps = new ArrayList<>();
-        if (startDate.isBefore(firstOverlapStart)) {
-            listOfGaps.add(new DateRange(startDate, firstOverlapStart));
-        }
-        if (endDate.isAfter(lastOverlapEnd)) {
-            listOfGaps.add(new DateRange(lastOverlapEnd, endDate));
-        }
-
-        // check if intervals abut or gap
-        for (int i = 0; (i + 1) < listOfOverlaps.size(); i++) {
-            // if they don't abut, you can calculate the gap
-            // test if end of interval is equals resp. one day plus of start of other interval
-            // e.g. if period 1: 16.-18. and period 2: 19.-20 --> they abut
-            // e.g. if period 1: 16.-18. and period 2: 20.-22 --> they have a gap
-            if (intervalsHaveGap(listOfOverlaps.get(i), listOfOverlaps.get(i + 1))) {
-                final Optional<DateRange> maybeGap = listOfOverlaps.get(i).gap(listOfOverlaps.get(i + 1));
-                maybeGap.ifPresent(listOfGaps::add);
-            }
-        }
-
-        return listOfGaps;
-    }
-
-    /**
-     * Check if the two given intervals have a gap or if they abut.
-     *
-     * <p>Some examples:</p>
-     * <p>(1) period 16.-18. and period 19.-20. --> they abut</p>
-     * <p>(2) period 16.-18. and period 20.-22. --> they have a gap</p>
-     *
-     * @param firstInterval
-     * @param secondInterval
-     * @return {@code true} if they have a gap between or {@code false} if they have no gap
-     */
-    private boolean intervalsHaveGap(DateRange firstInterval, DateRange secondInterval) {
-
-        // test if end of interval is equals resp. one day plus of start of other interval
-        final LocalDate endOfFirstInterval = firstInterval.endDate();
-        final LocalDate startOfSecondInterval = secondInterval.startDate();
-
-        return !(endOfFirstInterval.equals(startOfSecondInterval) || endOfFirstInterval.plusDays(1).equals(startOfSecondInterval));
-    }
 }
@@ -100,4 +100,15 @@ public class OvertimeSettings {
     public void setOvertimeWritePrivilegedOnly(boolean overtimeWritePrivilegedOnly) {
         this.overtimeWritePrivilegedOnly = overtimeWritePrivilegedOnly;
     }
+
+    public OvertimeSettings copy() {
+        final OvertimeSettings copy = new OvertimeSettings();
+        copy.overtimeActive = overtimeActive;
+        copy.overtimeReductionWithoutApplicationActive = overtimeReductionWithoutApplicationActive;
+        copy.overtimeWritePrivilegedOnly = overtimeWritePrivilegedOnly;
+        copy.maximumOvertime = maximumOvertime;
+        copy.minimumOvertime = minimumOvertime;
+        copy.minimumOvertimeReduction = minimumOvertimeReduction;
+        return copy;
+    }
 }
@@ -177,8 +177,7 @@ public class OverviewViewController implements HasLaunchpad {
             applicationsForLeave = List.of();
             usedDaysOverview = new UsedDaysOverview(List.of(), year, workDaysCountService);
         } else {
-            applicationsForLeave = applications.stream()
-                .map(application -> new ApplicationForLeave(application, workDaysCountService))
+            applicationsForLeave = ApplicationForLeave.from(applications, workDaysCountService).stream()
                 .sorted(comparing(ApplicationForLeave::getStartDate).reversed())
                 .map(applicationForLeave -> overviewApplicationDto(applicationForLeave, locale))
                 .collect(toList());
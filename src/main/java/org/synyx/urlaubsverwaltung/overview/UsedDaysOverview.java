@@ -5,12 +5,14 @@ import org.synyx.urlaubsverwaltung.application.application.Application;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationStatus;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountPeriod;
 import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.Year;
 import java.util.List;
+import java.util.Map;
 
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED_CANCELLATION_REQUESTED;
@@ -43,23 +45,27 @@ public class UsedDaysOverview {
         this.otherDays = new UsedDays(WAITING, TEMPORARY_ALLOWED, ALLOWED, ALLOWED_CANCELLATION_REQUESTED);
         this.otherDaysAllowed = new UsedDays(ALLOWED, ALLOWED_CANCELLATION_REQUESTED);
 
-        for (final Application application : applications) {
-            if (application.hasStatus(WAITING) || application.hasStatus(TEMPORARY_ALLOWED) || application.hasStatus(ALLOWED) || application.hasStatus(ALLOWED_CANCELLATION_REQUESTED)) {
-                final BigDecimal vacationDays = getVacationDays(application, calendarService);
-                final ApplicationStatus status = application.getStatus();
+        final List<Application> relevantApplications = applications.stream()
+            .filter(application -> application.hasStatus(WAITING) || application.hasStatus(TEMPORARY_ALLOWED) || application.hasStatus(ALLOWED) || application.hasStatus(ALLOWED_CANCELLATION_REQUESTED))
+            .toList();
 
+        final Map<WorkDaysCountPeriod, BigDecimal> vacationDaysByPeriod = calendarService.getWorkDaysCount(relevantApplications.stream().map(this::toWorkDaysCountPeriod).toList());
+
+        for (final Application application : relevantApplications) {
+            final BigDecimal vacationDays = vacationDaysByPeriod.get(toWorkDaysCountPeriod(application));
+            final ApplicationStatus status = application.getStatus();
+
+            if (application.getVacationType().isOfCategory(HOLIDAY)) {
+                this.holidayDays.addDays(status, vacationDays);
+            } else {
+                this.otherDays.addDays(status, vacationDays);
+            }
+
+            if (application.hasStatus(ALLOWED) || application.hasStatus(ALLOWED_CANCELLATION_REQUESTED)) {
                 if (application.getVacationType().isOfCategory(HOLIDAY)) {
-                    this.holidayDays.addDays(status, vacationDays);
+                    this.holidayDaysAllowed.addDays(status, vacationDays);
                 } else {
-                    this.otherDays.addDays(status, vacationDays);
-                }
-
-                if (application.hasStatus(ALLOWED) || application.hasStatus(ALLOWED_CANCELLATION_REQUESTED)) {
-                    if (application.getVacationType().isOfCategory(HOLIDAY)) {
-                        this.holidayDaysAllowed.addDays(status, vacationDays);
-                    } else {
-                        this.otherDaysAllowed.addDays(status, vacationDays);
-                    }
+                    this.otherDaysAllowed.addDays(status, vacationDays);
                 }
             }
         }
@@ -81,7 +87,7 @@ public class UsedDaysOverview {
         return otherDaysAllowed;
     }
 
-    private BigDecimal getVacationDays(Application application, WorkDaysCountService calendarService) {
+    private WorkDaysCountPeriod toWorkDaysCountPeriod(Application application) {
 
         final int yearOfStartDate = application.getStartDate().getYear();
         final int yearOfEndDate = application.getEndDate().getYear();
@@ -96,10 +102,10 @@ public class UsedDaysOverview {
             final LocalDate startDate = getStartDateForCalculation(application);
             final LocalDate endDate = getEndDateForCalculation(application);
 
-            return calendarService.getWorkDaysCount(dayLength, startDate, endDate, person);
+            return new WorkDaysCountPeriod(person, startDate, endDate, dayLength);
         }
 
-        return calendarService.getWorkDaysCount(dayLength, application.getStartDate(), application.getEndDate(), person);
+        return new WorkDaysCountPeriod(person, application.getStartDate(), application.getEndDate(), dayLength);
     }
 
     private LocalDate getStartDateForCalculation(Application application) {
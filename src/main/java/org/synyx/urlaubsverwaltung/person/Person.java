@@ -1,5 +1,6 @@
 package org.synyx.urlaubsverwaltung.person;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
@@ -7,6 +8,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.SequenceGenerator;
+import org.hibernate.annotations.Cache;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -17,6 +19,7 @@ import static jakarta.persistence.FetchType.EAGER;
 import static jakarta.persistence.GenerationType.SEQUENCE;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableCollection;
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
 import static org.springframework.util.StringUtils.hasText;
 import static org.synyx.urlaubsverwaltung.person.Role.INACTIVE;
 import static org.synyx.urlaubsverwaltung.person.Role.privilegedRoles;
@@ -25,6 +28,8 @@ import static org.synyx.urlaubsverwaltung.person.Role.privilegedRoles;
  * This class describes a person.
  */
 @Entity
+@Cacheable
+@Cache(usage = READ_WRITE)
 public class Person {
 
     @Id
@@ -41,12 +46,21 @@ public class Person {
     private String firstName;
     private String email;
 
+    /**
+     * Lower case "first name last name" generated by the database and indexed with trigrams
+     * to search persons by name, see {@link PersonRepository}.
+     */
+    @Column(insertable = false, updatable = false)
+    private String niceNameSearch;
+
     @ElementCollection(fetch = EAGER)
     @Enumerated(STRING)
+    @Cache(usage = READ_WRITE)
     private Collection<Role> permissions;
 
     @ElementCollection(fetch = EAGER)
     @Enumerated(STRING)
+    @Cache(usage = READ_WRITE)
     private Collection<MailNotification> notifications;
 
     public Person() {
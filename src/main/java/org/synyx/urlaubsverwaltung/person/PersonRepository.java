@@ -2,7 +2,9 @@ package org.synyx.urlaubsverwaltung.person;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -18,6 +20,10 @@ interface PersonRepository extends JpaRepository<Person, Long> {
     @Modifying
     void deleteById(Long id);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Person p where p.id = :id")
+    Optional<Person> findByIdForUpdate(@Param("id") Long id);
+
     Optional<Person> findByUsernameIgnoreCase(String username);
 
     Optional<Person> findByEmailIgnoreCase(String email);
@@ -28,12 +34,12 @@ interface PersonRepository extends JpaRepository<Person, Long> {
 
     List<Person> findByPermissionsNotContainingOrderByFirstNameAscLastNameAsc(Role permission);
 
-    @Query("select p from Person p where :permission not member of p.permissions and (lower(p.firstName) like lower('%'||:query||'%') or lower(p.lastName) like lower('%'||:query||'%'))")
+    @Query("select p from Person p where :permission not member of p.permissions and p.niceNameSearch like lower('%'||:query||'%')")
     Page<Person> findByPermissionsNotContainingAndByNiceNameContainingIgnoreCase(@Param("permission") Role role, @Param("query") String query, Pageable pageable);
 
     List<Person> findByPermissionsContainingOrderByFirstNameAscLastNameAsc(Role permission);
 
-    @Query("select p from Person p where :permission member of p.permissions and (lower(p.firstName) like lower('%'||:query||'%') or lower(p.lastName) like lower('%'||:query||'%'))")
+    @Query("select p from Person p where :permission member of p.permissions and p.niceNameSearch like lower('%'||:query||'%')")
     Page<Person> findByPermissionsContainingAndNiceNameContainingIgnoreCase(@Param("permission") Role permission, @Param("query") String nameQuery, Pageable pageable);
 
     List<Person> findByPermissionsContainingAndPermissionsNotContainingOrderByFirstNameAscLastNameAsc(Role permissionContaining, Role permissionNotContaining);
@@ -63,6 +63,23 @@ public interface PersonService {
      */
     Optional<Person> getPersonByID(Long id);
 
+    /**
+     * finds the {@link Person}s in the database with the given primary keys.
+     *
+     * @param ids of the persons
+     * @return {@link List} of the found {@link Person}s in no particular order
+     */
+    List<Person> getPersonsByIds(List<Long> ids);
+
+    /**
+     * Locks the given {@link Person} in the database until the current transaction ends. Concurrent transactions
+     * locking the same person wait for each other, so that checks on the data of the person and the following writes
+     * are not interleaved with other transactions.
+     *
+     * @param person to lock
+     */
+    void lock(Person person);
+
     /**
      * finds a {@link Person} in the database by username.
      *
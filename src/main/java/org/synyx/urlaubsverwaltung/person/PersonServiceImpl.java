@@ -11,6 +11,8 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import org.synyx.urlaubsverwaltung.account.AccountInteractionService;
 import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
 import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeWriteService;
@@ -21,6 +23,8 @@ import java.util.Optional;
 
 import static java.lang.invoke.MethodHandles.lookup;
 import static org.slf4j.LoggerFactory.getLogger;
+import static org.springframework.transaction.annotation.Propagation.MANDATORY;
+import static org.springframework.web.context.request.RequestAttributes.SCOPE_REQUEST;
 import static org.synyx.urlaubsverwaltung.person.MailNotification.NOTIFICATION_EMAIL_APPLICATION_ALLOWED;
 import static org.synyx.urlaubsverwaltung.person.MailNotification.NOTIFICATION_EMAIL_APPLICATION_APPLIED;
 import static org.synyx.urlaubsverwaltung.person.MailNotification.NOTIFICATION_EMAIL_APPLICATION_CANCELLATION;
@@ -44,6 +48,8 @@ class PersonServiceImpl implements PersonService {
 
     private static final Logger LOG = getLogger(lookup().lookupClass());
 
+    private static final String SIGNED_IN_PERSON_ATTRIBUTE = PersonServiceImpl.class.getName() + ".SIGNED_IN_PERSON";
+
     private final PersonRepository personRepository;
     private final AccountInteractionService accountInteractionService;
     private final WorkingTimeWriteService workingTimeWriteService;
@@ -91,6 +97,7 @@ class PersonServiceImpl implements PersonService {
         person.setNotifications(notifications);
         person.setPermissions(permissions);
 
+        forgetSignedInUser();
         final Person createdPerson = personRepository.save(person);
         LOG.info("Created person: {}", createdPerson);
 
@@ -109,6 +116,7 @@ class PersonServiceImpl implements PersonService {
             throw new IllegalArgumentException("Can not update a person that is not persisted yet");
         }
 
+        forgetSignedInUser();
         final Person updatedPerson = personRepository.save(person);
         LOG.info("Updated person: {}", updatedPerson);
 
@@ -132,6 +140,7 @@ class PersonServiceImpl implements PersonService {
         applicationEventPublisher.publishEvent(new PersonDeletedEvent(person));
         accountInteractionService.deleteAllByPerson(person);
         workingTimeWriteService.deleteAllByPerson(person);
+        forgetSignedInUser();
         personRepository.delete(person);
 
         final String status = person.isActive() ? "active" : "inactive";
@@ -143,6 +152,17 @@ class PersonServiceImpl implements PersonService {
         return personRepository.findById(id);
     }
 
+    @Override
+    public List<Person> getPersonsByIds(List<Long> ids) {
+        return personRepository.findAllById(ids);
+    }
+
+    @Override
+    @Transactional(propagation = MANDATORY)
+    public void lock(Person person) {
+        personRepository.findByIdForUpdate(person.getId());
+    }
+
     @Override
     public Optional<Person> getPersonByUsername(String username) {
         return personRepository.findByUsernameIgnoreCase(username);
@@ -194,14 +214,37 @@ class PersonServiceImpl implements PersonService {
         }
 
         final String username = authentication.getName();
+
+        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null
+            && requestAttributes.getAttribute(SIGNED_IN_PERSON_ATTRIBUTE, SCOPE_REQUEST) instanceof SignedInPerson signedInPerson
+            && signedInPerson.username().equalsIgnoreCase(username)) {
+            return signedInPerson.person();
+        }
+
         final Optional<Person> person = getPersonByUsername(username);
         if (person.isEmpty()) {
             throw new IllegalStateException("Can not get the person for the signed in user with username = " + username);
         }
 
+        if (requestAttributes != null) {
+            requestAttributes.setAttribute(SIGNED_IN_PERSON_ATTRIBUTE, new SignedInPerson(username, person.get()), SCOPE_REQUEST);
+        }
+
         return person.get();
     }
 
+    /**
+     * The signed in person is resolved only once per request and kept as request attribute,
+     * which has to be discarded as soon as any person is written, so that e.g. changed permissions are seen.
+     */
+    private static void forgetSignedInUser() {
+        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            requestAttributes.removeAttribute(SIGNED_IN_PERSON_ATTRIBUTE, SCOPE_REQUEST);
+        }
+    }
+
     /**
      * Adds {@link Role#OFFICE} to the roles of the given person if no
      * other active user with a office role is defined.
@@ -222,6 +265,7 @@ class PersonServiceImpl implements PersonService {
         permissions.add(OFFICE);
         person.setPermissions(permissions);
 
+        forgetSignedInUser();
         final Person savedPerson = personRepository.save(person);
 
         LOG.info("Add 'OFFICE' role to person: {}", person);
@@ -268,4 +312,7 @@ class PersonServiceImpl implements PersonService {
     private PersonDisabledEvent toPersonDisabledEvent(Person person) {
         return new PersonDisabledEvent(this, person.getId(), person.getNiceName(), person.getUsername(), person.getEmail());
     }
+
+    private record SignedInPerson(String username, Person person) {
+    }
 }
@@ -20,6 +20,12 @@ public class AvatarSettings {
         this.gravatarEnabled = gravatarEnabled;
     }
 
+    public AvatarSettings copy() {
+        final AvatarSettings copy = new AvatarSettings();
+        copy.gravatarEnabled = gravatarEnabled;
+        return copy;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,87 @@
+package org.synyx.urlaubsverwaltung.publicholiday;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Index of all {@link PublicHoliday}s of one year with already resolved {@link org.synyx.urlaubsverwaltung.period.DayLength}.
+ *
+ * <p>
+ * The public holidays are sorted by date and addressed by the day of the year, so that the lookup of a single day
+ * is answered in O(1) and the lookup of a date range in O(k) with k being the number of public holidays in that range.
+ * </p>
+ */
+final class PublicHolidaysOfYear {
+
+    private final Year year;
+    private final List<PublicHoliday> publicHolidays;
+
+    /**
+     * number of public holidays before the given day of the year (zero based, one additional slot for the end of the year)
+     */
+    private final int[] publicHolidaysBeforeDayOfYear;
+
+    private PublicHolidaysOfYear(Year year, List<PublicHoliday> publicHolidays, int[] publicHolidaysBeforeDayOfYear) {
+        this.year = year;
+        this.publicHolidays = publicHolidays;
+        this.publicHolidaysBeforeDayOfYear = publicHolidaysBeforeDayOfYear;
+    }
+
+    static PublicHolidaysOfYear of(Year year, Collection<PublicHoliday> publicHolidays) {
+
+        final List<PublicHoliday> sortedPublicHolidays = publicHolidays.stream()
+            .filter(publicHoliday -> publicHoliday.date().getYear() == year.getValue())
+            .sorted(Comparator.comparing(PublicHoliday::date))
+            .toList();
+
+        final int[] publicHolidaysBeforeDayOfYear = new int[year.length() + 1];
+        int publicHolidayIndex = 0;
+        for (int dayOfYear = 1; dayOfYear <= year.length(); dayOfYear++) {
+            publicHolidaysBeforeDayOfYear[dayOfYear - 1] = publicHolidayIndex;
+            while (publicHolidayIndex < sortedPublicHolidays.size() && sortedPublicHolidays.get(publicHolidayIndex).date().getDayOfYear() == dayOfYear) {
+                publicHolidayIndex++;
+            }
+        }
+        publicHolidaysBeforeDayOfYear[year.length()] = publicHolidayIndex;
+
+        return new PublicHolidaysOfYear(year, sortedPublicHolidays, publicHolidaysBeforeDayOfYear);
+    }
+
+    /**
+     * @param date to get the public holiday for, must be in the year of this index
+     * @return the first public holiday at the given date, otherwise empty optional
+     */
+    Optional<PublicHoliday> getPublicHoliday(LocalDate date) {
+        if (date.getYear() != year.getValue()) {
+            return Optional.empty();
+        }
+
+        final int dayIndex = date.getDayOfYear() - 1;
+        final int first = publicHolidaysBeforeDayOfYear[dayIndex];
+        return first < publicHolidaysBeforeDayOfYear[dayIndex + 1] ? Optional.of(publicHolidays.get(first)) : Optional.empty();
+    }
+
+    /**
+     * @param from inclusive, clamped to the first day of the year of this index
+     * @param to   inclusive, clamped to the last day of the year of this index
+     * @return all public holidays sorted by date in the given date range that are part of the year of this index
+     */
+    List<PublicHoliday> getPublicHolidays(LocalDate from, LocalDate to) {
+        final LocalDate firstDayOfYear = year.atDay(1);
+        final LocalDate lastDayOfYear = year.atDay(year.length());
+
+        final LocalDate start = from.isBefore(firstDayOfYear) ? firstDayOfYear : from;
+        final LocalDate end = to.isAfter(lastDayOfYear) ? lastDayOfYear : to;
+        if (start.isAfter(end)) {
+            return List.of();
+        }
+
+        final int fromIndex = publicHolidaysBeforeDayOfYear[start.getDayOfYear() - 1];
+        final int toIndex = publicHolidaysBeforeDayOfYear[end.getDayOfYear()];
+        return publicHolidays.subList(fromIndex, toIndex);
+    }
+}
@@ -1,5 +1,7 @@
 package org.synyx.urlaubsverwaltung.publicholiday;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import de.focus_shift.jollyday.core.Holiday;
 import de.focus_shift.jollyday.core.HolidayManager;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,13 +13,14 @@ import org.synyx.urlaubsverwaltung.workingtime.FederalState;
 import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeSettings;
 
 import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
-import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
 import static org.synyx.urlaubsverwaltung.period.DayLength.ZERO;
 import static org.synyx.urlaubsverwaltung.util.DateUtil.isChristmasEve;
 import static org.synyx.urlaubsverwaltung.util.DateUtil.isNewYearsEve;
@@ -25,9 +28,27 @@ import static org.synyx.urlaubsverwaltung.util.DateUtil.isNewYearsEve;
 @Service
 public class PublicHolidaysServiceImpl implements PublicHolidaysService {
 
+    private static final long MAXIMUM_HOLIDAYS_BY_FEDERAL_STATE_AND_YEAR = 1_000;
+    private static final long MAXIMUM_PUBLIC_HOLIDAYS_INDEX = 2_000;
+
     private final Map<String, HolidayManager> holidayManagers;
     private final SettingsService settingsService;
 
+    /**
+     * public holidays of jollyday per federal state and year, they do not depend on any settings
+     */
+    private final Cache<FederalStateYear, Set<Holiday>> holidaysByFederalStateAndYear = Caffeine.newBuilder()
+        .maximumSize(MAXIMUM_HOLIDAYS_BY_FEDERAL_STATE_AND_YEAR)
+        .build();
+
+    /**
+     * public holidays with resolved day length per federal state, year and locale. The key contains the relevant
+     * settings, so that updated settings lead to new entries and outdated ones are evicted by size.
+     */
+    private final Cache<PublicHolidaysOfYearKey, PublicHolidaysOfYear> publicHolidaysIndex = Caffeine.newBuilder()
+        .maximumSize(MAXIMUM_PUBLIC_HOLIDAYS_INDEX)
+        .build();
+
     @Autowired
     public PublicHolidaysServiceImpl(SettingsService settingsService, Map<String, HolidayManager> holidayManagers) {
         this.settingsService = settingsService;
@@ -36,9 +57,8 @@ public class PublicHolidaysServiceImpl implements PublicHolidaysService {
 
     @Override
     public boolean isPublicHoliday(LocalDate date, FederalState federalState) {
-        return getHolidayManager(federalState)
-            .map(holidayManager -> holidayManager.isHoliday(date, federalState.getCodes()))
-            .orElse(false);
+        return getHolidaysOfYear(Year.of(date.getYear()), federalState).stream()
+            .anyMatch(holiday -> holiday.getDate().equals(date));
     }
 
     @Override
@@ -54,37 +74,58 @@ public class PublicHolidaysServiceImpl implements PublicHolidaysService {
 
     @Override
     public Optional<PublicHoliday> getPublicHoliday(LocalDate date, FederalState federalState, WorkingTimeSettings workingTimeSettings) {
-        return getPublicHolidays(date, date, federalState, workingTimeSettings).stream().findFirst();
+        return getPublicHolidaysOfYear(Year.of(date.getYear()), federalState, workingTimeSettings).getPublicHoliday(date);
     }
 
     @Override
     public List<PublicHoliday> getPublicHolidays(LocalDate from, LocalDate to, FederalState federalState, WorkingTimeSettings workingTimeSettings) {
-        final Locale locale = LocaleContextHolder.getLocale();
+        if (from.getYear() == to.getYear()) {
+            return getPublicHolidaysOfYear(Year.of(from.getYear()), federalState, workingTimeSettings).getPublicHolidays(from, to);
+        }
+
+        final List<PublicHoliday> publicHolidays = new ArrayList<>();
+        for (int year = from.getYear(); year <= to.getYear(); year++) {
+            publicHolidays.addAll(getPublicHolidaysOfYear(Year.of(year), federalState, workingTimeSettings).getPublicHolidays(from, to));
+        }
+        return List.copyOf(publicHolidays);
+    }
 
-        return getHolidays(from, to, federalState).stream()
-            .map(holiday -> new PublicHoliday(holiday.getDate(), getHolidayDayLength(workingTimeSettings, holiday.getDate(), federalState), holiday.getDescription(locale)))
-            .toList();
+    private PublicHolidaysOfYear getPublicHolidaysOfYear(Year year, FederalState federalState, WorkingTimeSettings workingTimeSettings) {
+        final Locale locale = LocaleContextHolder.getLocale();
+        final PublicHolidaysOfYearKey key = new PublicHolidaysOfYearKey(federalState, year, locale,
+            workingTimeSettings.getWorkingDurationForChristmasEve(), workingTimeSettings.getWorkingDurationForNewYearsEve());
+
+        return publicHolidaysIndex.get(key, unused -> {
+            final List<PublicHoliday> publicHolidays = getHolidaysOfYear(year, federalState).stream()
+                .map(holiday -> new PublicHoliday(holiday.getDate(), getHolidayDayLength(workingTimeSettings, holiday.getDate()), holiday.getDescription(locale)))
+                .toList();
+            return PublicHolidaysOfYear.of(year, publicHolidays);
+        });
     }
 
-    private DayLength getHolidayDayLength(WorkingTimeSettings workingTimeSettings, LocalDate date, FederalState federalState) {
-        DayLength workingTime = FULL;
-        if (isPublicHoliday(date, federalState)) {
-            if (isChristmasEve(date)) {
-                workingTime = workingTimeSettings.getWorkingDurationForChristmasEve();
-            } else if (isNewYearsEve(date)) {
-                workingTime = workingTimeSettings.getWorkingDurationForNewYearsEve();
-            } else {
-                workingTime = ZERO;
-            }
+    /**
+     * @return the day length of the public holiday of the given date which is known to be a public holiday
+     */
+    private DayLength getHolidayDayLength(WorkingTimeSettings workingTimeSettings, LocalDate date) {
+        final DayLength workingTime;
+        if (isChristmasEve(date)) {
+            workingTime = workingTimeSettings.getWorkingDurationForChristmasEve();
+        } else if (isNewYearsEve(date)) {
+            workingTime = workingTimeSettings.getWorkingDurationForNewYearsEve();
+        } else {
+            workingTime = ZERO;
         }
 
         return workingTime.getInverse();
     }
 
-    private Set<Holiday> getHolidays(final LocalDate from, final LocalDate to, FederalState federalState) {
-        return getHolidayManager(federalState)
-            .map(holidayManager -> holidayManager.getHolidays(from, to, federalState.getCodes()))
-            .orElseGet(Set::of);
+    private Set<Holiday> getHolidaysOfYear(Year year, FederalState federalState) {
+        return holidaysByFederalStateAndYear.get(new FederalStateYear(federalState, year), key ->
+            getHolidayManager(federalState)
+                .map(holidayManager -> holidayManager.getHolidays(year.atDay(1), year.atDay(year.length()), federalState.getCodes()))
+                .map(Set::copyOf)
+                .orElseGet(Set::of)
+        );
     }
 
     private Optional<HolidayManager> getHolidayManager(FederalState federalState) {
@@ -94,4 +135,11 @@ public class PublicHolidaysServiceImpl implements PublicHolidaysService {
     private WorkingTimeSettings getWorkingTimeSettings() {
         return settingsService.getSettings().getWorkingTimeSettings();
     }
+
+    private record FederalStateYear(FederalState federalState, Year year) {
+    }
+
+    private record PublicHolidaysOfYearKey(FederalState federalState, Year year, Locale locale,
+                                           DayLength workingDurationForChristmasEve, DayLength workingDurationForNewYearsEve) {
+    }
 }
@@ -0,0 +1,29 @@
+package org.synyx.urlaubsverwaltung.report;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+@Configuration
+class ReportConfiguration implements SchedulingConfigurer {
+
+    private final ReportProperties reportProperties;
+    private final ReportJobService reportJobService;
+    private final ThreadPoolTaskScheduler taskScheduler;
+
+    @Autowired
+    ReportConfiguration(ReportProperties reportProperties, ReportJobService reportJobService, ThreadPoolTaskScheduler taskScheduler) {
+        this.reportProperties = reportProperties;
+        this.reportJobService = reportJobService;
+        this.taskScheduler = taskScheduler;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.setScheduler(taskScheduler);
+        // not locked, because every application instance holds its own report jobs
+        taskRegistrar.addCronTask(reportJobService::deleteExpiredJobs, reportProperties.getCleanupCron());
+    }
+}
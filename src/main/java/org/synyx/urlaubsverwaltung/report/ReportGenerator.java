@@ -0,0 +1,44 @@
+package org.synyx.urlaubsverwaltung.report;
+
+import org.springframework.data.domain.Sort;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.web.FilterPeriod;
+
+import java.io.OutputStream;
+import java.util.Locale;
+
+/**
+ * Generates a report of a {@link ReportType} for all persons a person is allowed to see.
+ * Implementations are called by the worker threads of the report jobs, so there is no request or security context.
+ */
+public interface ReportGenerator {
+
+    /**
+     * @return the type of report this generator creates
+     */
+    ReportType type();
+
+    /**
+     * @param person that wants to generate the report
+     * @return {@code true} if the person is allowed to generate the report, else {@code false}
+     */
+    boolean isAllowedToGenerate(Person person);
+
+    /**
+     * @param period of the report
+     * @param locale for i18n
+     * @return the filename to be used for the report
+     */
+    String fileName(FilterPeriod period, Locale locale);
+
+    /**
+     * Writes the report of all persons the given person is allowed to see into the output stream.
+     *
+     * @param person       that generates the report
+     * @param period       of the report
+     * @param sort         of the persons within the report
+     * @param locale       for i18n (messages and number formats)
+     * @param outputStream to write the report to, will not be closed
+     */
+    void generate(Person person, FilterPeriod period, Sort sort, Locale locale, OutputStream outputStream);
+}
@@ -0,0 +1,93 @@
+package org.synyx.urlaubsverwaltung.report;
+
+import org.synyx.urlaubsverwaltung.web.FilterPeriod;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.synyx.urlaubsverwaltung.report.ReportJobStatus.QUEUED;
+
+/**
+ * A report that is generated asynchronously into a temporary file.
+ */
+public class ReportJob {
+
+    private final UUID id;
+    private final ReportType type;
+    private final Long personId;
+    private final FilterPeriod period;
+    private final String fileName;
+    private final Instant createdAt;
+
+    private volatile ReportJobStatus status = QUEUED;
+    private volatile Path file;
+    private volatile Instant finishedAt;
+
+    ReportJob(UUID id, ReportType type, Long personId, FilterPeriod period, String fileName, Instant createdAt) {
+        this.id = id;
+        this.type = type;
+        this.personId = personId;
+        this.period = period;
+        this.fileName = fileName;
+        this.createdAt = createdAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public ReportType getType() {
+        return type;
+    }
+
+    public Long getPersonId() {
+        return personId;
+    }
+
+    public FilterPeriod getPeriod() {
+        return period;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public ReportJobStatus getStatus() {
+        return status;
+    }
+
+    void setStatus(ReportJobStatus status) {
+        this.status = status;
+    }
+
+    Path getFile() {
+        return file;
+    }
+
+    void setFile(Path file) {
+        this.file = file;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    void setFinishedAt(Instant finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "ReportJob{" +
+            "id=" + id +
+            ", type=" + type +
+            ", personId=" + personId +
+            ", status=" + status +
+            '}';
+    }
+}
@@ -0,0 +1,184 @@
+package org.synyx.urlaubsverwaltung.report;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.web.FilterPeriod;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static java.lang.String.format;
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.synyx.urlaubsverwaltung.report.ReportJobStatus.DONE;
+import static org.synyx.urlaubsverwaltung.report.ReportJobStatus.FAILED;
+import static org.synyx.urlaubsverwaltung.report.ReportJobStatus.RUNNING;
+
+/**
+ * Generates reports asynchronously by a bounded pool of workers into temporary files, so that heavy reports
+ * neither hold a request thread nor run into the timeout of a proxy.
+ *
+ * <p>
+ * The report jobs are held in memory of the application instance that generates them and are deleted after the
+ * configured retention.
+ * </p>
+ */
+@Service
+class ReportJobService {
+
+    private static final Logger LOG = getLogger(lookup().lookupClass());
+
+    private static final String METRIC_JOBS_QUEUED = "report.jobs.queued";
+    private static final String METRIC_JOBS_RUNNING = "report.jobs.running";
+    private static final String METRIC_JOBS_DURATION = "report.jobs.duration";
+
+    private final Map<ReportType, ReportGenerator> generatorsByType = new EnumMap<>(ReportType.class);
+    private final Map<UUID, ReportJob> jobs = new ConcurrentHashMap<>();
+    private final ReportProperties reportProperties;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final ThreadPoolExecutor executor;
+
+    ReportJobService(List<ReportGenerator> reportGenerators, ReportProperties reportProperties, MeterRegistry meterRegistry, Clock clock) {
+        reportGenerators.forEach(reportGenerator -> generatorsByType.put(reportGenerator.type(), reportGenerator));
+        this.reportProperties = reportProperties;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+
+        final int workers = reportProperties.getWorkers();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, MILLISECONDS,
+            new ArrayBlockingQueue<>(reportProperties.getQueueCapacity()), new CustomizableThreadFactory("report-"));
+
+        Gauge.builder(METRIC_JOBS_QUEUED, executor, pool -> pool.getQueue().size()).register(meterRegistry);
+        Gauge.builder(METRIC_JOBS_RUNNING, executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    }
+
+    /**
+     * Enqueues the generation of a report of all persons the given person is allowed to see.
+     *
+     * @param person that requests the report
+     * @param type   of the report
+     * @param period of the report
+     * @param sort   of the persons within the report
+     * @param locale for i18n of the report
+     * @return the queued report job
+     * @throws AccessDeniedException    if the person is not allowed to generate the report
+     * @throws ReportQueueFullException if there are already too many reports waiting for a worker
+     */
+    ReportJob enqueue(Person person, ReportType type, FilterPeriod period, Sort sort, Locale locale) {
+
+        final ReportGenerator reportGenerator = generatorsByType.get(type);
+        if (reportGenerator == null || !reportGenerator.isAllowedToGenerate(person)) {
+            throw new AccessDeniedException(format("User '%s' is not allowed to generate report '%s'", person.getId(), type));
+        }
+
+        final ReportJob job = new ReportJob(UUID.randomUUID(), type, person.getId(), period, reportGenerator.fileName(period, locale), Instant.now(clock));
+        jobs.put(job.getId(), job);
+
+        try {
+            executor.execute(() -> generate(job, reportGenerator, person, sort, locale));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            throw new ReportQueueFullException(format("Could not enqueue report '%s' of user '%s'", type, person.getId()), e);
+        }
+
+        LOG.info("Enqueued {}", job);
+        return job;
+    }
+
+    /**
+     * @param id     of the report job
+     * @param person that requested the report
+     * @return the report job, empty if there is no report job with the given id of the person
+     */
+    Optional<ReportJob> getJob(UUID id, Person person) {
+        return Optional.ofNullable(jobs.get(id))
+            .filter(job -> job.getPersonId().equals(person.getId()));
+    }
+
+    /**
+     * Deletes the finished report jobs and their files that are older than the configured retention.
+     */
+    void deleteExpiredJobs() {
+        final Instant expiredBefore = Instant.now(clock).minus(reportProperties.getRetention());
+        for (ReportJob job : jobs.values()) {
+            if (job.getStatus().isFinished() && job.getFinishedAt().isBefore(expiredBefore)) {
+                jobs.remove(job.getId());
+                deleteFile(job);
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+        jobs.values().forEach(this::deleteFile);
+        jobs.clear();
+    }
+
+    private void generate(ReportJob job, ReportGenerator reportGenerator, Person person, Sort sort, Locale locale) {
+
+        job.setStatus(RUNNING);
+        final Timer.Sample sample = Timer.start(meterRegistry);
+
+        ReportJobStatus status = FAILED;
+        try {
+            final Path file = Files.createTempFile("report-", ".csv");
+            job.setFile(file);
+
+            try (final OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(file))) {
+                reportGenerator.generate(person, job.getPeriod(), sort, locale, outputStream);
+            }
+            status = DONE;
+        } catch (IOException | RuntimeException e) {
+            LOG.error("Could not generate {}", job, e);
+            deleteFile(job);
+        } finally {
+            sample.stop(Timer.builder(METRIC_JOBS_DURATION)
+                .tag("type", job.getType().name())
+                .tag("status", status.name())
+                .register(meterRegistry));
+
+            job.setFinishedAt(Instant.now(clock));
+            job.setStatus(status);
+        }
+    }
+
+    private void deleteFile(ReportJob job) {
+        final Path file = job.getFile();
+        if (file == null) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOG.warn("Could not delete file of {}", job, e);
+        }
+        job.setFile(null);
+    }
+}
@@ -0,0 +1,13 @@
+package org.synyx.urlaubsverwaltung.report;
+
+public enum ReportJobStatus {
+
+    QUEUED,
+    RUNNING,
+    DONE,
+    FAILED;
+
+    public boolean isFinished() {
+        return this == DONE || this == FAILED;
+    }
+}
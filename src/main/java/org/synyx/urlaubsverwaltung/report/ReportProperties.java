@@ -0,0 +1,72 @@
+package org.synyx.urlaubsverwaltung.report;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+import org.synyx.urlaubsverwaltung.validation.CronExpression;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties("uv.report")
+@Validated
+public class ReportProperties {
+
+    /**
+     * Number of reports that are generated in parallel
+     */
+    @Min(1)
+    private int workers = 2;
+
+    /**
+     * Number of reports that can wait for a free worker. Further reports are rejected until a worker is free.
+     */
+    @Min(1)
+    private int queueCapacity = 20;
+
+    /**
+     * Duration a generated report can be downloaded before it is deleted
+     */
+    @NotNull
+    private Duration retention = Duration.ofHours(1);
+
+    /**
+     * Deletes reports older than the retention by default every ten minutes
+     */
+    @CronExpression
+    private String cleanupCron = "0 */10 * * * *";
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    public void setWorkers(int workers) {
+        this.workers = workers;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public void setRetention(Duration retention) {
+        this.retention = retention;
+    }
+
+    public String getCleanupCron() {
+        return cleanupCron;
+    }
+
+    public void setCleanupCron(String cleanupCron) {
+        this.cleanupCron = cleanupCron;
+    }
+}
@@ -0,0 +1,11 @@
+package org.synyx.urlaubsverwaltung.report;
+
+/**
+ * Thrown if a report is requested while all workers are busy and the queue of waiting reports is full.
+ */
+public class ReportQueueFullException extends RuntimeException {
+
+    ReportQueueFullException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,11 @@
+package org.synyx.urlaubsverwaltung.report;
+
+/**
+ * Reports that can be generated asynchronously by a {@link ReportGenerator}.
+ */
+public enum ReportType {
+
+    APPLICATION_FOR_LEAVE_STATISTICS,
+    APPLICATION_FOR_LEAVE_EXPORT,
+    SICK_DAYS_STATISTICS,
+}
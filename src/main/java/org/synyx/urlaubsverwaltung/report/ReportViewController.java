@@ -0,0 +1,129 @@
+package org.synyx.urlaubsverwaltung.report;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.SortDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.server.ResponseStatusException;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.web.DateFormatAware;
+import org.synyx.urlaubsverwaltung.web.FilterPeriod;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.Locale;
+import java.util.UUID;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.OK;
+import static org.synyx.urlaubsverwaltung.report.ReportJobStatus.DONE;
+import static org.synyx.urlaubsverwaltung.security.SecurityRules.IS_PRIVILEGED_USER;
+
+/**
+ * Controller to generate reports in the background and to download them when they are done.
+ */
+@Controller
+@RequestMapping("/web/reports")
+class ReportViewController {
+
+    private final ReportJobService reportJobService;
+    private final PersonService personService;
+    private final DateFormatAware dateFormatAware;
+    private final Clock clock;
+
+    @Autowired
+    ReportViewController(ReportJobService reportJobService, PersonService personService, DateFormatAware dateFormatAware, Clock clock) {
+        this.reportJobService = reportJobService;
+        this.personService = personService;
+        this.dateFormatAware = dateFormatAware;
+        this.clock = clock;
+    }
+
+    @PreAuthorize(IS_PRIVILEGED_USER)
+    @PostMapping
+    public String enqueueReport(
+        @RequestParam("type") ReportType type,
+        @RequestParam(value = "from", defaultValue = "") String from,
+        @RequestParam(value = "to", defaultValue = "") String to,
+        @SortDefault(sort = "person.firstName", direction = Sort.Direction.ASC) Sort sort,
+        Model model, Locale locale
+    ) {
+        final FilterPeriod period = toFilterPeriod(from, to, locale);
+
+        // NOTE: Not supported at the moment
+        if (period.getStartDate().getYear() != period.getEndDate().getYear()) {
+            throw new ResponseStatusException(BAD_REQUEST);
+        }
+
+        final Person signedInUser = personService.getSignedInUser();
+
+        final ReportJob job;
+        try {
+            job = reportJobService.enqueue(signedInUser, type, period, sort, locale);
+        } catch (ReportQueueFullException e) {
+            model.addAttribute("queueFull", true);
+            return "report/report";
+        }
+
+        return "redirect:/web/reports/" + job.getId();
+    }
+
+    @PreAuthorize(IS_PRIVILEGED_USER)
+    @GetMapping("/{reportId}")
+    public String showReport(@PathVariable("reportId") UUID reportId, Model model) {
+
+        final ReportJob job = getJobOfSignedInUser(reportId);
+
+        model.addAttribute("job", job);
+        model.addAttribute("queueFull", false);
+
+        return "report/report";
+    }
+
+    @PreAuthorize(IS_PRIVILEGED_USER)
+    @GetMapping("/{reportId}/download")
+    public ResponseEntity<Resource> downloadReport(@PathVariable("reportId") UUID reportId) {
+
+        final ReportJob job = getJobOfSignedInUser(reportId);
+        if (job.getStatus() != DONE || job.getFile() == null) {
+            throw new ResponseStatusException(NOT_FOUND);
+        }
+
+        final HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(new MediaType("text", "csv", UTF_8));
+        headers.setContentDisposition(ContentDisposition.builder("attachment").filename(job.getFileName(), UTF_8).build());
+
+        return ResponseEntity.status(OK).headers(headers).body(new FileSystemResource(job.getFile()));
+    }
+
+    private ReportJob getJobOfSignedInUser(UUID reportId) {
+        final Person signedInUser = personService.getSignedInUser();
+        return reportJobService.getJob(reportId, signedInUser)
+            .orElseThrow(() -> new ResponseStatusException(NOT_FOUND));
+    }
+
+    private FilterPeriod toFilterPeriod(String startDateString, String endDateString, Locale locale) {
+        final LocalDate firstDayOfYear = Year.now(clock).atDay(1);
+        final LocalDate startDate = dateFormatAware.parse(startDateString, locale).orElse(firstDayOfYear);
+        final LocalDate endDate = dateFormatAware.parse(endDateString, locale).orElseGet(() -> firstDayOfYear.with(lastDayOfYear()));
+        return new FilterPeriod(startDate, endDate);
+    }
+}
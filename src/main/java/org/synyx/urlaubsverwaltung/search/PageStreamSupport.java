@@ -3,6 +3,7 @@ package org.synyx.urlaubsverwaltung.search;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -20,7 +21,11 @@ public class PageStreamSupport {
     }
 
     public static <E> Stream<E> stream(Function<Pageable, Page<E>> pageSupplier, int pageSize) {
-        final Page<E> initialPage = pageSupplier.apply(PageRequest.of(0, pageSize));
+        return stream(pageSupplier, pageSize, Sort.unsorted());
+    }
+
+    public static <E> Stream<E> stream(Function<Pageable, Page<E>> pageSupplier, int pageSize, Sort sort) {
+        final Page<E> initialPage = pageSupplier.apply(PageRequest.of(0, pageSize, sort));
 
         if (initialPage == null || !initialPage.hasContent()) {
             return Stream.empty();
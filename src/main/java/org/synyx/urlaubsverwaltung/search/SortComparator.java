@@ -1,33 +1,72 @@
 package org.synyx.urlaubsverwaltung.search;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.slf4j.Logger;
 import org.springframework.beans.BeanUtils;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.domain.Sort;
 
 import java.beans.PropertyDescriptor;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.Iterator;
 import java.util.List;
-import java.util.function.Function;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.lang.String.format;
 import static java.lang.invoke.MethodHandles.lookup;
+import static java.lang.invoke.MethodType.methodType;
 import static java.util.Comparator.comparing;
 import static java.util.Comparator.naturalOrder;
 import static java.util.Comparator.nullsLast;
-import static java.util.Comparator.reverseOrder;
 import static org.slf4j.LoggerFactory.getLogger;
 
+/**
+ * Compares objects by the properties of a {@link Sort}, e.g. {@code person.firstName}.
+ *
+ * <p>
+ * Every property path is resolved only once per type into a chain of {@link MethodHandle}s of the getters,
+ * which is cached for all further comparators. The property paths come from request parameters, therefore the cache
+ * is bounded per type and unknown properties are not cached but ignored. {@code null} values
+ * (also of nested properties) are sorted last and strings are compared case-insensitive with the
+ * {@link Collator} of the given locale.
+ * </p>
+ *
+ * @param <T> type of the objects to compare
+ */
 public class SortComparator<T> implements Comparator<T> {
 
     private static final Logger LOG = getLogger(lookup().lookupClass());
 
+    private static final long MAXIMUM_PROPERTY_PATHS_PER_TYPE = 100;
+
+    private static final ClassValue<Cache<String, PropertyPath>> PROPERTY_PATHS = new ClassValue<>() {
+        @Override
+        protected Cache<String, PropertyPath> computeValue(Class<?> type) {
+            return Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_PROPERTY_PATHS_PER_TYPE)
+                .build();
+        }
+    };
+
     private final Comparator<T> comparator;
 
+    /**
+     * Compares strings with the locale of the current request, see {@link LocaleContextHolder#getLocale()}.
+     */
     public SortComparator(Class<T> type, Sort sort) {
-        this.comparator = buildComparator(type, sort);
+        this(type, sort, LocaleContextHolder.getLocale());
+    }
+
+    public SortComparator(Class<T> type, Sort sort, Locale locale) {
+        this.comparator = buildComparator(type, sort, locale);
     }
 
     @Override
@@ -35,58 +74,97 @@ public class SortComparator<T> implements Comparator<T> {
         return comparator.compare(o1, o2);
     }
 
-    private static <T> Comparator<T> buildComparator(Class<T> type, Sort sort) {
-        final Iterator<Sort.Order> orderIterator = sort.iterator();
-        if (!orderIterator.hasNext()) {
-            return comparing(t -> 0);
-        }
+    private static <T> Comparator<T> buildComparator(Class<T> type, Sort sort, Locale locale) {
 
-        Comparator<T> comparator = sortComparable(type, orderIterator.next());
-        while (orderIterator.hasNext()) {
-            comparator = comparator.thenComparing(sortComparable(type, orderIterator.next()));
+        final List<Comparator<T>> comparators = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            propertyPath(type, order.getProperty())
+                .map(propertyPath -> SortComparator.<T>sortComparable(propertyPath, order, locale))
+                .ifPresent(comparators::add);
         }
 
-        return comparator;
+        return comparators.stream()
+            .reduce(Comparator::thenComparing)
+            .orElse((o1, o2) -> 0);
     }
 
-    private static <T> Comparator<T> sortComparable(Class<T> type, Sort.Order order) {
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> Comparator<T> sortComparable(PropertyPath propertyPath, Sort.Order order, Locale locale) {
+
+        final Comparator valueComparator = String.class.equals(propertyPath.valueType())
+            ? caseInsensitiveCollator(locale)
+            : naturalOrder();
 
-        final Function<? super T, Comparable<? super Comparable>> valueExtractor =
-            (T entity) -> extractComparableValue(type, entity, List.of(order.getProperty().split("\\.")));
+        final Comparator directedValueComparator = nullsLast(order.isDescending() ? valueComparator.reversed() : valueComparator);
 
-        return order.isDescending()
-            ? comparing(valueExtractor, nullsLast(reverseOrder()))
-            : comparing(valueExtractor, nullsLast(naturalOrder()));
+        return (o1, o2) -> directedValueComparator.compare(propertyPath.value(o1), propertyPath.value(o2));
     }
 
-    private static <T> Comparable<? super Comparable> extractComparableValue(Class<T> type, T entity, List<String> properties) {
-        if (properties.isEmpty()) {
-            return null;
-        }
+    /**
+     * Compares the {@link CollationKey}s of the strings, which are created only once per distinct string
+     * of this comparator, since comparing with the {@link Collator} itself is expensive.
+     */
+    private static Comparator<String> caseInsensitiveCollator(Locale locale) {
+        final Collator collator = Collator.getInstance(locale);
+        collator.setStrength(Collator.SECONDARY);
 
-        final String errorMessage = format("type=\"%s\" does not contain property=\"%s\".", type, String.join(".", properties));
+        final Map<String, CollationKey> collationKeys = new ConcurrentHashMap<>();
+        return comparing(string -> collationKeys.computeIfAbsent(string, collator::getCollationKey));
+    }
 
-        final PropertyDescriptor propertyDescriptor = BeanUtils.getPropertyDescriptor(type, properties.getFirst());
-        if (propertyDescriptor == null) {
-            LOG.debug(errorMessage);
-            return null;
-        }
+    private static Optional<PropertyPath> propertyPath(Class<?> type, String path) {
+        // an unresolved path is mapped to null, which caffeine does not cache
+        return Optional.ofNullable(PROPERTY_PATHS.get(type).get(path, unused -> resolvePropertyPath(type, path).orElse(null)));
+    }
 
-        final Method readMethod = propertyDescriptor.getReadMethod();
-        Object value;
-        try {
-            value = readMethod.invoke(entity);
-        } catch (IllegalAccessException | InvocationTargetException e) {
-            throw new SortComparatorException(errorMessage, e);
-        }
+    private static Optional<PropertyPath> resolvePropertyPath(Class<?> type, String path) {
+
+        final List<MethodHandle> getters = new ArrayList<>();
+
+        Class<?> currentType = type;
+        for (String property : path.split("\\.")) {
+            final PropertyDescriptor propertyDescriptor = BeanUtils.getPropertyDescriptor(currentType, property);
+            if (propertyDescriptor == null || propertyDescriptor.getReadMethod() == null) {
+                LOG.debug("type=\"{}\" does not contain property=\"{}\".", type, path);
+                return Optional.empty();
+            }
 
-        if (properties.size() == 1) {
-            if (value instanceof String string) {
-                value = string.toLowerCase();
+            try {
+                final MethodHandle getter = MethodHandles.lookup().unreflect(propertyDescriptor.getReadMethod());
+                getters.add(getter.asType(methodType(Object.class, Object.class)));
+            } catch (IllegalAccessException e) {
+                throw new SortComparatorException(format("type=\"%s\" does not grant access to property=\"%s\".", type, path), e);
             }
-            return (Comparable<? super Comparable>) value;
+
+            currentType = propertyDescriptor.getPropertyType();
         }
 
-        return extractComparableValue((Class<T>) readMethod.getReturnType(), (T) value, properties.subList(1, properties.size()));
+        return Optional.of(new PropertyPath(path, getters.toArray(MethodHandle[]::new), currentType));
+    }
+
+    /**
+     * Resolved getters of a property path, e.g. {@code getPerson} and {@code getFirstName} for {@code person.firstName}.
+     *
+     * @param path      the property path
+     * @param getters   getters along the path, each adapted to {@code (Object) Object}
+     * @param valueType declared type of the last property
+     */
+    private record PropertyPath(String path, MethodHandle[] getters, Class<?> valueType) {
+
+        Object value(Object target) {
+            Object value = target;
+            for (MethodHandle getter : getters) {
+                if (value == null) {
+                    return null;
+                }
+
+                try {
+                    value = (Object) getter.invokeExact(value);
+                } catch (Throwable e) {
+                    throw new SortComparatorException(format("could not read property=\"%s\".", path), e);
+                }
+            }
+            return value;
+        }
     }
 }
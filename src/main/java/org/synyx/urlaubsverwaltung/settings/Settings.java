@@ -13,6 +13,7 @@ import org.synyx.urlaubsverwaltung.person.settings.AvatarSettings;
 import org.synyx.urlaubsverwaltung.sicknote.settings.SickNoteSettings;
 import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeSettings;
 
+import java.time.Instant;
 import java.util.Objects;
 
 import static jakarta.persistence.GenerationType.SEQUENCE;
@@ -38,6 +39,11 @@ public class Settings {
     private SickNoteSettings sickNoteSettings = new SickNoteSettings();
     private AvatarSettings avatarSettings = new AvatarSettings();
 
+    /**
+     * point in time of the last change, used to detect changes made by other instances of the application
+     */
+    private Instant updatedAt;
+
 
     public Long getId() {
         return id;
@@ -103,6 +109,14 @@ public class Settings {
         this.avatarSettings = avatarSettings;
     }
 
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -0,0 +1,53 @@
+package org.synyx.urlaubsverwaltung.settings;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties("uv.settings")
+@Validated
+public class SettingsProperties {
+
+    @Valid
+    private Cache cache = new Cache();
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public void setCache(Cache cache) {
+        this.cache = cache;
+    }
+
+    public static class Cache {
+
+        /**
+         * The settings are kept in memory and are refreshed on every change of this instance of the application.
+         * This interval defines how long the settings are used before it is checked whether another instance of
+         * the application has changed them. This is the maximum delay until changes of other instances are visible.
+         * <p>
+         * Possible inputs:
+         * <p><ul>
+         * <li>PT30S (30 Seconds in ISO-8601 Format)
+         * <li>30s (30 Seconds)
+         * <li>0 (check on every access)
+         * </ul><p>
+         * Default check interval is 30 seconds (PT30S).
+         */
+        @NotNull
+        private Duration checkInterval = Duration.ofSeconds(30);
+
+        public Duration getCheckInterval() {
+            return checkInterval;
+        }
+
+        public void setCheckInterval(Duration checkInterval) {
+            this.checkInterval = checkInterval;
+        }
+    }
+}
@@ -1,10 +1,24 @@
 package org.synyx.urlaubsverwaltung.settings;
 
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Optional;
 
 
 /**
  * Repository for {@link Settings} entities.
  */
 public interface SettingsRepository extends CrudRepository<Settings, Long> {
+
+    /**
+     * Cheap lookup of the point in time of the last change without loading the whole settings.
+     *
+     * @param id of the settings
+     * @return the point in time of the last change, empty if the settings do not exist or were never changed
+     */
+    @Query("select s.updatedAt from Settings s where s.id = :id")
+    Optional<Instant> findUpdatedAtById(@Param("id") Long id);
 }
@@ -1,43 +1,172 @@
 package org.synyx.urlaubsverwaltung.settings;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.synyx.urlaubsverwaltung.absence.TimeSettings;
+import org.synyx.urlaubsverwaltung.account.AccountSettings;
+import org.synyx.urlaubsverwaltung.application.settings.ApplicationSettings;
+import org.synyx.urlaubsverwaltung.overtime.OvertimeSettings;
+import org.synyx.urlaubsverwaltung.person.settings.AvatarSettings;
+import org.synyx.urlaubsverwaltung.sicknote.settings.SickNoteSettings;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeSettings;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
 
 import static java.lang.invoke.MethodHandles.lookup;
+import static java.time.temporal.ChronoUnit.MICROS;
 import static org.slf4j.LoggerFactory.getLogger;
 
 /**
  * Implementation for {@link org.synyx.urlaubsverwaltung.settings.SettingsService}.
+ *
+ * <p>
+ * The settings are kept in memory and replaced on every {@link #save(Settings)}. Changes of other instances of the
+ * application are detected by comparing the {@link Settings#getUpdatedAt()} with the database after the configured
+ * {@link SettingsProperties.Cache#getCheckInterval()}. The cached settings are never handed out,
+ * {@link #getSettings()} returns a copy that can be changed without affecting concurrent requests.
+ * </p>
  */
 @Service
 public class SettingsServiceImpl implements SettingsService {
 
     private static final Logger LOG = getLogger(lookup().lookupClass());
 
+    private static final long SETTINGS_ID = 1L;
+    private static final String METRIC_REFRESHES = "settings.cache.refreshes";
+    private static final String METRIC_STALENESS = "settings.cache.staleness";
+
     private final SettingsRepository settingsRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final Duration checkInterval;
+    private final Clock clock;
+
+    private final AtomicReference<CachedSettings> cachedSettings = new AtomicReference<>();
+
+    private final Counter loadedRefreshes;
+    private final Counter savedRefreshes;
+    private final Counter changedRefreshes;
 
     @Autowired
-    public SettingsServiceImpl(SettingsRepository settingsRepository) {
+    public SettingsServiceImpl(SettingsRepository settingsRepository, ApplicationEventPublisher applicationEventPublisher,
+                               SettingsProperties settingsProperties, MeterRegistry meterRegistry, Clock clock) {
         this.settingsRepository = settingsRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.checkInterval = settingsProperties.getCache().getCheckInterval();
+        this.clock = clock;
+
+        this.loadedRefreshes = Counter.builder(METRIC_REFRESHES).tag("cause", "load").register(meterRegistry);
+        this.savedRefreshes = Counter.builder(METRIC_REFRESHES).tag("cause", "save").register(meterRegistry);
+        this.changedRefreshes = Counter.builder(METRIC_REFRESHES).tag("cause", "changed").register(meterRegistry);
+        TimeGauge.builder(METRIC_STALENESS, this, TimeUnit.MILLISECONDS, SettingsServiceImpl::stalenessInMillis)
+            .description("time since the cached settings were last verified against the database")
+            .register(meterRegistry);
     }
 
     @Override
     public Settings save(Settings settings) {
+        settings.setUpdatedAt(Instant.now(clock).truncatedTo(MICROS));
+
         final Settings savedSettings = settingsRepository.save(settings);
         LOG.info("Updated settings: {}", savedSettings);
+
+        cachedSettings.set(new CachedSettings(copyOf(savedSettings), Instant.now(clock)));
+        savedRefreshes.increment();
+
+        applicationEventPublisher.publishEvent(SettingsUpdatedEvent.of(savedSettings));
         return savedSettings;
     }
 
+    /**
+     * Returns a copy of the cached settings, changes have to be persisted with {@link #save(Settings)}.
+     *
+     * @return the current settings
+     */
     @Override
     public Settings getSettings() {
-        return settingsRepository.findById(1L)
+        return copyOf(getCachedSettings());
+    }
+
+    private Settings getCachedSettings() {
+
+        final CachedSettings cached = cachedSettings.get();
+        if (cached == null) {
+            loadedRefreshes.increment();
+            return load().settings();
+        }
+
+        final Instant now = Instant.now(clock);
+        if (now.isBefore(cached.checkedAt().plus(checkInterval))) {
+            return cached.settings();
+        }
+
+        final Instant updatedAt = settingsRepository.findUpdatedAtById(SETTINGS_ID).orElse(null);
+        if (!Objects.equals(updatedAt, cached.settings().getUpdatedAt())) {
+            LOG.info("Settings have been changed at {}, refreshing cached settings", updatedAt);
+            changedRefreshes.increment();
+            return load().settings();
+        }
+
+        cachedSettings.compareAndSet(cached, new CachedSettings(cached.settings(), now));
+        return cached.settings();
+    }
+
+    private CachedSettings load() {
+        final Settings settings = settingsRepository.findById(SETTINGS_ID)
             .orElseGet(() -> {
-                final Settings settings = new Settings();
-                settings.setId(1L);
-                final Settings savedSettings = settingsRepository.save(settings);
+                final Settings initialSettings = new Settings();
+                initialSettings.setId(SETTINGS_ID);
+                initialSettings.setUpdatedAt(Instant.now(clock).truncatedTo(MICROS));
+                final Settings savedSettings = settingsRepository.save(initialSettings);
                 LOG.info("Saved initial settings {}", savedSettings);
                 return savedSettings;
             });
+
+        final CachedSettings loaded = new CachedSettings(copyOf(settings), Instant.now(clock));
+        cachedSettings.set(loaded);
+        return loaded;
+    }
+
+    /**
+     * Copies the settings and each of its embedded settings, so that changes of the copy never reach the cached settings.
+     */
+    private static Settings copyOf(Settings settings) {
+        final Settings copy = new Settings();
+        copy.setId(settings.getId());
+        copy.setUpdatedAt(settings.getUpdatedAt());
+        copy.setApplicationSettings(copyOf(settings.getApplicationSettings(), ApplicationSettings::copy));
+        copy.setAccountSettings(copyOf(settings.getAccountSettings(), AccountSettings::copy));
+        copy.setWorkingTimeSettings(copyOf(settings.getWorkingTimeSettings(), WorkingTimeSettings::copy));
+        copy.setOvertimeSettings(copyOf(settings.getOvertimeSettings(), OvertimeSettings::copy));
+        copy.setTimeSettings(copyOf(settings.getTimeSettings(), TimeSettings::copy));
+        copy.setSickNoteSettings(copyOf(settings.getSickNoteSettings(), SickNoteSettings::copy));
+        copy.setAvatarSettings(copyOf(settings.getAvatarSettings(), AvatarSettings::copy));
+        return copy;
+    }
+
+    private static <T> T copyOf(T embeddedSettings, UnaryOperator<T> copy) {
+        return embeddedSettings == null ? null : copy.apply(embeddedSettings);
+    }
+
+    private double stalenessInMillis() {
+        final CachedSettings cached = cachedSettings.get();
+        return cached == null ? 0 : Duration.between(cached.checkedAt(), Instant.now(clock)).toMillis();
+    }
+
+    /**
+     * @param settings  in memory
+     * @param checkedAt last time the settings are known to be up-to-date with the database
+     */
+    private record CachedSettings(Settings settings, Instant checkedAt) {
     }
 }
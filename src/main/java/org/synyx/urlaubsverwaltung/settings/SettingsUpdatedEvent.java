@@ -0,0 +1,14 @@
+package org.synyx.urlaubsverwaltung.settings;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Indicates that the {@link Settings} of the application have been saved.
+ */
+public record SettingsUpdatedEvent(UUID id, Instant createdAt, Settings settings) {
+
+    public static SettingsUpdatedEvent of(Settings settings) {
+        return new SettingsUpdatedEvent(UUID.randomUUID(), Instant.now(), settings);
+    }
+}
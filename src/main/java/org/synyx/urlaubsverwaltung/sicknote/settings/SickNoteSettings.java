@@ -34,4 +34,11 @@ public class SickNoteSettings {
     public void setDaysBeforeEndOfSickPayNotification(Integer daysBeforeEndOfSickPayNotification) {
         this.daysBeforeEndOfSickPayNotification = daysBeforeEndOfSickPayNotification;
     }
+
+    public SickNoteSettings copy() {
+        final SickNoteSettings copy = new SickNoteSettings();
+        copy.maximumSickPayDays = maximumSickPayDays;
+        copy.daysBeforeEndOfSickPayNotification = daysBeforeEndOfSickPayNotification;
+        return copy;
+    }
 }
@@ -1,10 +1,8 @@
 package org.synyx.urlaubsverwaltung.sicknote.sickdays;
 
 import org.synyx.urlaubsverwaltung.person.Person;
-import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteCategory;
 
-import java.time.LocalDate;
 import java.util.List;
 
 import static org.synyx.urlaubsverwaltung.sicknote.sickdays.SickDays.SickDayType.TOTAL;
@@ -16,10 +14,10 @@ public class SickDaysDetailedStatistics {
 
     private final String personalNumber;
     private final Person person;
-    private final List<SickNote> sickNotes;
+    private final List<SickNoteWorkDays> sickNotes;
     private final List<String> departments;
 
-    SickDaysDetailedStatistics(String personalNumber, Person person, List<SickNote> sickNotes, List<String> departments) {
+    SickDaysDetailedStatistics(String personalNumber, Person person, List<SickNoteWorkDays> sickNotes, List<String> departments) {
         this.personalNumber = personalNumber;
         this.person = person;
         this.sickNotes = sickNotes;
@@ -34,7 +32,7 @@ public class SickDaysDetailedStatistics {
         return person;
     }
 
-    public List<SickNote> getSickNotes() {
+    public List<SickNoteWorkDays> getSickNotes() {
         return sickNotes;
     }
 
@@ -42,31 +40,28 @@ public class SickDaysDetailedStatistics {
         return departments;
     }
 
-    public SickDays getSickDays(LocalDate from, LocalDate to) {
-        return calculateSickDaysForCategory(from, to, SICK_NOTE);
+    /**
+     * @return the sick days of the sick notes within the period of the statistics
+     */
+    public SickDays getSickDays() {
+        return sumSickDaysOfCategory(SICK_NOTE);
     }
 
-    public SickDays getChildSickDays(LocalDate from, LocalDate to) {
-        return calculateSickDaysForCategory(from, to, SICK_NOTE_CHILD);
+    /**
+     * @return the child sick days of the sick notes within the period of the statistics
+     */
+    public SickDays getChildSickDays() {
+        return sumSickDaysOfCategory(SICK_NOTE_CHILD);
     }
 
-    private SickDays calculateSickDaysForCategory(LocalDate from, LocalDate to, SickNoteCategory category) {
-        return sickNotes.stream()
-            .filter(sickNote -> sickNote.getSickNoteType().isOfCategory(category))
-            .map(sickNote -> sickDaysForSickNote(from, to, sickNote))
-            .reduce(new SickDays(), this::sumSickDays);
-    }
-
-    private SickDays sickDaysForSickNote(LocalDate from, LocalDate to, SickNote sickNote) {
+    private SickDays sumSickDaysOfCategory(SickNoteCategory category) {
         final SickDays sickDays = new SickDays();
-        sickDays.addDays(TOTAL, sickNote.getWorkDays(from, to));
-        sickDays.addDays(WITH_AUB, sickNote.getWorkDaysWithAub(from, to));
+        for (SickNoteWorkDays sickNote : sickNotes) {
+            if (sickNote.isOfCategory(category)) {
+                sickDays.addDays(TOTAL, sickNote.workDays());
+                sickDays.addDays(WITH_AUB, sickNote.workDaysWithAub());
+            }
+        }
         return sickDays;
     }
-
-    private SickDays sumSickDays(SickDays sum, SickDays next) {
-        sum.addDays(TOTAL, next.getDays().get(TOTAL.name()));
-        sum.addDays(WITH_AUB, next.getDays().get(WITH_AUB.name()));
-        return sum;
-    }
 }
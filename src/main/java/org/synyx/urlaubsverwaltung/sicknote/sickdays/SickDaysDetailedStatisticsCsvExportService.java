@@ -9,7 +9,6 @@ import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 
 import java.text.DecimalFormat;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
 import java.util.Locale;
 
 import static java.lang.String.format;
@@ -38,7 +37,7 @@ class SickDaysDetailedStatisticsCsvExportService implements CsvExportService<Sic
     }
 
     @Override
-    public void write(FilterPeriod period, Locale locale, List<SickDaysDetailedStatistics> allDetailedSickNotes, CSVWriter csvWriter) {
+    public void write(FilterPeriod period, Locale locale, Iterable<SickDaysDetailedStatistics> allDetailedSickNotes, CSVWriter csvWriter) {
 
         final String[] csvHeader = {
             getTranslation(locale, "person.account.basedata.personnelNumber"),
@@ -67,15 +66,15 @@ class SickDaysDetailedStatisticsCsvExportService implements CsvExportService<Sic
                 sickNoteCsvRow[1] = detailedSickNote.getPerson().getFirstName();
                 sickNoteCsvRow[2] = detailedSickNote.getPerson().getLastName();
                 sickNoteCsvRow[3] = String.join(", ", detailedSickNote.getDepartments());
-                sickNoteCsvRow[4] = sickNote.getStartDate().format(dateTimeFormatter);
-                sickNoteCsvRow[5] = sickNote.getEndDate().format(dateTimeFormatter);
-                sickNoteCsvRow[6] = getTranslation(locale, sickNote.getDayLength().name());
-                sickNoteCsvRow[7] = decimalFormat.format(sickNote.getWorkDays());
-                sickNoteCsvRow[8] = getTranslation(locale, sickNote.getSickNoteType().getMessageKey());
+                sickNoteCsvRow[4] = sickNote.startDate().format(dateTimeFormatter);
+                sickNoteCsvRow[5] = sickNote.endDate().format(dateTimeFormatter);
+                sickNoteCsvRow[6] = getTranslation(locale, sickNote.dayLength().name());
+                sickNoteCsvRow[7] = decimalFormat.format(sickNote.workDays());
+                sickNoteCsvRow[8] = getTranslation(locale, sickNote.sickNoteType().getMessageKey());
                 if (sickNote.isAubPresent()) {
-                    sickNoteCsvRow[9] = sickNote.getAubStartDate().format(dateTimeFormatter);
-                    sickNoteCsvRow[10] = sickNote.getAubEndDate().format(dateTimeFormatter);
-                    sickNoteCsvRow[11] = decimalFormat.format(sickNote.getWorkDaysWithAub());
+                    sickNoteCsvRow[9] = sickNote.aubStartDate().format(dateTimeFormatter);
+                    sickNoteCsvRow[10] = sickNote.aubEndDate().format(dateTimeFormatter);
+                    sickNoteCsvRow[11] = decimalFormat.format(sickNote.workDaysWithAub());
                 }
                 csvWriter.writeNext(sickNoteCsvRow);
             })
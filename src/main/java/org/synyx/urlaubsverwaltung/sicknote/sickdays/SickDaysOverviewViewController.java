@@ -83,7 +83,7 @@ public class SickDaysOverviewViewController implements HasLaunchpad {
             sickDaysStatisticsService.getAll(signedInUser, period.getStartDate(), period.getEndDate(), new PageableSearchQuery(pageable, query));
 
         final List<SickDaysOverviewDto> sickDaysOverviewDtos = sickDaysStatisticsPage.stream()
-            .map(statistic -> toSickDaysOverviewDto(statistic, period.getStartDate(), period.getEndDate()))
+            .map(SickDaysOverviewViewController::toSickDaysOverviewDto)
             .collect(toList());
 
         model.addAttribute("sickDaysStatistics", sickDaysOverviewDtos);
@@ -142,11 +142,11 @@ public class SickDaysOverviewViewController implements HasLaunchpad {
         );
     }
 
-    private static SickDaysOverviewDto toSickDaysOverviewDto(SickDaysDetailedStatistics statistics, LocalDate from, LocalDate to) {
+    private static SickDaysOverviewDto toSickDaysOverviewDto(SickDaysDetailedStatistics statistics) {
 
         final Person person = statistics.getPerson();
-        final SickDays sickDays = statistics.getSickDays(from, to);
-        final SickDays childSickDays = statistics.getChildSickDays(from, to);
+        final SickDays sickDays = statistics.getSickDays();
+        final SickDays childSickDays = statistics.getChildSickDays();
 
         return SickDaysOverviewDto.builder()
             .personId(person.getId())
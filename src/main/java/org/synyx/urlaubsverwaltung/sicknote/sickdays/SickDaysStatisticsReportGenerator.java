@@ -0,0 +1,57 @@
+package org.synyx.urlaubsverwaltung.sicknote.sickdays;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.report.ReportGenerator;
+import org.synyx.urlaubsverwaltung.report.ReportType;
+import org.synyx.urlaubsverwaltung.search.PageStreamSupport;
+import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
+import org.synyx.urlaubsverwaltung.web.FilterPeriod;
+
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import static org.synyx.urlaubsverwaltung.person.Role.OFFICE;
+import static org.synyx.urlaubsverwaltung.person.Role.SICK_NOTE_VIEW;
+import static org.synyx.urlaubsverwaltung.report.ReportType.SICK_DAYS_STATISTICS;
+
+@Component
+class SickDaysStatisticsReportGenerator implements ReportGenerator {
+
+    private static final int PAGE_SIZE = 100;
+
+    private final SickDaysStatisticsService sickDaysStatisticsService;
+    private final SickDaysDetailedStatisticsCsvExportService sickDaysDetailedStatisticsCsvExportService;
+
+    SickDaysStatisticsReportGenerator(SickDaysStatisticsService sickDaysStatisticsService, SickDaysDetailedStatisticsCsvExportService sickDaysDetailedStatisticsCsvExportService) {
+        this.sickDaysStatisticsService = sickDaysStatisticsService;
+        this.sickDaysDetailedStatisticsCsvExportService = sickDaysDetailedStatisticsCsvExportService;
+    }
+
+    @Override
+    public ReportType type() {
+        return SICK_DAYS_STATISTICS;
+    }
+
+    @Override
+    public boolean isAllowedToGenerate(Person person) {
+        return person.hasRole(OFFICE) || person.hasRole(SICK_NOTE_VIEW);
+    }
+
+    @Override
+    public String fileName(FilterPeriod period, Locale locale) {
+        return sickDaysDetailedStatisticsCsvExportService.fileName(period, locale);
+    }
+
+    @Override
+    public void generate(Person person, FilterPeriod period, Sort sort, Locale locale, OutputStream outputStream) {
+        final Stream<SickDaysDetailedStatistics> sickDaysStatistics = PageStreamSupport.stream(
+            pageable -> sickDaysStatisticsService.getAll(person, period.getStartDate(), period.getEndDate(), new PageableSearchQuery(pageable, "")),
+            PAGE_SIZE, sort
+        );
+
+        sickDaysDetailedStatisticsCsvExportService.writeCSV(period, locale, sickDaysStatistics, outputStream);
+    }
+}
@@ -16,8 +16,6 @@ import org.synyx.urlaubsverwaltung.person.basedata.PersonBasedata;
 import org.synyx.urlaubsverwaltung.person.basedata.PersonBasedataService;
 import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
 import org.synyx.urlaubsverwaltung.search.SortComparator;
-import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
-import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteService;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -32,20 +30,19 @@ import static org.synyx.urlaubsverwaltung.person.Role.DEPARTMENT_HEAD;
 import static org.synyx.urlaubsverwaltung.person.Role.OFFICE;
 import static org.synyx.urlaubsverwaltung.person.Role.SECOND_STAGE_AUTHORITY;
 import static org.synyx.urlaubsverwaltung.person.Role.SICK_NOTE_VIEW;
-import static org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteStatus.ACTIVE;
 
 @Service
 @Transactional
 public class SickDaysStatisticsService {
 
-    private final SickNoteService sickNoteService;
+    private final SickNoteWorkDaysQuery sickNoteWorkDaysQuery;
     private final DepartmentService departmentService;
     private final PersonBasedataService personBasedataService;
     private final PersonService personService;
 
     @Autowired
-    SickDaysStatisticsService(SickNoteService sickNoteService, DepartmentService departmentService, PersonBasedataService personBasedataService, PersonService personService) {
-        this.sickNoteService = sickNoteService;
+    SickDaysStatisticsService(SickNoteWorkDaysQuery sickNoteWorkDaysQuery, DepartmentService departmentService, PersonBasedataService personBasedataService, PersonService personService) {
+        this.sickNoteWorkDaysQuery = sickNoteWorkDaysQuery;
         this.departmentService = departmentService;
         this.personBasedataService = personBasedataService;
         this.personService = personService;
@@ -66,9 +63,9 @@ public class SickDaysStatisticsService {
         final Page<Person> relevantMembersPage = getMembersForPerson(person, pageableSearchQuery);
         final List<Person> relevantMembers = relevantMembersPage.getContent();
         final List<Long> relevantPersonIds = relevantMembers.stream().map(Person::getId).collect(toList());
-        final List<SickNote> sickNotes = getSickNotes(person, relevantMembers, from, to);
+        final List<SickNoteWorkDays> sickNotes = getSickNotes(person, relevantMembers, from, to);
 
-        final Map<Person, List<SickNote>> sickNotesByPerson = sickNotes.stream().collect(groupingBy(SickNote::getPerson));
+        final Map<Person, List<SickNoteWorkDays>> sickNotesByPerson = sickNotes.stream().collect(groupingBy(SickNoteWorkDays::person));
         for (Person member : relevantMembers) {
             sickNotesByPerson.putIfAbsent(member, List.of());
         }
@@ -95,7 +92,7 @@ public class SickDaysStatisticsService {
         return new PageImpl<>(content, pageable, relevantMembersPage.getTotalElements());
     }
 
-    private Function<Map.Entry<Person, List<SickNote>>, SickDaysDetailedStatistics> toSickNoteDetailedStatistics(Map<PersonId, PersonBasedata> basedataForPersons, Map<PersonId, List<String>> departmentsForPersons) {
+    private Function<Map.Entry<Person, List<SickNoteWorkDays>>, SickDaysDetailedStatistics> toSickNoteDetailedStatistics(Map<PersonId, PersonBasedata> basedataForPersons, Map<PersonId, List<String>> departmentsForPersons) {
         return personListEntry ->
         {
             final Person person = personListEntry.getKey();
@@ -106,9 +103,9 @@ public class SickDaysStatisticsService {
         };
     }
 
-    private List<SickNote> getSickNotes(Person person, List<Person> members, LocalDate from, LocalDate to) {
+    private List<SickNoteWorkDays> getSickNotes(Person person, List<Person> members, LocalDate from, LocalDate to) {
         if (person.hasRole(OFFICE) || (person.hasRole(BOSS) || person.hasRole(DEPARTMENT_HEAD) || person.hasRole(SECOND_STAGE_AUTHORITY)) && person.hasRole(SICK_NOTE_VIEW)) {
-            return sickNoteService.getForStatesAndPerson(List.of(ACTIVE), members, from, to);
+            return sickNoteWorkDaysQuery.findActive(members, from, to);
         }
 
         return List.of();
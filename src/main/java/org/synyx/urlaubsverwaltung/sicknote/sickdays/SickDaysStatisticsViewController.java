@@ -1,9 +1,6 @@
 package org.synyx.urlaubsverwaltung.sicknote.sickdays;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.SortDefault;
@@ -16,9 +13,11 @@ import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
-import org.synyx.urlaubsverwaltung.csv.CSVFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.synyx.urlaubsverwaltung.csv.CSVStream;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.search.PageStreamSupport;
 import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
 import org.synyx.urlaubsverwaltung.web.DateFormatAware;
 import org.synyx.urlaubsverwaltung.web.FilterPeriod;
@@ -27,8 +26,8 @@ import java.time.Clock;
 import java.time.LocalDate;
 import java.time.Year;
 import java.util.Locale;
+import java.util.stream.Stream;
 
-import static java.lang.Integer.MAX_VALUE;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
 import static org.springframework.http.HttpStatus.OK;
@@ -40,6 +39,8 @@ import static org.springframework.http.HttpStatus.OK;
 @RequestMapping("/web/sickdays/statistics")
 class SickDaysStatisticsViewController {
 
+    private static final int EXPORT_PAGE_SIZE = 100;
+
     private final SickDaysStatisticsService sickDaysStatisticsService;
     private final SickDaysDetailedStatisticsCsvExportService sickDaysDetailedStatisticsCsvExportService;
     private final PersonService personService;
@@ -60,12 +61,12 @@ class SickDaysStatisticsViewController {
 
     @PreAuthorize("hasAnyAuthority('OFFICE', 'SICK_NOTE_VIEW')")
     @GetMapping("/download")
-    public ResponseEntity<ByteArrayResource> downloadCSV(@RequestParam(value = "from", defaultValue = "") String from,
-                                                         @RequestParam(value = "to", defaultValue = "") String to,
-                                                         @RequestParam(value = "allElements", defaultValue = "false") boolean allElements,
-                                                         @RequestParam(value = "query", required = false, defaultValue = "") String query,
-                                                         @SortDefault(sort = "person.firstName", direction = Sort.Direction.ASC) Pageable pageable,
-                                                         Locale locale) {
+    public ResponseEntity<StreamingResponseBody> downloadCSV(@RequestParam(value = "from", defaultValue = "") String from,
+                                                            @RequestParam(value = "to", defaultValue = "") String to,
+                                                            @RequestParam(value = "allElements", defaultValue = "false") boolean allElements,
+                                                            @RequestParam(value = "query", required = false, defaultValue = "") String query,
+                                                            @SortDefault(sort = "person.firstName", direction = Sort.Direction.ASC) Pageable pageable,
+                                                            Locale locale) {
 
         final FilterPeriod period = toFilterPeriod(from, to, locale);
 
@@ -76,20 +77,18 @@ class SickDaysStatisticsViewController {
 
         final Person signedInUser = personService.getSignedInUser();
 
-        final Pageable adaptedPageable = allElements ? PageRequest.of(0, MAX_VALUE, pageable.getSort()) : pageable;
-        final String adaptedQuery = allElements ? "" : query;
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(adaptedPageable, adaptedQuery);
-
-        final Page<SickDaysDetailedStatistics> sickDaysStatisticsPage =
-            sickDaysStatisticsService.getAll(signedInUser, period.getStartDate(), period.getEndDate(), pageableSearchQuery);
+        // all elements are streamed page by page to keep neither all statistics nor the whole csv file in memory
+        final Stream<SickDaysDetailedStatistics> sickDaysStatistics = allElements
+            ? PageStreamSupport.stream(exportPageable -> sickDaysStatisticsService.getAll(signedInUser, period.getStartDate(), period.getEndDate(), new PageableSearchQuery(exportPageable, "")), EXPORT_PAGE_SIZE, pageable.getSort())
+            : sickDaysStatisticsService.getAll(signedInUser, period.getStartDate(), period.getEndDate(), new PageableSearchQuery(pageable, query)).stream();
 
-        final CSVFile csvFile = sickDaysDetailedStatisticsCsvExportService.generateCSV(period, locale, sickDaysStatisticsPage.getContent());
+        final CSVStream csvStream = sickDaysDetailedStatisticsCsvExportService.streamCSV(period, locale, sickDaysStatistics);
 
         final HttpHeaders headers = new HttpHeaders();
         headers.setContentType(new MediaType("text", "csv", UTF_8));
-        headers.setContentDisposition(ContentDisposition.builder("attachment").filename(csvFile.fileName(), UTF_8).build());
+        headers.setContentDisposition(ContentDisposition.builder("attachment").filename(csvStream.fileName(), UTF_8).build());
 
-        return ResponseEntity.status(OK).headers(headers).body(csvFile.resource());
+        return ResponseEntity.status(OK).headers(headers).body(csvStream.body());
     }
 
     private FilterPeriod toFilterPeriod(String startDateString, String endDateString, Locale locale) {
@@ -0,0 +1,43 @@
+package org.synyx.urlaubsverwaltung.sicknote.sickdays;
+
+import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteCategory;
+import org.synyx.urlaubsverwaltung.sicknote.sicknotetype.SickNoteType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * A sick note with its work days and its work days with AUB within the period of the statistics.
+ *
+ * @param person          of the sick note
+ * @param sickNoteType    of the sick note
+ * @param startDate       of the sick note
+ * @param endDate         of the sick note
+ * @param dayLength       of the sick note
+ * @param aubStartDate    of the sick note, {@code null} without AUB
+ * @param aubEndDate      of the sick note, {@code null} without AUB
+ * @param workDays        of the sick note within the period
+ * @param workDaysWithAub of the sick note within the period
+ */
+public record SickNoteWorkDays(
+    Person person,
+    SickNoteType sickNoteType,
+    LocalDate startDate,
+    LocalDate endDate,
+    DayLength dayLength,
+    LocalDate aubStartDate,
+    LocalDate aubEndDate,
+    BigDecimal workDays,
+    BigDecimal workDaysWithAub
+) {
+
+    public boolean isAubPresent() {
+        return aubStartDate != null && aubEndDate != null;
+    }
+
+    public boolean isOfCategory(SickNoteCategory category) {
+        return sickNoteType.isOfCategory(category);
+    }
+}
@@ -0,0 +1,126 @@
+package org.synyx.urlaubsverwaltung.sicknote.sickdays;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.synyx.urlaubsverwaltung.absence.DateRange;
+import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.sicknote.sicknotetype.SickNoteType;
+import org.synyx.urlaubsverwaltung.sicknote.sicknotetype.SickNoteTypeService;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendarService;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * Loads the work days of the active sick notes of persons within a period for the {@link SickDaysDetailedStatistics}.
+ *
+ * <p>
+ * Only the columns needed for the statistics are selected with one query for all persons, instead of loading the
+ * sick note entities. The work days are taken from the prefix sums of the {@link WorkingTimeCalendar}s of the
+ * period, so that no sick note has to be walked day by day.
+ * </p>
+ */
+@Component
+class SickNoteWorkDaysQuery {
+
+    private static final String ACTIVE_SICK_NOTES = """
+        SELECT s.person_id, s.sick_note_type_id, s.start_date, s.end_date, s.day_length, s.aub_start_date, s.aub_end_date
+        FROM sick_note s
+        WHERE s.person_id IN (:personIds)
+          AND s.status = 'ACTIVE'
+          AND s.end_date >= :from
+          AND s.start_date <= :to
+        ORDER BY s.person_id, s.start_date, s.id
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final SickNoteTypeService sickNoteTypeService;
+    private final WorkingTimeCalendarService workingTimeCalendarService;
+
+    SickNoteWorkDaysQuery(NamedParameterJdbcTemplate jdbcTemplate, SickNoteTypeService sickNoteTypeService,
+                          WorkingTimeCalendarService workingTimeCalendarService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sickNoteTypeService = sickNoteTypeService;
+        this.workingTimeCalendarService = workingTimeCalendarService;
+    }
+
+    /**
+     * @param persons to load the active sick notes of
+     * @param from    first day of the period
+     * @param to      last day of the period
+     * @return the active sick notes of the given persons that overlap the period, with their work days within the period
+     */
+    List<SickNoteWorkDays> findActive(List<Person> persons, LocalDate from, LocalDate to) {
+        if (persons.isEmpty()) {
+            return List.of();
+        }
+
+        final Map<Long, Person> personsById = persons.stream().collect(toMap(Person::getId, identity(), (person, duplicate) -> person));
+
+        final MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("personIds", personsById.keySet())
+            .addValue("from", from)
+            .addValue("to", to);
+
+        final List<SickNoteRow> rows = jdbcTemplate.query(ACTIVE_SICK_NOTES, parameters, (resultSet, rowNum) -> new SickNoteRow(
+            resultSet.getLong("person_id"),
+            resultSet.getLong("sick_note_type_id"),
+            resultSet.getObject("start_date", LocalDate.class),
+            resultSet.getObject("end_date", LocalDate.class),
+            DayLength.valueOf(resultSet.getString("day_length")),
+            resultSet.getObject("aub_start_date", LocalDate.class),
+            resultSet.getObject("aub_end_date", LocalDate.class)
+        ));
+
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        final Map<Long, SickNoteType> sickNoteTypesById = sickNoteTypeService.getSickNoteTypes().stream()
+            .collect(toMap(SickNoteType::getId, identity()));
+
+        final DateRange period = new DateRange(from, to);
+        final List<Person> personsWithSickNotes = rows.stream().map(SickNoteRow::personId).distinct().map(personsById::get).toList();
+        final Map<Person, WorkingTimeCalendar> workingTimeCalendarByPerson = workingTimeCalendarService.getWorkingTimesByPersons(personsWithSickNotes, period);
+
+        return rows.stream()
+            .map(row -> {
+                final Person person = personsById.get(row.personId());
+                final WorkingTimeCalendar workingTimeCalendar = workingTimeCalendarByPerson.get(person);
+                return new SickNoteWorkDays(
+                    person,
+                    sickNoteTypesById.get(row.sickNoteTypeId()),
+                    row.startDate(),
+                    row.endDate(),
+                    row.dayLength(),
+                    row.aubStartDate(),
+                    row.aubEndDate(),
+                    workDays(workingTimeCalendar, period, row.startDate(), row.endDate(), row.dayLength()),
+                    workDays(workingTimeCalendar, period, row.aubStartDate(), row.aubEndDate(), row.dayLength())
+                );
+            })
+            .toList();
+    }
+
+    private static BigDecimal workDays(WorkingTimeCalendar workingTimeCalendar, DateRange period, LocalDate startDate, LocalDate endDate, DayLength dayLength) {
+        if (workingTimeCalendar == null || startDate == null || endDate == null || endDate.isBefore(startDate)) {
+            return BigDecimal.ZERO;
+        }
+
+        return period.overlap(new DateRange(startDate, endDate))
+            .map(overlap -> workingTimeCalendar.workingTime(overlap, dayLength))
+            .orElse(BigDecimal.ZERO);
+    }
+
+    private record SickNoteRow(Long personId, Long sickNoteTypeId, LocalDate startDate, LocalDate endDate, DayLength dayLength,
+                               LocalDate aubStartDate, LocalDate aubEndDate) {
+    }
+}
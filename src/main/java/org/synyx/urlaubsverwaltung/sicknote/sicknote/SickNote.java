@@ -8,7 +8,6 @@ import org.synyx.urlaubsverwaltung.sicknote.sicknotetype.SickNoteType;
 import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.Objects;
@@ -136,16 +135,7 @@ public class SickNote {
             return BigDecimal.ZERO;
         }
 
-        BigDecimal workingTimeSum = BigDecimal.ZERO;
-        for (LocalDate localDate : dateRange) {
-            final BigDecimal workingTime = workingTimeCalendar.workingTime(localDate).orElse(BigDecimal.ZERO);
-            if (dayLength.isHalfDay()) {
-                workingTimeSum = workingTimeSum.add(workingTime.divide(BigDecimal.valueOf(2), 1, RoundingMode.CEILING));
-            } else {
-                workingTimeSum = workingTimeSum.add(workingTime);
-            }
-        }
-        return workingTimeSum;
+        return workingTimeCalendar.workingTime(dateRange, dayLength);
     }
 
     public DayOfWeek getWeekDayOfStartDate() {
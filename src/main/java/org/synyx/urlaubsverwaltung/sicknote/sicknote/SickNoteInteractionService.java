@@ -14,6 +14,7 @@ public interface SickNoteInteractionService {
      * @param sickNote to be saved
      * @param creator  the person who creates the sick note
      * @return the saved sick note
+     * @throws org.synyx.urlaubsverwaltung.overlap.OverlapException if the sick note overlaps with another absence
      */
     SickNote create(SickNote sickNote, Person creator);
 
@@ -24,6 +25,7 @@ public interface SickNoteInteractionService {
      * @param creator  the person who creates the sick note
      * @param comment  giving further information
      * @return the saved sick note
+     * @throws org.synyx.urlaubsverwaltung.overlap.OverlapException if the sick note overlaps with another absence
      */
     SickNote create(SickNote sickNote, Person creator, String comment);
 
@@ -34,6 +36,7 @@ public interface SickNoteInteractionService {
      * @param editor   the person who updates the sick note
      * @param comment  giving further information
      * @return the updated sick note
+     * @throws org.synyx.urlaubsverwaltung.overlap.OverlapException if the sick note overlaps with another absence
      */
     SickNote update(SickNote sickNote, Person editor, String comment);
 
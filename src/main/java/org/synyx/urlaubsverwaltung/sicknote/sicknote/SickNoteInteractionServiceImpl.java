@@ -8,6 +8,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.synyx.urlaubsverwaltung.application.application.Application;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationInteractionService;
+import org.synyx.urlaubsverwaltung.overlap.OverlapService;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonDeletedEvent;
 import org.synyx.urlaubsverwaltung.sicknote.comment.SickNoteCommentAction;
@@ -33,6 +34,7 @@ class SickNoteInteractionServiceImpl implements SickNoteInteractionService {
     private final SickNoteCommentService commentService;
     private final ApplicationInteractionService applicationInteractionService;
     private final SickNoteMailService sickNoteMailService;
+    private final OverlapService overlapService;
     private final ApplicationEventPublisher applicationEventPublisher;
 
     @Autowired
@@ -40,6 +42,7 @@ class SickNoteInteractionServiceImpl implements SickNoteInteractionService {
                                    SickNoteCommentService commentService,
                                    ApplicationInteractionService applicationInteractionService,
                                    SickNoteMailService sickNoteMailService,
+                                   OverlapService overlapService,
                                    ApplicationEventPublisher applicationEventPublisher
     ) {
 
@@ -47,6 +50,7 @@ class SickNoteInteractionServiceImpl implements SickNoteInteractionService {
         this.commentService = commentService;
         this.applicationInteractionService = applicationInteractionService;
         this.sickNoteMailService = sickNoteMailService;
+        this.overlapService = overlapService;
         this.applicationEventPublisher = applicationEventPublisher;
     }
 
@@ -58,7 +62,10 @@ class SickNoteInteractionServiceImpl implements SickNoteInteractionService {
     @Override
     public SickNote create(SickNote sickNote, Person applier, String comment) {
 
-        final SickNote createdSickNote = sickNoteService.save(SickNote.builder(sickNote).status(ACTIVE).build());
+        final SickNote activeSickNote = SickNote.builder(sickNote).status(ACTIVE).build();
+        overlapService.lockAndEnsureNoOverlap(activeSickNote);
+
+        final SickNote createdSickNote = sickNoteService.save(activeSickNote);
         LOG.info("Created sick note: {}", createdSickNote);
 
         commentService.create(createdSickNote, SickNoteCommentAction.CREATED, applier, comment);
@@ -74,7 +81,10 @@ class SickNoteInteractionServiceImpl implements SickNoteInteractionService {
     @Override
     public SickNote update(SickNote sickNote, Person editor, String comment) {
 
-        final SickNote updatedSickNote = sickNoteService.save(SickNote.builder(sickNote).status(ACTIVE).build());
+        final SickNote activeSickNote = SickNote.builder(sickNote).status(ACTIVE).build();
+        overlapService.lockAndEnsureNoOverlap(activeSickNote);
+
+        final SickNote updatedSickNote = sickNoteService.save(activeSickNote);
         LOG.info("Updated sick note: {}", updatedSickNote);
 
         commentService.create(updatedSickNote, EDITED, editor, comment);
@@ -43,6 +43,10 @@ interface SickNoteRepository extends CrudRepository<SickNoteEntity, Long> {
         @Param("today") LocalDate today
     );
 
+    List<SickNoteEntity> findByStatusIn(List<SickNoteStatus> sickNoteStatuses);
+
+    List<SickNoteEntity> findByStatusInAndPersonIn(List<SickNoteStatus> sickNoteStatuses, List<Person> persons);
+
     List<SickNoteEntity> findByStatusInAndEndDateGreaterThanEqual(List<SickNoteStatus> openSickNoteStatuses, LocalDate since);
 
     List<SickNoteEntity> findByStatusInAndPersonInAndEndDateIsGreaterThanEqual(List<SickNoteStatus> openSickNoteStatuses, List<Person> persons, LocalDate sinceStartDate);
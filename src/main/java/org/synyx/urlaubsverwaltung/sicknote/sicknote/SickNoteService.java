@@ -2,9 +2,11 @@ package org.synyx.urlaubsverwaltung.sicknote.sicknote;
 
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.Role;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -47,6 +49,23 @@ public interface SickNoteService {
 
     List<SickNote> getAllActiveByPeriod(LocalDate from, LocalDate to);
 
+    /**
+     * Get all {@link SickNote}s with specific states. The work days of the returned sick notes are not calculated.
+     *
+     * @param sickNoteStatuses {@link SickNoteStatus} to filter
+     * @return all {@link SickNote}s with specific states
+     */
+    List<SickNote> getForStates(List<SickNoteStatus> sickNoteStatuses);
+
+    /**
+     * Get all {@link SickNote}s with specific states and persons. The work days of the returned sick notes are not calculated.
+     *
+     * @param sickNoteStatuses {@link SickNoteStatus} to filter
+     * @param persons          {@link Person}s to consider
+     * @return all {@link SickNote}s with specific states and persons
+     */
+    List<SickNote> getForStatesAndPerson(List<SickNoteStatus> sickNoteStatuses, List<Person> persons);
+
     /**
      * Get all {@link SickNote} with specific states since
      *
@@ -72,6 +91,20 @@ public interface SickNoteService {
      */
     List<SickNote> getForStatesAndPerson(List<SickNoteStatus> sickNoteStatus, List<Person> persons, LocalDate start, LocalDate end);
 
+    /**
+     * Get all {@link SickNote}s with specific states and persons for the given date range.
+     * The given {@link WorkingTimeCalendar}s are attached to the sick notes instead of computing them again.
+     *
+     * @param sickNoteStatus              {@link SickNoteStatus} to filter
+     * @param persons                     {@link Person}s to consider
+     * @param start                       start date (inclusive)
+     * @param end                         end date (inclusive)
+     * @param workingTimeCalendarByPerson already known {@link WorkingTimeCalendar}s of the given persons covering the date range
+     * @return list of all matching {@link SickNote}s
+     */
+    List<SickNote> getForStatesAndPerson(List<SickNoteStatus> sickNoteStatus, List<Person> persons, LocalDate start, LocalDate end,
+                                         Map<Person, WorkingTimeCalendar> workingTimeCalendarByPerson);
+
     List<SickNote> getForStatesAndPersonAndPersonHasRoles(List<SickNoteStatus> sickNoteStatus, List<Person> persons, List<Role> roles, LocalDate start, LocalDate end);
 
     /**
@@ -94,6 +94,20 @@ class SickNoteServiceImpl implements SickNoteService {
         return toSickNoteWithWorkDays(entities, new DateRange(from, to));
     }
 
+    @Override
+    public List<SickNote> getForStates(List<SickNoteStatus> sickNoteStatuses) {
+        return sickNoteRepository.findByStatusIn(sickNoteStatuses).stream()
+            .map(SickNoteServiceImpl::toSickNote)
+            .collect(toList());
+    }
+
+    @Override
+    public List<SickNote> getForStatesAndPerson(List<SickNoteStatus> sickNoteStatuses, List<Person> persons) {
+        return sickNoteRepository.findByStatusInAndPersonIn(sickNoteStatuses, persons).stream()
+            .map(SickNoteServiceImpl::toSickNote)
+            .collect(toList());
+    }
+
     @Override
     public List<SickNote> getForStatesSince(List<SickNoteStatus> sickNoteStatuses, LocalDate since) {
         final List<SickNoteEntity> entities = sickNoteRepository.findByStatusInAndEndDateGreaterThanEqual(sickNoteStatuses, since);
@@ -112,6 +126,13 @@ class SickNoteServiceImpl implements SickNoteService {
         return toSickNoteWithWorkDays(entities, new DateRange(start, end));
     }
 
+    @Override
+    public List<SickNote> getForStatesAndPerson(List<SickNoteStatus> sickNoteStatus, List<Person> persons, LocalDate start, LocalDate end,
+                                                Map<Person, WorkingTimeCalendar> workingTimeCalendarByPerson) {
+        final List<SickNoteEntity> entities = sickNoteRepository.findByStatusInAndPersonInAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqual(sickNoteStatus, persons, start, end);
+        return toSickNoteWithWorkDays(entities, workingTimeCalendarByPerson);
+    }
+
     @Override
     public List<SickNote> getForStatesAndPersonAndPersonHasRoles(List<SickNoteStatus> sickNoteStatus, List<Person> persons, List<Role> roles, LocalDate start, LocalDate end) {
         final List<SickNoteEntity> entities = sickNoteRepository.findByStatusInAndPersonInAndPersonPermissionsInAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqual(sickNoteStatus, persons, roles, start, end);
@@ -202,6 +223,10 @@ class SickNoteServiceImpl implements SickNoteService {
         final List<Person> personsWithSickNotes = entities.stream().map(SickNoteEntity::getPerson).distinct().collect(toList());
         final Map<Person, WorkingTimeCalendar> workingTimesByPersons = workingTimeCalendarService.getWorkingTimesByPersons(personsWithSickNotes, dateRange);
 
+        return toSickNoteWithWorkDays(entities, workingTimesByPersons);
+    }
+
+    private static List<SickNote> toSickNoteWithWorkDays(Collection<SickNoteEntity> entities, Map<Person, WorkingTimeCalendar> workingTimesByPersons) {
         return entities
             .stream()
             .map(SickNoteServiceImpl::toSickNote)
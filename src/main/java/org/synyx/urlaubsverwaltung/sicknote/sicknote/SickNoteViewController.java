@@ -22,6 +22,7 @@ import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeDto;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeService;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeViewModelService;
 import org.synyx.urlaubsverwaltung.department.DepartmentService;
+import org.synyx.urlaubsverwaltung.overlap.OverlapException;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.person.Role;
@@ -67,6 +68,8 @@ import static org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteMapper.merge
 @RequestMapping("/web")
 class SickNoteViewController implements HasLaunchpad {
 
+    private static final String ERROR_OVERLAP = "application.error.overlap";
+
     private final SickNoteService sickNoteService;
     private final SickNoteInteractionService sickNoteInteractionService;
     private final SickNoteCommentService sickNoteCommentService;
@@ -188,21 +191,25 @@ class SickNoteViewController implements HasLaunchpad {
             .build();
 
         sickNoteValidator.validate(sickNote, errors);
-        if (errors.hasErrors()) {
-            model.addAttribute("errors", errors);
-            model.addAttribute("sickNote", sickNoteFormDto);
-            model.addAttribute("person", sickNoteFormDto.getPerson());
-            model.addAttribute("persons", getManagedPersons(signedInUser));
-            model.addAttribute("sickNoteTypes", sickNoteTypeService.getSickNoteTypes());
-
-            addVacationTypeColorsToModel(model);
-
-            return "sicknote/sick_note_form";
+        if (!errors.hasErrors()) {
+            try {
+                final SickNote createdSickNote = sickNoteInteractionService.create(sickNote, signedInUser, sickNoteFormDto.getComment());
+                return "redirect:/web/sicknote/" + createdSickNote.getId();
+            } catch (OverlapException e) {
+                // another absence of the person has been saved since the validation
+                errors.reject(ERROR_OVERLAP);
+            }
         }
 
-        final SickNote updatedSickNote = sickNoteInteractionService.create(sickNote, signedInUser, sickNoteFormDto.getComment());
+        model.addAttribute("errors", errors);
+        model.addAttribute("sickNote", sickNoteFormDto);
+        model.addAttribute("person", sickNoteFormDto.getPerson());
+        model.addAttribute("persons", getManagedPersons(signedInUser));
+        model.addAttribute("sickNoteTypes", sickNoteTypeService.getSickNoteTypes());
 
-        return "redirect:/web/sicknote/" + updatedSickNote.getId();
+        addVacationTypeColorsToModel(model);
+
+        return "sicknote/sick_note_form";
     }
 
     @PreAuthorize("hasAnyAuthority('OFFICE', 'SICK_NOTE_EDIT')")
@@ -245,20 +252,24 @@ class SickNoteViewController implements HasLaunchpad {
         final SickNote editedSickNote = merge(persistedSickNote, sickNoteFormDto);
         sickNoteValidator.validate(editedSickNote, errors);
 
-        if (errors.hasErrors()) {
-            model.addAttribute("errors", errors);
-            model.addAttribute("sickNote", sickNoteFormDto);
-            model.addAttribute("sickNoteTypes", sickNoteTypeService.getSickNoteTypes());
-
-            addVacationTypeColorsToModel(model);
-
-            return "sicknote/sick_note_form";
+        if (!errors.hasErrors()) {
+            try {
+                final Person signedInUser = personService.getSignedInUser();
+                sickNoteInteractionService.update(editedSickNote, signedInUser, sickNoteFormDto.getComment());
+                return "redirect:/web/sicknote/" + sickNoteId;
+            } catch (OverlapException e) {
+                // another absence of the person has been saved since the validation
+                errors.reject(ERROR_OVERLAP);
+            }
         }
 
-        final Person signedInUser = personService.getSignedInUser();
-        sickNoteInteractionService.update(editedSickNote, signedInUser, sickNoteFormDto.getComment());
+        model.addAttribute("errors", errors);
+        model.addAttribute("sickNote", sickNoteFormDto);
+        model.addAttribute("sickNoteTypes", sickNoteTypeService.getSickNoteTypes());
 
-        return "redirect:/web/sicknote/" + sickNoteId;
+        addVacationTypeColorsToModel(model);
+
+        return "sicknote/sick_note_form";
     }
 
     @PreAuthorize("hasAnyAuthority('OFFICE', 'SICK_NOTE_COMMENT')")
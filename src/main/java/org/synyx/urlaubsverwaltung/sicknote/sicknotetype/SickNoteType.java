@@ -1,16 +1,21 @@
 package org.synyx.urlaubsverwaltung.sicknote.sicknotetype;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.Cache;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteCategory;
 
 import java.util.Objects;
 
 import static jakarta.persistence.EnumType.STRING;
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
 
 @Entity
+@Cacheable
+@Cache(usage = READ_WRITE)
 public class SickNoteType {
 
     @Id
@@ -1,6 +1,17 @@
 package org.synyx.urlaubsverwaltung.sicknote.sicknotetype;
 
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
 
 interface SickNoteTypeRepository extends JpaRepository<SickNoteType, Long> {
+
+    @Override
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    List<SickNoteType> findAll(Sort sort);
 }
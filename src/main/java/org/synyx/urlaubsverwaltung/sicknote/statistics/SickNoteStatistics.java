@@ -2,6 +2,7 @@ package org.synyx.urlaubsverwaltung.sicknote.statistics;
 
 import org.springframework.format.annotation.DateTimeFormat;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
+import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountPeriod;
 import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
 
 import java.math.BigDecimal;
@@ -9,6 +10,7 @@ import java.time.Clock;
 import java.time.LocalDate;
 import java.time.Year;
 import java.util.List;
+import java.util.Map;
 
 import static java.math.BigDecimal.ZERO;
 import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
@@ -68,17 +70,27 @@ public class SickNoteStatistics {
 
     private BigDecimal calculateTotalNumberOfSickDays(WorkDaysCountService workDaysCountService, List<SickNote> sickNotes) {
 
-        BigDecimal numberOfSickDays = ZERO;
-        for (final SickNote sickNote : sickNotes) {
+        final LocalDate firstDayOfYear = Year.of(year).atDay(1);
+        final LocalDate lastDayOfYear = firstDayOfYear.with(lastDayOfYear());
 
-            final LocalDate firstDayOfYear = Year.of(year).atDay(1);
-            final LocalDate lastDayOfYear = firstDayOfYear.with(lastDayOfYear());
+        final List<WorkDaysCountPeriod> periods = sickNotes.stream()
+            .map(sickNote -> {
+                final LocalDate startDate = sickNote.getStartDate().isBefore(firstDayOfYear) ? firstDayOfYear : sickNote.getStartDate();
+                final LocalDate endDate = sickNote.getEndDate().isAfter(lastDayOfYear) ? lastDayOfYear : sickNote.getEndDate();
+                return new WorkDaysCountPeriod(sickNote.getPerson(), startDate, endDate, sickNote.getDayLength());
+            })
+            .toList();
 
-            final LocalDate startDate = sickNote.getStartDate().isBefore(firstDayOfYear) ? firstDayOfYear : sickNote.getStartDate();
-            final LocalDate endDate = sickNote.getEndDate().isAfter(lastDayOfYear) ? lastDayOfYear : sickNote.getEndDate();
+        if (periods.isEmpty()) {
+            return ZERO;
+        }
 
-            final BigDecimal workDays = workDaysCountService.getWorkDaysCount(sickNote.getDayLength(), startDate, endDate, sickNote.getPerson());
-            numberOfSickDays = numberOfSickDays.add(workDays);
+        // the workdays of all sick notes are counted at once instead of loading working times and public holidays per sick note
+        final Map<WorkDaysCountPeriod, BigDecimal> workDaysByPeriod = workDaysCountService.getWorkDaysCount(periods);
+
+        BigDecimal numberOfSickDays = ZERO;
+        for (WorkDaysCountPeriod period : periods) {
+            numberOfSickDays = numberOfSickDays.add(workDaysByPeriod.getOrDefault(period, ZERO));
         }
 
         return numberOfSickDays;
@@ -0,0 +1,17 @@
+package org.synyx.urlaubsverwaltung.workingtime;
+
+import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.time.LocalDate;
+
+/**
+ * Period of a person to calculate the number of workdays for with {@link WorkDaysCountService}.
+ *
+ * @param person    to calculate workdays for
+ * @param startDate first day of the period, inclusive
+ * @param endDate   last day of the period, inclusive
+ * @param dayLength of every day of the period
+ */
+public record WorkDaysCountPeriod(Person person, LocalDate startDate, LocalDate endDate, DayLength dayLength) {
+}
@@ -10,12 +10,17 @@ import org.synyx.urlaubsverwaltung.publicholiday.PublicHolidaysService;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.function.Function;
 
 import static java.math.RoundingMode.UNNECESSARY;
 import static java.time.format.DateTimeFormatter.ofPattern;
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.util.Comparator.naturalOrder;
 import static org.synyx.urlaubsverwaltung.util.DateAndTimeFormat.DD_MM_YYYY;
 
 @Service
@@ -43,34 +48,87 @@ public class WorkDaysCountService {
      * @return number of workdays in a certain time period
      */
     public BigDecimal getWorkDaysCount(DayLength dayLength, LocalDate startDate, LocalDate endDate, Person person) {
+        final WorkDaysCountPeriod period = new WorkDaysCountPeriod(person, startDate, endDate, dayLength);
+        return getWorkDaysCount(List.of(period)).get(period);
+    }
 
-        final DateRange dateRange = new DateRange(startDate, endDate);
+    /**
+     * Calculates the number of workdays of every given period like {@link #getWorkDaysCount(DayLength, LocalDate, LocalDate, Person)},
+     * but loads the working times of all persons at once and the public holidays only once per federal state.
+     *
+     * @param periods to calculate the workdays for
+     * @return number of workdays for every given period
+     * @throws WorkDaysCountException if there is no working time of a person for a day of a period
+     */
+    public Map<WorkDaysCountPeriod, BigDecimal> getWorkDaysCount(Collection<WorkDaysCountPeriod> periods) {
 
-        final Map<DateRange, WorkingTime> workingTimes = workingTimeService.getWorkingTimesByPersonAndDateRange(person, dateRange);
-        if (workingTimes.isEmpty()) {
-            throw new WorkDaysCountException("No working times found for user '" + person.getId()
-                + "' in period " + startDate.format(ofPattern(DD_MM_YYYY)) + " - " + endDate.format(ofPattern(DD_MM_YYYY)));
+        if (periods.isEmpty()) {
+            return Map.of();
+        }
+
+        final LocalDate from = periods.stream().map(WorkDaysCountPeriod::startDate).min(naturalOrder()).orElseThrow();
+        final LocalDate to = periods.stream().map(WorkDaysCountPeriod::endDate).max(naturalOrder()).orElseThrow();
+        final List<Person> persons = periods.stream().map(WorkDaysCountPeriod::person).distinct().toList();
+
+        final Map<Person, Map<DateRange, WorkingTime>> workingTimesByPerson = workingTimeService.getWorkingTimesByPersonsAndDateRange(persons, new DateRange(from, to));
+
+        final Map<FederalState, Map<LocalDate, PublicHoliday>> publicHolidaysByFederalState = new EnumMap<>(FederalState.class);
+        final Function<FederalState, Map<LocalDate, PublicHoliday>> publicHolidaysOfFederalState =
+            federalState -> publicHolidaysByFederalState.computeIfAbsent(federalState, state -> getPublicHolidaysByDate(from, to, state));
+
+        final Map<WorkDaysCountPeriod, BigDecimal> workDaysCountByPeriod = new HashMap<>();
+        for (WorkDaysCountPeriod period : periods) {
+            if (!workDaysCountByPeriod.containsKey(period)) {
+                final Map<DateRange, WorkingTime> workingTimes = workingTimesByPerson.getOrDefault(period.person(), Map.of());
+                workDaysCountByPeriod.put(period, getWorkDaysCount(period, workingTimes, publicHolidaysOfFederalState));
+            }
         }
 
-        final Map<LocalDate, WorkingTime> workingTimesByDate = toLocalDateWorkingTime(workingTimes);
+        return workDaysCountByPeriod;
+    }
+
+    private static BigDecimal getWorkDaysCount(WorkDaysCountPeriod period, Map<DateRange, WorkingTime> workingTimes,
+                                               Function<FederalState, Map<LocalDate, PublicHoliday>> publicHolidaysOfFederalState) {
+
+        final LocalDate startDate = period.startDate();
+        final LocalDate endDate = period.endDate();
 
         BigDecimal vacationDays = BigDecimal.ZERO;
-        LocalDate day = startDate;
-        while (!day.isAfter(endDate)) {
+        long numberOfDaysWithWorkingTime = 0;
+
+        for (Map.Entry<DateRange, WorkingTime> dateRangeWithWorkingTime : workingTimes.entrySet()) {
+
+            final DateRange dateRange = dateRangeWithWorkingTime.getKey();
+            final LocalDate start = dateRange.startDate().isBefore(startDate) ? startDate : dateRange.startDate();
+            final LocalDate end = dateRange.endDate().isAfter(endDate) ? endDate : dateRange.endDate();
+            if (start.isAfter(end)) {
+                continue;
+            }
 
-            final WorkingTime workingTime = workingTimesByDate.get(day);
+            final WorkingTime workingTime = dateRangeWithWorkingTime.getValue();
+            final Map<LocalDate, PublicHoliday> publicHolidays = publicHolidaysOfFederalState.apply(workingTime.getFederalState());
 
-            // value may be 1 for public holiday, 0 for not public holiday or 0.5 for Christmas Eve or New Year's Eve
-            final Optional<PublicHoliday> maybePublicHoliday = publicHolidaysService.getPublicHoliday(day, workingTime.getFederalState());
-            final BigDecimal duration = maybePublicHoliday.isPresent() ? maybePublicHoliday.get().getWorkingDuration() : BigDecimal.ONE;
+            LocalDate day = start;
+            while (!day.isAfter(end)) {
 
-            final BigDecimal workingDuration = workingTime.getDayLengthForWeekDay(day.getDayOfWeek()).getDuration();
+                // value may be 1 for public holiday, 0 for not public holiday or 0.5 for Christmas Eve or New Year's Eve
+                final PublicHoliday publicHoliday = publicHolidays.get(day);
+                final BigDecimal duration = publicHoliday != null ? publicHoliday.getWorkingDuration() : BigDecimal.ONE;
 
-            final BigDecimal result = duration.multiply(workingDuration);
+                final BigDecimal workingDuration = workingTime.getDayLengthForWeekDay(day.getDayOfWeek()).getDuration();
 
-            vacationDays = vacationDays.add(result);
+                final BigDecimal result = duration.multiply(workingDuration);
 
-            day = day.plusDays(1);
+                vacationDays = vacationDays.add(result);
+                numberOfDaysWithWorkingTime++;
+
+                day = day.plusDays(1);
+            }
+        }
+
+        if (numberOfDaysWithWorkingTime <= DAYS.between(startDate, endDate)) {
+            throw new WorkDaysCountException("No working times found for user '" + period.person().getId()
+                + "' in period " + startDate.format(ofPattern(DD_MM_YYYY)) + " - " + endDate.format(ofPattern(DD_MM_YYYY)));
         }
 
         // vacation days < 1 day --> must not be divided, else an ArithmeticException is thrown
@@ -78,12 +136,14 @@ public class WorkDaysCountService {
             return vacationDays.setScale(1, UNNECESSARY);
         }
 
-        return vacationDays.multiply(dayLength.getDuration()).setScale(1, UNNECESSARY);
+        return vacationDays.multiply(period.dayLength().getDuration()).setScale(1, UNNECESSARY);
     }
 
-    private Map<LocalDate, WorkingTime> toLocalDateWorkingTime(Map<DateRange, WorkingTime> workingTimes) {
-        final Map<LocalDate, WorkingTime> localDateWorkingTimeMap = new HashMap<>();
-        workingTimes.forEach((key, value) -> key.iterator().forEachRemaining(localDate -> localDateWorkingTimeMap.put(localDate, value)));
-        return localDateWorkingTimeMap;
+    private Map<LocalDate, PublicHoliday> getPublicHolidaysByDate(LocalDate from, LocalDate to, FederalState federalState) {
+        final Map<LocalDate, PublicHoliday> publicHolidaysByDate = new HashMap<>();
+        for (PublicHoliday publicHoliday : publicHolidaysService.getPublicHolidays(from, to, federalState)) {
+            publicHolidaysByDate.putIfAbsent(publicHoliday.date(), publicHoliday);
+        }
+        return publicHolidaysByDate;
     }
 }
@@ -5,10 +5,15 @@ import org.synyx.urlaubsverwaltung.application.application.Application;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
+
+import static java.util.Comparator.comparingLong;
 
 /**
  * Provides information about the {@link DayLength} on a given {@link LocalDate} including publicHolidays.
@@ -21,9 +26,64 @@ import java.util.Optional;
  *     <li>2022-01-05 - DayLength.ZERO (wednesday)</li>
  * </ul>
  * <p>
+ * The days are stored densely as one encoded byte per day starting at the first known day. Additionally, prefix sums
+ * of half-day units are kept, so that the working time of a date range is answered with two array reads per slice.
+ * A calendar consists of {@link Slice}s, which are views of these arrays, so that a calendar joined from the calendars
+ * of years (see {@link #join(LocalDate, LocalDate, Collection)}) shares the days of the joined calendars instead of copying them.
+ * <p>
  * Should be used in combination with a {@link Map} to keep relation to a {@link org.synyx.urlaubsverwaltung.person.Person} for example.
  */
-public record WorkingTimeCalendar(Map<LocalDate, WorkingDayInformation> workingDays) {
+public final class WorkingTimeCalendar {
+
+    private static final byte NO_ENTRY = 0;
+    private static final WorkingDayInformation[] DECODED = decodingTable();
+    private static final Slice[] NO_SLICES = new Slice[0];
+
+    /**
+     * non-overlapping slices sorted by date, each one starting and ending with a known day
+     */
+    private final Slice[] slices;
+
+    public WorkingTimeCalendar(Map<LocalDate, WorkingDayInformation> workingDays) {
+        this(firstDay(workingDays), toArray(workingDays));
+    }
+
+    /**
+     * @param firstDay    date of the first element of the given working days
+     * @param workingDays working day information per day, {@code null} for unknown days
+     */
+    WorkingTimeCalendar(LocalDate firstDay, WorkingDayInformation[] workingDays) {
+        this(Slice.of(firstDay.toEpochDay(), encode(workingDays)).map(slice -> new Slice[]{slice}).orElse(NO_SLICES));
+    }
+
+    private WorkingTimeCalendar(Slice[] slices) {
+        this.slices = slices;
+    }
+
+    /**
+     * Joins the given calendars into one calendar restricted to the given date range.
+     * Days that are not known by any of the given calendars are unknown in the joined calendar, too.
+     * The joined calendar is a view of the given calendars, no days are copied.
+     *
+     * @param from      inclusive
+     * @param to        inclusive
+     * @param calendars to join, which must not overlap, e.g. the calendars of consecutive years
+     * @return the joined calendar containing only days of the given date range
+     */
+    static WorkingTimeCalendar join(LocalDate from, LocalDate to, Collection<WorkingTimeCalendar> calendars) {
+        final long fromEpochDay = from.toEpochDay();
+        final long toEpochDay = to.toEpochDay();
+
+        final List<Slice> joined = new ArrayList<>();
+        for (WorkingTimeCalendar calendar : calendars) {
+            for (Slice slice : calendar.slices) {
+                slice.slice(fromEpochDay, toEpochDay).ifPresent(joined::add);
+            }
+        }
+        joined.sort(comparingLong(Slice::firstEpochDay));
+
+        return new WorkingTimeCalendar(joined.toArray(Slice[]::new));
+    }
 
     /**
      * @param application
@@ -43,18 +103,29 @@ public record WorkingTimeCalendar(Map<LocalDate, WorkingDayInformation> workingD
         final Optional<DateRange> overlap = dateRange.overlap(applicationDateRange);
         if (overlap.isEmpty()) {
             return BigDecimal.ZERO;
-        } else {
-            BigDecimal workingTimeSum = BigDecimal.ZERO;
-            for (LocalDate localDate : overlap.get()) {
-                final BigDecimal workingTime = workingTime(localDate).orElse(BigDecimal.ZERO);
-                if (application.getDayLength().isHalfDay()) {
-                    workingTimeSum = workingTimeSum.add(workingTime.divide(BigDecimal.valueOf(2), 1, RoundingMode.CEILING));
-                } else {
-                    workingTimeSum = workingTimeSum.add(workingTime);
-                }
-            }
-            return workingTimeSum;
         }
+
+        return workingTime(overlap.get(), application.getDayLength());
+    }
+
+    /**
+     * @param dateRange of an absence
+     * @param dayLength of the absence on every day of the date range
+     * @return the dayLength workingTime of the absence in the given date range. (e.g. 1.5 days)
+     */
+    public BigDecimal workingTime(DateRange dateRange, DayLength dayLength) {
+        final LocalDate from = dateRange.startDate();
+        final LocalDate to = dateRange.endDate();
+
+        if (dayLength.isHalfDay() && !from.isAfter(to)) {
+            // every working day is divided by two and rounded up to one decimal place:
+            // a full working day counts 0.5 and a half working day counts 0.3
+            final int halfWorkingDays = halfWorkingDays(from, to);
+            final int fullWorkingDays = (halfDayUnits(from, to) - halfWorkingDays) / 2;
+            return BigDecimal.valueOf(fullWorkingDays * 5L + halfWorkingDays * 3L, 1);
+        }
+
+        return workingTime(from, to);
     }
 
     /**
@@ -79,10 +150,45 @@ public record WorkingTimeCalendar(Map<LocalDate, WorkingDayInformation> workingD
      * @return the {@linkplain DayLength} workingTime for the given date (e.g. DayLength.MORNING), or empty {@linkplain Optional} when there is no entry found.
      */
     public Optional<DayLength> workingTimeDayLength(LocalDate localDate) {
-        if (workingDays.containsKey(localDate)) {
-            return Optional.of(workingDays.get(localDate).dayLength());
+        return workingDayInformation(localDate).map(WorkingDayInformation::dayLength);
+    }
+
+    /**
+     * Return the {@linkplain DayLength} for the given date like {@linkplain WorkingTimeCalendar#workingTimeDayLength(LocalDate)}
+     * but without wrapping it into an {@linkplain Optional}, which is meant for day by day iterations.
+     *
+     * @param localDate
+     * @return the {@linkplain DayLength} workingTime for the given date, or {@linkplain DayLength#ZERO} when there is no entry found.
+     */
+    public DayLength workingTimeDayLengthOrZero(LocalDate localDate) {
+        final WorkingDayInformation workingDayInformation = DECODED[encodedWorkingDay(localDate.toEpochDay())];
+        return workingDayInformation == null ? DayLength.ZERO : workingDayInformation.dayLength();
+    }
+
+    /**
+     * Return the {@linkplain WorkingDayInformation} for the given date.
+     *
+     * @param localDate
+     * @return the {@linkplain WorkingDayInformation} for the given date, or empty {@linkplain Optional} when there is no entry found.
+     */
+    public Optional<WorkingDayInformation> workingDayInformation(LocalDate localDate) {
+        return Optional.ofNullable(DECODED[encodedWorkingDay(localDate.toEpochDay())]);
+    }
+
+    /**
+     * Performs the given action for every known day of this calendar in ascending order of the date.
+     *
+     * @param action to perform for every known day
+     */
+    public void forEachWorkingDay(BiConsumer<LocalDate, WorkingDayInformation> action) {
+        for (Slice slice : slices) {
+            for (int index = 0; index < slice.length(); index++) {
+                final WorkingDayInformation workingDayInformation = DECODED[slice.workingDays()[slice.offset() + index]];
+                if (workingDayInformation != null) {
+                    action.accept(LocalDate.ofEpochDay(slice.firstEpochDay() + index), workingDayInformation);
+                }
+            }
         }
-        return Optional.empty();
     }
 
     /**
@@ -96,17 +202,226 @@ public record WorkingTimeCalendar(Map<LocalDate, WorkingDayInformation> workingD
             return BigDecimal.ZERO;
         }
 
-        BigDecimal sum = BigDecimal.ZERO;
+        final int halfDayUnits = halfDayUnits(from, to);
+        if (halfWorkingDays(from, to) == 0) {
+            return BigDecimal.valueOf(halfDayUnits / 2);
+        }
+
+        return BigDecimal.valueOf(halfDayUnits * 5L, 1);
+    }
+
+    private int halfDayUnits(LocalDate from, LocalDate to) {
+        int halfDayUnits = 0;
+        for (Slice slice : slices) {
+            halfDayUnits += slice.halfDayUnits(from.toEpochDay(), to.toEpochDay());
+        }
+        return halfDayUnits;
+    }
+
+    private int halfWorkingDays(LocalDate from, LocalDate to) {
+        int halfWorkingDays = 0;
+        for (Slice slice : slices) {
+            halfWorkingDays += slice.halfWorkingDays(from.toEpochDay(), to.toEpochDay());
+        }
+        return halfWorkingDays;
+    }
 
-        for (Map.Entry<LocalDate, WorkingDayInformation> entry : workingDays.entrySet()) {
-            final LocalDate localDate = entry.getKey();
-            if (!localDate.isBefore(from) && !localDate.isAfter(to)) {
-                final DayLength dayLength = entry.getValue().dayLength();
-                sum = sum.add(dayLength.getDuration());
+    /**
+     * @return the encoded working day of the given epoch day, or {@link #NO_ENTRY} if it is unknown
+     */
+    private byte encodedWorkingDay(long epochDay) {
+        for (Slice slice : slices) {
+            if (slice.contains(epochDay)) {
+                return slice.workingDays()[slice.offset() + (int) (epochDay - slice.firstEpochDay())];
             }
         }
+        return NO_ENTRY;
+    }
 
-        return sum;
+    private long firstEpochDay() {
+        return slices.length == 0 ? 0 : slices[0].firstEpochDay();
+    }
+
+    private int numberOfDays() {
+        return slices.length == 0 ? 0 : Math.toIntExact(slices[slices.length - 1].lastEpochDay() - firstEpochDay() + 1);
+    }
+
+    private static int halfDayUnits(DayLength dayLength) {
+        return switch (dayLength) {
+            case FULL -> 2;
+            case MORNING, NOON -> 1;
+            case ZERO -> 0;
+        };
+    }
+
+    private static byte[] encode(WorkingDayInformation[] workingDays) {
+        final byte[] encoded = new byte[workingDays.length];
+        for (int index = 0; index < workingDays.length; index++) {
+            encoded[index] = encode(workingDays[index]);
+        }
+        return encoded;
+    }
+
+    private static byte encode(WorkingDayInformation workingDayInformation) {
+        if (workingDayInformation == null) {
+            return NO_ENTRY;
+        }
+        return encode(workingDayInformation.dayLength(), workingDayInformation.morning(), workingDayInformation.noon());
+    }
+
+    private static byte encode(DayLength dayLength, WorkingDayInformation.WorkingTimeCalendarEntryType morning, WorkingDayInformation.WorkingTimeCalendarEntryType noon) {
+        final int entryTypes = WorkingDayInformation.WorkingTimeCalendarEntryType.values().length;
+        return (byte) (1 + (dayLength.ordinal() * entryTypes + morning.ordinal()) * entryTypes + noon.ordinal());
+    }
+
+    private static WorkingDayInformation[] decodingTable() {
+        final WorkingDayInformation.WorkingTimeCalendarEntryType[] entryTypes = WorkingDayInformation.WorkingTimeCalendarEntryType.values();
+        final WorkingDayInformation[] table = new WorkingDayInformation[1 + DayLength.values().length * entryTypes.length * entryTypes.length];
+        for (DayLength dayLength : DayLength.values()) {
+            for (WorkingDayInformation.WorkingTimeCalendarEntryType morning : entryTypes) {
+                for (WorkingDayInformation.WorkingTimeCalendarEntryType noon : entryTypes) {
+                    table[encode(dayLength, morning, noon)] = new WorkingDayInformation(dayLength, morning, noon);
+                }
+            }
+        }
+        return table;
+    }
+
+    private static LocalDate firstDay(Map<LocalDate, WorkingDayInformation> workingDays) {
+        return workingDays.keySet().stream().min(LocalDate::compareTo).orElse(LocalDate.EPOCH);
+    }
+
+    private static WorkingDayInformation[] toArray(Map<LocalDate, WorkingDayInformation> workingDays) {
+        if (workingDays.isEmpty()) {
+            return new WorkingDayInformation[0];
+        }
+
+        final long firstEpochDay = firstDay(workingDays).toEpochDay();
+        final long lastEpochDay = workingDays.keySet().stream().max(LocalDate::compareTo).orElseThrow().toEpochDay();
+
+        final WorkingDayInformation[] array = new WorkingDayInformation[Math.toIntExact(lastEpochDay - firstEpochDay + 1)];
+        workingDays.forEach((date, workingDayInformation) -> array[(int) (date.toEpochDay() - firstEpochDay)] = workingDayInformation);
+        return array;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        WorkingTimeCalendar that = (WorkingTimeCalendar) o;
+        if (firstEpochDay() != that.firstEpochDay() || numberOfDays() != that.numberOfDays()) {
+            return false;
+        }
+        for (long epochDay = firstEpochDay(); epochDay < firstEpochDay() + numberOfDays(); epochDay++) {
+            if (encodedWorkingDay(epochDay) != that.encodedWorkingDay(epochDay)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = Long.hashCode(firstEpochDay());
+        for (long epochDay = firstEpochDay(); epochDay < firstEpochDay() + numberOfDays(); epochDay++) {
+            hashCode = 31 * hashCode + encodedWorkingDay(epochDay);
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return "WorkingTimeCalendar{" +
+            "firstDay=" + LocalDate.ofEpochDay(firstEpochDay()) +
+            ", days=" + numberOfDays() +
+            '}';
+    }
+
+    /**
+     * View of consecutive days of encoded working days and their prefix sums, which may be shared between calendars.
+     *
+     * @param firstEpochDay         epoch day of the first day of this slice
+     * @param offset                index of the first day of this slice in the arrays
+     * @param length                number of days of this slice
+     * @param workingDays           encoded {@link WorkingDayInformation} per day, {@link #NO_ENTRY} for unknown days
+     * @param halfDayUnitsBefore    sum of half-day units (FULL = 2, MORNING/NOON = 1) of all days before the index
+     * @param halfWorkingDaysBefore count of half working days (MORNING/NOON) of all days before the index
+     */
+    private record Slice(long firstEpochDay, int offset, int length, byte[] workingDays, int[] halfDayUnitsBefore, int[] halfWorkingDaysBefore) {
+
+        /**
+         * @return slice of the known days of the given encoded working days, or empty if there is no known day
+         */
+        static Optional<Slice> of(long firstEpochDay, byte[] encodedWorkingDays) {
+            final int[] halfDayUnitsBefore = new int[encodedWorkingDays.length + 1];
+            final int[] halfWorkingDaysBefore = new int[encodedWorkingDays.length + 1];
+
+            for (int index = 0; index < encodedWorkingDays.length; index++) {
+                final WorkingDayInformation workingDayInformation = DECODED[encodedWorkingDays[index]];
+                final DayLength dayLength = workingDayInformation == null ? DayLength.ZERO : workingDayInformation.dayLength();
+
+                halfDayUnitsBefore[index + 1] = halfDayUnitsBefore[index] + WorkingTimeCalendar.halfDayUnits(dayLength);
+                halfWorkingDaysBefore[index + 1] = halfWorkingDaysBefore[index] + (dayLength.isHalfDay() ? 1 : 0);
+            }
+
+            return new Slice(firstEpochDay, 0, encodedWorkingDays.length, encodedWorkingDays, halfDayUnitsBefore, halfWorkingDaysBefore)
+                .slice(firstEpochDay, firstEpochDay + encodedWorkingDays.length - 1);
+        }
+
+        long lastEpochDay() {
+            return firstEpochDay + length - 1;
+        }
+
+        boolean contains(long epochDay) {
+            return epochDay >= firstEpochDay && epochDay <= lastEpochDay();
+        }
+
+        /**
+         * @param fromEpochDay inclusive
+         * @param toEpochDay   inclusive
+         * @return view of the known days of this slice within the given range, or empty if there is no known day
+         */
+        Optional<Slice> slice(long fromEpochDay, long toEpochDay) {
+            int first = indexOf(fromEpochDay);
+            int last = indexAfter(toEpochDay) - 1;
+            while (first <= last && workingDays[offset + first] == NO_ENTRY) {
+                first++;
+            }
+            while (last >= first && workingDays[offset + last] == NO_ENTRY) {
+                last--;
+            }
+
+            if (first > last) {
+                return Optional.empty();
+            }
+            return Optional.of(new Slice(firstEpochDay + first, offset + first, last - first + 1, workingDays, halfDayUnitsBefore, halfWorkingDaysBefore));
+        }
+
+        int halfDayUnits(long fromEpochDay, long toEpochDay) {
+            final int from = indexOf(fromEpochDay);
+            final int after = indexAfter(toEpochDay);
+            return from >= after ? 0 : halfDayUnitsBefore[offset + after] - halfDayUnitsBefore[offset + from];
+        }
+
+        int halfWorkingDays(long fromEpochDay, long toEpochDay) {
+            final int from = indexOf(fromEpochDay);
+            final int after = indexAfter(toEpochDay);
+            return from >= after ? 0 : halfWorkingDaysBefore[offset + after] - halfWorkingDaysBefore[offset + from];
+        }
+
+        /**
+         * @return index of the given epoch day relative to the offset, clamped to the bounds of this slice
+         */
+        private int indexOf(long epochDay) {
+            return (int) Math.max(0, Math.min(epochDay - firstEpochDay, length));
+        }
+
+        /**
+         * @return index of the day after the given epoch day relative to the offset, clamped to the bounds of this slice
+         */
+        private int indexAfter(long epochDay) {
+            return (int) Math.max(0, Math.min(epochDay - firstEpochDay + 1, length));
+        }
     }
 
     public record WorkingDayInformation(
@@ -0,0 +1,208 @@
+package org.synyx.urlaubsverwaltung.workingtime;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonDeletedEvent;
+import org.synyx.urlaubsverwaltung.settings.SettingsUpdatedEvent;
+
+import java.time.Year;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.springframework.core.Ordered.HIGHEST_PRECEDENCE;
+
+/**
+ * Bounded cache of the {@link WorkingTimeCalendar} of one {@link Person} and one {@link Year}.
+ *
+ * <p>
+ * Entries are invalidated when the working times of a person are updated, when a person is deleted
+ * and when the settings relevant for the calculation (system default federal state, Christmas Eve and New Year's Eve) change.
+ * If a person is invalidated within a transaction, the calendars of this person are neither read from nor put into
+ * the cache until the transaction completed and are invalidated again afterwards, so that neither uncommitted nor
+ * outdated working times are cached. Calendars calculated before an invalidation are not put into the cache at all,
+ * see {@link #generation()}. Entries expire after a while, so that changes of other instances are seen eventually.
+ * </p>
+ *
+ * <p>
+ * Additionally, the calendars are canonicalised by their {@link WorkingTimeSegment}s, so that persons with the same
+ * working times share one calendar across all calls, see {@link #getShared(Year, WorkingTimeSettings, List, Supplier)}.
+ * A shared calendar only depends on its key, therefore it is not invalidated by changes of persons.
+ * </p>
+ */
+@Component
+class WorkingTimeCalendarCache {
+
+    static final String CACHE_NAME = "workingTimeCalendars";
+    static final String SHARED_CACHE_NAME = "sharedWorkingTimeCalendars";
+
+    private final Cache<Key, Entry> cache;
+    private final Cache<SharedKey, WorkingTimeCalendar> sharedCache;
+
+    private final Map<Long, Integer> pendingTransactionsByPersonId = new HashMap<>();
+    private long generation;
+
+    WorkingTimeCalendarCache(WorkingTimeProperties workingTimeProperties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(workingTimeProperties.getCalendarCache().getMaximumSize())
+            .expireAfterWrite(workingTimeProperties.getCalendarCache().getExpireAfterWrite())
+            .recordStats()
+            .build();
+
+        this.sharedCache = Caffeine.newBuilder()
+            .maximumSize(workingTimeProperties.getCalendarCache().getMaximumSize())
+            .expireAfterWrite(workingTimeProperties.getCalendarCache().getExpireAfterWrite())
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, sharedCache, SHARED_CACHE_NAME);
+    }
+
+    /**
+     * @param person              to get the cached calendar for
+     * @param year                to get the cached calendar for
+     * @param workingTimeSettings the calendar has been calculated with
+     * @return the cached calendar, or empty optional if there is none or it has been calculated with other settings
+     */
+    Optional<WorkingTimeCalendar> get(Person person, Year year, WorkingTimeSettings workingTimeSettings) {
+        if (person.getId() == null || isPending(person.getId())) {
+            return Optional.empty();
+        }
+
+        final CalendarSettings calendarSettings = CalendarSettings.of(workingTimeSettings);
+        return Optional.ofNullable(cache.getIfPresent(new Key(person.getId(), year)))
+            .filter(entry -> entry.calendarSettings().equals(calendarSettings))
+            .map(Entry::workingTimeCalendar);
+    }
+
+    /**
+     * @param year                of the calendar
+     * @param workingTimeSettings the calendar is calculated with
+     * @param segments            of the year the calendar is calculated from
+     * @param calendarSupplier    calculating the calendar, if there is no shared calendar of the given segments yet
+     * @return the calendar shared by all persons with the given segments of the year
+     */
+    WorkingTimeCalendar getShared(Year year, WorkingTimeSettings workingTimeSettings, List<WorkingTimeSegment> segments, Supplier<WorkingTimeCalendar> calendarSupplier) {
+        final SharedKey sharedKey = new SharedKey(CalendarSettings.of(workingTimeSettings), year, segments);
+        return sharedCache.get(sharedKey, unused -> calendarSupplier.get());
+    }
+
+    /**
+     * @return the current generation of the cache, which has to be read before the working times of a calendar
+     * are loaded and passed to {@link #put(Person, Year, WorkingTimeSettings, WorkingTimeCalendar, long)}
+     */
+    synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Puts the calendar into the cache, unless the cache has been invalidated since the given generation
+     * or the person is invalidated by a running transaction.
+     *
+     * @param generation of the cache before the working times of the calendar were loaded
+     */
+    synchronized void put(Person person, Year year, WorkingTimeSettings workingTimeSettings, WorkingTimeCalendar workingTimeCalendar, long generation) {
+        if (person.getId() != null && this.generation == generation && !pendingTransactionsByPersonId.containsKey(person.getId())) {
+            cache.put(new Key(person.getId(), year), new Entry(CalendarSettings.of(workingTimeSettings), workingTimeCalendar));
+        }
+    }
+
+    void invalidate(Person person) {
+        final Long personId = person.getId();
+        if (personId == null) {
+            return;
+        }
+
+        evict(personId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            synchronized (this) {
+                pendingTransactionsByPersonId.merge(personId, 1, Integer::sum);
+            }
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    synchronized (WorkingTimeCalendarCache.this) {
+                        pendingTransactionsByPersonId.computeIfPresent(personId, (id, pending) -> pending == 1 ? null : pending - 1);
+                        evict(personId);
+                    }
+                }
+            });
+        }
+    }
+
+    synchronized void invalidateAll() {
+        generation++;
+        cache.invalidateAll();
+        sharedCache.invalidateAll();
+    }
+
+    /**
+     * Invalidates before any other listener of the event, which then calculates the calendar of the person
+     * from the working times of its own transaction.
+     */
+    @EventListener
+    @Order(HIGHEST_PRECEDENCE)
+    void onWorkingTimeUpdated(WorkingTimeUpdatedEvent event) {
+        invalidate(event.person());
+    }
+
+    @EventListener
+    @Order(HIGHEST_PRECEDENCE)
+    void onPersonDeleted(PersonDeletedEvent event) {
+        invalidate(event.person());
+    }
+
+    @EventListener
+    @Order(HIGHEST_PRECEDENCE)
+    synchronized void onSettingsUpdated(SettingsUpdatedEvent event) {
+        generation++;
+        final CalendarSettings calendarSettings = CalendarSettings.of(event.settings().getWorkingTimeSettings());
+        cache.asMap().values().removeIf(entry -> !entry.calendarSettings().equals(calendarSettings));
+        sharedCache.asMap().keySet().removeIf(sharedKey -> !sharedKey.calendarSettings().equals(calendarSettings));
+    }
+
+    private synchronized boolean isPending(Long personId) {
+        return pendingTransactionsByPersonId.containsKey(personId);
+    }
+
+    private synchronized void evict(Long personId) {
+        generation++;
+        cache.asMap().keySet().removeIf(key -> key.personId().equals(personId));
+    }
+
+    private record Key(Long personId, Year year) {
+    }
+
+    private record Entry(CalendarSettings calendarSettings, WorkingTimeCalendar workingTimeCalendar) {
+    }
+
+    private record SharedKey(CalendarSettings calendarSettings, Year year, List<WorkingTimeSegment> segments) {
+    }
+
+    /**
+     * The parts of the {@link WorkingTimeSettings} a {@link WorkingTimeCalendar} depends on.
+     */
+    private record CalendarSettings(FederalState federalState, DayLength workingDurationForChristmasEve, DayLength workingDurationForNewYearsEve) {
+
+        static CalendarSettings of(WorkingTimeSettings workingTimeSettings) {
+            return new CalendarSettings(
+                workingTimeSettings.getFederalState(),
+                workingTimeSettings.getWorkingDurationForChristmasEve(),
+                workingTimeSettings.getWorkingDurationForNewYearsEve()
+            );
+        }
+    }
+}
@@ -13,8 +13,10 @@ import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInf
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.Year;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -30,11 +32,14 @@ class WorkingTimeCalendarServiceImpl implements WorkingTimeCalendarService {
     private final WorkingTimeRepository workingTimeRepository;
     private final PublicHolidaysService publicHolidaysService;
     private final SettingsService settingsService;
+    private final WorkingTimeCalendarCache workingTimeCalendarCache;
 
-    WorkingTimeCalendarServiceImpl(WorkingTimeRepository workingTimeRepository, PublicHolidaysService publicHolidaysService, SettingsService settingsService) {
+    WorkingTimeCalendarServiceImpl(WorkingTimeRepository workingTimeRepository, PublicHolidaysService publicHolidaysService,
+                                   SettingsService settingsService, WorkingTimeCalendarCache workingTimeCalendarCache) {
         this.workingTimeRepository = workingTimeRepository;
         this.publicHolidaysService = publicHolidaysService;
         this.settingsService = settingsService;
+        this.workingTimeCalendarCache = workingTimeCalendarCache;
     }
 
     @Override
@@ -44,56 +49,121 @@ class WorkingTimeCalendarServiceImpl implements WorkingTimeCalendarService {
 
     @Override
     public Map<Person, WorkingTimeCalendar> getWorkingTimesByPersons(Collection<Person> persons, DateRange dateRange) {
-        final CachedSupplier<FederalState> federalStateCachedSupplier = new CachedSupplier<>(this::getSystemDefaultFederalState);
 
         final WorkingTimeSettings workingTimeSettings = settingsService.getSettings().getWorkingTimeSettings();
+        final long cacheGeneration = workingTimeCalendarCache.generation();
 
-        final Map<Person, List<WorkingTime>> workingTimesByPerson = workingTimeRepository.findByPersonIsInOrderByValidFromDesc(persons)
+        final LocalDate start = dateRange.startDate();
+        final LocalDate end = dateRange.endDate();
+
+        // calendars are cached per person and year, the requested date range is assembled from them
+        final Map<Person, List<WorkingTimeCalendar>> calendarsOfYearsByPerson = new HashMap<>();
+        final Map<Year, List<Person>> uncachedPersonsByYear = new LinkedHashMap<>();
+
+        for (int yearValue = start.getYear(); yearValue <= end.getYear(); yearValue++) {
+            final Year year = Year.of(yearValue);
+            for (Person person : persons) {
+                workingTimeCalendarCache.get(person, year, workingTimeSettings).ifPresentOrElse(
+                    calendar -> calendarsOfYearsByPerson.computeIfAbsent(person, unused -> new ArrayList<>()).add(calendar),
+                    () -> uncachedPersonsByYear.computeIfAbsent(year, unused -> new ArrayList<>()).add(person)
+                );
+            }
+        }
+
+        if (!uncachedPersonsByYear.isEmpty()) {
+            final List<Person> uncachedPersons = uncachedPersonsByYear.values().stream().flatMap(List::stream).distinct().toList();
+            final Map<Person, List<WorkingTime>> workingTimesByPerson = getWorkingTimesByPerson(uncachedPersons, workingTimeSettings);
+
+            // most persons share the same working times, therefore one calendar is calculated per distinct
+            // combination of working time segments and shared between all persons and calls having this combination
+            uncachedPersonsByYear.forEach((year, uncachedPersonsOfYear) -> {
+                final DateRange yearDateRange = new DateRange(year.atDay(1), year.atDay(year.length()));
+                for (Person person : uncachedPersonsOfYear) {
+                    final List<WorkingTime> workingTimes = workingTimesByPerson.getOrDefault(person, List.of());
+                    final List<WorkingTimeSegment> segments = toWorkingTimeSegments(workingTimes, yearDateRange);
+                    final WorkingTimeCalendar calendar = workingTimeCalendarCache.getShared(year, workingTimeSettings, segments,
+                        () -> toWorkingTimeCalendar(segments, yearDateRange, workingTimeSettings));
+                    workingTimeCalendarCache.put(person, year, workingTimeSettings, calendar, cacheGeneration);
+                    calendarsOfYearsByPerson.computeIfAbsent(person, unused -> new ArrayList<>()).add(calendar);
+                }
+            });
+        }
+
+        final boolean isOneWholeYear = start.getDayOfYear() == 1 && end.equals(start.with(lastDayOfYear()));
+
+        return persons.stream().map(person -> {
+            final List<WorkingTimeCalendar> calendarsOfYears = calendarsOfYearsByPerson.getOrDefault(person, List.of());
+            final WorkingTimeCalendar calendar = isOneWholeYear && calendarsOfYears.size() == 1
+                ? calendarsOfYears.get(0)
+                : WorkingTimeCalendar.join(start, end, calendarsOfYears);
+            return Map.entry(person, calendar);
+        }).collect(toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    private Map<Person, List<WorkingTime>> getWorkingTimesByPerson(Collection<Person> persons, WorkingTimeSettings workingTimeSettings) {
+        return workingTimeRepository.findByPersonIsInOrderByValidFromDesc(persons)
             .stream()
-            .map(entity -> toWorkingTime(entity, federalStateCachedSupplier))
+            .map(entity -> toWorkingTime(entity, workingTimeSettings::getFederalState))
             .collect(groupingBy(WorkingTime::getPerson));
+    }
+
+    /**
+     * @param workingTimes of one person sorted by validFrom descending
+     * @param dateRange    to get the segments for
+     * @return the segments of the given date range sorted by date descending, each one with its own working time
+     */
+    private static List<WorkingTimeSegment> toWorkingTimeSegments(List<WorkingTime> workingTimes, DateRange dateRange) {
 
         final LocalDate start = dateRange.startDate();
         final LocalDate end = dateRange.endDate();
 
-        return persons.stream().map(person -> {
-            final List<WorkingTime> workingTimesInDateRange = workingTimesByPerson.getOrDefault(person, List.of())
-                .stream()
-                .filter(workingTime -> !workingTime.getValidFrom().isAfter(end))
-                .toList();
+        final List<WorkingTime> workingTimesInDateRange = workingTimes.stream()
+            .filter(workingTime -> !workingTime.getValidFrom().isAfter(end))
+            .toList();
 
-            final Map<LocalDate, WorkingDayInformation> dayLengthByDate = new HashMap<>();
+        final List<WorkingTimeSegment> segments = new ArrayList<>();
 
-            LocalDate nextEnd = end;
+        LocalDate nextEnd = end;
 
-            for (WorkingTime workingTime : workingTimesInDateRange) {
+        for (WorkingTime workingTime : workingTimesInDateRange) {
 
-                final DateRange workingTimeDateRange;
-                if (workingTime.getValidFrom().isBefore(start)) {
-                    workingTimeDateRange = new DateRange(start, nextEnd);
-                } else {
-                    workingTimeDateRange = new DateRange(workingTime.getValidFrom(), nextEnd);
-                }
+            final DateRange workingTimeDateRange;
+            if (workingTime.getValidFrom().isBefore(start)) {
+                workingTimeDateRange = new DateRange(start, nextEnd);
+            } else {
+                workingTimeDateRange = new DateRange(workingTime.getValidFrom(), nextEnd);
+            }
 
-                for (LocalDate date : workingTimeDateRange) {
-                    dayLengthByDate.put(date, getWorkDayLengthForWeekDay(date, workingTime, workingTimeSettings));
-                }
+            segments.add(WorkingTimeSegment.of(workingTimeDateRange, workingTime));
 
-                if (workingTimeDateRange.startDate().equals(start)) {
-                    break;
-                }
-
-                nextEnd = workingTime.getValidFrom().minusDays(1);
+            if (workingTimeDateRange.startDate().equals(start)) {
+                break;
             }
 
-            return Map.entry(person, new WorkingTimeCalendar(dayLengthByDate));
-        }).collect(toMap(Map.Entry::getKey, Map.Entry::getValue));
+            nextEnd = workingTime.getValidFrom().minusDays(1);
+        }
+
+        return segments;
     }
 
-    private WorkingDayInformation getWorkDayLengthForWeekDay(LocalDate date, WorkingTime workingTime, WorkingTimeSettings workingTimeSettings) {
-        final FederalState federalState = workingTime.getFederalState();
+    private WorkingTimeCalendar toWorkingTimeCalendar(List<WorkingTimeSegment> segments, DateRange dateRange, WorkingTimeSettings workingTimeSettings) {
+
+        final LocalDate start = dateRange.startDate();
+        final LocalDate end = dateRange.endDate();
+
+        final WorkingDayInformation[] workingDays = new WorkingDayInformation[Math.toIntExact(end.toEpochDay() - start.toEpochDay() + 1)];
 
-        final DayLength configuredWorkingTimeForDayOfWeek = workingTime.getDayLengthForWeekDay(date.getDayOfWeek());
+        for (WorkingTimeSegment segment : segments) {
+            for (LocalDate date : new DateRange(segment.from(), segment.to())) {
+                final DayLength configuredWorkingTimeForDayOfWeek = segment.dayLengths().get(date.getDayOfWeek().ordinal());
+                workingDays[(int) (date.toEpochDay() - start.toEpochDay())] = getWorkDayLengthForWeekDay(date, configuredWorkingTimeForDayOfWeek, segment.federalState(), workingTimeSettings);
+            }
+        }
+
+        return new WorkingTimeCalendar(start, workingDays);
+    }
+
+    private WorkingDayInformation getWorkDayLengthForWeekDay(LocalDate date, DayLength configuredWorkingTimeForDayOfWeek, FederalState federalState, WorkingTimeSettings workingTimeSettings) {
 
         DayLength morning = configuredWorkingTimeForDayOfWeek.isFull() || configuredWorkingTimeForDayOfWeek.isMorning() ? DayLength.MORNING : DayLength.ZERO;
         WorkingTimeCalendarEntryType morningType = morning.isMorning() ? WorkingTimeCalendarEntryType.WORKDAY : WorkingTimeCalendarEntryType.NO_WORKDAY;
@@ -195,8 +265,4 @@ class WorkingTimeCalendarServiceImpl implements WorkingTimeCalendarService {
             case SUNDAY -> workingTimeEntity.getSunday();
         };
     }
-
-    private FederalState getSystemDefaultFederalState() {
-        return settingsService.getSettings().getWorkingTimeSettings().getFederalState();
-    }
 }
@@ -0,0 +1,60 @@
+package org.synyx.urlaubsverwaltung.workingtime;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties("uv.working-time")
+@Validated
+public class WorkingTimeProperties {
+
+    @Valid
+    private CalendarCache calendarCache = new CalendarCache();
+
+    public CalendarCache getCalendarCache() {
+        return calendarCache;
+    }
+
+    public void setCalendarCache(CalendarCache calendarCache) {
+        this.calendarCache = calendarCache;
+    }
+
+    public static class CalendarCache {
+
+        /**
+         * Maximum number of working time calendars of one person and one year that are kept in memory.
+         * A value of 0 disables the cache.
+         */
+        @Min(0)
+        private long maximumSize = 10_000;
+
+        /**
+         * Duration after which a cached working time calendar expires, so that working times changed by another
+         * instance of the application are seen at the latest after this duration.
+         */
+        @NotNull
+        private Duration expireAfterWrite = Duration.ofMinutes(10);
+
+        public long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        public Duration getExpireAfterWrite() {
+            return expireAfterWrite;
+        }
+
+        public void setExpireAfterWrite(Duration expireAfterWrite) {
+            this.expireAfterWrite = expireAfterWrite;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package org.synyx.urlaubsverwaltung.workingtime;
+
+import org.synyx.urlaubsverwaltung.absence.DateRange;
+import org.synyx.urlaubsverwaltung.period.DayLength;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Date range of a calendar with the working time of every day of week and the federal state that is valid in this range.
+ *
+ * @param dayLengths configured {@link DayLength} indexed by the ordinal of the {@link DayOfWeek}
+ */
+record WorkingTimeSegment(LocalDate from, LocalDate to, List<DayLength> dayLengths, FederalState federalState) {
+
+    static WorkingTimeSegment of(DateRange dateRange, WorkingTime workingTime) {
+        final List<DayLength> dayLengths = Arrays.stream(DayOfWeek.values()).map(workingTime::getDayLengthForWeekDay).toList();
+        return new WorkingTimeSegment(dateRange.startDate(), dateRange.endDate(), dayLengths, workingTime.getFederalState());
+    }
+}
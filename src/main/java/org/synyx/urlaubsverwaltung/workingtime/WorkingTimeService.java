@@ -4,6 +4,7 @@ import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.person.Person;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -56,6 +57,21 @@ public interface WorkingTimeService {
      */
     Map<DateRange, WorkingTime> getWorkingTimesByPersonAndDateRange(Person person, DateRange dateRange);
 
+    /**
+     * Returns a map of date ranges and the associated working time for each of the given persons.
+     * All working times are loaded at once, therefore prefer this method to
+     * {@link #getWorkingTimesByPersonAndDateRange(Person, DateRange)} when working times of many persons are needed.
+     * <p>
+     * Note: The federal state of the working time is either
+     * the default federate state based on the settings
+     * or the user specific. But never empty.
+     *
+     * @param persons   to get the working times
+     * @param dateRange to specify the
+     * @return map of date ranges and the associated working times for every person, empty map for persons without working times
+     */
+    Map<Person, Map<DateRange, WorkingTime>> getWorkingTimesByPersonsAndDateRange(Collection<Person> persons, DateRange dateRange);
+
     /**
      * Returns a map of date ranges and the associated federal state.
      * <p>
@@ -2,6 +2,7 @@ package org.synyx.urlaubsverwaltung.workingtime;
 
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.synyx.urlaubsverwaltung.absence.DateRange;
@@ -12,6 +13,7 @@ import org.synyx.urlaubsverwaltung.settings.SettingsService;
 import java.time.Clock;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -21,6 +23,7 @@ import java.util.function.Supplier;
 import static java.lang.invoke.MethodHandles.lookup;
 import static java.time.format.DateTimeFormatter.ofPattern;
 import static java.time.temporal.TemporalAdjusters.firstDayOfYear;
+import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 import static org.slf4j.LoggerFactory.getLogger;
@@ -35,13 +38,16 @@ class WorkingTimeServiceImpl implements WorkingTimeService, WorkingTimeWriteServ
     private final WorkingTimeRepository workingTimeRepository;
     private final SettingsService settingsService;
     private final Clock clock;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Autowired
     public WorkingTimeServiceImpl(WorkingTimeRepository workingTimeRepository,
-                                  SettingsService settingsService, Clock clock) {
+                                  SettingsService settingsService, Clock clock,
+                                  ApplicationEventPublisher applicationEventPublisher) {
         this.workingTimeRepository = workingTimeRepository;
         this.settingsService = settingsService;
         this.clock = clock;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     @Override
@@ -73,6 +79,7 @@ class WorkingTimeServiceImpl implements WorkingTimeService, WorkingTimeWriteServ
 
         workingTimeRepository.save(workingTimeEntity);
         LOG.info("Created working time {} for person {}", workingTimeEntity, person);
+        applicationEventPublisher.publishEvent(WorkingTimeUpdatedEvent.of(person));
     }
 
     @Override
@@ -94,9 +101,36 @@ class WorkingTimeServiceImpl implements WorkingTimeService, WorkingTimeWriteServ
 
     @Override
     public Map<DateRange, WorkingTime> getWorkingTimesByPersonAndDateRange(Person person, DateRange dateRange) {
-
         final List<WorkingTime> workingTimesByPerson = toWorkingTimes(workingTimeRepository.findByPersonOrderByValidFromDesc(person));
-        final List<WorkingTime> workingTimeList = workingTimesByPerson.stream()
+        return toWorkingTimesByDateRange(workingTimesByPerson, dateRange);
+    }
+
+    @Override
+    public Map<Person, Map<DateRange, WorkingTime>> getWorkingTimesByPersonsAndDateRange(Collection<Person> persons, DateRange dateRange) {
+        if (persons.isEmpty()) {
+            return Map.of();
+        }
+
+        final Map<Person, List<WorkingTime>> workingTimesByPerson = toWorkingTimes(workingTimeRepository.findByPersonIsInOrderByValidFromDesc(persons)).stream()
+            .collect(groupingBy(WorkingTime::getPerson));
+
+        final Map<Person, Map<DateRange, WorkingTime>> workingTimesOfPersonsByDateRange = new HashMap<>();
+        for (Person person : persons) {
+            final List<WorkingTime> workingTimesOfPerson = workingTimesByPerson.getOrDefault(person, List.of());
+            workingTimesOfPersonsByDateRange.put(person, toWorkingTimesByDateRange(workingTimesOfPerson, dateRange));
+        }
+
+        return workingTimesOfPersonsByDateRange;
+    }
+
+    /**
+     * @param workingTimes of one person sorted by validFrom descending
+     * @param dateRange    to get the working times for
+     * @return map of date ranges and the associated working times of a person
+     */
+    private static Map<DateRange, WorkingTime> toWorkingTimesByDateRange(List<WorkingTime> workingTimes, DateRange dateRange) {
+
+        final List<WorkingTime> workingTimeList = workingTimes.stream()
             .filter(workingTime -> !workingTime.getValidFrom().isAfter(dateRange.endDate()))
             .toList();
 
@@ -159,6 +193,7 @@ class WorkingTimeServiceImpl implements WorkingTimeService, WorkingTimeWriteServ
     @Override
     public void deleteAllByPerson(Person person) {
         workingTimeRepository.deleteByPerson(person);
+        applicationEventPublisher.publishEvent(WorkingTimeUpdatedEvent.of(person));
     }
 
     private List<WorkingTime> toWorkingTimes(List<WorkingTimeEntity> workingTimeEntities) {
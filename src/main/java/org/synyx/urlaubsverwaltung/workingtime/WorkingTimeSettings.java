@@ -187,6 +187,21 @@ public class WorkingTimeSettings {
         return workingDays;
     }
 
+    public WorkingTimeSettings copy() {
+        final WorkingTimeSettings copy = new WorkingTimeSettings();
+        copy.monday = monday;
+        copy.tuesday = tuesday;
+        copy.wednesday = wednesday;
+        copy.thursday = thursday;
+        copy.friday = friday;
+        copy.saturday = saturday;
+        copy.sunday = sunday;
+        copy.workingDurationForChristmasEve = workingDurationForChristmasEve;
+        copy.workingDurationForNewYearsEve = workingDurationForNewYearsEve;
+        copy.federalState = federalState;
+        return copy;
+    }
+
     private void setAllDayLengthsToZero() {
         this.monday = ZERO;
         this.tuesday = ZERO;
@@ -0,0 +1,16 @@
+package org.synyx.urlaubsverwaltung.workingtime;
+
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Indicates that the working times of the given {@link Person} have been created, updated or deleted.
+ */
+public record WorkingTimeUpdatedEvent(UUID id, Instant createdAt, Person person) {
+
+    public static WorkingTimeUpdatedEvent of(Person person) {
+        return new WorkingTimeUpdatedEvent(UUID.randomUUID(), Instant.now(), person);
+    }
+}
@@ -0,0 +1,75 @@
+package org.synyx.urlaubsverwaltung.absence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.CronTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.synyx.urlaubsverwaltung.config.ScheduleLocking;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.returnsSecondArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AbsenceDayProjectionConfigurationTest {
+
+    private AbsenceDayProjectionConfiguration sut;
+
+    @Mock
+    private AbsenceDayProjection absenceDayProjection;
+    @Mock
+    private ScheduleLocking scheduleLocking;
+    @Mock
+    private ThreadPoolTaskScheduler taskScheduler;
+
+    @BeforeEach
+    void setUp() {
+        sut = new AbsenceDayProjectionConfiguration(new AbsenceDayProjectionProperties(), absenceDayProjection, scheduleLocking, taskScheduler);
+    }
+
+    @Test
+    void ensureCronTaskRebuildsAllChunks() {
+
+        when(scheduleLocking.withLock(eq("RebuildAbsenceDayProjection"), any(Runnable.class))).thenAnswer(returnsSecondArg());
+        when(absenceDayProjection.rebuildNextChunk()).thenReturn(true, true, false);
+
+        final ScheduledTaskRegistrar taskRegistrar = new ScheduledTaskRegistrar();
+        sut.configureTasks(taskRegistrar);
+
+        final List<CronTask> cronTaskList = taskRegistrar.getCronTaskList();
+        assertThat(cronTaskList).hasSize(1);
+
+        final CronTask rebuildCronTask = cronTaskList.get(0);
+        assertThat(rebuildCronTask.getExpression()).isEqualTo("0 * * * * *");
+        rebuildCronTask.getRunnable().run();
+        verify(absenceDayProjection, times(3)).rebuildNextChunk();
+    }
+
+    @Test
+    void ensureCronTaskProjectsAllChunksOfStalePendingProjectionsAfterRebuild() {
+
+        when(scheduleLocking.withLock(eq("RebuildAbsenceDayProjection"), any(Runnable.class))).thenAnswer(returnsSecondArg());
+        when(absenceDayProjection.projectNextChunkOfStalePendingProjections()).thenReturn(true, false);
+
+        final ScheduledTaskRegistrar taskRegistrar = new ScheduledTaskRegistrar();
+        sut.configureTasks(taskRegistrar);
+
+        taskRegistrar.getCronTaskList().get(0).getRunnable().run();
+
+        final InOrder inOrder = inOrder(absenceDayProjection);
+        inOrder.verify(absenceDayProjection).rebuildNextChunk();
+        inOrder.verify(absenceDayProjection, times(2)).projectNextChunkOfStalePendingProjections();
+    }
+}
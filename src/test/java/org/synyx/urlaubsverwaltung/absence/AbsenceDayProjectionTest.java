@@ -0,0 +1,614 @@
+package org.synyx.urlaubsverwaltung.absence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.synyx.urlaubsverwaltung.application.application.Application;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationAllowedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationDeletedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationStatus;
+import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeService;
+import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonDeletedEvent;
+import org.synyx.urlaubsverwaltung.settings.Settings;
+import org.synyx.urlaubsverwaltung.settings.SettingsService;
+import org.synyx.urlaubsverwaltung.settings.SettingsUpdatedEvent;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteCreatedEvent;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteService;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteStatus;
+import org.synyx.urlaubsverwaltung.sicknote.sicknotetype.SickNoteType;
+import org.synyx.urlaubsverwaltung.sicknote.sicknotetype.SickNoteTypeService;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendarService;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeUpdatedEvent;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.transaction.support.TransactionSynchronization.STATUS_COMMITTED;
+import static org.springframework.transaction.support.TransactionSynchronization.STATUS_ROLLED_BACK;
+import static org.synyx.urlaubsverwaltung.TestDataCreator.createApplication;
+import static org.synyx.urlaubsverwaltung.TestDataCreator.createSickNote;
+import static org.synyx.urlaubsverwaltung.TestDataCreator.createVacationType;
+import static org.synyx.urlaubsverwaltung.absence.AbsencePeriod.AbsenceStatus.ACTIVE;
+import static org.synyx.urlaubsverwaltung.absence.AbsencePeriod.AbsenceStatus.ALLOWED;
+import static org.synyx.urlaubsverwaltung.absence.AbsencePeriod.AbsenceType.SICK;
+import static org.synyx.urlaubsverwaltung.absence.AbsencePeriod.AbsenceType.VACATION;
+import static org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory.HOLIDAY;
+import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
+import static org.synyx.urlaubsverwaltung.period.DayLength.MORNING;
+import static org.synyx.urlaubsverwaltung.period.DayLength.NOON;
+import static org.synyx.urlaubsverwaltung.period.DayLength.ZERO;
+import static org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteCategory.SICK_NOTE;
+import static org.synyx.urlaubsverwaltung.workingtime.FederalState.GERMANY_BERLIN;
+import static org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation.WorkingTimeCalendarEntryType.NO_WORKDAY;
+import static org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation.WorkingTimeCalendarEntryType.WORKDAY;
+
+@ExtendWith(MockitoExtension.class)
+class AbsenceDayProjectionTest {
+
+    private AbsenceDayProjection sut;
+
+    @Mock
+    private AbsenceDayRepository absenceDayRepository;
+    @Mock
+    private AbsenceDayProjectionStateRepository absenceDayProjectionStateRepository;
+    @Mock
+    private AbsenceDayProjectionPendingRepository absenceDayProjectionPendingRepository;
+    @Mock
+    private ApplicationService applicationService;
+    @Mock
+    private SickNoteService sickNoteService;
+    @Mock
+    private WorkingTimeCalendarService workingTimeCalendarService;
+    @Mock
+    private VacationTypeService vacationTypeService;
+    @Mock
+    private SickNoteTypeService sickNoteTypeService;
+    @Mock
+    private SettingsService settingsService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Captor
+    private ArgumentCaptor<List<AbsenceDayEntity>> absenceDaysCaptor;
+    @Captor
+    private ArgumentCaptor<AbsenceDayProjectionPendingEntity> pendingProjectionCaptor;
+
+    private final AbsenceDayProjectionProperties absenceDayProjectionProperties = new AbsenceDayProjectionProperties();
+    private final Clock clock = Clock.fixed(Instant.parse("2023-05-10T10:00:00Z"), ZoneOffset.UTC);
+
+    @BeforeEach
+    void setUp() {
+        sut = new AbsenceDayProjection(absenceDayRepository, absenceDayProjectionStateRepository, absenceDayProjectionPendingRepository, applicationService,
+            sickNoteService, workingTimeCalendarService, vacationTypeService, sickNoteTypeService, settingsService, absenceDayProjectionProperties,
+            transactionManager, clock);
+    }
+
+    @Test
+    void ensureApplicationEventProjectsWorkdaysOfApplication() {
+
+        final Person person = person();
+
+        // monday to sunday
+        final Application application = createApplication(person, LocalDate.of(2023, 5, 1), LocalDate.of(2023, 5, 7), FULL, new StaticMessageSource());
+        application.setId(42L);
+        application.setStatus(ApplicationStatus.ALLOWED);
+        mockWorkingTimeCalendar(person, LocalDate.of(2023, 5, 1), LocalDate.of(2023, 5, 7));
+
+        sut.on(ApplicationAllowedEvent.of(application));
+
+        verify(absenceDayRepository).deleteByAbsenceTypeAndSourceId(VACATION, 42L);
+        verify(absenceDayRepository).saveAll(absenceDaysCaptor.capture());
+
+        final List<AbsenceDayEntity> absenceDays = absenceDaysCaptor.getValue();
+        assertThat(absenceDays).hasSize(10)
+            .allSatisfy(absenceDay -> {
+                assertThat(absenceDay.getPerson()).isEqualTo(person);
+                assertThat(absenceDay.getAbsenceType()).isEqualTo(VACATION);
+                assertThat(absenceDay.getStatus()).isEqualTo(ALLOWED);
+                assertThat(absenceDay.getSourceId()).isEqualTo(42L);
+                assertThat(absenceDay.getTypeId()).isEqualTo(1L);
+                assertThat(absenceDay.getDate()).isBefore(LocalDate.of(2023, 5, 6));
+            });
+        assertThat(absenceDays).extracting(AbsenceDayEntity::getDayLength).containsOnly(MORNING, NOON);
+    }
+
+    @Test
+    void ensureSickNoteEventProjectsEveryDayOfSickNote() {
+
+        final Person person = person();
+
+        final SickNote sickNote = SickNote.builder(createSickNote(person, LocalDate.of(2023, 5, 1), LocalDate.of(2023, 5, 7), MORNING))
+            .id(7L)
+            .build();
+        mockWorkingTimeCalendar(person, LocalDate.of(2023, 5, 1), LocalDate.of(2023, 5, 7));
+
+        sut.on(SickNoteCreatedEvent.of(sickNote));
+
+        verify(absenceDayRepository).deleteByAbsenceTypeAndSourceId(SICK, 7L);
+        verify(absenceDayRepository).saveAll(absenceDaysCaptor.capture());
+
+        final List<AbsenceDayEntity> absenceDays = absenceDaysCaptor.getValue();
+        assertThat(absenceDays).hasSize(7)
+            .allSatisfy(absenceDay -> {
+                assertThat(absenceDay.getAbsenceType()).isEqualTo(SICK);
+                assertThat(absenceDay.getStatus()).isEqualTo(ACTIVE);
+                assertThat(absenceDay.getSourceId()).isEqualTo(7L);
+                assertThat(absenceDay.getDayLength()).isEqualTo(MORNING);
+            });
+    }
+
+    @Test
+    void ensureApplicationDeletedEventDeletesAbsenceDaysOfApplication() {
+
+        final Application application = createApplication(person(), LocalDate.of(2023, 5, 1), LocalDate.of(2023, 5, 7), FULL, new StaticMessageSource());
+        application.setId(42L);
+
+        sut.on(ApplicationDeletedEvent.of(application));
+
+        verify(absenceDayRepository).deleteByAbsenceTypeAndSourceId(VACATION, 42L);
+        verify(absenceDayRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void ensureProjectionClashingWithConcurrentOneIsRetried() {
+
+        final Application application = createApplication(person(), LocalDate.of(2023, 5, 1), LocalDate.of(2023, 5, 7), FULL, new StaticMessageSource());
+        application.setId(42L);
+
+        doThrow(new DataIntegrityViolationException("unique_absence_day_per_source")).doNothing()
+            .when(absenceDayRepository).deleteByAbsenceTypeAndSourceId(VACATION, 42L);
+
+        sut.on(ApplicationDeletedEvent.of(application));
+
+        verify(absenceDayRepository, times(2)).deleteByAbsenceTypeAndSourceId(VACATION, 42L);
+        verify(transactionManager).rollback(any());
+        verify(transactionManager).commit(any());
+        verify(absenceDayProjectionStateRepository, never()).findByIdForUpdate(any());
+    }
+
+    @Test
+    void ensureFailingProjectionRequestsRebuild() {
+
+        final Application application = createApplication(person(), LocalDate.of(2023, 5, 1), LocalDate.of(2023, 5, 7), FULL, new StaticMessageSource());
+        application.setId(42L);
+
+        doThrow(new DataIntegrityViolationException("unique_absence_day_per_source"))
+            .when(absenceDayRepository).deleteByAbsenceTypeAndSourceId(VACATION, 42L);
+
+        final Settings settings = new Settings();
+        when(settingsService.getSettings()).thenReturn(settings);
+        final AbsenceDayProjectionStateEntity state = state(settings);
+        when(absenceDayProjectionStateRepository.findByIdForUpdate(AbsenceDayProjectionStateEntity.ID)).thenReturn(Optional.of(state));
+
+        sut.on(ApplicationDeletedEvent.of(application));
+
+        verify(absenceDayRepository, times(3)).deleteByAbsenceTypeAndSourceId(VACATION, 42L);
+        assertThat(state.isRebuildRequested()).isTrue();
+    }
+
+    @Test
+    void ensureChangeWithinTransactionSavesPendingProjectionAndIsProjectedAfterCommit() {
+
+        final Application application = createApplication(person(), LocalDate.of(2023, 5, 1), LocalDate.of(2023, 5, 7), FULL, new StaticMessageSource());
+        application.setId(42L);
+
+        when(absenceDayProjectionPendingRepository.save(any(AbsenceDayProjectionPendingEntity.class))).thenAnswer(invocation -> {
+            final AbsenceDayProjectionPendingEntity pendingProjection = invocation.getArgument(0);
+            pendingProjection.setId(5L);
+            return pendingProjection;
+        });
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            sut.on(ApplicationDeletedEvent.of(application));
+
+            verify(absenceDayProjectionPendingRepository).save(pendingProjectionCaptor.capture());
+            assertThat(pendingProjectionCaptor.getValue().getPersonId()).isEqualTo(1L);
+            assertThat(pendingProjectionCaptor.getValue().getCreatedAt()).isEqualTo(Instant.now(clock));
+            verify(absenceDayRepository, never()).deleteByAbsenceTypeAndSourceId(VACATION, 42L);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.afterCompletion(STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(absenceDayRepository).deleteByAbsenceTypeAndSourceId(VACATION, 42L);
+        verify(absenceDayProjectionPendingRepository).deleteByIdIn(List.of(5L));
+    }
+
+    @Test
+    void ensureRolledBackChangeIsNotProjected() {
+
+        final Application application = createApplication(person(), LocalDate.of(2023, 5, 1), LocalDate.of(2023, 5, 7), FULL, new StaticMessageSource());
+        application.setId(42L);
+
+        when(absenceDayProjectionPendingRepository.save(any(AbsenceDayProjectionPendingEntity.class))).thenAnswer(returnsFirstArg());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            sut.on(ApplicationDeletedEvent.of(application));
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.afterCompletion(STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(absenceDayRepository, never()).deleteByAbsenceTypeAndSourceId(any(), any());
+        verify(absenceDayProjectionPendingRepository, never()).deleteByIdIn(anyList());
+    }
+
+    @Test
+    void ensureStalePendingProjectionsOfNextChunkAreProjectedAgain() {
+
+        absenceDayProjectionProperties.setRebuildChunkSize(2);
+        when(absenceDayProjectionStateRepository.findByIdForUpdate(AbsenceDayProjectionStateEntity.ID)).thenReturn(Optional.of(state(new Settings())));
+
+        final Person person = person();
+        final AbsenceDayProjectionPendingEntity pendingProjection = pendingProjection(5L, person.getId());
+        final AbsenceDayProjectionPendingEntity otherPendingProjection = pendingProjection(6L, person.getId());
+        when(absenceDayProjectionPendingRepository.findByCreatedAtBeforeOrderById(Instant.parse("2023-05-10T09:55:00Z"), Limit.of(2)))
+            .thenReturn(List.of(pendingProjection, otherPendingProjection));
+        when(absenceDayRepository.findPersonsWithIdIn(Set.of(1L))).thenReturn(List.of(person));
+
+        final Application application = createApplication(person, LocalDate.of(2023, 5, 1), LocalDate.of(2023, 5, 1), FULL, new StaticMessageSource());
+        application.setId(42L);
+        when(applicationService.getForStatesAndPerson(List.of(ApplicationStatus.values()), List.of(person))).thenReturn(List.of(application));
+        when(sickNoteService.getForStatesAndPerson(List.of(SickNoteStatus.values()), List.of(person))).thenReturn(List.of());
+        mockWorkingTimeCalendar(person, LocalDate.of(2023, 5, 1), LocalDate.of(2023, 5, 1));
+
+        assertThat(sut.projectNextChunkOfStalePendingProjections()).isTrue();
+
+        verify(absenceDayRepository).deleteByPersonIn(List.of(person));
+        verify(absenceDayRepository).saveAll(absenceDaysCaptor.capture());
+        assertThat(absenceDaysCaptor.getValue()).extracting(AbsenceDayEntity::getSourceId).containsExactly(42L, 42L);
+        verify(absenceDayProjectionPendingRepository).deleteByIdIn(List.of(5L, 6L));
+    }
+
+    @Test
+    void ensureStalePendingProjectionsOfDeletedPersonAreDeleted() {
+
+        when(absenceDayProjectionStateRepository.findByIdForUpdate(AbsenceDayProjectionStateEntity.ID)).thenReturn(Optional.of(state(new Settings())));
+        when(absenceDayProjectionPendingRepository.findByCreatedAtBeforeOrderById(Instant.parse("2023-05-10T09:55:00Z"), Limit.of(100)))
+            .thenReturn(List.of(pendingProjection(5L, 1L)));
+        when(absenceDayRepository.findPersonsWithIdIn(Set.of(1L))).thenReturn(List.of());
+
+        assertThat(sut.projectNextChunkOfStalePendingProjections()).isTrue();
+
+        verify(absenceDayRepository, never()).deleteByPersonIn(anyList());
+        verify(absenceDayRepository, never()).saveAll(anyList());
+        verify(absenceDayProjectionPendingRepository).deleteByIdIn(List.of(5L));
+    }
+
+    @Test
+    void ensureNoStalePendingProjectionsAreProjectedWithinTimeout() {
+
+        when(absenceDayProjectionStateRepository.findByIdForUpdate(AbsenceDayProjectionStateEntity.ID)).thenReturn(Optional.of(state(new Settings())));
+        when(absenceDayProjectionPendingRepository.findByCreatedAtBeforeOrderById(Instant.parse("2023-05-10T09:55:00Z"), Limit.of(100)))
+            .thenReturn(List.of());
+
+        assertThat(sut.projectNextChunkOfStalePendingProjections()).isFalse();
+
+        verify(absenceDayRepository, never()).findPersonsWithIdIn(any());
+        verify(absenceDayProjectionPendingRepository, never()).deleteByIdIn(anyList());
+    }
+
+    @Test
+    void ensureIsCompleteUnlessRebuildIsRequested() {
+
+        final AbsenceDayProjectionStateEntity state = state(new Settings());
+        when(absenceDayProjectionStateRepository.findById(AbsenceDayProjectionStateEntity.ID)).thenReturn(Optional.of(state));
+        assertThat(sut.isComplete()).isTrue();
+
+        state.setRebuildRequested(true);
+        assertThat(sut.isComplete()).isFalse();
+    }
+
+    @Test
+    void ensurePersonDeletedEventDeletesAbsenceDaysOfPerson() {
+
+        final Person person = person();
+
+        sut.on(new PersonDeletedEvent(person));
+
+        verify(absenceDayRepository).deleteByPerson(person);
+    }
+
+    @Test
+    void ensureWorkingTimeUpdatedEventProjectsAllAbsencesOfPersonAgain() {
+
+        final Person person = person();
+
+        final Application application = createApplication(person, LocalDate.of(2023, 5, 1), LocalDate.of(2023, 5, 2), FULL, new StaticMessageSource());
+        application.setId(42L);
+        when(applicationService.getForStatesAndPerson(List.of(ApplicationStatus.values()), List.of(person))).thenReturn(List.of(application));
+
+        final SickNote sickNote = SickNote.builder(createSickNote(person, LocalDate.of(2023, 5, 4), LocalDate.of(2023, 5, 4), FULL))
+            .id(7L)
+            .build();
+        when(sickNoteService.getForStatesAndPerson(List.of(SickNoteStatus.values()), List.of(person))).thenReturn(List.of(sickNote));
+
+        // one calendar covering the application and the sick note
+        mockWorkingTimeCalendar(person, LocalDate.of(2023, 5, 1), LocalDate.of(2023, 5, 4));
+
+        sut.on(WorkingTimeUpdatedEvent.of(person));
+
+        verify(absenceDayRepository).deleteByPerson(person);
+        verify(absenceDayRepository).saveAll(absenceDaysCaptor.capture());
+        assertThat(absenceDaysCaptor.getValue()).extracting(AbsenceDayEntity::getSourceId).containsExactly(42L, 42L, 42L, 42L, 7L, 7L);
+    }
+
+    @Test
+    void ensureSettingsUpdatedEventRequestsRebuildOnlyIfCalendarSettingsChanged() {
+
+        final AbsenceDayProjectionStateEntity state = state(new Settings());
+        when(absenceDayProjectionStateRepository.findByIdForUpdate(AbsenceDayProjectionStateEntity.ID)).thenReturn(Optional.of(state));
+
+        sut.on(SettingsUpdatedEvent.of(new Settings()));
+        assertThat(state.isRebuildRequested()).isFalse();
+
+        final Settings changedSettings = new Settings();
+        changedSettings.getWorkingTimeSettings().setFederalState(GERMANY_BERLIN);
+
+        sut.on(SettingsUpdatedEvent.of(changedSettings));
+        assertThat(state.isRebuildRequested()).isTrue();
+        assertThat(state.getLastPersonId()).isNull();
+        assertThat(state.getFederalState()).isEqualTo(GERMANY_BERLIN);
+        verify(absenceDayRepository, never()).deleteByPersonIn(anyList());
+    }
+
+    @Test
+    void ensureRequestRebuildStartsOverRunningRebuild() {
+
+        final Settings settings = new Settings();
+        when(settingsService.getSettings()).thenReturn(settings);
+
+        final AbsenceDayProjectionStateEntity state = state(settings);
+        state.setRebuildRequested(true);
+        state.setLastPersonId(42L);
+        when(absenceDayProjectionStateRepository.findByIdForUpdate(AbsenceDayProjectionStateEntity.ID)).thenReturn(Optional.of(state));
+
+        sut.requestRebuild();
+
+        assertThat(state.isRebuildRequested()).isTrue();
+        assertThat(state.getLastPersonId()).isNull();
+    }
+
+    @Test
+    void ensureRebuildOnStartupIsRequestedIfConfigured() {
+
+        absenceDayProjectionProperties.setRebuildOnStartup(true);
+
+        final Settings settings = new Settings();
+        when(settingsService.getSettings()).thenReturn(settings);
+
+        final AbsenceDayProjectionStateEntity state = state(settings);
+        when(absenceDayProjectionStateRepository.findByIdForUpdate(AbsenceDayProjectionStateEntity.ID)).thenReturn(Optional.of(state));
+
+        sut.requestRebuildOnStartup();
+
+        assertThat(state.isRebuildRequested()).isTrue();
+    }
+
+    @Test
+    void ensureRebuildOnStartupIsRequestedIfCalendarSettingsChanged() {
+
+        final Settings changedSettings = new Settings();
+        changedSettings.getWorkingTimeSettings().setFederalState(GERMANY_BERLIN);
+        when(settingsService.getSettings()).thenReturn(changedSettings);
+
+        final AbsenceDayProjectionStateEntity state = state(new Settings());
+        when(absenceDayProjectionStateRepository.findByIdForUpdate(AbsenceDayProjectionStateEntity.ID)).thenReturn(Optional.of(state));
+
+        sut.requestRebuildOnStartup();
+
+        assertThat(state.isRebuildRequested()).isTrue();
+        assertThat(state.getFederalState()).isEqualTo(GERMANY_BERLIN);
+    }
+
+    @Test
+    void ensureRunningRebuildResumesOnStartup() {
+
+        final Settings settings = new Settings();
+        when(settingsService.getSettings()).thenReturn(settings);
+
+        final AbsenceDayProjectionStateEntity state = state(settings);
+        state.setRebuildRequested(true);
+        state.setLastPersonId(42L);
+        when(absenceDayProjectionStateRepository.findByIdForUpdate(AbsenceDayProjectionStateEntity.ID)).thenReturn(Optional.of(state));
+
+        sut.requestRebuildOnStartup();
+
+        assertThat(state.isRebuildRequested()).isTrue();
+        assertThat(state.getLastPersonId()).isEqualTo(42L);
+    }
+
+    @Test
+    void ensureRebuildNextChunkDoesNothingIfNoRebuildIsRequested() {
+
+        when(absenceDayProjectionStateRepository.findByIdForUpdate(AbsenceDayProjectionStateEntity.ID)).thenReturn(Optional.of(state(new Settings())));
+
+        assertThat(sut.rebuildNextChunk()).isFalse();
+
+        verify(absenceDayRepository, never()).findPersonsWithIdGreaterThan(any(), any());
+    }
+
+    @Test
+    void ensureRebuildNextChunkProjectsAbsencesOfNextChunkOfPersons() {
+
+        absenceDayProjectionProperties.setRebuildChunkSize(2);
+
+        final AbsenceDayProjectionStateEntity state = state(new Settings());
+        state.setRebuildRequested(true);
+        state.setLastPersonId(41L);
+        when(absenceDayProjectionStateRepository.findByIdForUpdate(AbsenceDayProjectionStateEntity.ID)).thenReturn(Optional.of(state));
+
+        final Person person = person();
+        person.setId(42L);
+        final Person otherPerson = new Person("other", "Other", "Oliver", "other@example.org");
+        otherPerson.setId(43L);
+        final List<Person> persons = List.of(person, otherPerson);
+        when(absenceDayRepository.findPersonsWithIdGreaterThan(41L, Limit.of(2))).thenReturn(persons);
+
+        final Application application = createApplication(person, LocalDate.of(2023, 5, 1), LocalDate.of(2023, 5, 1), FULL, new StaticMessageSource());
+        application.setId(42L);
+        when(applicationService.getForStatesAndPerson(List.of(ApplicationStatus.values()), persons)).thenReturn(List.of(application));
+        when(sickNoteService.getForStatesAndPerson(List.of(SickNoteStatus.values()), persons)).thenReturn(List.of());
+        mockWorkingTimeCalendar(person, LocalDate.of(2023, 5, 1), LocalDate.of(2023, 5, 1));
+
+        assertThat(sut.rebuildNextChunk()).isTrue();
+
+        verify(absenceDayRepository).deleteByPersonIn(persons);
+        verify(absenceDayRepository).saveAll(absenceDaysCaptor.capture());
+        assertThat(absenceDaysCaptor.getValue()).extracting(AbsenceDayEntity::getSourceId).containsExactly(42L, 42L);
+        assertThat(state.isRebuildRequested()).isTrue();
+        assertThat(state.getLastPersonId()).isEqualTo(43L);
+    }
+
+    @Test
+    void ensureRebuildNextChunkFinishesRebuildAfterLastPerson() {
+
+        final AbsenceDayProjectionStateEntity state = state(new Settings());
+        state.setRebuildRequested(true);
+        state.setLastPersonId(43L);
+        when(absenceDayProjectionStateRepository.findByIdForUpdate(AbsenceDayProjectionStateEntity.ID)).thenReturn(Optional.of(state));
+        when(absenceDayRepository.findPersonsWithIdGreaterThan(43L, Limit.of(100))).thenReturn(List.of());
+
+        assertThat(sut.rebuildNextChunk()).isFalse();
+
+        verify(absenceDayRepository, never()).deleteByPersonIn(anyList());
+        assertThat(state.isRebuildRequested()).isFalse();
+        assertThat(state.getLastPersonId()).isNull();
+    }
+
+    @Test
+    void ensureGetAbsencesMergesHalfDaysOfOneSourceIntoOneRecordPerDay() {
+
+        final Person person = person();
+        final LocalDate start = LocalDate.of(2023, 5, 1);
+        final LocalDate end = LocalDate.of(2023, 5, 31);
+
+        when(absenceDayRepository.findByPersonInAndDateBetweenAndStatusInOrderByDate(List.of(person), start, end, List.of(ALLOWED, ACTIVE)))
+            .thenReturn(List.of(
+                absenceDay(person, LocalDate.of(2023, 5, 2), MORNING, VACATION, 42L, 1L, ALLOWED),
+                absenceDay(person, LocalDate.of(2023, 5, 2), NOON, VACATION, 42L, 1L, ALLOWED),
+                absenceDay(person, LocalDate.of(2023, 5, 3), MORNING, VACATION, 42L, 1L, ALLOWED),
+                absenceDay(person, LocalDate.of(2023, 5, 3), NOON, SICK, 7L, 2L, ACTIVE)
+            ));
+
+        when(vacationTypeService.getAllVacationTypes()).thenReturn(List.of(createVacationType(1L, HOLIDAY, new StaticMessageSource())));
+        final SickNoteType sickNoteType = new SickNoteType();
+        sickNoteType.setId(2L);
+        sickNoteType.setCategory(SICK_NOTE);
+        when(sickNoteTypeService.getSickNoteTypes()).thenReturn(List.of(sickNoteType));
+
+        final List<AbsencePeriod> absences = sut.getAbsences(List.of(person), start, end, List.of(ALLOWED, ACTIVE));
+        assertThat(absences).hasSize(2);
+
+        final List<AbsencePeriod.Record> vacationRecords = absences.get(0).getAbsenceRecords();
+        assertThat(vacationRecords).hasSize(2);
+        assertThat(vacationRecords.get(0).getDate()).isEqualTo(LocalDate.of(2023, 5, 2));
+        assertThat(vacationRecords.get(0).getMorning()).hasValueSatisfying(morning -> {
+            assertThat(morning.getId()).hasValue(42L);
+            assertThat(morning.getCategory()).hasValue("HOLIDAY");
+        });
+        assertThat(vacationRecords.get(0).getNoon()).isPresent();
+        assertThat(vacationRecords.get(1).getDate()).isEqualTo(LocalDate.of(2023, 5, 3));
+        assertThat(vacationRecords.get(1).getMorning()).isPresent();
+        assertThat(vacationRecords.get(1).getNoon()).isEmpty();
+
+        final List<AbsencePeriod.Record> sickRecords = absences.get(1).getAbsenceRecords();
+        assertThat(sickRecords).hasSize(1);
+        assertThat(sickRecords.get(0).getMorning()).isEmpty();
+        assertThat(sickRecords.get(0).getNoon()).hasValueSatisfying(noon -> {
+            assertThat(noon.getAbsenceType()).isEqualTo(SICK);
+            assertThat(noon.getStatus()).isEqualTo(ACTIVE);
+            assertThat(noon.getCategory()).hasValue("SICK_NOTE");
+        });
+    }
+
+    @Test
+    void ensureGetAbsencesWithoutPersonsDoesNotQuery() {
+        assertThat(sut.getAbsences(List.of(), LocalDate.of(2023, 5, 1), LocalDate.of(2023, 5, 31), List.of(ALLOWED))).isEmpty();
+        verify(absenceDayRepository, never()).findByPersonInAndDateBetweenAndStatusInOrderByDate(any(), any(), any(), any());
+    }
+
+    private void mockWorkingTimeCalendar(Person person, LocalDate start, LocalDate end) {
+        final Map<LocalDate, WorkingDayInformation> workingDays = new HashMap<>();
+        for (LocalDate date : new DateRange(start, end)) {
+            if (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                workingDays.put(date, new WorkingDayInformation(ZERO, NO_WORKDAY, NO_WORKDAY));
+            } else {
+                workingDays.put(date, new WorkingDayInformation(FULL, WORKDAY, WORKDAY));
+            }
+        }
+        when(workingTimeCalendarService.getWorkingTimesByPersons(List.of(person), new DateRange(start, end)))
+            .thenReturn(Map.of(person, new WorkingTimeCalendar(workingDays)));
+    }
+
+    private static AbsenceDayEntity absenceDay(Person person, LocalDate date, DayLength dayLength,
+                                               AbsencePeriod.AbsenceType absenceType, Long sourceId, Long typeId, AbsencePeriod.AbsenceStatus status) {
+        final AbsenceDayEntity absenceDay = new AbsenceDayEntity();
+        absenceDay.setPerson(person);
+        absenceDay.setDate(date);
+        absenceDay.setDayLength(dayLength);
+        absenceDay.setAbsenceType(absenceType);
+        absenceDay.setSourceId(sourceId);
+        absenceDay.setTypeId(typeId);
+        absenceDay.setStatus(status);
+        return absenceDay;
+    }
+
+    private AbsenceDayProjectionPendingEntity pendingProjection(Long id, Long personId) {
+        final AbsenceDayProjectionPendingEntity pendingProjection = new AbsenceDayProjectionPendingEntity();
+        pendingProjection.setId(id);
+        pendingProjection.setPersonId(personId);
+        pendingProjection.setCreatedAt(Instant.now(clock).minusSeconds(3600));
+        return pendingProjection;
+    }
+
+    private static AbsenceDayProjectionStateEntity state(Settings settings) {
+        final AbsenceDayProjectionStateEntity state = new AbsenceDayProjectionStateEntity();
+        state.setId(AbsenceDayProjectionStateEntity.ID);
+        state.setFederalState(settings.getWorkingTimeSettings().getFederalState());
+        state.setWorkingDurationForChristmasEve(settings.getWorkingTimeSettings().getWorkingDurationForChristmasEve());
+        state.setWorkingDurationForNewYearsEve(settings.getWorkingTimeSettings().getWorkingDurationForNewYearsEve());
+        return state;
+    }
+
+    private static Person person() {
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        person.setId(1L);
+        return person;
+    }
+}
@@ -0,0 +1,217 @@
+package org.synyx.urlaubsverwaltung.absence;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.support.StaticMessageSource;
+import org.synyx.urlaubsverwaltung.application.application.Application;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
+import org.synyx.urlaubsverwaltung.application.vacationtype.ProvidedVacationType;
+import org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory;
+import org.synyx.urlaubsverwaltung.application.vacationtype.VacationType;
+import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.settings.SettingsService;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteCategory;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteService;
+import org.synyx.urlaubsverwaltung.sicknote.sicknotetype.SickNoteType;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendarService;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED;
+import static org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteStatus.ACTIVE;
+import static org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation.WorkingTimeCalendarEntryType.NO_WORKDAY;
+import static org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation.WorkingTimeCalendarEntryType.PUBLIC_HOLIDAY;
+import static org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation.WorkingTimeCalendarEntryType.WORKDAY;
+
+/**
+ * Compares the single pass absence assembly of {@link AbsenceServiceImpl} with the former assembly, that computed the
+ * working time calendars twice and expanded every absence day by day with streams, for 500 persons over a full year.
+ * <p>
+ * Run {@link #main(String[])} after {@code ./mvnw test-compile}, which generates the JMH benchmark classes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AbsenceServiceImplBenchmark {
+
+    private static final int PERSONS = 500;
+    private static final LocalDate START = LocalDate.of(2023, 1, 1);
+    private static final LocalDate END = LocalDate.of(2023, 12, 31);
+
+    private List<Person> persons;
+    private List<Application> applications;
+    private List<SickNote> sickNotes;
+    private Map<LocalDate, WorkingDayInformation> workingDays;
+
+    private WorkingTimeCalendarService workingTimeCalendarService;
+    private AbsenceServiceImpl sut;
+
+    @Setup
+    public void setup() {
+        workingDays = workingDays();
+        persons = new ArrayList<>();
+        applications = new ArrayList<>();
+        sickNotes = new ArrayList<>();
+
+        final VacationType<?> vacationType = ProvidedVacationType.builder(new StaticMessageSource())
+            .id(1L)
+            .category(VacationCategory.HOLIDAY)
+            .visibleToEveryone(true)
+            .build();
+
+        final SickNoteType sickNoteType = new SickNoteType();
+        sickNoteType.setId(1L);
+        sickNoteType.setCategory(SickNoteCategory.SICK_NOTE);
+
+        long id = 0;
+        for (int index = 0; index < PERSONS; index++) {
+            final Person person = new Person();
+            person.setId((long) index);
+            persons.add(person);
+
+            // six applications of two weeks and four sick notes of one week spread over the year
+            for (int month = 0; month < 12; month += 2) {
+                final Application application = new Application();
+                application.setId(++id);
+                application.setPerson(person);
+                application.setStartDate(START.plusMonths(month).plusDays(index % 14));
+                application.setEndDate(application.getStartDate().plusDays(13));
+                application.setDayLength(DayLength.FULL);
+                application.setStatus(ALLOWED);
+                application.setVacationType(vacationType);
+                applications.add(application);
+            }
+            for (int month = 1; month < 12; month += 3) {
+                final LocalDate startDate = START.plusMonths(month).plusDays(index % 14);
+                sickNotes.add(SickNote.builder()
+                    .id(++id)
+                    .person(person)
+                    .status(ACTIVE)
+                    .sickNoteType(sickNoteType)
+                    .startDate(startDate)
+                    .endDate(startDate.plusDays(6))
+                    .dayLength(DayLength.FULL)
+                    .build());
+            }
+        }
+
+        final ApplicationService applicationService = mock(ApplicationService.class);
+        when(applicationService.getForStatesAndPerson(any(), any(), any(), any())).thenReturn(applications);
+
+        final SickNoteService sickNoteService = mock(SickNoteService.class);
+        when(sickNoteService.getForStatesAndPerson(any(), any(), any(), any(), any())).thenReturn(sickNotes);
+
+        // builds the calendars on every call like the real service does
+        workingTimeCalendarService = mock(WorkingTimeCalendarService.class);
+        when(workingTimeCalendarService.getWorkingTimesByPersons(anyCollection(), any(DateRange.class)))
+            .thenAnswer(invocation -> calendars(invocation.getArgument(0)));
+
+        sut = new AbsenceServiceImpl(applicationService, sickNoteService, mock(SettingsService.class), workingTimeCalendarService, mock(AbsenceDayProjection.class));
+    }
+
+    @Benchmark
+    public List<AbsencePeriod> singlePass() {
+        return sut.getOpenAbsences(persons, START, END);
+    }
+
+    @Benchmark
+    public List<AbsencePeriod> perDayStreamsWithDuplicateCalendars() {
+        final DateRange dateRange = new DateRange(START, END);
+
+        final Map<Person, WorkingTimeCalendar> calendars = workingTimeCalendarService.getWorkingTimesByPersons(persons, dateRange);
+        final List<AbsencePeriod> applicationAbsences = applications.stream()
+            .map(application -> new AbsencePeriod(new DateRange(application.getStartDate(), application.getEndDate()).stream()
+                .map(date -> Map.entry(date, calendars.get(application.getPerson()).workingTimeDayLength(date).orElse(DayLength.ZERO)))
+                .filter(entry -> !entry.getValue().equals(DayLength.ZERO))
+                .map(entry -> new AbsencePeriod.Record(entry.getKey(), application.getPerson(),
+                    new AbsencePeriod.RecordMorningVacation(application.getPerson(), application.getId(), AbsencePeriod.AbsenceStatus.ALLOWED, "HOLIDAY", 1L, true),
+                    new AbsencePeriod.RecordNoonVacation(application.getPerson(), application.getId(), AbsencePeriod.AbsenceStatus.ALLOWED, "HOLIDAY", 1L, true)))
+                .toList()))
+            .toList();
+
+        // the sick note service computed the calendars of the persons with sick notes a second time
+        final Map<Person, WorkingTimeCalendar> sickNoteCalendars = workingTimeCalendarService.getWorkingTimesByPersons(sickNotes.stream().map(SickNote::getPerson).distinct().toList(), dateRange);
+        final List<AbsencePeriod> sickNoteAbsences = sickNotes.stream()
+            .map(sickNote -> new AbsencePeriod(new DateRange(sickNote.getStartDate(), sickNote.getEndDate()).stream()
+                .map(date -> Map.entry(date, sickNoteCalendars.get(sickNote.getPerson()).workingTimeDayLength(date).orElse(DayLength.ZERO)))
+                .map(entry -> new AbsencePeriod.Record(entry.getKey(), sickNote.getPerson(),
+                    new AbsencePeriod.RecordMorningSick(sickNote.getPerson(), sickNote.getId(), AbsencePeriod.AbsenceStatus.ACTIVE, "SICK_NOTE", 1L),
+                    new AbsencePeriod.RecordNoonSick(sickNote.getPerson(), sickNote.getId(), AbsencePeriod.AbsenceStatus.ACTIVE, "SICK_NOTE", 1L)))
+                .toList()))
+            .toList();
+
+        final List<AbsencePeriod> noWorkdays = calendars.entrySet().stream()
+            .map(entry -> {
+                final List<AbsencePeriod> absencePeriods = new ArrayList<>();
+                entry.getValue().forEachWorkingDay((date, workingDayInformation) -> {
+                    if (!workingDayInformation.dayLength().isFull()) {
+                        absencePeriods.add(new AbsencePeriod(List.of(new AbsencePeriod.Record(date, entry.getKey(),
+                            new AbsencePeriod.RecordMorningNoWorkday(entry.getKey()), new AbsencePeriod.RecordNoonNoWorkday(entry.getKey())))));
+                    }
+                });
+                return absencePeriods;
+            })
+            .flatMap(Collection::stream)
+            .toList();
+
+        return Stream.of(applicationAbsences.stream(), sickNoteAbsences.stream(), noWorkdays.stream())
+            .reduce(Stream.of(), Stream::concat)
+            .toList();
+    }
+
+    private Map<Person, WorkingTimeCalendar> calendars(Collection<Person> persons) {
+        final Map<Person, WorkingTimeCalendar> calendars = new HashMap<>();
+        for (Person person : persons) {
+            calendars.put(person, new WorkingTimeCalendar(workingDays));
+        }
+        return calendars;
+    }
+
+    private static Map<LocalDate, WorkingDayInformation> workingDays() {
+        final Map<LocalDate, WorkingDayInformation> workingDays = new HashMap<>();
+        for (LocalDate date : new DateRange(START, END)) {
+            if (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                workingDays.put(date, new WorkingDayInformation(DayLength.ZERO, NO_WORKDAY, NO_WORKDAY));
+            } else if (date.getDayOfMonth() == 1) {
+                workingDays.put(date, new WorkingDayInformation(DayLength.ZERO, PUBLIC_HOLIDAY, PUBLIC_HOLIDAY));
+            } else {
+                workingDays.put(date, new WorkingDayInformation(DayLength.FULL, WORKDAY, WORKDAY));
+            }
+        }
+        return workingDays;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(AbsenceServiceImplBenchmark.class.getSimpleName()).build()).run();
+    }
+}
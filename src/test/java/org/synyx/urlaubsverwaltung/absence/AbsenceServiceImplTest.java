@@ -38,7 +38,10 @@ import static java.time.Month.JUNE;
 import static java.time.Month.MAY;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.TestDataCreator.createApplication;
 import static org.synyx.urlaubsverwaltung.TestDataCreator.createSickNote;
@@ -71,10 +74,12 @@ class AbsenceServiceImplTest {
     private SickNoteService sickNoteService;
     @Mock
     private WorkingTimeCalendarService workingTimeCalendarService;
+    @Mock
+    private AbsenceDayProjection absenceDayProjection;
 
     @BeforeEach
     void setUp() {
-        sut = new AbsenceServiceImpl(applicationService, sickNoteService, settingsService, workingTimeCalendarService);
+        sut = new AbsenceServiceImpl(applicationService, sickNoteService, settingsService, workingTimeCalendarService, absenceDayProjection);
     }
 
     @Test
@@ -172,9 +177,72 @@ class AbsenceServiceImplTest {
         final LocalDate start = LocalDate.of(2021, MAY, 1);
         final LocalDate end = LocalDate.of(2021, MAY, 31);
 
+        final Map<Person, WorkingTimeCalendar> workingTimeCalendarByPerson = Map.of(batman, new WorkingTimeCalendar(Map.of()), superman, new WorkingTimeCalendar(Map.of()));
+        when(workingTimeCalendarService.getWorkingTimesByPersons(List.of(batman, superman), new DateRange(start, end))).thenReturn(workingTimeCalendarByPerson);
+
         sut.getOpenAbsences(List.of(batman, superman), start, end);
 
-        verify(sickNoteService).getForStatesAndPerson(List.of(ACTIVE), List.of(batman, superman), start, end);
+        verify(sickNoteService).getForStatesAndPerson(List.of(ACTIVE), List.of(batman, superman), start, end, workingTimeCalendarByPerson);
+        verify(workingTimeCalendarService).getWorkingTimesByPersons(List.of(batman, superman), new DateRange(start, end));
+    }
+
+    @Test
+    void ensureOpenAbsencesAreReadFromCompleteProjection() {
+
+        final LocalDate start = LocalDate.of(2021, DECEMBER, 1);
+        final LocalDate end = LocalDate.of(2021, DECEMBER, 31);
+
+        final Person batman = new Person();
+        batman.setId(1L);
+
+        final Map<LocalDate, WorkingDayInformation> personWorkingTimeByDate = buildWorkingTimeByDate(start, end, date -> {
+            if (date.equals(LocalDate.of(2021, DECEMBER, 24))) {
+                return new WorkingDayInformation(MORNING, WORKDAY, PUBLIC_HOLIDAY);
+            } else {
+                return fullWorkDay();
+            }
+        });
+        when(workingTimeCalendarService.getWorkingTimesByPersons(List.of(batman), new DateRange(start, end)))
+            .thenReturn(Map.of(batman, new WorkingTimeCalendar(personWorkingTimeByDate)));
+
+        final AbsencePeriod.RecordMorningVacation morning = new AbsencePeriod.RecordMorningVacation(batman, 42L, AbsencePeriod.AbsenceStatus.ALLOWED, "HOLIDAY", 1L, false);
+        final AbsencePeriod projectedAbsence = new AbsencePeriod(List.of(new AbsencePeriod.Record(LocalDate.of(2021, DECEMBER, 24), batman, morning)));
+
+        when(absenceDayProjection.isComplete()).thenReturn(true);
+        when(absenceDayProjection.getAbsences(eq(List.of(batman)), eq(start), eq(end), argThat(statuses -> statuses.size() == 5 && statuses.containsAll(List.of(
+            AbsencePeriod.AbsenceStatus.WAITING, AbsencePeriod.AbsenceStatus.TEMPORARY_ALLOWED, AbsencePeriod.AbsenceStatus.ALLOWED,
+            AbsencePeriod.AbsenceStatus.ALLOWED_CANCELLATION_REQUESTED, AbsencePeriod.AbsenceStatus.ACTIVE)))))
+            .thenReturn(List.of(projectedAbsence));
+
+        final List<AbsencePeriod> actualAbsences = sut.getOpenAbsences(List.of(batman), start, end);
+        assertThat(actualAbsences).hasSize(2);
+        assertThat(actualAbsences.get(0)).isSameAs(projectedAbsence);
+        assertThat(actualAbsences.get(1).getAbsenceRecords().getFirst().getNoon()).hasValueSatisfying(noon ->
+            assertThat(noon.getAbsenceType()).isEqualTo(AbsencePeriod.AbsenceType.PUBLIC_HOLIDAY));
+
+        verifyNoInteractions(applicationService, sickNoteService);
+    }
+
+    @Test
+    void ensureClosedAbsencesAreReadFromCompleteProjection() {
+
+        final LocalDate start = LocalDate.of(2021, MAY, 1);
+        final LocalDate end = LocalDate.of(2021, MAY, 31);
+
+        final Person batman = new Person();
+        batman.setId(1L);
+
+        when(workingTimeCalendarService.getWorkingTimesByPersons(List.of(batman), new DateRange(start, end)))
+            .thenReturn(Map.of(batman, new WorkingTimeCalendar(Map.of())));
+
+        when(absenceDayProjection.isComplete()).thenReturn(true);
+
+        sut.getClosedAbsences(List.of(batman), start, end);
+
+        verify(absenceDayProjection).getAbsences(eq(List.of(batman)), eq(start), eq(end), argThat(statuses -> statuses.size() == 4 && statuses.containsAll(List.of(
+            AbsencePeriod.AbsenceStatus.REVOKED, AbsencePeriod.AbsenceStatus.REJECTED, AbsencePeriod.AbsenceStatus.CANCELLED,
+            AbsencePeriod.AbsenceStatus.CONVERTED_TO_VACATION))));
+        verifyNoInteractions(applicationService, sickNoteService);
     }
 
     @Test
@@ -423,7 +491,7 @@ class AbsenceServiceImplTest {
                 .dayLength(DayLength.MORNING)
                 .build();
 
-        when(sickNoteService.getForStatesAndPerson(any(), any(), any(), any())).thenReturn(List.of(sickNote));
+        when(sickNoteService.getForStatesAndPerson(any(), any(), any(), any(), any())).thenReturn(List.of(sickNote));
 
         final List<AbsencePeriod> actualAbsences = sut.getOpenAbsences(List.of(batman), start, end);
         assertThat(actualAbsences).hasSize(1);
@@ -459,7 +527,7 @@ class AbsenceServiceImplTest {
                 .dayLength(DayLength.NOON)
                 .build();
 
-        when(sickNoteService.getForStatesAndPerson(any(), any(), any(), any())).thenReturn(List.of(sickNote));
+        when(sickNoteService.getForStatesAndPerson(any(), any(), any(), any(), any())).thenReturn(List.of(sickNote));
 
         final List<AbsencePeriod> actualAbsences = sut.getOpenAbsences(List.of(batman), start, end);
         assertThat(actualAbsences).hasSize(1);
@@ -495,7 +563,7 @@ class AbsenceServiceImplTest {
                 .dayLength(FULL)
                 .build();
 
-        when(sickNoteService.getForStatesAndPerson(any(), any(), any(), any())).thenReturn(List.of(sickNote));
+        when(sickNoteService.getForStatesAndPerson(any(), any(), any(), any(), any())).thenReturn(List.of(sickNote));
 
         final List<AbsencePeriod> actualAbsences = sut.getOpenAbsences(List.of(batman), start, end);
         assertThat(actualAbsences).hasSize(1);
@@ -549,7 +617,7 @@ class AbsenceServiceImplTest {
                 .dayLength(FULL)
                 .build();
 
-        when(sickNoteService.getForStatesAndPerson(any(), any(), any(), any())).thenReturn(List.of(sickNote));
+        when(sickNoteService.getForStatesAndPerson(any(), any(), any(), any(), any())).thenReturn(List.of(sickNote));
 
         final List<AbsencePeriod> actualAbsences = sut.getOpenAbsences(List.of(batman), start, end);
         assertThat(actualAbsences).hasSize(2);
@@ -625,7 +693,7 @@ class AbsenceServiceImplTest {
                 .dayLength(DayLength.NOON)
                 .build();
 
-        when(sickNoteService.getForStatesAndPerson(any(), any(), any(), any())).thenReturn(List.of(sickNote));
+        when(sickNoteService.getForStatesAndPerson(any(), any(), any(), any(), any())).thenReturn(List.of(sickNote));
 
         final List<AbsencePeriod> actualAbsences = sut.getOpenAbsences(List.of(batman), start, end);
         assertThat(actualAbsences).hasSize(2);
@@ -704,7 +772,7 @@ class AbsenceServiceImplTest {
             .dayLength(FULL)
             .build();
 
-        when(sickNoteService.getForStatesAndPerson(any(), any(), any(), any())).thenReturn(List.of(sickNote));
+        when(sickNoteService.getForStatesAndPerson(any(), any(), any(), any(), any())).thenReturn(List.of(sickNote));
 
         final List<AbsencePeriod> actualAbsences = sut.getOpenAbsences(List.of(batman), start, end);
 
@@ -1012,7 +1080,7 @@ class AbsenceServiceImplTest {
 
         sut.getClosedAbsences(List.of(batman, superman), start, end);
 
-        verify(sickNoteService).getForStatesAndPerson(List.of(CONVERTED_TO_VACATION, SickNoteStatus.CANCELLED), List.of(batman, superman), start, end);
+        verify(sickNoteService).getForStatesAndPerson(List.of(CONVERTED_TO_VACATION, SickNoteStatus.CANCELLED), List.of(batman, superman), start, end, Map.of());
     }
 
     @Test
@@ -1176,7 +1244,7 @@ class AbsenceServiceImplTest {
                 .dayLength(DayLength.MORNING)
                 .build();
 
-        when(sickNoteService.getForStatesAndPerson(any(), any(), any(), any())).thenReturn(List.of(sickNote));
+        when(sickNoteService.getForStatesAndPerson(any(), any(), any(), any(), any())).thenReturn(List.of(sickNote));
 
         final List<AbsencePeriod> actualAbsences = sut.getClosedAbsences(List.of(batman), start, end);
         assertThat(actualAbsences).hasSize(1);
@@ -1212,7 +1280,7 @@ class AbsenceServiceImplTest {
                 .dayLength(DayLength.NOON)
                 .build();
 
-        when(sickNoteService.getForStatesAndPerson(any(), any(), any(), any())).thenReturn(List.of(sickNote));
+        when(sickNoteService.getForStatesAndPerson(any(), any(), any(), any(), any())).thenReturn(List.of(sickNote));
 
         final List<AbsencePeriod> actualAbsences = sut.getClosedAbsences(List.of(batman), start, end);
         assertThat(actualAbsences).hasSize(1);
@@ -1258,7 +1326,7 @@ class AbsenceServiceImplTest {
             .dayLength(DayLength.NOON)
             .build();
 
-        when(sickNoteService.getForStatesAndPerson(any(), any(), any(), any())).thenReturn(List.of(sickNote));
+        when(sickNoteService.getForStatesAndPerson(any(), any(), any(), any(), any())).thenReturn(List.of(sickNote));
 
         final List<AbsencePeriod> actualAbsences = sut.getClosedAbsences(List.of(batman), start, end);
         assertThat(actualAbsences).hasSize(2);
@@ -1337,7 +1405,7 @@ class AbsenceServiceImplTest {
                 .dayLength(FULL)
                 .build();
 
-        when(sickNoteService.getForStatesAndPerson(any(), any(), any(), any())).thenReturn(List.of(sickNote));
+        when(sickNoteService.getForStatesAndPerson(any(), any(), any(), any(), any())).thenReturn(List.of(sickNote));
 
         final List<AbsencePeriod> actualAbsences = sut.getClosedAbsences(List.of(batman), start, end);
 
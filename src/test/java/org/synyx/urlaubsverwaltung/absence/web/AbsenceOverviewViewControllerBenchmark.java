@@ -0,0 +1,180 @@
+package org.synyx.urlaubsverwaltung.absence.web;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.ui.ExtendedModelMap;
+import org.springframework.ui.Model;
+import org.synyx.urlaubsverwaltung.absence.AbsencePeriod;
+import org.synyx.urlaubsverwaltung.absence.AbsenceService;
+import org.synyx.urlaubsverwaltung.absence.DateRange;
+import org.synyx.urlaubsverwaltung.application.vacationtype.ProvidedVacationType;
+import org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory;
+import org.synyx.urlaubsverwaltung.application.vacationtype.VacationType;
+import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeColor;
+import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeService;
+import org.synyx.urlaubsverwaltung.department.DepartmentService;
+import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.publicholiday.PublicHolidaysService;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTime;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeService;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.time.ZoneOffset.UTC;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.person.Role.BOSS;
+import static org.synyx.urlaubsverwaltung.person.Role.USER;
+import static org.synyx.urlaubsverwaltung.workingtime.FederalState.GERMANY_BADEN_WUERTTEMBERG;
+
+/**
+ * Measures building the absence overview of a full year for 1.000 persons with the services mocked away, once for
+ * the first block of persons rendered initially and once for all blocks of persons loaded one after another.
+ * <p>
+ * Run {@link #main(String[])} after {@code ./mvnw test-compile}, which generates the JMH benchmark classes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AbsenceOverviewViewControllerBenchmark {
+
+    private static final int PERSONS = 1000;
+    private static final int YEAR = 2023;
+
+    private AbsenceOverviewViewController sut;
+
+    @Setup
+    public void setup() {
+        final LocalDate start = LocalDate.of(YEAR, 1, 1);
+        final LocalDate end = LocalDate.of(YEAR, 12, 31);
+
+        final Person signedInUser = new Person("boss", "Boss", "Bruce", "boss@example.org");
+        signedInUser.setId(0L);
+        signedInUser.setPermissions(List.of(USER, BOSS));
+
+        final StaticMessageSource messageSource = new StaticMessageSource();
+        messageSource.setUseCodeAsDefaultMessage(true);
+
+        final VacationType<?> vacationType = ProvidedVacationType.builder(messageSource)
+            .id(1L)
+            .messageKey("application.data.vacationType.holiday")
+            .category(VacationCategory.HOLIDAY)
+            .color(VacationTypeColor.ORANGE)
+            .active(true)
+            .visibleToEveryone(true)
+            .build();
+
+        final List<Person> persons = new ArrayList<>();
+        final Map<Person, WorkingTime> workingTimes = new HashMap<>();
+        final Map<Person, List<AbsencePeriod>> absences = new HashMap<>();
+        for (int index = 1; index <= PERSONS; index++) {
+            final Person person = new Person("person" + index, "Last" + index, "First" + index, "person" + index + "@example.org");
+            person.setId((long) index);
+            person.setPermissions(List.of(USER));
+            persons.add(person);
+
+            final WorkingTime workingTime = new WorkingTime(person, start, GERMANY_BADEN_WUERTTEMBERG, true);
+            workingTime.setWorkingDays(List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY, DayOfWeek.FRIDAY), DayLength.FULL);
+            workingTimes.put(person, workingTime);
+
+            final List<AbsencePeriod.Record> noWorkdays = new ArrayList<>();
+            for (LocalDate date : new DateRange(start, end)) {
+                if (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                    noWorkdays.add(new AbsencePeriod.Record(date, person, new AbsencePeriod.RecordMorningNoWorkday(person), new AbsencePeriod.RecordNoonNoWorkday(person)));
+                }
+            }
+            absences.computeIfAbsent(person, key -> new ArrayList<>()).add(new AbsencePeriod(noWorkdays));
+
+            // six vacations of one week spread over the year
+            for (int month = 1; month <= 12; month += 2) {
+                final List<AbsencePeriod.Record> vacationDays = new ArrayList<>();
+                final LocalDate vacationStart = LocalDate.of(YEAR, month, 1 + index % 20);
+                for (LocalDate date : new DateRange(vacationStart, vacationStart.plusDays(6))) {
+                    vacationDays.add(new AbsencePeriod.Record(date, person,
+                        new AbsencePeriod.RecordMorningVacation(person, (long) index, AbsencePeriod.AbsenceStatus.ALLOWED, "HOLIDAY", 1L, true),
+                        new AbsencePeriod.RecordNoonVacation(person, (long) index, AbsencePeriod.AbsenceStatus.ALLOWED, "HOLIDAY", 1L, true)));
+                }
+                absences.get(person).add(new AbsencePeriod(vacationDays));
+            }
+        }
+
+        final PersonService personService = mock(PersonService.class);
+        when(personService.getSignedInUser()).thenReturn(signedInUser);
+        when(personService.getActivePersons()).thenReturn(persons);
+
+        final WorkingTimeService workingTimeService = mock(WorkingTimeService.class);
+        when(workingTimeService.getByPersons(anyList())).thenAnswer(invocation -> invocation.<List<Person>>getArgument(0).stream()
+            .map(workingTimes::get)
+            .toList());
+
+        final AbsenceService absenceService = mock(AbsenceService.class);
+        when(absenceService.getOpenAbsences(anyList(), eq(start), eq(end))).thenAnswer(invocation -> invocation.<List<Person>>getArgument(0).stream()
+            .map(absences::get)
+            .flatMap(List::stream)
+            .toList());
+
+        final VacationTypeService vacationTypeService = mock(VacationTypeService.class);
+        when(vacationTypeService.getAllVacationTypes()).thenReturn(List.of(vacationType));
+
+        final PublicHolidaysService publicHolidaysService = mock(PublicHolidaysService.class);
+        when(publicHolidaysService.getPublicHolidays(any(), any(), any())).thenReturn(List.of());
+
+        final Clock clock = Clock.fixed(Instant.parse(YEAR + "-06-15T00:00:00Z"), UTC);
+
+        sut = new AbsenceOverviewViewController(personService, mock(DepartmentService.class), messageSource, clock,
+            publicHolidaysService, absenceService, workingTimeService, vacationTypeService);
+    }
+
+    @Benchmark
+    public Model fullYearFirstPersonsPage() {
+        final Model model = new ExtendedModelMap();
+        sut.absenceOverview(YEAR, "", List.of(), 0, false, null, model, Locale.GERMAN);
+        return model;
+    }
+
+    @Benchmark
+    public List<Model> fullYearAllPersonsPages() {
+        final List<Model> models = new ArrayList<>();
+        Integer personsPage = 0;
+        while (personsPage != null) {
+            final Model model = new ExtendedModelMap();
+            sut.absenceOverview(YEAR, "", List.of(), personsPage, false, "frame-absence-overview-persons-" + personsPage, model, Locale.GERMAN);
+            models.add(model);
+            personsPage = (Integer) model.getAttribute("nextPersonsPage");
+        }
+        return models;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(AbsenceOverviewViewControllerBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -40,6 +40,7 @@ import java.time.temporal.TemporalAdjusters;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static java.time.Month.JANUARY;
@@ -48,12 +49,14 @@ import static org.hamcrest.CoreMatchers.allOf;
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasProperty;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -181,6 +184,101 @@ class AbsenceOverviewViewControllerTest {
             .andExpect(view().name("absences/absences-overview"));
     }
 
+    @Test
+    void ensureOnlyFirstPersonsPageIsRenderedInitially() throws Exception {
+
+        final var person = new Person();
+        person.setId(1L);
+        person.setPermissions(List.of(USER, OFFICE));
+        when(personService.getSignedInUser()).thenReturn(person);
+
+        when(departmentService.getNumberOfDepartments()).thenReturn(0L);
+
+        final List<Person> activePersons = activePersons(AbsenceOverviewViewController.PERSONS_PAGE_SIZE + 1);
+        when(personService.getActivePersons()).thenReturn(activePersons);
+
+        perform(get("/web/absences"))
+            .andExpect(status().isOk())
+            .andExpect(model().attribute("personsPage", 0))
+            .andExpect(model().attribute("nextPersonsPage", 1))
+            .andExpect(model().attribute("absenceOverview", hasProperty("months", contains(hasProperty("persons", hasSize(AbsenceOverviewViewController.PERSONS_PAGE_SIZE))))))
+            .andExpect(view().name("absences/absences-overview"));
+
+        verify(absenceService).getOpenAbsences(eq(activePersons.subList(0, AbsenceOverviewViewController.PERSONS_PAGE_SIZE)), any(), any());
+    }
+
+    @Test
+    void ensureFollowingPersonsPageIsRenderedAsTurboFrame() throws Exception {
+
+        final var person = new Person();
+        person.setId(1L);
+        person.setPermissions(List.of(USER, OFFICE));
+        when(personService.getSignedInUser()).thenReturn(person);
+
+        when(departmentService.getNumberOfDepartments()).thenReturn(0L);
+
+        final List<Person> activePersons = activePersons(AbsenceOverviewViewController.PERSONS_PAGE_SIZE + 1);
+        when(personService.getActivePersons()).thenReturn(activePersons);
+
+        perform(get("/web/absences")
+            .param("personsPage", "1")
+            .header("Turbo-Frame", "frame-absence-overview-persons-1"))
+            .andExpect(status().isOk())
+            .andExpect(model().attribute("personsPage", 1))
+            .andExpect(model().attribute("nextPersonsPage", nullValue()))
+            .andExpect(model().attribute("absenceOverview", hasProperty("months", contains(hasProperty("persons", contains(hasProperty("id", is(activePersons.getLast().getId()))))))))
+            .andExpect(view().name("absences/absences-overview::persons-page"));
+
+        verify(absenceService).getOpenAbsences(eq(List.of(activePersons.getLast())), any(), any());
+    }
+
+    @Test
+    void ensurePersonsPageBeyondLastPersonIsRenderedWithoutPersons() throws Exception {
+
+        final var person = new Person();
+        person.setId(1L);
+        person.setPermissions(List.of(USER, OFFICE));
+        when(personService.getSignedInUser()).thenReturn(person);
+
+        when(departmentService.getNumberOfDepartments()).thenReturn(0L);
+
+        final List<Person> activePersons = activePersons(AbsenceOverviewViewController.PERSONS_PAGE_SIZE + 1);
+        when(personService.getActivePersons()).thenReturn(activePersons);
+
+        perform(get("/web/absences")
+            .param("personsPage", String.valueOf(Integer.MAX_VALUE))
+            .header("Turbo-Frame", "frame-absence-overview-persons-" + Integer.MAX_VALUE))
+            .andExpect(status().isOk())
+            .andExpect(model().attribute("personsPage", Integer.MAX_VALUE))
+            .andExpect(model().attribute("nextPersonsPage", nullValue()))
+            .andExpect(model().attribute("absenceOverview", hasProperty("months", contains(hasProperty("persons", empty())))))
+            .andExpect(view().name("absences/absences-overview::persons-page"));
+    }
+
+    @Test
+    void ensureAllPersonsAreRenderedAtOnceWhenRequested() throws Exception {
+
+        final var person = new Person();
+        person.setId(1L);
+        person.setPermissions(List.of(USER, OFFICE));
+        when(personService.getSignedInUser()).thenReturn(person);
+
+        when(departmentService.getNumberOfDepartments()).thenReturn(0L);
+
+        final List<Person> activePersons = activePersons(AbsenceOverviewViewController.PERSONS_PAGE_SIZE + 1);
+        when(personService.getActivePersons()).thenReturn(activePersons);
+
+        perform(get("/web/absences")
+            .param("allPersons", "true"))
+            .andExpect(status().isOk())
+            .andExpect(model().attribute("personsPage", 0))
+            .andExpect(model().attribute("nextPersonsPage", nullValue()))
+            .andExpect(model().attribute("absenceOverview", hasProperty("months", contains(hasProperty("persons", hasSize(AbsenceOverviewViewController.PERSONS_PAGE_SIZE + 1))))))
+            .andExpect(view().name("absences/absences-overview"));
+
+        verify(absenceService).getOpenAbsences(eq(activePersons), any(), any());
+    }
+
     @ParameterizedTest
     @EnumSource(value = Role.class, names = {"OFFICE", "BOSS"})
     void ensureWithDepartmentsAndInDepartmentAndFilterInactivePersonsAsBossOrOffice(Role role) throws Exception {
@@ -4901,6 +4999,18 @@ class AbsenceOverviewViewControllerTest {
         return person;
     }
 
+    private static List<Person> activePersons(int count) {
+        return IntStream.rangeClosed(1, count)
+            .mapToObj(index -> {
+                final Person activePerson = new Person();
+                activePerson.setId(index + 1L);
+                activePerson.setFirstName("first" + index);
+                activePerson.setLastName("last" + index);
+                return activePerson;
+            })
+            .toList();
+    }
+
     private ResultActions perform(MockHttpServletRequestBuilder builder) throws Exception {
         return standaloneSetup(sut).build().perform(builder);
     }
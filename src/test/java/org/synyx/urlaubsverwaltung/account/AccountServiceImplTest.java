@@ -22,6 +22,7 @@ import static java.time.Month.APRIL;
 import static java.time.Month.JUNE;
 import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
@@ -174,6 +175,28 @@ class AccountServiceImplTest {
         assertThat(holidaysAccount).isEmpty();
     }
 
+    @Test
+    void ensureReturnsHolidaysAccountsOfYear() {
+
+        when(settingsService.getSettings()).thenReturn(new Settings());
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        final Person person2 = new Person("muster2", "Muster2", "Marlene2", "muster2@example.org");
+
+        final LocalDate from = Year.of(2012).atDay(1);
+        final LocalDate to = DateUtil.getLastDayOfYear(2012);
+        final AccountEntity accountEntity = new AccountEntity(person, from, to, true, LocalDate.of(2012, APRIL, 1), new BigDecimal("30"), ZERO, ZERO, null);
+        accountEntity.setId(1L);
+        final AccountEntity accountEntity2 = new AccountEntity(person2, from, to, null, LocalDate.of(2012, APRIL, 1), new BigDecimal("28"), ZERO, ZERO, null);
+        accountEntity2.setId(2L);
+        when(accountRepository.findAccountByYear(2012)).thenReturn(List.of(accountEntity, accountEntity2));
+
+        final List<Account> holidaysAccounts = sut.getHolidaysAccounts(2012);
+        assertThat(holidaysAccounts)
+            .extracting(Account::getId, Account::getPerson, Account::isDoRemainingVacationDaysExpireGlobally)
+            .containsExactly(tuple(1L, person, true), tuple(2L, person2, true));
+    }
+
     @Test
     void ensureCreateHolidaysAccountDraftWithGloballyDisabledExpiration() {
 
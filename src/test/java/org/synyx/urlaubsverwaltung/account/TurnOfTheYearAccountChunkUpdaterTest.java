@@ -0,0 +1,82 @@
+package org.synyx.urlaubsverwaltung.account;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.TestDataCreator.createHolidaysAccount;
+
+@ExtendWith(MockitoExtension.class)
+class TurnOfTheYearAccountChunkUpdaterTest {
+
+    private TurnOfTheYearAccountChunkUpdater sut;
+
+    @Mock
+    private AccountService accountService;
+    @Mock
+    private AccountInteractionService accountInteractionService;
+
+    @BeforeEach
+    void setUp() {
+        sut = new TurnOfTheYearAccountChunkUpdater(accountService, accountInteractionService);
+    }
+
+    @Test
+    void ensureUpdatesHolidaysAccountsOfPersonsWithAccountOfLastYear() {
+
+        final Person user1 = person(1L);
+        final Person user2 = person(2L);
+
+        final Account account1 = createHolidaysAccount(user1, 2022);
+        when(accountService.getHolidaysAccount(2022, List.of(user1, user2))).thenReturn(List.of(account1));
+
+        final Account newAccount1 = createHolidaysAccount(user1, 2023);
+        when(accountInteractionService.autoCreateOrUpdateNextYearsHolidaysAccount(account1)).thenReturn(newAccount1);
+
+        final List<Account> updatedAccounts = sut.updateAccounts(2023, List.of(user1, user2));
+        assertThat(updatedAccounts).containsExactly(newAccount1);
+    }
+
+    @Test
+    void ensureDoesNotUpdateHolidaysAccountWithoutAnnualVacationDays() {
+
+        final Person user = person(1L);
+
+        final Account account = createHolidaysAccount(user, 2022);
+        account.setAnnualVacationDays(null);
+        when(accountService.getHolidaysAccount(2022, List.of(user))).thenReturn(List.of(account));
+
+        assertThat(sut.updateAccounts(2023, List.of(user))).isEmpty();
+        verify(accountInteractionService, never()).autoCreateOrUpdateNextYearsHolidaysAccount(any());
+    }
+
+    @Test
+    void ensureReturnsUpdatedHolidaysAccounts() {
+
+        final Person user1 = person(1L);
+        final Person user2 = person(2L);
+
+        when(accountService.getHolidaysAccount(2022, List.of(user1, user2))).thenReturn(List.of(createHolidaysAccount(user1, 2022)));
+
+        final Account newAccount1 = createHolidaysAccount(user1, 2023);
+        when(accountService.getHolidaysAccount(2023, List.of(user1))).thenReturn(List.of(newAccount1));
+
+        assertThat(sut.getUpdatedAccounts(2023, List.of(user1, user2))).containsExactly(newAccount1);
+    }
+
+    private static Person person(long id) {
+        final Person person = new Person("muster" + id, "Muster", "Marlene", "muster@example.org");
+        person.setId(id);
+        return person;
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.scheduling.config.CronTask;
 import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 import org.synyx.urlaubsverwaltung.config.ScheduleLocking;
 
+import java.time.Duration;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -31,7 +32,7 @@ class TurnOfTheYearAccountUpdaterConfigurationTest {
     @Test
     void updatesAccountsWithGivenCronJobInterval() {
 
-        when(scheduleLocking.withLock(eq("UpdateAccountsForNextPeriod"), any(Runnable.class))).thenAnswer(returnsSecondArg());
+        when(scheduleLocking.withLock(eq("UpdateAccountsForNextPeriod"), any(Runnable.class), eq(Duration.ofHours(1)), any(Duration.class))).thenAnswer(returnsSecondArg());
 
         final AccountProperties properties = new AccountProperties();
         final TurnOfTheYearAccountUpdaterService service = mock(TurnOfTheYearAccountUpdaterService.class);
@@ -41,14 +42,34 @@ class TurnOfTheYearAccountUpdaterConfigurationTest {
         sut.configureTasks(taskRegistrar);
 
         final List<CronTask> cronTaskList = taskRegistrar.getCronTaskList();
-        assertThat(cronTaskList).hasSize(1);
+        assertThat(cronTaskList).hasSize(2);
 
         final CronTask cronTask = cronTaskList.get(0);
         assertThat(cronTask.getExpression()).isEqualTo("0 0 5 1 1 *");
 
+        final CronTask resumeCronTask = cronTaskList.get(1);
+        assertThat(resumeCronTask.getExpression()).isEqualTo("0 30 * * * *");
+
         verifyNoInteractions(service);
 
         cronTask.getRunnable().run();
         verify(service).updateAccountsForNextPeriod();
+
+        resumeCronTask.getRunnable().run();
+        verify(service).resumeAccountsUpdateForNextPeriod();
+    }
+
+    @Test
+    void resumesAccountsUpdateWithoutKeepingTheLock() {
+
+        when(scheduleLocking.withLock(eq("UpdateAccountsForNextPeriod"), any(Runnable.class), any(Duration.class), any(Duration.class))).thenAnswer(returnsSecondArg());
+
+        final TurnOfTheYearAccountUpdaterService service = mock(TurnOfTheYearAccountUpdaterService.class);
+        final TurnOfTheYearAccountUpdaterConfiguration sut = new TurnOfTheYearAccountUpdaterConfiguration(new AccountProperties(), service, scheduleLocking, taskScheduler);
+
+        sut.configureTasks(new ScheduledTaskRegistrar());
+
+        verify(scheduleLocking).withLock(eq("UpdateAccountsForNextPeriod"), any(Runnable.class), eq(Duration.ofHours(1)), eq(Duration.ofMinutes(2)));
+        verify(scheduleLocking).withLock(eq("UpdateAccountsForNextPeriod"), any(Runnable.class), eq(Duration.ofHours(1)), eq(Duration.ZERO));
     }
 }
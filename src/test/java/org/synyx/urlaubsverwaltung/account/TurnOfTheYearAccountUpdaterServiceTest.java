@@ -1,9 +1,12 @@
 package org.synyx.urlaubsverwaltung.account;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.synyx.urlaubsverwaltung.mail.Mail;
@@ -17,14 +20,17 @@ import java.time.Year;
 import java.util.List;
 import java.util.Optional;
 
-import static java.util.Arrays.asList;
 import static java.util.Locale.GERMAN;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
-import static org.mockito.Mockito.mock;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.TestDataCreator.createHolidaysAccount;
 import static org.synyx.urlaubsverwaltung.person.Role.OFFICE;
@@ -34,68 +40,65 @@ class TurnOfTheYearAccountUpdaterServiceTest {
 
     private static final Clock clock = Clock.systemUTC();
     private static final int CURRENT_YEAR = Year.now(clock.getZone()).getValue();
-    private static final int LAST_YEAR = CURRENT_YEAR - 1;
 
     private TurnOfTheYearAccountUpdaterService sut;
 
     @Mock
     private PersonService personService;
     @Mock
-    private AccountService accountService;
+    private TurnOfTheYearAccountChunkUpdater turnOfTheYearAccountChunkUpdater;
     @Mock
-    private AccountInteractionService accountInteractionService;
+    private TurnOfTheYearAccountUpdateCheckpointRepository checkpointRepository;
     @Mock
     private MailService mailService;
     @Mock
     private VacationDaysReminderService vacationDaysReminderService;
 
+    @Captor
+    private ArgumentCaptor<TurnOfTheYearAccountUpdateCheckpointEntity> checkpointArgumentCaptor;
+
+    private AccountProperties accountProperties;
+    private SimpleMeterRegistry meterRegistry;
+
     @BeforeEach
     void setUp() {
-        sut = new TurnOfTheYearAccountUpdaterService(personService, accountService, accountInteractionService, vacationDaysReminderService, mailService, clock);
+        accountProperties = new AccountProperties();
+        accountProperties.getUpdate().setChunkSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+
+        sut = new TurnOfTheYearAccountUpdaterService(personService, turnOfTheYearAccountChunkUpdater, checkpointRepository,
+            accountProperties, vacationDaysReminderService, mailService, meterRegistry, clock);
     }
 
     @Test
-    void ensureUpdatesHolidaysAccountsOfAllActivePersons() {
-
-        final Person user1 = new Person("muster", "Muster", "Marlene", "muster@example.org");
-        final Person user2 = new Person("muster", "Muster", "Marlene", "muster@example.org");
-        final Person user3 = new Person("muster", "Muster", "Marlene", "muster@example.org");
-
-        final Account account1 = createHolidaysAccount(user1, LAST_YEAR);
-        account1.setId(1L);
-        final Account account2 = createHolidaysAccount(user2, LAST_YEAR);
-        account2.setId(2L);
-        final Account account3 = createHolidaysAccount(user3, LAST_YEAR);
-        account3.setId(3L);
-
-        when(personService.getActivePersons()).thenReturn(asList(user1, user2, user3));
-        when(accountService.getHolidaysAccount(LAST_YEAR, user1)).thenReturn(Optional.of(account1));
-        when(accountService.getHolidaysAccount(LAST_YEAR, user2)).thenReturn(Optional.of(account2));
-        when(accountService.getHolidaysAccount(LAST_YEAR, user3)).thenReturn(Optional.of(account3));
-
-        final Account newAccount = mock(Account.class);
-        when(newAccount.getRemainingVacationDays()).thenReturn(BigDecimal.TEN);
-        when(accountInteractionService.autoCreateOrUpdateNextYearsHolidaysAccount(any(Account.class)))
-            .thenReturn(newAccount);
-
-        final Person office = new Person("muster", "Muster", "Marlene", "muster@example.org");
-        when(personService.getActivePersonsByRole(OFFICE)).thenReturn(List.of(office));
+    void ensureUpdatesHolidaysAccountsOfAllActivePersonsInChunks() {
 
-        sut.updateAccountsForNextPeriod();
+        final Person user1 = person(1L);
+        final Person user2 = person(2L);
+        final Person user3 = person(3L);
+        when(personService.getActivePersons()).thenReturn(List.of(user3, user1, user2));
 
-        verify(personService).getActivePersons();
+        final Account account1 = createHolidaysAccount(user1, CURRENT_YEAR);
+        final Account account2 = createHolidaysAccount(user2, CURRENT_YEAR);
+        final Account account3 = createHolidaysAccount(user3, CURRENT_YEAR);
+        when(turnOfTheYearAccountChunkUpdater.updateAccounts(CURRENT_YEAR, List.of(user1, user2))).thenReturn(List.of(account1, account2));
+        when(turnOfTheYearAccountChunkUpdater.updateAccounts(CURRENT_YEAR, List.of(user3))).thenReturn(List.of(account3));
 
-        verify(accountService, times(3))
-            .getHolidaysAccount(anyInt(), any(Person.class));
-        verify(accountService).getHolidaysAccount(LAST_YEAR, user1);
-        verify(accountService).getHolidaysAccount(LAST_YEAR, user2);
-        verify(accountService).getHolidaysAccount(LAST_YEAR, user3);
+        final Person office = person(4L);
+        when(personService.getActivePersonsByRole(OFFICE)).thenReturn(List.of(office));
+
+        sut.updateAccountsForNextPeriod();
 
-        verify(accountInteractionService, times(3))
-            .autoCreateOrUpdateNextYearsHolidaysAccount(any(Account.class));
-        verify(accountInteractionService).autoCreateOrUpdateNextYearsHolidaysAccount(account1);
-        verify(accountInteractionService).autoCreateOrUpdateNextYearsHolidaysAccount(account2);
-        verify(accountInteractionService).autoCreateOrUpdateNextYearsHolidaysAccount(account3);
+        final InOrder inOrder = inOrder(turnOfTheYearAccountChunkUpdater, checkpointRepository);
+        inOrder.verify(checkpointRepository).save(checkpointArgumentCaptor.capture());
+        inOrder.verify(turnOfTheYearAccountChunkUpdater).updateAccounts(CURRENT_YEAR, List.of(user1, user2));
+        inOrder.verify(checkpointRepository).save(checkpointArgumentCaptor.capture());
+        inOrder.verify(turnOfTheYearAccountChunkUpdater).updateAccounts(CURRENT_YEAR, List.of(user3));
+        inOrder.verify(checkpointRepository).save(checkpointArgumentCaptor.capture());
+        inOrder.verify(checkpointRepository).deleteById(CURRENT_YEAR);
+        assertThat(checkpointArgumentCaptor.getAllValues())
+            .extracting(TurnOfTheYearAccountUpdateCheckpointEntity::getLastPersonId)
+            .containsExactly(0L, 2L, 3L);
 
         verify(vacationDaysReminderService).remindForRemainingVacationDays();
 
@@ -105,6 +108,163 @@ class TurnOfTheYearAccountUpdaterServiceTest {
         assertThat(mail.getMailAddressRecipients()).hasValue(List.of(office));
         assertThat(mail.getSubjectMessageKey()).isEqualTo("subject.account.updatedRemainingDays");
         assertThat(mail.getTemplateName()).isEqualTo("account_cron_updated_accounts_turn_of_the_year");
-        assertThat(mail.getTemplateModel(GERMAN)).containsEntry("totalRemainingVacationDays", BigDecimal.valueOf(30));
+        assertThat(mail.getTemplateModel(GERMAN))
+            .containsEntry("accounts", List.of(account1, account2, account3))
+            .containsEntry("totalRemainingVacationDays", BigDecimal.valueOf(9));
+
+        assertThat(meterRegistry.get("account.update.persons").tag("state", "total").gauge().value()).isEqualTo(3);
+        assertThat(meterRegistry.get("account.update.persons").tag("state", "updated").gauge().value()).isEqualTo(3);
+    }
+
+    @Test
+    void ensureResumesUpdateAfterLastUpdatedPerson() {
+
+        final Person user1 = person(1L);
+        final Person user2 = person(2L);
+        final Person user3 = person(3L);
+        when(personService.getActivePersons()).thenReturn(List.of(user1, user2, user3));
+        when(checkpointRepository.findById(CURRENT_YEAR)).thenReturn(Optional.of(new TurnOfTheYearAccountUpdateCheckpointEntity(CURRENT_YEAR, 2L)));
+
+        final Account account1 = createHolidaysAccount(user1, CURRENT_YEAR);
+        final Account account2 = createHolidaysAccount(user2, CURRENT_YEAR);
+        final Account account3 = createHolidaysAccount(user3, CURRENT_YEAR);
+        when(turnOfTheYearAccountChunkUpdater.getUpdatedAccounts(CURRENT_YEAR, List.of(user1, user2))).thenReturn(List.of(account1, account2));
+        when(turnOfTheYearAccountChunkUpdater.updateAccounts(CURRENT_YEAR, List.of(user3))).thenReturn(List.of(account3));
+
+        sut.updateAccountsForNextPeriod();
+
+        verify(turnOfTheYearAccountChunkUpdater, never()).updateAccounts(CURRENT_YEAR, List.of(user1, user2));
+        verify(checkpointRepository).save(checkpointArgumentCaptor.capture());
+        assertThat(checkpointArgumentCaptor.getValue().getLastPersonId()).isEqualTo(3L);
+        verify(checkpointRepository).deleteById(CURRENT_YEAR);
+
+        final ArgumentCaptor<Mail> argument = ArgumentCaptor.forClass(Mail.class);
+        verify(mailService).send(argument.capture());
+        assertThat(argument.getValue().getTemplateModel(GERMAN)).containsEntry("accounts", List.of(account1, account2, account3));
+    }
+
+    @Test
+    void ensureResumesAbortedUpdateOfCurrentYear() {
+
+        final Person user1 = person(1L);
+        final Person user2 = person(2L);
+        final Person user3 = person(3L);
+        when(personService.getActivePersons()).thenReturn(List.of(user1, user2, user3));
+        when(checkpointRepository.existsById(CURRENT_YEAR)).thenReturn(true);
+        when(checkpointRepository.findById(CURRENT_YEAR)).thenReturn(Optional.of(new TurnOfTheYearAccountUpdateCheckpointEntity(CURRENT_YEAR, 2L)));
+
+        sut.resumeAccountsUpdateForNextPeriod();
+
+        verify(turnOfTheYearAccountChunkUpdater).getUpdatedAccounts(CURRENT_YEAR, List.of(user1, user2));
+        verify(turnOfTheYearAccountChunkUpdater).updateAccounts(CURRENT_YEAR, List.of(user3));
+        verify(checkpointRepository).deleteById(CURRENT_YEAR);
+    }
+
+    @Test
+    void ensureDoesNotResumeWithoutAbortedUpdateOfCurrentYear() {
+
+        when(checkpointRepository.existsById(CURRENT_YEAR)).thenReturn(false);
+
+        sut.resumeAccountsUpdateForNextPeriod();
+
+        verifyNoInteractions(personService, turnOfTheYearAccountChunkUpdater, mailService, vacationDaysReminderService);
+        verify(checkpointRepository, never()).deleteById(anyInt());
+    }
+
+    @Test
+    void ensureKeepsProgressOfUpdatedChunksIfUpdateOfChunkFails() {
+
+        final Person user1 = person(1L);
+        final Person user2 = person(2L);
+        final Person user3 = person(3L);
+        when(personService.getActivePersons()).thenReturn(List.of(user1, user2, user3));
+
+        when(turnOfTheYearAccountChunkUpdater.updateAccounts(CURRENT_YEAR, List.of(user1, user2))).thenReturn(List.of());
+        when(turnOfTheYearAccountChunkUpdater.updateAccounts(CURRENT_YEAR, List.of(user3))).thenThrow(new IllegalStateException("failed"));
+
+        assertThatThrownBy(() -> sut.updateAccountsForNextPeriod()).isInstanceOf(IllegalStateException.class);
+
+        verify(checkpointRepository, times(2)).save(checkpointArgumentCaptor.capture());
+        assertThat(checkpointArgumentCaptor.getAllValues())
+            .extracting(TurnOfTheYearAccountUpdateCheckpointEntity::getLastPersonId)
+            .containsExactly(0L, 2L);
+        verify(checkpointRepository, never()).deleteById(anyInt());
+        verifyNoInteractions(mailService, vacationDaysReminderService);
+
+        assertThat(meterRegistry.get("account.update.persons").tag("state", "updated").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void ensureSavesStartedCheckpointIfFirstChunkFails() {
+
+        final Person user1 = person(1L);
+        when(personService.getActivePersons()).thenReturn(List.of(user1));
+        when(turnOfTheYearAccountChunkUpdater.updateAccounts(CURRENT_YEAR, List.of(user1))).thenThrow(new IllegalStateException("failed"));
+
+        assertThatThrownBy(() -> sut.updateAccountsForNextPeriod()).isInstanceOf(IllegalStateException.class);
+
+        verify(checkpointRepository).save(checkpointArgumentCaptor.capture());
+        assertThat(checkpointArgumentCaptor.getValue().getYear()).isEqualTo(CURRENT_YEAR);
+        assertThat(checkpointArgumentCaptor.getValue().getLastPersonId()).isZero();
+        verify(checkpointRepository, never()).deleteById(anyInt());
+    }
+
+    @Test
+    void ensureResumesUpdateAbortedInFirstChunk() {
+
+        final Person user1 = person(1L);
+        final Person user2 = person(2L);
+        when(personService.getActivePersons()).thenReturn(List.of(user1, user2));
+        when(checkpointRepository.existsById(CURRENT_YEAR)).thenReturn(true);
+        when(checkpointRepository.findById(CURRENT_YEAR)).thenReturn(Optional.of(new TurnOfTheYearAccountUpdateCheckpointEntity(CURRENT_YEAR, 0L)));
+
+        final Account account1 = createHolidaysAccount(user1, CURRENT_YEAR);
+        final Account account2 = createHolidaysAccount(user2, CURRENT_YEAR);
+        when(turnOfTheYearAccountChunkUpdater.updateAccounts(CURRENT_YEAR, List.of(user1, user2))).thenReturn(List.of(account1, account2));
+
+        sut.resumeAccountsUpdateForNextPeriod();
+
+        verify(turnOfTheYearAccountChunkUpdater, never()).getUpdatedAccounts(anyInt(), any());
+        verify(checkpointRepository).save(checkpointArgumentCaptor.capture());
+        assertThat(checkpointArgumentCaptor.getValue().getLastPersonId()).isEqualTo(2L);
+        verify(checkpointRepository).deleteById(CURRENT_YEAR);
+
+        final ArgumentCaptor<Mail> argument = ArgumentCaptor.forClass(Mail.class);
+        verify(mailService).send(argument.capture());
+        assertThat(argument.getValue().getTemplateModel(GERMAN)).containsEntry("accounts", List.of(account1, account2));
+    }
+
+    @Test
+    void ensureUpdatesChunksInParallelAndSavesProgressInOrderOfChunks() {
+
+        accountProperties.getUpdate().setParallelism(2);
+        accountProperties.getUpdate().setChunkSize(1);
+
+        final Person user1 = person(1L);
+        final Person user2 = person(2L);
+        final Person user3 = person(3L);
+        when(personService.getActivePersons()).thenReturn(List.of(user1, user2, user3));
+        when(turnOfTheYearAccountChunkUpdater.updateAccounts(anyInt(), anyList()))
+            .thenAnswer(invocation -> List.of(createHolidaysAccount(invocation.<List<Person>>getArgument(1).get(0), CURRENT_YEAR)));
+
+        sut.updateAccountsForNextPeriod();
+
+        final InOrder inOrder = inOrder(checkpointRepository);
+        inOrder.verify(checkpointRepository, times(4)).save(checkpointArgumentCaptor.capture());
+        inOrder.verify(checkpointRepository).deleteById(CURRENT_YEAR);
+        assertThat(checkpointArgumentCaptor.getAllValues())
+            .extracting(TurnOfTheYearAccountUpdateCheckpointEntity::getLastPersonId)
+            .containsExactly(0L, 1L, 2L, 3L);
+
+        final ArgumentCaptor<Mail> argument = ArgumentCaptor.forClass(Mail.class);
+        verify(mailService).send(argument.capture());
+        assertThat(argument.getValue().getTemplateModel(GERMAN)).containsEntry("totalRemainingVacationDays", BigDecimal.valueOf(9));
+        verify(turnOfTheYearAccountChunkUpdater, never()).getUpdatedAccounts(anyInt(), any());
+    }
+
+    private static Person person(long id) {
+        final Person person = new Person("muster" + id, "Muster", "Marlene", "muster@example.org");
+        person.setId(id);
+        return person;
     }
 }
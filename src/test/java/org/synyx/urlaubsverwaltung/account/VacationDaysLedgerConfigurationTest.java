@@ -0,0 +1,80 @@
+package org.synyx.urlaubsverwaltung.account;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.CronTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.synyx.urlaubsverwaltung.config.ScheduleLocking;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.returnsSecondArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VacationDaysLedgerConfigurationTest {
+
+    private VacationDaysLedgerConfiguration sut;
+
+    @Mock
+    private VacationDaysLedger vacationDaysLedger;
+    @Mock
+    private ScheduleLocking scheduleLocking;
+    @Mock
+    private ThreadPoolTaskScheduler taskScheduler;
+
+    @BeforeEach
+    void setUp() {
+        sut = new VacationDaysLedgerConfiguration(new AccountProperties(), vacationDaysLedger, scheduleLocking, taskScheduler);
+    }
+
+    @Test
+    void ensureCronTaskForVacationDaysLedgerRebuildIsAdded() {
+
+        when(scheduleLocking.withLock(eq("RebuildVacationDaysLedger"), any(Runnable.class))).thenAnswer(returnsSecondArg());
+        when(scheduleLocking.withLock(eq("CheckVacationDaysLedger"), any(Runnable.class))).thenAnswer(returnsSecondArg());
+        when(vacationDaysLedger.rebuildNextChunk()).thenReturn(true, false);
+
+        final ScheduledTaskRegistrar taskRegistrar = new ScheduledTaskRegistrar();
+        sut.configureTasks(taskRegistrar);
+
+        final List<CronTask> cronTaskList = taskRegistrar.getCronTaskList();
+        assertThat(cronTaskList).hasSize(2);
+
+        final CronTask rebuildCronTask = cronTaskList.get(0);
+        assertThat(rebuildCronTask.getExpression()).isEqualTo("0 * * * * *");
+        rebuildCronTask.getRunnable().run();
+        verify(vacationDaysLedger, times(2)).rebuildNextChunk();
+    }
+
+    @Test
+    void ensureCronTaskForVacationDaysLedgerCheckIsAdded() {
+
+        when(scheduleLocking.withLock(eq("RebuildVacationDaysLedger"), any(Runnable.class))).thenAnswer(returnsSecondArg());
+        when(scheduleLocking.withLock(eq("CheckVacationDaysLedger"), any(Runnable.class))).thenAnswer(returnsSecondArg());
+        when(vacationDaysLedger.checkNextChunk(null)).thenReturn(Optional.of(100L));
+        when(vacationDaysLedger.checkNextChunk(100L)).thenReturn(Optional.empty());
+
+        final ScheduledTaskRegistrar taskRegistrar = new ScheduledTaskRegistrar();
+        sut.configureTasks(taskRegistrar);
+
+        final List<CronTask> cronTaskList = taskRegistrar.getCronTaskList();
+        assertThat(cronTaskList).hasSize(2);
+
+        final CronTask checkCronTask = cronTaskList.get(1);
+        assertThat(checkCronTask.getExpression()).isEqualTo("0 30 4 * * *");
+        checkCronTask.getRunnable().run();
+        verify(vacationDaysLedger).checkNextChunk(null);
+        verify(vacationDaysLedger).checkNextChunk(100L);
+    }
+}
@@ -0,0 +1,429 @@
+package org.synyx.urlaubsverwaltung.account;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.data.domain.Limit;
+import org.synyx.urlaubsverwaltung.account.VacationDaysService.UsedVacationDaysYear;
+import org.synyx.urlaubsverwaltung.application.application.Application;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationAllowedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationUpdatedEvent;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.settings.Settings;
+import org.synyx.urlaubsverwaltung.settings.SettingsService;
+import org.synyx.urlaubsverwaltung.settings.SettingsUpdatedEvent;
+import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountException;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeUpdatedEvent;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import static java.math.BigDecimal.ZERO;
+import static java.time.Month.APRIL;
+import static java.time.Month.JANUARY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.TestDataCreator.createApplication;
+import static org.synyx.urlaubsverwaltung.TestDataCreator.createVacationType;
+import static org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory.OVERTIME;
+import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
+import static org.synyx.urlaubsverwaltung.workingtime.FederalState.GERMANY_BERLIN;
+
+@ExtendWith(MockitoExtension.class)
+class VacationDaysLedgerTest {
+
+    private VacationDaysLedger sut;
+
+    @Mock
+    private VacationDaysLedgerRepository vacationDaysLedgerRepository;
+    @Mock
+    private VacationDaysLedgerStateRepository vacationDaysLedgerStateRepository;
+    @Mock
+    private VacationDaysService vacationDaysService;
+    @Mock
+    private AccountService accountService;
+    @Mock
+    private PersonService personService;
+    @Mock
+    private SettingsService settingsService;
+
+    @Captor
+    private ArgumentCaptor<VacationDaysLedgerEntity> entryCaptor;
+
+    private final AccountProperties accountProperties = new AccountProperties();
+    private final Clock clock = Clock.fixed(Instant.parse("2023-06-01T10:00:00Z"), ZoneId.of("UTC"));
+
+    @BeforeEach
+    void setUp() {
+        sut = new VacationDaysLedger(vacationDaysLedgerRepository, vacationDaysLedgerStateRepository, vacationDaysService,
+            accountService, personService, settingsService, accountProperties, clock);
+    }
+
+    @Test
+    void ensureApplicationEventCreatesEntryOfAccountsOfApplication() {
+
+        final Person person = person();
+        final Application application = createApplication(person, LocalDate.of(2023, 5, 1), LocalDate.of(2023, 5, 5), FULL, new StaticMessageSource());
+
+        final Account account = account(1L, person, 2023);
+        when(accountService.getHolidaysAccount(2023, person)).thenReturn(Optional.of(account));
+        when(vacationDaysService.calculateUsedVacationDays(account)).thenReturn(new UsedVacationDaysYear(BigDecimal.valueOf(3), BigDecimal.valueOf(5)));
+
+        sut.on(ApplicationAllowedEvent.of(application));
+
+        verify(personService).lock(person);
+        verify(vacationDaysLedgerRepository).save(entryCaptor.capture());
+        assertThat(entryCaptor.getValue()).satisfies(entry -> {
+            assertThat(entry.getAccountId()).isEqualTo(1L);
+            assertThat(entry.getPerson()).isEqualTo(person);
+            assertThat(entry.getYear()).isEqualTo(2023);
+            assertThat(entry.getExpiryDate()).isEqualTo(LocalDate.of(2023, APRIL, 1));
+            assertThat(entry.isRemainingVacationDaysExpire()).isTrue();
+            assertThat(entry.getUsedVacationDaysBeforeExpiryDate()).isEqualByComparingTo(BigDecimal.valueOf(3));
+            assertThat(entry.getUsedVacationDaysAfterExpiryDate()).isEqualByComparingTo(BigDecimal.valueOf(5));
+        });
+    }
+
+    @Test
+    void ensureApplicationEventUpdatesExistingEntriesOfAllYearsOfApplication() {
+
+        final Person person = person();
+        final Application application = createApplication(person, LocalDate.of(2023, 12, 27), LocalDate.of(2024, 1, 3), FULL, new StaticMessageSource());
+
+        final VacationDaysLedgerEntity entry2023 = entry(11L, 1L, person, 2023);
+        final VacationDaysLedgerEntity entry2024 = entry(12L, 2L, person, 2024);
+        when(vacationDaysLedgerRepository.findByPerson(person)).thenReturn(List.of(entry2023, entry2024));
+
+        final Account account2023 = account(1L, person, 2023);
+        final Account account2024 = account(2L, person, 2024);
+        when(accountService.getHolidaysAccount(2023, person)).thenReturn(Optional.of(account2023));
+        when(accountService.getHolidaysAccount(2024, person)).thenReturn(Optional.of(account2024));
+        when(vacationDaysService.calculateUsedVacationDays(account2023)).thenReturn(new UsedVacationDaysYear(ZERO, BigDecimal.valueOf(3)));
+        when(vacationDaysService.calculateUsedVacationDays(account2024)).thenReturn(new UsedVacationDaysYear(BigDecimal.valueOf(2), ZERO));
+
+        sut.on(ApplicationAllowedEvent.of(application));
+
+        assertThat(entry2023.getUsedVacationDaysAfterExpiryDate()).isEqualByComparingTo(BigDecimal.valueOf(3));
+        assertThat(entry2024.getUsedVacationDaysBeforeExpiryDate()).isEqualByComparingTo(BigDecimal.valueOf(2));
+        verify(vacationDaysLedgerRepository).save(entry2023);
+        verify(vacationDaysLedgerRepository).save(entry2024);
+    }
+
+    @Test
+    void ensureApplicationEventOfOtherVacationCategoryIsIgnored() {
+
+        final Person person = person();
+        final Application application = createApplication(person, LocalDate.of(2023, 5, 1), LocalDate.of(2023, 5, 5), FULL, new StaticMessageSource());
+        application.setVacationType(createVacationType(2L, OVERTIME, new StaticMessageSource()));
+
+        sut.on(ApplicationAllowedEvent.of(application));
+
+        verifyNoInteractions(personService, vacationDaysLedgerRepository, accountService, vacationDaysService);
+    }
+
+    @Test
+    void ensureApplicationUpdatedEventUpdatesAllEntriesOfPerson() {
+
+        final Person person = person();
+        final Application application = createApplication(person, LocalDate.of(2023, 5, 1), LocalDate.of(2023, 5, 5), FULL, new StaticMessageSource());
+        application.setVacationType(createVacationType(2L, OVERTIME, new StaticMessageSource()));
+
+        final VacationDaysLedgerEntity entry2022 = entry(10L, 3L, person, 2022);
+        when(vacationDaysLedgerRepository.findByPerson(person)).thenReturn(List.of(entry2022));
+
+        final Account account2022 = account(3L, person, 2022);
+        final Account account2023 = account(1L, person, 2023);
+        when(accountService.getHolidaysAccount(2022, person)).thenReturn(Optional.of(account2022));
+        when(accountService.getHolidaysAccount(2023, person)).thenReturn(Optional.of(account2023));
+        when(vacationDaysService.calculateUsedVacationDays(any())).thenReturn(new UsedVacationDaysYear(ZERO, ZERO));
+
+        sut.on(ApplicationUpdatedEvent.of(application));
+
+        verify(vacationDaysLedgerRepository).save(entry2022);
+        verify(vacationDaysService).calculateUsedVacationDays(account2023);
+    }
+
+    @Test
+    void ensureWorkingTimeUpdatedEventDeletesEntryIfWorkDaysCannotBeCounted() {
+
+        final Person person = person();
+
+        final VacationDaysLedgerEntity entry2023 = entry(11L, 1L, person, 2023);
+        when(vacationDaysLedgerRepository.findByPerson(person)).thenReturn(List.of(entry2023));
+
+        final Account account2023 = account(1L, person, 2023);
+        when(accountService.getHolidaysAccount(2022, person)).thenReturn(Optional.empty());
+        when(accountService.getHolidaysAccount(2023, person)).thenReturn(Optional.of(account2023));
+        when(accountService.getHolidaysAccount(2024, person)).thenReturn(Optional.empty());
+        when(vacationDaysService.calculateUsedVacationDays(account2023)).thenThrow(WorkDaysCountException.class);
+
+        sut.on(WorkingTimeUpdatedEvent.of(person));
+
+        verify(personService).lock(person);
+        verify(vacationDaysLedgerRepository).delete(entry2023);
+        verify(vacationDaysLedgerRepository, never()).save(any());
+    }
+
+    @Test
+    void ensureRebuildNextChunkCalculatesEntriesOfNextChunkOfPersonsUnderLock() {
+
+        accountProperties.getVacationDaysLedger().setChunkSize(2);
+
+        final VacationDaysLedgerStateEntity state = state(new Settings());
+        state.setRebuildRequested(true);
+        state.setLastPersonId(41L);
+        when(vacationDaysLedgerStateRepository.findByIdForUpdate(VacationDaysLedgerStateEntity.ID)).thenReturn(Optional.of(state));
+
+        final Person person = person();
+        person.setId(42L);
+        when(vacationDaysLedgerRepository.findPersonsWithIdGreaterThan(41L, Limit.of(2))).thenReturn(List.of(person));
+
+        final VacationDaysLedgerEntity entry2020 = entry(10L, 5L, person, 2020);
+        when(vacationDaysLedgerRepository.findByPerson(person)).thenReturn(List.of(entry2020));
+
+        final Account account2020 = account(5L, person, 2020);
+        final Account account2023 = account(1L, person, 2023);
+        when(accountService.getHolidaysAccount(2020, person)).thenReturn(Optional.of(account2020));
+        when(accountService.getHolidaysAccount(2022, person)).thenReturn(Optional.empty());
+        when(accountService.getHolidaysAccount(2023, person)).thenReturn(Optional.of(account2023));
+        when(accountService.getHolidaysAccount(2024, person)).thenReturn(Optional.empty());
+        when(vacationDaysService.calculateUsedVacationDays(any())).thenReturn(new UsedVacationDaysYear(BigDecimal.ONE, ZERO));
+
+        assertThat(sut.rebuildNextChunk()).isTrue();
+
+        verify(personService).lock(person);
+        verify(vacationDaysLedgerRepository, times(2)).save(entryCaptor.capture());
+        assertThat(entryCaptor.getAllValues()).extracting(VacationDaysLedgerEntity::getAccountId).containsExactly(5L, 1L);
+        assertThat(state.isRebuildRequested()).isTrue();
+        assertThat(state.getLastPersonId()).isEqualTo(42L);
+    }
+
+    @Test
+    void ensureRebuildNextChunkFinishesRebuildAfterLastPerson() {
+
+        final VacationDaysLedgerStateEntity state = state(new Settings());
+        state.setRebuildRequested(true);
+        state.setLastPersonId(42L);
+        when(vacationDaysLedgerStateRepository.findByIdForUpdate(VacationDaysLedgerStateEntity.ID)).thenReturn(Optional.of(state));
+        when(vacationDaysLedgerRepository.findPersonsWithIdGreaterThan(42L, Limit.of(100))).thenReturn(List.of());
+
+        assertThat(sut.rebuildNextChunk()).isFalse();
+
+        assertThat(state.isRebuildRequested()).isFalse();
+        assertThat(state.getLastPersonId()).isNull();
+        verifyNoInteractions(personService, vacationDaysService);
+    }
+
+    @Test
+    void ensureRebuildNextChunkDoesNothingIfNoRebuildIsRequested() {
+
+        when(vacationDaysLedgerStateRepository.findByIdForUpdate(VacationDaysLedgerStateEntity.ID)).thenReturn(Optional.of(state(new Settings())));
+
+        assertThat(sut.rebuildNextChunk()).isFalse();
+
+        verify(vacationDaysLedgerRepository, never()).findPersonsWithIdGreaterThan(any(), any());
+    }
+
+    @Test
+    void ensureCheckNextChunkCorrectsDeviatingAndMissingEntriesUnderLock() {
+
+        final Person person = person();
+        final Person otherPerson = person();
+        otherPerson.setId(2L);
+        final List<Person> persons = List.of(person, otherPerson);
+        when(vacationDaysLedgerRepository.findPersonsWithIdGreaterThan(0L, Limit.of(100))).thenReturn(persons);
+
+        final VacationDaysLedgerEntity matchingEntry = entry(11L, 1L, person, 2023);
+        final VacationDaysLedgerEntity deviatingEntry = entry(12L, 2L, otherPerson, 2023);
+        deviatingEntry.setUsedVacationDaysBeforeExpiryDate(BigDecimal.TEN);
+        when(vacationDaysLedgerRepository.findByPersonIn(persons)).thenReturn(List.of(matchingEntry, deviatingEntry));
+
+        final Account account = account(1L, person, 2023);
+        final Account otherAccount = account(2L, otherPerson, 2023);
+        final Account missingAccount = account(3L, person, 2024);
+        when(accountService.getHolidaysAccount(2022, persons)).thenReturn(List.of());
+        when(accountService.getHolidaysAccount(2023, persons)).thenReturn(List.of(account, otherAccount));
+        when(accountService.getHolidaysAccount(2024, persons)).thenReturn(List.of(missingAccount));
+        when(vacationDaysService.calculateUsedVacationDays(any())).thenReturn(new UsedVacationDaysYear(new BigDecimal("0.00"), ZERO));
+
+        assertThat(sut.checkNextChunk(null)).hasValue(2L);
+
+        final InOrder inOrder = inOrder(personService, vacationDaysLedgerRepository);
+        inOrder.verify(personService).lock(person);
+        inOrder.verify(personService).lock(otherPerson);
+        inOrder.verify(vacationDaysLedgerRepository).findByPersonIn(persons);
+
+        verify(vacationDaysLedgerRepository, never()).save(matchingEntry);
+        verify(vacationDaysLedgerRepository).save(deviatingEntry);
+        assertThat(deviatingEntry.getUsedVacationDaysBeforeExpiryDate()).isEqualByComparingTo(ZERO);
+
+        verify(vacationDaysLedgerRepository, times(2)).save(entryCaptor.capture());
+        assertThat(entryCaptor.getAllValues()).extracting(VacationDaysLedgerEntity::getAccountId).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void ensureCheckNextChunkCorrectsEntryCalculatedWithOtherExpiryDate() {
+
+        final Person person = person();
+        when(vacationDaysLedgerRepository.findPersonsWithIdGreaterThan(0L, Limit.of(100))).thenReturn(List.of(person));
+
+        final VacationDaysLedgerEntity entry = entry(11L, 1L, person, 2023);
+        entry.setExpiryDate(LocalDate.of(2023, 5, 1));
+        when(vacationDaysLedgerRepository.findByPersonIn(List.of(person))).thenReturn(List.of(entry));
+
+        final Account account = account(1L, person, 2023);
+        when(accountService.getHolidaysAccount(2023, List.of(person))).thenReturn(List.of(account));
+        when(vacationDaysService.calculateUsedVacationDays(account)).thenReturn(new UsedVacationDaysYear(ZERO, ZERO));
+
+        sut.checkNextChunk(null);
+
+        verify(vacationDaysLedgerRepository).save(entry);
+        assertThat(entry.getExpiryDate()).isEqualTo(LocalDate.of(2023, APRIL, 1));
+    }
+
+    @Test
+    void ensureCheckNextChunkIsEmptyAfterLastPerson() {
+
+        when(vacationDaysLedgerRepository.findPersonsWithIdGreaterThan(42L, Limit.of(100))).thenReturn(List.of());
+
+        assertThat(sut.checkNextChunk(42L)).isEmpty();
+
+        verifyNoInteractions(personService, accountService, vacationDaysService);
+    }
+
+    @Test
+    void ensureSettingsUpdatedEventRequestsRebuildOnlyIfLedgerSettingsChanged() {
+
+        final Settings settings = new Settings();
+        final VacationDaysLedgerStateEntity state = state(settings);
+        when(vacationDaysLedgerStateRepository.findByIdForUpdate(VacationDaysLedgerStateEntity.ID)).thenReturn(Optional.of(state));
+
+        sut.on(SettingsUpdatedEvent.of(settings));
+        assertThat(state.isRebuildRequested()).isFalse();
+
+        final Settings changedSettings = new Settings();
+        changedSettings.getWorkingTimeSettings().setFederalState(GERMANY_BERLIN);
+
+        sut.on(SettingsUpdatedEvent.of(changedSettings));
+        assertThat(state.isRebuildRequested()).isTrue();
+        assertThat(state.getFederalState()).isEqualTo(GERMANY_BERLIN);
+
+        state.setRebuildRequested(false);
+        final Settings changedAccountSettings = new Settings();
+        changedAccountSettings.getWorkingTimeSettings().setFederalState(GERMANY_BERLIN);
+        changedAccountSettings.getAccountSettings().setDoRemainingVacationDaysExpireGlobally(!settings.getAccountSettings().isDoRemainingVacationDaysExpireGlobally());
+
+        sut.on(SettingsUpdatedEvent.of(changedAccountSettings));
+        assertThat(state.isRebuildRequested()).isTrue();
+        verifyNoInteractions(vacationDaysLedgerRepository, vacationDaysService);
+    }
+
+    @Test
+    void ensureRebuildOnStartupIsRequestedIfConfigured() {
+
+        accountProperties.getVacationDaysLedger().setRebuildOnStartup(true);
+
+        final Settings settings = new Settings();
+        when(settingsService.getSettings()).thenReturn(settings);
+
+        final VacationDaysLedgerStateEntity state = state(settings);
+        state.setLastPersonId(42L);
+        when(vacationDaysLedgerStateRepository.findByIdForUpdate(VacationDaysLedgerStateEntity.ID)).thenReturn(Optional.of(state));
+
+        sut.requestRebuildOnStartup();
+
+        assertThat(state.isRebuildRequested()).isTrue();
+        assertThat(state.getLastPersonId()).isNull();
+    }
+
+    @Test
+    void ensureRebuildOnStartupIsRequestedIfLedgerSettingsChanged() {
+
+        final Settings changedSettings = new Settings();
+        changedSettings.getWorkingTimeSettings().setFederalState(GERMANY_BERLIN);
+        when(settingsService.getSettings()).thenReturn(changedSettings);
+
+        final VacationDaysLedgerStateEntity state = state(new Settings());
+        when(vacationDaysLedgerStateRepository.findByIdForUpdate(VacationDaysLedgerStateEntity.ID)).thenReturn(Optional.of(state));
+
+        sut.requestRebuildOnStartup();
+
+        assertThat(state.isRebuildRequested()).isTrue();
+    }
+
+    @Test
+    void ensureRunningRebuildResumesOnStartup() {
+
+        final Settings settings = new Settings();
+        when(settingsService.getSettings()).thenReturn(settings);
+
+        final VacationDaysLedgerStateEntity state = state(settings);
+        state.setRebuildRequested(true);
+        state.setLastPersonId(42L);
+        when(vacationDaysLedgerStateRepository.findByIdForUpdate(VacationDaysLedgerStateEntity.ID)).thenReturn(Optional.of(state));
+
+        sut.requestRebuildOnStartup();
+
+        assertThat(state.isRebuildRequested()).isTrue();
+        assertThat(state.getLastPersonId()).isEqualTo(42L);
+        verifyNoInteractions(vacationDaysLedgerRepository);
+    }
+
+    private static VacationDaysLedgerStateEntity state(Settings settings) {
+        final VacationDaysLedgerStateEntity state = new VacationDaysLedgerStateEntity();
+        state.setId(VacationDaysLedgerStateEntity.ID);
+        state.setFederalState(settings.getWorkingTimeSettings().getFederalState());
+        state.setWorkingDurationForChristmasEve(settings.getWorkingTimeSettings().getWorkingDurationForChristmasEve());
+        state.setWorkingDurationForNewYearsEve(settings.getWorkingTimeSettings().getWorkingDurationForNewYearsEve());
+        state.setDoRemainingVacationDaysExpireGlobally(settings.getAccountSettings().isDoRemainingVacationDaysExpireGlobally());
+        return state;
+    }
+
+    private static Person person() {
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        person.setId(1L);
+        return person;
+    }
+
+    private static Account account(Long id, Person person, int year) {
+        final Account account = new Account();
+        account.setId(id);
+        account.setPerson(person);
+        account.setValidFrom(LocalDate.of(year, JANUARY, 1));
+        account.setValidTo(LocalDate.of(year, 12, 31));
+        account.setExpiryDate(LocalDate.of(year, APRIL, 1));
+        account.setDoRemainingVacationDaysExpireGlobally(true);
+        return account;
+    }
+
+    private static VacationDaysLedgerEntity entry(Long id, Long accountId, Person person, int year) {
+        final VacationDaysLedgerEntity entry = new VacationDaysLedgerEntity();
+        entry.setId(id);
+        entry.setAccountId(accountId);
+        entry.setPerson(person);
+        entry.setYear(year);
+        entry.setExpiryDate(LocalDate.of(year, APRIL, 1));
+        entry.setRemainingVacationDaysExpire(true);
+        entry.setUsedVacationDaysBeforeExpiryDate(ZERO);
+        entry.setUsedVacationDaysAfterExpiryDate(ZERO);
+        return entry;
+    }
+}
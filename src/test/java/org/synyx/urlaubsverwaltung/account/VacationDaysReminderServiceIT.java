@@ -12,9 +12,11 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.transaction.annotation.Transactional;
 import org.synyx.urlaubsverwaltung.TestContainersBase;
+import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.mail.MailService;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendarService;
 
 import java.io.IOException;
 import java.time.Clock;
@@ -22,7 +24,7 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 import static com.icegreen.greenmail.util.ServerSetupTest.SMTP_IMAP;
 import static java.math.BigDecimal.TEN;
@@ -43,6 +45,8 @@ class VacationDaysReminderServiceIT extends TestContainersBase {
     private AccountService accountService;
     @MockBean
     private VacationDaysService vacationDaysService;
+    @MockBean
+    private WorkingTimeCalendarService workingTimeCalendarService;
 
     @Autowired
     private MailService mailService;
@@ -51,17 +55,23 @@ class VacationDaysReminderServiceIT extends TestContainersBase {
     void ensureReminderForLeftVacationDays() throws MessagingException, IOException {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-10-31T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, workingTimeCalendarService, mailService, clock);
 
         final Person person = new Person("user", "Müller", "Lieschen", "lieschen@example.org");
         person.setId(42L);
         when(personService.getActivePersons()).thenReturn(List.of(person));
 
         final Account account = new Account();
+        account.setPerson(person);
         account.setExpiryDate(LocalDate.of(2022, 4, 1));
         account.setDoRemainingVacationDaysExpireLocally(true);
-        when(accountService.getHolidaysAccount(2022, person)).thenReturn(Optional.of(account));
-        when(vacationDaysService.calculateTotalLeftVacationDays(account)).thenReturn(TEN);
+        when(accountService.getHolidaysAccount(2022, List.of(person))).thenReturn(List.of(account));
+
+        final DateRange dateRange = new DateRange(LocalDate.of(2022, 1, 1), LocalDate.of(2022, 12, 31));
+        when(workingTimeCalendarService.getWorkingTimesByPersons(List.of(person), dateRange)).thenReturn(Map.of());
+        final VacationDaysLeft vacationDaysLeft = VacationDaysLeft.builder().withAnnualVacation(TEN).build();
+        when(vacationDaysService.getVacationDaysLeft(List.of(account), Map.of(), dateRange))
+            .thenReturn(Map.of(account, new HolidayAccountVacationDays(account, vacationDaysLeft, vacationDaysLeft)));
 
         sut.remindForCurrentlyLeftVacationDays();
 
@@ -87,21 +97,23 @@ class VacationDaysReminderServiceIT extends TestContainersBase {
     void ensureReminderForRemainingVacationDays() throws MessagingException, IOException {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-01-01T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, workingTimeCalendarService, mailService, clock);
 
         final Person person = new Person("user", "Müller", "Lieschen", "lieschen@example.org");
         person.setId(42L);
         when(personService.getActivePersons()).thenReturn(List.of(person));
 
         final Account account2022 = new Account();
+        account2022.setPerson(person);
         account2022.setExpiryDate(LocalDate.of(2022, 4, 1));
         account2022.setDoRemainingVacationDaysExpireLocally(true);
-        when(accountService.getHolidaysAccount(2022, person)).thenReturn(Optional.of(account2022));
+        when(accountService.getHolidaysAccount(2022, List.of(person))).thenReturn(List.of(account2022));
 
         final Account account2023 = new Account();
+        account2023.setPerson(person);
         account2023.setExpiryDate(LocalDate.of(2023, 4, 1));
         account2023.setDoRemainingVacationDaysExpireLocally(true);
-        when(accountService.getHolidaysAccount(2023, person)).thenReturn(Optional.of(account2023));
+        when(accountService.getHolidaysAccount(2023, List.of(person))).thenReturn(List.of(account2023));
 
         final VacationDaysLeft vacationDaysLeft = VacationDaysLeft.builder()
             .withAnnualVacation(ZERO)
@@ -110,7 +122,9 @@ class VacationDaysReminderServiceIT extends TestContainersBase {
             .forUsedVacationDaysBeforeExpiry(ZERO)
             .forUsedVacationDaysAfterExpiry(ZERO)
             .build();
-        when(vacationDaysService.getVacationDaysLeft(account2022, Optional.of(account2023))).thenReturn(vacationDaysLeft);
+        final DateRange dateRange = new DateRange(LocalDate.of(2022, 1, 1), LocalDate.of(2023, 12, 31));
+        when(workingTimeCalendarService.getWorkingTimesByPersons(List.of(person), dateRange)).thenReturn(Map.of());
+        when(vacationDaysService.getVacationDaysLeft(List.of(account2022), List.of(account2023), Map.of())).thenReturn(Map.of(account2022, vacationDaysLeft));
 
         sut.remindForRemainingVacationDays();
 
@@ -136,31 +150,34 @@ class VacationDaysReminderServiceIT extends TestContainersBase {
     void ensureReminderForExpiredRemainingVacationDays() throws MessagingException, IOException {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-04-01T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, workingTimeCalendarService, mailService, clock);
 
         final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
         person.setId(1L);
         when(personService.getActivePersons()).thenReturn(List.of(person));
 
         final Account account2022 = new Account();
+        account2022.setPerson(person);
         account2022.setExpiryDate(LocalDate.of(2022, 4, 1));
         account2022.setDoRemainingVacationDaysExpireLocally(true);
-        when(accountService.getHolidaysAccount(2022, person)).thenReturn(Optional.of(account2022));
+        when(accountService.getHolidaysAccount(2022, List.of(person))).thenReturn(List.of(account2022));
 
         final Account account2023 = new Account();
+        account2023.setPerson(person);
         account2023.setExpiryDate(LocalDate.of(2023, 4, 1));
         account2023.setDoRemainingVacationDaysExpireLocally(true);
-        when(accountService.getHolidaysAccount(2023, person)).thenReturn(Optional.of(account2023));
+        when(accountService.getHolidaysAccount(2023, List.of(person))).thenReturn(List.of(account2023));
 
         final VacationDaysLeft vacationDaysLeft = VacationDaysLeft.builder()
-            .withAnnualVacation(ZERO)
+            .withAnnualVacation(TEN)
             .withRemainingVacation(TEN)
             .notExpiring(ZERO)
             .forUsedVacationDaysBeforeExpiry(ZERO)
             .forUsedVacationDaysAfterExpiry(ZERO)
             .build();
-        when(vacationDaysService.getVacationDaysLeft(account2022, Optional.of(account2023))).thenReturn(vacationDaysLeft);
-        when(vacationDaysService.calculateTotalLeftVacationDays(account2022)).thenReturn(TEN);
+        final DateRange dateRange = new DateRange(LocalDate.of(2022, 1, 1), LocalDate.of(2023, 12, 31));
+        when(workingTimeCalendarService.getWorkingTimesByPersons(List.of(person), dateRange)).thenReturn(Map.of());
+        when(vacationDaysService.getVacationDaysLeft(List.of(account2022), List.of(account2023), Map.of())).thenReturn(Map.of(account2022, vacationDaysLeft));
 
         sut.notifyForExpiredRemainingVacationDays();
 
@@ -3,20 +3,24 @@ package org.synyx.urlaubsverwaltung.account;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.mail.Mail;
 import org.synyx.urlaubsverwaltung.mail.MailService;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendarService;
 
 import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 import static java.math.BigDecimal.ONE;
 import static java.math.BigDecimal.TEN;
@@ -24,6 +28,10 @@ import static java.math.BigDecimal.ZERO;
 import static java.util.Locale.GERMAN;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -31,6 +39,9 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class VacationDaysReminderServiceTest {
 
+    private static final DateRange YEAR_2022 = new DateRange(LocalDate.of(2022, 1, 1), LocalDate.of(2022, 12, 31));
+    private static final DateRange YEARS_2022_AND_2023 = new DateRange(LocalDate.of(2022, 1, 1), LocalDate.of(2023, 12, 31));
+
     @Mock
     private PersonService personService;
     @Mock
@@ -38,41 +49,51 @@ class VacationDaysReminderServiceTest {
     @Mock
     private VacationDaysService vacationDaysService;
     @Mock
+    private WorkingTimeCalendarService workingTimeCalendarService;
+    @Mock
     private MailService mailService;
 
-    final ArgumentCaptor<Mail> mailArgumentCaptor = ArgumentCaptor.forClass(Mail.class);
+    @Captor
+    private ArgumentCaptor<List<Mail>> mailsArgumentCaptor;
 
     @Test
     void ensureNoReminderForZeroLeftVacationDays() {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-10-31T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, workingTimeCalendarService, mailService, clock);
 
         final Person person = person();
         when(personService.getActivePersons()).thenReturn(List.of(person));
 
         final Account account = new Account();
+        account.setPerson(person);
         account.setExpiryDate(LocalDate.of(2022, 4, 1));
-        when(accountService.getHolidaysAccount(2022, person)).thenReturn(Optional.of(account));
+        when(accountService.getHolidaysAccount(2022, List.of(person))).thenReturn(List.of(account));
 
         sut.remindForCurrentlyLeftVacationDays();
 
-        verifyNoInteractions(mailService);
+        verifyNoInteractions(mailService, workingTimeCalendarService, vacationDaysService);
     }
 
     @Test
     void ensureNoReminderIfRemainingVacationDaysToNotExpire() {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-10-31T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, workingTimeCalendarService, mailService, clock);
 
         final Person person = person();
         when(personService.getActivePersons()).thenReturn(List.of(person));
 
         final Account account = new Account();
+        account.setPerson(person);
+        account.setExpiryDate(LocalDate.of(2022, 4, 1));
         account.setDoRemainingVacationDaysExpireGlobally(true);
-        when(accountService.getHolidaysAccount(2022, person)).thenReturn(Optional.of(account));
-        when(vacationDaysService.calculateTotalLeftVacationDays(account)).thenReturn(ZERO);
+        when(accountService.getHolidaysAccount(2022, List.of(person))).thenReturn(List.of(account));
+
+        when(workingTimeCalendarService.getWorkingTimesByPersons(List.of(person), YEAR_2022)).thenReturn(Map.of());
+        final VacationDaysLeft vacationDaysLeft = VacationDaysLeft.builder().build();
+        when(vacationDaysService.getVacationDaysLeft(List.of(account), Map.of(), YEAR_2022))
+            .thenReturn(Map.of(account, new HolidayAccountVacationDays(account, vacationDaysLeft, vacationDaysLeft)));
 
         sut.remindForCurrentlyLeftVacationDays();
 
@@ -83,12 +104,12 @@ class VacationDaysReminderServiceTest {
     void ensureNoReminderIfAccountIsEmpty() {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-10-31T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, workingTimeCalendarService, mailService, clock);
 
         final Person person = person();
         when(personService.getActivePersons()).thenReturn(List.of(person));
 
-        when(accountService.getHolidaysAccount(2022, person)).thenReturn(Optional.empty());
+        when(accountService.getHolidaysAccount(2022, List.of(person))).thenReturn(List.of());
 
         sut.remindForCurrentlyLeftVacationDays();
 
@@ -99,22 +120,28 @@ class VacationDaysReminderServiceTest {
     void ensureReminderForLeftVacationDays() {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-10-31T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, workingTimeCalendarService, mailService, clock);
 
         final Person person = person();
         when(personService.getActivePersons()).thenReturn(List.of(person));
 
         final Account account = new Account();
+        account.setPerson(person);
         account.setDoRemainingVacationDaysExpireGlobally(true);
         account.setExpiryDate(LocalDate.of(2022, 4, 1));
-        when(accountService.getHolidaysAccount(2022, person)).thenReturn(Optional.of(account));
-        when(vacationDaysService.calculateTotalLeftVacationDays(account)).thenReturn(TEN);
+        when(accountService.getHolidaysAccount(2022, List.of(person))).thenReturn(List.of(account));
+
+        when(workingTimeCalendarService.getWorkingTimesByPersons(List.of(person), YEAR_2022)).thenReturn(Map.of());
+        final VacationDaysLeft vacationDaysLeft = VacationDaysLeft.builder().withAnnualVacation(TEN).build();
+        when(vacationDaysService.getVacationDaysLeft(List.of(account), Map.of(), YEAR_2022))
+            .thenReturn(Map.of(account, new HolidayAccountVacationDays(account, vacationDaysLeft, vacationDaysLeft)));
 
         sut.remindForCurrentlyLeftVacationDays();
 
-        verify(mailService).send(mailArgumentCaptor.capture());
+        verify(mailService).sendAll(mailsArgumentCaptor.capture());
+        assertThat(mailsArgumentCaptor.getValue()).hasSize(1);
 
-        final Mail capturedMail = mailArgumentCaptor.getValue();
+        final Mail capturedMail = mailsArgumentCaptor.getValue().get(0);
         assertThat(capturedMail.getMailAddressRecipients()).contains(List.of(person));
         assertThat(capturedMail.getSubjectMessageKey()).isEqualTo("subject.account.remindForCurrentlyLeftVacationDays");
         assertThat(capturedMail.getTemplateName()).isEqualTo("account_cron_currently_left_vacation_days");
@@ -126,32 +153,59 @@ class VacationDaysReminderServiceTest {
         );
     }
 
+    @Test
+    void ensureReminderForLeftVacationDaysLoadsAccountsOfPersonsInChunks() {
+
+        final Clock clock = Clock.fixed(Instant.parse("2022-10-31T06:00:00Z"), ZoneId.of("UTC"));
+        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, workingTimeCalendarService, mailService, clock);
+
+        final List<Person> persons = new ArrayList<>();
+        for (long id = 1; id <= 1001; id++) {
+            final Person person = new Person();
+            person.setId(id);
+            persons.add(person);
+        }
+        when(personService.getActivePersons()).thenReturn(persons);
+        when(accountService.getHolidaysAccount(anyInt(), anyList())).thenReturn(List.of());
+
+        sut.remindForCurrentlyLeftVacationDays();
+
+        verify(accountService).getHolidaysAccount(2022, persons.subList(0, 500));
+        verify(accountService).getHolidaysAccount(2022, persons.subList(500, 1000));
+        verify(accountService).getHolidaysAccount(2022, persons.subList(1000, 1001));
+        verify(accountService, times(3)).getHolidaysAccount(anyInt(), anyList());
+        verify(mailService, never()).sendAll(anyList());
+    }
+
     @Test
     void ensureNoReminderWithoutRemainingVacationDays() {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-01-01T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, workingTimeCalendarService, mailService, clock);
 
         final Person person = person();
         when(personService.getActivePersons()).thenReturn(List.of(person));
 
         final Account account2022 = new Account();
+        account2022.setPerson(person);
         account2022.setDoRemainingVacationDaysExpireLocally(true);
         account2022.setExpiryDate(LocalDate.of(2022, 4, 1));
-        when(accountService.getHolidaysAccount(2022, person)).thenReturn(Optional.of(account2022));
+        when(accountService.getHolidaysAccount(2022, List.of(person))).thenReturn(List.of(account2022));
 
         final Account account2023 = new Account();
+        account2023.setPerson(person);
         account2023.setDoRemainingVacationDaysExpireLocally(true);
         account2023.setExpiryDate(LocalDate.of(2023, 4, 1));
-        when(accountService.getHolidaysAccount(2023, person)).thenReturn(Optional.of(account2023));
+        when(accountService.getHolidaysAccount(2023, List.of(person))).thenReturn(List.of(account2023));
 
+        when(workingTimeCalendarService.getWorkingTimesByPersons(List.of(person), YEARS_2022_AND_2023)).thenReturn(Map.of());
         final VacationDaysLeft vacationDaysLeft = VacationDaysLeft.builder()
             .withAnnualVacation(ZERO)
             .withRemainingVacation(ZERO)
             .forUsedVacationDaysBeforeExpiry(ZERO)
             .forUsedVacationDaysAfterExpiry(ZERO)
             .build();
-        when(vacationDaysService.getVacationDaysLeft(account2022, Optional.of(account2023))).thenReturn(vacationDaysLeft);
+        when(vacationDaysService.getVacationDaysLeft(List.of(account2022), List.of(account2023), Map.of())).thenReturn(Map.of(account2022, vacationDaysLeft));
 
         sut.remindForRemainingVacationDays();
 
@@ -162,21 +216,24 @@ class VacationDaysReminderServiceTest {
     void ensureReminderForRemainingVacationDays() {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-01-01T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, workingTimeCalendarService, mailService, clock);
 
         final Person person = person();
         when(personService.getActivePersons()).thenReturn(List.of(person));
 
         final Account account2022 = new Account();
+        account2022.setPerson(person);
         account2022.setDoRemainingVacationDaysExpireLocally(true);
         account2022.setExpiryDate(LocalDate.of(2022, 4, 1));
-        when(accountService.getHolidaysAccount(2022, person)).thenReturn(Optional.of(account2022));
+        when(accountService.getHolidaysAccount(2022, List.of(person))).thenReturn(List.of(account2022));
 
         final Account account2023 = new Account();
+        account2023.setPerson(person);
         account2023.setDoRemainingVacationDaysExpireLocally(true);
         account2023.setExpiryDate(LocalDate.of(2023, 4, 1));
-        when(accountService.getHolidaysAccount(2023, person)).thenReturn(Optional.of(account2023));
+        when(accountService.getHolidaysAccount(2023, List.of(person))).thenReturn(List.of(account2023));
 
+        when(workingTimeCalendarService.getWorkingTimesByPersons(List.of(person), YEARS_2022_AND_2023)).thenReturn(Map.of());
         final VacationDaysLeft vacationDaysLeft = VacationDaysLeft.builder()
             .withAnnualVacation(ZERO)
             .withRemainingVacation(TEN)
@@ -184,13 +241,14 @@ class VacationDaysReminderServiceTest {
             .forUsedVacationDaysBeforeExpiry(ZERO)
             .forUsedVacationDaysAfterExpiry(ZERO)
             .build();
-        when(vacationDaysService.getVacationDaysLeft(account2022, Optional.of(account2023))).thenReturn(vacationDaysLeft);
+        when(vacationDaysService.getVacationDaysLeft(List.of(account2022), List.of(account2023), Map.of())).thenReturn(Map.of(account2022, vacationDaysLeft));
 
         sut.remindForRemainingVacationDays();
 
-        verify(mailService).send(mailArgumentCaptor.capture());
+        verify(mailService).sendAll(mailsArgumentCaptor.capture());
+        assertThat(mailsArgumentCaptor.getValue()).hasSize(1);
 
-        final Mail capturedMail = mailArgumentCaptor.getValue();
+        final Mail capturedMail = mailsArgumentCaptor.getValue().get(0);
         assertThat(capturedMail.getMailAddressRecipients()).contains(List.of(person));
         assertThat(capturedMail.getSubjectMessageKey()).isEqualTo("subject.account.remindForRemainingVacationDays");
         assertThat(capturedMail.getTemplateName()).isEqualTo("account_cron_remind_remaining_vacation_days");
@@ -206,59 +264,65 @@ class VacationDaysReminderServiceTest {
     void ensureNoNotificationWhenExpireDateNotEqualOfAfter() {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-03-31T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, workingTimeCalendarService, mailService, clock);
 
         final Person person = person();
         when(personService.getActivePersons()).thenReturn(List.of(person));
 
         final Account account2022 = new Account();
         account2022.setPerson(person);
+        account2022.setDoRemainingVacationDaysExpireLocally(true);
         account2022.setExpiryDate(LocalDate.of(2022, 4, 1));
-        when(accountService.getHolidaysAccount(2022, person)).thenReturn(Optional.of(account2022));
+        when(accountService.getHolidaysAccount(2022, List.of(person))).thenReturn(List.of(account2022));
 
         sut.notifyForExpiredRemainingVacationDays();
-        verifyNoInteractions(mailService);
+
+        verifyNoInteractions(mailService, vacationDaysService);
     }
 
     @Test
     void ensureNoNotificationWhenNotificationWasAlreadySent() {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-04-02T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, workingTimeCalendarService, mailService, clock);
 
         final Person person = person();
         when(personService.getActivePersons()).thenReturn(List.of(person));
 
         final Account account2022 = new Account();
         account2022.setPerson(person);
+        account2022.setDoRemainingVacationDaysExpireLocally(true);
         account2022.setExpiryDate(LocalDate.of(2022, 4, 2));
         account2022.setExpiryNotificationSentDate(LocalDate.of(2022, 4, 1));
-        when(accountService.getHolidaysAccount(2022, person)).thenReturn(Optional.of(account2022));
+        when(accountService.getHolidaysAccount(2022, List.of(person))).thenReturn(List.of(account2022));
 
         sut.notifyForExpiredRemainingVacationDays();
 
-        verifyNoInteractions(mailService);
+        verifyNoInteractions(mailService, vacationDaysService);
     }
 
     @Test
     void ensureNoNotificationWithoutExpiredRemainingVacationDays() {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-04-01T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, workingTimeCalendarService, mailService, clock);
 
         final Person person = person();
         when(personService.getActivePersons()).thenReturn(List.of(person));
 
         final Account account2022 = new Account();
+        account2022.setPerson(person);
         account2022.setDoRemainingVacationDaysExpireLocally(true);
         account2022.setExpiryDate(LocalDate.of(2022, 4, 1));
-        when(accountService.getHolidaysAccount(2022, person)).thenReturn(Optional.of(account2022));
+        when(accountService.getHolidaysAccount(2022, List.of(person))).thenReturn(List.of(account2022));
 
         final Account account2023 = new Account();
+        account2023.setPerson(person);
         account2023.setDoRemainingVacationDaysExpireLocally(true);
         account2023.setExpiryDate(LocalDate.of(2023, 4, 1));
-        when(accountService.getHolidaysAccount(2023, person)).thenReturn(Optional.of(account2023));
+        when(accountService.getHolidaysAccount(2023, List.of(person))).thenReturn(List.of(account2023));
 
+        when(workingTimeCalendarService.getWorkingTimesByPersons(List.of(person), YEARS_2022_AND_2023)).thenReturn(Map.of());
         final VacationDaysLeft vacationDaysLeft = VacationDaysLeft.builder()
             .withAnnualVacation(ZERO)
             .withRemainingVacation(TEN)
@@ -266,25 +330,27 @@ class VacationDaysReminderServiceTest {
             .forUsedVacationDaysBeforeExpiry(ZERO)
             .forUsedVacationDaysAfterExpiry(ZERO)
             .build();
-        when(vacationDaysService.getVacationDaysLeft(account2022, Optional.of(account2023))).thenReturn(vacationDaysLeft);
+        when(vacationDaysService.getVacationDaysLeft(List.of(account2022), List.of(account2023), Map.of())).thenReturn(Map.of(account2022, vacationDaysLeft));
 
         sut.notifyForExpiredRemainingVacationDays();
 
         verifyNoInteractions(mailService);
+        verify(accountService, never()).save(account2022);
     }
 
     @Test
     void ensureNoNotificationWhenExpireIsDisabled() {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-04-01T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, workingTimeCalendarService, mailService, clock);
 
         final Person person = person();
         when(personService.getActivePersons()).thenReturn(List.of(person));
 
         final Account account2022 = new Account();
+        account2022.setPerson(person);
         account2022.setDoRemainingVacationDaysExpireLocally(false);
-        when(accountService.getHolidaysAccount(2022, person)).thenReturn(Optional.of(account2022));
+        when(accountService.getHolidaysAccount(2022, List.of(person))).thenReturn(List.of(account2022));
 
         sut.notifyForExpiredRemainingVacationDays();
 
@@ -295,36 +361,40 @@ class VacationDaysReminderServiceTest {
     void ensureNotificationForExpiredRemainingVacationDays() {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-04-01T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, workingTimeCalendarService, mailService, clock);
 
         final Person person = person();
         when(personService.getActivePersons()).thenReturn(List.of(person));
 
         final Account account2022 = new Account();
+        account2022.setPerson(person);
         account2022.setDoRemainingVacationDaysExpireLocally(true);
         account2022.setExpiryDate(LocalDate.of(2022, 4, 1));
-        when(accountService.getHolidaysAccount(2022, person)).thenReturn(Optional.of(account2022));
+        when(accountService.getHolidaysAccount(2022, List.of(person))).thenReturn(List.of(account2022));
 
         final Account account2023 = new Account();
+        account2023.setPerson(person);
         account2023.setDoRemainingVacationDaysExpireLocally(true);
         account2023.setExpiryDate(LocalDate.of(2023, 4, 1));
-        when(accountService.getHolidaysAccount(2023, person)).thenReturn(Optional.of(account2023));
+        when(accountService.getHolidaysAccount(2023, List.of(person))).thenReturn(List.of(account2023));
 
+        when(workingTimeCalendarService.getWorkingTimesByPersons(List.of(person), YEARS_2022_AND_2023)).thenReturn(Map.of());
         final VacationDaysLeft vacationDaysLeft = VacationDaysLeft.builder()
             .withAnnualVacation(TEN)
             .withRemainingVacation(TEN)
             .notExpiring(ONE)
             .forUsedVacationDaysBeforeExpiry(ZERO)
             .forUsedVacationDaysAfterExpiry(ZERO)
+            .withVacationDaysUsedNextYear(BigDecimal.valueOf(2L))
             .build();
-        when(vacationDaysService.getVacationDaysLeft(account2022, Optional.of(account2023))).thenReturn(vacationDaysLeft);
-        when(vacationDaysService.calculateTotalLeftVacationDays(account2022)).thenReturn(BigDecimal.valueOf(11L));
+        when(vacationDaysService.getVacationDaysLeft(List.of(account2022), List.of(account2023), Map.of())).thenReturn(Map.of(account2022, vacationDaysLeft));
 
         sut.notifyForExpiredRemainingVacationDays();
 
-        verify(mailService).send(mailArgumentCaptor.capture());
+        verify(mailService).sendAll(mailsArgumentCaptor.capture());
+        assertThat(mailsArgumentCaptor.getValue()).hasSize(1);
 
-        final Mail capturedMail = mailArgumentCaptor.getValue();
+        final Mail capturedMail = mailsArgumentCaptor.getValue().get(0);
         assertThat(capturedMail.getMailAddressRecipients()).contains(List.of(person));
         assertThat(capturedMail.getSubjectMessageKey()).isEqualTo("subject.account.notifyForExpiredRemainingVacationDays");
         assertThat(capturedMail.getTemplateName()).isEqualTo("account_cron_expired_remaining_vacation_days");
@@ -336,6 +406,9 @@ class VacationDaysReminderServiceTest {
             entry("remainingVacationDaysNotExpiring", ONE),
             entry("expiryDate", LocalDate.of(2022, 4, 1))
         );
+
+        assertThat(account2022.getExpiryNotificationSentDate()).isEqualTo(LocalDate.of(2022, 4, 1));
+        verify(accountService).save(account2022);
     }
 
     private Person person() {
@@ -45,6 +45,7 @@ import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.TestDataCreator.createVacationType;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED;
@@ -65,10 +66,12 @@ class VacationDaysServiceTest {
     private ApplicationService applicationService;
     @Mock
     private WorkDaysCountService workDaysCountService;
+    @Mock
+    private VacationDaysLedgerRepository vacationDaysLedgerRepository;
 
     @BeforeEach
     void setUp() {
-        sut = new VacationDaysService(workDaysCountService, applicationService, Clock.systemUTC());
+        sut = new VacationDaysService(workDaysCountService, applicationService, vacationDaysLedgerRepository, Clock.systemUTC());
     }
 
     @Test
@@ -202,6 +205,69 @@ class VacationDaysServiceTest {
         assertThat(vacationDaysLeft.getVacationDaysUsedNextYear()).isEqualByComparingTo(ZERO);
     }
 
+    @Test
+    void ensureGetVacationDaysLeftUsesVacationDaysLedgerEntryCalculatedForAccount() {
+
+        final Person person = anyPerson();
+
+        final Account account = anyAccount(person, Year.of(2022));
+        account.setId(42L);
+        account.setRemainingVacationDays(new BigDecimal("6"));
+        account.setRemainingVacationDaysNotExpiring(new BigDecimal("2"));
+        account.setDoRemainingVacationDaysExpireLocally(true);
+
+        final VacationDaysLedgerEntity ledgerEntry = new VacationDaysLedgerEntity();
+        ledgerEntry.setAccountId(42L);
+        ledgerEntry.setExpiryDate(LocalDate.of(2022, APRIL, 1));
+        ledgerEntry.setRemainingVacationDaysExpire(true);
+        ledgerEntry.setUsedVacationDaysBeforeExpiryDate(BigDecimal.valueOf(4L));
+        ledgerEntry.setUsedVacationDaysAfterExpiryDate(BigDecimal.valueOf(20L));
+        when(vacationDaysLedgerRepository.findCompleteByAccountId(42L)).thenReturn(Optional.of(ledgerEntry));
+
+        final VacationDaysLeft vacationDaysLeft = sut.getVacationDaysLeft(account, Optional.empty());
+        assertThat(vacationDaysLeft.getVacationDays()).isEqualByComparingTo(new BigDecimal(12L));
+        assertThat(vacationDaysLeft.getRemainingVacationDays()).isEqualByComparingTo(ZERO);
+        assertThat(vacationDaysLeft.getRemainingVacationDaysNotExpiring()).isEqualByComparingTo(ZERO);
+        assertThat(vacationDaysLeft.getVacationDaysUsedNextYear()).isEqualByComparingTo(ZERO);
+
+        verifyNoInteractions(applicationService, workDaysCountService);
+    }
+
+    @Test
+    void ensureGetVacationDaysLeftIgnoresVacationDaysLedgerEntryCalculatedWithOtherExpiryDate() {
+
+        final Person person = anyPerson();
+
+        final Application application = anyApplication(person);
+        application.setStartDate(LocalDate.of(2022, JANUARY, 3));
+        application.setEndDate(LocalDate.of(2022, JANUARY, 7));
+        application.setStatus(ALLOWED);
+        when(workDaysCountService.getWorkDaysCount(application.getDayLength(), application.getStartDate(), application.getEndDate(), application.getPerson())).thenReturn(BigDecimal.valueOf(4L));
+        final List<ApplicationStatus> statuses = List.of(WAITING, TEMPORARY_ALLOWED, ALLOWED, ALLOWED_CANCELLATION_REQUESTED);
+        when(applicationService.getApplicationsForACertainPeriodAndPersonAndVacationCategory(LocalDate.of(2022, 1, 1), LocalDate.of(2022, 3, 31), person, statuses, HOLIDAY))
+            .thenReturn(List.of(application));
+        when(applicationService.getApplicationsForACertainPeriodAndPersonAndVacationCategory(LocalDate.of(2022, 4, 1), LocalDate.of(2022, 12, 31), person, statuses, HOLIDAY))
+            .thenReturn(List.of());
+
+        final Account account = anyAccount(person, Year.of(2022));
+        account.setId(42L);
+        account.setRemainingVacationDays(new BigDecimal("6"));
+        account.setRemainingVacationDaysNotExpiring(new BigDecimal("2"));
+        account.setDoRemainingVacationDaysExpireLocally(true);
+
+        final VacationDaysLedgerEntity ledgerEntry = new VacationDaysLedgerEntity();
+        ledgerEntry.setAccountId(42L);
+        ledgerEntry.setExpiryDate(LocalDate.of(2022, MAY, 1));
+        ledgerEntry.setRemainingVacationDaysExpire(true);
+        ledgerEntry.setUsedVacationDaysBeforeExpiryDate(BigDecimal.valueOf(10L));
+        ledgerEntry.setUsedVacationDaysAfterExpiryDate(BigDecimal.valueOf(10L));
+        when(vacationDaysLedgerRepository.findCompleteByAccountId(42L)).thenReturn(Optional.of(ledgerEntry));
+
+        final VacationDaysLeft vacationDaysLeft = sut.getVacationDaysLeft(account, Optional.empty());
+        assertThat(vacationDaysLeft.getVacationDays()).isEqualByComparingTo(new BigDecimal(30L));
+        assertThat(vacationDaysLeft.getRemainingVacationDays()).isEqualByComparingTo(new BigDecimal(2L));
+    }
+
     @Test
     void testGetVacationDaysLeftWithoutExpire() {
 
@@ -484,6 +550,47 @@ class VacationDaysServiceTest {
         });
     }
 
+    @Test
+    void ensureGetVacationDaysLeftConsideringRemainingVacationDaysUsedInNextYear() {
+        final Person person = anyPerson();
+
+        final LocalDate firstDayOfYear = LocalDate.of(2022, 1, 1);
+        final LocalDate lastDayOfNextYear = LocalDate.of(2023, 12, 31);
+
+        final Account account = anyAccount(person, Year.of(2022));
+
+        // next year has only 5 new days, but using 10, i.e. 5 remaining vacation days of this year
+        final Account accountNextYear = anyAccount(person, Year.of(2023));
+        accountNextYear.setAnnualVacationDays(BigDecimal.valueOf(5));
+        accountNextYear.setActualVacationDays(BigDecimal.valueOf(5));
+        accountNextYear.setRemainingVacationDays(BigDecimal.valueOf(10));
+
+        final Application application = anyApplication(person);
+        application.setStartDate(LocalDate.of(2023, JANUARY, 2));
+        application.setEndDate(LocalDate.of(2023, JANUARY, 13));
+
+        final List<ApplicationStatus> applicationStatus = List.of(WAITING, TEMPORARY_ALLOWED, ALLOWED, ALLOWED_CANCELLATION_REQUESTED);
+        when(applicationService.getForStatesAndPerson(applicationStatus, List.of(person), LocalDate.of(2023, 1, 1), lastDayOfNextYear))
+            .thenReturn(List.of(application));
+
+        final WorkingTimeCalendar workingTimeCalendar = new WorkingTimeCalendar(workingTimeMondayToFriday(firstDayOfYear, lastDayOfNextYear));
+
+        final Map<Account, VacationDaysLeft> actual =
+            sut.getVacationDaysLeft(List.of(account), List.of(accountNextYear), Map.of(person, workingTimeCalendar));
+
+        assertThat(actual).hasSize(1);
+        assertThat(actual.get(account)).satisfies(vacationDaysLeft -> {
+            assertThat(vacationDaysLeft.getVacationDaysUsedNextYear()).isEqualByComparingTo(BigDecimal.valueOf(5));
+            assertThat(vacationDaysLeft.getVacationDays()).isEqualByComparingTo(BigDecimal.valueOf(25));
+            assertThat(vacationDaysLeft.getRemainingVacationDays()).isEqualByComparingTo(ZERO);
+        });
+    }
+
+    @Test
+    void ensureGetVacationDaysLeftConsideringNextYearReturnsEmptyMapWithoutHolidayAccounts() {
+        assertThat(sut.getVacationDaysLeft(List.of(), List.of(), Map.of())).isEmpty();
+    }
+
     @Test
     void ensureGetVacationDaysLeftWithApplicationBeforeExpiryDate() {
         final Person person = anyPerson();
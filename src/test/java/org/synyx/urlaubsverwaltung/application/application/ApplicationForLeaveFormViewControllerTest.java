@@ -26,6 +26,7 @@ import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeDto;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeService;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeViewModelService;
 import org.synyx.urlaubsverwaltung.department.DepartmentService;
+import org.synyx.urlaubsverwaltung.overlap.OverlapException;
 import org.synyx.urlaubsverwaltung.overtime.OvertimeSettings;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
@@ -863,6 +864,56 @@ class ApplicationForLeaveFormViewControllerTest {
         verify(applicationInteractionService).directAllow(any(), eq(person), any());
     }
 
+    @Test
+    void postNewApplicationFormShowFormIfOverlappingAbsenceWasSavedConcurrently() throws Exception {
+
+        when(settingsService.getSettings()).thenReturn(new Settings());
+
+        final Person person = personWithRole(OFFICE);
+        when(personService.getSignedInUser()).thenReturn(person);
+        when(applicationInteractionService.apply(any(), any(), any())).thenThrow(OverlapException.class);
+
+        final MessageSource messageSource = messageSourceForVacationType("message-key", "label", GERMAN);
+        final VacationType<?> vacationType = ProvidedVacationType.builder(messageSource)
+            .id(1L)
+            .category(HOLIDAY)
+            .messageKey("message-key")
+            .requiresApprovalToApply(true)
+            .build();
+        when(vacationTypeService.getById(1L)).thenReturn(Optional.of(vacationType));
+
+        perform(post("/web/application")
+            .param("vacationType.id", "1")
+            .locale(GERMAN))
+            .andExpect(model().attribute("errors", hasProperty("globalErrors", hasItems(hasProperty("code", is("application.error.overlap"))))))
+            .andExpect(view().name("application/application_form"));
+    }
+
+    @Test
+    void postNewApplicationFormShowFormIfVacationDaysWereUsedConcurrently() throws Exception {
+
+        when(settingsService.getSettings()).thenReturn(new Settings());
+
+        final Person person = personWithRole(OFFICE);
+        when(personService.getSignedInUser()).thenReturn(person);
+        when(applicationInteractionService.apply(any(), any(), any())).thenThrow(NotEnoughVacationDaysException.class);
+
+        final MessageSource messageSource = messageSourceForVacationType("message-key", "label", GERMAN);
+        final VacationType<?> vacationType = ProvidedVacationType.builder(messageSource)
+            .id(1L)
+            .category(HOLIDAY)
+            .messageKey("message-key")
+            .requiresApprovalToApply(true)
+            .build();
+        when(vacationTypeService.getById(1L)).thenReturn(Optional.of(vacationType));
+
+        perform(post("/web/application")
+            .param("vacationType.id", "1")
+            .locale(GERMAN))
+            .andExpect(model().attribute("errors", hasProperty("globalErrors", hasItems(hasProperty("code", is("application.error.notEnoughVacationDays"))))))
+            .andExpect(view().name("application/application_form"));
+    }
+
     @Test
     void postNewApplicationAddsFlashAttributeAndRedirectsToNewApplication() throws Exception {
 
@@ -1679,6 +1730,42 @@ class ApplicationForLeaveFormViewControllerTest {
             .andExpect(redirectedUrl("/web/application/1"));
     }
 
+    @Test
+    void sendEditApplicationFormShowFormIfOverlappingAbsenceWasSavedConcurrently() throws Exception {
+
+        when(settingsService.getSettings()).thenReturn(new Settings());
+
+        final Person person = new Person();
+        when(personService.getSignedInUser()).thenReturn(person);
+
+        final Long applicationId = 1L;
+        final Application application = new Application();
+        application.setStatus(WAITING);
+        application.setPerson(person);
+        when(applicationInteractionService.get(applicationId)).thenReturn(Optional.of(application));
+        when(applicationInteractionService.edit(eq(application), any(Application.class), eq(person), eq(Optional.of("comment")))).thenThrow(OverlapException.class);
+
+        final MessageSource messageSource = messageSourceForVacationType("message-key", "label", GERMAN);
+        final VacationType<?> vacationType = ProvidedVacationType.builder(messageSource)
+            .id(1L)
+            .category(HOLIDAY)
+            .messageKey("message-key")
+            .build();
+        when(vacationTypeService.getById(1L)).thenReturn(Optional.of(vacationType));
+
+        perform(post("/web/application/1/edit")
+            .param("person.id", "1")
+            .param("startDate", "28.10.2020")
+            .param("endDate", "28.10.2020")
+            .param("vacationType.id", "1")
+            .param("dayLength", "FULL")
+            .param("comment", "comment")
+            .locale(GERMAN)
+        )
+            .andExpect(model().attribute("errors", hasProperty("globalErrors", hasItems(hasProperty("code", is("application.error.overlap"))))))
+            .andExpect(view().name("application/application_form"));
+    }
+
     @Test
     void sendEditApplicationFormIsNotWaiting() throws Exception {
 
@@ -7,10 +7,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.support.StaticMessageSource;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountPeriod;
 import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 
 import static java.math.BigDecimal.TEN;
 import static java.time.DayOfWeek.FRIDAY;
@@ -22,6 +25,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.TestDataCreator.createApplication;
 import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
+import static org.synyx.urlaubsverwaltung.period.DayLength.MORNING;
 
 @ExtendWith(MockitoExtension.class)
 class ApplicationForLeaveTest {
@@ -62,4 +66,25 @@ class ApplicationForLeaveTest {
         assertThat(sut.getWeekDayOfStartDate()).isEqualTo(TUESDAY);
         assertThat(sut.getWeekDayOfEndDate()).isEqualTo(FRIDAY);
     }
+
+    @Test
+    void ensureCreatesApplicationsForLeaveWithWorkDaysCalculatedAtOnce() {
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+
+        final Application application = createApplication(person, of(2015, 3, 3), of(2015, 3, 6), FULL, new StaticMessageSource());
+        final Application otherApplication = createApplication(person, of(2015, 4, 1), of(2015, 4, 1), MORNING, new StaticMessageSource());
+
+        final WorkDaysCountPeriod period = new WorkDaysCountPeriod(person, of(2015, 3, 3), of(2015, 3, 6), FULL);
+        final WorkDaysCountPeriod otherPeriod = new WorkDaysCountPeriod(person, of(2015, 4, 1), of(2015, 4, 1), MORNING);
+        when(workDaysCountService.getWorkDaysCount(List.of(period, otherPeriod)))
+            .thenReturn(Map.of(period, TEN, otherPeriod, BigDecimal.valueOf(0.5)));
+
+        final List<ApplicationForLeave> applicationsForLeave = ApplicationForLeave.from(List.of(application, otherApplication), workDaysCountService);
+        assertThat(applicationsForLeave).hasSize(2);
+        assertThat(applicationsForLeave.get(0).getStartDate()).isEqualTo(application.getStartDate());
+        assertThat(applicationsForLeave.get(0).getWorkDays()).isEqualTo(TEN);
+        assertThat(applicationsForLeave.get(1).getStartDate()).isEqualTo(otherApplication.getStartDate());
+        assertThat(applicationsForLeave.get(1).getWorkDays()).isEqualTo(BigDecimal.valueOf(0.5));
+    }
 }
@@ -0,0 +1,134 @@
+package org.synyx.urlaubsverwaltung.application.application;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.synyx.urlaubsverwaltung.TestContainersBase;
+import org.synyx.urlaubsverwaltung.account.AccountInteractionService;
+import org.synyx.urlaubsverwaltung.application.vacationtype.VacationType;
+import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeService;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonService;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static java.math.BigDecimal.ZERO;
+import static java.time.DayOfWeek.MONDAY;
+import static java.time.Month.APRIL;
+import static java.time.Month.DECEMBER;
+import static java.time.Month.JANUARY;
+import static java.time.Month.MARCH;
+import static java.time.temporal.TemporalAdjusters.nextOrSame;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory.HOLIDAY;
+import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
+import static org.synyx.urlaubsverwaltung.person.Role.USER;
+
+@SpringBootTest
+class ApplicationInteractionServiceImplIT extends TestContainersBase {
+
+    @Autowired
+    private ApplicationInteractionService applicationInteractionService;
+    @Autowired
+    private ApplicationService applicationService;
+    @Autowired
+    private AccountInteractionService accountInteractionService;
+    @Autowired
+    private PersonService personService;
+    @Autowired
+    private VacationTypeService vacationTypeService;
+
+    private Person person;
+
+    @AfterEach
+    void tearDown() {
+        if (person != null) {
+            personService.delete(person, person);
+        }
+    }
+
+    @Test
+    void ensureOnlyOneOfConcurrentApplicationsForLeaveOverdrawingTheAccountIsSaved() throws Exception {
+
+        person = personService.create("concurrent-overdraw", "Marlene", "Muster", "concurrent-overdraw@example.org", List.of(), List.of(USER));
+
+        final int year = LocalDate.now().getYear() + 1;
+        final BigDecimal fiveDays = BigDecimal.valueOf(5);
+        accountInteractionService.updateOrCreateHolidaysAccount(person, LocalDate.of(year, JANUARY, 1), LocalDate.of(year, DECEMBER, 31),
+            true, LocalDate.of(year, APRIL, 1), fiveDays, fiveDays, ZERO, ZERO, null);
+
+        final VacationType<?> holiday = vacationTypeService.getActiveVacationTypes().stream()
+            .filter(vacationType -> vacationType.isOfCategory(HOLIDAY))
+            .findFirst()
+            .orElseThrow();
+
+        // two applications for leave of three work days each, which do not overlap but overdraw the five days together
+        final LocalDate firstMonday = LocalDate.of(year, MARCH, 1).with(nextOrSame(MONDAY));
+        final LocalDate secondMonday = firstMonday.plusWeeks(1);
+        final List<Callable<Object>> submissions = List.of(
+            () -> applicationInteractionService.apply(application(holiday, firstMonday, firstMonday.plusDays(2)), person, Optional.empty()),
+            () -> applicationInteractionService.apply(application(holiday, secondMonday, secondMonday.plusDays(2)), person, Optional.empty())
+        );
+
+        final List<Object> results = submitAtOnce(submissions);
+
+        assertThat(results).filteredOn(Application.class::isInstance).hasSize(1);
+        assertThat(results).filteredOn(NotEnoughVacationDaysException.class::isInstance).hasSize(1);
+        assertThat(applicationService.getApplicationsForACertainPeriodAndPerson(firstMonday, secondMonday.plusDays(2), person)).hasSize(1);
+    }
+
+    /**
+     * Runs the given submissions in parallel, releasing all of them at the same time.
+     *
+     * @return the result of every submission or the exception it has thrown
+     */
+    private static List<Object> submitAtOnce(List<Callable<Object>> submissions) throws InterruptedException {
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(submissions.size());
+        final CountDownLatch start = new CountDownLatch(1);
+        try {
+            final List<Future<Object>> futures = new ArrayList<>();
+            for (Callable<Object> submission : submissions) {
+                futures.add(executorService.submit(() -> {
+                    start.await();
+                    return submission.call();
+                }));
+            }
+
+            start.countDown();
+
+            final List<Object> results = new ArrayList<>();
+            for (Future<Object> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    results.add(e.getCause());
+                }
+            }
+            return results;
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private Application application(VacationType<?> vacationType, LocalDate startDate, LocalDate endDate) {
+        final Application application = new Application();
+        application.setPerson(person);
+        application.setVacationType(vacationType);
+        application.setStartDate(startDate);
+        application.setEndDate(endDate);
+        application.setDayLength(FULL);
+        return application;
+    }
+}
@@ -18,6 +18,8 @@ import org.synyx.urlaubsverwaltung.application.comment.ApplicationCommentService
 import org.synyx.urlaubsverwaltung.application.vacationtype.ProvidedVacationType;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationType;
 import org.synyx.urlaubsverwaltung.department.DepartmentService;
+import org.synyx.urlaubsverwaltung.overlap.OverlapException;
+import org.synyx.urlaubsverwaltung.overlap.OverlapService;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonDeletedEvent;
@@ -40,6 +42,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -61,6 +64,7 @@ import static org.synyx.urlaubsverwaltung.application.comment.ApplicationComment
 import static org.synyx.urlaubsverwaltung.application.comment.ApplicationCommentAction.EDITED;
 import static org.synyx.urlaubsverwaltung.application.comment.ApplicationCommentAction.REFERRED;
 import static org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory.HOLIDAY;
+import static org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory.OVERTIME;
 import static org.synyx.urlaubsverwaltung.person.Role.DEPARTMENT_HEAD;
 import static org.synyx.urlaubsverwaltung.person.Role.OFFICE;
 import static org.synyx.urlaubsverwaltung.person.Role.SECOND_STAGE_AUTHORITY;
@@ -82,6 +86,10 @@ class ApplicationInteractionServiceImplTest {
     @Mock
     private DepartmentService departmentService;
     @Mock
+    private OverlapService overlapService;
+    @Mock
+    private CalculationService calculationService;
+    @Mock
     private ApplicationEventPublisher applicationEventPublisher;
 
     private final Clock clock = Clock.systemUTC();
@@ -89,7 +97,7 @@ class ApplicationInteractionServiceImplTest {
     @BeforeEach
     void setUp() {
         sut = new ApplicationInteractionServiceImpl(applicationService, commentService, accountInteractionService,
-            applicationMailService, departmentService, clock, applicationEventPublisher);
+            applicationMailService, departmentService, overlapService, calculationService, clock, applicationEventPublisher);
     }
 
     // APPLY FOR LEAVE -------------------------------------------------------------------------------------------------
@@ -178,7 +186,69 @@ class ApplicationInteractionServiceImplTest {
         verify(accountInteractionService).updateRemainingVacationDays(2013, person);
     }
 
+    @Test
+    void ensureApplyForLeaveEnsuresNoOverlapBeforeSaving() {
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+
+        final Application applicationForLeave = getDummyApplication(person);
+        when(applicationService.save(applicationForLeave)).thenReturn(applicationForLeave);
+
+        sut.apply(applicationForLeave, person, of("Foo"));
+
+        final InOrder inOrder = inOrder(overlapService, applicationService);
+        inOrder.verify(overlapService).lockAndEnsureNoOverlap(applicationForLeave);
+        inOrder.verify(applicationService).save(applicationForLeave);
+    }
+
+    @Test
+    void ensureApplyForLeaveDoesNotSaveOverlappingApplication() {
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+
+        final Application applicationForLeave = getDummyApplication(person);
+        doThrow(OverlapException.class).when(overlapService).lockAndEnsureNoOverlap(applicationForLeave);
+
+        assertThatThrownBy(() -> sut.apply(applicationForLeave, person, of("Foo")))
+            .isInstanceOf(OverlapException.class);
+
+        verify(applicationService, never()).save(any());
+        verifyNoInteractions(commentService, applicationMailService, applicationEventPublisher);
+    }
+
     // Direct ALLOW APPLICATION FOR LEAVE -------------------------------------------------------------------------------------
+    @Test
+    void ensureApplyForLeaveEnsuresEnoughVacationDaysAfterLockingThePerson() {
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+
+        final Application applicationForLeave = createApplication(person, createVacationType(1L, HOLIDAY, new StaticMessageSource()));
+        when(calculationService.checkApplication(applicationForLeave)).thenReturn(true);
+        when(applicationService.save(applicationForLeave)).thenReturn(applicationForLeave);
+
+        sut.apply(applicationForLeave, person, of("Foo"));
+
+        final InOrder inOrder = inOrder(overlapService, calculationService, applicationService);
+        inOrder.verify(overlapService).lockAndEnsureNoOverlap(applicationForLeave);
+        inOrder.verify(calculationService).checkApplication(applicationForLeave);
+        inOrder.verify(applicationService).save(applicationForLeave);
+    }
+
+    @Test
+    void ensureApplyForLeaveDoesNotSaveApplicationWithoutEnoughVacationDays() {
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+
+        final Application applicationForLeave = createApplication(person, createVacationType(1L, HOLIDAY, new StaticMessageSource()));
+        when(calculationService.checkApplication(applicationForLeave)).thenReturn(false);
+
+        assertThatThrownBy(() -> sut.apply(applicationForLeave, person, of("Foo")))
+            .isInstanceOf(NotEnoughVacationDaysException.class);
+
+        verify(applicationService, never()).save(any());
+        verifyNoInteractions(commentService, applicationMailService, applicationEventPublisher);
+    }
+
     @Test
     void ensureApplicationForLeaveCanBeAllowedDirectly() {
 
@@ -215,6 +285,22 @@ class ApplicationInteractionServiceImplTest {
         assertThat(event.id()).isNotNull();
     }
 
+    @Test
+    void ensureApplicationForLeaveIsNotAllowedDirectlyIfOverlapping() {
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+
+        final Application applicationForLeave = getDummyApplication(person);
+        doThrow(OverlapException.class).when(overlapService).lockAndEnsureNoOverlap(applicationForLeave);
+
+        final Optional<String> comment = of("Foo");
+        assertThatThrownBy(() -> sut.directAllow(applicationForLeave, person, comment))
+            .isInstanceOf(OverlapException.class);
+
+        verify(applicationService, never()).save(any());
+        verifyNoInteractions(commentService, applicationMailService, applicationEventPublisher);
+    }
+
     @Test
     void ensureApplicationForLeaveCanBeAllowedDirectlyWithCalendarSync() {
 
@@ -1299,6 +1385,7 @@ class ApplicationInteractionServiceImplTest {
 
         final Optional<String> comment = of("Comment");
 
+        when(calculationService.checkApplication(application)).thenReturn(true);
         final Application editedApplication = sut.edit(application, application, person, comment);
         assertThat(editedApplication.getStatus()).isEqualTo(WAITING);
 
@@ -1329,6 +1416,7 @@ class ApplicationInteractionServiceImplTest {
 
         final Person office = new Person("muster", "Muster", "Marlene", "muster@example.org");
         office.setPermissions(List.of(USER, OFFICE));
+        when(calculationService.checkApplication(application)).thenReturn(true);
         final Application editedApplication = sut.edit(application, application, office, comment);
         assertThat(editedApplication.getStatus()).isEqualTo(ALLOWED);
 
@@ -1367,6 +1455,7 @@ class ApplicationInteractionServiceImplTest {
 
         final Optional<String> comment = of("Comment");
 
+        when(calculationService.checkApplication(newApplication)).thenReturn(true);
         final Application editedApplication = sut.edit(oldApplication, newApplication, person, comment);
         assertThat(editedApplication.getStatus()).isEqualTo(WAITING);
 
@@ -1399,6 +1488,7 @@ class ApplicationInteractionServiceImplTest {
 
         final Optional<String> comment = of("Comment");
 
+        when(calculationService.checkApplication(newApplication)).thenReturn(true);
         final Application editedApplication = sut.edit(oldApplication, newApplication, person, comment);
         assertThat(editedApplication.getStatus()).isEqualTo(WAITING);
 
@@ -1436,6 +1526,7 @@ class ApplicationInteractionServiceImplTest {
 
         final Optional<String> comment = of("Comment");
 
+        when(calculationService.checkApplication(newApplication)).thenReturn(true);
         final Application editedApplication = sut.edit(oldApplication, newApplication, person, comment);
         assertThat(editedApplication.getStatus()).isEqualTo(WAITING);
 
@@ -1471,6 +1562,7 @@ class ApplicationInteractionServiceImplTest {
 
         final Optional<String> comment = of("Comment");
 
+        when(calculationService.checkApplication(newApplication)).thenReturn(true);
         final Application editedApplication = sut.edit(oldApplication, newApplication, person, comment);
         assertThat(editedApplication.getStatus()).isEqualTo(WAITING);
 
@@ -1516,6 +1608,40 @@ class ApplicationInteractionServiceImplTest {
         verifyNoInteractions(commentService);
     }
 
+    @Test
+    void editApplicationThatOverlaps() {
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        final Application application = createApplication(person, createVacationType(1L, HOLIDAY, new StaticMessageSource()));
+        application.setStatus(WAITING);
+        application.setId(1L);
+        doThrow(OverlapException.class).when(overlapService).lockAndEnsureNoOverlap(application);
+
+        final Optional<String> comment = of("Comment");
+        assertThatThrownBy(() -> sut.edit(application, application, person, comment))
+            .isInstanceOf(OverlapException.class);
+
+        verify(applicationService, never()).save(any());
+        verifyNoInteractions(applicationMailService, commentService, applicationEventPublisher);
+    }
+
+    @Test
+    void editApplicationWithoutEnoughVacationDays() {
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        final Application application = createApplication(person, createVacationType(1L, HOLIDAY, new StaticMessageSource()));
+        application.setStatus(WAITING);
+        application.setId(1L);
+        when(calculationService.checkApplication(application)).thenReturn(false);
+
+        final Optional<String> comment = of("Comment");
+        assertThatThrownBy(() -> sut.edit(application, application, person, comment))
+            .isInstanceOf(NotEnoughVacationDaysException.class);
+
+        verify(applicationService, never()).save(any());
+        verifyNoInteractions(applicationMailService, commentService, applicationEventPublisher);
+    }
+
     @Test
     void ensureDeletionOfApplicationAndCommentsOnPersonDeletedEvent() {
         final Person person = new Person();
@@ -1588,6 +1714,7 @@ class ApplicationInteractionServiceImplTest {
         applicationForLeave.setStartDate(LocalDate.of(2013, 2, 1));
         applicationForLeave.setEndDate(LocalDate.of(2013, 2, 5));
         applicationForLeave.setDayLength(DayLength.FULL);
+        applicationForLeave.setVacationType(createVacationType(1L, OVERTIME, new StaticMessageSource()));
         applicationForLeave.setHolidayReplacements(List.of(replacementEntity));
 
         return applicationForLeave;
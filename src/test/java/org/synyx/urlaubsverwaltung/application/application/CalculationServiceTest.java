@@ -82,7 +82,7 @@ class CalculationServiceTest {
         final WorkDaysCountService workDaysCountService = new WorkDaysCountService(publicHolidaysService, workingTimeService);
 
         sut = new CalculationService(vacationDaysService, accountService, accountInteractionService, workDaysCountService,
-            new OverlapService(null, null), applicationService);
+            new OverlapService(null, null, null), applicationService);
     }
 
     @Test
@@ -96,7 +96,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, startDate, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(startDate, endDate), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(startDate, endDate), workingTime)));
 
         final Application applicationForLeaveToCheckSaved = new Application();
         applicationForLeaveToCheckSaved.setId(10L);
@@ -129,7 +129,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, startDate, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(startDate, endDate), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(startDate, endDate), workingTime)));
 
         final Application applicationForLeaveToCheckSaved = new Application();
         applicationForLeaveToCheckSaved.setId(10L);
@@ -162,7 +162,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, startDate, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(startDate, endDate), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(startDate, endDate), workingTime)));
 
         final Application applicationForLeaveToCheckSaved = new Application();
         applicationForLeaveToCheckSaved.setId(10L);
@@ -210,7 +210,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, startDate, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(startDate, endDate), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(startDate, endDate), workingTime)));
 
         final Application applicationForLeaveToCheckSaved = new Application();
         applicationForLeaveToCheckSaved.setId(10L);
@@ -243,7 +243,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, startDate, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(startDate, endDate), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(startDate, endDate), workingTime)));
 
         final Application applicationForLeaveToCheckSaved = new Application();
         applicationForLeaveToCheckSaved.setId(10L);
@@ -276,7 +276,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, startDate, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(startDate, endDate), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(startDate, endDate), workingTime)));
 
         final Application applicationForLeaveToCheckSaved = new Application();
         applicationForLeaveToCheckSaved.setId(10L);
@@ -338,7 +338,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, date, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(date, date), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(date, date), workingTime)));
 
         final Application applicationForLeaveToCheck = new Application();
         applicationForLeaveToCheck.setStartDate(date);
@@ -377,7 +377,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, date, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(date, date), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(date, date), workingTime)));
 
         final Application applicationForLeaveToCheck = new Application();
         applicationForLeaveToCheck.setStartDate(date);
@@ -415,7 +415,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, date, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(date, date), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(date, date), workingTime)));
 
         final Application applicationForLeaveToCheck = new Application();
         applicationForLeaveToCheck.setStartDate(date);
@@ -453,7 +453,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, date, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(date, date), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(date, date), workingTime)));
 
         final Application applicationForLeaveToCheck = createApplicationStub(person);
         applicationForLeaveToCheck.setStartDate(date);
@@ -495,7 +495,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, endDate, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(startDate, endDate), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(startDate, endDate), workingTime)));
 
         final Application applicationForLeaveToCheck = new Application();
         applicationForLeaveToCheck.setStartDate(startDate);
@@ -534,7 +534,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, date, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(date, date), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(date, date), workingTime)));
 
         final Application applicationForLeaveToCheck = createApplicationStub(person);
         applicationForLeaveToCheck.setStartDate(date);
@@ -552,7 +552,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, date, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(date, date), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(date, date), workingTime)));
 
         final Application applicationForLeaveToCheck = createApplicationStub(person);
         applicationForLeaveToCheck.setStartDate(date);
@@ -594,7 +594,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, date, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(date, date), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(date, date), workingTime)));
 
         final Application applicationForLeaveToCheck = new Application();
         applicationForLeaveToCheck.setStartDate(date);
@@ -634,7 +634,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, startDate, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(startDate, endDate), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(startDate, endDate), workingTime)));
 
         final Application applicationForLeaveToCheck = createApplicationStub(person);
         applicationForLeaveToCheck.setStartDate(startDate);
@@ -655,7 +655,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, startDate, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(startDate, endDate), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(startDate, endDate), workingTime)));
 
         final Application applicationForLeaveToCheck = createApplicationStub(person);
         applicationForLeaveToCheck.setStartDate(startDate);
@@ -699,7 +699,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, startDate, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(startDate, endDate), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(startDate, endDate), workingTime)));
 
         final Application applicationForLeaveToCheck = createApplicationStub(person);
         // nine days
@@ -748,7 +748,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, date, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(date, date), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(date, date), workingTime)));
 
         final Application applicationForLeaveToCheck = createApplicationStub(person);
 
@@ -796,7 +796,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, start, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(start, end), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(start, end), workingTime)));
 
         final Application applicationForLeaveToCheck = createApplicationStub(person);
 
@@ -843,7 +843,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, date, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(date, date), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(date, date), workingTime)));
 
         final Application applicationForLeaveToCheck = createApplicationStub(person);
 
@@ -890,7 +890,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, date, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(date, date), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(date, date), workingTime)));
 
         final Application applicationForLeaveToCheck = createApplicationStub(person);
 
@@ -938,7 +938,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, start, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(start, end), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(start, end), workingTime)));
 
         final Application applicationForLeaveToCheck = createApplicationStub(person);
 
@@ -986,7 +986,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, start, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(start, end), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(start, end), workingTime)));
 
         final Application applicationForLeaveToCheck = createApplicationStub(person);
 
@@ -1034,7 +1034,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, start, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(start, end), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(start, end), workingTime)));
 
         final Application applicationForLeaveToCheck = createApplicationStub(person);
 
@@ -1082,7 +1082,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, startDate, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(startDate, endDate), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(startDate, endDate), workingTime)));
 
         final Application applicationForLeaveToCheckSaved = new Application();
         applicationForLeaveToCheckSaved.setId(10L);
@@ -3,21 +3,24 @@ package org.synyx.urlaubsverwaltung.application.export;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.support.StaticMessageSource;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.synyx.urlaubsverwaltung.application.application.Application;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationForLeave;
 import org.synyx.urlaubsverwaltung.application.vacationtype.ProvidedVacationType;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationType;
-import org.synyx.urlaubsverwaltung.csv.CSVFile;
+import org.synyx.urlaubsverwaltung.csv.CSVStream;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
@@ -30,12 +33,17 @@ import java.time.Clock;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Locale;
+import java.util.stream.Stream;
 
 import static java.math.BigDecimal.TEN;
 import static java.util.Locale.JAPANESE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED;
@@ -52,6 +60,8 @@ class ApplicationForLeaveExportViewControllerTest {
     private ApplicationForLeaveExportService applicationForLeaveExportService;
     @Mock
     private ApplicationForLeaveCsvExportService applicationForLeaveCsvExportService;
+    @Captor
+    private ArgumentCaptor<Stream<ApplicationForLeaveExport>> exportCaptor;
     @Mock
     private WorkDaysCountService workDaysCountService;
 
@@ -107,15 +117,17 @@ class ApplicationForLeaveExportViewControllerTest {
         final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
         when(applicationForLeaveExportService.getAll(signedInUser, startDate, endDate, pageableSearchQuery)).thenReturn(new PageImpl<>(List.of(applicationForLeaveExport)));
 
-        final CSVFile csvFile = new CSVFile("csv-file-name", new ByteArrayResource("csv-resource".getBytes()));
-        when(applicationForLeaveCsvExportService.generateCSV(filterPeriod, locale, List.of(applicationForLeaveExport))).thenReturn(csvFile);
+        final CSVStream csvStream = new CSVStream("csv-file-name", outputStream -> outputStream.write("csv-resource".getBytes()));
+        when(applicationForLeaveCsvExportService.streamCSV(eq(filterPeriod), eq(locale), exportCaptor.capture())).thenReturn(csvStream);
 
-        perform(get("/web/application/export")
+        performStreaming(get("/web/application/export")
             .locale(locale)
             .param("from", "01.01.2019")
             .param("to", "01.08.2019"))
             .andExpect(status().isOk())
             .andExpect(content().string("csv-resource"));
+
+        assertThat(exportCaptor.getValue()).containsExactly(applicationForLeaveExport);
     }
 
     @Test
@@ -154,10 +166,10 @@ class ApplicationForLeaveExportViewControllerTest {
         final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(PageRequest.of(2, 50, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
         when(applicationForLeaveExportService.getAll(signedInUser, startDate, endDate, pageableSearchQuery)).thenReturn(new PageImpl<>(List.of(applicationForLeaveExport)));
 
-        final CSVFile csvFile = new CSVFile("csv-file-name", new ByteArrayResource("csv-resource".getBytes()));
-        when(applicationForLeaveCsvExportService.generateCSV(filterPeriod, locale, List.of(applicationForLeaveExport))).thenReturn(csvFile);
+        final CSVStream csvStream = new CSVStream("csv-file-name", outputStream -> outputStream.write("csv-resource".getBytes()));
+        when(applicationForLeaveCsvExportService.streamCSV(eq(filterPeriod), eq(locale), exportCaptor.capture())).thenReturn(csvStream);
 
-        perform(get("/web/application/export")
+        performStreaming(get("/web/application/export")
             .locale(locale)
             .param("from", "01.01.2019")
             .param("to", "01.08.2019")
@@ -165,6 +177,8 @@ class ApplicationForLeaveExportViewControllerTest {
             .param("size", "50"))
             .andExpect(status().isOk())
             .andExpect(content().string("csv-resource"));
+
+        assertThat(exportCaptor.getValue()).containsExactly(applicationForLeaveExport);
     }
 
     @Test
@@ -200,19 +214,21 @@ class ApplicationForLeaveExportViewControllerTest {
         final ApplicationForLeave applicationForLeave = new ApplicationForLeave(application, workDaysCountService);
 
         final ApplicationForLeaveExport applicationForLeaveExport = new ApplicationForLeaveExport("1", signedInUser.getFirstName(), signedInUser.getLastName(), List.of(applicationForLeave), List.of("departmentA"));
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(PageRequest.of(0, Integer.MAX_VALUE, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
+        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(PageRequest.of(0, 100, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
         when(applicationForLeaveExportService.getAll(signedInUser, startDate, endDate, pageableSearchQuery)).thenReturn(new PageImpl<>(List.of(applicationForLeaveExport)));
 
-        final CSVFile csvFile = new CSVFile("csv-file-name", new ByteArrayResource("csv-resource".getBytes()));
-        when(applicationForLeaveCsvExportService.generateCSV(filterPeriod, locale, List.of(applicationForLeaveExport))).thenReturn(csvFile);
+        final CSVStream csvStream = new CSVStream("csv-file-name", outputStream -> outputStream.write("csv-resource".getBytes()));
+        when(applicationForLeaveCsvExportService.streamCSV(eq(filterPeriod), eq(locale), exportCaptor.capture())).thenReturn(csvStream);
 
-        perform(get("/web/application/export")
+        performStreaming(get("/web/application/export")
             .locale(locale)
             .param("from", "01.01.2019")
             .param("to", "01.08.2019")
             .param("allElements", "true"))
             .andExpect(status().isOk())
             .andExpect(content().string("csv-resource"));
+
+        assertThat(exportCaptor.getValue()).containsExactly(applicationForLeaveExport);
     }
 
     @Test
@@ -248,13 +264,13 @@ class ApplicationForLeaveExportViewControllerTest {
         final ApplicationForLeave applicationForLeave = new ApplicationForLeave(application, workDaysCountService);
 
         final ApplicationForLeaveExport applicationForLeaveExport = new ApplicationForLeaveExport("1", signedInUser.getFirstName(), signedInUser.getLastName(), List.of(applicationForLeave), List.of("departmentA"));
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(PageRequest.of(0, Integer.MAX_VALUE, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
+        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(PageRequest.of(0, 100, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
         when(applicationForLeaveExportService.getAll(signedInUser, startDate, endDate, pageableSearchQuery)).thenReturn(new PageImpl<>(List.of(applicationForLeaveExport)));
 
-        final CSVFile csvFile = new CSVFile("csv-file-name", new ByteArrayResource("csv-resource".getBytes()));
-        when(applicationForLeaveCsvExportService.generateCSV(filterPeriod, locale, List.of(applicationForLeaveExport))).thenReturn(csvFile);
+        final CSVStream csvStream = new CSVStream("csv-file-name", outputStream -> outputStream.write("csv-resource".getBytes()));
+        when(applicationForLeaveCsvExportService.streamCSV(eq(filterPeriod), eq(locale), exportCaptor.capture())).thenReturn(csvStream);
 
-        perform(get("/web/application/export")
+        performStreaming(get("/web/application/export")
             .locale(locale)
             .param("from", "01.01.2019")
             .param("to", "01.08.2019")
@@ -264,6 +280,8 @@ class ApplicationForLeaveExportViewControllerTest {
             .param("query", "hans"))
             .andExpect(status().isOk())
             .andExpect(content().string("csv-resource"));
+
+        assertThat(exportCaptor.getValue()).containsExactly(applicationForLeaveExport);
     }
 
     private ResultActions perform(MockHttpServletRequestBuilder builder) throws Exception {
@@ -272,4 +290,16 @@ class ApplicationForLeaveExportViewControllerTest {
             .build()
             .perform(builder);
     }
+
+    private ResultActions performStreaming(MockHttpServletRequestBuilder builder) throws Exception {
+        final MockMvc mockMvc = standaloneSetup(sut)
+            .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
+            .build();
+
+        final MvcResult mvcResult = mockMvc.perform(builder)
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        return mockMvc.perform(asyncDispatch(mvcResult));
+    }
 }
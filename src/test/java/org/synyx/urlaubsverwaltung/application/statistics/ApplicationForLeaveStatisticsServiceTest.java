@@ -13,6 +13,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.synyx.urlaubsverwaltung.absence.AbsenceDayProjection;
 import org.synyx.urlaubsverwaltung.application.vacationtype.ProvidedVacationType;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationType;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeService;
@@ -24,13 +25,21 @@ import org.synyx.urlaubsverwaltung.person.Role;
 import org.synyx.urlaubsverwaltung.person.basedata.PersonBasedata;
 import org.synyx.urlaubsverwaltung.person.basedata.PersonBasedataService;
 import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
+import org.synyx.urlaubsverwaltung.settings.Settings;
+import org.synyx.urlaubsverwaltung.settings.SettingsService;
 import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 
+import java.math.BigDecimal;
+import java.time.Clock;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.person.Role.OFFICE;
 import static org.synyx.urlaubsverwaltung.person.Role.USER;
@@ -49,11 +58,20 @@ class ApplicationForLeaveStatisticsServiceTest {
     @Mock
     private ApplicationForLeaveStatisticsBuilder applicationForLeaveStatisticsBuilder;
     @Mock
+    private ApplicationForLeaveStatisticsSortQuery applicationForLeaveStatisticsSortQuery;
+    @Mock
     private VacationTypeService vacationTypeService;
+    @Mock
+    private SettingsService settingsService;
+    @Mock
+    private AbsenceDayProjection absenceDayProjection;
+
+    private final Clock clock = Clock.systemUTC();
 
     @BeforeEach
     void setUp() {
-        sut = new ApplicationForLeaveStatisticsService(personService, personBasedataService, departmentService, applicationForLeaveStatisticsBuilder, vacationTypeService);
+        sut = new ApplicationForLeaveStatisticsService(personService, personBasedataService, departmentService,
+            applicationForLeaveStatisticsBuilder, applicationForLeaveStatisticsSortQuery, vacationTypeService, settingsService, absenceDayProjection, clock);
     }
 
     @ParameterizedTest
@@ -174,7 +192,7 @@ class ApplicationForLeaveStatisticsServiceTest {
 
     @ParameterizedTest
     @EnumSource(value = Role.class, names = {"BOSS", "OFFICE"})
-    void ensureAllActivePersonsAreRequestedWhenSortedByStatisticsAttributeByRole(Role role) {
+    void ensureStatisticsAreSortedAndPagedInDatabaseWhenSortedByStatisticsAttributeByRole(Role role) {
 
         final LocalDate startDate = LocalDate.parse("2018-01-01");
         final LocalDate endDate = LocalDate.parse("2018-12-31");
@@ -188,30 +206,39 @@ class ApplicationForLeaveStatisticsServiceTest {
         anyPerson.setId(2L);
         anyPerson.setPermissions(List.of(USER));
 
-        // unsorted PageRequest for persons expected since sut is called with sorting attribute for statistics.
-        final PageRequest activePersonsPageRequest = PageRequest.of(0, 10);
-        final PageableSearchQuery activePersonsPageableSearchQuery = new PageableSearchQuery(activePersonsPageRequest, "");
-        when(personService.getActivePersons(activePersonsPageableSearchQuery)).thenReturn(new PageImpl<>(List.of(anyPerson)));
+        final Person otherPerson = new Person();
+        otherPerson.setId(3L);
+        otherPerson.setPermissions(List.of(USER));
+
+        when(absenceDayProjection.isComplete()).thenReturn(true);
+        when(settingsService.getSettings()).thenReturn(new Settings());
+
+        final PageRequest pageRequest = PageRequest.of(1, 2, Sort.Direction.ASC, "person.firstName", "leftVacationDaysForYear");
+        when(applicationForLeaveStatisticsSortQuery.findActivePersonIds(pageRequest, "mar", filterPeriod, true, LocalDate.now(clock)))
+            .thenReturn(new PageImpl<>(List.of(3L, 2L), pageRequest, 4));
+        when(personService.getPersonsByIds(List.of(3L, 2L))).thenReturn(List.of(anyPerson, otherPerson));
 
         final VacationType<?> vacationType = ProvidedVacationType.builder(new StaticMessageSource()).build();
-//        final VacationType<?> vacationType = new VacationType(1L, true, HOLIDAY, "message_key", true, true, YELLOW, false);
         final List<VacationType<?>> vacationTypes = List.of(vacationType);
         when(vacationTypeService.getActiveVacationTypes()).thenReturn(vacationTypes);
 
-        when(applicationForLeaveStatisticsBuilder.build(List.of(anyPerson), startDate, endDate, vacationTypes))
-            .thenReturn(Map.of(anyPerson, new ApplicationForLeaveStatistics(anyPerson, vacationTypes)));
+        when(applicationForLeaveStatisticsBuilder.build(List.of(otherPerson, anyPerson), startDate, endDate, vacationTypes))
+            .thenReturn(Map.of(
+                anyPerson, new ApplicationForLeaveStatistics(anyPerson, vacationTypes),
+                otherPerson, new ApplicationForLeaveStatistics(otherPerson, vacationTypes)
+            ));
 
-        final PageRequest pageRequest = PageRequest.of(0, 10, Sort.Direction.ASC, "person.firstName", "leftVacationDaysForYear");
-        final PageableSearchQuery statisticsPageableSearchQuery = new PageableSearchQuery(pageRequest, "");
+        final PageableSearchQuery statisticsPageableSearchQuery = new PageableSearchQuery(pageRequest, "mar");
 
         final Page<ApplicationForLeaveStatistics> statisticsPage = sut.getStatistics(personWithRole, filterPeriod, statisticsPageableSearchQuery);
 
-        assertThat(statisticsPage.getContent()).hasSize(1);
-        assertThat(statisticsPage.getContent().get(0).getPerson()).isEqualTo(anyPerson);
+        assertThat(statisticsPage.getContent()).extracting(ApplicationForLeaveStatistics::getPerson).containsExactly(otherPerson, anyPerson);
+        assertThat(statisticsPage.getTotalElements()).isEqualTo(4);
+        verify(personService, never()).getActivePersons(any(PageableSearchQuery.class));
     }
 
     @Test
-    void ensureAllActivePersonsAreRequestedWhenSortedByStatisticsAttributeByNotBossOrOffice() {
+    void ensureStatisticsAreSortedAndPagedInDatabaseWhenSortedByStatisticsAttributeByNotBossOrOffice() {
 
         final LocalDate startDate = LocalDate.parse("2018-01-01");
         final LocalDate endDate = LocalDate.parse("2018-12-31");
@@ -233,24 +260,78 @@ class ApplicationForLeaveStatisticsServiceTest {
         when(departmentService.getManagedMembersOfPerson(notBossOrOfficePerson, new PageableSearchQuery(Pageable.unpaged(), "")))
             .thenReturn(new PageImpl<>(List.of(departmentMember, departmentMemberTwo)));
 
+        when(absenceDayProjection.isComplete()).thenReturn(true);
+        when(settingsService.getSettings()).thenReturn(new Settings());
+
+        final PageRequest pageRequest = PageRequest.of(0, 10, Sort.Direction.DESC, "leftVacationDaysForYear");
+        when(applicationForLeaveStatisticsSortQuery.findPersonIds(List.of(2L, 3L), pageRequest, filterPeriod, true, LocalDate.now(clock)))
+            .thenReturn(new PageImpl<>(List.of(3L, 2L), pageRequest, 2));
+
         final VacationType<?> vacationType = ProvidedVacationType.builder(new StaticMessageSource()).build();
-//        final VacationType<?> vacationType = new VacationType(1L, true, HOLIDAY, "message_key", true, true, YELLOW, false);
         final List<VacationType<?>> vacationTypes = List.of(vacationType);
         when(vacationTypeService.getActiveVacationTypes()).thenReturn(vacationTypes);
 
-        when(applicationForLeaveStatisticsBuilder.build(List.of(departmentMember, departmentMemberTwo), startDate, endDate, vacationTypes))
+        when(applicationForLeaveStatisticsBuilder.build(List.of(departmentMemberTwo, departmentMember), startDate, endDate, vacationTypes))
             .thenReturn(Map.of(
                 departmentMember, new ApplicationForLeaveStatistics(departmentMember, vacationTypes),
                 departmentMemberTwo, new ApplicationForLeaveStatistics(departmentMemberTwo, vacationTypes)
             ));
 
-        final PageRequest pageRequest = PageRequest.of(0, 10, Sort.Direction.ASC, "person.firstName", "leftVacationDaysForYear");
         final PageableSearchQuery statisticsPageableSearchQuery = new PageableSearchQuery(pageRequest, "");
 
         final Page<ApplicationForLeaveStatistics> statisticsPage = sut.getStatistics(notBossOrOfficePerson, filterPeriod, statisticsPageableSearchQuery);
 
-        assertThat(statisticsPage.getContent()).hasSize(2);
-        assertThat(statisticsPage.getContent().get(0).getPerson()).isEqualTo(departmentMember);
-        assertThat(statisticsPage.getContent().get(1).getPerson()).isEqualTo(departmentMemberTwo);
+        assertThat(statisticsPage.getContent()).extracting(ApplicationForLeaveStatistics::getPerson).containsExactly(departmentMemberTwo, departmentMember);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Role.class, names = {"BOSS", "OFFICE"})
+    void ensureStatisticsAreSortedAndPagedInMemoryWhileAbsenceDayProjectionIsIncomplete(Role role) {
+
+        final LocalDate startDate = LocalDate.parse("2018-01-01");
+        final LocalDate endDate = LocalDate.parse("2018-12-31");
+        final FilterPeriod filterPeriod = new FilterPeriod(startDate, endDate);
+
+        final Person personWithRole = new Person();
+        personWithRole.setId(1L);
+        personWithRole.setPermissions(List.of(USER, role));
+
+        final Person anyPerson = new Person();
+        anyPerson.setId(2L);
+        anyPerson.setPermissions(List.of(USER));
+
+        final Person otherPerson = new Person();
+        otherPerson.setId(3L);
+        otherPerson.setPermissions(List.of(USER));
+
+        final Person thirdPerson = new Person();
+        thirdPerson.setId(4L);
+        thirdPerson.setPermissions(List.of(USER));
+
+        when(absenceDayProjection.isComplete()).thenReturn(false);
+        when(personService.getActivePersons(new PageableSearchQuery(Pageable.unpaged(), "mar")))
+            .thenReturn(new PageImpl<>(List.of(anyPerson, otherPerson, thirdPerson)));
+
+        final VacationType<?> vacationType = ProvidedVacationType.builder(new StaticMessageSource()).build();
+        final List<VacationType<?>> vacationTypes = List.of(vacationType);
+        when(vacationTypeService.getActiveVacationTypes()).thenReturn(vacationTypes);
+
+        final ApplicationForLeaveStatistics anyStatistics = new ApplicationForLeaveStatistics(anyPerson, vacationTypes);
+        anyStatistics.setLeftVacationDaysForYear(BigDecimal.valueOf(10));
+        final ApplicationForLeaveStatistics otherStatistics = new ApplicationForLeaveStatistics(otherPerson, vacationTypes);
+        otherStatistics.setLeftVacationDaysForYear(BigDecimal.valueOf(5));
+        final ApplicationForLeaveStatistics thirdStatistics = new ApplicationForLeaveStatistics(thirdPerson, vacationTypes);
+        thirdStatistics.setLeftVacationDaysForYear(BigDecimal.valueOf(20));
+        when(applicationForLeaveStatisticsBuilder.build(List.of(anyPerson, otherPerson, thirdPerson), startDate, endDate, vacationTypes))
+            .thenReturn(Map.of(anyPerson, anyStatistics, otherPerson, otherStatistics, thirdPerson, thirdStatistics));
+
+        final PageRequest pageRequest = PageRequest.of(0, 2, Sort.Direction.ASC, "leftVacationDaysForYear");
+        final PageableSearchQuery statisticsPageableSearchQuery = new PageableSearchQuery(pageRequest, "mar");
+
+        final Page<ApplicationForLeaveStatistics> statisticsPage = sut.getStatistics(personWithRole, filterPeriod, statisticsPageableSearchQuery);
+
+        assertThat(statisticsPage.getContent()).extracting(ApplicationForLeaveStatistics::getPerson).containsExactly(otherPerson, anyPerson);
+        assertThat(statisticsPage.getTotalElements()).isEqualTo(3);
+        verifyNoInteractions(applicationForLeaveStatisticsSortQuery);
     }
 }
@@ -0,0 +1,177 @@
+package org.synyx.urlaubsverwaltung.application.statistics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.synyx.urlaubsverwaltung.TestContainersBase;
+import org.synyx.urlaubsverwaltung.application.vacationtype.VacationType;
+import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeService;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.web.FilterPeriod;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.domain.Sort.Direction.ASC;
+import static org.springframework.data.domain.Sort.Direction.DESC;
+import static org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory.HOLIDAY;
+import static org.synyx.urlaubsverwaltung.person.Role.USER;
+
+@SpringBootTest
+@Transactional
+class ApplicationForLeaveStatisticsSortQueryIT extends TestContainersBase {
+
+    private static final FilterPeriod YEAR_2022 = new FilterPeriod(LocalDate.of(2022, 1, 1), LocalDate.of(2022, 12, 31));
+    private static final LocalDate TODAY = LocalDate.of(2022, 6, 1);
+
+    @Autowired
+    private ApplicationForLeaveStatisticsSortQuery sut;
+
+    @Autowired
+    private PersonService personService;
+    @Autowired
+    private VacationTypeService vacationTypeService;
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private Person anna;
+    private Person bert;
+    private Person carl;
+
+    @BeforeEach
+    void setUp() {
+        anna = personService.create("anna", "Anna", "Statistik", "anna@example.org", List.of(), List.of(USER));
+        bert = personService.create("bert", "Bert", "Statistik", "bert@example.org", List.of(), List.of(USER));
+        carl = personService.create("carl", "Carl", "Statistik", "carl@example.org", List.of(), List.of(USER));
+
+        // 30 + 5 remaining, 4 days used before expiry -> 1 remaining vacation day expired on 1st April
+        insertAccount(anna, new BigDecimal("30"), new BigDecimal("5"));
+        // 20 days and nothing used
+        insertAccount(bert, new BigDecimal("20"), BigDecimal.ZERO);
+        // carl has no holidays account
+
+        final VacationType<?> holiday = vacationTypeService.getAllVacationTypes().stream()
+            .filter(vacationType -> vacationType.getCategory() == HOLIDAY)
+            .findFirst()
+            .orElseThrow();
+        for (int day = 7; day <= 10; day++) {
+            insertAbsenceDay(anna, LocalDate.of(2022, 2, day), "MORNING", "ALLOWED", holiday);
+            insertAbsenceDay(anna, LocalDate.of(2022, 2, day), "NOON", "ALLOWED", holiday);
+        }
+        insertAbsenceDay(bert, LocalDate.of(2022, 7, 1), "MORNING", "WAITING", holiday);
+    }
+
+    @Test
+    void ensureSortsByLeftVacationDaysForYearWithPersonsWithoutHolidaysAccountLast() {
+
+        final List<Long> personIds = List.of(anna.getId(), bert.getId(), carl.getId());
+
+        final Page<Long> ascending = sut.findPersonIds(personIds, PageRequest.of(0, 10, ASC, "leftVacationDaysForYear"), YEAR_2022, true, TODAY);
+        assertThat(ascending.getContent()).containsExactly(bert.getId(), anna.getId(), carl.getId());
+
+        final Page<Long> descending = sut.findPersonIds(personIds, PageRequest.of(0, 10, DESC, "leftVacationDaysForYear"), YEAR_2022, true, TODAY);
+        assertThat(descending.getContent()).containsExactly(anna.getId(), bert.getId(), carl.getId());
+    }
+
+    @Test
+    void ensureConsidersExpiredRemainingVacationDays() {
+
+        final List<Long> personIds = List.of(anna.getId(), bert.getId());
+
+        // before the expiry date anna has 31 days left, afterward 30 days - bert has 20 days left
+        final Page<Long> beforeExpiry = sut.findPersonIds(personIds, PageRequest.of(0, 10, DESC, "leftVacationDaysForYear"), YEAR_2022, true, LocalDate.of(2022, 3, 1));
+        assertThat(beforeExpiry.getContent()).containsExactly(anna.getId(), bert.getId());
+
+        final Page<Long> withoutExpiry = sut.findPersonIds(personIds, PageRequest.of(0, 10, DESC, "leftVacationDaysForYear"), YEAR_2022, false, TODAY);
+        assertThat(withoutExpiry.getContent()).containsExactly(anna.getId(), bert.getId());
+    }
+
+    @Test
+    void ensureSortsByTotalAllowedAndWaitingVacationDays() {
+
+        final List<Long> personIds = List.of(anna.getId(), bert.getId(), carl.getId());
+
+        final Page<Long> allowed = sut.findPersonIds(personIds, PageRequest.of(0, 10, DESC, "totalAllowedVacationDays"), YEAR_2022, true, TODAY);
+        assertThat(allowed.getContent()).containsExactly(anna.getId(), bert.getId(), carl.getId());
+
+        final Page<Long> waiting = sut.findPersonIds(personIds, PageRequest.of(0, 10, DESC, "totalWaitingVacationDays"), YEAR_2022, true, TODAY);
+        assertThat(waiting.getContent()).containsExactly(bert.getId(), anna.getId(), carl.getId());
+    }
+
+    @Test
+    void ensureRestrictsAllowedVacationDaysToPeriod() {
+
+        final FilterPeriod march = new FilterPeriod(LocalDate.of(2022, 3, 1), LocalDate.of(2022, 3, 31));
+        final List<Long> personIds = List.of(anna.getId(), bert.getId());
+
+        final Page<Long> allowed = sut.findPersonIds(personIds, PageRequest.of(0, 10, DESC, "totalAllowedVacationDays"), march, true, TODAY);
+
+        // no allowed vacation days in march, so ordered by first name
+        assertThat(allowed.getContent()).containsExactly(anna.getId(), bert.getId());
+    }
+
+    @Test
+    void ensurePagesActivePersonsMatchingQuery() {
+
+        final Page<Long> firstPage = sut.findActivePersonIds(PageRequest.of(0, 2, ASC, "leftVacationDaysForYear"), "statistik", YEAR_2022, true, TODAY);
+        assertThat(firstPage.getContent()).containsExactly(bert.getId(), anna.getId());
+        assertThat(firstPage.getTotalElements()).isEqualTo(3);
+
+        final Page<Long> secondPage = sut.findActivePersonIds(PageRequest.of(1, 2, ASC, "leftVacationDaysForYear"), "statistik", YEAR_2022, true, TODAY);
+        assertThat(secondPage.getContent()).containsExactly(carl.getId());
+    }
+
+    @Test
+    void ensureMatchesQueryOnNiceNameLikeThePersonSearch() {
+
+        final Page<Long> byNiceName = sut.findActivePersonIds(PageRequest.of(0, 10, ASC, "leftVacationDaysForYear"), "Anna Stat", YEAR_2022, true, TODAY);
+        assertThat(byNiceName.getContent()).containsExactly(anna.getId());
+        assertThat(byNiceName.getTotalElements()).isOne();
+
+        final Page<Long> byPartsOfNames = sut.findActivePersonIds(PageRequest.of(0, 10, ASC, "leftVacationDaysForYear"), "ert stat", YEAR_2022, true, TODAY);
+        assertThat(byPartsOfNames.getContent()).containsExactly(bert.getId());
+    }
+
+    @Test
+    void ensureReturnsEmptyPageWithoutPersonIds() {
+        assertThat(sut.findPersonIds(List.of(), PageRequest.of(0, 10), YEAR_2022, true, TODAY)).isEmpty();
+    }
+
+    private void insertAccount(Person person, BigDecimal vacationDays, BigDecimal remainingVacationDays) {
+        jdbcTemplate.update("""
+                INSERT INTO account (id, person_id, valid_from, valid_to, expiry_date, annual_vacation_days, actual_vacation_days,
+                                     remaining_vacation_days, remaining_vacation_days_not_expiring, do_remaining_vacation_days_expire)
+                VALUES (nextval('account_id_seq'), :personId, '2022-01-01', '2022-12-31', '2022-04-01', :vacationDays, :vacationDays,
+                        :remainingVacationDays, 0, NULL)
+                """,
+            new MapSqlParameterSource()
+                .addValue("personId", person.getId())
+                .addValue("vacationDays", vacationDays)
+                .addValue("remainingVacationDays", remainingVacationDays)
+        );
+    }
+
+    private void insertAbsenceDay(Person person, LocalDate date, String dayLength, String status, VacationType<?> vacationType) {
+        jdbcTemplate.update("""
+                INSERT INTO absence_day (id, person_id, absence_date, day_length, absence_type, status, source_id, type_id)
+                VALUES (nextval('absence_day_id_seq'), :personId, :date, :dayLength, 'VACATION', :status, :sourceId, :typeId)
+                """,
+            new MapSqlParameterSource()
+                .addValue("personId", person.getId())
+                .addValue("date", date)
+                .addValue("dayLength", dayLength)
+                .addValue("status", status)
+                .addValue("sourceId", person.getId())
+                .addValue("typeId", vacationType.getId())
+        );
+    }
+}
@@ -6,22 +6,25 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.MessageSource;
 import org.springframework.context.support.StaticMessageSource;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.synyx.urlaubsverwaltung.application.vacationtype.ProvidedVacationType;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationType;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeService;
-import org.synyx.urlaubsverwaltung.csv.CSVFile;
+import org.synyx.urlaubsverwaltung.csv.CSVStream;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonId;
 import org.synyx.urlaubsverwaltung.person.PersonService;
@@ -36,8 +39,10 @@ import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Locale;
+import java.util.stream.Stream;
 
 import static java.util.Locale.JAPANESE;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.aMapWithSize;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.hasItems;
@@ -48,10 +53,12 @@ import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
 import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
@@ -67,6 +74,8 @@ class ApplicationForLeaveStatisticsViewControllerTest {
     private ApplicationForLeaveStatisticsService applicationForLeaveStatisticsService;
     @Mock
     private ApplicationForLeaveStatisticsCsvExportService applicationForLeaveStatisticsCsvExportService;
+    @Captor
+    private ArgumentCaptor<Stream<ApplicationForLeaveStatistics>> statisticsCaptor;
     @Mock
     private VacationTypeService vacationTypeService;
     @Mock
@@ -333,8 +342,8 @@ class ApplicationForLeaveStatisticsViewControllerTest {
 
         final Locale locale = JAPANESE;
 
-        when(applicationForLeaveStatisticsCsvExportService.generateCSV(any(FilterPeriod.class), eq(locale), any()))
-            .thenReturn(new CSVFile("filename.csv", new ByteArrayResource(new byte[]{})));
+        when(applicationForLeaveStatisticsCsvExportService.streamCSV(any(FilterPeriod.class), eq(locale), any()))
+            .thenReturn(new CSVStream("filename.csv", outputStream -> outputStream.write(new byte[]{})));
 
         final Person signedInUser = new Person();
         signedInUser.setId(1L);
@@ -343,7 +352,7 @@ class ApplicationForLeaveStatisticsViewControllerTest {
         when(applicationForLeaveStatisticsService.getStatistics(eq(signedInUser), any(FilterPeriod.class), eq(defaultPersonSearchQuery())))
             .thenReturn(new PageImpl<>(List.of()));
 
-        perform(get("/web/application/statistics/download")
+        performStreaming(get("/web/application/statistics/download")
             .locale(locale)
             .param("from", givenDate)
             .param("to", givenDate))
@@ -370,15 +379,17 @@ class ApplicationForLeaveStatisticsViewControllerTest {
         final ApplicationForLeaveStatistics statistics = new ApplicationForLeaveStatistics(signedInUser, List.of(vacationType));
         when(applicationForLeaveStatisticsService.getStatistics(signedInUser, filterPeriod, defaultPersonSearchQuery())).thenReturn(new PageImpl<>(List.of(statistics)));
 
-        final CSVFile csvFile = new CSVFile("csv-file-name", new ByteArrayResource("csv-resource".getBytes()));
-        when(applicationForLeaveStatisticsCsvExportService.generateCSV(filterPeriod, locale, List.of(statistics))).thenReturn(csvFile);
+        final CSVStream csvStream = new CSVStream("csv-file-name", outputStream -> outputStream.write("csv-resource".getBytes()));
+        when(applicationForLeaveStatisticsCsvExportService.streamCSV(eq(filterPeriod), eq(locale), statisticsCaptor.capture())).thenReturn(csvStream);
 
-        perform(get("/web/application/statistics/download")
+        performStreaming(get("/web/application/statistics/download")
             .locale(locale)
             .param("from", "01.01.2019")
             .param("to", "01.08.2019"))
             .andExpect(status().isOk())
             .andExpect(content().string("csv-resource"));
+
+        assertThat(statisticsCaptor.getValue()).containsExactly(statistics);
     }
 
     @Test
@@ -402,10 +413,10 @@ class ApplicationForLeaveStatisticsViewControllerTest {
         when(applicationForLeaveStatisticsService.getStatistics(signedInUser, filterPeriod, pageableSearchQuery))
             .thenReturn(new PageImpl<>(List.of(statistics)));
 
-        final CSVFile csvFile = new CSVFile("csv-file-name", new ByteArrayResource("csv-resource".getBytes()));
-        when(applicationForLeaveStatisticsCsvExportService.generateCSV(filterPeriod, locale, List.of(statistics))).thenReturn(csvFile);
+        final CSVStream csvStream = new CSVStream("csv-file-name", outputStream -> outputStream.write("csv-resource".getBytes()));
+        when(applicationForLeaveStatisticsCsvExportService.streamCSV(eq(filterPeriod), eq(locale), statisticsCaptor.capture())).thenReturn(csvStream);
 
-        perform(get("/web/application/statistics/download")
+        performStreaming(get("/web/application/statistics/download")
             .locale(locale)
             .param("from", "01.01.2019")
             .param("to", "01.08.2019")
@@ -413,6 +424,8 @@ class ApplicationForLeaveStatisticsViewControllerTest {
             .param("size", "50"))
             .andExpect(status().isOk())
             .andExpect(content().string("csv-resource"));
+
+        assertThat(statisticsCaptor.getValue()).containsExactly(statistics);
     }
 
     @Test
@@ -432,20 +445,22 @@ class ApplicationForLeaveStatisticsViewControllerTest {
 //        final VacationType<?> vacationType = new VacationType(1L, true, HOLIDAY, "message_key_holiday", true, true, YELLOW, false);
 
         final ApplicationForLeaveStatistics statistics = new ApplicationForLeaveStatistics(signedInUser, List.of(vacationType));
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(PageRequest.of(0, Integer.MAX_VALUE, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
+        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(PageRequest.of(0, 100, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
         when(applicationForLeaveStatisticsService.getStatistics(signedInUser, filterPeriod, pageableSearchQuery))
             .thenReturn(new PageImpl<>(List.of(statistics)));
 
-        final CSVFile csvFile = new CSVFile("csv-file-name", new ByteArrayResource("csv-resource".getBytes()));
-        when(applicationForLeaveStatisticsCsvExportService.generateCSV(filterPeriod, locale, List.of(statistics))).thenReturn(csvFile);
+        final CSVStream csvStream = new CSVStream("csv-file-name", outputStream -> outputStream.write("csv-resource".getBytes()));
+        when(applicationForLeaveStatisticsCsvExportService.streamCSV(eq(filterPeriod), eq(locale), statisticsCaptor.capture())).thenReturn(csvStream);
 
-        perform(get("/web/application/statistics/download")
+        performStreaming(get("/web/application/statistics/download")
             .locale(locale)
             .param("from", "01.01.2019")
             .param("to", "01.08.2019")
             .param("allElements", "true"))
             .andExpect(status().isOk())
             .andExpect(content().string("csv-resource"));
+
+        assertThat(statisticsCaptor.getValue()).containsExactly(statistics);
     }
 
     @Test
@@ -465,14 +480,14 @@ class ApplicationForLeaveStatisticsViewControllerTest {
 //        final VacationType<?> vacationType = new VacationType(1L, true, HOLIDAY, "message_key_holiday", true, true, YELLOW, false);
 
         final ApplicationForLeaveStatistics statistics = new ApplicationForLeaveStatistics(signedInUser, List.of(vacationType));
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(PageRequest.of(0, Integer.MAX_VALUE, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
+        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(PageRequest.of(0, 100, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
         when(applicationForLeaveStatisticsService.getStatistics(signedInUser, filterPeriod, pageableSearchQuery))
             .thenReturn(new PageImpl<>(List.of(statistics)));
 
-        final CSVFile csvFile = new CSVFile("csv-file-name", new ByteArrayResource("csv-resource".getBytes()));
-        when(applicationForLeaveStatisticsCsvExportService.generateCSV(filterPeriod, locale, List.of(statistics))).thenReturn(csvFile);
+        final CSVStream csvStream = new CSVStream("csv-file-name", outputStream -> outputStream.write("csv-resource".getBytes()));
+        when(applicationForLeaveStatisticsCsvExportService.streamCSV(eq(filterPeriod), eq(locale), statisticsCaptor.capture())).thenReturn(csvStream);
 
-        perform(get("/web/application/statistics/download")
+        performStreaming(get("/web/application/statistics/download")
             .locale(locale)
             .param("from", "01.01.2019")
             .param("to", "01.08.2019")
@@ -482,6 +497,8 @@ class ApplicationForLeaveStatisticsViewControllerTest {
             .param("query", "hans"))
             .andExpect(status().isOk())
             .andExpect(content().string("csv-resource"));
+
+        assertThat(statisticsCaptor.getValue()).containsExactly(statistics);
     }
 
     private static PageableSearchQuery defaultPersonSearchQuery() {
@@ -498,4 +515,16 @@ class ApplicationForLeaveStatisticsViewControllerTest {
             .build()
             .perform(builder);
     }
+
+    private ResultActions performStreaming(MockHttpServletRequestBuilder builder) throws Exception {
+        final MockMvc mockMvc = standaloneSetup(sut)
+            .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
+            .build();
+
+        final MvcResult mvcResult = mockMvc.perform(builder)
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        return mockMvc.perform(asyncDispatch(mvcResult));
+    }
 }
@@ -0,0 +1,25 @@
+package org.synyx.urlaubsverwaltung.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.synyx.urlaubsverwaltung.TestContainersBase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class HibernateCacheConfigurationIT extends TestContainersBase {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void ensureSecondLevelCacheIsDisabledWithoutProperty() {
+        final SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+
+        assertThat(sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled()).isFalse();
+        assertThat(sessionFactory.getSessionFactoryOptions().isQueryCacheEnabled()).isFalse();
+    }
+}
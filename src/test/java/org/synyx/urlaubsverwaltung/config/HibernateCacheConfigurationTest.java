@@ -0,0 +1,90 @@
+package org.synyx.urlaubsverwaltung.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_FACTORY;
+import static org.hibernate.cfg.AvailableSettings.GENERATE_STATISTICS;
+import static org.hibernate.cfg.AvailableSettings.USE_QUERY_CACHE;
+import static org.hibernate.cfg.AvailableSettings.USE_SECOND_LEVEL_CACHE;
+import static org.synyx.urlaubsverwaltung.config.HibernateCacheConfiguration.JCACHE_MISSING_CACHE_STRATEGY;
+import static org.synyx.urlaubsverwaltung.config.HibernateCacheConfiguration.JCACHE_PROVIDER;
+
+class HibernateCacheConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withUserConfiguration(HibernateCacheConfiguration.class);
+
+    @Test
+    void ensureHibernateCacheIsConfiguredWhenEnabled() {
+        contextRunner
+            .withPropertyValues("uv.cache.enabled=true")
+            .run(context -> {
+                assertThat(context).hasSingleBean(HibernatePropertiesCustomizer.class);
+
+                final Map<String, Object> hibernateProperties = new HashMap<>();
+                context.getBean(HibernatePropertiesCustomizer.class).customize(hibernateProperties);
+
+                assertThat(hibernateProperties)
+                    .containsEntry(USE_SECOND_LEVEL_CACHE, true)
+                    .containsEntry(USE_QUERY_CACHE, true)
+                    .containsEntry(CACHE_REGION_FACTORY, "jcache")
+                    .containsEntry(JCACHE_PROVIDER, "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider")
+                    .containsEntry(JCACHE_MISSING_CACHE_STRATEGY, "create")
+                    .containsEntry(GENERATE_STATISTICS, true);
+            });
+    }
+
+    @Test
+    void ensureQueryCacheAndStatisticsCanBeDisabled() {
+        contextRunner
+            .withPropertyValues(
+                "uv.cache.enabled=true",
+                "uv.cache.query-cache=false",
+                "uv.cache.statistics=false"
+            )
+            .run(context -> {
+                final Map<String, Object> hibernateProperties = new HashMap<>();
+                context.getBean(HibernatePropertiesCustomizer.class).customize(hibernateProperties);
+
+                assertThat(hibernateProperties)
+                    .containsEntry(USE_SECOND_LEVEL_CACHE, true)
+                    .containsEntry(USE_QUERY_CACHE, false)
+                    .containsEntry(GENERATE_STATISTICS, false);
+            });
+    }
+
+    @Test
+    void ensureHibernateCacheIsDisabledWhenPropertyIsMissing() {
+        contextRunner
+            .run(context -> {
+                final Map<String, Object> hibernateProperties = new HashMap<>();
+                context.getBean(HibernatePropertiesCustomizer.class).customize(hibernateProperties);
+
+                assertThat(hibernateProperties)
+                    .containsEntry(USE_SECOND_LEVEL_CACHE, false)
+                    .containsEntry(USE_QUERY_CACHE, false)
+                    .doesNotContainKey(CACHE_REGION_FACTORY);
+            });
+    }
+
+    @Test
+    void ensureHibernateCacheIsDisabledWhenPropertyIsSetToDisabled() {
+        contextRunner
+            .withPropertyValues("uv.cache.enabled=false")
+            .run(context -> {
+                final Map<String, Object> hibernateProperties = new HashMap<>();
+                context.getBean(HibernatePropertiesCustomizer.class).customize(hibernateProperties);
+
+                assertThat(hibernateProperties)
+                    .containsEntry(USE_SECOND_LEVEL_CACHE, false)
+                    .containsEntry(USE_QUERY_CACHE, false)
+                    .doesNotContainKey(CACHE_REGION_FACTORY);
+            });
+    }
+}
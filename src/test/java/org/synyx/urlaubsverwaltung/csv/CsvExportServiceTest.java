@@ -8,9 +8,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.io.ByteArrayResource;
 import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.stream.Stream;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Locale.JAPANESE;
@@ -46,11 +50,10 @@ class CsvExportServiceTest {
 
         final CsvExportService<String> sut = new CsvExportService<>() {
             @Override
-            public void write(FilterPeriod period, Locale locale, List<String> data, CSVWriter csvWriter) {
-                final String[] row = new String[data.size()];
-                row[0] = data.get(0);
-                row[1] = data.get(1);
-                csvWriter.writeNext(row);
+            public void write(FilterPeriod period, Locale locale, Iterable<String> data, CSVWriter csvWriter) {
+                final List<String> row = new ArrayList<>();
+                data.forEach(row::add);
+                csvWriter.writeNext(row.toArray(String[]::new));
             }
 
             @Override
@@ -69,8 +72,8 @@ class CsvExportServiceTest {
 
         final CsvExportService<String> sut = new CsvExportService<>() {
             @Override
-            public void write(FilterPeriod period, Locale locale, List<String> data, CSVWriter csvWriter) {
-                csvWriter.writeNext(new String[]{data.get(0)});
+            public void write(FilterPeriod period, Locale locale, Iterable<String> data, CSVWriter csvWriter) {
+                csvWriter.writeNext(new String[]{data.iterator().next()});
 
             }
 
@@ -84,4 +87,31 @@ class CsvExportServiceTest {
         final ByteArrayResource aLotOfData = sut.resource(period, JAPANESE, List.of("A lot of data"));
         assertThat(new String(aLotOfData.getByteArray(), UTF_8)).contains("A lot of data");
     }
+
+    @Test
+    void ensureStreamWritesDataRowByRowWithBom() throws IOException {
+
+        final CsvExportService<String> sut = new CsvExportService<>() {
+            @Override
+            public void write(FilterPeriod period, Locale locale, Iterable<String> data, CSVWriter csvWriter) {
+                data.forEach(element -> csvWriter.writeNext(new String[]{element, element.toUpperCase()}));
+            }
+
+            @Override
+            public String fileName(FilterPeriod period, Locale locale) {
+                return "someFileName.csv";
+            }
+        };
+
+        final FilterPeriod period = new FilterPeriod(LocalDate.of(2022, 10, 2), LocalDate.of(2022, 10, 3));
+        final CSVStream csvStream = sut.streamCSV(period, JAPANESE, Stream.of("a", "b"));
+        assertThat(csvStream.fileName()).isEqualTo("someFileName.csv");
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        csvStream.body().writeTo(outputStream);
+
+        final byte[] csv = outputStream.toByteArray();
+        assertThat(csv).startsWith((byte) 239, (byte) 187, (byte) 191);
+        assertThat(new String(csv, 3, csv.length - 3, UTF_8)).isEqualTo("a;A\nb;B\n");
+    }
 }
@@ -0,0 +1,247 @@
+package org.synyx.urlaubsverwaltung.department;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonDeletedEvent;
+import org.synyx.urlaubsverwaltung.person.PersonDisabledEvent;
+import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.person.PersonUpdatedEvent;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.transaction.support.TransactionSynchronization.STATUS_COMMITTED;
+
+@ExtendWith(MockitoExtension.class)
+class DepartmentMembershipGraphTest {
+
+    private DepartmentMembershipGraph sut;
+
+    @Mock
+    private DepartmentRepository departmentRepository;
+    @Mock
+    private PersonService personService;
+    @Mock
+    private Clock clock;
+
+    private Instant now = Instant.parse("2022-08-01T10:00:00Z");
+
+    private Person head;
+    private Person secondStageAuthority;
+    private Person max;
+    private Person jane;
+    private Person other;
+
+    @BeforeEach
+    void setUp() {
+        sut = new DepartmentMembershipGraph(departmentRepository, personService, clock);
+        when(clock.instant()).thenAnswer(invocation -> now);
+
+        head = person(1L, "head");
+        secondStageAuthority = person(2L, "ssa");
+        max = person(3L, "max");
+        jane = person(4L, "jane");
+        other = person(5L, "other");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void ensureDepartmentIdsOfMembersAndResponsiblePersons() {
+
+        final DepartmentEntity admins = department(1L, List.of(head, secondStageAuthority, max), List.of(head), List.of(secondStageAuthority));
+        final DepartmentEntity developers = department(2L, List.of(max, jane), List.of(head), List.of());
+        when(departmentRepository.findAll()).thenReturn(List.of(admins, developers));
+
+        assertThat(sut.getDepartmentIdsOfMember(max)).containsExactly(1L, 2L);
+        assertThat(sut.getDepartmentIdsOfMember(jane)).containsExactly(2L);
+        assertThat(sut.getDepartmentIdsOfMember(other)).isEmpty();
+        assertThat(sut.getDepartmentIdsOfDepartmentHead(head)).containsExactly(1L, 2L);
+        assertThat(sut.getDepartmentIdsOfDepartmentHead(max)).isEmpty();
+        assertThat(sut.getDepartmentIdsOfSecondStageAuthority(secondStageAuthority)).containsExactly(1L);
+    }
+
+    @Test
+    void ensureDistinctMembersOfDepartmentHeadAndSecondStageAuthority() {
+
+        final DepartmentEntity admins = department(1L, List.of(head, secondStageAuthority, max), List.of(head), List.of(secondStageAuthority));
+        final DepartmentEntity developers = department(2L, List.of(max, jane), List.of(head), List.of());
+        when(departmentRepository.findAll()).thenReturn(List.of(admins, developers));
+        when(personService.getPersonsByIds(anyList())).thenReturn(List.of(jane, max, secondStageAuthority, head));
+
+        assertThat(sut.getMembersOfDepartmentHead(head)).containsExactly(head, secondStageAuthority, max, jane);
+        assertThat(sut.getMembersOfSecondStageAuthority(secondStageAuthority)).containsExactly(head, secondStageAuthority, max);
+        assertThat(sut.getMembersOfDepartmentHead(other)).isEmpty();
+    }
+
+    @Test
+    void ensureMembersOfResponsiblePersonsIncludeSecondStageAuthorities() {
+
+        final DepartmentEntity admins = department(1L, List.of(head, secondStageAuthority, max), List.of(head), List.of(secondStageAuthority));
+        when(departmentRepository.findAll()).thenReturn(List.of(admins));
+
+        assertThat(sut.isMemberOfDepartmentHead(head, max)).isTrue();
+        assertThat(sut.isMemberOfDepartmentHead(head, secondStageAuthority)).isTrue();
+        assertThat(sut.isMemberOfDepartmentHead(head, other)).isFalse();
+        assertThat(sut.isMemberOfSecondStageAuthority(secondStageAuthority, head)).isTrue();
+        assertThat(sut.isMemberOfSecondStageAuthority(head, max)).isFalse();
+    }
+
+    @Test
+    void ensureManagedMembersExcludeSecondStageAuthoritiesOfTheDepartment() {
+
+        final DepartmentEntity admins = department(1L, List.of(head, secondStageAuthority, max), List.of(head), List.of(secondStageAuthority));
+        when(departmentRepository.findAll()).thenReturn(List.of(admins));
+
+        assertThat(sut.isManagedByDepartmentHead(head, max)).isTrue();
+        assertThat(sut.isManagedByDepartmentHead(head, secondStageAuthority)).isFalse();
+        assertThat(sut.isManagedBySecondStageAuthority(secondStageAuthority, max)).isTrue();
+        assertThat(sut.isManagedBySecondStageAuthority(secondStageAuthority, secondStageAuthority)).isFalse();
+    }
+
+    @Test
+    void ensureSecondStageAuthorityOfOneDepartmentIsManagedAsMemberOfAnotherDepartment() {
+
+        final DepartmentEntity admins = department(1L, List.of(secondStageAuthority, max), List.of(head), List.of(secondStageAuthority));
+        final DepartmentEntity developers = department(2L, List.of(secondStageAuthority, jane), List.of(head), List.of());
+        when(departmentRepository.findAll()).thenReturn(List.of(admins, developers));
+
+        assertThat(sut.isManagedByDepartmentHead(head, secondStageAuthority)).isTrue();
+    }
+
+    @Test
+    void ensureGraphIsBuiltOnlyOnce() {
+
+        when(departmentRepository.findAll()).thenReturn(List.of(department(1L, List.of(max), List.of(head), List.of())));
+        when(personService.getPersonsByIds(List.of(3L))).thenReturn(List.of(max));
+
+        sut.getDepartmentIdsOfMember(max);
+        sut.isManagedByDepartmentHead(head, max);
+        sut.getMembersOfDepartmentHead(head);
+
+        verify(departmentRepository, times(1)).findAll();
+    }
+
+    @Test
+    void ensureGraphExpiresAfterTimeToLive() {
+
+        when(departmentRepository.findAll())
+            .thenReturn(List.of(department(1L, List.of(max), List.of(head), List.of())))
+            .thenReturn(List.of(department(1L, List.of(max, jane), List.of(head), List.of())));
+
+        assertThat(sut.isManagedByDepartmentHead(head, jane)).isFalse();
+
+        now = now.plus(DepartmentMembershipGraph.TIME_TO_LIVE).minusSeconds(1);
+        assertThat(sut.isManagedByDepartmentHead(head, jane)).isFalse();
+
+        now = now.plusSeconds(1);
+        assertThat(sut.isManagedByDepartmentHead(head, jane)).isTrue();
+        verify(departmentRepository, times(2)).findAll();
+    }
+
+    @Test
+    void ensureMembersAreLoadedOnEveryCall() {
+
+        when(departmentRepository.findAll()).thenReturn(List.of(department(1L, List.of(max), List.of(head), List.of())));
+
+        final Person updatedMax = person(3L, "max");
+        updatedMax.setFirstName("Maximilian");
+        when(personService.getPersonsByIds(List.of(3L)))
+            .thenReturn(List.of(max))
+            .thenReturn(List.of(updatedMax));
+
+        assertThat(sut.getMembersOfDepartmentHead(head)).extracting(Person::getFirstName).containsExactly("max");
+        assertThat(sut.getMembersOfDepartmentHead(head)).extracting(Person::getFirstName).containsExactly("Maximilian");
+        verify(departmentRepository, times(1)).findAll();
+    }
+
+    @Test
+    void ensureInvalidateRebuildsGraph() {
+
+        when(departmentRepository.findAll())
+            .thenReturn(List.of(department(1L, List.of(max), List.of(head), List.of())))
+            .thenReturn(List.of(department(1L, List.of(max, jane), List.of(head), List.of())));
+
+        assertThat(sut.isManagedByDepartmentHead(head, jane)).isFalse();
+
+        sut.invalidate();
+
+        assertThat(sut.isManagedByDepartmentHead(head, jane)).isTrue();
+        verify(departmentRepository, times(2)).findAll();
+    }
+
+    @Test
+    void ensurePersonEventsRebuildGraph() {
+
+        when(departmentRepository.findAll()).thenReturn(List.of(department(1L, List.of(max), List.of(head), List.of())));
+
+        sut.getDepartmentIdsOfMember(max);
+        sut.onPersonUpdated(new PersonUpdatedEvent(this, max.getId(), max.getNiceName(), max.getUsername(), max.getEmail(), true));
+        sut.getDepartmentIdsOfMember(max);
+        sut.onPersonDisabled(new PersonDisabledEvent(this, max.getId(), max.getNiceName(), max.getUsername(), max.getEmail()));
+        sut.getDepartmentIdsOfMember(max);
+        sut.onPersonDeleted(new PersonDeletedEvent(max));
+        sut.getDepartmentIdsOfMember(max);
+
+        verify(departmentRepository, times(4)).findAll();
+    }
+
+    @Test
+    void ensureGraphIsNotKeptWhileInvalidatingTransactionIsRunning() {
+
+        when(departmentRepository.findAll()).thenReturn(List.of(department(1L, List.of(max), List.of(head), List.of())));
+
+        TransactionSynchronizationManager.initSynchronization();
+        sut.invalidate();
+
+        sut.getDepartmentIdsOfMember(max);
+        sut.getDepartmentIdsOfMember(max);
+        verify(departmentRepository, times(2)).findAll();
+
+        final List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertThat(synchronizations).hasSize(1);
+        synchronizations.get(0).afterCompletion(STATUS_COMMITTED);
+
+        sut.getDepartmentIdsOfMember(max);
+        sut.getDepartmentIdsOfMember(max);
+        verify(departmentRepository, times(3)).findAll();
+    }
+
+    private static Person person(Long id, String username) {
+        final Person person = new Person(username, "Muster", username, username + "@example.org");
+        person.setId(id);
+        return person;
+    }
+
+    private static DepartmentEntity department(Long id, List<Person> members, List<Person> departmentHeads, List<Person> secondStageAuthorities) {
+        final DepartmentEntity department = new DepartmentEntity();
+        department.setId(id);
+        department.setName("department " + id);
+        department.setMembers(members.stream().map(person -> {
+            final DepartmentMemberEmbeddable member = new DepartmentMemberEmbeddable();
+            member.setPerson(person);
+            return member;
+        }).toList());
+        department.setDepartmentHeads(departmentHeads);
+        department.setSecondStageAuthorities(secondStageAuthorities);
+        return department;
+    }
+}
@@ -3,6 +3,9 @@ package org.synyx.urlaubsverwaltung.department;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 import org.synyx.urlaubsverwaltung.TestContainersBase;
 import org.synyx.urlaubsverwaltung.person.Person;
@@ -14,6 +17,7 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.synyx.urlaubsverwaltung.person.Role.DEPARTMENT_HEAD;
+import static org.synyx.urlaubsverwaltung.person.Role.INACTIVE;
 import static org.synyx.urlaubsverwaltung.person.Role.SECOND_STAGE_AUTHORITY;
 import static org.synyx.urlaubsverwaltung.person.Role.USER;
 
@@ -60,4 +64,71 @@ class DepartmentRepositoryIT extends TestContainersBase {
         final List<DepartmentEntity> departments = sut.findByDepartmentHeadsOrSecondStageAuthorities(savedPerson, savedPerson);
         assertThat(departments).containsOnly(savedDepartmentA, savedDepartmentB);
     }
+
+    @Test
+    void ensureFindsManagedMembersOfPersonFilteredSortedAndPagedInDatabase() {
+
+        final Person head = personService.create("head", "Hanna", "Head", "head@example.org", List.of(), List.of(USER, DEPARTMENT_HEAD, SECOND_STAGE_AUTHORITY));
+        final Person anna = personService.create("anna", "Anna", "Muster", "anna@example.org", List.of(), List.of(USER));
+        final Person bert = personService.create("bert", "Bert", "Muster", "bert@example.org", List.of(), List.of(USER));
+        final Person carl = personService.create("carl", "Carl", "Beispiel", "carl@example.org", List.of(), List.of(USER));
+        final Person dora = personService.create("dora", "Dora", "Muster", "dora@example.org", List.of(), List.of(USER, INACTIVE));
+        final Person emil = personService.create("emil", "Emil", "Muster", "emil@example.org", List.of(), List.of(USER));
+
+        sut.save(department("headed", List.of(anna, bert, dora), List.of(head), List.of()));
+        sut.save(department("second stage", List.of(bert, carl), List.of(), List.of(head)));
+        sut.save(department("other", List.of(emil), List.of(), List.of()));
+
+        final PageRequest firstPage = PageRequest.of(0, 2, Sort.by("firstName").and(Sort.by("id")));
+
+        final Page<Person> activeOfBoth = sut.findManagedMembersOfPersonByPermissionsNotContainingAndNiceNameContainingIgnoreCase(head, true, true, INACTIVE, "", firstPage);
+        assertThat(activeOfBoth.getContent()).containsExactly(anna, bert);
+        assertThat(activeOfBoth.getTotalElements()).isEqualTo(3);
+
+        final Page<Person> activeOfDepartmentHead = sut.findManagedMembersOfPersonByPermissionsNotContainingAndNiceNameContainingIgnoreCase(head, true, false, INACTIVE, "", PageRequest.of(0, 10, Sort.by("firstName")));
+        assertThat(activeOfDepartmentHead.getContent()).containsExactly(anna, bert);
+
+        final Page<Person> activeOfSecondStageAuthority = sut.findManagedMembersOfPersonByPermissionsNotContainingAndNiceNameContainingIgnoreCase(head, false, true, INACTIVE, "", PageRequest.of(0, 10, Sort.by("firstName")));
+        assertThat(activeOfSecondStageAuthority.getContent()).containsExactly(bert, carl);
+
+        final Page<Person> matchingFullName = sut.findManagedMembersOfPersonByPermissionsNotContainingAndNiceNameContainingIgnoreCase(head, true, true, INACTIVE, "bert must", PageRequest.of(0, 10));
+        assertThat(matchingFullName.getContent()).containsExactly(bert);
+
+        final Page<Person> inactive = sut.findManagedMembersOfPersonByPermissionsContainingAndNiceNameContainingIgnoreCase(head, true, true, INACTIVE, "", PageRequest.of(0, 10));
+        assertThat(inactive.getContent()).containsExactly(dora);
+    }
+
+    @Test
+    void ensureFindsMembersOfDepartmentFilteredSortedAndPagedInDatabase() {
+
+        final Person anna = personService.create("anna", "Anna", "Muster", "anna@example.org", List.of(), List.of(USER));
+        final Person bert = personService.create("bert", "Bert", "Beispiel", "bert@example.org", List.of(), List.of(USER));
+        final Person carl = personService.create("carl", "Carl", "Muster", "carl@example.org", List.of(), List.of(USER));
+        final Person dora = personService.create("dora", "Dora", "Muster", "dora@example.org", List.of(), List.of(USER, INACTIVE));
+
+        final DepartmentEntity department = sut.save(department("department", List.of(anna, bert, carl, dora), List.of(), List.of()));
+        sut.save(department("other", List.of(anna), List.of(), List.of()));
+
+        final Page<Person> matching = sut.findMembersOfDepartmentByPermissionsNotContainingAndNiceNameContainingIgnoreCase(department.getId(), INACTIVE, "muster", PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "firstName")));
+        assertThat(matching.getContent()).containsExactly(carl);
+        assertThat(matching.getTotalElements()).isEqualTo(2);
+
+        final Page<Person> inactive = sut.findMembersOfDepartmentByPermissionsContainingAndNiceNameContainingIgnoreCase(department.getId(), INACTIVE, "", PageRequest.of(0, 10));
+        assertThat(inactive.getContent()).containsExactly(dora);
+    }
+
+    private static DepartmentEntity department(String name, List<Person> members, List<Person> departmentHeads, List<Person> secondStageAuthorities) {
+        final DepartmentEntity department = new DepartmentEntity();
+        department.setName(name);
+        department.setCreatedAt(LocalDate.of(2022, 10, 2));
+        department.setMembers(members.stream().map(person -> {
+            final DepartmentMemberEmbeddable member = new DepartmentMemberEmbeddable();
+            member.setAccessionDate(Instant.now());
+            member.setPerson(person);
+            return member;
+        }).toList());
+        department.setDepartmentHeads(departmentHeads);
+        department.setSecondStageAuthorities(secondStageAuthorities);
+        return department;
+    }
 }
@@ -10,7 +10,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.synyx.urlaubsverwaltung.application.application.Application;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
@@ -18,6 +20,7 @@ import org.synyx.urlaubsverwaltung.application.application.ApplicationStatus;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonDeletedEvent;
 import org.synyx.urlaubsverwaltung.person.PersonId;
+import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.person.Role;
 import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
 
@@ -37,10 +40,14 @@ import static java.time.temporal.ChronoUnit.DAYS;
 import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -67,136 +74,16 @@ class DepartmentServiceImplTest {
     private ApplicationService applicationService;
     @Mock
     private ApplicationEventPublisher applicationEventPublisher;
+    @Mock
+    private PersonService personService;
 
     private final Clock clock = Clock.fixed(Instant.now(), UTC);
 
     @BeforeEach
     void setUp() {
-        sut = new DepartmentServiceImpl(departmentRepository, applicationService, applicationEventPublisher, clock);
-    }
-
-    @Test
-    void ensureGetManagedMembersOfPersonReturnsPageOfDistinctActivePersonsForDepartmentHeadAndSecondStageAuthority() {
-
-        final Person person = new Person();
-        person.setId(1L);
-        person.setPermissions(List.of(DEPARTMENT_HEAD, SECOND_STAGE_AUTHORITY));
-
-        final Person max = new Person();
-        max.setId(2L);
-        max.setFirstName("Max");
-        max.setLastName("Mustermann");
-        final DepartmentMemberEmbeddable maxMember = new DepartmentMemberEmbeddable();
-        maxMember.setPerson(max);
-
-        final Person jane = new Person();
-        jane.setId(3L);
-        jane.setFirstName("Jane");
-        jane.setLastName("Doe");
-        final DepartmentMemberEmbeddable janeMember = new DepartmentMemberEmbeddable();
-        janeMember.setPerson(jane);
-
-        final DepartmentEntity admins = new DepartmentEntity();
-        admins.setName("admins");
-        admins.setMembers(List.of(maxMember, janeMember));
-
-        final DepartmentEntity developers = new DepartmentEntity();
-        developers.setName("developers");
-        developers.setMembers(List.of(janeMember));
-
-        when(departmentRepository.findByDepartmentHeadsOrSecondStageAuthorities(person, person)).thenReturn(List.of(admins, developers));
-
-        final Page<Person> actual = sut.getManagedMembersOfPerson(person, defaultPersonSearchQuery());
-
-        assertThat(actual.getContent()).containsExactly(jane, max);
-    }
-
-    @Test
-    void ensureGetManagedMembersOfPersonReturnsPageOfDistinctActivePersonsForDepartmentHead() {
-
-        final Person person = new Person();
-        person.setId(1L);
-        person.setPermissions(List.of(DEPARTMENT_HEAD));
-
-        final Person max = new Person();
-        max.setId(2L);
-        max.setFirstName("Max");
-        max.setLastName("Mustermann");
-        final DepartmentMemberEmbeddable maxMember = new DepartmentMemberEmbeddable();
-        maxMember.setPerson(max);
-
-        final Person jane = new Person();
-        jane.setId(3L);
-        jane.setFirstName("Jane");
-        jane.setLastName("Doe");
-        final DepartmentMemberEmbeddable janeMember = new DepartmentMemberEmbeddable();
-        janeMember.setPerson(jane);
-
-        final DepartmentEntity admins = new DepartmentEntity();
-        admins.setName("admins");
-        admins.setMembers(List.of(maxMember, janeMember));
-
-        final DepartmentEntity developers = new DepartmentEntity();
-        developers.setName("developers");
-        developers.setMembers(List.of(janeMember));
-
-        when(departmentRepository.findByDepartmentHeads(person)).thenReturn(List.of(admins, developers));
-
-        final Page<Person> actual = sut.getManagedMembersOfPerson(person, defaultPersonSearchQuery());
-
-        assertThat(actual.getContent()).containsExactly(jane, max);
-    }
-
-    @Test
-    void ensureGetManagedMembersOfPersonReturnsPageOfDistinctActivePersonsForSecondStageAuthority() {
-
-        final Person person = new Person();
-        person.setId(1L);
-        person.setPermissions(List.of(SECOND_STAGE_AUTHORITY));
-
-        final Person max = new Person();
-        max.setId(2L);
-        max.setFirstName("Max");
-        max.setLastName("Mustermann");
-        final DepartmentMemberEmbeddable maxMember = new DepartmentMemberEmbeddable();
-        maxMember.setPerson(max);
-
-        final Person jane = new Person();
-        jane.setId(3L);
-        jane.setFirstName("Jane");
-        jane.setLastName("Doe");
-        final DepartmentMemberEmbeddable janeMember = new DepartmentMemberEmbeddable();
-        janeMember.setPerson(jane);
-
-        final DepartmentEntity admins = new DepartmentEntity();
-        admins.setName("admins");
-        admins.setMembers(List.of(maxMember, janeMember));
-
-        final DepartmentEntity developers = new DepartmentEntity();
-        developers.setName("developers");
-        developers.setMembers(List.of(janeMember));
-
-        when(departmentRepository.findBySecondStageAuthorities(person)).thenReturn(List.of(admins, developers));
-
-        final Page<Person> actual = sut.getManagedMembersOfPerson(person, defaultPersonSearchQuery());
-
-        assertThat(actual.getContent()).containsExactly(jane, max);
+        sut = new DepartmentServiceImpl(departmentRepository, new DepartmentMembershipGraph(departmentRepository, personService, clock), applicationService, applicationEventPublisher, clock);
     }
 
-    @Test
-    void ensureGetManagedMembersOfPersonReturnsPageOfEmptyList() {
-
-        final Person person = new Person();
-        person.setId(1L);
-        person.setPermissions(List.of());
-
-        final Page<Person> actual = sut.getManagedMembersOfPerson(person, defaultPersonSearchQuery());
-
-        assertThat(actual.getContent()).isEmpty();
-        verifyNoInteractions(departmentRepository);
-    }
-
-
     @Test
     void ensureGetManagedActiveMembersOfPersonReturnsDistinctActivePersonsForDepartmentHeadAndSecondStageAuthority() {
 
@@ -219,14 +106,19 @@ class DepartmentServiceImplTest {
         janeMember.setPerson(jane);
 
         final DepartmentEntity admins = new DepartmentEntity();
+        admins.setId(1L);
         admins.setName("admins");
         admins.setMembers(List.of(maxMember, janeMember));
+        admins.setDepartmentHeads(List.of(person));
 
         final DepartmentEntity developers = new DepartmentEntity();
+        developers.setId(2L);
         developers.setName("developers");
         developers.setMembers(List.of(janeMember));
+        developers.setSecondStageAuthorities(List.of(person));
 
-        when(departmentRepository.findByDepartmentHeadsOrSecondStageAuthorities(person, person)).thenReturn(List.of(admins, developers));
+        when(departmentRepository.findAll()).thenReturn(List.of(admins, developers));
+        when(personService.getPersonsByIds(anyList())).thenReturn(List.of(max, jane));
 
         final List<Person> actual = sut.getManagedActiveMembersOfPerson(person);
 
@@ -255,14 +147,19 @@ class DepartmentServiceImplTest {
         janeMember.setPerson(jane);
 
         final DepartmentEntity admins = new DepartmentEntity();
+        admins.setId(1L);
         admins.setName("admins");
         admins.setMembers(List.of(maxMember, janeMember));
+        admins.setDepartmentHeads(List.of(person));
 
         final DepartmentEntity developers = new DepartmentEntity();
+        developers.setId(2L);
         developers.setName("developers");
         developers.setMembers(List.of(janeMember));
+        developers.setDepartmentHeads(List.of(person));
 
-        when(departmentRepository.findByDepartmentHeads(person)).thenReturn(List.of(admins, developers));
+        when(departmentRepository.findAll()).thenReturn(List.of(admins, developers));
+        when(personService.getPersonsByIds(anyList())).thenReturn(List.of(max, jane));
 
         final List<Person> actual = sut.getManagedActiveMembersOfPerson(person);
 
@@ -291,14 +188,19 @@ class DepartmentServiceImplTest {
         janeMember.setPerson(jane);
 
         final DepartmentEntity admins = new DepartmentEntity();
+        admins.setId(1L);
         admins.setName("admins");
         admins.setMembers(List.of(maxMember, janeMember));
+        admins.setSecondStageAuthorities(List.of(person));
 
         final DepartmentEntity developers = new DepartmentEntity();
+        developers.setId(2L);
         developers.setName("developers");
         developers.setMembers(List.of(janeMember));
+        developers.setSecondStageAuthorities(List.of(person));
 
-        when(departmentRepository.findBySecondStageAuthorities(person)).thenReturn(List.of(admins, developers));
+        when(departmentRepository.findAll()).thenReturn(List.of(admins, developers));
+        when(personService.getPersonsByIds(anyList())).thenReturn(List.of(max, jane));
 
         final List<Person> actual = sut.getManagedActiveMembersOfPerson(person);
 
@@ -319,598 +221,366 @@ class DepartmentServiceImplTest {
     }
 
     @Test
-    void ensureGetManagedInactiveMembersOfPersonReturnsDistinctInactivePersonsForDepartmentHeadAndSecondStageAuthority() {
+    void ensureGetManagedMembersOfPersonReturnsPageOfActiveMembersForDepartmentHeadAndSecondStageAuthority() {
 
         final Person person = new Person();
         person.setId(1L);
         person.setPermissions(List.of(DEPARTMENT_HEAD, SECOND_STAGE_AUTHORITY));
 
-        final Person max = new Person();
-        max.setId(2L);
-        max.setFirstName("Max");
-        max.setLastName("Mustermann");
-        max.setPermissions(List.of(INACTIVE));
-        final DepartmentMemberEmbeddable maxMember = new DepartmentMemberEmbeddable();
-        maxMember.setPerson(max);
-
-        final Person jane = new Person();
-        jane.setId(3L);
-        jane.setFirstName("Jane");
-        jane.setLastName("Doe");
-        final DepartmentMemberEmbeddable janeMember = new DepartmentMemberEmbeddable();
-        janeMember.setPerson(jane);
-
-        final Person john = new Person();
-        john.setId(4L);
-        john.setFirstName("John");
-        john.setLastName("Doe");
-        john.setPermissions(List.of(INACTIVE));
-        final DepartmentMemberEmbeddable johnMember = new DepartmentMemberEmbeddable();
-        johnMember.setPerson(john);
-
-        final DepartmentEntity admins = new DepartmentEntity();
-        admins.setName("admins");
-        admins.setMembers(List.of(maxMember, janeMember, johnMember));
-
-        final DepartmentEntity developers = new DepartmentEntity();
-        developers.setName("developers");
-        developers.setMembers(List.of(janeMember, johnMember));
-
-        when(departmentRepository.findByDepartmentHeadsOrSecondStageAuthorities(person, person)).thenReturn(List.of(admins, developers));
-
-        final Page<Person> actual = sut.getManagedInactiveMembersOfPerson(person, defaultPersonSearchQuery());
+        final Page<Person> page = new PageImpl<>(List.of(new Person()));
+        when(departmentRepository.findManagedMembersOfPersonByPermissionsNotContainingAndNiceNameContainingIgnoreCase(person, true, true, INACTIVE, "", personPageRequest()))
+            .thenReturn(page);
 
-        assertThat(actual.getContent()).containsExactly(john, max);
+        final Page<Person> actual = sut.getManagedMembersOfPerson(person, defaultPersonSearchQuery());
+        assertThat(actual).isSameAs(page);
     }
 
     @Test
-    void ensureGetManagedInactiveMembersOfPersonReturnsDistinctInactivePersonsForDepartmentHead() {
+    void ensureGetManagedMembersOfPersonReturnsPageOfActiveMembersForDepartmentHead() {
 
         final Person person = new Person();
         person.setId(1L);
         person.setPermissions(List.of(DEPARTMENT_HEAD));
 
-        final Person max = new Person();
-        max.setId(2L);
-        max.setFirstName("Max");
-        max.setLastName("Mustermann");
-        max.setPermissions(List.of(INACTIVE));
-        final DepartmentMemberEmbeddable maxMember = new DepartmentMemberEmbeddable();
-        maxMember.setPerson(max);
+        final Page<Person> page = new PageImpl<>(List.of(new Person()));
+        when(departmentRepository.findManagedMembersOfPersonByPermissionsNotContainingAndNiceNameContainingIgnoreCase(person, true, false, INACTIVE, "", personPageRequest()))
+            .thenReturn(page);
 
-        final Person jane = new Person();
-        jane.setId(3L);
-        jane.setFirstName("Jane");
-        jane.setLastName("Doe");
-        final DepartmentMemberEmbeddable janeMember = new DepartmentMemberEmbeddable();
-        janeMember.setPerson(jane);
-
-        final Person john = new Person();
-        john.setId(4L);
-        john.setFirstName("John");
-        john.setLastName("Doe");
-        john.setPermissions(List.of(INACTIVE));
-        final DepartmentMemberEmbeddable johnMember = new DepartmentMemberEmbeddable();
-        johnMember.setPerson(john);
-
-        final DepartmentEntity admins = new DepartmentEntity();
-        admins.setName("admins");
-        admins.setMembers(List.of(maxMember, janeMember, johnMember));
-
-        final DepartmentEntity developers = new DepartmentEntity();
-        developers.setName("developers");
-        developers.setMembers(List.of(janeMember, johnMember));
-
-        when(departmentRepository.findByDepartmentHeads(person)).thenReturn(List.of(admins, developers));
-
-        final Page<Person> actual = sut.getManagedInactiveMembersOfPerson(person, defaultPersonSearchQuery());
-
-        assertThat(actual.getContent()).containsExactly(john, max);
+        final Page<Person> actual = sut.getManagedMembersOfPerson(person, defaultPersonSearchQuery());
+        assertThat(actual).isSameAs(page);
     }
 
     @Test
-    void ensureGetManagedInactiveMembersOfPersonReturnsDistinctInactivePersonsForSecondStageAuthority() {
+    void ensureGetManagedMembersOfPersonReturnsPageOfActiveMembersForSecondStageAuthority() {
 
         final Person person = new Person();
         person.setId(1L);
         person.setPermissions(List.of(SECOND_STAGE_AUTHORITY));
 
-        final Person max = new Person();
-        max.setId(2L);
-        max.setFirstName("Max");
-        max.setLastName("Mustermann");
-        max.setPermissions(List.of(INACTIVE));
-        final DepartmentMemberEmbeddable maxMember = new DepartmentMemberEmbeddable();
-        maxMember.setPerson(max);
+        final Page<Person> page = new PageImpl<>(List.of(new Person()));
+        when(departmentRepository.findManagedMembersOfPersonByPermissionsNotContainingAndNiceNameContainingIgnoreCase(person, false, true, INACTIVE, "", personPageRequest()))
+            .thenReturn(page);
 
-        final Person jane = new Person();
-        jane.setId(3L);
-        jane.setFirstName("Jane");
-        jane.setLastName("Doe");
-        final DepartmentMemberEmbeddable janeMember = new DepartmentMemberEmbeddable();
-        janeMember.setPerson(jane);
-
-        final Person john = new Person();
-        john.setId(4L);
-        john.setFirstName("John");
-        john.setLastName("Doe");
-        john.setPermissions(List.of(INACTIVE));
-        final DepartmentMemberEmbeddable johnMember = new DepartmentMemberEmbeddable();
-        johnMember.setPerson(john);
-
-        final DepartmentEntity admins = new DepartmentEntity();
-        admins.setName("admins");
-        admins.setMembers(List.of(maxMember, janeMember, johnMember));
-
-        final DepartmentEntity developers = new DepartmentEntity();
-        developers.setName("developers");
-        developers.setMembers(List.of(janeMember, johnMember));
-
-        when(departmentRepository.findBySecondStageAuthorities(person)).thenReturn(List.of(admins, developers));
-
-        final Page<Person> actual = sut.getManagedInactiveMembersOfPerson(person, defaultPersonSearchQuery());
-
-        assertThat(actual.getContent()).containsExactly(john, max);
+        final Page<Person> actual = sut.getManagedMembersOfPerson(person, defaultPersonSearchQuery());
+        assertThat(actual).isSameAs(page);
     }
 
     @Test
-    void ensureGetManagedInactiveMembersOfPersonReturnsEmptyList() {
+    void ensureGetManagedMembersOfPersonReturnsPageOfEmptyList() {
 
         final Person person = new Person();
         person.setId(1L);
         person.setPermissions(List.of());
 
-        final Page<Person> actual = sut.getManagedInactiveMembersOfPerson(person, defaultPersonSearchQuery());
+        final Page<Person> actual = sut.getManagedMembersOfPerson(person, defaultPersonSearchQuery());
 
         assertThat(actual.getContent()).isEmpty();
         verifyNoInteractions(departmentRepository);
     }
 
     @Test
-    void ensureGetManagedActiveMembersOfPersonReturnsPageSecond() {
+    void ensureGetManagedMembersOfPersonPassesQueryAndPageAndSortsByPersonAttributesOnly() {
 
         final Person person = new Person();
         person.setId(1L);
         person.setPermissions(List.of(DEPARTMENT_HEAD));
 
-        final List<DepartmentMemberEmbeddable> activeMembers =
-            anyDepartmentMembers(14, 1, p -> p.setPermissions(List.of(USER)));
-
-        final DepartmentEntity departmentEntity = new DepartmentEntity();
-        departmentEntity.setId(1L);
-        departmentEntity.setMembers(activeMembers);
-
-        when(departmentRepository.findByDepartmentHeads(person)).thenReturn(List.of(departmentEntity));
+        final Sort requestedSort = Sort.by(Sort.Direction.DESC, "lastName").and(Sort.by("account.remainingVacationDays"));
+        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(PageRequest.of(2, 10, requestedSort), "mus");
 
-        final PageRequest pageRequest = PageRequest.of(1, 10);
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(pageRequest, "");
+        final PageRequest expectedPageRequest = PageRequest.of(2, 10, Sort.by(Sort.Direction.DESC, "lastName").and(Sort.by("id")));
+        final Page<Person> page = new PageImpl<>(List.of(new Person()));
+        when(departmentRepository.findManagedMembersOfPersonByPermissionsNotContainingAndNiceNameContainingIgnoreCase(person, true, false, INACTIVE, "mus", expectedPageRequest))
+            .thenReturn(page);
 
         final Page<Person> actual = sut.getManagedMembersOfPerson(person, pageableSearchQuery);
-
-        assertThat(actual.getTotalPages()).isEqualTo(2);
-        assertThat(actual.getPageable().getPageNumber()).isEqualTo(1);
-        assertThat(actual.getContent()).hasSize(4);
+        assertThat(actual).isSameAs(page);
     }
 
     @Test
-    void ensureGetManagedInactiveMembersOfPersonReturnsPageSecond() {
+    void ensureGetManagedMembersOfPersonKeepsUnpagedRequests() {
 
         final Person person = new Person();
         person.setId(1L);
         person.setPermissions(List.of(DEPARTMENT_HEAD));
 
-        final List<DepartmentMemberEmbeddable> inactiveMembers =
-            anyDepartmentMembers(14, 1, p -> p.setPermissions(List.of(INACTIVE)));
-
-        final DepartmentEntity departmentEntity = new DepartmentEntity();
-        departmentEntity.setId(1L);
-        departmentEntity.setMembers(inactiveMembers);
-
-        when(departmentRepository.findByDepartmentHeads(person)).thenReturn(List.of(departmentEntity));
-
-        final PageRequest pageRequest = PageRequest.of(1, 10);
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(pageRequest, "");
+        final Page<Person> page = new PageImpl<>(List.of(new Person()));
+        when(departmentRepository.findManagedMembersOfPersonByPermissionsNotContainingAndNiceNameContainingIgnoreCase(eq(person), eq(true), eq(false), eq(INACTIVE), eq(""),
+            argThat(pageable -> pageable.isUnpaged() && pageable.getSort().equals(Sort.by("id")))))
+            .thenReturn(page);
 
-        final Page<Person> actual = sut.getManagedInactiveMembersOfPerson(person, pageableSearchQuery);
-
-        assertThat(actual.getTotalPages()).isEqualTo(2);
-        assertThat(actual.getPageable().getPageNumber()).isEqualTo(1);
-        assertThat(actual.getContent()).hasSize(4);
+        final Page<Person> actual = sut.getManagedMembersOfPerson(person, new PageableSearchQuery(Pageable.unpaged(), ""));
+        assertThat(actual).isSameAs(page);
     }
 
-    @ParameterizedTest
-    @EnumSource(value = Role.class, names = {"BOSS", "OFFICE"})
-    void ensureGetManagedMembersOfPersonAndDepartmentForRole(Role role) {
+    @Test
+    void ensureGetManagedInactiveMembersOfPersonReturnsPageOfInactiveMembersForDepartmentHeadAndSecondStageAuthority() {
 
         final Person person = new Person();
         person.setId(1L);
-        person.setPermissions(List.of(role));
-
-        final Person member = new Person();
-        member.setId(2L);
-
-        final DepartmentEntity departmentEntity = new DepartmentEntity();
-        departmentEntity.setId(1L);
-        departmentEntity.setMembers(List.of(departmentMemberEmbeddable(member)));
-
-        when(departmentRepository.findById(1L)).thenReturn(Optional.of(departmentEntity));
-
-        final PageRequest pageRequest = PageRequest.of(0, 10);
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(pageRequest, "");
+        person.setPermissions(List.of(DEPARTMENT_HEAD, SECOND_STAGE_AUTHORITY));
 
-        final Page<Person> actual = sut.getManagedMembersOfPersonAndDepartment(person, 1L, pageableSearchQuery);
+        final Page<Person> page = new PageImpl<>(List.of(new Person()));
+        when(departmentRepository.findManagedMembersOfPersonByPermissionsContainingAndNiceNameContainingIgnoreCase(person, true, true, INACTIVE, "", personPageRequest()))
+            .thenReturn(page);
 
-        assertThat(actual.getTotalPages()).isEqualTo(1);
-        assertThat(actual.getPageable().getPageNumber()).isZero();
-        assertThat(actual.getContent()).hasSize(1);
+        final Page<Person> actual = sut.getManagedInactiveMembersOfPerson(person, defaultPersonSearchQuery());
+        assertThat(actual).isSameAs(page);
     }
 
     @Test
-    void ensureGetManagedInactiveMembersOfPersonAndDepartmentForDepartmentHead() {
-
-        final Person departmentHead = new Person();
-        departmentHead.setId(1L);
-        departmentHead.setPermissions(List.of(DEPARTMENT_HEAD));
-
-        final Person inactiveMember = new Person();
-        inactiveMember.setId(2L);
-        inactiveMember.setPermissions(List.of(INACTIVE));
-
-        final DepartmentEntity departmentEntity = new DepartmentEntity();
-        departmentEntity.setId(1L);
-        departmentEntity.setMembers(List.of(departmentMemberEmbeddable(inactiveMember)));
-        departmentEntity.setDepartmentHeads(List.of(departmentHead));
-
-        when(departmentRepository.findById(1L)).thenReturn(Optional.of(departmentEntity));
+    void ensureGetManagedInactiveMembersOfPersonReturnsPageOfInactiveMembersForDepartmentHead() {
 
-        final PageRequest pageRequest = PageRequest.of(0, 10);
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(pageRequest, "");
+        final Person person = new Person();
+        person.setId(1L);
+        person.setPermissions(List.of(DEPARTMENT_HEAD));
 
-        final Page<Person> actual = sut.getManagedInactiveMembersOfPersonAndDepartment(departmentHead, 1L, pageableSearchQuery);
+        final Page<Person> page = new PageImpl<>(List.of(new Person()));
+        when(departmentRepository.findManagedMembersOfPersonByPermissionsContainingAndNiceNameContainingIgnoreCase(person, true, false, INACTIVE, "", personPageRequest()))
+            .thenReturn(page);
 
-        assertThat(actual.getTotalPages()).isEqualTo(1);
-        assertThat(actual.getPageable().getPageNumber()).isZero();
-        assertThat(actual.getContent()).hasSize(1);
+        final Page<Person> actual = sut.getManagedInactiveMembersOfPerson(person, defaultPersonSearchQuery());
+        assertThat(actual).isSameAs(page);
     }
 
     @Test
-    void ensureGetManagedInactiveMembersOfPersonAndDepartmentForSecondStageAuthority() {
-
-        final Person secondStageAuthority = new Person();
-        secondStageAuthority.setId(1L);
-        secondStageAuthority.setPermissions(List.of(SECOND_STAGE_AUTHORITY));
-
-        final Person inactiveMember = new Person();
-        inactiveMember.setId(2L);
-        inactiveMember.setPermissions(List.of(INACTIVE));
+    void ensureGetManagedInactiveMembersOfPersonReturnsPageOfInactiveMembersForSecondStageAuthority() {
 
-        final DepartmentEntity departmentEntity = new DepartmentEntity();
-        departmentEntity.setId(1L);
-        departmentEntity.setMembers(List.of(departmentMemberEmbeddable(inactiveMember)));
-        departmentEntity.setSecondStageAuthorities(List.of(secondStageAuthority));
-
-        when(departmentRepository.findById(1L)).thenReturn(Optional.of(departmentEntity));
-
-        final PageRequest pageRequest = PageRequest.of(0, 10);
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(pageRequest, "");
+        final Person person = new Person();
+        person.setId(1L);
+        person.setPermissions(List.of(SECOND_STAGE_AUTHORITY));
 
-        final Page<Person> actual = sut.getManagedInactiveMembersOfPersonAndDepartment(secondStageAuthority, 1L, pageableSearchQuery);
+        final Page<Person> page = new PageImpl<>(List.of(new Person()));
+        when(departmentRepository.findManagedMembersOfPersonByPermissionsContainingAndNiceNameContainingIgnoreCase(person, false, true, INACTIVE, "", personPageRequest()))
+            .thenReturn(page);
 
-        assertThat(actual.getTotalPages()).isEqualTo(1);
-        assertThat(actual.getPageable().getPageNumber()).isZero();
-        assertThat(actual.getContent()).hasSize(1);
+        final Page<Person> actual = sut.getManagedInactiveMembersOfPerson(person, defaultPersonSearchQuery());
+        assertThat(actual).isSameAs(page);
     }
 
     @Test
-    void ensureGetManagedInactiveMembersOfPersonAndDepartmentForMember() {
+    void ensureGetManagedInactiveMembersOfPersonReturnsEmptyList() {
 
         final Person person = new Person();
         person.setId(1L);
-        person.setPermissions(List.of(USER));
-
-        final Person inactiveMember = new Person();
-        inactiveMember.setId(2L);
-        inactiveMember.setPermissions(List.of(INACTIVE));
-
-        final DepartmentEntity departmentEntity = new DepartmentEntity();
-        departmentEntity.setId(1L);
-        departmentEntity.setMembers(List.of(departmentMemberEmbeddable(person), departmentMemberEmbeddable(inactiveMember)));
-
-        when(departmentRepository.findById(1L)).thenReturn(Optional.of(departmentEntity));
-
-        final PageRequest pageRequest = PageRequest.of(0, 10);
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(pageRequest, "");
+        person.setPermissions(List.of());
 
-        final Page<Person> actual = sut.getManagedInactiveMembersOfPersonAndDepartment(person, 1L, pageableSearchQuery);
+        final Page<Person> actual = sut.getManagedInactiveMembersOfPerson(person, defaultPersonSearchQuery());
 
-        assertThat(actual).isEqualTo(Page.empty());
+        assertThat(actual.getContent()).isEmpty();
+        verifyNoInteractions(departmentRepository);
     }
 
     @ParameterizedTest
     @EnumSource(value = Role.class, names = {"BOSS", "OFFICE"})
-    void ensureGetManagedMembersOfPersonAndDepartmentReturnsPageSecond(Role role) {
+    void ensureGetManagedMembersOfPersonAndDepartmentForRole(Role role) {
 
         final Person person = new Person();
         person.setId(1L);
         person.setPermissions(List.of(role));
 
-        final List<DepartmentMemberEmbeddable> activeMembers =
-            anyDepartmentMembers(14, 2, p -> p.setPermissions(List.of(USER)));
+        when(departmentRepository.existsById(1L)).thenReturn(true);
 
-        final DepartmentEntity departmentEntity = new DepartmentEntity();
-        departmentEntity.setId(1L);
-        departmentEntity.setMembers(activeMembers);
-
-        when(departmentRepository.findById(1L)).thenReturn(Optional.of(departmentEntity));
-
-        final PageRequest pageRequest = PageRequest.of(1, 10);
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(pageRequest, "");
-
-        final Page<Person> actual = sut.getManagedMembersOfPersonAndDepartment(person, 1L, pageableSearchQuery);
+        final Page<Person> page = new PageImpl<>(List.of(new Person()));
+        when(departmentRepository.findMembersOfDepartmentByPermissionsNotContainingAndNiceNameContainingIgnoreCase(1L, INACTIVE, "", personPageRequest()))
+            .thenReturn(page);
 
-        assertThat(actual.getTotalPages()).isEqualTo(2);
-        assertThat(actual.getPageable().getPageNumber()).isEqualTo(1);
-        assertThat(actual.getContent()).hasSize(4);
+        final Page<Person> actual = sut.getManagedMembersOfPersonAndDepartment(person, 1L, defaultPersonSearchQuery());
+        assertThat(actual).isSameAs(page);
     }
 
     @Test
-    void ensureGetManagedMembersOfPersonAndDepartmentReturnsEmptyPageWhenDepartmentHeadIsNotResponsible() {
+    void ensureGetManagedMembersOfPersonAndDepartmentForDepartmentHead() {
 
         final Person person = new Person();
         person.setId(1L);
-        person.setPermissions(List.of(DEPARTMENT_HEAD));
-
-        final List<DepartmentMemberEmbeddable> activeMembers =
-            // do not start with personId=1 to exclude person from members list
-            anyDepartmentMembers(14, 2, p -> p.setPermissions(List.of(USER)));
+        person.setPermissions(List.of(USER, DEPARTMENT_HEAD));
 
         final DepartmentEntity departmentEntity = new DepartmentEntity();
         departmentEntity.setId(1L);
-        departmentEntity.setMembers(activeMembers);
-        // person is not department head of THIS department
-        departmentEntity.setDepartmentHeads(List.of());
+        departmentEntity.setDepartmentHeads(List.of(person));
 
-        when(departmentRepository.findById(1L)).thenReturn(Optional.of(departmentEntity));
+        when(departmentRepository.existsById(1L)).thenReturn(true);
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentEntity));
 
-        final PageRequest pageRequest = PageRequest.of(1, 10);
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(pageRequest, "");
+        final Page<Person> page = new PageImpl<>(List.of(new Person()));
+        when(departmentRepository.findMembersOfDepartmentByPermissionsNotContainingAndNiceNameContainingIgnoreCase(1L, INACTIVE, "", personPageRequest()))
+            .thenReturn(page);
 
-        final Page<Person> actual = sut.getManagedMembersOfPersonAndDepartment(person, 1L, pageableSearchQuery);
-        assertThat(actual).isEqualTo(Page.empty());
+        final Page<Person> actual = sut.getManagedMembersOfPersonAndDepartment(person, 1L, defaultPersonSearchQuery());
+        assertThat(actual).isSameAs(page);
     }
 
     @Test
-    void ensureGetManagedMembersOfPersonAndDepartmentReturnsEmptyPageWhenSecondStageAuthorityIsNotResponsible() {
+    void ensureGetManagedMembersOfPersonAndDepartmentForSecondStageAuthority() {
 
         final Person person = new Person();
         person.setId(1L);
-        person.setPermissions(List.of(SECOND_STAGE_AUTHORITY));
-
-        final List<DepartmentMemberEmbeddable> activeMembers =
-            // do not start with personId=1 to exclude person from members list
-            anyDepartmentMembers(14, 2, p -> p.setPermissions(List.of(USER)));
+        person.setPermissions(List.of(USER, SECOND_STAGE_AUTHORITY));
 
         final DepartmentEntity departmentEntity = new DepartmentEntity();
         departmentEntity.setId(1L);
-        departmentEntity.setMembers(activeMembers);
-        // person is not second stage authority of THIS department
-        departmentEntity.setSecondStageAuthorities(List.of());
+        departmentEntity.setSecondStageAuthorities(List.of(person));
 
-        when(departmentRepository.findById(1L)).thenReturn(Optional.of(departmentEntity));
+        when(departmentRepository.existsById(1L)).thenReturn(true);
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentEntity));
 
-        final PageRequest pageRequest = PageRequest.of(1, 10);
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(pageRequest, "");
+        final Page<Person> page = new PageImpl<>(List.of(new Person()));
+        when(departmentRepository.findMembersOfDepartmentByPermissionsNotContainingAndNiceNameContainingIgnoreCase(1L, INACTIVE, "", personPageRequest()))
+            .thenReturn(page);
 
-        final Page<Person> actual = sut.getManagedMembersOfPersonAndDepartment(person, 1L, pageableSearchQuery);
-        assertThat(actual).isEqualTo(Page.empty());
+        final Page<Person> actual = sut.getManagedMembersOfPersonAndDepartment(person, 1L, defaultPersonSearchQuery());
+        assertThat(actual).isSameAs(page);
     }
 
     @Test
-    void ensureGetManagedMembersOfPersonAndDepartmentReturnsEmptyPageWhenGivenUserIsNotAMember() {
+    void ensureGetManagedMembersOfPersonAndDepartmentPassesQueryAndPage() {
 
         final Person person = new Person();
         person.setId(1L);
-        person.setPermissions(List.of(USER));
-
-        final List<DepartmentMemberEmbeddable> activeMembers =
-            // do not start with personId=1 to exclude person from members list
-            anyDepartmentMembers(14, 2, p -> p.setPermissions(List.of(USER)));
-
-        final DepartmentEntity departmentEntity = new DepartmentEntity();
-        departmentEntity.setId(1L);
-        departmentEntity.setMembers(activeMembers);
+        person.setPermissions(List.of(USER, OFFICE));
 
-        when(departmentRepository.findById(1L)).thenReturn(Optional.of(departmentEntity));
+        when(departmentRepository.existsById(1L)).thenReturn(true);
 
-        final PageRequest pageRequest = PageRequest.of(1, 10);
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(pageRequest, "");
+        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(PageRequest.of(1, 5, Sort.by("firstName")), "mus");
+        final PageRequest expectedPageRequest = PageRequest.of(1, 5, Sort.by("firstName").and(Sort.by("id")));
+        final Page<Person> page = new PageImpl<>(List.of(new Person()));
+        when(departmentRepository.findMembersOfDepartmentByPermissionsNotContainingAndNiceNameContainingIgnoreCase(1L, INACTIVE, "mus", expectedPageRequest))
+            .thenReturn(page);
 
         final Page<Person> actual = sut.getManagedMembersOfPersonAndDepartment(person, 1L, pageableSearchQuery);
-        assertThat(actual).isEqualTo(Page.empty());
+        assertThat(actual).isSameAs(page);
     }
 
-    @ParameterizedTest
-    @EnumSource(value = Role.class, names = {"BOSS", "OFFICE"})
-    void ensureGetManagedInactiveMembersOfPersonAndDepartmentForRole(Role role) {
+    @Test
+    void ensureGetManagedMembersOfPersonAndDepartmentReturnsEmptyPageWhenDepartmentHeadIsNotResponsible() {
 
         final Person person = new Person();
         person.setId(1L);
-        person.setPermissions(List.of(role));
+        person.setPermissions(List.of(USER, DEPARTMENT_HEAD));
 
-        final Person inactiveMember = new Person();
-        inactiveMember.setId(2L);
-        inactiveMember.setPermissions(List.of(INACTIVE));
+        final Person otherDepartmentHead = new Person();
+        otherDepartmentHead.setId(2L);
 
         final DepartmentEntity departmentEntity = new DepartmentEntity();
         departmentEntity.setId(1L);
-        departmentEntity.setMembers(List.of(departmentMemberEmbeddable(inactiveMember)));
-
-        when(departmentRepository.findById(1L)).thenReturn(Optional.of(departmentEntity));
+        departmentEntity.setDepartmentHeads(List.of(otherDepartmentHead));
 
-        final PageRequest pageRequest = PageRequest.of(0, 10);
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(pageRequest, "");
-
-        final Page<Person> actual = sut.getManagedInactiveMembersOfPersonAndDepartment(person, 1L, pageableSearchQuery);
+        when(departmentRepository.existsById(1L)).thenReturn(true);
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentEntity));
 
-        assertThat(actual.getTotalPages()).isEqualTo(1);
-        assertThat(actual.getPageable().getPageNumber()).isZero();
-        assertThat(actual.getContent()).hasSize(1);
+        final Page<Person> actual = sut.getManagedMembersOfPersonAndDepartment(person, 1L, defaultPersonSearchQuery());
+        assertThat(actual).isEmpty();
     }
 
     @Test
-    void ensureGetManagedMembersOfPersonAndDepartmentForDepartmentHead() {
+    void ensureGetManagedMembersOfPersonAndDepartmentReturnsEmptyPageWhenSecondStageAuthorityIsNotResponsible() {
 
-        final Person departmentHead = new Person();
-        departmentHead.setId(1L);
-        departmentHead.setPermissions(List.of(DEPARTMENT_HEAD));
+        final Person person = new Person();
+        person.setId(1L);
+        person.setPermissions(List.of(USER, SECOND_STAGE_AUTHORITY));
 
-        final Person member = new Person();
-        member.setId(2L);
+        final Person otherSecondStageAuthority = new Person();
+        otherSecondStageAuthority.setId(2L);
 
         final DepartmentEntity departmentEntity = new DepartmentEntity();
         departmentEntity.setId(1L);
-        departmentEntity.setMembers(List.of(departmentMemberEmbeddable(member)));
-        departmentEntity.setDepartmentHeads(List.of(departmentHead));
-
-        when(departmentRepository.findById(1L)).thenReturn(Optional.of(departmentEntity));
-
-        final PageRequest pageRequest = PageRequest.of(0, 10);
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(pageRequest, "");
+        departmentEntity.setSecondStageAuthorities(List.of(otherSecondStageAuthority));
 
-        final Page<Person> actual = sut.getManagedMembersOfPersonAndDepartment(departmentHead, 1L, pageableSearchQuery);
+        when(departmentRepository.existsById(1L)).thenReturn(true);
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentEntity));
 
-        assertThat(actual.getTotalPages()).isEqualTo(1);
-        assertThat(actual.getPageable().getPageNumber()).isZero();
-        assertThat(actual.getContent()).hasSize(1);
+        final Page<Person> actual = sut.getManagedMembersOfPersonAndDepartment(person, 1L, defaultPersonSearchQuery());
+        assertThat(actual).isEmpty();
     }
 
     @Test
-    void ensureGetManagedMembersOfPersonAndDepartmentForSecondStageAuthority() {
-
-        final Person secondStageAuthority = new Person();
-        secondStageAuthority.setId(1L);
-        secondStageAuthority.setPermissions(List.of(SECOND_STAGE_AUTHORITY));
-
-        final Person member = new Person();
-        member.setId(2L);
-
-        final DepartmentEntity departmentEntity = new DepartmentEntity();
-        departmentEntity.setId(1L);
-        departmentEntity.setMembers(List.of(departmentMemberEmbeddable(member)));
-        departmentEntity.setSecondStageAuthorities(List.of(secondStageAuthority));
-
-        when(departmentRepository.findById(1L)).thenReturn(Optional.of(departmentEntity));
+    void ensureGetManagedMembersOfPersonAndDepartmentReturnsEmptyPageWhenGivenUserIsNotAMember() {
 
-        final PageRequest pageRequest = PageRequest.of(0, 10);
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(pageRequest, "");
+        final Person person = new Person();
+        person.setId(1L);
+        person.setPermissions(List.of(USER));
 
-        final Page<Person> actual = sut.getManagedMembersOfPersonAndDepartment(secondStageAuthority, 1L, pageableSearchQuery);
+        when(departmentRepository.existsById(1L)).thenReturn(true);
 
-        assertThat(actual.getTotalPages()).isEqualTo(1);
-        assertThat(actual.getPageable().getPageNumber()).isZero();
-        assertThat(actual.getContent()).hasSize(1);
+        final Page<Person> actual = sut.getManagedMembersOfPersonAndDepartment(person, 1L, defaultPersonSearchQuery());
+        assertThat(actual).isEmpty();
     }
 
     @Test
-    void ensureGetManagedMembersOfPersonAndDepartmentForMember() {
+    void ensureGetManagedMembersOfPersonAndDepartmentThrowsForUnknownDepartment() {
 
         final Person person = new Person();
         person.setId(1L);
-        person.setPermissions(List.of(USER));
+        person.setPermissions(List.of(USER, OFFICE));
 
-        final Person member = new Person();
-        member.setId(2L);
+        when(departmentRepository.existsById(1L)).thenReturn(false);
 
-        final DepartmentEntity departmentEntity = new DepartmentEntity();
-        departmentEntity.setId(1L);
-        departmentEntity.setMembers(List.of(departmentMemberEmbeddable(person), departmentMemberEmbeddable(member)));
-
-        when(departmentRepository.findById(1L)).thenReturn(Optional.of(departmentEntity));
-
-        final PageRequest pageRequest = PageRequest.of(0, 10);
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(pageRequest, "");
-
-        final Page<Person> actual = sut.getManagedMembersOfPersonAndDepartment(person, 1L, pageableSearchQuery);
-
-        assertThat(actual).isEqualTo(Page.empty());
+        final PageableSearchQuery pageableSearchQuery = defaultPersonSearchQuery();
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> sut.getManagedMembersOfPersonAndDepartment(person, 1L, pageableSearchQuery));
     }
 
-    @Test
-    void ensureGetManagedInactiveMembersOfPersonAndDepartmentReturnsPageSecond() {
+    @ParameterizedTest
+    @EnumSource(value = Role.class, names = {"BOSS", "OFFICE"})
+    void ensureGetManagedInactiveMembersOfPersonAndDepartmentForRole(Role role) {
 
         final Person person = new Person();
         person.setId(1L);
-        person.setPermissions(List.of(BOSS));
-
-        final List<DepartmentMemberEmbeddable> inactiveMembers =
-            anyDepartmentMembers(14, 2, p -> p.setPermissions(List.of(INACTIVE)));
-
-        final DepartmentEntity departmentEntity = new DepartmentEntity();
-        departmentEntity.setId(1L);
-        departmentEntity.setMembers(inactiveMembers);
-
-        when(departmentRepository.findById(1L)).thenReturn(Optional.of(departmentEntity));
+        person.setPermissions(List.of(role));
 
-        final PageRequest pageRequest = PageRequest.of(1, 10);
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(pageRequest, "");
+        when(departmentRepository.existsById(1L)).thenReturn(true);
 
-        final Page<Person> actual = sut.getManagedInactiveMembersOfPersonAndDepartment(person, 1L, pageableSearchQuery);
+        final Page<Person> page = new PageImpl<>(List.of(new Person()));
+        when(departmentRepository.findMembersOfDepartmentByPermissionsContainingAndNiceNameContainingIgnoreCase(1L, INACTIVE, "", personPageRequest()))
+            .thenReturn(page);
 
-        assertThat(actual.getTotalPages()).isEqualTo(2);
-        assertThat(actual.getPageable().getPageNumber()).isEqualTo(1);
-        assertThat(actual.getContent()).hasSize(4);
+        final Page<Person> actual = sut.getManagedInactiveMembersOfPersonAndDepartment(person, 1L, defaultPersonSearchQuery());
+        assertThat(actual).isSameAs(page);
     }
 
     @Test
-    void ensureGetManagedInactiveMembersOfPersonAndDepartmentReturnsEmptyPageWhenDepartmentHeadIsNotResponsible() {
+    void ensureGetManagedInactiveMembersOfPersonAndDepartmentForDepartmentHead() {
 
         final Person person = new Person();
         person.setId(1L);
-        person.setPermissions(List.of(DEPARTMENT_HEAD));
-
-        final List<DepartmentMemberEmbeddable> inactiveMembers =
-            // do not start with personId=1 to exclude person from members list
-            anyDepartmentMembers(14, 2, p -> p.setPermissions(List.of(INACTIVE)));
+        person.setPermissions(List.of(USER, DEPARTMENT_HEAD));
 
         final DepartmentEntity departmentEntity = new DepartmentEntity();
         departmentEntity.setId(1L);
-        departmentEntity.setMembers(inactiveMembers);
-        // person is not department head of THIS department
-        departmentEntity.setDepartmentHeads(List.of());
+        departmentEntity.setDepartmentHeads(List.of(person));
 
-        when(departmentRepository.findById(1L)).thenReturn(Optional.of(departmentEntity));
+        when(departmentRepository.existsById(1L)).thenReturn(true);
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentEntity));
 
-        final PageRequest pageRequest = PageRequest.of(1, 10);
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(pageRequest, "");
+        final Page<Person> page = new PageImpl<>(List.of(new Person()));
+        when(departmentRepository.findMembersOfDepartmentByPermissionsContainingAndNiceNameContainingIgnoreCase(1L, INACTIVE, "", personPageRequest()))
+            .thenReturn(page);
 
-        final Page<Person> actual = sut.getManagedInactiveMembersOfPersonAndDepartment(person, 1L, pageableSearchQuery);
-        assertThat(actual).isEqualTo(Page.empty());
+        final Page<Person> actual = sut.getManagedInactiveMembersOfPersonAndDepartment(person, 1L, defaultPersonSearchQuery());
+        assertThat(actual).isSameAs(page);
     }
 
     @Test
-    void ensureGetManagedInactiveMembersOfPersonAndDepartmentReturnsEmptyPageWhenSecondStageAuthorityIsNotResponsible() {
+    void ensureGetManagedInactiveMembersOfPersonAndDepartmentForSecondStageAuthority() {
 
         final Person person = new Person();
         person.setId(1L);
-        person.setPermissions(List.of(SECOND_STAGE_AUTHORITY));
-
-        final List<DepartmentMemberEmbeddable> inactiveMembers =
-            // do not start with personId=1 to exclude person from members list
-            anyDepartmentMembers(14, 2, p -> p.setPermissions(List.of(INACTIVE)));
+        person.setPermissions(List.of(USER, SECOND_STAGE_AUTHORITY));
 
         final DepartmentEntity departmentEntity = new DepartmentEntity();
         departmentEntity.setId(1L);
-        departmentEntity.setMembers(inactiveMembers);
-        // person is not second stage authority of THIS department
-        departmentEntity.setSecondStageAuthorities(List.of());
+        departmentEntity.setSecondStageAuthorities(List.of(person));
 
-        when(departmentRepository.findById(1L)).thenReturn(Optional.of(departmentEntity));
+        when(departmentRepository.existsById(1L)).thenReturn(true);
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentEntity));
 
-        final PageRequest pageRequest = PageRequest.of(1, 10);
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(pageRequest, "");
+        final Page<Person> page = new PageImpl<>(List.of(new Person()));
+        when(departmentRepository.findMembersOfDepartmentByPermissionsContainingAndNiceNameContainingIgnoreCase(1L, INACTIVE, "", personPageRequest()))
+            .thenReturn(page);
 
-        final Page<Person> actual = sut.getManagedInactiveMembersOfPersonAndDepartment(person, 1L, pageableSearchQuery);
-        assertThat(actual).isEqualTo(Page.empty());
+        final Page<Person> actual = sut.getManagedInactiveMembersOfPersonAndDepartment(person, 1L, defaultPersonSearchQuery());
+        assertThat(actual).isSameAs(page);
     }
 
     @Test
@@ -920,21 +590,10 @@ class DepartmentServiceImplTest {
         person.setId(1L);
         person.setPermissions(List.of(USER));
 
-        final List<DepartmentMemberEmbeddable> inactiveMembers =
-            // do not start with personId=1 to exclude person from members list
-            anyDepartmentMembers(14, 2, p -> p.setPermissions(List.of(INACTIVE)));
-
-        final DepartmentEntity departmentEntity = new DepartmentEntity();
-        departmentEntity.setId(1L);
-        departmentEntity.setMembers(inactiveMembers);
-
-        when(departmentRepository.findById(1L)).thenReturn(Optional.of(departmentEntity));
+        when(departmentRepository.existsById(1L)).thenReturn(true);
 
-        final PageRequest pageRequest = PageRequest.of(1, 10);
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(pageRequest, "");
-
-        final Page<Person> actual = sut.getManagedInactiveMembersOfPersonAndDepartment(person, 1L, pageableSearchQuery);
-        assertThat(actual).isEqualTo(Page.empty());
+        final Page<Person> actual = sut.getManagedInactiveMembersOfPersonAndDepartment(person, 1L, defaultPersonSearchQuery());
+        assertThat(actual).isEmpty();
     }
 
     @Test
@@ -1326,19 +985,23 @@ class DepartmentServiceImplTest {
     void ensureReturnsTrueIfIsDepartmentHeadOfTheGivenPerson() {
 
         final Person departmentHead = new Person();
+        departmentHead.setId(1L);
         departmentHead.setPermissions(List.of(USER, DEPARTMENT_HEAD));
 
         final DepartmentMemberEmbeddable departmentHeadMember = departmentMemberEmbeddable(departmentHead);
 
         final Person marlenePerson = new Person("muster", "Muster", "Marlene", "marlene.muster@example.org");
+        marlenePerson.setId(2L);
         final DepartmentMemberEmbeddable marleneMember = departmentMemberEmbeddable(marlenePerson);
         final DepartmentMemberEmbeddable maxMember = departmentMemberEmbeddable("admin2", "Muster", "Max", "max.muster@example.org");
 
         final DepartmentEntity admins = new DepartmentEntity();
+        admins.setId(1L);
         admins.setName("admins");
         admins.setMembers(List.of(marleneMember, maxMember, departmentHeadMember));
+        admins.setDepartmentHeads(List.of(departmentHead));
 
-        when(departmentRepository.findByDepartmentHeads(departmentHead)).thenReturn(List.of(admins));
+        when(departmentRepository.findAll()).thenReturn(List.of(admins));
 
         boolean isDepartmentHead = sut.isDepartmentHeadAllowedToManagePerson(departmentHead, marlenePerson);
         assertThat(isDepartmentHead).isTrue();
@@ -1348,6 +1011,7 @@ class DepartmentServiceImplTest {
     void ensureReturnsFalseIfIsNotDepartmentHeadOfTheGivenPerson() {
 
         final Person departmentHead = new Person();
+        departmentHead.setId(1L);
         departmentHead.setPermissions(List.of(USER, DEPARTMENT_HEAD));
         final DepartmentMemberEmbeddable departmentHeadMember = departmentMemberEmbeddable(departmentHead);
 
@@ -1355,13 +1019,15 @@ class DepartmentServiceImplTest {
         final DepartmentMemberEmbeddable maxMember = departmentMemberEmbeddable("admin2", "Muster", "Max", "max.muster@example.org");
 
         final DepartmentEntity admins = new DepartmentEntity();
+        admins.setId(1L);
         admins.setName("admins");
         admins.setMembers(List.of(marleneMember, maxMember, departmentHeadMember));
+        admins.setDepartmentHeads(List.of(departmentHead));
 
         Person marketing1 = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        marketing1.setId(4L);
 
-        when(departmentRepository.findByDepartmentHeads(departmentHead))
-            .thenReturn(List.of(admins));
+        when(departmentRepository.findAll()).thenReturn(List.of(admins));
 
         boolean isDepartmentHead = sut.isDepartmentHeadAllowedToManagePerson(departmentHead, marketing1);
         assertThat(isDepartmentHead).isFalse();
@@ -1698,11 +1364,12 @@ class DepartmentServiceImplTest {
         final DepartmentMemberEmbeddable departmentHeadMember = departmentMemberEmbeddable(departmentHead);
 
         final DepartmentEntity departmentEntity = new DepartmentEntity();
+        departmentEntity.setId(1L);
         departmentEntity.setName("dep");
         departmentEntity.setMembers(List.of(personMember, departmentHeadMember));
+        departmentEntity.setDepartmentHeads(List.of(departmentHead));
 
-        when(departmentRepository.findByDepartmentHeads(departmentHead))
-            .thenReturn(List.of(departmentEntity));
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentEntity));
 
         boolean isAllowed = sut.isSignedInUserAllowedToAccessPersonData(departmentHead, person);
         assertThat(isAllowed).isTrue();
@@ -1722,11 +1389,12 @@ class DepartmentServiceImplTest {
         final DepartmentMemberEmbeddable departmentHeadMember = departmentMemberEmbeddable(departmentHead);
 
         final DepartmentEntity departmentEntity = new DepartmentEntity();
+        departmentEntity.setId(1L);
         departmentEntity.setName("dep");
         departmentEntity.setMembers(List.of(departmentHeadMember));
+        departmentEntity.setDepartmentHeads(List.of(departmentHead));
 
-        when(departmentRepository.findByDepartmentHeads(departmentHead))
-            .thenReturn(List.of(departmentEntity));
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentEntity));
 
         boolean isAllowed = sut.isSignedInUserAllowedToAccessPersonData(departmentHead, person);
         assertThat(isAllowed).isFalse();
@@ -1748,11 +1416,13 @@ class DepartmentServiceImplTest {
         final DepartmentMemberEmbeddable departmentHeadMember = departmentMemberEmbeddable(departmentHead);
 
         final DepartmentEntity departmentEntity = new DepartmentEntity();
+        departmentEntity.setId(1L);
         departmentEntity.setName("dep");
         departmentEntity.setMembers(List.of(secondStageAuthorityMember, departmentHeadMember));
         departmentEntity.setSecondStageAuthorities(List.of(secondStageAuthority));
+        departmentEntity.setDepartmentHeads(List.of(departmentHead));
 
-        when(departmentRepository.findByDepartmentHeads(departmentHead)).thenReturn(List.of(departmentEntity));
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentEntity));
 
         boolean isAllowed = sut.isSignedInUserAllowedToAccessPersonData(departmentHead, secondStageAuthority);
         assertThat(isAllowed).isTrue();
@@ -1774,13 +1444,13 @@ class DepartmentServiceImplTest {
         final DepartmentMemberEmbeddable departmentHeadMember = departmentMemberEmbeddable(departmentHead);
 
         final DepartmentEntity dep = new DepartmentEntity();
+        dep.setId(1L);
         dep.setName("dep");
         dep.setMembers(List.of(secondStageAuthorityMember, departmentHeadMember));
         dep.setSecondStageAuthorities(List.of(secondStageAuthority));
         dep.setDepartmentHeads(List.of(departmentHead));
 
-        when(departmentRepository.findBySecondStageAuthorities(secondStageAuthority))
-            .thenReturn(List.of(dep));
+        when(departmentRepository.findAll()).thenReturn(List.of(dep));
 
         boolean isAllowed = sut.isSignedInUserAllowedToAccessPersonData(secondStageAuthority, departmentHead);
         assertThat(isAllowed).isTrue();
@@ -2201,8 +1871,7 @@ class DepartmentServiceImplTest {
         otherDepartmentEntity.setId(2L);
         otherDepartmentEntity.setMembers(List.of(otherMemberEmbeddable));
 
-        when(departmentRepository.findByMembersPerson(person)).thenReturn(List.of(departmentEntity));
-        when(departmentRepository.findByMembersPerson(otherPerson)).thenReturn(List.of(otherDepartmentEntity));
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentEntity, otherDepartmentEntity));
 
         final boolean actual = sut.hasDepartmentMatch(person, otherPerson);
         assertThat(actual).isFalse();
@@ -2229,8 +1898,7 @@ class DepartmentServiceImplTest {
         departmentEntity.setId(1L);
         departmentEntity.setMembers(List.of(memberEmbeddable, otherMemberEmbeddable));
 
-        when(departmentRepository.findByMembersPerson(person)).thenReturn(List.of(departmentEntity));
-        when(departmentRepository.findByMembersPerson(otherPerson)).thenReturn(List.of(departmentEntity));
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentEntity));
 
         final boolean actual = sut.hasDepartmentMatch(person, otherPerson);
         assertThat(actual).isTrue();
@@ -2255,11 +1923,7 @@ class DepartmentServiceImplTest {
         departmentEntity.setMembers(List.of(otherMemberEmbeddable));
         departmentEntity.setDepartmentHeads(List.of(person));
 
-        when(departmentRepository.findByDepartmentHeadsOrSecondStageAuthorities(person, person))
-            .thenReturn(List.of(departmentEntity));
-
-        when(departmentRepository.findByMembersPerson(person)).thenReturn(List.of());
-        when(departmentRepository.findByMembersPerson(otherPerson)).thenReturn(List.of(departmentEntity));
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentEntity));
 
         final boolean actual = sut.hasDepartmentMatch(person, otherPerson);
         assertThat(actual).isTrue();
@@ -2284,11 +1948,7 @@ class DepartmentServiceImplTest {
         departmentEntity.setMembers(List.of(otherMemberEmbeddable));
         departmentEntity.setSecondStageAuthorities(List.of(person));
 
-        when(departmentRepository.findByDepartmentHeadsOrSecondStageAuthorities(person, person))
-            .thenReturn(List.of(departmentEntity));
-
-        when(departmentRepository.findByMembersPerson(person)).thenReturn(List.of());
-        when(departmentRepository.findByMembersPerson(otherPerson)).thenReturn(List.of(departmentEntity));
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentEntity));
 
         final boolean actual = sut.hasDepartmentMatch(person, otherPerson);
         assertThat(actual).isTrue();
@@ -2313,11 +1973,7 @@ class DepartmentServiceImplTest {
         departmentEntity.setMembers(List.of(memberEmbeddable));
         departmentEntity.setDepartmentHeads(List.of(otherPerson));
 
-        when(departmentRepository.findByDepartmentHeadsOrSecondStageAuthorities(otherPerson, otherPerson))
-            .thenReturn(List.of(departmentEntity));
-
-        when(departmentRepository.findByMembersPerson(person)).thenReturn(List.of(departmentEntity));
-        when(departmentRepository.findByMembersPerson(otherPerson)).thenReturn(List.of());
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentEntity));
 
         final boolean actual = sut.hasDepartmentMatch(person, otherPerson);
         assertThat(actual).isTrue();
@@ -2342,11 +1998,7 @@ class DepartmentServiceImplTest {
         departmentEntity.setMembers(List.of(memberEmbeddable));
         departmentEntity.setSecondStageAuthorities(List.of(otherPerson));
 
-        when(departmentRepository.findByDepartmentHeadsOrSecondStageAuthorities(otherPerson, otherPerson))
-            .thenReturn(List.of(departmentEntity));
-
-        when(departmentRepository.findByMembersPerson(person)).thenReturn(List.of(departmentEntity));
-        when(departmentRepository.findByMembersPerson(otherPerson)).thenReturn(List.of());
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentEntity));
 
         final boolean actual = sut.hasDepartmentMatch(person, otherPerson);
         assertThat(actual).isTrue();
@@ -2356,6 +2008,10 @@ class DepartmentServiceImplTest {
         return new PageableSearchQuery(defaultPageRequest(), "");
     }
 
+    private static PageRequest personPageRequest() {
+        return PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "firstName").and(Sort.by("id")));
+    }
+
     private static PageRequest defaultPageRequest() {
         return PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "firstName"));
     }
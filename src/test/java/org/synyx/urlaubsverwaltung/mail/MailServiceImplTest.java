@@ -20,6 +20,7 @@ import java.util.List;
 
 import static java.util.Arrays.asList;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -184,6 +185,36 @@ class MailServiceImplTest {
         verifyNoMoreInteractions(mailSenderService);
     }
 
+    @Test
+    void ensureSendAllResolvesEffectiveLocalesOfAllRecipientsAtOnce() {
+
+        setupMockServletRequest();
+
+        final Person hans = new Person();
+        hans.setEmail("hans@example.org");
+
+        final Person franz = new Person();
+        franz.setEmail("franz@example.org");
+
+        final Mail mailToHans = Mail.builder()
+            .withRecipient(hans)
+            .withSubject("subject.overtime.created")
+            .withTemplate("overtime_office", locale -> new HashMap<>())
+            .build();
+        final Mail mailToHansAndFranz = Mail.builder()
+            .withRecipient(List.of(hans, franz))
+            .withSubject("subject.overtime.created")
+            .withTemplate("overtime_office", locale -> new HashMap<>())
+            .build();
+
+        sut.sendAll(List.of(mailToHans, mailToHansAndFranz));
+
+        verify(userSettingsService).getEffectiveLocale(List.of(hans, franz));
+        verify(mailSenderService, times(2)).sendEmail("Urlaubsverwaltung <from@example.org>", "Urlaubsverwaltung <no-reply@example.org>", "hans@example.org", "subject", "emailBody");
+        verify(mailSenderService).sendEmail("Urlaubsverwaltung <from@example.org>", "Urlaubsverwaltung <no-reply@example.org>", "franz@example.org", "subject", "emailBody");
+        verifyNoMoreInteractions(mailSenderService);
+    }
+
     private void setupMockServletRequest() {
         final MockHttpServletRequest request = new MockHttpServletRequest();
         RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
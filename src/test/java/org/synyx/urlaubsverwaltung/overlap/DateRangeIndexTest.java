@@ -0,0 +1,70 @@
+package org.synyx.urlaubsverwaltung.overlap;
+
+import org.junit.jupiter.api.Test;
+import org.synyx.urlaubsverwaltung.absence.DateRange;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static java.time.Month.JANUARY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.synyx.urlaubsverwaltung.overlap.OverlapCase.FULLY_OVERLAPPING;
+import static org.synyx.urlaubsverwaltung.overlap.OverlapCase.NO_OVERLAPPING;
+import static org.synyx.urlaubsverwaltung.overlap.OverlapCase.PARTLY_OVERLAPPING;
+
+class DateRangeIndexTest {
+
+    @Test
+    void ensureEmptyIndexHasNoOverlaps() {
+        final DateRangeIndex sut = DateRangeIndex.of(List.of());
+
+        assertThat(sut.overlapCase(range(1, 31))).isEqualTo(NO_OVERLAPPING);
+        assertThat(sut.overlaps(range(1, 31))).isEmpty();
+    }
+
+    @Test
+    void ensureAbuttingAndOverlappingDateRangesInAnyOrderAreMerged() {
+        // 10.-12. abuts 13.-15., 14.-16. overlaps 13.-15.
+        final DateRangeIndex sut = DateRangeIndex.of(List.of(range(14, 16), range(10, 12), range(13, 15), range(20, 20)));
+
+        assertThat(sut.overlaps(range(1, 31))).containsExactly(range(10, 16), range(20, 20));
+        assertThat(sut.overlapCase(range(10, 16))).isEqualTo(FULLY_OVERLAPPING);
+    }
+
+    @Test
+    void ensureContainedDateRangesDoNotShortenSegment() {
+        final DateRangeIndex sut = DateRangeIndex.of(List.of(range(10, 20), range(12, 14)));
+
+        assertThat(sut.overlaps(range(1, 31))).containsExactly(range(10, 20));
+    }
+
+    @Test
+    void ensureOverlapCase() {
+        final DateRangeIndex sut = DateRangeIndex.of(List.of(range(10, 12), range(20, 22)));
+
+        assertThat(sut.overlapCase(range(1, 9))).isEqualTo(NO_OVERLAPPING);
+        assertThat(sut.overlapCase(range(13, 19))).isEqualTo(NO_OVERLAPPING);
+        assertThat(sut.overlapCase(range(23, 31))).isEqualTo(NO_OVERLAPPING);
+
+        assertThat(sut.overlapCase(range(10, 10))).isEqualTo(FULLY_OVERLAPPING);
+        assertThat(sut.overlapCase(range(11, 12))).isEqualTo(FULLY_OVERLAPPING);
+        assertThat(sut.overlapCase(range(20, 22))).isEqualTo(FULLY_OVERLAPPING);
+
+        assertThat(sut.overlapCase(range(9, 10))).isEqualTo(PARTLY_OVERLAPPING);
+        assertThat(sut.overlapCase(range(12, 13))).isEqualTo(PARTLY_OVERLAPPING);
+        assertThat(sut.overlapCase(range(10, 22))).isEqualTo(PARTLY_OVERLAPPING);
+        assertThat(sut.overlapCase(range(13, 20))).isEqualTo(PARTLY_OVERLAPPING);
+    }
+
+    @Test
+    void ensureOverlapsAreClippedToDateRange() {
+        final DateRangeIndex sut = DateRangeIndex.of(List.of(range(10, 12), range(20, 22), range(25, 28)));
+
+        assertThat(sut.overlaps(range(11, 21))).containsExactly(range(11, 12), range(20, 21));
+        assertThat(sut.overlaps(range(13, 19))).isEmpty();
+    }
+
+    private static DateRange range(int startDay, int endDay) {
+        return new DateRange(LocalDate.of(2023, JANUARY, startDay), LocalDate.of(2023, JANUARY, endDay));
+    }
+}
@@ -0,0 +1,190 @@
+package org.synyx.urlaubsverwaltung.overlap;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.synyx.urlaubsverwaltung.TestContainersBase;
+import org.synyx.urlaubsverwaltung.application.application.Application;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationInteractionService;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
+import org.synyx.urlaubsverwaltung.application.vacationtype.VacationType;
+import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeService;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteInteractionService;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteService;
+import org.synyx.urlaubsverwaltung.sicknote.sicknotetype.SickNoteType;
+import org.synyx.urlaubsverwaltung.sicknote.sicknotetype.SickNoteTypeService;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
+import static org.synyx.urlaubsverwaltung.person.Role.USER;
+
+@SpringBootTest
+class OverlapServiceIT extends TestContainersBase {
+
+    private static final int CONCURRENT_SUBMISSIONS = 8;
+
+    @Autowired
+    private ApplicationInteractionService applicationInteractionService;
+    @Autowired
+    private ApplicationService applicationService;
+    @Autowired
+    private SickNoteInteractionService sickNoteInteractionService;
+    @Autowired
+    private SickNoteService sickNoteService;
+    @Autowired
+    private PersonService personService;
+    @Autowired
+    private VacationTypeService vacationTypeService;
+    @Autowired
+    private SickNoteTypeService sickNoteTypeService;
+
+    private final List<Person> persons = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        persons.forEach(person -> personService.delete(person, person));
+        persons.clear();
+    }
+
+    @Test
+    void ensureOnlyOneOfConcurrentOverlappingApplicationsForLeaveIsSaved() throws Exception {
+
+        final Person person = createPerson("concurrent-applications");
+        final VacationType<?> vacationType = vacationTypeService.getActiveVacationTypes().get(0);
+        final LocalDate startDate = LocalDate.now().plusMonths(1);
+        final LocalDate endDate = startDate.plusDays(2);
+
+        final List<Callable<Object>> submissions = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_SUBMISSIONS; i++) {
+            submissions.add(() -> applicationInteractionService.apply(application(person, vacationType, startDate, endDate), person, Optional.empty()));
+        }
+
+        final List<Object> results = submitAtOnce(submissions);
+
+        assertThat(results).filteredOn(Application.class::isInstance).hasSize(1);
+        assertThat(results).filteredOn(OverlapException.class::isInstance).hasSize(CONCURRENT_SUBMISSIONS - 1);
+        assertThat(applicationService.getApplicationsForACertainPeriodAndPerson(startDate, endDate, person)).hasSize(1);
+    }
+
+    @Test
+    void ensureOnlyOneOfConcurrentOverlappingApplicationsForLeaveAndSickNotesIsSaved() throws Exception {
+
+        final Person person = createPerson("concurrent-absences");
+        final VacationType<?> vacationType = vacationTypeService.getActiveVacationTypes().get(0);
+        final SickNoteType sickNoteType = sickNoteTypeService.getSickNoteTypes().get(0);
+        final LocalDate startDate = LocalDate.now().plusMonths(1);
+        final LocalDate endDate = startDate.plusDays(2);
+
+        final List<Callable<Object>> submissions = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_SUBMISSIONS; i++) {
+            if (i % 2 == 0) {
+                submissions.add(() -> applicationInteractionService.apply(application(person, vacationType, startDate, endDate), person, Optional.empty()));
+            } else {
+                submissions.add(() -> sickNoteInteractionService.create(sickNote(person, sickNoteType, startDate, endDate), person));
+            }
+        }
+
+        final List<Object> results = submitAtOnce(submissions);
+
+        assertThat(results).filteredOn(result -> result instanceof Application || result instanceof SickNote).hasSize(1);
+        assertThat(results).filteredOn(OverlapException.class::isInstance).hasSize(CONCURRENT_SUBMISSIONS - 1);
+
+        final int savedApplications = applicationService.getApplicationsForACertainPeriodAndPerson(startDate, endDate, person).size();
+        final int savedSickNotes = sickNoteService.getByPersonAndPeriod(person, startDate, endDate).size();
+        assertThat(savedApplications + savedSickNotes).isOne();
+    }
+
+    @Test
+    void ensureConcurrentApplicationsForLeaveOfDifferentPersonsAreAllSaved() throws Exception {
+
+        final VacationType<?> vacationType = vacationTypeService.getActiveVacationTypes().get(0);
+        final LocalDate startDate = LocalDate.now().plusMonths(1);
+        final LocalDate endDate = startDate.plusDays(2);
+
+        final List<Callable<Object>> submissions = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_SUBMISSIONS; i++) {
+            final Person person = createPerson("concurrent-persons-" + i);
+            submissions.add(() -> applicationInteractionService.apply(application(person, vacationType, startDate, endDate), person, Optional.empty()));
+        }
+
+        final List<Object> results = submitAtOnce(submissions);
+
+        assertThat(results).allMatch(Application.class::isInstance);
+    }
+
+    private Person createPerson(String username) {
+        final Person person = personService.create(username, "Marlene", "Muster", username + "@example.org", List.of(), List.of(USER));
+        persons.add(person);
+        return person;
+    }
+
+    /**
+     * Runs the given submissions in parallel, releasing all of them at the same time.
+     *
+     * @return the result of every submission or the exception it has thrown
+     */
+    private static List<Object> submitAtOnce(List<Callable<Object>> submissions) throws InterruptedException {
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(submissions.size());
+        final CountDownLatch start = new CountDownLatch(1);
+        try {
+            final List<Future<Object>> futures = new ArrayList<>();
+            for (Callable<Object> submission : submissions) {
+                futures.add(executorService.submit(() -> {
+                    start.await();
+                    return submission.call();
+                }));
+            }
+
+            start.countDown();
+
+            final List<Object> results = new ArrayList<>();
+            for (Future<Object> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    results.add(e.getCause());
+                }
+            }
+            return results;
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static Application application(Person person, VacationType<?> vacationType, LocalDate startDate, LocalDate endDate) {
+        final Application application = new Application();
+        application.setPerson(person);
+        application.setVacationType(vacationType);
+        application.setStartDate(startDate);
+        application.setEndDate(endDate);
+        application.setDayLength(FULL);
+        return application;
+    }
+
+    private static SickNote sickNote(Person person, SickNoteType sickNoteType, LocalDate startDate, LocalDate endDate) {
+        return SickNote.builder()
+            .person(person)
+            .applier(person)
+            .sickNoteType(sickNoteType)
+            .startDate(startDate)
+            .endDate(endDate)
+            .dayLength(FULL)
+            .build();
+    }
+}
@@ -3,6 +3,7 @@ package org.synyx.urlaubsverwaltung.overlap;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.synyx.urlaubsverwaltung.application.application.Application;
@@ -10,6 +11,7 @@ import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationStatus;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteService;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteStatus;
@@ -23,8 +25,11 @@ import static java.time.Month.MARCH;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.TestDataCreator.anyApplication;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED;
@@ -46,10 +51,12 @@ class OverlapServiceTest {
     private ApplicationService applicationService;
     @Mock
     private SickNoteService sickNoteService;
+    @Mock
+    private PersonService personService;
 
     @BeforeEach
     void setup() {
-        sut = new OverlapService(applicationService, sickNoteService);
+        sut = new OverlapService(applicationService, sickNoteService, personService);
     }
 
     @Test
@@ -508,4 +515,150 @@ class OverlapServiceTest {
         final OverlapCase overlapCase = sut.checkOverlap(sickNote);
         assertThat(overlapCase).isEqualTo(FULLY_OVERLAPPING);
     }
+
+    @Test
+    void ensureFullyOverlappingIfTheApplicationForLeaveToCheckIsCoveredByASickNoteBeforeAnApplicationForLeave() {
+
+        // application for leave: 20.01. - 22.01.
+        final Application allowedApplication = new Application();
+        allowedApplication.setDayLength(FULL);
+        allowedApplication.setStartDate(LocalDate.of(2012, JANUARY, 20));
+        allowedApplication.setEndDate(LocalDate.of(2012, JANUARY, 22));
+        allowedApplication.setStatus(ALLOWED);
+
+        when(applicationService.getApplicationsForACertainPeriodAndPerson(any(LocalDate.class), any(LocalDate.class), any(Person.class)))
+            .thenReturn(singletonList(allowedApplication));
+
+        // sick note: 16.01. - 19.01.
+        final SickNote sickNote = SickNote.builder()
+            .dayLength(FULL)
+            .startDate(LocalDate.of(2012, JANUARY, 16))
+            .endDate(LocalDate.of(2012, JANUARY, 19))
+            .status(ACTIVE)
+            .build();
+
+        when(sickNoteService.getByPersonAndPeriod(any(Person.class), any(LocalDate.class), any(LocalDate.class)))
+            .thenReturn(singletonList(sickNote));
+
+        // application for leave to check: 16.01. - 22.01.
+        final Application applicationToCheck = anyApplication();
+        applicationToCheck.setDayLength(FULL);
+        applicationToCheck.setStartDate(LocalDate.of(2012, JANUARY, 16));
+        applicationToCheck.setEndDate(LocalDate.of(2012, JANUARY, 22));
+
+        final OverlapCase overlapCase = sut.checkOverlap(applicationToCheck);
+        assertThat(overlapCase).isEqualTo(FULLY_OVERLAPPING);
+    }
+
+    @Test
+    void ensureLockAndEnsureNoOverlapLocksPersonBeforeCheckingApplicationForLeave() {
+
+        final LocalDate startDate = LocalDate.of(2012, JANUARY, 16);
+        final LocalDate endDate = LocalDate.of(2012, JANUARY, 18);
+        final Person person = new Person();
+
+        final Application applicationToCheck = new Application();
+        applicationToCheck.setPerson(person);
+        applicationToCheck.setDayLength(FULL);
+        applicationToCheck.setStartDate(startDate);
+        applicationToCheck.setEndDate(endDate);
+
+        when(applicationService.getApplicationsForACertainPeriodAndPerson(startDate, endDate, person)).thenReturn(List.of());
+        when(sickNoteService.getByPersonAndPeriod(person, startDate, endDate)).thenReturn(List.of());
+
+        sut.lockAndEnsureNoOverlap(applicationToCheck);
+
+        final InOrder inOrder = inOrder(personService, applicationService);
+        inOrder.verify(personService).lock(person);
+        inOrder.verify(applicationService).getApplicationsForACertainPeriodAndPerson(startDate, endDate, person);
+    }
+
+    @Test
+    void ensureLockAndEnsureNoOverlapThrowsForOverlappingApplicationForLeave() {
+
+        final LocalDate startDate = LocalDate.of(2012, JANUARY, 16);
+        final LocalDate endDate = LocalDate.of(2012, JANUARY, 18);
+        final Person person = new Person();
+        person.setId(1L);
+
+        final Application waitingApplication = new Application();
+        waitingApplication.setId(1L);
+        waitingApplication.setDayLength(FULL);
+        waitingApplication.setStartDate(LocalDate.of(2012, JANUARY, 17));
+        waitingApplication.setEndDate(LocalDate.of(2012, JANUARY, 20));
+        waitingApplication.setStatus(WAITING);
+
+        final Application applicationToCheck = new Application();
+        applicationToCheck.setPerson(person);
+        applicationToCheck.setDayLength(FULL);
+        applicationToCheck.setStartDate(startDate);
+        applicationToCheck.setEndDate(endDate);
+
+        when(applicationService.getApplicationsForACertainPeriodAndPerson(startDate, endDate, person)).thenReturn(List.of(waitingApplication));
+        when(sickNoteService.getByPersonAndPeriod(person, startDate, endDate)).thenReturn(List.of());
+
+        assertThatThrownBy(() -> sut.lockAndEnsureNoOverlap(applicationToCheck))
+            .isInstanceOf(OverlapException.class)
+            .extracting("overlapCase").isEqualTo(PARTLY_OVERLAPPING);
+
+        verify(personService).lock(person);
+    }
+
+    @Test
+    void ensureLockAndEnsureNoOverlapLocksPersonBeforeCheckingSickNote() {
+
+        final LocalDate startDate = LocalDate.of(2012, JANUARY, 16);
+        final LocalDate endDate = LocalDate.of(2012, JANUARY, 18);
+        final Person person = new Person();
+
+        final SickNote sickNoteToCheck = SickNote.builder()
+            .person(person)
+            .dayLength(FULL)
+            .startDate(startDate)
+            .endDate(endDate)
+            .build();
+
+        when(applicationService.getApplicationsForACertainPeriodAndPerson(startDate, endDate, person)).thenReturn(List.of());
+        when(sickNoteService.getByPersonAndPeriod(person, startDate, endDate)).thenReturn(List.of());
+
+        sut.lockAndEnsureNoOverlap(sickNoteToCheck);
+
+        final InOrder inOrder = inOrder(personService, applicationService);
+        inOrder.verify(personService).lock(person);
+        inOrder.verify(applicationService).getApplicationsForACertainPeriodAndPerson(startDate, endDate, person);
+    }
+
+    @Test
+    void ensureLockAndEnsureNoOverlapThrowsForOverlappingSickNote() {
+
+        final LocalDate startDate = LocalDate.of(2012, JANUARY, 16);
+        final LocalDate endDate = LocalDate.of(2012, JANUARY, 18);
+        final Person person = new Person();
+        person.setId(1L);
+
+        final SickNote activeSickNote = SickNote.builder()
+            .id(1L)
+            .person(person)
+            .dayLength(FULL)
+            .startDate(LocalDate.of(2012, JANUARY, 10))
+            .endDate(LocalDate.of(2012, JANUARY, 20))
+            .status(ACTIVE)
+            .build();
+
+        final SickNote sickNoteToCheck = SickNote.builder()
+            .person(person)
+            .dayLength(FULL)
+            .startDate(startDate)
+            .endDate(endDate)
+            .build();
+
+        when(applicationService.getApplicationsForACertainPeriodAndPerson(startDate, endDate, person)).thenReturn(List.of());
+        when(sickNoteService.getByPersonAndPeriod(person, startDate, endDate)).thenReturn(List.of(activeSickNote));
+
+        assertThatThrownBy(() -> sut.lockAndEnsureNoOverlap(sickNoteToCheck))
+            .isInstanceOf(OverlapException.class)
+            .extracting("overlapCase").isEqualTo(FULLY_OVERLAPPING);
+
+        verify(personService).lock(person);
+    }
 }
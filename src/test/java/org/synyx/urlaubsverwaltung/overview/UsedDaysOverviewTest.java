@@ -8,19 +8,24 @@ import org.springframework.context.support.StaticMessageSource;
 import org.synyx.urlaubsverwaltung.application.application.Application;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountPeriod;
 import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import static java.math.BigDecimal.ONE;
 import static java.math.BigDecimal.ZERO;
 import static java.util.Collections.singletonList;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.TestDataCreator.anyApplication;
 import static org.synyx.urlaubsverwaltung.TestDataCreator.createApplication;
@@ -122,9 +127,7 @@ class UsedDaysOverviewTest {
             overtimeLeaveRequestCancellation);
 
         // just return 1 day for each application for leave
-        when(workDaysCountService.getWorkDaysCount(any(DayLength.class), any(LocalDate.class),
-            any(LocalDate.class), any(Person.class)))
-            .thenReturn(ONE);
+        when(workDaysCountService.getWorkDaysCount(anyCollection())).thenAnswer(invocation -> oneWorkDayForEach(invocation.getArgument(0)));
 
         final UsedDaysOverview usedDaysOverview = new UsedDaysOverview(applications, 2014, workDaysCountService);
 
@@ -161,8 +164,8 @@ class UsedDaysOverviewTest {
         // 3 days in 2013, 2 days in 2014
         Application holiday = createApplication(person, createVacationType(1L, HOLIDAY, new StaticMessageSource()), startDate, endDate, DayLength.FULL);
 
-        when(workDaysCountService.getWorkDaysCount(DayLength.FULL, LocalDate.of(2014, 1, 1), endDate, person))
-            .thenReturn(BigDecimal.valueOf(2));
+        final WorkDaysCountPeriod periodIn2014 = new WorkDaysCountPeriod(person, LocalDate.of(2014, 1, 1), endDate, DayLength.FULL);
+        when(workDaysCountService.getWorkDaysCount(List.of(periodIn2014))).thenReturn(Map.of(periodIn2014, BigDecimal.valueOf(2)));
 
         final UsedDaysOverview usedDaysOverview = new UsedDaysOverview(singletonList(holiday), 2014, workDaysCountService);
 
@@ -201,8 +204,7 @@ class UsedDaysOverviewTest {
         List<Application> applications = Arrays.asList(holiday, holidayTemporaryAllowed, holidayAllowed);
 
         // just return 1 day for each application for leave
-        when(workDaysCountService.getWorkDaysCount(any(DayLength.class), any(LocalDate.class),
-            any(LocalDate.class), any(Person.class))).thenReturn(ONE);
+        when(workDaysCountService.getWorkDaysCount(anyCollection())).thenAnswer(invocation -> oneWorkDayForEach(invocation.getArgument(0)));
 
         final UsedDaysOverview usedDaysOverview = new UsedDaysOverview(applications, 2014, workDaysCountService);
         assertThat(usedDaysOverview.getHolidayDays().getDays())
@@ -210,4 +212,8 @@ class UsedDaysOverviewTest {
             .containsEntry("TEMPORARY_ALLOWED", ONE)
             .containsEntry("ALLOWED", ONE);
     }
+
+    private static Map<WorkDaysCountPeriod, BigDecimal> oneWorkDayForEach(Collection<WorkDaysCountPeriod> periods) {
+        return periods.stream().distinct().collect(toMap(identity(), period -> ONE));
+    }
 }
@@ -164,7 +164,17 @@ class PersonRepositoryIT extends TestContainersBase {
 
         assertThat(actual.getContent()).containsExactly(mustafa);
     }
-}
 
+    @Test
+    void ensureFindByPermissionsNotContainingAndByNiceNameContainingIgnoreCaseMatchesFirstAndLastName() {
+
+        personService.create("username_1", "Peter", "Basta", "basta@example.org", List.of(), List.of(USER));
+        personService.create("username_2", "Marlene", "Muster", "marlene@example.org", List.of(), List.of(USER));
+        final Person peter = personService.create("username_3", "Peter", "Muster", "peter@example.org", List.of(), List.of(USER));
 
+        final PageRequest pageRequest = PageRequest.of(0, 10);
+        final Page<Person> actual = sut.findByPermissionsNotContainingAndByNiceNameContainingIgnoreCase(INACTIVE, "PETER mu", pageRequest);
 
+        assertThat(actual.getContent()).containsExactly(peter);
+    }
+}
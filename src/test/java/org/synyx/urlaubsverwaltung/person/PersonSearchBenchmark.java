@@ -0,0 +1,105 @@
+package org.synyx.urlaubsverwaltung.person;
+
+import liquibase.integration.spring.SpringLiquibase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.synyx.urlaubsverwaltung.TestPostgreSQLContainer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the person search by name on the trigram indexed {@code nice_name_search} column, as used by
+ * {@link PersonRepository#findByPermissionsNotContainingAndByNiceNameContainingIgnoreCase}, with the former search
+ * on {@code lower(first_name)} and {@code lower(last_name)}, that scanned the whole person table, for 50.000 persons.
+ * Both searches query the first page and the total count like the paged repository method does.
+ * <p>
+ * Needs docker for the PostgreSQL test container, whose schema is created by the liquibase changelogs.
+ * Run {@link #main(String[])} after {@code ./mvnw test-compile}, which generates the JMH benchmark classes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersonSearchBenchmark {
+
+    private static final int PERSONS = 50_000;
+
+    private static final String PERMISSION_FILTER = "'INACTIVE' not in (select pp.permissions from person_permissions pp where pp.person_id = p.id)";
+
+    private static final String TRIGRAM_SEARCH = PERMISSION_FILTER + " and p.nice_name_search like lower('%' || ? || '%')";
+    private static final String SEQUENTIAL_SEARCH = PERMISSION_FILTER
+        + " and (lower(p.first_name) like lower('%' || ? || '%') or lower(p.last_name) like lower('%' || ? || '%'))";
+
+    @Param({"mus", "max muster4711"})
+    private String query;
+
+    private TestPostgreSQLContainer postgre;
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup
+    public void setup() throws Exception {
+        postgre = new TestPostgreSQLContainer();
+        postgre.start();
+
+        final DriverManagerDataSource dataSource = new DriverManagerDataSource(postgre.getJdbcUrl(), postgre.getUsername(), postgre.getPassword());
+
+        final SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog("classpath:/dbchangelogs/changelogmaster.xml");
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.afterPropertiesSet();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("""
+            insert into person (id, username, first_name, last_name, email)
+            select i, 'user' || i, (array['Max', 'Marlene', 'Peter', 'Bettina', 'Xenia'])[1 + i % 5], 'Muster' || i, 'user' || i || '@example.org'
+            from generate_series(1, ?) as i
+            """, PERSONS);
+        jdbcTemplate.update("insert into person_permissions (person_id, permissions) select id, 'USER' from person");
+        jdbcTemplate.update("insert into person_permissions (person_id, permissions) select id, 'INACTIVE' from person where id % 10 = 0");
+        jdbcTemplate.execute("analyze");
+    }
+
+    @TearDown
+    public void tearDown() {
+        postgre.stop();
+    }
+
+    @Benchmark
+    public void trigramIndexedSearch(Blackhole blackhole) {
+        search(blackhole, TRIGRAM_SEARCH, query);
+    }
+
+    @Benchmark
+    public void sequentialSearch(Blackhole blackhole) {
+        search(blackhole, SEQUENTIAL_SEARCH, query, query);
+    }
+
+    private void search(Blackhole blackhole, String condition, Object... args) {
+        blackhole.consume(jdbcTemplate.queryForList("select p.id from person p where " + condition + " order by p.first_name, p.id limit 20", Long.class, args));
+        blackhole.consume(jdbcTemplate.queryForObject("select count(p.id) from person p where " + condition, Long.class, args));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PersonSearchBenchmark.class.getSimpleName()).build()).run();
+    }
+}
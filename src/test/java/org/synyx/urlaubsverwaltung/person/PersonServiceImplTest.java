@@ -13,9 +13,12 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import org.synyx.urlaubsverwaltung.account.AccountInteractionService;
 import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
 import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeWriteService;
@@ -34,6 +37,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -73,6 +77,7 @@ class PersonServiceImplTest {
     @AfterEach
     void tearDown() {
         SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
     }
 
     @Test
@@ -183,6 +188,22 @@ class PersonServiceImplTest {
         verify(personRepository).findById(123L);
     }
 
+    @Test
+    void ensureGetPersonsByIdsCallsCorrectDaoMethod() {
+
+        sut.getPersonsByIds(List.of(1L, 2L));
+        verify(personRepository).findAllById(List.of(1L, 2L));
+    }
+
+    @Test
+    void ensureLockSelectsPersonForUpdate() {
+        final Person person = new Person();
+        person.setId(123L);
+
+        sut.lock(person);
+        verify(personRepository).findByIdForUpdate(123L);
+    }
+
     @Test
     void ensureGetPersonByLoginCallsCorrectDaoMethod() {
         final String username = "foo";
@@ -308,6 +329,53 @@ class PersonServiceImplTest {
         assertThat(signedInUser).isEqualTo(person);
     }
 
+    @Test
+    void ensureResolvesPersonForCurrentlySignedInUserOncePerRequest() {
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        when(personRepository.findByUsernameIgnoreCase("muster")).thenReturn(Optional.of(person));
+
+        final Authentication authentication = mock(Authentication.class);
+        when(authentication.getName()).thenReturn(person.getUsername());
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        SecurityContextHolder.setContext(securityContext);
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertThat(sut.getSignedInUser()).isEqualTo(person);
+        assertThat(sut.getSignedInUser()).isEqualTo(person);
+        verify(personRepository, times(1)).findByUsernameIgnoreCase("muster");
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertThat(sut.getSignedInUser()).isEqualTo(person);
+        verify(personRepository, times(2)).findByUsernameIgnoreCase("muster");
+    }
+
+    @Test
+    void ensureResolvesPersonForCurrentlySignedInUserAgainAfterUpdate() {
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        person.setId(1L);
+        person.setPermissions(List.of(USER));
+        final Person updatedPerson = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        updatedPerson.setId(1L);
+        updatedPerson.setPermissions(List.of(USER, OFFICE));
+        when(personRepository.findByUsernameIgnoreCase("muster")).thenReturn(Optional.of(person), Optional.of(updatedPerson));
+        when(personRepository.save(updatedPerson)).thenReturn(updatedPerson);
+
+        final Authentication authentication = mock(Authentication.class);
+        when(authentication.getName()).thenReturn(person.getUsername());
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        SecurityContextHolder.setContext(securityContext);
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertThat(sut.getSignedInUser().getPermissions()).containsExactly(USER);
+
+        sut.update(updatedPerson);
+
+        assertThat(sut.getSignedInUser().getPermissions()).containsExactly(USER, OFFICE);
+        verify(personRepository, times(2)).findByUsernameIgnoreCase("muster");
+    }
+
     @Test
     void ensureThrowsIllegalOnNullAuthentication() {
         assertThatIllegalStateException()
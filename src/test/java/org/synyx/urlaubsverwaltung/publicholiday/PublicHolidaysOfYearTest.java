@@ -0,0 +1,65 @@
+package org.synyx.urlaubsverwaltung.publicholiday;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.List;
+
+import static java.time.Month.APRIL;
+import static java.time.Month.DECEMBER;
+import static java.time.Month.JANUARY;
+import static java.time.Month.MAY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
+import static org.synyx.urlaubsverwaltung.period.DayLength.NOON;
+
+class PublicHolidaysOfYearTest {
+
+    private static final PublicHoliday NEW_YEAR = new PublicHoliday(LocalDate.of(2022, JANUARY, 1), FULL, "new year");
+    private static final PublicHoliday LABOUR_DAY = new PublicHoliday(LocalDate.of(2022, MAY, 1), FULL, "labour day");
+    private static final PublicHoliday CHRISTMAS_EVE = new PublicHoliday(LocalDate.of(2022, DECEMBER, 24), NOON, "christmas eve");
+    private static final PublicHoliday NEW_YEARS_EVE = new PublicHoliday(LocalDate.of(2022, DECEMBER, 31), NOON, "new years eve");
+
+    private final PublicHolidaysOfYear sut = PublicHolidaysOfYear.of(Year.of(2022), List.of(NEW_YEARS_EVE, LABOUR_DAY, CHRISTMAS_EVE, NEW_YEAR));
+
+    @Test
+    void ensureGetPublicHolidayAtDate() {
+        assertThat(sut.getPublicHoliday(LocalDate.of(2022, JANUARY, 1))).hasValue(NEW_YEAR);
+        assertThat(sut.getPublicHoliday(LocalDate.of(2022, MAY, 1))).hasValue(LABOUR_DAY);
+        assertThat(sut.getPublicHoliday(LocalDate.of(2022, DECEMBER, 31))).hasValue(NEW_YEARS_EVE);
+    }
+
+    @Test
+    void ensureGetPublicHolidayIsEmptyForWorkday() {
+        assertThat(sut.getPublicHoliday(LocalDate.of(2022, JANUARY, 2))).isEmpty();
+        assertThat(sut.getPublicHoliday(LocalDate.of(2022, DECEMBER, 30))).isEmpty();
+    }
+
+    @Test
+    void ensureGetPublicHolidayIsEmptyForOtherYear() {
+        assertThat(sut.getPublicHoliday(LocalDate.of(2023, JANUARY, 1))).isEmpty();
+    }
+
+    @Test
+    void ensureGetPublicHolidaysReturnsSortedPublicHolidaysInDateRange() {
+        assertThat(sut.getPublicHolidays(LocalDate.of(2022, MAY, 1), LocalDate.of(2022, DECEMBER, 24)))
+            .containsExactly(LABOUR_DAY, CHRISTMAS_EVE);
+    }
+
+    @Test
+    void ensureGetPublicHolidaysClampsDateRangeToYear() {
+        assertThat(sut.getPublicHolidays(LocalDate.of(2021, DECEMBER, 1), LocalDate.of(2023, JANUARY, 31)))
+            .containsExactly(NEW_YEAR, LABOUR_DAY, CHRISTMAS_EVE, NEW_YEARS_EVE);
+    }
+
+    @Test
+    void ensureGetPublicHolidaysIsEmptyForDateRangeOutsideOfYear() {
+        assertThat(sut.getPublicHolidays(LocalDate.of(2023, JANUARY, 1), LocalDate.of(2023, DECEMBER, 31))).isEmpty();
+    }
+
+    @Test
+    void ensureGetPublicHolidaysIsEmptyForDateRangeWithoutPublicHolidays() {
+        assertThat(sut.getPublicHolidays(LocalDate.of(2022, JANUARY, 2), LocalDate.of(2022, APRIL, 30))).isEmpty();
+    }
+}
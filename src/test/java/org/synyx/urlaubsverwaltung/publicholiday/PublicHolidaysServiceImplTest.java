@@ -363,6 +363,53 @@ class PublicHolidaysServiceImplTest {
         });
     }
 
+    @Test
+    void ensurePublicHolidaysAreResolvedWithTheGivenWorkingTimeSettings() {
+
+        final LocalDate christmasEveDate = LocalDate.of(2022, DECEMBER, 24);
+
+        final WorkingTimeSettings workingTimeSettingsMorning = new WorkingTimeSettings();
+        workingTimeSettingsMorning.setWorkingDurationForChristmasEve(DayLength.MORNING);
+        assertThat(sut.getPublicHoliday(christmasEveDate, GERMANY_BADEN_WUERTTEMBERG, workingTimeSettingsMorning))
+            .hasValueSatisfying(publicHoliday -> assertThat(publicHoliday.dayLength()).isEqualTo(DayLength.NOON));
+
+        final WorkingTimeSettings workingTimeSettingsFull = new WorkingTimeSettings();
+        workingTimeSettingsFull.setWorkingDurationForChristmasEve(DayLength.FULL);
+        assertThat(sut.getPublicHoliday(christmasEveDate, GERMANY_BADEN_WUERTTEMBERG, workingTimeSettingsFull))
+            .hasValueSatisfying(publicHoliday -> assertThat(publicHoliday.dayLength()).isEqualTo(DayLength.ZERO));
+    }
+
+    @Test
+    void ensurePublicHolidaysAreReloadedAfterSettingsUpdate() {
+
+        final Settings settings = new Settings();
+        settings.getWorkingTimeSettings().setWorkingDurationForNewYearsEve(DayLength.FULL);
+        when(settingsService.getSettings()).thenReturn(settings);
+
+        final LocalDate newYearsEveDate = LocalDate.of(2022, DECEMBER, 31);
+        assertThat(sut.getPublicHoliday(newYearsEveDate, GERMANY_BADEN_WUERTTEMBERG))
+            .hasValueSatisfying(publicHoliday -> assertThat(publicHoliday.dayLength()).isEqualTo(DayLength.ZERO));
+
+        settings.getWorkingTimeSettings().setWorkingDurationForNewYearsEve(DayLength.ZERO);
+
+        assertThat(sut.getPublicHoliday(newYearsEveDate, GERMANY_BADEN_WUERTTEMBERG))
+            .hasValueSatisfying(publicHoliday -> assertThat(publicHoliday.dayLength()).isEqualTo(DayLength.FULL));
+    }
+
+    @Test
+    void ensureGetPublicHolidaysSpanningMultipleYears() {
+
+        final WorkingTimeSettings workingTimeSettings = new WorkingTimeSettings();
+
+        final List<PublicHoliday> publicHolidays = sut.getPublicHolidays(LocalDate.of(2022, DECEMBER, 24), LocalDate.of(2023, Month.JANUARY, 1), GERMANY_BADEN_WUERTTEMBERG, workingTimeSettings);
+        assertThat(publicHolidays).extracting(PublicHoliday::date).containsExactly(
+            LocalDate.of(2022, DECEMBER, 24),
+            LocalDate.of(2022, DECEMBER, 25),
+            LocalDate.of(2022, DECEMBER, 26),
+            LocalDate.of(2022, DECEMBER, 31),
+            LocalDate.of(2023, Month.JANUARY, 1)
+        );
+    }
 
     private HolidayManager getHolidayManager() {
         final ClassLoader cl = Thread.currentThread().getContextClassLoader();
@@ -0,0 +1,226 @@
+package org.synyx.urlaubsverwaltung.report;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.access.AccessDeniedException;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.web.FilterPeriod;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Locale.GERMAN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.report.ReportJobStatus.DONE;
+import static org.synyx.urlaubsverwaltung.report.ReportJobStatus.FAILED;
+import static org.synyx.urlaubsverwaltung.report.ReportType.APPLICATION_FOR_LEAVE_STATISTICS;
+import static org.synyx.urlaubsverwaltung.report.ReportType.SICK_DAYS_STATISTICS;
+
+@ExtendWith(MockitoExtension.class)
+class ReportJobServiceTest {
+
+    private static final FilterPeriod PERIOD = new FilterPeriod(LocalDate.of(2022, 1, 1), LocalDate.of(2022, 12, 31));
+    private static final Sort SORT = Sort.by("person.firstName");
+
+    private ReportJobService sut;
+
+    @Mock
+    private ReportGenerator reportGenerator;
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2022-06-01T10:00:00Z"));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(reportGenerator.type()).thenReturn(APPLICATION_FOR_LEAVE_STATISTICS);
+        lenient().when(reportGenerator.fileName(PERIOD, GERMAN)).thenReturn("statistics.csv");
+
+        final ReportProperties reportProperties = new ReportProperties();
+        reportProperties.setWorkers(1);
+        reportProperties.setQueueCapacity(1);
+        reportProperties.setRetention(Duration.ofHours(1));
+
+        sut = new ReportJobService(List.of(reportGenerator), reportProperties, meterRegistry, new MutableClock(now));
+    }
+
+    @AfterEach
+    void tearDown() {
+        sut.shutdown();
+    }
+
+    @Test
+    void ensureGeneratesReportIntoFile() throws IOException {
+
+        final Person person = person(1L);
+        when(reportGenerator.isAllowedToGenerate(person)).thenReturn(true);
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(4).write("report".getBytes(UTF_8));
+            return null;
+        }).when(reportGenerator).generate(eq(person), eq(PERIOD), eq(SORT), eq(GERMAN), any(OutputStream.class));
+
+        final ReportJob job = sut.enqueue(person, APPLICATION_FOR_LEAVE_STATISTICS, PERIOD, SORT, GERMAN);
+        assertThat(job.getType()).isEqualTo(APPLICATION_FOR_LEAVE_STATISTICS);
+        assertThat(job.getFileName()).isEqualTo("statistics.csv");
+        assertThat(job.getPersonId()).isEqualTo(1L);
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> job.getStatus() == DONE);
+
+        assertThat(Files.readString(job.getFile(), UTF_8)).isEqualTo("report");
+        assertThat(job.getFinishedAt()).isEqualTo(now.get());
+        assertThat(meterRegistry.get("report.jobs.duration").tag("type", "APPLICATION_FOR_LEAVE_STATISTICS").tag("status", "DONE").timer().count()).isOne();
+    }
+
+    @Test
+    void ensureReportFailsAndFileIsDeletedIfGenerationFails() {
+
+        final Person person = person(1L);
+        when(reportGenerator.isAllowedToGenerate(person)).thenReturn(true);
+        doThrow(new IllegalStateException("boom")).when(reportGenerator).generate(eq(person), eq(PERIOD), eq(SORT), eq(GERMAN), any(OutputStream.class));
+
+        final ReportJob job = sut.enqueue(person, APPLICATION_FOR_LEAVE_STATISTICS, PERIOD, SORT, GERMAN);
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> job.getStatus() == FAILED);
+
+        assertThat(job.getFile()).isNull();
+        assertThat(meterRegistry.get("report.jobs.duration").tag("status", "FAILED").timer().count()).isOne();
+    }
+
+    @Test
+    void ensureThrowsIfPersonIsNotAllowedToGenerateReport() {
+
+        final Person person = person(1L);
+        when(reportGenerator.isAllowedToGenerate(person)).thenReturn(false);
+
+        assertThatThrownBy(() -> sut.enqueue(person, APPLICATION_FOR_LEAVE_STATISTICS, PERIOD, SORT, GERMAN))
+            .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void ensureThrowsIfThereIsNoGeneratorForReportType() {
+
+        final Person person = person(1L);
+
+        assertThatThrownBy(() -> sut.enqueue(person, SICK_DAYS_STATISTICS, PERIOD, SORT, GERMAN))
+            .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void ensureRejectsReportIfQueueIsFull() {
+
+        final Person person = person(1L);
+        when(reportGenerator.isAllowedToGenerate(person)).thenReturn(true);
+
+        final CountDownLatch generationStarted = new CountDownLatch(1);
+        final CountDownLatch releaseGeneration = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            generationStarted.countDown();
+            releaseGeneration.await();
+            return null;
+        }).when(reportGenerator).generate(eq(person), eq(PERIOD), eq(SORT), eq(GERMAN), any(OutputStream.class));
+
+        try {
+            final ReportJob running = sut.enqueue(person, APPLICATION_FOR_LEAVE_STATISTICS, PERIOD, SORT, GERMAN);
+            await().atMost(Duration.ofSeconds(5)).until(() -> generationStarted.getCount() == 0);
+
+            final ReportJob queued = sut.enqueue(person, APPLICATION_FOR_LEAVE_STATISTICS, PERIOD, SORT, GERMAN);
+            assertThat(meterRegistry.get("report.jobs.queued").gauge().value()).isOne();
+            assertThat(meterRegistry.get("report.jobs.running").gauge().value()).isOne();
+
+            assertThatThrownBy(() -> sut.enqueue(person, APPLICATION_FOR_LEAVE_STATISTICS, PERIOD, SORT, GERMAN))
+                .isInstanceOf(ReportQueueFullException.class);
+
+            releaseGeneration.countDown();
+            await().atMost(Duration.ofSeconds(5)).until(() -> running.getStatus() == DONE && queued.getStatus() == DONE);
+        } finally {
+            releaseGeneration.countDown();
+        }
+    }
+
+    @Test
+    void ensureReturnsJobOnlyForPersonThatRequestedIt() {
+
+        final Person person = person(1L);
+        when(reportGenerator.isAllowedToGenerate(person)).thenReturn(true);
+
+        final ReportJob job = sut.enqueue(person, APPLICATION_FOR_LEAVE_STATISTICS, PERIOD, SORT, GERMAN);
+
+        assertThat(sut.getJob(job.getId(), person)).hasValue(job);
+        assertThat(sut.getJob(job.getId(), person(2L))).isEmpty();
+    }
+
+    @Test
+    void ensureDeletesFinishedJobsAfterRetention() {
+
+        final Person person = person(1L);
+        when(reportGenerator.isAllowedToGenerate(person)).thenReturn(true);
+
+        final ReportJob job = sut.enqueue(person, APPLICATION_FOR_LEAVE_STATISTICS, PERIOD, SORT, GERMAN);
+        await().atMost(Duration.ofSeconds(5)).until(() -> job.getStatus() == DONE);
+        final Path file = job.getFile();
+
+        now.set(now.get().plus(Duration.ofMinutes(59)));
+        sut.deleteExpiredJobs();
+        assertThat(sut.getJob(job.getId(), person)).hasValue(job);
+        assertThat(file).exists();
+
+        now.set(now.get().plus(Duration.ofMinutes(2)));
+        sut.deleteExpiredJobs();
+        assertThat(sut.getJob(job.getId(), person)).isEmpty();
+        assertThat(file).doesNotExist();
+    }
+
+    private static Person person(long id) {
+        final Person person = new Person();
+        person.setId(id);
+        return person;
+    }
+
+    private static class MutableClock extends Clock {
+
+        private final AtomicReference<Instant> now;
+
+        MutableClock(AtomicReference<Instant> now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now.get();
+        }
+    }
+}
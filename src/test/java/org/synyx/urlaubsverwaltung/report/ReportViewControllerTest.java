@@ -0,0 +1,192 @@
+package org.synyx.urlaubsverwaltung.report;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.SortHandlerMethodArgumentResolver;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.web.DateFormatAware;
+import org.synyx.urlaubsverwaltung.web.FilterPeriod;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Locale.JAPANESE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
+import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
+import static org.synyx.urlaubsverwaltung.report.ReportJobStatus.DONE;
+import static org.synyx.urlaubsverwaltung.report.ReportJobStatus.RUNNING;
+import static org.synyx.urlaubsverwaltung.report.ReportType.SICK_DAYS_STATISTICS;
+
+@ExtendWith(MockitoExtension.class)
+class ReportViewControllerTest {
+
+    private static final UUID REPORT_ID = UUID.fromString("a9f3a0f4-7c5e-4d2b-9f0e-3c2f7c8a1b11");
+    private static final FilterPeriod PERIOD = new FilterPeriod(LocalDate.of(2022, 1, 1), LocalDate.of(2022, 12, 31));
+
+    private ReportViewController sut;
+
+    @Mock
+    private ReportJobService reportJobService;
+    @Mock
+    private PersonService personService;
+    @Mock
+    private DateFormatAware dateFormatAware;
+
+    @TempDir
+    private Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ReportViewController(reportJobService, personService, dateFormatAware, Clock.systemUTC());
+    }
+
+    @Test
+    void ensureEnqueueReportRedirectsToReport() throws Exception {
+
+        final Locale locale = JAPANESE;
+        when(dateFormatAware.parse("01.01.2022", locale)).thenReturn(Optional.of(PERIOD.getStartDate()));
+        when(dateFormatAware.parse("31.12.2022", locale)).thenReturn(Optional.of(PERIOD.getEndDate()));
+
+        final Person signedInUser = new Person();
+        when(personService.getSignedInUser()).thenReturn(signedInUser);
+
+        final ReportJob job = new ReportJob(REPORT_ID, SICK_DAYS_STATISTICS, 1L, PERIOD, "sickdays.csv", Instant.now());
+        when(reportJobService.enqueue(signedInUser, SICK_DAYS_STATISTICS, PERIOD, Sort.by(Sort.Direction.DESC, "person.lastName"), locale)).thenReturn(job);
+
+        perform(post("/web/reports")
+            .locale(locale)
+            .param("type", "SICK_DAYS_STATISTICS")
+            .param("from", "01.01.2022")
+            .param("to", "31.12.2022")
+            .param("sort", "person.lastName,desc"))
+            .andExpect(status().isFound())
+            .andExpect(view().name("redirect:/web/reports/" + REPORT_ID));
+    }
+
+    @Test
+    void ensureEnqueueReportShowsHintIfQueueIsFull() throws Exception {
+
+        final Locale locale = JAPANESE;
+        when(dateFormatAware.parse("", locale)).thenReturn(Optional.empty());
+
+        final Person signedInUser = new Person();
+        when(personService.getSignedInUser()).thenReturn(signedInUser);
+        when(reportJobService.enqueue(any(), any(), any(), any(), any())).thenThrow(new ReportQueueFullException("queue full", null));
+
+        perform(post("/web/reports")
+            .locale(locale)
+            .param("type", "SICK_DAYS_STATISTICS"))
+            .andExpect(status().isOk())
+            .andExpect(model().attribute("queueFull", true))
+            .andExpect(view().name("report/report"));
+    }
+
+    @Test
+    void ensureEnqueueReportReturnsBadRequestIfPeriodNotTheSameYear() throws Exception {
+
+        final Locale locale = JAPANESE;
+        when(dateFormatAware.parse("01.01.2019", locale)).thenReturn(Optional.of(LocalDate.of(2019, 1, 1)));
+        when(dateFormatAware.parse("01.08.2018", locale)).thenReturn(Optional.of(LocalDate.of(2018, 8, 1)));
+
+        perform(post("/web/reports")
+            .locale(locale)
+            .param("type", "SICK_DAYS_STATISTICS")
+            .param("from", "01.01.2019")
+            .param("to", "01.08.2018"))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(reportJobService);
+    }
+
+    @Test
+    void ensureShowReport() throws Exception {
+
+        final Person signedInUser = new Person();
+        when(personService.getSignedInUser()).thenReturn(signedInUser);
+
+        final ReportJob job = new ReportJob(REPORT_ID, SICK_DAYS_STATISTICS, 1L, PERIOD, "sickdays.csv", Instant.now());
+        job.setStatus(RUNNING);
+        when(reportJobService.getJob(REPORT_ID, signedInUser)).thenReturn(Optional.of(job));
+
+        perform(get("/web/reports/" + REPORT_ID))
+            .andExpect(status().isOk())
+            .andExpect(model().attribute("job", job))
+            .andExpect(model().attribute("queueFull", false))
+            .andExpect(view().name("report/report"));
+    }
+
+    @Test
+    void ensureShowReportReturnsNotFoundForUnknownReport() throws Exception {
+
+        final Person signedInUser = new Person();
+        when(personService.getSignedInUser()).thenReturn(signedInUser);
+        when(reportJobService.getJob(REPORT_ID, signedInUser)).thenReturn(Optional.empty());
+
+        perform(get("/web/reports/" + REPORT_ID))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void ensureDownloadReport() throws Exception {
+
+        final Person signedInUser = new Person();
+        when(personService.getSignedInUser()).thenReturn(signedInUser);
+
+        final Path file = Files.writeString(tempDir.resolve("report.csv"), "a;b", UTF_8);
+        final ReportJob job = new ReportJob(REPORT_ID, SICK_DAYS_STATISTICS, 1L, PERIOD, "sickdays.csv", Instant.now());
+        job.setFile(file);
+        job.setStatus(DONE);
+        when(reportJobService.getJob(REPORT_ID, signedInUser)).thenReturn(Optional.of(job));
+
+        perform(get("/web/reports/" + REPORT_ID + "/download"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", "text/csv;charset=UTF-8"))
+            .andExpect(header().string("Content-disposition", "attachment; filename=\"=?UTF-8?Q?sickdays.csv?=\"; filename*=UTF-8''sickdays.csv"))
+            .andExpect(content().string("a;b"));
+    }
+
+    @Test
+    void ensureDownloadReportReturnsNotFoundIfReportIsNotDone() throws Exception {
+
+        final Person signedInUser = new Person();
+        when(personService.getSignedInUser()).thenReturn(signedInUser);
+
+        final ReportJob job = new ReportJob(REPORT_ID, SICK_DAYS_STATISTICS, 1L, PERIOD, "sickdays.csv", Instant.now());
+        job.setStatus(RUNNING);
+        when(reportJobService.getJob(REPORT_ID, signedInUser)).thenReturn(Optional.of(job));
+
+        perform(get("/web/reports/" + REPORT_ID + "/download"))
+            .andExpect(status().isNotFound());
+    }
+
+    private ResultActions perform(MockHttpServletRequestBuilder builder) throws Exception {
+        return standaloneSetup(sut)
+            .setCustomArgumentResolvers(new SortHandlerMethodArgumentResolver())
+            .build()
+            .perform(builder);
+    }
+}
@@ -4,8 +4,11 @@ package org.synyx.urlaubsverwaltung.search;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -42,4 +45,22 @@ class PageStreamSupportTest {
 
         assertThat(stream).isEmpty();
     }
+
+    @Test
+    void ensureRequestsAllPagesWithSort() {
+
+        final Sort sort = Sort.by("name");
+        final List<Pageable> requestedPages = new ArrayList<>();
+
+        Function<Pageable, Page<String>> pageSupplier = pageable -> {
+            requestedPages.add(pageable);
+            final List<String> content = pageable.getPageNumber() == 0 ? List.of("a", "b") : List.of("c");
+            return new PageImpl<>(content, pageable, 3);
+        };
+
+        Stream<String> stream = PageStreamSupport.stream(pageSupplier, 2, sort);
+
+        assertThat(stream).containsExactly("a", "b", "c");
+        assertThat(requestedPages).containsExactly(PageRequest.of(0, 2, sort), PageRequest.of(1, 2, sort));
+    }
 }
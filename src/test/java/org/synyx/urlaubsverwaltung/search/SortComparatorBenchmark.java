@@ -0,0 +1,177 @@
+package org.synyx.urlaubsverwaltung.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.domain.Sort;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.naturalOrder;
+import static java.util.Comparator.nullsLast;
+import static java.util.Comparator.reverseOrder;
+
+/**
+ * Compares the {@link SortComparator}, that resolves every property path once into cached method handles,
+ * with the former comparator, that looked up the property descriptors and invoked the getters by reflection
+ * on every comparison, by sorting 10.000 elements by a nested string and a number.
+ * <p>
+ * Run {@link #main(String[])} after {@code ./mvnw test-compile}, which generates the JMH benchmark classes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SortComparatorBenchmark {
+
+    private static final int ELEMENTS = 10_000;
+    private static final Sort SORT = Sort.by(Sort.Direction.ASC, "person.lastName")
+        .and(Sort.by(Sort.Direction.DESC, "vacationDays"));
+
+    private List<Statistics> statistics;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+
+        statistics = new ArrayList<>(ELEMENTS);
+        for (int index = 0; index < ELEMENTS; index++) {
+            final String lastName = index % 100 == 0 ? null : "Muster" + random.nextInt(1_000);
+            statistics.add(new Statistics(new Person("Max", lastName), BigDecimal.valueOf(random.nextInt(60), 1)));
+        }
+    }
+
+    @Benchmark
+    public List<Statistics> compiledSortComparator() {
+        return sort(new SortComparator<>(Statistics.class, SORT, Locale.GERMAN));
+    }
+
+    @Benchmark
+    public List<Statistics> reflectiveSortComparator() {
+        return sort(new ReflectiveSortComparator<>(Statistics.class, SORT));
+    }
+
+    private List<Statistics> sort(Comparator<Statistics> comparator) {
+        final List<Statistics> sorted = new ArrayList<>(statistics);
+        sorted.sort(comparator);
+        return sorted;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SortComparatorBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    public static class Statistics {
+
+        private final Person person;
+        private final BigDecimal vacationDays;
+
+        Statistics(Person person, BigDecimal vacationDays) {
+            this.person = person;
+            this.vacationDays = vacationDays;
+        }
+
+        public Person getPerson() {
+            return person;
+        }
+
+        public BigDecimal getVacationDays() {
+            return vacationDays;
+        }
+    }
+
+    public static class Person {
+
+        private final String firstName;
+        private final String lastName;
+
+        Person(String firstName, String lastName) {
+            this.firstName = firstName;
+            this.lastName = lastName;
+        }
+
+        public String getFirstName() {
+            return firstName;
+        }
+
+        public String getLastName() {
+            return lastName;
+        }
+    }
+
+    /**
+     * The former {@link SortComparator}, that resolves the property path on every comparison.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final class ReflectiveSortComparator<T> implements Comparator<T> {
+
+        private final Comparator<T> comparator;
+
+        ReflectiveSortComparator(Class<T> type, Sort sort) {
+            final Iterator<Sort.Order> orderIterator = sort.iterator();
+            Comparator<T> chain = sortComparable(type, orderIterator.next());
+            while (orderIterator.hasNext()) {
+                chain = chain.thenComparing(sortComparable(type, orderIterator.next()));
+            }
+            this.comparator = chain;
+        }
+
+        @Override
+        public int compare(T o1, T o2) {
+            return comparator.compare(o1, o2);
+        }
+
+        private static <T> Comparator<T> sortComparable(Class<T> type, Sort.Order order) {
+            final Function<? super T, Comparable> valueExtractor = entity -> extractComparableValue(type, entity, List.of(order.getProperty().split("\\.")));
+            return order.isDescending()
+                ? comparing(valueExtractor, nullsLast(reverseOrder()))
+                : comparing(valueExtractor, nullsLast(naturalOrder()));
+        }
+
+        private static Comparable extractComparableValue(Class<?> type, Object entity, List<String> properties) {
+            final PropertyDescriptor propertyDescriptor = BeanUtils.getPropertyDescriptor(type, properties.getFirst());
+            if (propertyDescriptor == null) {
+                return null;
+            }
+
+            final Method readMethod = propertyDescriptor.getReadMethod();
+            final Object value;
+            try {
+                value = readMethod.invoke(entity);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException(e);
+            }
+
+            if (properties.size() == 1) {
+                return value instanceof String string ? string.toLowerCase() : (Comparable) value;
+            }
+
+            return extractComparableValue(readMethod.getReturnType(), value, properties.subList(1, properties.size()));
+        }
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 
 import static java.util.stream.Collectors.toList;
@@ -177,6 +178,68 @@ class SortComparatorTest {
         );
     }
 
+    @Test
+    void ensureSortingByStringUsesCollationOfLocale() {
+        final SortComparator<StringBox> sut = new SortComparator<>(StringBox.class, Sort.by("value"), Locale.GERMAN);
+
+        final List<StringBox> list = List.of(
+            new StringBox("Zacharias"),
+            new StringBox("Özil"),
+            new StringBox("oskar"),
+            new StringBox("Anne")
+        );
+
+        final List<StringBox> actual = list.stream().sorted(sut).collect(toList());
+
+        assertThat(actual).containsExactly(
+            new StringBox("Anne"),
+            new StringBox("oskar"),
+            new StringBox("Özil"),
+            new StringBox("Zacharias")
+        );
+    }
+
+    @Test
+    void ensureNullValuesOfNestedPropertiesAreBasedAtTheEnd() {
+        final Sort sort = Sort.by(Sort.Direction.DESC, "innerClass.bigDecimal");
+        final SortComparator<SomeClassToSort> sut = new SortComparator<>(SomeClassToSort.class, sort);
+
+        final List<SomeClassToSort> list = List.of(
+            new SomeClassToSort(1, "aaa"),
+            new SomeClassToSort(2, "aaa", new InnerClass(null)),
+            new SomeClassToSort(3, "aaa", new InnerClass(BigDecimal.valueOf(1))),
+            new SomeClassToSort(4, "aaa", new InnerClass(BigDecimal.valueOf(2)))
+        );
+
+        final List<SomeClassToSort> sorted = list.stream().sorted(sut).collect(toList());
+
+        assertThat(sorted).containsExactly(
+            new SomeClassToSort(4, "aaa", new InnerClass(BigDecimal.valueOf(2))),
+            new SomeClassToSort(3, "aaa", new InnerClass(BigDecimal.valueOf(1))),
+            new SomeClassToSort(1, "aaa"),
+            new SomeClassToSort(2, "aaa", new InnerClass(null))
+        );
+    }
+
+    @Test
+    void ensureUnknownSortPropertyIsIgnoredForFollowingProperties() {
+        final Sort sort = Sort.by("unknownAttribute").and(Sort.by(Sort.Direction.DESC, "integer"));
+        final SortComparator<SomeClassToSort> sut = new SortComparator<>(SomeClassToSort.class, sort);
+
+        final List<SomeClassToSort> list = List.of(
+            new SomeClassToSort(2, "aaa"),
+            new SomeClassToSort(1, "bbb"),
+            new SomeClassToSort(3, "AAA")
+        );
+
+        final List<SomeClassToSort> sorted = list.stream().sorted(sut).collect(toList());
+        assertThat(sorted).containsExactly(
+            new SomeClassToSort(3, "AAA"),
+            new SomeClassToSort(2, "aaa"),
+            new SomeClassToSort(1, "bbb")
+        );
+    }
+
     static class StringBox {
         private final String value;
 
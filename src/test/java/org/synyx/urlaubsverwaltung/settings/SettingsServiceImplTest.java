@@ -1,31 +1,53 @@
 package org.synyx.urlaubsverwaltung.settings;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.synyx.urlaubsverwaltung.period.DayLength;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class SettingsServiceImplTest {
 
+    private static final Instant NOW = Instant.parse("2023-06-01T10:00:00Z");
+
     private SettingsServiceImpl sut;
 
     @Mock
     private SettingsRepository settingsRepository;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+    @Mock
+    private Clock clock;
+
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() {
-        sut = new SettingsServiceImpl(settingsRepository);
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new SettingsServiceImpl(settingsRepository, applicationEventPublisher, new SettingsProperties(), meterRegistry, clock);
     }
 
     @Test
     void ensureGetSettingsReturnsFromDB() {
+        when(clock.instant()).thenReturn(NOW);
+
         final Settings settings = new Settings();
         settings.setId(1L);
         when(settingsRepository.findById(1L)).thenReturn(Optional.of(settings));
@@ -33,4 +55,173 @@ class SettingsServiceImplTest {
         final Settings actualSettings = sut.getSettings();
         assertThat(actualSettings).isEqualTo(settings);
     }
+
+    @Test
+    void ensureGetSettingsCreatesInitialSettings() {
+        when(clock.instant()).thenReturn(NOW);
+
+        when(settingsRepository.findById(1L)).thenReturn(Optional.empty());
+        when(settingsRepository.save(any(Settings.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        final Settings actualSettings = sut.getSettings();
+        assertThat(actualSettings.getId()).isEqualTo(1L);
+        assertThat(actualSettings.getUpdatedAt()).isEqualTo(NOW);
+    }
+
+    @Test
+    void ensureGetSettingsIsCachedWithinCheckInterval() {
+        when(clock.instant()).thenReturn(NOW);
+
+        final Settings settings = new Settings();
+        settings.setId(1L);
+        when(settingsRepository.findById(1L)).thenReturn(Optional.of(settings));
+
+        sut.getSettings();
+        when(clock.instant()).thenReturn(NOW.plusSeconds(29));
+        final Settings actualSettings = sut.getSettings();
+        assertThat(actualSettings).isNotSameAs(settings).usingRecursiveComparison().isEqualTo(settings);
+
+        verify(settingsRepository).findById(1L);
+        verify(settingsRepository, never()).findUpdatedAtById(1L);
+        assertThat(meterRegistry.get("settings.cache.refreshes").tag("cause", "load").counter().count()).isOne();
+    }
+
+    @Test
+    void ensureGetSettingsKeepsCachedSettingsIfUnchangedAfterCheckInterval() {
+        when(clock.instant()).thenReturn(NOW);
+
+        final Settings settings = new Settings();
+        settings.setId(1L);
+        settings.setUpdatedAt(NOW.minusSeconds(60));
+        when(settingsRepository.findById(1L)).thenReturn(Optional.of(settings));
+        when(settingsRepository.findUpdatedAtById(1L)).thenReturn(Optional.of(NOW.minusSeconds(60)));
+
+        sut.getSettings();
+        when(clock.instant()).thenReturn(NOW.plusSeconds(30));
+        final Settings actualSettings = sut.getSettings();
+        assertThat(actualSettings).isNotSameAs(settings).usingRecursiveComparison().isEqualTo(settings);
+
+        verify(settingsRepository).findById(1L);
+        assertThat(meterRegistry.get("settings.cache.staleness").timeGauge().value()).isZero();
+    }
+
+    @Test
+    void ensureGetSettingsRefreshesSettingsChangedByOtherInstance() {
+        when(clock.instant()).thenReturn(NOW);
+
+        final Settings settings = new Settings();
+        settings.setId(1L);
+        settings.setUpdatedAt(NOW.minusSeconds(60));
+
+        final Settings changedSettings = new Settings();
+        changedSettings.setId(1L);
+        changedSettings.setUpdatedAt(NOW.plusSeconds(10));
+
+        when(settingsRepository.findById(1L)).thenReturn(Optional.of(settings), Optional.of(changedSettings));
+        when(settingsRepository.findUpdatedAtById(1L)).thenReturn(Optional.of(NOW.plusSeconds(10)));
+
+        sut.getSettings();
+        when(clock.instant()).thenReturn(NOW.plusSeconds(30));
+        final Settings actualSettings = sut.getSettings();
+        assertThat(actualSettings).isNotSameAs(changedSettings).usingRecursiveComparison().isEqualTo(changedSettings);
+
+        verify(settingsRepository, times(2)).findById(1L);
+        assertThat(meterRegistry.get("settings.cache.refreshes").tag("cause", "changed").counter().count()).isOne();
+    }
+
+    @Test
+    void ensureSaveReplacesCachedSettings() {
+        when(clock.instant()).thenReturn(NOW);
+
+        final Settings settings = new Settings();
+        settings.setId(1L);
+        when(settingsRepository.save(settings)).thenReturn(settings);
+
+        sut.save(settings);
+        final Settings actualSettings = sut.getSettings();
+        assertThat(actualSettings).isNotSameAs(settings).usingRecursiveComparison().isEqualTo(settings);
+        assertThat(actualSettings.getUpdatedAt()).isEqualTo(NOW);
+
+        verify(settingsRepository, never()).findById(1L);
+        assertThat(meterRegistry.get("settings.cache.refreshes").tag("cause", "save").counter().count()).isOne();
+    }
+
+    @Test
+    void ensureFailedSaveKeepsCachedSettingsUnchanged() {
+        when(clock.instant()).thenReturn(NOW);
+
+        final Settings settings = new Settings();
+        settings.setId(1L);
+        settings.getAccountSettings().setDefaultVacationDays(24);
+        when(settingsRepository.findById(1L)).thenReturn(Optional.of(settings));
+        when(settingsRepository.save(any(Settings.class))).thenThrow(new IllegalStateException());
+
+        final Settings changedSettings = sut.getSettings();
+        changedSettings.getAccountSettings().setDefaultVacationDays(30);
+        assertThatThrownBy(() -> sut.save(changedSettings)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(sut.getSettings().getAccountSettings().getDefaultVacationDays()).isEqualTo(24);
+        verify(settingsRepository).findById(1L);
+    }
+
+    @Test
+    void ensureChangesOfReturnedSettingsDoNotAffectCachedSettings() {
+        when(clock.instant()).thenReturn(NOW);
+
+        final Settings settings = new Settings();
+        settings.setId(1L);
+        when(settingsRepository.findById(1L)).thenReturn(Optional.of(settings));
+
+        final Settings editedSettings = sut.getSettings();
+        editedSettings.getWorkingTimeSettings().setMonday(DayLength.ZERO);
+        editedSettings.getOvertimeSettings().setOvertimeActive(true);
+
+        final Settings actualSettings = sut.getSettings();
+        assertThat(actualSettings.getWorkingTimeSettings().getMonday()).isEqualTo(DayLength.FULL);
+        assertThat(actualSettings.getOvertimeSettings().isOvertimeActive()).isFalse();
+        assertThat(settings.getWorkingTimeSettings().getMonday()).isEqualTo(DayLength.FULL);
+    }
+
+    @Test
+    void ensureReturnedSettingsAreCopiesWithAllValues() {
+        when(clock.instant()).thenReturn(NOW);
+
+        final Settings settings = new Settings();
+        settings.setId(1L);
+        settings.setUpdatedAt(NOW);
+        settings.getApplicationSettings().setDaysBeforeRemindForUpcomingHolidayReplacement(7);
+        settings.getAccountSettings().setDoRemainingVacationDaysExpireGlobally(false);
+        settings.getWorkingTimeSettings().setSaturday(DayLength.MORNING);
+        settings.getOvertimeSettings().setMinimumOvertimeReduction(4);
+        settings.getTimeSettings().setTimeZoneId("Europe/Vienna");
+        settings.getSickNoteSettings().setMaximumSickPayDays(21);
+        settings.getAvatarSettings().setGravatarEnabled(true);
+        when(settingsRepository.findById(1L)).thenReturn(Optional.of(settings));
+
+        final Settings actualSettings = sut.getSettings();
+        assertThat(actualSettings).usingRecursiveComparison().isEqualTo(settings);
+        assertThat(actualSettings.getApplicationSettings()).isNotSameAs(settings.getApplicationSettings());
+        assertThat(actualSettings.getAccountSettings()).isNotSameAs(settings.getAccountSettings());
+        assertThat(actualSettings.getWorkingTimeSettings()).isNotSameAs(settings.getWorkingTimeSettings());
+        assertThat(actualSettings.getOvertimeSettings()).isNotSameAs(settings.getOvertimeSettings());
+        assertThat(actualSettings.getTimeSettings()).isNotSameAs(settings.getTimeSettings());
+        assertThat(actualSettings.getSickNoteSettings()).isNotSameAs(settings.getSickNoteSettings());
+        assertThat(actualSettings.getAvatarSettings()).isNotSameAs(settings.getAvatarSettings());
+    }
+
+    @Test
+    void ensureSavePublishesSettingsUpdatedEvent() {
+        when(clock.instant()).thenReturn(NOW);
+
+        final Settings settings = new Settings();
+        settings.setId(1L);
+        when(settingsRepository.save(any(Settings.class))).thenReturn(settings);
+
+        final Settings savedSettings = sut.save(settings);
+        assertThat(savedSettings).isEqualTo(settings);
+
+        final ArgumentCaptor<SettingsUpdatedEvent> captor = ArgumentCaptor.forClass(SettingsUpdatedEvent.class);
+        verify(applicationEventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().settings()).isEqualTo(settings);
+    }
 }
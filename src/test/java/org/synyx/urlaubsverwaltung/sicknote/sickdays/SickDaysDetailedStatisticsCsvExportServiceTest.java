@@ -7,23 +7,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.MessageSource;
-import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.person.Person;
-import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
 import org.synyx.urlaubsverwaltung.sicknote.sicknotetype.SickNoteType;
 import org.synyx.urlaubsverwaltung.web.FilterPeriod;
-import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar;
-import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
-import java.util.function.Function;
 
-import static java.time.DayOfWeek.SATURDAY;
-import static java.time.DayOfWeek.SUNDAY;
 import static java.util.Locale.JAPANESE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -34,11 +26,8 @@ import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
 import static org.synyx.urlaubsverwaltung.period.DayLength.MORNING;
 import static org.synyx.urlaubsverwaltung.period.DayLength.NOON;
-import static org.synyx.urlaubsverwaltung.period.DayLength.ZERO;
 import static org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteCategory.SICK_NOTE;
 import static org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteCategory.SICK_NOTE_CHILD;
-import static org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation.WorkingTimeCalendarEntryType.NO_WORKDAY;
-import static org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation.WorkingTimeCalendarEntryType.WORKDAY;
 
 @ExtendWith(MockitoExtension.class)
 class SickDaysDetailedStatisticsCsvExportServiceTest {
@@ -119,44 +108,16 @@ class SickDaysDetailedStatisticsCsvExportServiceTest {
         sickNoteTypeSickChild.setCategory(SICK_NOTE_CHILD);
         sickNoteTypeSickChild.setMessageKey("application.data.sicknotetype.sicknotechild");
 
-        final Map<LocalDate, WorkingDayInformation> workingTimeByDate = workingTimeMondayToFriday(period.getStartDate(), period.getEndDate());
-        final WorkingTimeCalendar workingTimeCalendar = new WorkingTimeCalendar(workingTimeByDate);
-
-        final SickNote sickNote = SickNote.builder()
-            .dayLength(FULL)
-            .startDate(startDate)
-            .endDate(startDate.plusDays(1))
-            .workingTimeCalendar(workingTimeCalendar)
-            .sickNoteType(sickNoteTypeSick)
-            .build();
-
-        final SickNote sickNoteHalfDayMorning = SickNote.builder()
-            .dayLength(MORNING)
-            .startDate(startDate)
-            .endDate(startDate)
-            .workingTimeCalendar(workingTimeCalendar)
-            .sickNoteType(sickNoteTypeSick)
-            .build();
-
-        final SickNote sickNoteHalfDayNoon = SickNote.builder()
-            .dayLength(NOON)
-            .startDate(startDate)
-            .endDate(startDate)
-            .workingTimeCalendar(workingTimeCalendar)
-            .sickNoteType(sickNoteTypeSick)
-            .build();
-
-        final SickNote sickNoteWithAub = SickNote.builder()
-            .dayLength(FULL)
-            .startDate(startDate.plusDays(3))
-            .endDate(startDate.plusDays(4))
-            .workingTimeCalendar(workingTimeCalendar)
-            .aubStartDate(startDate.plusDays(3))
-            .aubEndDate(startDate.plusDays(4))
-            .sickNoteType(sickNoteTypeSickChild)
-            .build();
-
-        final List<SickNote> sickNotes = List.of(sickNote, sickNoteWithAub, sickNoteHalfDayMorning, sickNoteHalfDayNoon);
+        final SickNoteWorkDays sickNote = new SickNoteWorkDays(person, sickNoteTypeSick, startDate, startDate.plusDays(1), FULL,
+            null, null, BigDecimal.ZERO, BigDecimal.ZERO);
+        final SickNoteWorkDays sickNoteHalfDayMorning = new SickNoteWorkDays(person, sickNoteTypeSick, startDate, startDate, MORNING,
+            null, null, BigDecimal.ZERO, BigDecimal.ZERO);
+        final SickNoteWorkDays sickNoteHalfDayNoon = new SickNoteWorkDays(person, sickNoteTypeSick, startDate, startDate, NOON,
+            null, null, BigDecimal.ZERO, BigDecimal.ZERO);
+        final SickNoteWorkDays sickNoteWithAub = new SickNoteWorkDays(person, sickNoteTypeSickChild, startDate.plusDays(3), startDate.plusDays(4), FULL,
+            startDate.plusDays(3), startDate.plusDays(4), BigDecimal.valueOf(2), BigDecimal.valueOf(2));
+
+        final List<SickNoteWorkDays> sickNotes = List.of(sickNote, sickNoteWithAub, sickNoteHalfDayMorning, sickNoteHalfDayNoon);
         final List<String> departments = List.of("Here", "There");
         final SickDaysDetailedStatistics sickDaysDetailedStatistics = new
             SickDaysDetailedStatistics("42", person, sickNotes, departments);
@@ -194,24 +155,4 @@ class SickDaysDetailedStatisticsCsvExportServiceTest {
     private void addMessageSource(String key, Locale locale) {
         when(messageSource.getMessage(eq(key), any(), eq(locale))).thenReturn(String.format("{%s}", key));
     }
-
-    private Map<LocalDate, WorkingDayInformation> workingTimeMondayToFriday(LocalDate from, LocalDate to) {
-        return buildWorkingTimeByDate(from, to, date ->
-            weekend(date)
-                ? new WorkingDayInformation(ZERO, NO_WORKDAY, NO_WORKDAY)
-                : new WorkingDayInformation(FULL, WORKDAY, WORKDAY)
-        );
-    }
-
-    private boolean weekend(LocalDate date) {
-        return date.getDayOfWeek().equals(SATURDAY) || date.getDayOfWeek().equals(SUNDAY);
-    }
-
-    private Map<LocalDate, WorkingDayInformation> buildWorkingTimeByDate(LocalDate from, LocalDate to, Function<LocalDate, WorkingDayInformation> dayLengthProvider) {
-        Map<LocalDate, WorkingDayInformation> map = new HashMap<>();
-        for (LocalDate date : new DateRange(from, to)) {
-            map.put(date, dayLengthProvider.apply(date));
-        }
-        return map;
-    }
 }
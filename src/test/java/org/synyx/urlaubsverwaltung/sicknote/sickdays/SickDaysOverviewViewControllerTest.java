@@ -15,25 +15,18 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
-import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
-import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
 import org.synyx.urlaubsverwaltung.sicknote.sicknotetype.SickNoteType;
 import org.synyx.urlaubsverwaltung.web.DateFormatAware;
-import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar;
-import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation;
 
 import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.time.Year;
 import java.time.ZonedDateTime;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static java.math.BigDecimal.ZERO;
@@ -55,8 +48,6 @@ import static org.synyx.urlaubsverwaltung.person.Role.OFFICE;
 import static org.synyx.urlaubsverwaltung.person.Role.USER;
 import static org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteCategory.SICK_NOTE;
 import static org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteCategory.SICK_NOTE_CHILD;
-import static org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteStatus.ACTIVE;
-import static org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation.WorkingTimeCalendarEntryType.WORKDAY;
 
 @ExtendWith(MockitoExtension.class)
 class SickDaysOverviewViewControllerTest {
@@ -161,42 +152,18 @@ class SickDaysOverviewViewControllerTest {
         person3.setLastName("LastName three");
         person3.setPermissions(List.of(USER));
 
-        final Map<LocalDate, WorkingDayInformation> workingTimes = buildWorkingTimeByDate(
-            LocalDate.of(2019, 1, 1),
-            LocalDate.of(2019, 12, 31),
-            (date) -> new WorkingDayInformation(FULL, WORKDAY, WORKDAY)
-        );
-        final WorkingTimeCalendar workingTimeCalendar = new WorkingTimeCalendar(workingTimes);
-
         final SickNoteType childSickType = new SickNoteType();
         childSickType.setCategory(SICK_NOTE_CHILD);
 
-        final SickNote childSickNote = SickNote.builder()
-            .startDate(LocalDate.of(2019, 2, 1))
-            .endDate(LocalDate.of(2019, 3, 1))
-            .dayLength(FULL)
-            .status(ACTIVE)
-            .sickNoteType(childSickType)
-            .person(person)
-            .aubStartDate(LocalDate.of(2019, 2, 10))
-            .aubEndDate(LocalDate.of(2019, 2, 15))
-            .workingTimeCalendar(workingTimeCalendar)
-            .build();
+        // work days within the requested period from 2019-02-11 to 2019-04-15
+        final SickNoteWorkDays childSickNote = new SickNoteWorkDays(person, childSickType, LocalDate.of(2019, 2, 1), LocalDate.of(2019, 3, 1), FULL,
+            LocalDate.of(2019, 2, 10), LocalDate.of(2019, 2, 15), BigDecimal.valueOf(19), BigDecimal.valueOf(5));
 
         final SickNoteType sickType = new SickNoteType();
         sickType.setCategory(SICK_NOTE);
 
-        final SickNote sickNote = SickNote.builder()
-            .startDate(LocalDate.of(2019, 4, 1))
-            .endDate(LocalDate.of(2019, 5, 1))
-            .dayLength(FULL)
-            .status(ACTIVE)
-            .sickNoteType(sickType)
-            .person(person2)
-            .aubStartDate(LocalDate.of(2019, 4, 10))
-            .aubEndDate(LocalDate.of(2019, 4, 20))
-            .workingTimeCalendar(workingTimeCalendar)
-            .build();
+        final SickNoteWorkDays sickNote = new SickNoteWorkDays(person2, sickType, LocalDate.of(2019, 4, 1), LocalDate.of(2019, 5, 1), FULL,
+            LocalDate.of(2019, 4, 10), LocalDate.of(2019, 4, 20), BigDecimal.valueOf(15), BigDecimal.valueOf(6));
 
         final LocalDate requestStartDate = LocalDate.of(2019, 2, 11);
         final LocalDate requestEndDate = LocalDate.of(2019, 4, 15);
@@ -326,14 +293,6 @@ class SickDaysOverviewViewControllerTest {
             .andExpect(view().name("sicknote/sick_days"));
     }
 
-    private Map<LocalDate, WorkingDayInformation> buildWorkingTimeByDate(LocalDate from, LocalDate to, Function<LocalDate, WorkingDayInformation> dayLengthProvider) {
-        final Map<LocalDate, WorkingDayInformation> map = new HashMap<>();
-        for (LocalDate date : new DateRange(from, to)) {
-            map.put(date, dayLengthProvider.apply(date));
-        }
-        return map;
-    }
-
     private static int clockYear() {
         return Year.now(clock).getValue();
     }
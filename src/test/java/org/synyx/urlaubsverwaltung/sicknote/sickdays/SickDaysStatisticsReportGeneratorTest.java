@@ -0,0 +1,97 @@
+package org.synyx.urlaubsverwaltung.sicknote.sickdays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.Role;
+import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
+import org.synyx.urlaubsverwaltung.web.FilterPeriod;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.util.Locale.GERMAN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.EnumSource.Mode.EXCLUDE;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.person.Role.OFFICE;
+import static org.synyx.urlaubsverwaltung.person.Role.SICK_NOTE_VIEW;
+import static org.synyx.urlaubsverwaltung.person.Role.USER;
+import static org.synyx.urlaubsverwaltung.report.ReportType.SICK_DAYS_STATISTICS;
+
+@ExtendWith(MockitoExtension.class)
+class SickDaysStatisticsReportGeneratorTest {
+
+    private SickDaysStatisticsReportGenerator sut;
+
+    @Mock
+    private SickDaysStatisticsService sickDaysStatisticsService;
+    @Mock
+    private SickDaysDetailedStatisticsCsvExportService sickDaysDetailedStatisticsCsvExportService;
+
+    @Captor
+    private ArgumentCaptor<Stream<SickDaysDetailedStatistics>> statisticsCaptor;
+
+    @BeforeEach
+    void setUp() {
+        sut = new SickDaysStatisticsReportGenerator(sickDaysStatisticsService, sickDaysDetailedStatisticsCsvExportService);
+    }
+
+    @Test
+    void ensureType() {
+        assertThat(sut.type()).isEqualTo(SICK_DAYS_STATISTICS);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Role.class, names = {"OFFICE", "SICK_NOTE_VIEW"})
+    void ensureIsAllowedToGenerateWithRole(Role role) {
+        final Person person = new Person();
+        person.setPermissions(List.of(USER, role));
+        assertThat(sut.isAllowedToGenerate(person)).isTrue();
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Role.class, names = {"OFFICE", "SICK_NOTE_VIEW"}, mode = EXCLUDE)
+    void ensureIsNotAllowedToGenerateWithoutRole(Role role) {
+        final Person person = new Person();
+        person.setPermissions(List.of(role));
+        assertThat(sut.isAllowedToGenerate(person)).isFalse();
+    }
+
+    @Test
+    void ensureGenerateStreamsAllPagesIntoOutputStream() {
+
+        final Person person = new Person();
+        person.setPermissions(List.of(USER, OFFICE, SICK_NOTE_VIEW));
+
+        final LocalDate startDate = LocalDate.of(2022, 1, 1);
+        final LocalDate endDate = LocalDate.of(2022, 12, 31);
+        final FilterPeriod period = new FilterPeriod(startDate, endDate);
+        final Sort sort = Sort.by("person.firstName");
+
+        final SickDaysDetailedStatistics statistics = new SickDaysDetailedStatistics("42", new Person(), List.of(), List.of());
+        final PageRequest pageRequest = PageRequest.of(0, 100, sort);
+        when(sickDaysStatisticsService.getAll(person, startDate, endDate, new PageableSearchQuery(pageRequest, "")))
+            .thenReturn(new PageImpl<>(List.of(statistics), pageRequest, 1));
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        sut.generate(person, period, sort, GERMAN, outputStream);
+
+        verify(sickDaysDetailedStatisticsCsvExportService).writeCSV(eq(period), eq(GERMAN), statisticsCaptor.capture(), eq(outputStream));
+        assertThat(statisticsCaptor.getValue()).containsExactly(statistics);
+    }
+}
@@ -19,22 +19,23 @@ import org.synyx.urlaubsverwaltung.person.Role;
 import org.synyx.urlaubsverwaltung.person.basedata.PersonBasedata;
 import org.synyx.urlaubsverwaltung.person.basedata.PersonBasedataService;
 import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
-import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
-import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteService;
+import org.synyx.urlaubsverwaltung.sicknote.sicknotetype.SickNoteType;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
 import static org.synyx.urlaubsverwaltung.person.Role.BOSS;
 import static org.synyx.urlaubsverwaltung.person.Role.DEPARTMENT_HEAD;
 import static org.synyx.urlaubsverwaltung.person.Role.OFFICE;
 import static org.synyx.urlaubsverwaltung.person.Role.SECOND_STAGE_AUTHORITY;
 import static org.synyx.urlaubsverwaltung.person.Role.SICK_NOTE_VIEW;
 import static org.synyx.urlaubsverwaltung.person.Role.USER;
-import static org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteStatus.ACTIVE;
+import static org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteCategory.SICK_NOTE;
 
 @ExtendWith(MockitoExtension.class)
 class SickDaysStatisticsServiceTest {
@@ -42,7 +43,7 @@ class SickDaysStatisticsServiceTest {
     private SickDaysStatisticsService sut;
 
     @Mock
-    private SickNoteService sickNoteService;
+    private SickNoteWorkDaysQuery sickNoteWorkDaysQuery;
     @Mock
     private DepartmentService departmentService;
     @Mock
@@ -52,7 +53,7 @@ class SickDaysStatisticsServiceTest {
 
     @BeforeEach
     void setUp() {
-        sut = new SickDaysStatisticsService(sickNoteService, departmentService, personBasedataService, personService);
+        sut = new SickDaysStatisticsService(sickNoteWorkDaysQuery, departmentService, personBasedataService, personService);
     }
 
     @Test
@@ -72,16 +73,12 @@ class SickDaysStatisticsServiceTest {
         member.setFirstName("John");
         member.setLastName("Doe");
 
-        final SickNote sickNote = SickNote.builder()
-            .person(departmentHead)
-            .startDate(startDate.plusDays(5))
-            .endDate(startDate.plusDays(6))
-            .build();
+        final SickNoteWorkDays sickNote = sickNoteWorkDays(departmentHead, startDate.plusDays(5), startDate.plusDays(6));
 
         when(departmentService.getManagedMembersOfPerson(departmentHead, new PageableSearchQuery(PageRequest.of(0, 10, Sort.by("firstName")), "")))
             .thenReturn(new PageImpl<>(List.of(departmentHead, member)));
 
-        when(sickNoteService.getForStatesAndPerson(List.of(ACTIVE), List.of(departmentHead, member), startDate, endDate)).thenReturn(List.of(sickNote));
+        when(sickNoteWorkDaysQuery.findActive(List.of(departmentHead, member), startDate, endDate)).thenReturn(List.of(sickNote));
 
         final PersonBasedata departmentHeadBasedata = new PersonBasedata(new PersonId(departmentHead.getId()), "Passagier1337", "additionalInfo");
         when(personBasedataService.getBasedataByPersonId(List.of(departmentHead.getId(), member.getId()))).thenReturn(Map.of(new PersonId(departmentHead.getId()), departmentHeadBasedata));
@@ -151,16 +148,12 @@ class SickDaysStatisticsServiceTest {
         member.setFirstName("John");
         member.setLastName("Doe");
 
-        final SickNote sickNote = SickNote.builder()
-            .person(secondStageAuthority)
-            .startDate(startDate.plusDays(5))
-            .endDate(startDate.plusDays(6))
-            .build();
+        final SickNoteWorkDays sickNote = sickNoteWorkDays(secondStageAuthority, startDate.plusDays(5), startDate.plusDays(6));
 
         when(departmentService.getManagedMembersOfPerson(secondStageAuthority, new PageableSearchQuery(PageRequest.of(0, 10, Sort.by("firstName")), "")))
             .thenReturn(new PageImpl<>(List.of(member, secondStageAuthority)));
 
-        when(sickNoteService.getForStatesAndPerson(List.of(ACTIVE), List.of(member, secondStageAuthority), startDate, endDate)).thenReturn(List.of(sickNote));
+        when(sickNoteWorkDaysQuery.findActive(List.of(member, secondStageAuthority), startDate, endDate)).thenReturn(List.of(sickNote));
 
         final PersonBasedata personBasedata = new PersonBasedata(new PersonId(secondStageAuthority.getId()), "Passagier1337", "additionalInfo");
         final Map<PersonId, PersonBasedata> personIdBasedatamap = Map.of(new PersonId(secondStageAuthority.getId()), personBasedata);
@@ -228,13 +221,9 @@ class SickDaysStatisticsServiceTest {
 
         final PersonBasedata personBasedata = new PersonBasedata(new PersonId(office.getId()), "Passagier1337", "additionalInfo");
 
-        final SickNote sickNote = SickNote.builder()
-            .person(office)
-            .startDate(startDate.plusDays(5))
-            .endDate(startDate.plusDays(6))
-            .build();
+        final SickNoteWorkDays sickNote = sickNoteWorkDays(office, startDate.plusDays(5), startDate.plusDays(6));
 
-        when(sickNoteService.getForStatesAndPerson(List.of(ACTIVE), List.of(office), startDate, endDate))
+        when(sickNoteWorkDaysQuery.findActive(List.of(office), startDate, endDate))
             .thenReturn(List.of(sickNote));
 
         final Map<PersonId, PersonBasedata> personIdBasedatamap = Map.of(new PersonId(office.getId()), personBasedata);
@@ -275,13 +264,9 @@ class SickDaysStatisticsServiceTest {
         final String personnelNumber = "Passagier1337";
         final PersonBasedata personBasedata = new PersonBasedata(new PersonId(office.getId()), personnelNumber, "additionalInfo");
 
-        final SickNote sickNote = SickNote.builder()
-            .person(office)
-            .startDate(startDate.plusDays(5))
-            .endDate(startDate.plusDays(6))
-            .build();
+        final SickNoteWorkDays sickNote = sickNoteWorkDays(office, startDate.plusDays(5), startDate.plusDays(6));
 
-        when(sickNoteService.getForStatesAndPerson(List.of(ACTIVE), List.of(office), startDate, endDate))
+        when(sickNoteWorkDaysQuery.findActive(List.of(office), startDate, endDate))
             .thenReturn(List.of(sickNote));
 
         final Map<PersonId, PersonBasedata> personIdBasedatamap = Map.of(new PersonId(office.getId()), personBasedata);
@@ -320,13 +305,9 @@ class SickDaysStatisticsServiceTest {
 
         final PersonBasedata personBasedata = new PersonBasedata(new PersonId(boss.getId()), "Passagier1337", "additionalInfo");
 
-        final SickNote sickNote = SickNote.builder()
-            .person(boss)
-            .startDate(startDate.plusDays(5))
-            .endDate(startDate.plusDays(6))
-            .build();
+        final SickNoteWorkDays sickNote = sickNoteWorkDays(boss, startDate.plusDays(5), startDate.plusDays(6));
 
-        when(sickNoteService.getForStatesAndPerson(List.of(ACTIVE), List.of(boss), startDate, endDate))
+        when(sickNoteWorkDaysQuery.findActive(List.of(boss), startDate, endDate))
             .thenReturn(List.of(sickNote));
 
         final Map<PersonId, PersonBasedata> personIdBasedatamap = Map.of(new PersonId(boss.getId()), personBasedata);
@@ -367,13 +348,9 @@ class SickDaysStatisticsServiceTest {
 
         final PersonBasedata personBasedata = new PersonBasedata(new PersonId(boss.getId()), "Passagier1337", "additionalInfo");
 
-        final SickNote sickNote = SickNote.builder()
-            .person(boss)
-            .startDate(startDate.plusDays(5))
-            .endDate(startDate.plusDays(6))
-            .build();
+        final SickNoteWorkDays sickNote = sickNoteWorkDays(boss, startDate.plusDays(5), startDate.plusDays(6));
 
-        when(sickNoteService.getForStatesAndPerson(List.of(ACTIVE), List.of(boss), startDate, endDate))
+        when(sickNoteWorkDaysQuery.findActive(List.of(boss), startDate, endDate))
             .thenReturn(List.of(sickNote));
 
         final Map<PersonId, PersonBasedata> personIdBasedatamap = Map.of(new PersonId(boss.getId()), personBasedata);
@@ -440,16 +417,12 @@ class SickDaysStatisticsServiceTest {
         member.setFirstName("John");
         member.setLastName("Doe");
 
-        final SickNote sickNote = SickNote.builder()
-            .person(departmentHead)
-            .startDate(startDate.plusDays(5))
-            .endDate(startDate.plusDays(6))
-            .build();
+        final SickNoteWorkDays sickNote = sickNoteWorkDays(departmentHead, startDate.plusDays(5), startDate.plusDays(6));
 
         when(departmentService.getManagedMembersOfPerson(departmentHead, new PageableSearchQuery(PageRequest.of(0, 10, Sort.by("firstName")), "")))
             .thenReturn(new PageImpl<>(List.of(departmentHead, member)));
 
-        when(sickNoteService.getForStatesAndPerson(List.of(ACTIVE), List.of(departmentHead, member), startDate, endDate)).thenReturn(List.of(sickNote));
+        when(sickNoteWorkDaysQuery.findActive(List.of(departmentHead, member), startDate, endDate)).thenReturn(List.of(sickNote));
 
         final PersonBasedata departmentHeadBasedata = new PersonBasedata(new PersonId(departmentHead.getId()), "Passagier1337", "additionalInfo");
         final PersonBasedata memberBasedata = new PersonBasedata(new PersonId(2L), "000042", "additionalInfo member");
@@ -496,16 +469,12 @@ class SickDaysStatisticsServiceTest {
         member.setFirstName("John");
         member.setLastName("Doe");
 
-        final SickNote sickNote = SickNote.builder()
-            .person(departmentHead)
-            .startDate(startDate.plusDays(5))
-            .endDate(startDate.plusDays(6))
-            .build();
+        final SickNoteWorkDays sickNote = sickNoteWorkDays(departmentHead, startDate.plusDays(5), startDate.plusDays(6));
 
         when(departmentService.getManagedMembersOfPerson(departmentHead, new PageableSearchQuery(PageRequest.of(0, 10, Sort.by("firstName")), "")))
             .thenReturn(new PageImpl<>(List.of(departmentHead, member)));
 
-        when(sickNoteService.getForStatesAndPerson(List.of(ACTIVE), List.of(departmentHead, member), startDate, endDate)).thenReturn(List.of(sickNote));
+        when(sickNoteWorkDaysQuery.findActive(List.of(departmentHead, member), startDate, endDate)).thenReturn(List.of(sickNote));
 
         final Map<PersonId, PersonBasedata> personIdBaseDataMap = Map.of();
         when(personBasedataService.getBasedataByPersonId(List.of(42L, 2L))).thenReturn(personIdBaseDataMap);
@@ -533,4 +502,10 @@ class SickDaysStatisticsServiceTest {
             assertThat(actual.getSickNotes()).isEmpty();
         });
     }
+
+    private static SickNoteWorkDays sickNoteWorkDays(Person person, LocalDate startDate, LocalDate endDate) {
+        final SickNoteType sickNoteType = new SickNoteType();
+        sickNoteType.setCategory(SICK_NOTE);
+        return new SickNoteWorkDays(person, sickNoteType, startDate, endDate, FULL, null, null, BigDecimal.valueOf(2), BigDecimal.ZERO);
+    }
 }
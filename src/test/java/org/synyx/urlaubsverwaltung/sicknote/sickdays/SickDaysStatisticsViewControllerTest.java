@@ -5,14 +5,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
-import org.synyx.urlaubsverwaltung.csv.CSVFile;
+import org.synyx.urlaubsverwaltung.csv.CSVStream;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
@@ -26,9 +27,14 @@ import java.util.Locale;
 import java.util.Optional;
 
 import static java.util.Locale.JAPANESE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
 
@@ -96,10 +102,10 @@ class SickDaysStatisticsViewControllerTest {
         when(sickDaysStatisticsService.getAll(signedInUser, date, date, pageableSearchQuery))
             .thenReturn(new PageImpl<>(List.of()));
 
-        when(sickDaysDetailedStatisticsCsvExportService.generateCSV(filterPeriod, locale, List.of()))
-            .thenReturn(new CSVFile("filename.csv", new ByteArrayResource(new byte[]{})));
+        when(sickDaysDetailedStatisticsCsvExportService.streamCSV(eq(filterPeriod), eq(locale), any()))
+            .thenReturn(new CSVStream("filename.csv", outputStream -> outputStream.write("csv-resource".getBytes())));
 
-        perform(get("/web/sickdays/statistics/download")
+        performStreaming(get("/web/sickdays/statistics/download")
             .locale(locale)
             .param("from", dateString)
             .param("to", dateString)
@@ -135,17 +141,18 @@ class SickDaysStatisticsViewControllerTest {
         when(sickDaysStatisticsService.getAll(signedInUser, startDate, endDate, pageableSearchQuery))
             .thenReturn(new PageImpl<>(List.of()));
 
-        when(sickDaysDetailedStatisticsCsvExportService.generateCSV(filterPeriod, locale, List.of()))
-            .thenReturn(new CSVFile("filename.csv", new ByteArrayResource(new byte[]{})));
+        when(sickDaysDetailedStatisticsCsvExportService.streamCSV(eq(filterPeriod), eq(locale), any()))
+            .thenReturn(new CSVStream("filename.csv", outputStream -> outputStream.write("csv-resource".getBytes())));
 
-        perform(get("/web/sickdays/statistics/download")
+        performStreaming(get("/web/sickdays/statistics/download")
             .locale(locale)
             .param("from", fromString)
             .param("to", endString)
             .param("page", "2")
             .param("size", "50")
         )
-            .andExpect(status().isOk());
+            .andExpect(status().isOk())
+            .andExpect(content().string("csv-resource"));
     }
 
     @Test
@@ -167,20 +174,21 @@ class SickDaysStatisticsViewControllerTest {
         when(dateFormatAware.parse(endString, locale)).thenReturn(Optional.of(endDate));
 
         final PageableSearchQuery pageableSearchQuery =
-            new PageableSearchQuery(PageRequest.of(0, Integer.MAX_VALUE, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
+            new PageableSearchQuery(PageRequest.of(0, 100, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
         when(sickDaysStatisticsService.getAll(signedInUser, startDate, endDate, pageableSearchQuery))
             .thenReturn(new PageImpl<>(List.of()));
 
-        when(sickDaysDetailedStatisticsCsvExportService.generateCSV(filterPeriod, locale, List.of()))
-            .thenReturn(new CSVFile("filename.csv", new ByteArrayResource(new byte[]{})));
+        when(sickDaysDetailedStatisticsCsvExportService.streamCSV(eq(filterPeriod), eq(locale), any()))
+            .thenReturn(new CSVStream("filename.csv", outputStream -> outputStream.write("csv-resource".getBytes())));
 
-        perform(get("/web/sickdays/statistics/download")
+        performStreaming(get("/web/sickdays/statistics/download")
             .locale(locale)
             .param("from", fromString)
             .param("to", endString)
             .param("allElements", "true")
         )
-            .andExpect(status().isOk());
+            .andExpect(status().isOk())
+            .andExpect(content().string("csv-resource"));
     }
 
     @Test
@@ -202,14 +210,14 @@ class SickDaysStatisticsViewControllerTest {
         when(dateFormatAware.parse(endString, locale)).thenReturn(Optional.of(endDate));
 
         final PageableSearchQuery pageableSearchQuery =
-            new PageableSearchQuery(PageRequest.of(0, Integer.MAX_VALUE, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
+            new PageableSearchQuery(PageRequest.of(0, 100, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
         when(sickDaysStatisticsService.getAll(signedInUser, startDate, endDate, pageableSearchQuery))
             .thenReturn(new PageImpl<>(List.of()));
 
-        when(sickDaysDetailedStatisticsCsvExportService.generateCSV(filterPeriod, locale, List.of()))
-            .thenReturn(new CSVFile("filename.csv", new ByteArrayResource(new byte[]{})));
+        when(sickDaysDetailedStatisticsCsvExportService.streamCSV(eq(filterPeriod), eq(locale), any()))
+            .thenReturn(new CSVStream("filename.csv", outputStream -> outputStream.write("csv-resource".getBytes())));
 
-        perform(get("/web/sickdays/statistics/download")
+        performStreaming(get("/web/sickdays/statistics/download")
             .locale(locale)
             .param("from", fromString)
             .param("to", endString)
@@ -218,7 +226,8 @@ class SickDaysStatisticsViewControllerTest {
             .param("size", "50")
             .param("query", "hans")
         )
-            .andExpect(status().isOk());
+            .andExpect(status().isOk())
+            .andExpect(content().string("csv-resource"));
     }
 
     private ResultActions perform(MockHttpServletRequestBuilder builder) throws Exception {
@@ -227,4 +236,16 @@ class SickDaysStatisticsViewControllerTest {
             .build()
             .perform(builder);
     }
+
+    private ResultActions performStreaming(MockHttpServletRequestBuilder builder) throws Exception {
+        final MockMvc mockMvc = standaloneSetup(sut)
+            .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
+            .build();
+
+        final MvcResult mvcResult = mockMvc.perform(builder)
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        return mockMvc.perform(asyncDispatch(mvcResult));
+    }
 }
@@ -0,0 +1,119 @@
+package org.synyx.urlaubsverwaltung.sicknote.sickdays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.synyx.urlaubsverwaltung.TestContainersBase;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.sicknote.sicknotetype.SickNoteType;
+import org.synyx.urlaubsverwaltung.sicknote.sicknotetype.SickNoteTypeService;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeWriteService;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.synyx.urlaubsverwaltung.person.Role.USER;
+import static org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteCategory.SICK_NOTE;
+
+@SpringBootTest
+@Transactional
+class SickNoteWorkDaysQueryIT extends TestContainersBase {
+
+    private static final LocalDate FROM = LocalDate.of(2022, 2, 1);
+    private static final LocalDate TO = LocalDate.of(2022, 2, 28);
+
+    @Autowired
+    private SickNoteWorkDaysQuery sut;
+
+    @Autowired
+    private PersonService personService;
+    @Autowired
+    private WorkingTimeWriteService workingTimeWriteService;
+    @Autowired
+    private SickNoteTypeService sickNoteTypeService;
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private Person person;
+    private SickNoteType sickNoteType;
+
+    @BeforeEach
+    void setUp() {
+        person = personService.create("kranke", "Karla", "Krank", "karla@example.org", List.of(), List.of(USER));
+        workingTimeWriteService.touch(List.of(1, 2, 3, 4, 5), LocalDate.of(2022, 1, 1), person);
+
+        sickNoteType = sickNoteTypeService.getSickNoteTypes().stream()
+            .filter(type -> type.isOfCategory(SICK_NOTE))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    @Test
+    void ensureCountsWorkDaysAndAubDaysWithinPeriod() {
+
+        // monday to sunday with aub from wednesday to friday
+        insertSickNote(LocalDate.of(2022, 2, 7), LocalDate.of(2022, 2, 13), LocalDate.of(2022, 2, 9), LocalDate.of(2022, 2, 11), "ACTIVE");
+
+        final List<SickNoteWorkDays> sickNoteWorkDays = sut.findActive(List.of(person), FROM, TO);
+        assertThat(sickNoteWorkDays).hasSize(1);
+
+        final SickNoteWorkDays workDays = sickNoteWorkDays.get(0);
+        assertThat(workDays.person()).isEqualTo(person);
+        assertThat(workDays.sickNoteType()).isEqualTo(sickNoteType);
+        assertThat(workDays.workDays()).isEqualByComparingTo(BigDecimal.valueOf(5));
+        assertThat(workDays.workDaysWithAub()).isEqualByComparingTo(BigDecimal.valueOf(3));
+        assertThat(workDays.isAubPresent()).isTrue();
+    }
+
+    @Test
+    void ensureClipsWorkDaysToPeriod() {
+
+        // monday 24th of january to friday 4th of february - only the four days in february count
+        insertSickNote(LocalDate.of(2022, 1, 24), LocalDate.of(2022, 2, 4), null, null, "ACTIVE");
+
+        final List<SickNoteWorkDays> sickNoteWorkDays = sut.findActive(List.of(person), FROM, TO);
+        assertThat(sickNoteWorkDays).hasSize(1);
+        assertThat(sickNoteWorkDays.get(0).workDays()).isEqualByComparingTo(BigDecimal.valueOf(4));
+        assertThat(sickNoteWorkDays.get(0).workDaysWithAub()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(sickNoteWorkDays.get(0).isAubPresent()).isFalse();
+    }
+
+    @Test
+    void ensureIgnoresInactiveSickNotesAndSickNotesOutsideOfPeriod() {
+
+        insertSickNote(LocalDate.of(2022, 2, 7), LocalDate.of(2022, 2, 8), null, null, "CANCELLED");
+        insertSickNote(LocalDate.of(2022, 3, 7), LocalDate.of(2022, 3, 8), null, null, "ACTIVE");
+
+        assertThat(sut.findActive(List.of(person), FROM, TO)).isEmpty();
+    }
+
+    @Test
+    void ensureReturnsNothingWithoutPersons() {
+        assertThat(sut.findActive(List.of(), FROM, TO)).isEmpty();
+    }
+
+    private void insertSickNote(LocalDate startDate, LocalDate endDate, LocalDate aubStartDate, LocalDate aubEndDate, String status) {
+        jdbcTemplate.update("""
+                INSERT INTO sick_note (id, person_id, applier_id, sick_note_type_id, start_date, end_date, day_length,
+                                       aub_start_date, aub_end_date, status, last_edited)
+                VALUES (nextval('sick_note_id_seq'), :personId, :personId, :typeId, :startDate, :endDate, 'FULL',
+                        :aubStartDate, :aubEndDate, :status, :startDate)
+                """,
+            new MapSqlParameterSource()
+                .addValue("personId", person.getId())
+                .addValue("typeId", sickNoteType.getId())
+                .addValue("startDate", startDate)
+                .addValue("endDate", endDate)
+                .addValue("aubStartDate", aubStartDate)
+                .addValue("aubEndDate", aubEndDate)
+                .addValue("status", status)
+        );
+    }
+}
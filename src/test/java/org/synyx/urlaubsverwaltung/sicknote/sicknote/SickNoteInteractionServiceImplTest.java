@@ -11,6 +11,8 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.synyx.urlaubsverwaltung.application.application.Application;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationInteractionService;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationStatus;
+import org.synyx.urlaubsverwaltung.overlap.OverlapException;
+import org.synyx.urlaubsverwaltung.overlap.OverlapService;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonDeletedEvent;
@@ -23,10 +25,14 @@ import java.util.List;
 
 import static java.time.ZoneOffset.UTC;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,6 +50,8 @@ class SickNoteInteractionServiceImplTest {
     @Mock
     private SickNoteMailService sickNoteMailService;
     @Mock
+    private OverlapService overlapService;
+    @Mock
     private ApplicationEventPublisher applicationEventPublisher;
 
 
@@ -150,6 +158,70 @@ class SickNoteInteractionServiceImplTest {
         verify(sickNoteMailService).sendCreatedToColleagues(sickNote);
     }
 
+    @Test
+    void ensureCreatingSickNoteEnsuresNoOverlapBeforeSaving() {
+
+        when(sickNoteService.save(any())).then(returnsFirstArg());
+
+        final Person creator = new Person("creator", "Senior", "Creator", "creator@example.org");
+
+        final SickNote sickNote = SickNote.builder()
+            .startDate(LocalDate.now(UTC))
+            .endDate(LocalDate.now(UTC))
+            .dayLength(DayLength.FULL)
+            .person(new Person("muster", "Muster", "Marlene", "muster@example.org"))
+            .build();
+
+        sut.create(sickNote, creator);
+
+        final InOrder inOrder = inOrder(overlapService, sickNoteService);
+        inOrder.verify(overlapService).lockAndEnsureNoOverlap(SickNote.builder(sickNote).status(SickNoteStatus.ACTIVE).build());
+        inOrder.verify(sickNoteService).save(any(SickNote.class));
+    }
+
+    @Test
+    void ensureOverlappingSickNoteIsNotCreated() {
+
+        final Person creator = new Person("creator", "Senior", "Creator", "creator@example.org");
+
+        final SickNote sickNote = SickNote.builder()
+            .startDate(LocalDate.now(UTC))
+            .endDate(LocalDate.now(UTC))
+            .dayLength(DayLength.FULL)
+            .person(new Person("muster", "Muster", "Marlene", "muster@example.org"))
+            .build();
+
+        doThrow(OverlapException.class).when(overlapService).lockAndEnsureNoOverlap(any(SickNote.class));
+
+        assertThatThrownBy(() -> sut.create(sickNote, creator))
+            .isInstanceOf(OverlapException.class);
+
+        verify(sickNoteService, never()).save(any());
+        verifyNoInteractions(commentService, sickNoteMailService, applicationEventPublisher);
+    }
+
+    @Test
+    void ensureOverlappingSickNoteIsNotUpdated() {
+
+        final Person editor = new Person("editor", "Senior", "Editor", "editor@example.org");
+
+        final SickNote sickNote = SickNote.builder()
+            .id(42L)
+            .startDate(LocalDate.now(UTC))
+            .endDate(LocalDate.now(UTC))
+            .dayLength(DayLength.FULL)
+            .person(new Person("muster", "Muster", "Marlene", "muster@example.org"))
+            .build();
+
+        doThrow(OverlapException.class).when(overlapService).lockAndEnsureNoOverlap(any(SickNote.class));
+
+        assertThatThrownBy(() -> sut.update(sickNote, editor, "comment"))
+            .isInstanceOf(OverlapException.class);
+
+        verify(sickNoteService, never()).save(any());
+        verifyNoInteractions(commentService, sickNoteMailService, applicationEventPublisher);
+    }
+
     @Test
     void ensureUpdatedSickHasComment() {
 
@@ -32,6 +32,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
 import static org.synyx.urlaubsverwaltung.person.Role.USER;
@@ -305,6 +306,30 @@ class SickNoteServiceImplTest {
         assertThat(actual.getStatus()).isEqualTo(ACTIVE);
     }
 
+    @Test
+    void getForStatesAndPersonWithoutWorkDays() {
+        final Person person = new Person();
+        person.setId(1L);
+
+        final SickNoteEntity entity = new SickNoteEntity();
+        entity.setId(1L);
+        entity.setPerson(person);
+        entity.setStartDate(LocalDate.of(2023, 5, 1));
+        entity.setEndDate(LocalDate.of(2023, 5, 5));
+        entity.setDayLength(DayLength.FULL);
+        entity.setStatus(ACTIVE);
+        when(sickNoteRepository.findByStatusInAndPersonIn(List.of(ACTIVE), List.of(person))).thenReturn(List.of(entity));
+
+        final List<SickNote> sickNotes = sut.getForStatesAndPerson(List.of(ACTIVE), List.of(person));
+        assertThat(sickNotes).hasSize(1);
+        assertThat(sickNotes.get(0).getId()).isEqualTo(1L);
+        assertThat(sickNotes.get(0).getPerson()).isEqualTo(person);
+        assertThat(sickNotes.get(0).getStartDate()).isEqualTo(LocalDate.of(2023, 5, 1));
+        assertThat(sickNotes.get(0).getEndDate()).isEqualTo(LocalDate.of(2023, 5, 5));
+
+        verifyNoInteractions(workingTimeCalendarService);
+    }
+
     @Test
     void getForStatesSince() {
         final Person person = new Person();
@@ -415,6 +440,37 @@ class SickNoteServiceImplTest {
         assertThat(actual.getWorkDays()).isEqualTo(BigDecimal.valueOf(5));
     }
 
+    @Test
+    void getForStatesAndPersonWithGivenWorkingTimeCalendars() {
+        final Person person = new Person();
+        person.setId(1L);
+
+        final LocalDate start = LocalDate.of(2022, 8, 1);
+        final LocalDate end = LocalDate.of(2022, 8, 31);
+
+        final SickNoteEntity entity = new SickNoteEntity();
+        entity.setId(1L);
+        entity.setPerson(person);
+        entity.setStartDate(LocalDate.of(2022, 8, 8));
+        entity.setEndDate(LocalDate.of(2022, 8, 12));
+        entity.setDayLength(DayLength.FULL);
+        entity.setStatus(ACTIVE);
+
+        final List<Person> persons = List.of(person);
+        final List<SickNoteStatus> sickNoteStatuses = List.of(ACTIVE);
+        when(sickNoteRepository.findByStatusInAndPersonInAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqual(sickNoteStatuses, persons, start, end))
+            .thenReturn(List.of(entity));
+
+        final WorkingTimeCalendar workingTimeCalendar = new WorkingTimeCalendar(buildWorkingTimeByDate(start, end, date -> fullWorkingDayInformation()));
+
+        final List<SickNote> sickNotes = sut.getForStatesAndPerson(sickNoteStatuses, persons, start, end, Map.of(person, workingTimeCalendar));
+        assertThat(sickNotes).hasSize(1);
+        assertThat(sickNotes.get(0).getId()).isEqualTo(1);
+        assertThat(sickNotes.get(0).getWorkDays()).isEqualTo(BigDecimal.valueOf(5));
+
+        verifyNoInteractions(workingTimeCalendarService);
+    }
+
     @Test
     void setEndOfSickPayNotificationSend() {
 
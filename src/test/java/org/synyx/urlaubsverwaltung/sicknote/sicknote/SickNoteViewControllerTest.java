@@ -21,6 +21,7 @@ import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeService;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeViewModelService;
 import org.synyx.urlaubsverwaltung.department.Department;
 import org.synyx.urlaubsverwaltung.department.DepartmentService;
+import org.synyx.urlaubsverwaltung.overlap.OverlapException;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.person.Role;
@@ -39,7 +40,10 @@ import java.util.Optional;
 import static java.util.List.of;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasProperty;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
@@ -1006,6 +1010,21 @@ class SickNoteViewControllerTest {
             .andExpect(redirectedUrl("/web/sicknote/" + SOME_SICK_NOTE_ID));
     }
 
+    @Test
+    void ensurePostNewSickNoteShowsFormIfOverlappingAbsenceWasSavedConcurrently() throws Exception {
+
+        final Person signedInPerson = new Person();
+        signedInPerson.setId(1L);
+        when(personService.getSignedInUser()).thenReturn(signedInPerson);
+
+        when(sickNoteInteractionService.create(any(SickNote.class), eq(signedInPerson), eq(null)))
+            .thenThrow(OverlapException.class);
+
+        perform(post("/web/sicknote/"))
+            .andExpect(model().attribute("errors", hasProperty("globalErrors", hasItem(hasProperty("code", is("application.error.overlap"))))))
+            .andExpect(view().name("sicknote/sick_note_form"));
+    }
+
     @Test
     void editPostSickNoteShowsFormIfValidationFails() throws Exception {
 
@@ -1036,6 +1055,22 @@ class SickNoteViewControllerTest {
         verify(sickNoteInteractionService).update(any(SickNote.class), eq(signedInPerson), any());
     }
 
+    @Test
+    void editPostSickNoteShowsFormIfOverlappingAbsenceWasSavedConcurrently() throws Exception {
+
+        when(sickNoteService.getById(SOME_SICK_NOTE_ID)).thenReturn(Optional.of(SickNote.builder().person(new Person()).status(ACTIVE).build()));
+
+        final Person signedInPerson = new Person();
+        when(personService.getSignedInUser()).thenReturn(signedInPerson);
+
+        when(sickNoteInteractionService.update(any(SickNote.class), eq(signedInPerson), any()))
+            .thenThrow(OverlapException.class);
+
+        perform(post("/web/sicknote/" + SOME_SICK_NOTE_ID + "/edit"))
+            .andExpect(model().attribute("errors", hasProperty("globalErrors", hasItem(hasProperty("code", is("application.error.overlap"))))))
+            .andExpect(view().name("sicknote/sick_note_form"));
+    }
+
     @Test
     void editPostSickNoteRedirectsToCreatedSickNote() throws Exception {
 
@@ -17,11 +17,11 @@ import java.time.LocalDate;
 import java.time.Year;
 import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
 
-import static java.math.BigDecimal.ONE;
 import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.person.Role.BOSS;
 import static org.synyx.urlaubsverwaltung.person.Role.DEPARTMENT_HEAD;
@@ -69,7 +69,7 @@ class SickNoteStatisticsServiceTest {
             .endDate(LocalDate.of(2022, 10, 10))
             .build());
         when(sickNoteService.getForStatesAndPerson(List.of(ACTIVE), members, firstDayOfYear, lastDayOfYear)).thenReturn(sickNotes);
-        when(workDaysCountService.getWorkDaysCount(any(), any(), any(), any())).thenReturn(ONE);
+        when(workDaysCountService.getWorkDaysCount(anyList())).thenReturn(Map.of());
 
         final SickNoteStatistics sickNoteStatistics = sut.createStatisticsForPerson(departmentHead, fixedClock);
         assertThat(sickNoteStatistics.getTotalNumberOfSickNotes()).isOne();
@@ -111,7 +111,7 @@ class SickNoteStatisticsServiceTest {
             .build();
         final List<SickNote> sickNotes = List.of(sickNote);
         when(sickNoteService.getForStatesAndPerson(List.of(ACTIVE), members, firstDayOfYear, lastDayOfYear)).thenReturn(sickNotes);
-        when(workDaysCountService.getWorkDaysCount(any(), any(), any(), any())).thenReturn(ONE);
+        when(workDaysCountService.getWorkDaysCount(anyList())).thenReturn(Map.of());
 
         final SickNoteStatistics sickNoteStatistics = sut.createStatisticsForPerson(ssa, fixedClock);
         assertThat(sickNoteStatistics.getTotalNumberOfSickNotes()).isOne();
@@ -150,7 +150,7 @@ class SickNoteStatisticsServiceTest {
             .build();
         final List<SickNote> sickNotes = List.of(sickNote);
         when(sickNoteService.getAllActiveByPeriod(from, to)).thenReturn(sickNotes);
-        when(workDaysCountService.getWorkDaysCount(any(), any(), any(), any())).thenReturn(ONE);
+        when(workDaysCountService.getWorkDaysCount(anyList())).thenReturn(Map.of());
 
         final SickNoteStatistics sickNoteStatistics = sut.createStatisticsForPerson(personWithRole, fixedClock);
         assertThat(sickNoteStatistics.getTotalNumberOfSickNotes()).isOne();
@@ -189,7 +189,7 @@ class SickNoteStatisticsServiceTest {
             .build();
         final List<SickNote> sickNotes = List.of(sickNote);
         when(sickNoteService.getAllActiveByPeriod(from, to)).thenReturn(sickNotes);
-        when(workDaysCountService.getWorkDaysCount(any(), any(), any(), any())).thenReturn(ONE);
+        when(workDaysCountService.getWorkDaysCount(anyList())).thenReturn(Map.of());
 
         final SickNoteStatistics sickNoteStatistics = sut.createStatisticsForPerson(personWithRole, fixedClock);
         assertThat(sickNoteStatistics.getTotalNumberOfSickNotes()).isOne();
@@ -6,6 +6,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
+import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountPeriod;
 import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
 
 import java.math.BigDecimal;
@@ -14,6 +15,7 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
 
 import static java.math.BigDecimal.ZERO;
 import static java.time.LocalDate.of;
@@ -41,11 +43,13 @@ class SickNoteStatisticsTest {
         final LocalDate sickNote1from = of(2022, OCTOBER, 7);
         final LocalDate sickNote1To = of(2022, OCTOBER, 11);
         final SickNote sickNote1 = createSickNote(person, sickNote1from, sickNote1To, FULL);
-        when(workDaysCountService.getWorkDaysCount(FULL, sickNote1from, sickNote1To, person)).thenReturn(new BigDecimal("5"));
 
         final LocalDate sickNote2From = of(2022, DECEMBER, 18);
         final SickNote sickNote2 = createSickNote(person, sickNote2From, of(2023, JANUARY, 3), FULL);
-        when(workDaysCountService.getWorkDaysCount(FULL, sickNote2From, of(2022, DECEMBER, 31), person)).thenReturn(new BigDecimal("9"));
+
+        final WorkDaysCountPeriod period1 = new WorkDaysCountPeriod(person, sickNote1from, sickNote1To, FULL);
+        final WorkDaysCountPeriod period2 = new WorkDaysCountPeriod(person, sickNote2From, of(2022, DECEMBER, 31), FULL);
+        when(workDaysCountService.getWorkDaysCount(List.of(period1, period2))).thenReturn(Map.of(period1, new BigDecimal("5"), period2, new BigDecimal("9")));
 
         final Clock fixedClock = Clock.fixed(Instant.parse("2022-10-17T00:00:00.00Z"), ZoneId.systemDefault());
         final SickNoteStatistics sut = new SickNoteStatistics(fixedClock, List.of(sickNote1, sickNote2), workDaysCountService);
@@ -60,11 +64,13 @@ class SickNoteStatisticsTest {
         final LocalDate sickNote1from = of(2022, OCTOBER, 7);
         final LocalDate sickNote1To = of(2022, OCTOBER, 11);
         final SickNote sickNote1 = createSickNote(person, sickNote1from, sickNote1To, FULL);
-        when(workDaysCountService.getWorkDaysCount(FULL, sickNote1from, sickNote1To, person)).thenReturn(new BigDecimal("5"));
 
         final LocalDate sickNote2From = of(2022, DECEMBER, 18);
         final SickNote sickNote2 = createSickNote(person, sickNote2From, of(2023, JANUARY, 3), FULL);
-        when(workDaysCountService.getWorkDaysCount(FULL, sickNote2From, of(2022, DECEMBER, 31), person)).thenReturn(new BigDecimal("9"));
+
+        final WorkDaysCountPeriod period1 = new WorkDaysCountPeriod(person, sickNote1from, sickNote1To, FULL);
+        final WorkDaysCountPeriod period2 = new WorkDaysCountPeriod(person, sickNote2From, of(2022, DECEMBER, 31), FULL);
+        when(workDaysCountService.getWorkDaysCount(List.of(period1, period2))).thenReturn(Map.of(period1, new BigDecimal("5"), period2, new BigDecimal("9")));
 
         final Clock fixedClock = Clock.fixed(Instant.parse("2022-10-17T00:00:00.00Z"), ZoneId.systemDefault());
         final SickNoteStatistics sut = new SickNoteStatistics(fixedClock, List.of(sickNote1, sickNote2), workDaysCountService);
@@ -79,12 +85,14 @@ class SickNoteStatisticsTest {
         final LocalDate sickNote1from = of(2022, OCTOBER, 7);
         final LocalDate sickNote1To = of(2022, OCTOBER, 11);
         final SickNote sickNote1 = createSickNote(person, sickNote1from, sickNote1To, FULL);
-        when(workDaysCountService.getWorkDaysCount(FULL, sickNote1from, sickNote1To, person)).thenReturn(new BigDecimal("5"));
 
         final Person person2 = new Person("muster", "Muster", "Marlene", "muster@example.org");
         final LocalDate sickNote2From = of(2022, DECEMBER, 18);
         final SickNote sickNote2 = createSickNote(person2, sickNote2From, of(2023, JANUARY, 3), FULL);
-        when(workDaysCountService.getWorkDaysCount(FULL, sickNote2From, of(2022, DECEMBER, 31), person2)).thenReturn(new BigDecimal("9"));
+
+        final WorkDaysCountPeriod period1 = new WorkDaysCountPeriod(person, sickNote1from, sickNote1To, FULL);
+        final WorkDaysCountPeriod period2 = new WorkDaysCountPeriod(person2, sickNote2From, of(2022, DECEMBER, 31), FULL);
+        when(workDaysCountService.getWorkDaysCount(List.of(period1, period2))).thenReturn(Map.of(period1, new BigDecimal("5"), period2, new BigDecimal("9")));
 
         final Clock fixedClock = Clock.fixed(Instant.parse("2022-10-17T00:00:00.00Z"), ZoneId.systemDefault());
         final SickNoteStatistics sut = new SickNoteStatistics(fixedClock, List.of(sickNote1, sickNote2), workDaysCountService);
@@ -113,7 +121,8 @@ class SickNoteStatisticsTest {
         final LocalDate to = of(2016, JANUARY, 11);
         final SickNote sickNote = createSickNote(person, from, to, FULL);
         final BigDecimal sickDays = new BigDecimal("9");
-        when(workDaysCountService.getWorkDaysCount(FULL, of(2015, JANUARY, 1), of(2015, DECEMBER, 31), person)).thenReturn(sickDays);
+        final WorkDaysCountPeriod period = new WorkDaysCountPeriod(person, of(2015, JANUARY, 1), of(2015, DECEMBER, 31), FULL);
+        when(workDaysCountService.getWorkDaysCount(List.of(period))).thenReturn(Map.of(period, sickDays));
 
         final SickNoteStatistics sut = new SickNoteStatistics(fixedClock, List.of(sickNote), workDaysCountService);
         assertThat(sut.getAverageDurationOfDiseasePerPerson()).isEqualByComparingTo(sickDays);
@@ -0,0 +1,238 @@
+package org.synyx.urlaubsverwaltung.workingtime;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonDeletedEvent;
+import org.synyx.urlaubsverwaltung.settings.Settings;
+import org.synyx.urlaubsverwaltung.settings.SettingsUpdatedEvent;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.transaction.support.TransactionSynchronization.STATUS_COMMITTED;
+import static org.synyx.urlaubsverwaltung.workingtime.FederalState.GERMANY_BERLIN;
+
+class WorkingTimeCalendarCacheTest {
+
+    private WorkingTimeCalendarCache sut;
+    private SimpleMeterRegistry meterRegistry;
+
+    private final WorkingTimeSettings workingTimeSettings = new WorkingTimeSettings();
+    private final WorkingTimeCalendar workingTimeCalendar = new WorkingTimeCalendar(Map.of());
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new WorkingTimeCalendarCache(new WorkingTimeProperties(), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void ensureGetReturnsPutWorkingTimeCalendar() {
+        final Person person = person(1L);
+
+        sut.put(person, Year.of(2022), workingTimeSettings, workingTimeCalendar, sut.generation());
+
+        assertThat(sut.get(person, Year.of(2022), workingTimeSettings)).containsSame(workingTimeCalendar);
+        assertThat(sut.get(person, Year.of(2023), workingTimeSettings)).isEmpty();
+    }
+
+    @Test
+    void ensurePersonWithoutIdIsNotCached() {
+        final Person person = new Person();
+
+        sut.put(person, Year.of(2022), workingTimeSettings, workingTimeCalendar, sut.generation());
+
+        assertThat(sut.get(person, Year.of(2022), workingTimeSettings)).isEmpty();
+    }
+
+    @Test
+    void ensureGetIsEmptyForDifferentCalendarSettings() {
+        final Person person = person(1L);
+
+        sut.put(person, Year.of(2022), workingTimeSettings, workingTimeCalendar, sut.generation());
+
+        final WorkingTimeSettings otherWorkingTimeSettings = new WorkingTimeSettings();
+        otherWorkingTimeSettings.setWorkingDurationForChristmasEve(DayLength.ZERO);
+        assertThat(sut.get(person, Year.of(2022), otherWorkingTimeSettings)).isEmpty();
+    }
+
+    @Test
+    void ensureWorkingTimeUpdatedInvalidatesCalendarsOfPerson() {
+        final Person person = person(1L);
+        final Person otherPerson = person(2L);
+
+        sut.put(person, Year.of(2022), workingTimeSettings, workingTimeCalendar, sut.generation());
+        sut.put(person, Year.of(2023), workingTimeSettings, workingTimeCalendar, sut.generation());
+        sut.put(otherPerson, Year.of(2022), workingTimeSettings, workingTimeCalendar, sut.generation());
+
+        sut.onWorkingTimeUpdated(WorkingTimeUpdatedEvent.of(person));
+
+        assertThat(sut.get(person, Year.of(2022), workingTimeSettings)).isEmpty();
+        assertThat(sut.get(person, Year.of(2023), workingTimeSettings)).isEmpty();
+        assertThat(sut.get(otherPerson, Year.of(2022), workingTimeSettings)).isPresent();
+    }
+
+    @Test
+    void ensureCalendarCalculatedBeforeInvalidationIsNotPut() {
+        final Person person = person(1L);
+
+        final long generation = sut.generation();
+        sut.onWorkingTimeUpdated(WorkingTimeUpdatedEvent.of(person));
+        sut.put(person, Year.of(2022), workingTimeSettings, workingTimeCalendar, generation);
+
+        assertThat(sut.get(person, Year.of(2022), workingTimeSettings)).isEmpty();
+    }
+
+    @Test
+    void ensurePersonIsNotCachedWhileInvalidatingTransactionIsRunning() {
+        final Person person = person(1L);
+        final Person otherPerson = person(2L);
+
+        sut.put(person, Year.of(2022), workingTimeSettings, workingTimeCalendar, sut.generation());
+
+        TransactionSynchronizationManager.initSynchronization();
+        sut.onWorkingTimeUpdated(WorkingTimeUpdatedEvent.of(person));
+
+        sut.put(person, Year.of(2022), workingTimeSettings, workingTimeCalendar, sut.generation());
+        sut.put(otherPerson, Year.of(2022), workingTimeSettings, workingTimeCalendar, sut.generation());
+        assertThat(sut.get(person, Year.of(2022), workingTimeSettings)).isEmpty();
+        assertThat(sut.get(otherPerson, Year.of(2022), workingTimeSettings)).isPresent();
+
+        final List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertThat(synchronizations).hasSize(1);
+        synchronizations.get(0).afterCompletion(STATUS_COMMITTED);
+
+        assertThat(sut.get(person, Year.of(2022), workingTimeSettings)).isEmpty();
+        sut.put(person, Year.of(2022), workingTimeSettings, workingTimeCalendar, sut.generation());
+        assertThat(sut.get(person, Year.of(2022), workingTimeSettings)).isPresent();
+    }
+
+    @Test
+    void ensureCalendarCachedDuringTransactionIsEvictedAfterCompletion() {
+        final Person person = person(1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        sut.onWorkingTimeUpdated(WorkingTimeUpdatedEvent.of(person));
+
+        // a concurrent reader that started before the invalidation of the transaction
+        final long generation = sut.generation();
+        final List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.get(0).afterCompletion(STATUS_COMMITTED);
+        sut.put(person, Year.of(2022), workingTimeSettings, workingTimeCalendar, generation);
+
+        assertThat(sut.get(person, Year.of(2022), workingTimeSettings)).isEmpty();
+    }
+
+    @Test
+    void ensurePersonDeletedInvalidatesCalendarsOfPerson() {
+        final Person person = person(1L);
+
+        sut.put(person, Year.of(2022), workingTimeSettings, workingTimeCalendar, sut.generation());
+
+        sut.onPersonDeleted(new PersonDeletedEvent(person));
+
+        assertThat(sut.get(person, Year.of(2022), workingTimeSettings)).isEmpty();
+    }
+
+    @Test
+    void ensureSettingsUpdatedInvalidatesCalendarsWhenCalendarSettingsChanged() {
+        final Person person = person(1L);
+
+        sut.put(person, Year.of(2022), workingTimeSettings, workingTimeCalendar, sut.generation());
+
+        final Settings settings = new Settings();
+        settings.getWorkingTimeSettings().setFederalState(GERMANY_BERLIN);
+        sut.onSettingsUpdated(SettingsUpdatedEvent.of(settings));
+
+        assertThat(sut.get(person, Year.of(2022), workingTimeSettings)).isEmpty();
+    }
+
+    @Test
+    void ensureSettingsUpdatedKeepsCalendarsWhenCalendarSettingsUnchanged() {
+        final Person person = person(1L);
+
+        sut.put(person, Year.of(2022), workingTimeSettings, workingTimeCalendar, sut.generation());
+
+        final Settings settings = new Settings();
+        settings.getWorkingTimeSettings().setMonday(DayLength.ZERO);
+        sut.onSettingsUpdated(SettingsUpdatedEvent.of(settings));
+
+        assertThat(sut.get(person, Year.of(2022), workingTimeSettings)).isPresent();
+    }
+
+    @Test
+    void ensureGetSharedCalculatesCalendarOncePerSegments() {
+        final List<WorkingTimeSegment> segments = List.of(segment(DayLength.FULL));
+
+        final WorkingTimeCalendar first = sut.getShared(Year.of(2022), workingTimeSettings, segments, () -> workingTimeCalendar);
+        final WorkingTimeCalendar second = sut.getShared(Year.of(2022), workingTimeSettings, List.of(segment(DayLength.FULL)), () -> new WorkingTimeCalendar(Map.of()));
+        final WorkingTimeCalendar otherSegments = sut.getShared(Year.of(2022), workingTimeSettings, List.of(segment(DayLength.MORNING)), () -> new WorkingTimeCalendar(Map.of()));
+
+        assertThat(first).isSameAs(workingTimeCalendar);
+        assertThat(second).isSameAs(workingTimeCalendar);
+        assertThat(otherSegments).isNotSameAs(workingTimeCalendar);
+    }
+
+    @Test
+    void ensureSharedCalendarIsKeptWhenWorkingTimeOfPersonIsUpdated() {
+        final List<WorkingTimeSegment> segments = List.of(segment(DayLength.FULL));
+
+        sut.getShared(Year.of(2022), workingTimeSettings, segments, () -> workingTimeCalendar);
+        sut.onWorkingTimeUpdated(WorkingTimeUpdatedEvent.of(person(1L)));
+
+        assertThat(sut.getShared(Year.of(2022), workingTimeSettings, segments, () -> new WorkingTimeCalendar(Map.of()))).isSameAs(workingTimeCalendar);
+    }
+
+    @Test
+    void ensureSettingsUpdatedInvalidatesSharedCalendarsWhenCalendarSettingsChanged() {
+        final List<WorkingTimeSegment> segments = List.of(segment(DayLength.FULL));
+
+        sut.getShared(Year.of(2022), workingTimeSettings, segments, () -> workingTimeCalendar);
+
+        final Settings settings = new Settings();
+        settings.getWorkingTimeSettings().setFederalState(GERMANY_BERLIN);
+        sut.onSettingsUpdated(SettingsUpdatedEvent.of(settings));
+
+        assertThat(sut.getShared(Year.of(2022), workingTimeSettings, segments, () -> new WorkingTimeCalendar(Map.of()))).isNotSameAs(workingTimeCalendar);
+    }
+
+    @Test
+    void ensureHitsAndMissesAreReportedAsMetrics() {
+        final Person person = person(1L);
+
+        sut.get(person, Year.of(2022), workingTimeSettings);
+        sut.put(person, Year.of(2022), workingTimeSettings, workingTimeCalendar, sut.generation());
+        sut.get(person, Year.of(2022), workingTimeSettings);
+        sut.get(person, Year.of(2022), workingTimeSettings);
+
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "workingTimeCalendars").tag("result", "hit").functionCounter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "workingTimeCalendars").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    private static WorkingTimeSegment segment(DayLength dayLength) {
+        return new WorkingTimeSegment(LocalDate.of(2022, 1, 1), LocalDate.of(2022, 12, 31), Collections.nCopies(7, dayLength), GERMANY_BERLIN);
+    }
+
+    private static Person person(long id) {
+        final Person person = new Person();
+        person.setId(id);
+        return person;
+    }
+}
@@ -1,5 +1,6 @@
 package org.synyx.urlaubsverwaltung.workingtime;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,6 +24,7 @@ import java.util.Optional;
 import static java.time.Month.APRIL;
 import static java.time.Month.AUGUST;
 import static java.time.Month.DECEMBER;
+import static java.time.Month.FEBRUARY;
 import static java.time.Month.JANUARY;
 import static java.time.Month.JUNE;
 import static java.time.Month.MARCH;
@@ -50,9 +52,12 @@ class WorkingTimeCalendarServiceImplTest {
     @Mock
     private SettingsService settingsService;
 
+    private WorkingTimeCalendarCache workingTimeCalendarCache;
+
     @BeforeEach
     void setUp() {
-        sut = new WorkingTimeCalendarServiceImpl(workingTimeRepository, publicHolidaysService, settingsService);
+        workingTimeCalendarCache = new WorkingTimeCalendarCache(new WorkingTimeProperties(), new SimpleMeterRegistry());
+        sut = new WorkingTimeCalendarServiceImpl(workingTimeRepository, publicHolidaysService, settingsService, workingTimeCalendarCache);
     }
 
     @Test
@@ -390,4 +395,144 @@ class WorkingTimeCalendarServiceImplTest {
             assertThat(workingTimeCalendar.workingTime(date)).isEmpty();
         }
     }
+
+    @Test
+    void ensureGetWorkingTimesByPersonsUsesCachedWorkingTimeCalendarsOfYears() {
+        final Person person = new Person();
+        person.setId(1L);
+
+        final List<Person> persons = List.of(person);
+
+        final WorkingTimeEntity workingTimeEntity = new WorkingTimeEntity();
+        workingTimeEntity.setValidFrom(LocalDate.of(2021, JANUARY, 1));
+        workingTimeEntity.setPerson(person);
+        workingTimeEntity.setMonday(FULL);
+        workingTimeEntity.setFederalStateOverride(GERMANY_BADEN_WUERTTEMBERG);
+
+        when(settingsService.getSettings()).thenReturn(new Settings());
+        when(workingTimeRepository.findByPersonIsInOrderByValidFromDesc(persons)).thenReturn(List.of(workingTimeEntity));
+
+        final Map<Person, WorkingTimeCalendar> year = sut.getWorkingTimesByPersons(persons, Year.of(2022));
+        final Map<Person, WorkingTimeCalendar> period = sut.getWorkingTimesByPersons(persons, new DateRange(LocalDate.of(2022, MARCH, 1), LocalDate.of(2022, MARCH, 31)));
+
+        verify(workingTimeRepository).findByPersonIsInOrderByValidFromDesc(persons);
+
+        assertThat(year.get(person).workingTime(LocalDate.of(2022, JANUARY, 1), LocalDate.of(2022, DECEMBER, 31))).isEqualTo(BigDecimal.valueOf(52));
+        assertThat(period.get(person).workingTime(LocalDate.of(2022, JANUARY, 1), LocalDate.of(2022, DECEMBER, 31))).isEqualTo(BigDecimal.valueOf(4));
+        assertThat(period.get(person).workingTime(LocalDate.of(2022, FEBRUARY, 28))).isEmpty();
+    }
+
+    @Test
+    void ensureGetWorkingTimesByPersonsJoinsWorkingTimeCalendarsOfYears() {
+        final Person person = new Person();
+        person.setId(1L);
+
+        final List<Person> persons = List.of(person);
+
+        final WorkingTimeEntity workingTimeEntity = new WorkingTimeEntity();
+        workingTimeEntity.setValidFrom(LocalDate.of(2021, JANUARY, 1));
+        workingTimeEntity.setPerson(person);
+        workingTimeEntity.setMonday(FULL);
+        workingTimeEntity.setTuesday(FULL);
+        workingTimeEntity.setWednesday(FULL);
+        workingTimeEntity.setThursday(FULL);
+        workingTimeEntity.setFriday(FULL);
+        workingTimeEntity.setFederalStateOverride(GERMANY_BADEN_WUERTTEMBERG);
+
+        when(settingsService.getSettings()).thenReturn(new Settings());
+        when(workingTimeRepository.findByPersonIsInOrderByValidFromDesc(persons)).thenReturn(List.of(workingTimeEntity));
+
+        final DateRange dateRange = new DateRange(LocalDate.of(2021, DECEMBER, 27), LocalDate.of(2022, JANUARY, 7));
+        final Map<Person, WorkingTimeCalendar> actual = sut.getWorkingTimesByPersons(persons, dateRange);
+
+        final WorkingTimeCalendar workingTimeCalendar = actual.get(person);
+        assertThat(workingTimeCalendar.workingTime(dateRange.startDate(), dateRange.endDate())).isEqualTo(BigDecimal.valueOf(10));
+        assertThat(workingTimeCalendar.workingTime(LocalDate.of(2021, DECEMBER, 26))).isEmpty();
+        assertThat(workingTimeCalendar.workingTime(LocalDate.of(2022, JANUARY, 8))).isEmpty();
+    }
+
+    @Test
+    void ensureGetWorkingTimesByPersonsRecalculatesAfterWorkingTimeUpdate() {
+        final Person person = new Person();
+        person.setId(1L);
+
+        final List<Person> persons = List.of(person);
+
+        when(settingsService.getSettings()).thenReturn(new Settings());
+        when(workingTimeRepository.findByPersonIsInOrderByValidFromDesc(persons)).thenReturn(List.of());
+
+        sut.getWorkingTimesByPersons(persons, Year.of(2022));
+        workingTimeCalendarCache.onWorkingTimeUpdated(WorkingTimeUpdatedEvent.of(person));
+        sut.getWorkingTimesByPersons(persons, Year.of(2022));
+
+        verify(workingTimeRepository, times(2)).findByPersonIsInOrderByValidFromDesc(persons);
+    }
+
+    @Test
+    void ensureGetWorkingTimesByPersonsSharesWorkingTimeCalendarOfPersonsWithSameWorkingTimes() {
+        final Person batman = new Person();
+        batman.setId(1L);
+        final Person robin = new Person();
+        robin.setId(2L);
+        final Person joker = new Person();
+        joker.setId(3L);
+
+        final List<Person> persons = List.of(batman, robin, joker);
+
+        final WorkingTimeEntity batmanWorkingTime = new WorkingTimeEntity();
+        batmanWorkingTime.setValidFrom(LocalDate.of(2021, JANUARY, 1));
+        batmanWorkingTime.setPerson(batman);
+        batmanWorkingTime.setMonday(FULL);
+        batmanWorkingTime.setFederalStateOverride(GERMANY_BADEN_WUERTTEMBERG);
+
+        final WorkingTimeEntity robinWorkingTime = new WorkingTimeEntity();
+        robinWorkingTime.setValidFrom(LocalDate.of(2020, JANUARY, 1));
+        robinWorkingTime.setPerson(robin);
+        robinWorkingTime.setMonday(FULL);
+        robinWorkingTime.setFederalStateOverride(GERMANY_BADEN_WUERTTEMBERG);
+
+        final WorkingTimeEntity jokerWorkingTime = new WorkingTimeEntity();
+        jokerWorkingTime.setValidFrom(LocalDate.of(2021, JANUARY, 1));
+        jokerWorkingTime.setPerson(joker);
+        jokerWorkingTime.setTuesday(FULL);
+        jokerWorkingTime.setFederalStateOverride(GERMANY_BADEN_WUERTTEMBERG);
+
+        when(settingsService.getSettings()).thenReturn(new Settings());
+        when(workingTimeRepository.findByPersonIsInOrderByValidFromDesc(persons)).thenReturn(List.of(batmanWorkingTime, jokerWorkingTime, robinWorkingTime));
+
+        final Map<Person, WorkingTimeCalendar> actual = sut.getWorkingTimesByPersons(persons, Year.of(2022));
+
+        assertThat(actual.get(batman)).isSameAs(actual.get(robin));
+        assertThat(actual.get(joker)).isNotSameAs(actual.get(batman));
+        assertThat(actual.get(joker).workingTime(LocalDate.of(2022, JANUARY, 1), LocalDate.of(2022, DECEMBER, 31))).isEqualTo(BigDecimal.valueOf(52));
+    }
+
+    @Test
+    void ensureGetWorkingTimesByPersonsSharesWorkingTimeCalendarAcrossCalls() {
+        final Person batman = new Person();
+        batman.setId(1L);
+        final Person robin = new Person();
+        robin.setId(2L);
+
+        final WorkingTimeEntity batmanWorkingTime = new WorkingTimeEntity();
+        batmanWorkingTime.setValidFrom(LocalDate.of(2021, JANUARY, 1));
+        batmanWorkingTime.setPerson(batman);
+        batmanWorkingTime.setMonday(FULL);
+        batmanWorkingTime.setFederalStateOverride(GERMANY_BADEN_WUERTTEMBERG);
+
+        final WorkingTimeEntity robinWorkingTime = new WorkingTimeEntity();
+        robinWorkingTime.setValidFrom(LocalDate.of(2020, JANUARY, 1));
+        robinWorkingTime.setPerson(robin);
+        robinWorkingTime.setMonday(FULL);
+        robinWorkingTime.setFederalStateOverride(GERMANY_BADEN_WUERTTEMBERG);
+
+        when(settingsService.getSettings()).thenReturn(new Settings());
+        when(workingTimeRepository.findByPersonIsInOrderByValidFromDesc(List.of(batman))).thenReturn(List.of(batmanWorkingTime));
+        when(workingTimeRepository.findByPersonIsInOrderByValidFromDesc(List.of(robin))).thenReturn(List.of(robinWorkingTime));
+
+        final Map<Person, WorkingTimeCalendar> batmans = sut.getWorkingTimesByPersons(List.of(batman), Year.of(2022));
+        final Map<Person, WorkingTimeCalendar> robins = sut.getWorkingTimesByPersons(List.of(robin), Year.of(2022));
+
+        assertThat(robins.get(robin)).isSameAs(batmans.get(batman));
+    }
 }
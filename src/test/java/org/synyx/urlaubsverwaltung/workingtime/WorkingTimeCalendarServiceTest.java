@@ -31,6 +31,7 @@ import static java.time.Month.DECEMBER;
 import static java.time.Month.JANUARY;
 import static java.time.Month.NOVEMBER;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
@@ -65,7 +66,7 @@ class WorkingTimeCalendarServiceTest {
         final LocalDate endDate = LocalDate.of(2010, 12, 31);
 
         final WorkingTime workingTime = createWorkingTime(person, startDate, MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(startDate, endDate), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(startDate, endDate), workingTime)));
 
         // Testing for 2010: 17.12. is Friday, 31.12. is Friday
         // between these dates:
@@ -87,7 +88,7 @@ class WorkingTimeCalendarServiceTest {
         final LocalDate endDate = LocalDate.of(2009, 12, 31);
 
         final WorkingTime workingTime = createWorkingTime(person, startDate, MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(startDate, endDate), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(startDate, endDate), workingTime)));
 
         // Testing for 2009: 17.12. is Thursday, 31.12. ist Thursday
         // between these dates:
@@ -111,11 +112,11 @@ class WorkingTimeCalendarServiceTest {
 
         final WorkingTime workingTimeFullWeek = createWorkingTime(person, startDate, MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
         final WorkingTime workingTimeHalfWeek = createWorkingTime(person, midDate, MONDAY, TUESDAY, WEDNESDAY);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class)))
-            .thenReturn(Map.of(
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class)))
+            .thenReturn(Map.of(person, Map.of(
                 new DateRange(startDate, midDate.minusDays(1)), workingTimeFullWeek,
                 new DateRange(midDate, endDate), workingTimeHalfWeek
-            ));
+            )));
 
         final BigDecimal workDaysCount = sut.getWorkDaysCount(FULL, startDate, endDate, person);
         assertThat(workDaysCount).isEqualByComparingTo(BigDecimal.valueOf(8));
@@ -131,7 +132,7 @@ class WorkingTimeCalendarServiceTest {
         final LocalDate endDate = LocalDate.of(2011, 1, 4);
 
         final WorkingTime workingTime = createWorkingTime(person, startDate, MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(startDate, endDate), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(startDate, endDate), workingTime)));
 
         final BigDecimal workDaysCount = sut.getWorkDaysCount(MORNING, startDate, endDate, person);
         assertThat(workDaysCount).isEqualByComparingTo(BigDecimal.valueOf(0.5));
@@ -147,7 +148,7 @@ class WorkingTimeCalendarServiceTest {
         final LocalDate endDate = LocalDate.of(2011, 1, 8);
 
         final WorkingTime workingTime = createWorkingTime(person, startDate, MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(startDate, endDate), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(startDate, endDate), workingTime)));
 
         final BigDecimal workDaysCount = sut.getWorkDaysCount(MORNING, startDate, endDate, person);
         assertThat(workDaysCount).isEqualByComparingTo(BigDecimal.valueOf(1.5));
@@ -163,7 +164,7 @@ class WorkingTimeCalendarServiceTest {
         final LocalDate endDate = LocalDate.of(2011, 1, 4);
 
         final WorkingTime workingTime = createWorkingTime(person, startDate, MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(startDate, endDate), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(startDate, endDate), workingTime)));
 
         final BigDecimal workDaysCount = sut.getWorkDaysCount(NOON, startDate, endDate, person);
         assertThat(workDaysCount).isEqualByComparingTo(BigDecimal.valueOf(0.5));
@@ -179,7 +180,7 @@ class WorkingTimeCalendarServiceTest {
         final LocalDate endDate = LocalDate.of(2011, 1, 8);
 
         final WorkingTime workingTime = createWorkingTime(person, startDate, MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(startDate, endDate), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(startDate, endDate), workingTime)));
 
 
         final BigDecimal workDaysCount = sut.getWorkDaysCount(NOON, startDate, endDate, person);
@@ -197,7 +198,7 @@ class WorkingTimeCalendarServiceTest {
         final LocalDate endDate = LocalDate.of(2011, 1, 8);
 
         final WorkingTime workingTime = createWorkingTime(person, startDate, MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(startDate, endDate), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(startDate, endDate), workingTime)));
 
         final BigDecimal workDaysCount = sut.getWorkDaysCount(FULL, startDate, endDate, person);
         assertThat(workDaysCount).isEqualByComparingTo(BigDecimal.valueOf(4));
@@ -214,7 +215,7 @@ class WorkingTimeCalendarServiceTest {
         final LocalDate endDate = LocalDate.of(2009, 5, 2);
 
         final WorkingTime workingTime = createWorkingTime(person, startDate, MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(startDate, endDate), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(startDate, endDate), workingTime)));
 
         final BigDecimal workDaysCount = sut.getWorkDaysCount(FULL, startDate, endDate, person);
         assertThat(workDaysCount).isEqualByComparingTo(BigDecimal.valueOf(4));
@@ -231,7 +232,7 @@ class WorkingTimeCalendarServiceTest {
         final LocalDate endDate = LocalDate.of(2012, 1, 15);
 
         final WorkingTime workingTime = createWorkingTime(person, startDate, MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(startDate, endDate), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(startDate, endDate), workingTime)));
 
         final BigDecimal workDaysCount = sut.getWorkDaysCount(FULL, startDate, endDate, person);
         assertThat(workDaysCount).isEqualByComparingTo(BigDecimal.valueOf(13));
@@ -248,7 +249,7 @@ class WorkingTimeCalendarServiceTest {
         final LocalDate endDate = LocalDate.of(2013, DECEMBER, 31);
 
         final WorkingTime workingTime = createWorkingTime(person, startDate, MONDAY, WEDNESDAY, FRIDAY, SATURDAY);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(startDate, endDate), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(startDate, endDate), workingTime)));
 
         final BigDecimal workDaysCount = sut.getWorkDaysCount(FULL, startDate, endDate, person);
         assertThat(workDaysCount).isEqualByComparingTo(BigDecimal.valueOf(8));
@@ -264,7 +265,7 @@ class WorkingTimeCalendarServiceTest {
         final LocalDate endDate = LocalDate.of(2013, DECEMBER, 31);
 
         final WorkingTime workingTime = createWorkingTime(person, startDate, MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(startDate, endDate), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(startDate, endDate), workingTime)));
 
         final BigDecimal workDaysCount = sut.getWorkDaysCount(FULL, startDate, endDate, person);
         assertThat(workDaysCount).isEqualByComparingTo(BigDecimal.valueOf(9));
@@ -282,7 +283,7 @@ class WorkingTimeCalendarServiceTest {
         final LocalDate endDate = LocalDate.of(2013, NOVEMBER, 25);
 
         final WorkingTime workingTime = createWorkingTime(person, startDate, MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(startDate, endDate), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(startDate, endDate), workingTime)));
 
         final BigDecimal workDaysCount = sut.getWorkDaysCount(MORNING, startDate, endDate, person);
         assertThat(workDaysCount).isEqualByComparingTo(BigDecimal.valueOf(0.5));
@@ -300,7 +301,7 @@ class WorkingTimeCalendarServiceTest {
         final LocalDate endDate = LocalDate.of(2013, NOVEMBER, 23);
 
         final WorkingTime workingTime = createWorkingTime(person, startDate, MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(startDate, endDate), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(startDate, endDate), workingTime)));
 
         final BigDecimal workDaysCount = sut.getWorkDaysCount(FULL, startDate, endDate, person);
         assertThat(workDaysCount).isEqualByComparingTo(BigDecimal.ZERO);
@@ -317,7 +318,7 @@ class WorkingTimeCalendarServiceTest {
         final LocalDate date = LocalDate.of(2013, NOVEMBER, 23);
 
         final WorkingTime workingTime = createWorkingTime(person, date, MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(date, date), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(date, date), workingTime)));
 
         final BigDecimal workDaysCount = sut.getWorkDaysCount(MORNING, date, date, person);
         assertThat(workDaysCount).isEqualByComparingTo(BigDecimal.ZERO);
@@ -332,7 +333,7 @@ class WorkingTimeCalendarServiceTest {
         final LocalDate date = LocalDate.of(2013, DECEMBER, 24);
 
         final WorkingTime workingTime = createWorkingTime(person, date, MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(date, date), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(date, date), workingTime)));
 
         final BigDecimal workDaysCount = sut.getWorkDaysCount(FULL, date, date, person);
         assertThat(workDaysCount).isEqualByComparingTo(BigDecimal.valueOf(0.5));
@@ -347,7 +348,7 @@ class WorkingTimeCalendarServiceTest {
         final LocalDate date = LocalDate.of(2013, DECEMBER, 24);
 
         final WorkingTime workingTime = createWorkingTime(person, date, MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(date, date), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(date, date), workingTime)));
 
         final BigDecimal workDaysCount = sut.getWorkDaysCount(MORNING, date, date, person);
         assertThat(workDaysCount).isEqualByComparingTo(BigDecimal.valueOf(0.5));
@@ -362,7 +363,7 @@ class WorkingTimeCalendarServiceTest {
         final LocalDate date = LocalDate.of(2013, DECEMBER, 31);
 
         final WorkingTime workingTime = createWorkingTime(person, date, MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(date, date), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(date, date), workingTime)));
 
         final BigDecimal workDaysCount = sut.getWorkDaysCount(FULL, date, date, person);
         assertThat(workDaysCount).isEqualByComparingTo(BigDecimal.valueOf(0.5));
@@ -377,7 +378,7 @@ class WorkingTimeCalendarServiceTest {
         final LocalDate date = LocalDate.of(2013, DECEMBER, 31);
 
         final WorkingTime workingTime = createWorkingTime(person, date, MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(date, date), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(date, date), workingTime)));
 
         final BigDecimal workDaysCount = sut.getWorkDaysCount(MORNING, date, date, person);
         assertThat(workDaysCount).isEqualByComparingTo(BigDecimal.valueOf(0.5));
@@ -393,7 +394,7 @@ class WorkingTimeCalendarServiceTest {
         final LocalDate endDate = LocalDate.of(2014, JANUARY, 2);
 
         final WorkingTime workingTime = createWorkingTime(person, startDate, MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(startDate, endDate), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(startDate, endDate), workingTime)));
 
         final BigDecimal workDaysCount = sut.getWorkDaysCount(FULL, startDate, endDate, person);
         assertThat(workDaysCount).isEqualByComparingTo(BigDecimal.valueOf(5));
@@ -409,12 +410,61 @@ class WorkingTimeCalendarServiceTest {
         final LocalDate endDate = LocalDate.of(2014, JANUARY, 2);
 
         final WorkingTime workingTime = createWorkingTime(person, startDate, MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(startDate, endDate), workingTime));
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class))).thenReturn(Map.of(person, Map.of(new DateRange(startDate, endDate), workingTime)));
 
         final BigDecimal workDaysCount = sut.getWorkDaysCount(MORNING, startDate, endDate, person);
         assertThat(workDaysCount).isEqualByComparingTo(BigDecimal.valueOf(2.5));
     }
 
+    @Test
+    void getWorkDaysCountOfManyPeriodsAtOnce() {
+
+        when(settingsService.getSettings()).thenReturn(new Settings());
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        person.setId(1L);
+        final Person other = new Person("other", "Other", "Olga", "other@example.org");
+        other.setId(2L);
+
+        final LocalDate startDate = LocalDate.of(2010, DECEMBER, 17);
+        final LocalDate endDate = LocalDate.of(2010, DECEMBER, 31);
+
+        final WorkingTime workingTime = createWorkingTime(person, startDate, MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
+        final WorkingTime otherWorkingTime = createWorkingTime(other, startDate, MONDAY, TUESDAY, WEDNESDAY);
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(List.of(person, other), new DateRange(startDate, endDate)))
+            .thenReturn(Map.of(
+                person, Map.of(new DateRange(startDate, endDate), workingTime),
+                other, Map.of(new DateRange(startDate, endDate), otherWorkingTime)
+            ));
+
+        final WorkDaysCountPeriod period = new WorkDaysCountPeriod(person, startDate, endDate, FULL);
+        final WorkDaysCountPeriod otherPeriod = new WorkDaysCountPeriod(other, LocalDate.of(2010, DECEMBER, 20), LocalDate.of(2010, DECEMBER, 24), FULL);
+        final WorkDaysCountPeriod christmasEve = new WorkDaysCountPeriod(person, LocalDate.of(2010, DECEMBER, 24), LocalDate.of(2010, DECEMBER, 24), MORNING);
+
+        final Map<WorkDaysCountPeriod, BigDecimal> workDaysCount = sut.getWorkDaysCount(List.of(period, otherPeriod, christmasEve, period));
+        assertThat(workDaysCount).hasSize(3);
+        assertThat(workDaysCount.get(period)).isEqualByComparingTo(TEN);
+        assertThat(workDaysCount.get(otherPeriod)).isEqualByComparingTo(BigDecimal.valueOf(3));
+        assertThat(workDaysCount.get(christmasEve)).isEqualByComparingTo(BigDecimal.valueOf(0.5));
+    }
+
+    @Test
+    void getWorkDaysCountThrowsIfWorkingTimeIsMissingForPartOfThePeriod() {
+
+        when(settingsService.getSettings()).thenReturn(new Settings());
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        final LocalDate startDate = LocalDate.of(2022, JANUARY, 10);
+        final LocalDate endDate = LocalDate.of(2022, JANUARY, 23);
+
+        final WorkingTime workingTime = createWorkingTime(person, LocalDate.of(2022, JANUARY, 17), MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(eq(List.of(person)), any(DateRange.class)))
+            .thenReturn(Map.of(person, Map.of(new DateRange(LocalDate.of(2022, JANUARY, 17), endDate), workingTime)));
+
+        assertThatThrownBy(() -> sut.getWorkDaysCount(FULL, startDate, endDate, person))
+            .isInstanceOf(WorkDaysCountException.class);
+    }
+
 
     private HolidayManager getHolidayManager() {
         final ClassLoader cl = Thread.currentThread().getContextClassLoader();
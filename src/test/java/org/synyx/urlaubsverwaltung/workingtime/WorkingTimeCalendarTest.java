@@ -11,7 +11,9 @@ import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInf
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
@@ -196,6 +198,119 @@ class WorkingTimeCalendarTest {
         assertThat(sut.workingTime(to, from)).isEqualTo(BigDecimal.ZERO);
     }
 
+    @Test
+    void ensureWorkingTimeForDateRangeExceedingTheCalendar() {
+        final LocalDate from = LocalDate.of(2022, 8, 1);
+        final LocalDate to = LocalDate.of(2022, 8, 31);
+
+        final Map<LocalDate, WorkingDayInformation> workingTimeByDate = buildWorkingTimeByDate(from, to, date -> fullWorkingDayInformation());
+        final WorkingTimeCalendar sut = new WorkingTimeCalendar(workingTimeByDate);
+
+        assertThat(sut.workingTime(from.minusDays(10), to.plusDays(10))).isEqualTo(BigDecimal.valueOf(31));
+        assertThat(sut.workingTime(to.plusDays(1), to.plusDays(10))).isEqualTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    void ensureWorkingTimeForDateRangeWithUnknownDays() {
+        final LocalDate from = LocalDate.of(2022, 8, 1);
+
+        final Map<LocalDate, WorkingDayInformation> workingTimeByDate = new HashMap<>();
+        workingTimeByDate.put(from, fullWorkingDayInformation());
+        workingTimeByDate.put(from.plusDays(2), new WorkingDayInformation(MORNING, WORKDAY, NO_WORKDAY));
+        final WorkingTimeCalendar sut = new WorkingTimeCalendar(workingTimeByDate);
+
+        assertThat(sut.workingTime(from.plusDays(1))).isEmpty();
+        assertThat(sut.workingTimeDayLength(from.plusDays(2))).hasValue(MORNING);
+        assertThat(sut.workingTime(from, from.plusDays(2))).isEqualTo(BigDecimal.valueOf(1.5));
+    }
+
+    @Test
+    void ensureWorkingTimeDayLengthOrZeroForUnknownDays() {
+        final LocalDate from = LocalDate.of(2022, 8, 1);
+
+        final Map<LocalDate, WorkingDayInformation> workingTimeByDate = new HashMap<>();
+        workingTimeByDate.put(from, fullWorkingDayInformation());
+        workingTimeByDate.put(from.plusDays(2), new WorkingDayInformation(MORNING, WORKDAY, NO_WORKDAY));
+        final WorkingTimeCalendar sut = new WorkingTimeCalendar(workingTimeByDate);
+
+        assertThat(sut.workingTimeDayLengthOrZero(from.minusDays(1))).isEqualTo(DayLength.ZERO);
+        assertThat(sut.workingTimeDayLengthOrZero(from)).isEqualTo(FULL);
+        assertThat(sut.workingTimeDayLengthOrZero(from.plusDays(1))).isEqualTo(DayLength.ZERO);
+        assertThat(sut.workingTimeDayLengthOrZero(from.plusDays(2))).isEqualTo(MORNING);
+        assertThat(sut.workingTimeDayLengthOrZero(from.plusDays(3))).isEqualTo(DayLength.ZERO);
+    }
+
+    @Test
+    void ensureWorkingTimeForHalfDayApplicationWhenWorkingHalfDays() {
+        final LocalDate from = LocalDate.of(2022, 8, 1);
+        final LocalDate to = LocalDate.of(2022, 8, 31);
+
+        final Map<LocalDate, WorkingDayInformation> workingTimeByDate = buildWorkingTimeByDate(from, to, date -> new WorkingDayInformation(NOON, NO_WORKDAY, WORKDAY));
+        final WorkingTimeCalendar sut = new WorkingTimeCalendar(workingTimeByDate);
+
+        final Application application = new Application();
+        application.setStartDate(from);
+        application.setEndDate(from.plusDays(1));
+        application.setDayLength(DayLength.NOON);
+
+        assertThat(sut.workingTime(application)).isEqualTo(BigDecimal.valueOf(0.6));
+    }
+
+    @Test
+    void ensureForEachWorkingDayVisitsKnownDaysInOrder() {
+        final LocalDate from = LocalDate.of(2022, 8, 1);
+
+        final Map<LocalDate, WorkingDayInformation> workingTimeByDate = new HashMap<>();
+        workingTimeByDate.put(from.plusDays(2), fullWorkingDayInformation());
+        workingTimeByDate.put(from, fullWorkingDayInformation());
+        final WorkingTimeCalendar sut = new WorkingTimeCalendar(workingTimeByDate);
+
+        final List<LocalDate> visitedDates = new ArrayList<>();
+        sut.forEachWorkingDay((date, workingDayInformation) -> visitedDates.add(date));
+
+        assertThat(visitedDates).containsExactly(from, from.plusDays(2));
+    }
+
+    @Test
+    void ensureWorkingTimeOfEmptyCalendar() {
+        final WorkingTimeCalendar sut = new WorkingTimeCalendar(Map.of());
+
+        assertThat(sut.workingTime(LocalDate.of(2022, 8, 1))).isEmpty();
+        assertThat(sut.workingTime(LocalDate.of(2022, 8, 1), LocalDate.of(2022, 8, 31))).isEqualTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    void ensureJoinRestrictsCalendarsToDateRange() {
+        final LocalDate from = LocalDate.of(2021, 12, 1);
+        final LocalDate to = LocalDate.of(2022, 1, 31);
+
+        final WorkingTimeCalendar december = new WorkingTimeCalendar(buildWorkingTimeByDate(from, LocalDate.of(2021, 12, 31), date -> fullWorkingDayInformation()));
+        final WorkingTimeCalendar january = new WorkingTimeCalendar(buildWorkingTimeByDate(LocalDate.of(2022, 1, 1), to, date -> new WorkingDayInformation(MORNING, WORKDAY, NO_WORKDAY)));
+
+        final WorkingTimeCalendar sut = WorkingTimeCalendar.join(LocalDate.of(2021, 12, 30), LocalDate.of(2022, 1, 2), List.of(december, january));
+
+        assertThat(sut.workingTime(from, to)).isEqualTo(BigDecimal.valueOf(3.0));
+        assertThat(sut.workingTimeDayLength(LocalDate.of(2021, 12, 30))).hasValue(FULL);
+        assertThat(sut.workingTimeDayLength(LocalDate.of(2022, 1, 2))).hasValue(MORNING);
+        assertThat(sut.workingTime(LocalDate.of(2021, 12, 29))).isEmpty();
+        assertThat(sut.workingTime(LocalDate.of(2022, 1, 3))).isEmpty();
+    }
+
+    @Test
+    void ensureJoinedCalendarEqualsCalendarOfSameDays() {
+        final WorkingTimeCalendar december = new WorkingTimeCalendar(buildWorkingTimeByDate(LocalDate.of(2021, 12, 1), LocalDate.of(2021, 12, 31), date -> fullWorkingDayInformation()));
+        final WorkingTimeCalendar january = new WorkingTimeCalendar(buildWorkingTimeByDate(LocalDate.of(2022, 1, 1), LocalDate.of(2022, 1, 31), date -> fullWorkingDayInformation()));
+
+        final WorkingTimeCalendar sut = WorkingTimeCalendar.join(LocalDate.of(2021, 12, 30), LocalDate.of(2022, 1, 2), List.of(january, december));
+
+        final WorkingTimeCalendar expected = new WorkingTimeCalendar(buildWorkingTimeByDate(LocalDate.of(2021, 12, 30), LocalDate.of(2022, 1, 2), date -> fullWorkingDayInformation()));
+        assertThat(sut).isEqualTo(expected).hasSameHashCodeAs(expected);
+
+        final List<LocalDate> visitedDates = new ArrayList<>();
+        sut.forEachWorkingDay((date, workingDayInformation) -> visitedDates.add(date));
+        assertThat(visitedDates).containsExactly(LocalDate.of(2021, 12, 30), LocalDate.of(2021, 12, 31), LocalDate.of(2022, 1, 1), LocalDate.of(2022, 1, 2));
+    }
+
     static Stream<Arguments> morningAndNoonWorkingTimeInformation() {
         return Stream.of(
             Arguments.of(new WorkingDayInformation(MORNING, WORKDAY, NO_WORKDAY)),
@@ -9,6 +9,7 @@ import org.junit.jupiter.params.provider.NullSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.settings.Settings;
@@ -48,12 +49,14 @@ class WorkingTimeServiceImplTest {
     private WorkingTimeRepository workingTimeRepository;
     @Mock
     private SettingsService settingsService;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
 
     private final Clock fixedClock = Clock.fixed(Instant.parse("2019-08-13T00:00:00.00Z"), UTC);
 
     @BeforeEach
     void setUp() {
-        sut = new WorkingTimeServiceImpl(workingTimeRepository, settingsService, fixedClock);
+        sut = new WorkingTimeServiceImpl(workingTimeRepository, settingsService, fixedClock, applicationEventPublisher);
     }
 
     @Test
@@ -158,6 +161,17 @@ class WorkingTimeServiceImplTest {
         assertThat(persistedWorkingTimeEntity.getFederalStateOverride()).isNull();
     }
 
+    @Test
+    void ensureTouchPublishesWorkingTimeUpdatedEvent() {
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        sut.touch(List.of(1, 2), LocalDate.now(UTC), person);
+
+        final ArgumentCaptor<WorkingTimeUpdatedEvent> eventArgumentCaptor = ArgumentCaptor.forClass(WorkingTimeUpdatedEvent.class);
+        verify(applicationEventPublisher).publishEvent(eventArgumentCaptor.capture());
+        assertThat(eventArgumentCaptor.getValue().person()).isEqualTo(person);
+    }
+
     @ParameterizedTest
     @EnumSource(value = FederalState.class, names = {"GERMANY_BAYERN"})
     @NullSource
@@ -438,6 +452,52 @@ class WorkingTimeServiceImplTest {
                 LocalDate.of(2021, 11, 30)))).isEmpty();
     }
 
+    @Test
+    void getWorkingTimesByPersonsAndDateRange() {
+
+        final Person batman = new Person();
+        batman.setId(1L);
+        final Person robin = new Person();
+        robin.setId(2L);
+        final Person joker = new Person();
+        joker.setId(3L);
+
+        final WorkingTimeEntity batmanWorkingTime = new WorkingTimeEntity();
+        batmanWorkingTime.setId(1L);
+        batmanWorkingTime.setPerson(batman);
+        batmanWorkingTime.setValidFrom(LocalDate.of(2020, 9, 1));
+        batmanWorkingTime.setFederalStateOverride(GERMANY_BADEN_WUERTTEMBERG);
+
+        final WorkingTimeEntity batmanWorkingTimeChanged = new WorkingTimeEntity();
+        batmanWorkingTimeChanged.setId(2L);
+        batmanWorkingTimeChanged.setPerson(batman);
+        batmanWorkingTimeChanged.setValidFrom(LocalDate.of(2021, 11, 15));
+        batmanWorkingTimeChanged.setFederalStateOverride(GERMANY_RHEINLAND_PFALZ);
+
+        final WorkingTimeEntity robinWorkingTime = new WorkingTimeEntity();
+        robinWorkingTime.setId(3L);
+        robinWorkingTime.setPerson(robin);
+        robinWorkingTime.setValidFrom(LocalDate.of(2021, 1, 1));
+        robinWorkingTime.setFederalStateOverride(GERMANY_BERLIN);
+
+        final List<Person> persons = List.of(batman, robin, joker);
+        when(workingTimeRepository.findByPersonIsInOrderByValidFromDesc(persons)).thenReturn(List.of(batmanWorkingTimeChanged, robinWorkingTime, batmanWorkingTime));
+
+        final DateRange dateRange = new DateRange(LocalDate.of(2021, 11, 1), LocalDate.of(2021, 11, 30));
+        final Map<Person, Map<DateRange, WorkingTime>> workingTimesByPersons = sut.getWorkingTimesByPersonsAndDateRange(persons, dateRange);
+        assertThat(workingTimesByPersons).hasSize(3);
+        assertThat(workingTimesByPersons.get(batman)).containsOnly(
+            entry(new DateRange(LocalDate.of(2021, 11, 1), LocalDate.of(2021, 11, 14)), new WorkingTime(batman, LocalDate.of(2020, 9, 1), GERMANY_BADEN_WUERTTEMBERG, false)),
+            entry(new DateRange(LocalDate.of(2021, 11, 15), LocalDate.of(2021, 11, 30)), new WorkingTime(batman, LocalDate.of(2021, 11, 15), GERMANY_RHEINLAND_PFALZ, false))
+        );
+        assertThat(workingTimesByPersons.get(robin)).containsOnly(
+            entry(dateRange, new WorkingTime(robin, LocalDate.of(2021, 1, 1), GERMANY_BERLIN, false))
+        );
+        assertThat(workingTimesByPersons.get(joker)).isEmpty();
+
+        verify(workingTimeRepository).findByPersonIsInOrderByValidFromDesc(persons);
+    }
+
     @Test
     void getWorkingTimesByPersonAndDateRangeAndDateRangeIsInBetweenWorkingTimes() {
 
@@ -562,5 +622,9 @@ class WorkingTimeServiceImplTest {
         sut.deleteAllByPerson(person);
 
         verify(workingTimeRepository).deleteByPerson(person);
+
+        final ArgumentCaptor<WorkingTimeUpdatedEvent> eventArgumentCaptor = ArgumentCaptor.forClass(WorkingTimeUpdatedEvent.class);
+        verify(applicationEventPublisher).publishEvent(eventArgumentCaptor.capture());
+        assertThat(eventArgumentCaptor.getValue().person()).isEqualTo(person);
     }
 }